@@ -27,6 +27,8 @@ import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Map;
+
 /**
  * Genie Agent application.
  *
@@ -48,6 +50,24 @@ import org.springframework.context.annotation.Configuration;
     }
 )
 public class GenieAgentApplication {
+
+    /**
+     * System property (or {@code GENIE_AGENT_FAST_START} environment variable) that enables the fast-start mode.
+     * In this mode all beans are initialized lazily and auto configurations that only bind metrics for the agent JVM
+     * itself are skipped, as an agent is launched per job and its startup time is on the critical path of every job.
+     */
+    static final String FAST_START_PROPERTY = "genie.agent.fast-start";
+    static final String FAST_START_ENV_VARIABLE = "GENIE_AGENT_FAST_START";
+
+    private static final String AUTO_CONFIGURATION_EXCLUDE_PROPERTY = "spring.autoconfigure.exclude";
+    private static final String[] FAST_START_EXCLUDED_AUTO_CONFIGURATIONS = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.JvmMetricsAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.Log4J2MetricsAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.SystemMetricsAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.startup.StartupTimeMetricsListenerAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.metrics.task.TaskExecutorMetricsAutoConfiguration"
+    };
+
     /**
      * Main method, actual execution is delegated to GenieAgentRunner.
      *
@@ -63,6 +83,13 @@ public class GenieAgentApplication {
         // Disable parsing of command-line arguments into properties.
         app.setAddCommandLineProperties(false);
 
+        if (isFastStartEnabled()) {
+            app.setLazyInitialization(true);
+            app.setDefaultProperties(
+                Map.of(AUTO_CONFIGURATION_EXCLUDE_PROPERTY, String.join(",", FAST_START_EXCLUDED_AUTO_CONFIGURATIONS))
+            );
+        }
+
         //TODO: workaround for https://jira.spring.io/browse/SPR-17416
         // Spring chokes on argument '--' (a.k.a. bare double dash) conventionally used to separate options from
         // operands. Perform a token replacement to avoid triggering an error in Spring argument parsing.
@@ -70,4 +97,14 @@ public class GenieAgentApplication {
         final String[] editedArgs = Util.mangleBareDoubleDash(args);
         return SpringApplication.exit(app.run(editedArgs));
     }
+
+    /**
+     * Whether the fast-start mode was requested via system property or environment variable.
+     *
+     * @return true if the agent should start in fast-start mode
+     */
+    static boolean isFastStartEnabled() {
+        final String value = System.getProperty(FAST_START_PROPERTY, System.getenv(FAST_START_ENV_VARIABLE));
+        return Boolean.parseBoolean(value);
+    }
 }
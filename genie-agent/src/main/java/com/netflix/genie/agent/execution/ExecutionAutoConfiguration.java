@@ -36,6 +36,8 @@ import com.netflix.genie.agent.execution.statemachine.States;
 import com.netflix.genie.agent.execution.statemachine.listeners.ConsoleLogListener;
 import com.netflix.genie.agent.execution.statemachine.listeners.JobExecutionListener;
 import com.netflix.genie.agent.execution.statemachine.listeners.LoggingListener;
+import com.netflix.genie.agent.execution.statemachine.listeners.StageTimingListener;
+import com.netflix.genie.agent.execution.statemachine.listeners.StartupTimingListener;
 import com.netflix.genie.agent.execution.statemachine.listeners.TracingListener;
 import com.netflix.genie.agent.execution.statemachine.stages.ArchiveJobOutputsStage;
 import com.netflix.genie.agent.execution.statemachine.stages.ClaimJobStage;
@@ -117,6 +119,31 @@ public class ExecutionAutoConfiguration {
         return new ConsoleLogListener();
     }
 
+    /**
+     * Provide a lazy {@link StartupTimingListener} bean.
+     *
+     * @return A {@link StartupTimingListener} instance
+     */
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean(StartupTimingListener.class)
+    public StartupTimingListener startupTimingListener() {
+        return new StartupTimingListener();
+    }
+
+    /**
+     * Provide a lazy {@link StageTimingListener} bean.
+     *
+     * @param executionContext The execution context to record stage timings into
+     * @return A {@link StageTimingListener} instance
+     */
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean(StageTimingListener.class)
+    public StageTimingListener stageTimingListener(final ExecutionContext executionContext) {
+        return new StageTimingListener(executionContext);
+    }
+
     /**
      * Provide an instance of {@link TracingListener} which will add metadata to spans based on events through the
      * execution state machine.
@@ -0,0 +1,50 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.agent.execution.process;
+
+import java.util.Optional;
+
+/**
+ * Periodically samples the resources (memory, CPU, IO, threads) used by the job process and all its descendants.
+ * Samples are accumulated until they are drained so that they can be shipped to the server at whatever rate the
+ * consumer chooses.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public interface ProcessTreeUsageMonitor {
+
+    /**
+     * Start sampling the process tree rooted at the given process. Does nothing if already started.
+     *
+     * @param process The job process
+     */
+    void start(ProcessHandle process);
+
+    /**
+     * Stop sampling. Samples taken but not yet drained are retained.
+     */
+    void stop();
+
+    /**
+     * Summarize and discard the samples taken since the last time this method was called.
+     *
+     * @return The summary or {@link Optional#empty()} if no sample was taken since the last call
+     */
+    Optional<ProcessTreeUsageSummary> drainSummary();
+}
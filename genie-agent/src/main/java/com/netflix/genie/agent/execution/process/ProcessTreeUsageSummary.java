@@ -0,0 +1,45 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.agent.execution.process;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A DTO summarizing one or more samples of the resources used by the job process and all its descendants.
+ * Peak and average values cover only the samples summarized while cumulative values are as of the latest sample.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode(doNotUseGetters = true)
+@ToString(doNotUseGetters = true)
+public class ProcessTreeUsageSummary {
+    private final int sampleCount;
+    private final long peakRssBytes;
+    private final long averageRssBytes;
+    private final long cpuTimeMillis;
+    private final long ioReadBytes;
+    private final long ioWriteBytes;
+    private final int peakThreadCount;
+    private final int processCount;
+}
@@ -23,6 +23,7 @@ import com.netflix.genie.agent.cli.logging.ConsoleLog;
 import com.netflix.genie.agent.execution.exceptions.JobLaunchException;
 import com.netflix.genie.agent.execution.process.JobProcessManager;
 import com.netflix.genie.agent.execution.process.JobProcessResult;
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageMonitor;
 import com.netflix.genie.agent.execution.services.KillService;
 import com.netflix.genie.agent.utils.PathUtils;
 import com.netflix.genie.common.dto.JobStatusMessages;
@@ -66,18 +67,27 @@ public class JobProcessManagerImpl implements JobProcessManager {
     private final TaskScheduler taskScheduler;
     private final Tracer tracer;
     private final BraveTracePropagator tracePropagator;
+    private final ProcessTreeUsageMonitor processTreeUsageMonitor;
     private boolean isInteractiveMode;
 
     /**
      * Constructor.
      *
-     * @param taskScheduler     The {@link TaskScheduler} instance to use to run scheduled asynchronous tasks
-     * @param tracingComponents The {@link BraveTracingComponents} instance to use for propagating trace information
+     * @param taskScheduler           The {@link TaskScheduler} instance to use to run scheduled asynchronous tasks
+     * @param tracingComponents       The {@link BraveTracingComponents} instance to use for propagating trace
+     *                                information
+     * @param processTreeUsageMonitor The {@link ProcessTreeUsageMonitor} to sample the job process tree with once
+     *                                launched
      */
-    public JobProcessManagerImpl(final TaskScheduler taskScheduler, final BraveTracingComponents tracingComponents) {
+    public JobProcessManagerImpl(
+        final TaskScheduler taskScheduler,
+        final BraveTracingComponents tracingComponents,
+        final ProcessTreeUsageMonitor processTreeUsageMonitor
+    ) {
         this.taskScheduler = taskScheduler;
         this.tracer = tracingComponents.getTracer();
         this.tracePropagator = tracingComponents.getTracePropagator();
+        this.processTreeUsageMonitor = processTreeUsageMonitor;
     }
 
     /**
@@ -149,6 +159,7 @@ public class JobProcessManagerImpl implements JobProcessManager {
         log.info("Launching job");
         try {
             this.processReference.set(processBuilder.start());
+            this.processTreeUsageMonitor.start(this.processReference.get().toHandle());
             if (timeout != null) {
                 // NOTE: There is a chance of a SLIGHT delay here between the process launch and the timeout
                 final Instant timeoutInstant = Instant.now().plusSeconds(timeout);
@@ -212,6 +223,7 @@ public class JobProcessManagerImpl implements JobProcessManager {
         int exitCode = 0;
         if (process != null) {
             exitCode = process.waitFor();
+            this.processTreeUsageMonitor.stop();
             ConsoleLog.getLogger().info("Job process terminated with exit code: {}", exitCode);
         }
 
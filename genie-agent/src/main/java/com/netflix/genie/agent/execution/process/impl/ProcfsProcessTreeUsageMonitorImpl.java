@@ -0,0 +1,263 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.agent.execution.process.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageMonitor;
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageSummary;
+import com.netflix.genie.agent.properties.ProcessTreeUsageMonitorProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A {@link ProcessTreeUsageMonitor} which reads the Linux procfs entries of every live process in the job process
+ * tree. The per-process entries are used rather than cgroup files because the job usually shares its cgroup with the
+ * agent and anything else in the container.
+ * <p>
+ * CPU time of a process includes that of its children which already exited and were reaped, so the tree total keeps
+ * accounting for short-lived commands. It is reported as a high water mark so it never goes backwards when a subtree
+ * disappears before its parent reaps it. On platforms without procfs sampling is silently disabled.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class ProcfsProcessTreeUsageMonitorImpl implements ProcessTreeUsageMonitor {
+
+    // USER_HZ is 100 on all mainstream Linux architectures and isn't exposed to Java
+    private static final long CLOCK_TICKS_PER_SECOND = 100L;
+    private static final long MILLIS_PER_SECOND = 1_000L;
+    private static final long BYTES_PER_KB = 1_024L;
+    // Positions in /proc/[pid]/stat counting from the field following the command name, i.e. the 3rd field
+    private static final int STAT_UTIME_INDEX = 11;
+    private static final int STAT_STIME_INDEX = 12;
+    private static final int STAT_CUTIME_INDEX = 13;
+    private static final int STAT_CSTIME_INDEX = 14;
+    private static final int STAT_NUM_THREADS_INDEX = 17;
+    private static final String STATUS_RSS_KEY = "VmRSS:";
+    private static final String IO_READ_BYTES_KEY = "read_bytes:";
+    private static final String IO_WRITE_BYTES_KEY = "write_bytes:";
+
+    private final TaskScheduler taskScheduler;
+    private final ProcessTreeUsageMonitorProperties properties;
+    private final Path procRoot;
+
+    private ScheduledFuture<?> samplingFuture;
+    private ProcessHandle rootProcess;
+
+    // Accumulated since the last drain
+    private int sampleCount;
+    private long rssSum;
+    private long peakRss;
+    private int peakThreadCount;
+
+    // As of the latest sample
+    private long cpuTimeMillis;
+    private long ioReadBytes;
+    private long ioWriteBytes;
+    private int processCount;
+
+    /**
+     * Constructor.
+     *
+     * @param taskScheduler The {@link TaskScheduler} used to periodically take samples
+     * @param properties    The properties
+     */
+    public ProcfsProcessTreeUsageMonitorImpl(
+        final TaskScheduler taskScheduler,
+        final ProcessTreeUsageMonitorProperties properties
+    ) {
+        this(taskScheduler, properties, Paths.get("/proc"));
+    }
+
+    @VisibleForTesting
+    ProcfsProcessTreeUsageMonitorImpl(
+        final TaskScheduler taskScheduler,
+        final ProcessTreeUsageMonitorProperties properties,
+        final Path procRoot
+    ) {
+        this.taskScheduler = taskScheduler;
+        this.properties = properties;
+        this.procRoot = procRoot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void start(final ProcessHandle process) {
+        if (this.samplingFuture != null) {
+            return;
+        }
+        if (!this.properties.isEnabled()) {
+            log.debug("Process tree usage sampling is disabled");
+            return;
+        }
+        if (!Files.isDirectory(this.procRoot.resolve(String.valueOf(process.pid())))) {
+            log.info("No procfs entries for job process {}. Process tree usage will not be sampled", process.pid());
+            return;
+        }
+        this.rootProcess = process;
+        this.samplingFuture = this.taskScheduler.scheduleAtFixedRate(
+            this::sample,
+            this.properties.getSampleInterval()
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void stop() {
+        if (this.samplingFuture != null) {
+            this.samplingFuture.cancel(false);
+            this.samplingFuture = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Optional<ProcessTreeUsageSummary> drainSummary() {
+        if (this.sampleCount == 0) {
+            return Optional.empty();
+        }
+        final ProcessTreeUsageSummary summary = new ProcessTreeUsageSummary(
+            this.sampleCount,
+            this.peakRss,
+            this.rssSum / this.sampleCount,
+            this.cpuTimeMillis,
+            this.ioReadBytes,
+            this.ioWriteBytes,
+            this.peakThreadCount,
+            this.processCount
+        );
+        this.sampleCount = 0;
+        this.rssSum = 0L;
+        this.peakRss = 0L;
+        this.peakThreadCount = 0;
+        return Optional.of(summary);
+    }
+
+    @VisibleForTesting
+    void sample() {
+        final ProcessHandle root;
+        synchronized (this) {
+            root = this.rootProcess;
+        }
+        if (root == null || !root.isAlive()) {
+            return;
+        }
+
+        final List<ProcessHandle> tree = Stream
+            .concat(Stream.of(root), root.descendants())
+            .collect(Collectors.toList());
+
+        long treeCpuTicks = 0L;
+        long treeRss = 0L;
+        long treeIoRead = 0L;
+        long treeIoWrite = 0L;
+        int treeThreads = 0;
+        int treeProcesses = 0;
+        for (final ProcessHandle process : tree) {
+            final Path processDirectory = this.procRoot.resolve(String.valueOf(process.pid()));
+            final Optional<long[]> stat = this.readStat(processDirectory);
+            if (!stat.isPresent()) {
+                // Exited since the tree was listed
+                continue;
+            }
+            treeCpuTicks += stat.get()[0];
+            treeThreads += (int) stat.get()[1];
+            treeRss += this.readKeyedValue(processDirectory.resolve("status"), STATUS_RSS_KEY) * BYTES_PER_KB;
+            // IO accounting may be unavailable (kernel config or permissions) in which case it reads as 0
+            final Path io = processDirectory.resolve("io");
+            treeIoRead += this.readKeyedValue(io, IO_READ_BYTES_KEY);
+            treeIoWrite += this.readKeyedValue(io, IO_WRITE_BYTES_KEY);
+            treeProcesses++;
+        }
+        if (treeProcesses == 0) {
+            return;
+        }
+
+        synchronized (this) {
+            this.sampleCount++;
+            this.rssSum += treeRss;
+            this.peakRss = Math.max(this.peakRss, treeRss);
+            this.peakThreadCount = Math.max(this.peakThreadCount, treeThreads);
+            this.cpuTimeMillis = Math.max(
+                this.cpuTimeMillis,
+                treeCpuTicks * MILLIS_PER_SECOND / CLOCK_TICKS_PER_SECOND
+            );
+            this.ioReadBytes = Math.max(this.ioReadBytes, treeIoRead);
+            this.ioWriteBytes = Math.max(this.ioWriteBytes, treeIoWrite);
+            this.processCount = treeProcesses;
+        }
+    }
+
+    /*
+     * Returns the total CPU clock ticks (including reaped children) and the number of threads of the process.
+     */
+    private Optional<long[]> readStat(final Path processDirectory) {
+        try {
+            final String stat = new String(
+                Files.readAllBytes(processDirectory.resolve("stat")),
+                StandardCharsets.UTF_8
+            );
+            // The command name is in parentheses and may itself contain spaces or parentheses
+            final String[] fields = StringUtils.split(stat.substring(stat.lastIndexOf(')') + 1));
+            if (fields.length <= STAT_NUM_THREADS_INDEX) {
+                return Optional.empty();
+            }
+            final long cpuTicks = Long.parseLong(fields[STAT_UTIME_INDEX])
+                + Long.parseLong(fields[STAT_STIME_INDEX])
+                + Long.parseLong(fields[STAT_CUTIME_INDEX])
+                + Long.parseLong(fields[STAT_CSTIME_INDEX]);
+            return Optional.of(new long[]{cpuTicks, Long.parseLong(fields[STAT_NUM_THREADS_INDEX])});
+        } catch (final IOException | RuntimeException e) {
+            log.debug("Unable to read {}/stat", processDirectory, e);
+            return Optional.empty();
+        }
+    }
+
+    private long readKeyedValue(final Path file, final String key) {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines
+                .filter(line -> line.startsWith(key))
+                .findFirst()
+                .map(line -> StringUtils.split(line.substring(key.length()))[0])
+                .map(Long::parseLong)
+                .orElse(0L);
+        } catch (final IOException | RuntimeException e) {
+            log.debug("Unable to read {} from {}", key, file, e);
+            return 0L;
+        }
+    }
+}
@@ -49,4 +49,10 @@ public interface AgentFileStreamService {
      * and outcome. The optional is empty if the task was not scheduled (because the service is not running).
      */
     Optional<ScheduledFuture<?>> forceServerSync();
+
+    /**
+     * Close the current control stream, if any, and push the manifest over a new one.
+     * Used to follow the agent when it moves to a different server.
+     */
+    void reconnect();
 }
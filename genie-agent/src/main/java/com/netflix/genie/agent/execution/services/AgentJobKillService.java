@@ -38,4 +38,10 @@ public interface AgentJobKillService {
      * Stop the service.
      */
     void stop();
+
+    /**
+     * Replace the pending kill notification registration, if any, with a new one.
+     * Used to follow the agent when it moves to a different server.
+     */
+    void reconnect();
 }
@@ -25,6 +25,7 @@ import com.netflix.genie.agent.execution.exceptions.HandshakeException;
 import com.netflix.genie.agent.execution.exceptions.JobIdUnavailableException;
 import com.netflix.genie.agent.execution.exceptions.JobReservationException;
 import com.netflix.genie.agent.execution.exceptions.JobSpecificationResolutionException;
+import com.netflix.genie.agent.execution.statemachine.ExecutionContext;
 import com.netflix.genie.common.internal.dtos.AgentClientMetadata;
 import com.netflix.genie.common.internal.dtos.AgentJobRequest;
 import com.netflix.genie.common.internal.dtos.ArchiveStatus;
@@ -34,6 +35,7 @@ import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -135,13 +137,15 @@ public interface AgentJobService {
      * @param currentJobStatus the expected current status of the job
      * @param newJobStatus     the new status of the job
      * @param message          an optional message tha accompanies this change of status
+     * @param stageTimings     the timing of the execution stages completed since the previous update, if any
      * @throws ChangeJobStatusException when the agent fails to update the job status
      */
     void changeJobStatus(
         @NotBlank String jobId,
         JobStatus currentJobStatus,
         JobStatus newJobStatus,
-        String message
+        String message,
+        List<ExecutionContext.StageTimingRecord> stageTimings
     ) throws ChangeJobStatusException;
 
     /**
@@ -161,10 +165,12 @@ public interface AgentJobService {
      *
      * @param jobId         the id of the job
      * @param archiveStatus the new archive status of the job
+     * @param stageTimings  the timing of the execution stages completed since the last status update, if any
      * @throws ChangeJobArchiveStatusException when the agent fails to update the job archive status
      */
     void changeJobArchiveStatus(
         @NotBlank String jobId,
-        ArchiveStatus archiveStatus
+        ArchiveStatus archiveStatus,
+        List<ExecutionContext.StageTimingRecord> stageTimings
     ) throws ChangeJobArchiveStatusException;
 }
@@ -169,6 +169,18 @@ public class GRpcAgentFileStreamServiceImpl implements AgentFileStreamService {
         return Optional.empty();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void reconnect() {
+        if (started.get()) {
+            log.debug("Moving the control stream to a new connection");
+            this.discardCurrentStream(true);
+            this.forceServerSync();
+        }
+    }
+
     private void drain() {
         final AtomicInteger acquiredPermitsCount = new AtomicInteger();
         // Task that attempts to acquire all available transfer permits.
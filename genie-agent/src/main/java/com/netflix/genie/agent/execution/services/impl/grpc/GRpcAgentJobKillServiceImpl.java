@@ -135,6 +135,19 @@ public class GRpcAgentJobKillServiceImpl implements AgentJobKillService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void reconnect() {
+        final PeriodicTask task = this.periodicTask;
+        if (this.started.get() && task != null) {
+            log.info("Re-registering for kill notifications for job: {}", this.jobId);
+            task.cancelPendingRequest();
+            task.run();
+        }
+    }
+
     /**
      * Task that periodically checks for kill requests and handles responses.
      */
@@ -28,6 +28,7 @@ import com.netflix.genie.agent.execution.exceptions.JobIdUnavailableException;
 import com.netflix.genie.agent.execution.exceptions.JobReservationException;
 import com.netflix.genie.agent.execution.exceptions.JobSpecificationResolutionException;
 import com.netflix.genie.agent.execution.services.AgentJobService;
+import com.netflix.genie.agent.execution.statemachine.ExecutionContext;
 import com.netflix.genie.common.internal.dtos.AgentClientMetadata;
 import com.netflix.genie.common.internal.dtos.AgentJobRequest;
 import com.netflix.genie.common.internal.dtos.ArchiveStatus;
@@ -57,13 +58,16 @@ import com.netflix.genie.proto.JobSpecificationResponse;
 import com.netflix.genie.proto.ReserveJobIdError;
 import com.netflix.genie.proto.ReserveJobIdRequest;
 import com.netflix.genie.proto.ReserveJobIdResponse;
+import com.netflix.genie.proto.StageTiming;
 import jakarta.annotation.Nullable;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
 
 /**
  * Client-side implementation of the job service used to obtain job id, specification and update job state.
@@ -258,15 +262,20 @@ class GRpcAgentJobServiceImpl implements AgentJobService {
         final @NotBlank String jobId,
         final JobStatus currentJobStatus,
         final JobStatus newJobStatus,
-        @Nullable final String message
+        @Nullable final String message,
+        final List<ExecutionContext.StageTimingRecord> stageTimings
     ) throws ChangeJobStatusException {
 
-        final ChangeJobStatusRequest request = this.jobServiceProtoConverter.toChangeJobStatusRequestProto(
-            jobId,
-            currentJobStatus,
-            newJobStatus,
-            message == null ? NO_MESSAGE : message
-        );
+        final ChangeJobStatusRequest request = this.jobServiceProtoConverter
+            .toChangeJobStatusRequestProto(
+                jobId,
+                currentJobStatus,
+                newJobStatus,
+                message == null ? NO_MESSAGE : message
+            )
+            .toBuilder()
+            .addAllStageTimings(toStageTimingProtos(stageTimings))
+            .build();
 
         final ChangeJobStatusResponse response = handleResponseFuture(this.client.changeJobStatus(request));
 
@@ -299,14 +308,18 @@ class GRpcAgentJobServiceImpl implements AgentJobService {
     @Override
     public void changeJobArchiveStatus(
         @NotBlank final String jobId,
-        final ArchiveStatus archiveStatus
+        final ArchiveStatus archiveStatus,
+        final List<ExecutionContext.StageTimingRecord> stageTimings
     ) throws ChangeJobArchiveStatusException {
 
-        final ChangeJobArchiveStatusRequest request =
-            this.jobServiceProtoConverter.toChangeJobStatusArchiveRequestProto(
+        final ChangeJobArchiveStatusRequest request = this.jobServiceProtoConverter
+            .toChangeJobStatusArchiveRequestProto(
                 jobId,
                 archiveStatus
-            );
+            )
+            .toBuilder()
+            .addAllStageTimings(toStageTimingProtos(stageTimings))
+            .build();
 
         try {
             handleResponseFuture(this.client.changeJobArchiveStatus(request));
@@ -315,6 +328,20 @@ class GRpcAgentJobServiceImpl implements AgentJobService {
         }
     }
 
+    private static List<StageTiming> toStageTimingProtos(final List<ExecutionContext.StageTimingRecord> stageTimings) {
+        return stageTimings
+            .stream()
+            .map(
+                record -> StageTiming.newBuilder()
+                    .setStage(record.getState().name())
+                    .setDurationMillis(record.getDuration().toMillis())
+                    .setAttempts(record.getAttempts())
+                    .setRetryDelayMillis(record.getRetryDelay().toMillis())
+                    .build()
+            )
+            .collect(Collectors.toList());
+    }
+
     private JobSpecification handleSpecificationResponse(
         final JobSpecificationResponse response
     ) throws JobSpecificationResolutionException {
@@ -17,6 +17,7 @@
  */
 package com.netflix.genie.agent.execution.services.impl.grpc;
 
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageMonitor;
 import com.netflix.genie.agent.execution.services.AgentFileStreamService;
 import com.netflix.genie.agent.execution.services.AgentHeartBeatService;
 import com.netflix.genie.agent.execution.services.AgentJobKillService;
@@ -30,6 +31,7 @@ import com.netflix.genie.proto.FileStreamServiceGrpc;
 import com.netflix.genie.proto.HeartBeatServiceGrpc;
 import com.netflix.genie.proto.JobKillServiceGrpc;
 import com.netflix.genie.proto.JobServiceGrpc;
+import io.grpc.ManagedChannel;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -55,9 +57,13 @@ public class GRpcServicesAutoConfiguration {
     /**
      * Provide a lazy gRPC agent heart beat service if one isn't already defined.
      *
-     * @param heartBeatServiceStub The heart beat service stub to use
-     * @param taskScheduler        The task scheduler to use
-     * @param agentProperties      The agent properties
+     * @param heartBeatServiceStub    The heart beat service stub to use
+     * @param channel                 The channel the service stubs share
+     * @param agentJobKillService     The job kill service to move along when the server asks to reconnect
+     * @param agentFileStreamService  The file stream service to move along when the server asks to reconnect
+     * @param taskScheduler           The task scheduler to use
+     * @param agentProperties         The agent properties
+     * @param processTreeUsageMonitor The monitor whose job process tree usage is attached to heart beats
      * @return A {@link GrpcAgentHeartBeatServiceImpl} instance
      */
     @Bean
@@ -65,13 +71,21 @@ public class GRpcServicesAutoConfiguration {
     @ConditionalOnMissingBean(AgentHeartBeatService.class)
     public GrpcAgentHeartBeatServiceImpl agentHeartBeatService(
         final HeartBeatServiceGrpc.HeartBeatServiceStub heartBeatServiceStub,
+        final ManagedChannel channel,
+        final AgentJobKillService agentJobKillService,
+        final AgentFileStreamService agentFileStreamService,
         @Qualifier("heartBeatServiceTaskScheduler") final TaskScheduler taskScheduler,
-        final AgentProperties agentProperties
+        final AgentProperties agentProperties,
+        final ProcessTreeUsageMonitor processTreeUsageMonitor
     ) {
         return new GrpcAgentHeartBeatServiceImpl(
             heartBeatServiceStub,
+            channel,
+            agentJobKillService,
+            agentFileStreamService,
             taskScheduler,
-            agentProperties.getHeartBeatService()
+            agentProperties.getHeartBeatService(),
+            processTreeUsageMonitor
         );
     }
 
@@ -17,11 +17,17 @@
  */
 package com.netflix.genie.agent.execution.services.impl.grpc;
 
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageMonitor;
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageSummary;
+import com.netflix.genie.agent.execution.services.AgentFileStreamService;
 import com.netflix.genie.agent.execution.services.AgentHeartBeatService;
+import com.netflix.genie.agent.execution.services.AgentJobKillService;
 import com.netflix.genie.agent.properties.HeartBeatServiceProperties;
 import com.netflix.genie.proto.AgentHeartBeat;
 import com.netflix.genie.proto.HeartBeatServiceGrpc;
+import com.netflix.genie.proto.ProcessTreeUsage;
 import com.netflix.genie.proto.ServerHeartBeat;
+import io.grpc.ManagedChannel;
 import io.grpc.stub.StreamObserver;
 import jakarta.validation.constraints.NotBlank;
 import lombok.extern.slf4j.Slf4j;
@@ -31,12 +37,17 @@ import org.springframework.scheduling.TaskScheduler;
 import org.springframework.validation.annotation.Validated;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.concurrent.ScheduledFuture;
 
 /**
  * gRPC implementation of AgentHeartBeatService.
  * Sends heartbeats to the server.
  * Transparently handles disconnections and stream errors by establishing a new stream.
+ * <p>
+ * When the server asks the agent to reconnect, the channel is moved to idle so that new calls open a new connection,
+ * which the load balancer may route to a different server. The heart beat stream is then re-established and the other
+ * long-lived calls are restarted so they follow it.
  *
  * @author mprimi
  * @since 4.0.0
@@ -46,23 +57,36 @@ import java.util.concurrent.ScheduledFuture;
 class GrpcAgentHeartBeatServiceImpl implements AgentHeartBeatService {
 
     private final HeartBeatServiceGrpc.HeartBeatServiceStub client;
+    private final ManagedChannel channel;
+    private final AgentJobKillService agentJobKillService;
+    private final AgentFileStreamService agentFileStreamService;
     private final TaskScheduler taskScheduler;
     private final HeartBeatServiceProperties properties;
+    private final ProcessTreeUsageMonitor processTreeUsageMonitor;
 
     private boolean isConnected;
     private StreamObserver<AgentHeartBeat> requestObserver;
+    private ResponseObserver responseObserver;
     private ScheduledFuture<?> heartbeatFuture;
     private String claimedJobId;
     private AgentHeartBeat heartBeatMessage;
 
     GrpcAgentHeartBeatServiceImpl(
         final HeartBeatServiceGrpc.HeartBeatServiceStub client,
+        final ManagedChannel channel,
+        final AgentJobKillService agentJobKillService,
+        final AgentFileStreamService agentFileStreamService,
         @Qualifier("heartBeatServiceTaskExecutor") final TaskScheduler taskScheduler,
-        final HeartBeatServiceProperties properties
+        final HeartBeatServiceProperties properties,
+        final ProcessTreeUsageMonitor processTreeUsageMonitor
     ) {
         this.client = client;
+        this.channel = channel;
+        this.agentJobKillService = agentJobKillService;
+        this.agentFileStreamService = agentFileStreamService;
         this.taskScheduler = taskScheduler;
         this.properties = properties;
+        this.processTreeUsageMonitor = processTreeUsageMonitor;
     }
 
     /**
@@ -84,7 +108,7 @@ class GrpcAgentHeartBeatServiceImpl implements AgentHeartBeatService {
             this.properties.getInterval()
         );
 
-        this.requestObserver = client.heartbeat(new ResponseObserver(this));
+        this.openStream();
     }
 
     /**
@@ -101,6 +125,7 @@ class GrpcAgentHeartBeatServiceImpl implements AgentHeartBeatService {
             this.requestObserver.onCompleted();
             this.requestObserver = null;
         }
+        this.responseObserver = null;
     }
 
     /**
@@ -111,11 +136,19 @@ class GrpcAgentHeartBeatServiceImpl implements AgentHeartBeatService {
         return isConnected;
     }
 
-    private synchronized void setConnected() {
+    private synchronized void setConnected(final ResponseObserver source) {
+        if (source != this.responseObserver) {
+            // Stream already replaced
+            return;
+        }
         this.isConnected = true;
     }
 
-    private synchronized void setDisconnected() {
+    private synchronized void setDisconnected(final ResponseObserver source) {
+        if (source != this.responseObserver) {
+            // Stream already replaced, for example after a reconnect request
+            return;
+        }
         this.isConnected = false;
 
         // Schedule a stream reset
@@ -125,21 +158,72 @@ class GrpcAgentHeartBeatServiceImpl implements AgentHeartBeatService {
         );
     }
 
+    /**
+     * Move the calls of this agent to a new connection, as requested by the server.
+     */
+    private synchronized void reconnect(final ResponseObserver source) {
+        if (source != this.responseObserver || this.requestObserver == null) {
+            // Stream already replaced or service stopped
+            return;
+        }
+        log.info("Server requested a reconnection");
+
+        // Calls started after this open a new connection, calls in progress keep the current one until they end
+        this.channel.enterIdle();
+
+        final StreamObserver<AgentHeartBeat> previousRequestObserver = this.requestObserver;
+        this.openStream();
+        previousRequestObserver.onCompleted();
+        // Let the new server know about this agent right away rather than at the next interval
+        this.sendHeartBeatTask();
+
+        this.agentJobKillService.reconnect();
+        this.agentFileStreamService.reconnect();
+    }
+
+    private synchronized void openStream() {
+        this.responseObserver = new ResponseObserver(this);
+        this.requestObserver = client.heartbeat(this.responseObserver);
+    }
+
     /**
      * Regularly scheduled to send heart beats.
+     * Piggybacks the job process tree resource usage collected since the previous heart beat, if any.
      */
     private synchronized void sendHeartBeatTask() {
         if (requestObserver != null) {
-            requestObserver.onNext(heartBeatMessage);
+            final Optional<ProcessTreeUsageSummary> usageSummary = this.processTreeUsageMonitor.drainSummary();
+            if (usageSummary.isPresent()) {
+                requestObserver.onNext(
+                    heartBeatMessage.toBuilder()
+                        .setProcessTreeUsage(toProto(usageSummary.get()))
+                        .build()
+                );
+            } else {
+                requestObserver.onNext(heartBeatMessage);
+            }
         }
     }
 
+    private static ProcessTreeUsage toProto(final ProcessTreeUsageSummary summary) {
+        return ProcessTreeUsage.newBuilder()
+            .setSampleCount(summary.getSampleCount())
+            .setPeakRssBytes(summary.getPeakRssBytes())
+            .setAverageRssBytes(summary.getAverageRssBytes())
+            .setCpuTimeMillis(summary.getCpuTimeMillis())
+            .setIoReadBytes(summary.getIoReadBytes())
+            .setIoWriteBytes(summary.getIoWriteBytes())
+            .setPeakThreadCount(summary.getPeakThreadCount())
+            .setProcessCount(summary.getProcessCount())
+            .build();
+    }
+
     /**
      * Scheduled once after a disconnection or error.
      */
     private synchronized void resetStreamTask() {
-        if (!isConnected) {
-            this.requestObserver = client.heartbeat(new ResponseObserver(this));
+        if (!isConnected && this.requestObserver != null) {
+            this.openStream();
         }
     }
 
@@ -153,19 +237,22 @@ class GrpcAgentHeartBeatServiceImpl implements AgentHeartBeatService {
         @Override
         public void onNext(final ServerHeartBeat value) {
             log.debug("Received server heartbeat");
-            grpcAgentHeartBeatService.setConnected();
+            grpcAgentHeartBeatService.setConnected(this);
+            if (value.getReconnect()) {
+                grpcAgentHeartBeatService.reconnect(this);
+            }
         }
 
         @Override
         public void onError(final Throwable t) {
             log.info("Stream error");
-            grpcAgentHeartBeatService.setDisconnected();
+            grpcAgentHeartBeatService.setDisconnected(this);
         }
 
         @Override
         public void onCompleted() {
             log.info("Stream completed");
-            grpcAgentHeartBeatService.setDisconnected();
+            grpcAgentHeartBeatService.setDisconnected(this);
         }
     }
 }
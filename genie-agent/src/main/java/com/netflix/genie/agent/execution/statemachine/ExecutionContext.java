@@ -37,11 +37,14 @@ import com.netflix.genie.common.internal.dtos.JobSpecification;
 import com.netflix.genie.common.internal.dtos.JobStatus;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.Synchronized;
+import lombok.ToString;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -65,6 +68,15 @@ public class ExecutionContext {
      * List of all exception thrown by state transitions.
      */
     private final List<TransitionExceptionRecord> transitionExceptionRecords = Lists.newArrayList();
+    /**
+     * Timing of the stages completed but not yet reported to the server, in order of completion.
+     */
+    private final List<StageTimingRecord> unreportedStageTimings = Lists.newArrayList();
+    /**
+     * Progress of the stage currently executing as of the start of its latest attempt.
+     * Null between stages.
+     */
+    private StageTimingRecord currentStageTiming;
 
     /**
      * Agent properties.
@@ -216,6 +228,33 @@ public class ExecutionContext {
         return ImmutableList.copyOf(this.transitionExceptionRecords);
     }
 
+    /**
+     * Record the timing of a completed stage so it can be reported to the server.
+     *
+     * @param stageTimingRecord the timing of the stage
+     */
+    public void recordStageTiming(final StageTimingRecord stageTimingRecord) {
+        this.unreportedStageTimings.add(stageTimingRecord);
+    }
+
+    /**
+     * Get the timing of the stages completed since the last time timings were reported to the server.
+     *
+     * @return a list of stage timing records, in order of completion
+     */
+    public List<StageTimingRecord> getUnreportedStageTimings() {
+        return ImmutableList.copyOf(this.unreportedStageTimings);
+    }
+
+    /**
+     * Mark the oldest stage timings as successfully reported to the server so they aren't sent again.
+     *
+     * @param count the number of records, as returned by {@link #getUnreportedStageTimings()}, that were reported
+     */
+    public void markStageTimingsReported(final int count) {
+        this.unreportedStageTimings.subList(0, Math.min(count, this.unreportedStageTimings.size())).clear();
+    }
+
     /**
      * Convenience method to determine whether the execution is aborted (as a result of a fatal error in a critical
      * state or due to a kill request).
@@ -235,4 +274,18 @@ public class ExecutionContext {
         private final States state;
         private final Exception recordedException;
     }
+
+    /**
+     * Data object that contains how long the execution of a state took.
+     */
+    @AllArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    public static class StageTimingRecord {
+        private final States state;
+        private final Duration duration;
+        private final int attempts;
+        private final Duration retryDelay;
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.agent.execution.statemachine.listeners;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.genie.agent.execution.statemachine.ExecutionContext;
+import com.netflix.genie.agent.execution.statemachine.States;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Listener that measures the wall-clock duration, number of attempts and retry delays of each state executed and
+ * records them in the {@link ExecutionContext} so they can be reported to the server along with job status updates.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class StageTimingListener implements JobExecutionListener {
+
+    private final ExecutionContext executionContext;
+    private final LongSupplier nanoTimeSupplier;
+
+    // Only accessed from the state machine thread
+    private long stateEnteredNanos;
+    private int attempts;
+    private long retryDelayMillis;
+
+    /**
+     * Constructor.
+     *
+     * @param executionContext The execution context to record stage timings into
+     */
+    public StageTimingListener(final ExecutionContext executionContext) {
+        this(executionContext, System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param executionContext The execution context to record stage timings into
+     * @param nanoTimeSupplier Supplier of a monotonic time in nanoseconds
+     */
+    @VisibleForTesting
+    StageTimingListener(final ExecutionContext executionContext, final LongSupplier nanoTimeSupplier) {
+        this.executionContext = executionContext;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stateEntered(final States state) {
+        this.stateEnteredNanos = this.nanoTimeSupplier.getAsLong();
+        this.attempts = 0;
+        this.retryDelayMillis = 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beforeStateActionAttempt(final States state) {
+        this.attempts++;
+        // Stages which report their own timing before they complete read their retries from here
+        this.executionContext.setCurrentStageTiming(
+            new ExecutionContext.StageTimingRecord(
+                state,
+                Duration.ofNanos(this.nanoTimeSupplier.getAsLong() - this.stateEnteredNanos),
+                this.attempts,
+                Duration.ofMillis(this.retryDelayMillis)
+            )
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void delayedStateActionRetry(final States state, final long retryDelay) {
+        this.retryDelayMillis += retryDelay;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stateExited(final States state) {
+        final Duration duration = Duration.ofNanos(this.nanoTimeSupplier.getAsLong() - this.stateEnteredNanos);
+        log.debug("State {} took {} over {} attempt(s)", state, duration, this.attempts);
+        this.executionContext.setCurrentStageTiming(null);
+        this.executionContext.recordStageTiming(
+            new ExecutionContext.StageTimingRecord(
+                state,
+                duration,
+                this.attempts,
+                Duration.ofMillis(this.retryDelayMillis)
+            )
+        );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.agent.execution.statemachine.listeners;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.genie.agent.execution.statemachine.States;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Listener that measures how long after JVM start the agent completes the startup milestones that sit on the
+ * critical path of every job (i.e. handshake with the server and claim of the job).
+ * <p>
+ * The measurements are logged in a single, stable, machine-parseable line when the state machine stops so that
+ * startup regressions (e.g. a new eager bean or a missing class data sharing archive) can be tracked over time.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class StartupTimingListener implements JobExecutionListener {
+
+    static final String STARTUP_TIMING_LOG_FORMAT = "genie-agent-startup time-to-handshake-ms={} time-to-claim-ms={}";
+    private static final long NOT_REACHED = -1L;
+
+    private final LongSupplier uptimeSupplier;
+    private volatile long timeToHandshake = NOT_REACHED;
+    private volatile long timeToClaim = NOT_REACHED;
+
+    /**
+     * Constructor.
+     */
+    public StartupTimingListener() {
+        this(() -> ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param uptimeSupplier Supplier of the number of milliseconds elapsed since the JVM started
+     */
+    @VisibleForTesting
+    StartupTimingListener(final LongSupplier uptimeSupplier) {
+        this.uptimeSupplier = uptimeSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stateExited(final States state) {
+        switch (state) {
+            case HANDSHAKE:
+                this.timeToHandshake = this.uptimeSupplier.getAsLong();
+                log.info("Handshake completed {}ms after JVM start", this.timeToHandshake);
+                break;
+            case CLAIM_JOB:
+                this.timeToClaim = this.uptimeSupplier.getAsLong();
+                log.info("Job claimed {}ms after JVM start", this.timeToClaim);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stateMachineStopped() {
+        log.info(STARTUP_TIMING_LOG_FORMAT, this.timeToHandshake, this.timeToClaim);
+    }
+
+    /**
+     * Get the time elapsed between JVM start and the completion of the handshake with the server.
+     *
+     * @return The time in milliseconds or empty if the handshake was never completed
+     */
+    public Optional<Long> getTimeToHandshake() {
+        return this.timeToHandshake == NOT_REACHED ? Optional.empty() : Optional.of(this.timeToHandshake);
+    }
+
+    /**
+     * Get the time elapsed between JVM start and the job being claimed by this agent.
+     *
+     * @return The time in milliseconds or empty if the job was never claimed
+     */
+    public Optional<Long> getTimeToClaim() {
+        return this.timeToClaim == NOT_REACHED ? Optional.empty() : Optional.of(this.timeToClaim);
+    }
+}
@@ -17,6 +17,7 @@
  */
 package com.netflix.genie.agent.execution.statemachine.stages;
 
+import com.google.common.collect.ImmutableList;
 import com.netflix.genie.agent.cli.logging.ConsoleLog;
 import com.netflix.genie.agent.execution.exceptions.ChangeJobArchiveStatusException;
 import com.netflix.genie.agent.execution.services.AgentJobService;
@@ -35,6 +36,8 @@ import org.apache.commons.lang3.StringUtils;
 import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * Archive job output files and logs, if the job reached a state where it is appropriate to do so.
@@ -72,6 +75,7 @@ public class ArchiveJobOutputsStage extends ExecutionStage {
             if (StringUtils.isNotBlank(archiveLocation)) {
 
                 boolean success = false;
+                final long archiveStart = System.nanoTime();
                 try {
                     log.info("Archive job folder to: " + archiveLocation);
                     this.jobArchiveService.archiveDirectory(
@@ -90,8 +94,29 @@ public class ArchiveJobOutputsStage extends ExecutionStage {
 
                 final String jobId = executionContext.getClaimedJobId();
                 final ArchiveStatus archiveStatus = success ? ArchiveStatus.ARCHIVED : ArchiveStatus.FAILED;
+                // This is the last request to the server so the timing of this stage is included even though it
+                // isn't complete yet
+                final List<ExecutionContext.StageTimingRecord> stageTimings = executionContext
+                    .getUnreportedStageTimings();
+                final ExecutionContext.StageTimingRecord attemptTiming = executionContext.getCurrentStageTiming();
+                final Duration archiveDuration = Duration.ofNanos(System.nanoTime() - archiveStart);
+                final List<ExecutionContext.StageTimingRecord> stageTimingsWithArchive = ImmutableList
+                    .<ExecutionContext.StageTimingRecord>builder()
+                    .addAll(stageTimings)
+                    .add(
+                        attemptTiming == null
+                            ? new ExecutionContext.StageTimingRecord(States.ARCHIVE, archiveDuration, 1, Duration.ZERO)
+                            : new ExecutionContext.StageTimingRecord(
+                                States.ARCHIVE,
+                                attemptTiming.getDuration().plus(archiveDuration),
+                                attemptTiming.getAttempts(),
+                                attemptTiming.getRetryDelay()
+                            )
+                    )
+                    .build();
                 try {
-                    this.agentJobService.changeJobArchiveStatus(jobId, archiveStatus);
+                    this.agentJobService.changeJobArchiveStatus(jobId, archiveStatus, stageTimingsWithArchive);
+                    executionContext.markStageTimingsReported(stageTimings.size());
                 } catch (ChangeJobArchiveStatusException e) {
                     // Swallow the error and move on.
                     log.error("Error updating the archive status", e);
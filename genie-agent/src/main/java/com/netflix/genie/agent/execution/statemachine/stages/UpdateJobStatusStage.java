@@ -28,6 +28,8 @@ import com.netflix.genie.common.internal.dtos.JobStatus;
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieRuntimeException;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.List;
+
 /**
  * Updates the server-side status of the job.
  *
@@ -70,12 +72,14 @@ abstract class UpdateJobStatusStage extends ExecutionStage {
             assert nextJobStatusMessage != null;
 
             log.info("Updating job status to: {} - {}", nextJobStatus, nextJobStatusMessage);
+            final List<ExecutionContext.StageTimingRecord> stageTimings = executionContext.getUnreportedStageTimings();
             try {
                 this.agentJobService.changeJobStatus(
                     claimedJobId,
                     currentJobStatus,
                     nextJobStatus,
-                    nextJobStatusMessage
+                    nextJobStatusMessage,
+                    stageTimings
                 );
             } catch (final GenieRuntimeException e) {
                 throw createRetryableException(e);
@@ -84,6 +88,7 @@ abstract class UpdateJobStatusStage extends ExecutionStage {
             }
 
             executionContext.setCurrentJobStatus(nextJobStatus);
+            executionContext.markStageTimingsReported(stageTimings.size());
 
         } else {
             log.info("Skipping job status update");
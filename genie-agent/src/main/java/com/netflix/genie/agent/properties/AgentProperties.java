@@ -78,6 +78,12 @@ public class AgentProperties {
     @Valid
     private JobMonitorServiceProperties jobMonitorService = new JobMonitorServiceProperties();
 
+    /**
+     * ProcessTreeUsageMonitor properties.
+     */
+    @Valid
+    private ProcessTreeUsageMonitorProperties processTreeUsageMonitor = new ProcessTreeUsageMonitorProperties();
+
     /**
      * Shutdown properties.
      */
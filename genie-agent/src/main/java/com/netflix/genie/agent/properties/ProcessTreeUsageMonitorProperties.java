@@ -0,0 +1,47 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.agent.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Properties for {@link com.netflix.genie.agent.execution.process.ProcessTreeUsageMonitor}.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Getter
+@Setter
+@Validated
+public class ProcessTreeUsageMonitorProperties {
+    /**
+     * Whether to sample the resource usage of the job process tree.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Period between samples.
+     */
+    @DurationMin(seconds = 1)
+    private Duration sampleInterval = Duration.ofSeconds(10);
+}
@@ -18,7 +18,10 @@
 package com.netflix.genie.agent.spring.autoconfigure;
 
 import com.netflix.genie.agent.execution.process.JobProcessManager;
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageMonitor;
 import com.netflix.genie.agent.execution.process.impl.JobProcessManagerImpl;
+import com.netflix.genie.agent.execution.process.impl.ProcfsProcessTreeUsageMonitorImpl;
+import com.netflix.genie.agent.properties.AgentProperties;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -39,8 +42,9 @@ public class ProcessAutoConfiguration {
     /**
      * Provide a lazy {@link JobProcessManager} bean if one hasn't already been defined.
      *
-     * @param taskScheduler     The {@link TaskScheduler} instance to use
-     * @param tracingComponents The {@link BraveTracingComponents} instance to use
+     * @param taskScheduler           The {@link TaskScheduler} instance to use
+     * @param tracingComponents       The {@link BraveTracingComponents} instance to use
+     * @param processTreeUsageMonitor The {@link ProcessTreeUsageMonitor} instance to use
      * @return A {@link JobProcessManagerImpl} instance
      */
     @Bean
@@ -48,8 +52,26 @@ public class ProcessAutoConfiguration {
     @ConditionalOnMissingBean(JobProcessManager.class)
     public JobProcessManagerImpl jobProcessManager(
         @Qualifier("sharedAgentTaskScheduler") final TaskScheduler taskScheduler,
-        final BraveTracingComponents tracingComponents
+        final BraveTracingComponents tracingComponents,
+        final ProcessTreeUsageMonitor processTreeUsageMonitor
     ) {
-        return new JobProcessManagerImpl(taskScheduler, tracingComponents);
+        return new JobProcessManagerImpl(taskScheduler, tracingComponents, processTreeUsageMonitor);
+    }
+
+    /**
+     * Provide a lazy {@link ProcessTreeUsageMonitor} bean if one hasn't already been defined.
+     *
+     * @param taskScheduler   The {@link TaskScheduler} instance to use
+     * @param agentProperties The agent properties
+     * @return A {@link ProcfsProcessTreeUsageMonitorImpl} instance
+     */
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean(ProcessTreeUsageMonitor.class)
+    public ProcfsProcessTreeUsageMonitorImpl processTreeUsageMonitor(
+        @Qualifier("sharedAgentTaskScheduler") final TaskScheduler taskScheduler,
+        final AgentProperties agentProperties
+    ) {
+        return new ProcfsProcessTreeUsageMonitorImpl(taskScheduler, agentProperties.getProcessTreeUsageMonitor());
     }
 }
@@ -23,6 +23,7 @@ import brave.propagation.TraceContext
 import com.netflix.genie.agent.execution.exceptions.JobLaunchException
 import com.netflix.genie.agent.execution.process.JobProcessManager
 import com.netflix.genie.agent.execution.process.JobProcessResult
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageMonitor
 import com.netflix.genie.agent.execution.services.KillService
 import com.netflix.genie.agent.utils.PathUtils
 import com.netflix.genie.common.dto.JobStatusMessages
@@ -60,6 +61,7 @@ class JobProcessManagerImplSpec extends Specification {
     BraveTracePropagator tracePropagator
     Span span
     TraceContext traceContext
+    ProcessTreeUsageMonitor processTreeUsageMonitor
 
     def setup() {
         this.stdOut = PathUtils.jobStdOutPath(temporaryFolder.toFile()).toFile()
@@ -77,6 +79,7 @@ class JobProcessManagerImplSpec extends Specification {
             .sampled(true)
             .build()
         this.span = Mock(Span)
+        this.processTreeUsageMonitor = Mock(ProcessTreeUsageMonitor)
         this.manager = new JobProcessManagerImpl(
             this.scheduler,
             new BraveTracingComponents(
@@ -84,7 +87,8 @@ class JobProcessManagerImplSpec extends Specification {
                 this.tracePropagator,
                 Mock(BraveTracingCleanup),
                 Mock(BraveTagAdapter)
-            )
+            ),
+            this.processTreeUsageMonitor
         )
     }
 
@@ -117,11 +121,13 @@ class JobProcessManagerImplSpec extends Specification {
         1 * this.span.context() >> this.traceContext
         1 * this.tracePropagator.injectForJob(this.traceContext) >> new HashMap<>()
         0 * this.scheduler.schedule(_ as Runnable, _ as Instant)
+        1 * this.processTreeUsageMonitor.start(_ as ProcessHandle)
 
         when:
         def result = this.manager.waitFor()
 
         then:
+        1 * this.processTreeUsageMonitor.stop()
         result.getFinalStatus() == JobStatus.SUCCEEDED
         result.getFinalStatusMessage() == JobStatusMessages.JOB_FINISHED_SUCCESSFULLY
         result.getExitCode() == 0
@@ -630,7 +636,8 @@ class JobProcessManagerImplSpec extends Specification {
                 this.tracePropagator,
                 Mock(BraveTracingCleanup),
                 Mock(BraveTagAdapter)
-            )
+            ),
+            this.processTreeUsageMonitor
         )
 
         when:
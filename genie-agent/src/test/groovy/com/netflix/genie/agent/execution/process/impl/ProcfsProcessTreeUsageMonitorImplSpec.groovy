@@ -0,0 +1,203 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.agent.execution.process.impl
+
+import com.netflix.genie.agent.properties.ProcessTreeUsageMonitorProperties
+import org.springframework.scheduling.TaskScheduler
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import java.util.concurrent.ScheduledFuture
+
+/**
+ * Specifications for {@link ProcfsProcessTreeUsageMonitorImpl}.
+ *
+ * @author tgianos
+ */
+class ProcfsProcessTreeUsageMonitorImplSpec extends Specification {
+
+    @TempDir
+    Path procRoot
+
+    TaskScheduler taskScheduler
+    ScheduledFuture future
+    ProcessTreeUsageMonitorProperties properties
+    ProcessHandle process
+    Path processDirectory
+    ProcfsProcessTreeUsageMonitorImpl monitor
+
+    def setup() {
+        this.taskScheduler = Mock(TaskScheduler)
+        this.future = Mock(ScheduledFuture)
+        this.properties = new ProcessTreeUsageMonitorProperties()
+        this.properties.setSampleInterval(Duration.ofSeconds(3))
+        // The current process stands in for the job, any descendants have no entries under the fake procfs root
+        this.process = ProcessHandle.current()
+        this.processDirectory = Files.createDirectory(this.procRoot.resolve(String.valueOf(this.process.pid())))
+        this.monitor = new ProcfsProcessTreeUsageMonitorImpl(this.taskScheduler, this.properties, this.procRoot)
+    }
+
+    def "Samples are summarized and the window is reset on drain"() {
+        Runnable sampleTask
+
+        when:
+        this.monitor.start(this.process)
+        this.monitor.start(this.process)
+
+        then:
+        1 * this.taskScheduler.scheduleAtFixedRate(_ as Runnable, Duration.ofSeconds(3)) >> { args ->
+            sampleTask = args[0] as Runnable
+            return this.future
+        }
+        !this.monitor.drainSummary().isPresent()
+
+        when:
+        this.writeEntries(150, 50, 20, 30, 7, 1_000, 4_096, 8_192)
+        sampleTask.run()
+        this.writeEntries(200, 60, 20, 30, 9, 3_000, 5_000, 9_000)
+        sampleTask.run()
+        def summary = this.monitor.drainSummary().orElseThrow()
+
+        then:
+        summary.getSampleCount() == 2
+        summary.getPeakRssBytes() == 3_000L * 1_024L
+        summary.getAverageRssBytes() == 2_000L * 1_024L
+        summary.getCpuTimeMillis() == 3_100L
+        summary.getIoReadBytes() == 5_000L
+        summary.getIoWriteBytes() == 9_000L
+        summary.getPeakThreadCount() == 9
+        summary.getProcessCount() == 1
+        !this.monitor.drainSummary().isPresent()
+
+        when: "A later sample reports less cumulative usage than was already seen"
+        this.writeEntries(10, 10, 0, 0, 2, 500, 0, 0)
+        this.monitor.sample()
+        summary = this.monitor.drainSummary().orElseThrow()
+
+        then: "Cumulative values don't go backwards but window values are new"
+        summary.getSampleCount() == 1
+        summary.getPeakRssBytes() == 500L * 1_024L
+        summary.getAverageRssBytes() == 500L * 1_024L
+        summary.getCpuTimeMillis() == 3_100L
+        summary.getIoReadBytes() == 5_000L
+        summary.getIoWriteBytes() == 9_000L
+        summary.getPeakThreadCount() == 2
+
+        when:
+        this.monitor.stop()
+
+        then:
+        1 * this.future.cancel(false)
+    }
+
+    def "Unreadable entries are skipped"() {
+        when:
+        this.monitor.start(this.process)
+
+        then:
+        1 * this.taskScheduler.scheduleAtFixedRate(_ as Runnable, _ as Duration) >> this.future
+
+        when: "No stat file"
+        this.monitor.sample()
+
+        then:
+        !this.monitor.drainSummary().isPresent()
+
+        when: "Malformed stat file"
+        Files.writeString(this.processDirectory.resolve("stat"), "1 (java) S 1 2 three")
+        this.monitor.sample()
+
+        then:
+        !this.monitor.drainSummary().isPresent()
+
+        when: "Stat but no status or io files"
+        this.writeStat(100, 0, 0, 0, 4)
+        this.monitor.sample()
+        def summary = this.monitor.drainSummary().orElseThrow()
+
+        then:
+        summary.getSampleCount() == 1
+        summary.getCpuTimeMillis() == 1_000L
+        summary.getPeakThreadCount() == 4
+        summary.getPeakRssBytes() == 0L
+        summary.getIoReadBytes() == 0L
+        summary.getIoWriteBytes() == 0L
+    }
+
+    def "Nothing is scheduled when disabled or procfs is unavailable"() {
+        when:
+        this.properties.setEnabled(false)
+        this.monitor.start(this.process)
+
+        then:
+        0 * this.taskScheduler.scheduleAtFixedRate(_, _)
+
+        when:
+        this.properties.setEnabled(true)
+        def otherMonitor = new ProcfsProcessTreeUsageMonitorImpl(
+            this.taskScheduler,
+            this.properties,
+            this.procRoot.resolve("nonexistent")
+        )
+        otherMonitor.start(this.process)
+        otherMonitor.stop()
+
+        then:
+        0 * this.taskScheduler.scheduleAtFixedRate(_, _)
+        !otherMonitor.drainSummary().isPresent()
+    }
+
+    private void writeEntries(
+        final long utime,
+        final long stime,
+        final long cutime,
+        final long cstime,
+        final int threads,
+        final long rssKb,
+        final long readBytes,
+        final long writeBytes
+    ) {
+        this.writeStat(utime, stime, cutime, cstime, threads)
+        Files.writeString(
+            this.processDirectory.resolve("status"),
+            "Name:\tjava\nVmPeak:\t  999999 kB\nVmRSS:\t    " + rssKb + " kB\nThreads:\t" + threads + "\n"
+        )
+        Files.writeString(
+            this.processDirectory.resolve("io"),
+            "rchar: 1\nwchar: 2\nread_bytes: " + readBytes + "\nwrite_bytes: " + writeBytes + "\n"
+        )
+    }
+
+    private void writeStat(
+        final long utime,
+        final long stime,
+        final long cutime,
+        final long cstime,
+        final int threads
+    ) {
+        // Command name containing spaces and parentheses to exercise the parsing
+        Files.writeString(
+            this.processDirectory.resolve("stat"),
+            this.process.pid() + " (ja va) (x)) S 1 1 1 0 -1 4194304 100 0 0 0 "
+                + utime + " " + stime + " " + cutime + " " + cstime + " 20 0 " + threads + " 0 12345 1 2\n"
+        )
+    }
+}
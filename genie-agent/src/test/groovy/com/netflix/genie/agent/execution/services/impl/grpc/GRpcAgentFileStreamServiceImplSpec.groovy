@@ -247,6 +247,58 @@ class GRpcAgentFileStreamServiceImplSpec extends Specification {
         0 == remoteService.erroredSyncStreams.size()
     }
 
+    def "Move the control stream to a new connection on reconnect"() {
+
+        setup:
+        Runnable runnableCapture
+        Runnable forcedSyncCapture
+        AgentManifestMessage manifestMessage = AgentManifestMessage.getDefaultInstance()
+
+        when: "Not started"
+        agentFileStreamService.reconnect()
+
+        then:
+        0 * this.taskScheduler.schedule(_ as Runnable, _ as Instant)
+
+        when:
+        agentFileStreamService.start(jobId, temporaryFolder)
+        runnableCapture.run()
+
+        then:
+        1 * this.taskScheduler.schedule(_ as Runnable, _ as Trigger) >> {
+            Runnable r, Trigger t ->
+                runnableCapture = r
+                return scheduledTask
+        }
+        1 * jobDirectoryManifestService.getDirectoryManifest(temporaryFolder) >> manifest
+        1 * converter.manifestToProtoMessage(jobId, manifest) >> manifestMessage
+        1 == remoteService.activeSyncStreams.size()
+
+        when:
+        agentFileStreamService.reconnect()
+
+        then: "The current stream is completed and a sync is scheduled right away"
+        1 * this.taskScheduler.schedule(_ as Runnable, _ as Instant) >> {
+            Runnable r, Instant i ->
+                forcedSyncCapture = r
+                return Mock(ScheduledFuture)
+        }
+        0 == remoteService.activeSyncStreams.size()
+        1 == remoteService.completedSyncStreams.size()
+
+        when:
+        forcedSyncCapture.run()
+
+        then: "The manifest is sent over a new stream"
+        1 * jobDirectoryManifestService.getDirectoryManifest(temporaryFolder) >> manifest
+        1 * converter.manifestToProtoMessage(jobId, manifest) >> manifestMessage
+        1 == remoteService.activeSyncStreams.size()
+        2 == remoteService.manifestMessageReceived.size()
+
+        cleanup:
+        agentFileStreamService.stop()
+    }
+
     def "Transmit empty/small/nonexistent files"() {
         Files.createFile(temporaryFolder.resolve("file.txt"))
         File smallFile = Files.createFile(temporaryFolder.resolve("small-file.txt")).toFile()
@@ -150,6 +150,37 @@ class GRpcAgentJobKillServiceImplSpec extends Specification {
         testServer.receivedRequests.size() == 2  // A new request should be created after the previous one failed
     }
 
+    def "Reconnect"() {
+        when: "Not started"
+        service.reconnect()
+
+        then:
+        testServer.receivedRequests.size() == 0
+
+        when:
+        service.start(jobId)
+
+        then:
+        1 * taskScheduler.schedule(_ as Runnable, _ as Trigger) >> periodicTaskScheduledFuture
+        testServer.receivedRequests.size() == 1
+
+        when:
+        service.reconnect()
+
+        then: "The pending request is replaced by a new one without killing the job"
+        0 * killService.kill(_)
+        testServer.receivedRequests.size() == 2
+        testServer.receivedRequests[1].jobId == jobId
+
+        when:
+        service.stop()
+        service.reconnect()
+
+        then:
+        1 * periodicTaskScheduledFuture.cancel(true)
+        testServer.receivedRequests.size() == 2
+    }
+
     /**
      * Test implementation of JobKillService that tracks requests and allows controlling responses
      */
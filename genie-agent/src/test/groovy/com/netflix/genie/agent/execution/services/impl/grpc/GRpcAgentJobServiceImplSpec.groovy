@@ -26,6 +26,8 @@ import com.netflix.genie.agent.execution.exceptions.JobIdUnavailableException
 import com.netflix.genie.agent.execution.exceptions.JobReservationException
 import com.netflix.genie.agent.execution.exceptions.JobSpecificationResolutionException
 import com.netflix.genie.agent.execution.services.AgentJobService
+import com.netflix.genie.agent.execution.statemachine.ExecutionContext
+import com.netflix.genie.agent.execution.statemachine.States
 import com.netflix.genie.common.internal.dtos.AgentClientMetadata
 import com.netflix.genie.common.internal.dtos.AgentJobRequest
 import com.netflix.genie.common.internal.dtos.ArchiveStatus
@@ -56,6 +58,7 @@ import com.netflix.genie.proto.JobSpecificationResponse
 import com.netflix.genie.proto.ReserveJobIdError
 import com.netflix.genie.proto.ReserveJobIdRequest
 import com.netflix.genie.proto.ReserveJobIdResponse
+import com.netflix.genie.proto.StageTiming
 import io.grpc.Status
 import io.grpc.stub.StreamObserver
 import io.grpc.testing.GrpcServerRule
@@ -63,6 +66,8 @@ import org.junit.Rule
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.time.Duration
+
 class GRpcAgentJobServiceImplSpec extends Specification {
 
     @Rule
@@ -83,6 +88,10 @@ class GRpcAgentJobServiceImplSpec extends Specification {
     ChangeJobArchiveStatusResponse changeJobArchiveStatusResponse
     Throwable serverError
 
+    // Captured by the test service
+    ChangeJobStatusRequest receivedChangeJobStatusRequest
+    ChangeJobArchiveStatusRequest receivedChangeJobArchiveStatusRequest
+
     void setup() {
         this.serverError = null
         this.grpcServerRule.getServiceRegistry().addService(new TestService())
@@ -504,11 +513,26 @@ class GRpcAgentJobServiceImplSpec extends Specification {
         JobStatus currentStatus = JobStatus.INIT
         JobStatus newStatus = JobStatus.RUNNING
 
+        def stageTiming = new ExecutionContext.StageTimingRecord(
+            States.HANDSHAKE,
+            Duration.ofMillis(1_500),
+            2,
+            Duration.ofMillis(1_000)
+        )
+
         when:
-        service.changeJobStatus(id, currentStatus, newStatus, null)
+        service.changeJobStatus(id, currentStatus, newStatus, null, [stageTiming])
 
         then:
         1 * protoConverter.toChangeJobStatusRequestProto(id, currentStatus, newStatus, _ as String) >> request
+        receivedChangeJobStatusRequest.getStageTimingsList() == [
+            StageTiming.newBuilder()
+                .setStage("HANDSHAKE")
+                .setDurationMillis(1_500L)
+                .setAttempts(2)
+                .setRetryDelayMillis(1_000L)
+                .build()
+        ]
     }
 
     @Unroll
@@ -527,7 +551,7 @@ class GRpcAgentJobServiceImplSpec extends Specification {
         ChangeJobStatusRequest request = ChangeJobStatusRequest.getDefaultInstance()
 
         when:
-        service.changeJobStatus(id, currentStatus, newStatus, message)
+        service.changeJobStatus(id, currentStatus, newStatus, message, [])
 
         then:
         1 * protoConverter.toChangeJobStatusRequestProto(id, currentStatus, newStatus, message) >> request
@@ -550,7 +574,7 @@ class GRpcAgentJobServiceImplSpec extends Specification {
         ChangeJobStatusRequest request = ChangeJobStatusRequest.getDefaultInstance()
 
         when:
-        service.changeJobStatus(id, currentStatus, newStatus, message)
+        service.changeJobStatus(id, currentStatus, newStatus, message, [])
 
         then:
         1 * protoConverter.toChangeJobStatusRequestProto(id, currentStatus, newStatus, message) >> request
@@ -586,11 +610,21 @@ class GRpcAgentJobServiceImplSpec extends Specification {
         this.changeJobArchiveStatusResponse = ChangeJobArchiveStatusResponse.getDefaultInstance()
         ChangeJobArchiveStatusRequest request = ChangeJobArchiveStatusRequest.getDefaultInstance()
 
+        def stageTiming = new ExecutionContext.StageTimingRecord(
+            States.ARCHIVE,
+            Duration.ofSeconds(3),
+            1,
+            Duration.ZERO
+        )
+
         when:
-        service.changeJobArchiveStatus(id, ArchiveStatus.ARCHIVED)
+        service.changeJobArchiveStatus(id, ArchiveStatus.ARCHIVED, [stageTiming])
 
         then:
         1 * protoConverter.toChangeJobStatusArchiveRequestProto(id, ArchiveStatus.ARCHIVED) >> request
+        receivedChangeJobArchiveStatusRequest.getStageTimingsCount() == 1
+        receivedChangeJobArchiveStatusRequest.getStageTimings(0).getStage() == "ARCHIVE"
+        receivedChangeJobArchiveStatusRequest.getStageTimings(0).getDurationMillis() == 3_000L
     }
 
     def "Update job archive status -- invalid response"() {
@@ -598,7 +632,7 @@ class GRpcAgentJobServiceImplSpec extends Specification {
         ChangeJobArchiveStatusRequest request = ChangeJobArchiveStatusRequest.getDefaultInstance()
 
         when:
-        service.changeJobArchiveStatus(id, ArchiveStatus.ARCHIVED)
+        service.changeJobArchiveStatus(id, ArchiveStatus.ARCHIVED, [])
 
         then:
         1 * protoConverter.toChangeJobStatusArchiveRequestProto(id, ArchiveStatus.ARCHIVED) >> request
@@ -661,6 +695,7 @@ class GRpcAgentJobServiceImplSpec extends Specification {
             final ChangeJobStatusRequest request,
             final StreamObserver<ChangeJobStatusResponse> responseObserver
         ) {
+            receivedChangeJobStatusRequest = request
             sendResponse(responseObserver, changeJobStatusResponse)
         }
 
@@ -677,6 +712,7 @@ class GRpcAgentJobServiceImplSpec extends Specification {
             final ChangeJobArchiveStatusRequest request,
             final StreamObserver<ChangeJobArchiveStatusResponse> responseObserver
         ) {
+            receivedChangeJobArchiveStatusRequest = request
             sendResponse(responseObserver, changeJobArchiveStatusResponse)
         }
 
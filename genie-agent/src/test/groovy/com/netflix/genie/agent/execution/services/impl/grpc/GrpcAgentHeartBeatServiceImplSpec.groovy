@@ -18,10 +18,15 @@
 package com.netflix.genie.agent.execution.services.impl.grpc
 
 import com.google.common.collect.Lists
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageMonitor
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageSummary
+import com.netflix.genie.agent.execution.services.AgentFileStreamService
+import com.netflix.genie.agent.execution.services.AgentJobKillService
 import com.netflix.genie.agent.properties.HeartBeatServiceProperties
 import com.netflix.genie.proto.AgentHeartBeat
 import com.netflix.genie.proto.HeartBeatServiceGrpc
 import com.netflix.genie.proto.ServerHeartBeat
+import io.grpc.ManagedChannel
 import io.grpc.stub.StreamObserver
 import io.grpc.testing.GrpcServerRule
 import org.junit.Rule
@@ -41,10 +46,16 @@ class GrpcAgentHeartBeatServiceImplSpec extends Specification {
     ScheduledFuture heartBeatFuture
     GrpcAgentHeartBeatServiceImpl service
     HeartBeatServiceProperties serviceProperties = new HeartBeatServiceProperties()
+    ProcessTreeUsageMonitor processTreeUsageMonitor
+    ManagedChannel channel
+    AgentJobKillService agentJobKillService
+    AgentFileStreamService agentFileStreamService
 
     StreamObserver<ServerHeartBeat> currentResponseObserver
     StreamObserver<AgentHeartBeat> currentRequestObserver
     List<AgentHeartBeat> heartbeatsReceived = Lists.newArrayList()
+    int streamsOpened
+    ServerHeartBeat nextServerHeartBeat
 
     void setup() {
         this.jobId = UUID.randomUUID().toString()
@@ -52,8 +63,24 @@ class GrpcAgentHeartBeatServiceImplSpec extends Specification {
         this.heartBeatFuture = Mock(ScheduledFuture)
         this.grpcServerRule.getServiceRegistry().addService(new TestService())
         this.client = HeartBeatServiceGrpc.newStub(grpcServerRule.getChannel())
-        this.service = new GrpcAgentHeartBeatServiceImpl(client, taskScheduler, serviceProperties)
+        this.processTreeUsageMonitor = Stub(ProcessTreeUsageMonitor) {
+            drainSummary() >> Optional.empty()
+        }
+        this.channel = Mock(ManagedChannel)
+        this.agentJobKillService = Mock(AgentJobKillService)
+        this.agentFileStreamService = Mock(AgentFileStreamService)
+        this.service = new GrpcAgentHeartBeatServiceImpl(
+            client,
+            channel,
+            agentJobKillService,
+            agentFileStreamService,
+            taskScheduler,
+            serviceProperties,
+            processTreeUsageMonitor
+        )
         this.heartbeatsReceived.clear()
+        this.streamsOpened = 0
+        this.nextServerHeartBeat = null
     }
 
     void cleanup() {
@@ -118,6 +145,93 @@ class GrpcAgentHeartBeatServiceImplSpec extends Specification {
         service.isConnected()
     }
 
+    def "Process tree usage is attached to heart beats when available"() {
+        def usageMonitor = Mock(ProcessTreeUsageMonitor)
+        def usageService = new GrpcAgentHeartBeatServiceImpl(
+            client,
+            channel,
+            agentJobKillService,
+            agentFileStreamService,
+            taskScheduler,
+            serviceProperties,
+            usageMonitor
+        )
+        def summary = new ProcessTreeUsageSummary(3, 2048L, 1024L, 1500L, 10L, 20L, 12, 4)
+        Runnable sendHeartBeatsRunnable
+
+        when:
+        usageService.start(jobId)
+
+        then:
+        1 * taskScheduler.scheduleAtFixedRate(_ as Runnable, serviceProperties.getInterval()) >> {
+            args ->
+                sendHeartBeatsRunnable = args[0] as Runnable
+                return heartBeatFuture
+        }
+
+        when:
+        sendHeartBeatsRunnable.run()
+        sendHeartBeatsRunnable.run()
+
+        then:
+        2 * usageMonitor.drainSummary() >>> [Optional.of(summary), Optional.empty()]
+        heartbeatsReceived.size() == 2
+        heartbeatsReceived.every { it.getClaimedJobId() == jobId }
+        heartbeatsReceived[0].hasProcessTreeUsage()
+        with(heartbeatsReceived[0].getProcessTreeUsage()) {
+            getSampleCount() == 3
+            getPeakRssBytes() == 2048L
+            getAverageRssBytes() == 1024L
+            getCpuTimeMillis() == 1500L
+            getIoReadBytes() == 10L
+            getIoWriteBytes() == 20L
+            getPeakThreadCount() == 12
+            getProcessCount() == 4
+        }
+        !heartbeatsReceived[1].hasProcessTreeUsage()
+
+        cleanup:
+        usageService.stop()
+    }
+
+    def "Move to a new connection when the server asks to reconnect"() {
+        Runnable sendHeartBeatsRunnable
+
+        when:
+        service.start(jobId)
+
+        then:
+        1 * taskScheduler.scheduleAtFixedRate(_ as Runnable, serviceProperties.getInterval()) >> {
+            args ->
+                sendHeartBeatsRunnable = args[0] as Runnable
+                return heartBeatFuture
+        }
+        streamsOpened == 1
+
+        when:
+        nextServerHeartBeat = ServerHeartBeat.newBuilder().setReconnect(true).build()
+        sendHeartBeatsRunnable.run()
+
+        then: "The channel goes idle, a new stream is opened and announced right away, the other calls follow"
+        1 * channel.enterIdle()
+        1 * agentJobKillService.reconnect()
+        1 * agentFileStreamService.reconnect()
+        0 * taskScheduler.schedule(_ as Runnable, _ as Instant)
+        streamsOpened == 2
+        heartbeatsReceived.size() == 2
+        heartbeatsReceived.every { it.getClaimedJobId() == jobId }
+        service.isConnected()
+
+        when:
+        heartbeatsReceived.clear()
+        sendHeartBeatsRunnable.run()
+
+        then:
+        0 * channel.enterIdle()
+        heartbeatsReceived.size() == 1
+        service.isConnected()
+    }
+
     def "Double start"() {
         when:
         service.start(jobId)
@@ -136,6 +250,7 @@ class GrpcAgentHeartBeatServiceImplSpec extends Specification {
 
         @Override
         StreamObserver<AgentHeartBeat> heartbeat(final StreamObserver<ServerHeartBeat> responseObserver) {
+            streamsOpened++
             currentResponseObserver = responseObserver
             currentRequestObserver = new StreamObserver<AgentHeartBeat>() {
 
@@ -146,18 +261,20 @@ class GrpcAgentHeartBeatServiceImplSpec extends Specification {
                         heartbeatsReceived.notifyAll()
                     }
 
-                    currentResponseObserver.onNext(ServerHeartBeat.getDefaultInstance())
+                    final ServerHeartBeat serverHeartBeat = nextServerHeartBeat ?: ServerHeartBeat.getDefaultInstance()
+                    nextServerHeartBeat = null
+                    responseObserver.onNext(serverHeartBeat)
                 }
 
                 @Override
                 void onError(final Throwable t) {
-                    currentResponseObserver.onError()
+                    responseObserver.onError(t)
 
                 }
 
                 @Override
                 void onCompleted() {
-                    currentResponseObserver.onCompleted()
+                    responseObserver.onCompleted()
                 }
             }
 
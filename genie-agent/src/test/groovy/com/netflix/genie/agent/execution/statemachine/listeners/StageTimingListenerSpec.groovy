@@ -0,0 +1,90 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.agent.execution.statemachine.listeners
+
+import com.netflix.genie.agent.execution.statemachine.ExecutionContext
+import com.netflix.genie.agent.execution.statemachine.States
+import com.netflix.genie.agent.properties.AgentProperties
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.function.LongSupplier
+
+class StageTimingListenerSpec extends Specification {
+
+    def "Records duration, attempts and retry delay of each state"() {
+        setup:
+        LongSupplier nanoTimeSupplier = Mock(LongSupplier)
+        ExecutionContext executionContext = new ExecutionContext(new AgentProperties())
+        StageTimingListener listener = new StageTimingListener(executionContext, nanoTimeSupplier)
+
+        when:
+        listener.stateEntered(States.HANDSHAKE)
+        listener.beforeStateActionAttempt(States.HANDSHAKE)
+        listener.delayedStateActionRetry(States.HANDSHAKE, 250L)
+        listener.beforeStateActionAttempt(States.HANDSHAKE)
+        listener.delayedStateActionRetry(States.HANDSHAKE, 500L)
+        listener.beforeStateActionAttempt(States.HANDSHAKE)
+
+        then:
+        4 * nanoTimeSupplier.getAsLong() >>> [1_000_000L, 1_000_000L, 251_000_000L, 1_401_000_000L]
+        executionContext.getCurrentStageTiming() == new ExecutionContext.StageTimingRecord(
+            States.HANDSHAKE,
+            Duration.ofMillis(1_400),
+            3,
+            Duration.ofMillis(750)
+        )
+        executionContext.getUnreportedStageTimings().isEmpty()
+
+        when:
+        listener.stateExited(States.HANDSHAKE)
+
+        then:
+        1 * nanoTimeSupplier.getAsLong() >> 1_901_000_000L
+        executionContext.getCurrentStageTiming() == null
+        executionContext.getUnreportedStageTimings() == [
+            new ExecutionContext.StageTimingRecord(
+                States.HANDSHAKE,
+                Duration.ofMillis(1_900),
+                3,
+                Duration.ofMillis(750)
+            )
+        ]
+
+        when: "A skipped state has no attempts"
+        listener.stateEntered(States.ARCHIVE)
+        listener.stateSkipped(States.ARCHIVE)
+        listener.stateExited(States.ARCHIVE)
+
+        then:
+        2 * nanoTimeSupplier.getAsLong() >>> [2_000_000_000L, 2_000_500_000L]
+        executionContext.getUnreportedStageTimings().size() == 2
+        executionContext.getUnreportedStageTimings()[1] == new ExecutionContext.StageTimingRecord(
+            States.ARCHIVE,
+            Duration.ofNanos(500_000L),
+            0,
+            Duration.ZERO
+        )
+
+        when:
+        executionContext.markStageTimingsReported(1)
+
+        then:
+        executionContext.getUnreportedStageTimings()*.getState() == [States.ARCHIVE]
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.agent.execution.statemachine.listeners
+
+import com.netflix.genie.agent.execution.statemachine.States
+import spock.lang.Specification
+
+import java.util.function.LongSupplier
+
+class StartupTimingListenerSpec extends Specification {
+
+    def "Records startup milestones"() {
+        setup:
+        LongSupplier uptimeSupplier = Mock(LongSupplier)
+        StartupTimingListener listener = new StartupTimingListener(uptimeSupplier)
+
+        expect:
+        !listener.getTimeToHandshake().isPresent()
+        !listener.getTimeToClaim().isPresent()
+
+        when:
+        listener.stateExited(States.INITIALIZE_AGENT)
+        listener.stateExited(States.HANDSHAKE)
+
+        then:
+        1 * uptimeSupplier.getAsLong() >> 1_200L
+        listener.getTimeToHandshake() == Optional.of(1_200L)
+        !listener.getTimeToClaim().isPresent()
+
+        when:
+        listener.stateExited(States.RESERVE_JOB_ID)
+        listener.stateExited(States.CLAIM_JOB)
+        listener.stateMachineStopped()
+
+        then:
+        1 * uptimeSupplier.getAsLong() >> 1_750L
+        listener.getTimeToHandshake() == Optional.of(1_200L)
+        listener.getTimeToClaim() == Optional.of(1_750L)
+    }
+}
@@ -21,6 +21,7 @@ import com.netflix.genie.agent.execution.exceptions.ChangeJobArchiveStatusExcept
 import com.netflix.genie.agent.execution.services.AgentJobService
 import com.netflix.genie.agent.execution.statemachine.ExecutionContext
 import com.netflix.genie.agent.execution.statemachine.ExecutionStage
+import com.netflix.genie.agent.execution.statemachine.States
 import com.netflix.genie.common.internal.dtos.ArchiveStatus
 import com.netflix.genie.common.internal.dtos.JobSpecification
 import com.netflix.genie.common.internal.exceptions.checked.JobArchiveException
@@ -28,6 +29,7 @@ import com.netflix.genie.common.internal.services.JobArchiveService
 import spock.lang.Specification
 
 import java.nio.file.Path
+import java.time.Duration
 
 class ArchiveJobOutputsStageSpec extends Specification {
     ExecutionStage stage
@@ -39,6 +41,7 @@ class ArchiveJobOutputsStageSpec extends Specification {
     String archiveLocation
     Path jobDirPath
     String jobId
+    ExecutionContext.StageTimingRecord stopKillServiceTiming
 
     void setup() {
         this.executionContext = Mock(ExecutionContext)
@@ -49,6 +52,12 @@ class ArchiveJobOutputsStageSpec extends Specification {
         this.archiveLocation = "s3://genie-logs/foo/bar"
         this.jobDirPath = Mock(Path)
         this.jobId = UUID.randomUUID().toString()
+        this.stopKillServiceTiming = new ExecutionContext.StageTimingRecord(
+            States.STOP_KILL_SERVICE,
+            Duration.ofMillis(5),
+            1,
+            Duration.ZERO
+        )
         this.stage = new ArchiveJobOutputsStage(jobArchiveService, agentJobService)
     }
 
@@ -63,7 +72,50 @@ class ArchiveJobOutputsStageSpec extends Specification {
         1 * jobSpec.getArchiveLocation() >> Optional.of(archiveLocation)
         1 * jobDir.toPath() >> jobDirPath
         1 * jobArchiveService.archiveDirectory(jobDirPath, _ as URI)
-        1 * agentJobService.changeJobArchiveStatus(jobId, ArchiveStatus.ARCHIVED)
+        1 * executionContext.getUnreportedStageTimings() >> [stopKillServiceTiming]
+        1 * agentJobService.changeJobArchiveStatus(jobId, ArchiveStatus.ARCHIVED, _ as List) >> {
+            args ->
+                List<ExecutionContext.StageTimingRecord> stageTimings = args[2] as List
+                assert stageTimings.size() == 2
+                assert stageTimings[0] == stopKillServiceTiming
+                assert stageTimings[1].getState() == States.ARCHIVE
+                assert stageTimings[1].getAttempts() == 1
+                assert stageTimings[1].getRetryDelay() == Duration.ZERO
+        }
+        1 * executionContext.markStageTimingsReported(1)
+    }
+
+    def "AttemptTransition - retried stage reports its attempts"() {
+        setup:
+        def attemptTiming = new ExecutionContext.StageTimingRecord(
+            States.ARCHIVE,
+            Duration.ofSeconds(3),
+            2,
+            Duration.ofSeconds(1)
+        )
+
+        when:
+        stage.attemptStageAction(executionContext)
+
+        then:
+        1 * executionContext.getJobSpecification() >> jobSpec
+        1 * executionContext.getJobDirectory() >> jobDir
+        1 * executionContext.getClaimedJobId() >> jobId
+        1 * jobSpec.getArchiveLocation() >> Optional.of(archiveLocation)
+        1 * jobDir.toPath() >> jobDirPath
+        1 * jobArchiveService.archiveDirectory(jobDirPath, _ as URI)
+        1 * executionContext.getUnreportedStageTimings() >> []
+        1 * executionContext.getCurrentStageTiming() >> attemptTiming
+        1 * agentJobService.changeJobArchiveStatus(jobId, ArchiveStatus.ARCHIVED, _ as List) >> {
+            args ->
+                List<ExecutionContext.StageTimingRecord> stageTimings = args[2] as List
+                assert stageTimings.size() == 1
+                assert stageTimings[0].getState() == States.ARCHIVE
+                assert stageTimings[0].getDuration() >= Duration.ofSeconds(3)
+                assert stageTimings[0].getAttempts() == 2
+                assert stageTimings[0].getRetryDelay() == Duration.ofSeconds(1)
+        }
+        1 * executionContext.markStageTimingsReported(0)
     }
 
     def "AttemptTransition - no spec"() {
@@ -96,7 +148,9 @@ class ArchiveJobOutputsStageSpec extends Specification {
         1 * jobSpec.getArchiveLocation() >> Optional.of(archiveLocation)
         1 * jobDir.toPath() >> jobDirPath
         1 * jobArchiveService.archiveDirectory(jobDirPath, _ as URI) >> { throw new JobArchiveException() }
-        1 * agentJobService.changeJobArchiveStatus(jobId, ArchiveStatus.FAILED)
+        1 * executionContext.getUnreportedStageTimings() >> []
+        1 * agentJobService.changeJobArchiveStatus(jobId, ArchiveStatus.FAILED, { it.size() == 1 })
+        1 * executionContext.markStageTimingsReported(0)
         noExceptionThrown()
     }
 
@@ -111,7 +165,11 @@ class ArchiveJobOutputsStageSpec extends Specification {
         1 * jobSpec.getArchiveLocation() >> Optional.of(archiveLocation)
         1 * jobDir.toPath() >> jobDirPath
         1 * jobArchiveService.archiveDirectory(jobDirPath, _ as URI)
-        1 * agentJobService.changeJobArchiveStatus(jobId, ArchiveStatus.ARCHIVED) >> { throw new ChangeJobArchiveStatusException("...") }
+        1 * executionContext.getUnreportedStageTimings() >> [stopKillServiceTiming]
+        1 * agentJobService.changeJobArchiveStatus(jobId, ArchiveStatus.ARCHIVED, _ as List) >> {
+            throw new ChangeJobArchiveStatusException("...")
+        }
+        0 * executionContext.markStageTimingsReported(_)
         noExceptionThrown()
     }
 
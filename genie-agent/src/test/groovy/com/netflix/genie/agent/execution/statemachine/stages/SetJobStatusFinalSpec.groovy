@@ -35,7 +35,7 @@ class SetJobStatusFinalSpec extends UpdateJobStatusStageSpec {
         0 * executionContext.getCurrentJobStatus() >> currentStatus
         0 * executionContext.getNextJobStatus() >> nextStatus
         0 * executionContext.getNextJobStatusMessage() >> nextStatusMessage
-        0 * agentJobService.changeJobStatus(jobId, currentStatus, nextStatus, nextStatusMessage)
+        0 * agentJobService.changeJobStatus(_, _, _, _, _)
         1 * executionContext.setCurrentJobStatus(JobStatus.FAILED)
     }
 }
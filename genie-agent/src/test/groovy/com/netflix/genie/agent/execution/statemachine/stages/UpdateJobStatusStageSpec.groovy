@@ -23,10 +23,13 @@ import com.netflix.genie.agent.execution.statemachine.ExecutionContext
 import com.netflix.genie.agent.execution.statemachine.ExecutionStage
 import com.netflix.genie.agent.execution.statemachine.FatalJobExecutionException
 import com.netflix.genie.agent.execution.statemachine.RetryableJobExecutionException
+import com.netflix.genie.agent.execution.statemachine.States
 import com.netflix.genie.common.internal.dtos.JobStatus
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieRuntimeException
 import spock.lang.Specification
 
+import java.time.Duration
+
 abstract class UpdateJobStatusStageSpec extends Specification {
     ExecutionStage stage
     ExecutionContext executionContext
@@ -35,6 +38,7 @@ abstract class UpdateJobStatusStageSpec extends Specification {
     JobStatus nextStatus
     String nextStatusMessage
     AgentJobService agentJobService
+    List<ExecutionContext.StageTimingRecord> stageTimings
 
     protected void _setup(
         Class<ExecutionStage> executionStageClass,
@@ -46,6 +50,10 @@ abstract class UpdateJobStatusStageSpec extends Specification {
         this.currentStatus = currentStatus
         this.nextStatus = nextStatus
         this.nextStatusMessage = "..."
+        this.stageTimings = [
+            new ExecutionContext.StageTimingRecord(States.HANDSHAKE, Duration.ofMillis(300), 2, Duration.ofMillis(100)),
+            new ExecutionContext.StageTimingRecord(States.CLAIM_JOB, Duration.ofMillis(20), 1, Duration.ZERO)
+        ]
         this.executionContext = Mock(ExecutionContext)
         this.stage = executionStageClass.getConstructor(AgentJobService).newInstance(agentJobService)
         this.agentJobService = agentJobService
@@ -60,8 +68,10 @@ abstract class UpdateJobStatusStageSpec extends Specification {
         1 * executionContext.getCurrentJobStatus() >> currentStatus
         1 * executionContext.getNextJobStatus() >> nextStatus
         1 * executionContext.getNextJobStatusMessage() >> nextStatusMessage
-        1 * agentJobService.changeJobStatus(jobId, currentStatus, nextStatus, nextStatusMessage)
+        1 * executionContext.getUnreportedStageTimings() >> stageTimings
+        1 * agentJobService.changeJobStatus(jobId, currentStatus, nextStatus, nextStatusMessage, stageTimings)
         1 * executionContext.setCurrentJobStatus(nextStatus)
+        1 * executionContext.markStageTimingsReported(2)
     }
 
     def "AttemptTransition -- skip due to invalid status"() {
@@ -73,8 +83,9 @@ abstract class UpdateJobStatusStageSpec extends Specification {
         1 * executionContext.getCurrentJobStatus() >> currentStatus
         1 * executionContext.getNextJobStatus() >> JobStatus.INVALID
         1 * executionContext.getNextJobStatusMessage() >> null
-        0 * agentJobService.changeJobStatus(jobId, currentStatus, nextStatus, nextStatusMessage)
+        0 * agentJobService.changeJobStatus(_, _, _, _, _)
         0 * executionContext.setCurrentJobStatus(nextStatus)
+        0 * executionContext.markStageTimingsReported(_)
     }
 
     def "AttemptTransition -- fatal error"() {
@@ -89,8 +100,12 @@ abstract class UpdateJobStatusStageSpec extends Specification {
         1 * executionContext.getCurrentJobStatus() >> currentStatus
         1 * executionContext.getNextJobStatus() >> nextStatus
         1 * executionContext.getNextJobStatusMessage() >> nextStatusMessage
-        1 * agentJobService.changeJobStatus(jobId, currentStatus, nextStatus, nextStatusMessage) >> { throw changeStatusException }
+        1 * executionContext.getUnreportedStageTimings() >> stageTimings
+        1 * agentJobService.changeJobStatus(jobId, currentStatus, nextStatus, nextStatusMessage, stageTimings) >> {
+            throw changeStatusException
+        }
         0 * executionContext.setCurrentJobStatus(nextStatus)
+        0 * executionContext.markStageTimingsReported(_)
         def e = thrown(FatalJobExecutionException)
         e.getCause() == changeStatusException
     }
@@ -107,8 +122,12 @@ abstract class UpdateJobStatusStageSpec extends Specification {
         1 * executionContext.getCurrentJobStatus() >> currentStatus
         1 * executionContext.getNextJobStatus() >> nextStatus
         1 * executionContext.getNextJobStatusMessage() >> nextStatusMessage
-        1 * agentJobService.changeJobStatus(jobId, currentStatus, nextStatus, nextStatusMessage) >> { throw changeStatusException }
+        1 * executionContext.getUnreportedStageTimings() >> stageTimings
+        1 * agentJobService.changeJobStatus(jobId, currentStatus, nextStatus, nextStatusMessage, stageTimings) >> {
+            throw changeStatusException
+        }
         0 * executionContext.setCurrentJobStatus(nextStatus)
+        0 * executionContext.markStageTimingsReported(_)
         def e = thrown(RetryableJobExecutionException)
         e.getCause() == changeStatusException
     }
@@ -37,6 +37,7 @@ class AgentPropertiesSpec extends Specification {
         agentProperties.getHeartBeatService() != null
         agentProperties.getJobKillService() != null
         agentProperties.getJobMonitorService() != null
+        agentProperties.getProcessTreeUsageMonitor() != null
         agentProperties.getShutdown() != null
         agentProperties.getJobSetupService() != null
 
@@ -45,6 +46,7 @@ class AgentPropertiesSpec extends Specification {
         def heartBeatServiceProps = Mock(HeartBeatServiceProperties)
         def jobKillServiceProps = Mock(JobKillServiceProperties)
         def jobLimitsProps = Mock(JobMonitorServiceProperties)
+        def processTreeUsageMonitorProps = Mock(ProcessTreeUsageMonitorProperties)
         def shutdownProps = Mock(ShutdownProperties)
         def setupJobServiceProps = Mock(JobSetupServiceProperties)
 
@@ -54,6 +56,7 @@ class AgentPropertiesSpec extends Specification {
         agentProperties.setHeartBeatService(heartBeatServiceProps)
         agentProperties.setJobKillService(jobKillServiceProps)
         agentProperties.setJobMonitorService(jobLimitsProps)
+        agentProperties.setProcessTreeUsageMonitor(processTreeUsageMonitorProps)
         agentProperties.setShutdown(shutdownProps)
         agentProperties.setJobSetupService(setupJobServiceProps)
 
@@ -64,6 +67,7 @@ class AgentPropertiesSpec extends Specification {
         agentProperties.getHeartBeatService() == heartBeatServiceProps
         agentProperties.getJobKillService() == jobKillServiceProps
         agentProperties.getJobMonitorService() == jobLimitsProps
+        agentProperties.getProcessTreeUsageMonitor() == processTreeUsageMonitorProps
         agentProperties.getShutdown() == shutdownProps
         agentProperties.getJobSetupService() == setupJobServiceProps
     }
@@ -0,0 +1,42 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.agent.properties
+
+import spock.lang.Specification
+
+import java.time.Duration
+
+class ProcessTreeUsageMonitorPropertiesSpec extends Specification {
+
+    def "Defaults, setters, getters"() {
+        setup:
+        ProcessTreeUsageMonitorProperties props = new ProcessTreeUsageMonitorProperties()
+
+        expect:
+        props.isEnabled()
+        props.getSampleInterval() == Duration.ofSeconds(10)
+
+        when:
+        props.setEnabled(false)
+        props.setSampleInterval(Duration.ofSeconds(30))
+
+        then:
+        !props.isEnabled()
+        props.getSampleInterval() == Duration.ofSeconds(30)
+    }
+}
@@ -36,6 +36,8 @@ import com.netflix.genie.agent.execution.statemachine.ExecutionStage;
 import com.netflix.genie.agent.execution.statemachine.JobExecutionStateMachine;
 import com.netflix.genie.agent.execution.statemachine.listeners.ConsoleLogListener;
 import com.netflix.genie.agent.execution.statemachine.listeners.LoggingListener;
+import com.netflix.genie.agent.execution.statemachine.listeners.StageTimingListener;
+import com.netflix.genie.agent.execution.statemachine.listeners.StartupTimingListener;
 import com.netflix.genie.agent.execution.statemachine.stages.ArchiveJobOutputsStage;
 import com.netflix.genie.agent.execution.statemachine.stages.ClaimJobStage;
 import com.netflix.genie.agent.execution.statemachine.stages.CleanupJobDirectoryStage;
@@ -138,6 +140,8 @@ class ExecutionAutoConfigurationTest {
             context -> {
                 Assertions.assertThat(context).hasSingleBean(LoggingListener.class);
                 Assertions.assertThat(context).hasSingleBean(ConsoleLogListener.class);
+                Assertions.assertThat(context).hasSingleBean(StartupTimingListener.class);
+                Assertions.assertThat(context).hasSingleBean(StageTimingListener.class);
                 Assertions.assertThat(context).hasSingleBean(ExecutionContext.class);
                 Assertions.assertThat(context).hasSingleBean(JobExecutionStateMachine.class);
                 Assertions.assertThat(context).hasSingleBean(AgentProperties.class);
@@ -18,6 +18,7 @@
 package com.netflix.genie.agent.execution.services.impl.grpc;
 
 import com.netflix.genie.agent.cli.ArgumentDelegates;
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageMonitor;
 import com.netflix.genie.agent.execution.services.AgentFileStreamService;
 import com.netflix.genie.agent.execution.services.AgentHeartBeatService;
 import com.netflix.genie.agent.execution.services.AgentJobKillService;
@@ -102,5 +103,10 @@ class GRpcServicesAutoConfigurationTest {
         JobDirectoryManifestProtoConverter jobDirectoryManifestProtoConverter() {
             return Mockito.mock(JobDirectoryManifestProtoConverter.class);
         }
+
+        @Bean
+        ProcessTreeUsageMonitor processTreeUsageMonitor() {
+            return Mockito.mock(ProcessTreeUsageMonitor.class);
+        }
     }
 }
@@ -19,7 +19,9 @@ package com.netflix.genie.agent.spring.autoconfigure;
 
 import brave.Tracer;
 import com.netflix.genie.agent.execution.process.JobProcessManager;
+import com.netflix.genie.agent.execution.process.ProcessTreeUsageMonitor;
 import com.netflix.genie.agent.execution.process.impl.JobProcessManagerImpl;
+import com.netflix.genie.agent.execution.process.impl.ProcfsProcessTreeUsageMonitorImpl;
 import com.netflix.genie.common.internal.tracing.brave.BraveTagAdapter;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracePropagator;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingCleanup;
@@ -53,6 +55,8 @@ class ProcessAutoConfigurationTest {
             context -> {
                 Assertions.assertThat(context).hasSingleBean(JobProcessManagerImpl.class);
                 Assertions.assertThat(context).hasSingleBean(JobProcessManager.class);
+                Assertions.assertThat(context).hasSingleBean(ProcfsProcessTreeUsageMonitorImpl.class);
+                Assertions.assertThat(context).hasSingleBean(ProcessTreeUsageMonitor.class);
             }
         );
     }
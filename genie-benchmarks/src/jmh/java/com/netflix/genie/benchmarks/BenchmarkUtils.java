@@ -0,0 +1,81 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Utilities shared by the benchmarks to build their inputs.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+final class BenchmarkUtils {
+
+    private static final int FILES_PER_DIRECTORY = 100;
+    private static final int DIRECTORIES_PER_DIRECTORY = 100;
+    private static final int FILE_SIZE = 1_024;
+
+    private BenchmarkUtils() {
+    }
+
+    /**
+     * Create a temporary directory tree resembling a job directory with the given number of files. Files are spread
+     * over two levels of directories so that no directory holds an unrealistic number of entries.
+     *
+     * @param numFiles The number of files to create
+     * @return The root of the tree
+     * @throws IOException On error creating the tree
+     */
+    static Path createDirectoryTree(final int numFiles) throws IOException {
+        final Path root = Files.createTempDirectory("genie-benchmarks-");
+        final Random random = new Random(numFiles);
+        final byte[] content = new byte[FILE_SIZE];
+        for (int i = 0; i < numFiles; i++) {
+            final int directory = i / FILES_PER_DIRECTORY;
+            final Path parent = root
+                .resolve("level-" + directory / DIRECTORIES_PER_DIRECTORY)
+                .resolve("dir-" + directory % DIRECTORIES_PER_DIRECTORY);
+            if (i % FILES_PER_DIRECTORY == 0) {
+                Files.createDirectories(parent);
+            }
+            random.nextBytes(content);
+            Files.write(parent.resolve("file-" + i + (i % 2 == 0 ? ".log" : ".txt")), content);
+        }
+        return root;
+    }
+
+    /**
+     * Delete the given directory and everything under it.
+     *
+     * @param root The directory to delete
+     * @throws IOException On error deleting
+     */
+    static void deleteDirectoryTree(final Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (final Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
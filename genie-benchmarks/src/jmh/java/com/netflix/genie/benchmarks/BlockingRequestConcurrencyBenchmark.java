@@ -0,0 +1,141 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.netflix.genie.web.util.StreamBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmarks how many requests for a file of a running job can be completed per second when they all arrive at once.
+ * Each request blocks reading a {@link StreamBuffer} until the agent sends the file, as the servlet thread serving
+ * the job output does, while a single thread standing in for the gRPC transport delivers the files after the
+ * configured delay. Subclasses provide the threads the requests are served on.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class BlockingRequestConcurrencyBenchmark {
+
+    private static final int REQUESTS_PER_OPERATION = 1_000;
+    private static final ByteString FILE_CONTENT = ByteString.copyFromUtf8("Hello from the agent\n");
+
+    /**
+     * How long the agent takes to send the file in milliseconds.
+     */
+    @Param({"1", "10"})
+    public long blockMillis;
+
+    private Executor executor;
+    private ScheduledExecutorService transportExecutor;
+
+    /**
+     * Create the executor serving the requests and the transport thread.
+     */
+    @Setup
+    public void setup() {
+        this.transportExecutor = Executors.newSingleThreadScheduledExecutor();
+        this.executor = this.createExecutor();
+    }
+
+    /**
+     * Stop the transport thread and the executor serving the requests.
+     */
+    @TearDown
+    public void tearDown() {
+        this.transportExecutor.shutdownNow();
+        this.shutdownExecutor();
+    }
+
+    /**
+     * Submit a burst of file requests and wait for all of them to complete.
+     *
+     * @return The number of bytes read by all the requests
+     * @throws InterruptedException If interrupted while waiting for the requests
+     */
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS_PER_OPERATION)
+    public long burst() throws InterruptedException {
+        final CountDownLatch completed = new CountDownLatch(REQUESTS_PER_OPERATION);
+        final AtomicLong bytesRead = new AtomicLong();
+        for (int i = 0; i < REQUESTS_PER_OPERATION; i++) {
+            final StreamBuffer buffer = new StreamBuffer(0L);
+            this.transportExecutor.schedule(
+                () -> {
+                    buffer.write(FILE_CONTENT);
+                    buffer.closeForCompleted();
+                },
+                this.blockMillis,
+                TimeUnit.MILLISECONDS
+            );
+            this.executor.execute(
+                () -> {
+                    try (InputStream inputStream = buffer.getInputStream()) {
+                        bytesRead.addAndGet(inputStream.transferTo(OutputStream.nullOutputStream()));
+                    } catch (final IOException e) {
+                        throw new IllegalStateException(e);
+                    } finally {
+                        completed.countDown();
+                    }
+                }
+            );
+        }
+        completed.await();
+        return bytesRead.get();
+    }
+
+    /**
+     * Create the executor the requests are served on.
+     *
+     * @return The executor
+     */
+    protected abstract Executor createExecutor();
+
+    /**
+     * Release the threads of the executor created by {@link #createExecutor()}.
+     */
+    protected abstract void shutdownExecutor();
+}
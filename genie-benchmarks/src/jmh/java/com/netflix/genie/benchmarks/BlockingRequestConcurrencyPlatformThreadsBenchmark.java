@@ -0,0 +1,53 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves the requests of {@link BlockingRequestConcurrencyBenchmark} on a fixed pool the size of Tomcat's default
+ * maximum of 200 threads.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public class BlockingRequestConcurrencyPlatformThreadsBenchmark extends BlockingRequestConcurrencyBenchmark {
+
+    private static final int POOL_SIZE = 200;
+
+    private ExecutorService pool;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Executor createExecutor() {
+        this.pool = Executors.newFixedThreadPool(POOL_SIZE);
+        return this.pool;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void shutdownExecutor() {
+        this.pool.shutdownNow();
+    }
+}
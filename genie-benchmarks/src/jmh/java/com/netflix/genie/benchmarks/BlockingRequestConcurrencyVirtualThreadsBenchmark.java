@@ -0,0 +1,54 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Serves each request of {@link BlockingRequestConcurrencyBenchmark} on its own virtual thread as the server does
+ * when {@literal spring.threads.virtual.enabled} is set.
+ * <p>
+ * Virtual threads require a Java 21 runtime. The Gradle build only runs this benchmark when the benchmarks run on
+ * Java 21 or later, which is when Gradle itself runs on Java 21 or later or when {@literal -PjmhJavaVersion=21} is
+ * passed.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public class BlockingRequestConcurrencyVirtualThreadsBenchmark extends BlockingRequestConcurrencyBenchmark {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Executor createExecutor() {
+        final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("benchmark-");
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void shutdownExecutor() {
+        // Virtual threads aren't pooled, each one ends with its request
+    }
+}
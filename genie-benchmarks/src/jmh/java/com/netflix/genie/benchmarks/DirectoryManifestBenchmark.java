@@ -0,0 +1,102 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import com.netflix.genie.common.internal.dtos.DirectoryManifest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link DirectoryManifest.Factory} walking job directories of various sizes, as done by the agent for
+ * every manifest it sends to the server.
+ * <p>
+ * The largest trees are expensive to create so they aren't part of the default parameters. They can be run from the
+ * benchmarks jar with {@code -p numFiles=1000000}.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DirectoryManifestBenchmark {
+
+    /**
+     * The number of files in the directory tree.
+     */
+    @Param({"1000", "10000", "100000"})
+    public int numFiles;
+
+    /**
+     * Whether the manifest includes the checksum of every file.
+     */
+    @Param({"false", "true"})
+    public boolean includeChecksum;
+
+    private Path root;
+    private DirectoryManifest.Factory factory;
+
+    /**
+     * Create the directory tree.
+     *
+     * @throws IOException On error creating the tree
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.root = BenchmarkUtils.createDirectoryTree(this.numFiles);
+        this.factory = new DirectoryManifest.Factory();
+    }
+
+    /**
+     * Delete the directory tree.
+     *
+     * @throws IOException On error deleting the tree
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkUtils.deleteDirectoryTree(this.root);
+    }
+
+    /**
+     * Create a manifest of the whole tree.
+     *
+     * @return The manifest
+     * @throws IOException On error walking the tree
+     */
+    @Benchmark
+    public DirectoryManifest createManifest() throws IOException {
+        return this.factory.getDirectoryManifest(this.root, this.includeChecksum);
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.netflix.genie.common.dto.ClusterCriteria;
+import com.netflix.genie.common.exceptions.GeniePreconditionException;
+import com.netflix.genie.common.internal.dtos.AgentClientMetadata;
+import com.netflix.genie.common.internal.dtos.Cluster;
+import com.netflix.genie.common.internal.dtos.ClusterStatus;
+import com.netflix.genie.common.internal.dtos.JobRequest;
+import com.netflix.genie.common.internal.dtos.converters.DtoConverters;
+import com.netflix.genie.common.internal.dtos.converters.JobServiceProtoConverter;
+import com.netflix.genie.common.internal.exceptions.checked.GenieConversionException;
+import com.netflix.genie.proto.ReserveJobIdRequest;
+import com.netflix.genie.web.data.services.impl.jpa.converters.EntityV4DtoConverters;
+import com.netflix.genie.web.data.services.impl.jpa.entities.ClusterEntity;
+import com.netflix.genie.web.data.services.impl.jpa.entities.FileEntity;
+import com.netflix.genie.web.data.services.impl.jpa.entities.TagEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks the conversions every job goes through: V3 to V4 DTOs on API submission, V4 DTOs to protos and back on
+ * agent submission and entities to V4 DTOs on every read from the database.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoConvertersBenchmark {
+
+    private static final int NUM_TAGS = 10;
+
+    private final JobServiceProtoConverter jobServiceProtoConverter = new JobServiceProtoConverter();
+    private final AgentClientMetadata agentClientMetadata = new AgentClientMetadata("localhost", "4.4.0", 1234);
+    private com.netflix.genie.common.dto.JobRequest v3JobRequest;
+    private JobRequest v4JobRequest;
+    private ReserveJobIdRequest reserveJobIdRequest;
+    private ClusterEntity clusterEntity;
+
+    /**
+     * Create the objects to convert.
+     *
+     * @throws GeniePreconditionException On invalid V3 job request
+     * @throws GenieConversionException   On error converting to a proto
+     */
+    @Setup
+    public void setup() throws GeniePreconditionException, GenieConversionException {
+        this.v3JobRequest = new com.netflix.genie.common.dto.JobRequest.Builder(
+            "benchmark",
+            "genie",
+            "1.0.0",
+            Lists.newArrayList(
+                new ClusterCriteria(tags("sched")),
+                new ClusterCriteria(tags("type"))
+            ),
+            tags("command")
+        )
+            .withCommandArgs(Lists.newArrayList("-f", "query.sql", "--verbose"))
+            .withApplications(Lists.newArrayList("spark", "hadoop"))
+            .withDependencies(tags("s3://bucket/dependency"))
+            .withConfigs(tags("s3://bucket/config"))
+            .withTags(tags("tag"))
+            .withCpu(4)
+            .withMemory(8_192)
+            .withTimeout(3_600)
+            .build();
+        this.v4JobRequest = DtoConverters.toV4JobRequest(this.v3JobRequest);
+        this.reserveJobIdRequest = this.jobServiceProtoConverter.toReserveJobIdRequestProto(
+            this.v4JobRequest,
+            this.agentClientMetadata
+        );
+
+        this.clusterEntity = new ClusterEntity();
+        this.clusterEntity.setUniqueId(UUID.randomUUID().toString());
+        this.clusterEntity.setName("benchmark");
+        this.clusterEntity.setUser("genie");
+        this.clusterEntity.setVersion("1.0.0");
+        this.clusterEntity.setStatus(ClusterStatus.UP.name());
+        this.clusterEntity.setDescription("A cluster to benchmark conversions with");
+        this.clusterEntity.setTags(
+            tags("tag").stream().map(
+                tag -> {
+                    final TagEntity tagEntity = new TagEntity();
+                    tagEntity.setTag(tag);
+                    return tagEntity;
+                }
+            ).collect(Collectors.toSet())
+        );
+        this.clusterEntity.setConfigs(
+            tags("s3://bucket/config").stream().map(FileEntity::new).collect(Collectors.toSet())
+        );
+        this.clusterEntity.setDependencies(
+            tags("s3://bucket/dependency").stream().map(FileEntity::new).collect(Collectors.toSet())
+        );
+        this.clusterEntity.setSetupFile(new FileEntity("s3://bucket/setup.sh"));
+    }
+
+    /**
+     * Convert a V3 job request, as submitted to the API, to a V4 job request.
+     *
+     * @return The V4 job request
+     * @throws GeniePreconditionException On invalid V3 job request
+     */
+    @Benchmark
+    public JobRequest v3ToV4JobRequest() throws GeniePreconditionException {
+        return DtoConverters.toV4JobRequest(this.v3JobRequest);
+    }
+
+    /**
+     * Convert a V4 job request back to a V3 job request, as done when the API returns a job request.
+     *
+     * @return The V3 job request
+     */
+    @Benchmark
+    public com.netflix.genie.common.dto.JobRequest v4ToV3JobRequest() {
+        return DtoConverters.toV3JobRequest(this.v4JobRequest);
+    }
+
+    /**
+     * Convert a job request to the proto the agent sends to reserve a job id.
+     *
+     * @return The proto
+     * @throws GenieConversionException On error converting
+     */
+    @Benchmark
+    public ReserveJobIdRequest jobRequestToProto() throws GenieConversionException {
+        return this.jobServiceProtoConverter.toReserveJobIdRequestProto(this.v4JobRequest, this.agentClientMetadata);
+    }
+
+    /**
+     * Convert the proto the agent sends to reserve a job id back to a job request, as done by the server.
+     *
+     * @return The job request
+     * @throws GenieConversionException On error converting
+     */
+    @Benchmark
+    public JobRequest protoToJobRequest() throws GenieConversionException {
+        return this.jobServiceProtoConverter.toJobRequestDto(this.reserveJobIdRequest);
+    }
+
+    /**
+     * Convert a cluster entity to a V4 DTO, as done for every cluster read from the database.
+     *
+     * @return The cluster
+     */
+    @Benchmark
+    public Cluster clusterEntityToDto() {
+        return EntityV4DtoConverters.toV4ClusterDto(this.clusterEntity);
+    }
+
+    private static Set<String> tags(final String prefix) {
+        final List<String> tags = IntStream
+            .range(0, NUM_TAGS)
+            .mapToObj(i -> prefix + ":" + i)
+            .collect(Collectors.toList());
+        return Sets.newHashSet(tags);
+    }
+}
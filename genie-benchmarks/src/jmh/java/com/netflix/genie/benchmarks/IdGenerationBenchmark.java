@@ -0,0 +1,178 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import com.netflix.genie.web.data.ids.IdGenerator;
+import com.netflix.genie.web.data.ids.RandomUuidIdGenerator;
+import com.netflix.genie.web.data.ids.TimeOrderedUuidIdGenerator;
+import com.netflix.genie.web.properties.IdGenerationProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks inserting rows keyed by generated ids into a table shaped like the jobs table, which has a unique index on
+ * the id. Random ids scatter inserts across the whole index while time ordered ids append to its right edge, which
+ * matters more the larger the table gets compared to the buffer pool.
+ * <p>
+ * By default this runs against an in-memory H2 database in MySQL mode. Other databases can be targeted by overriding
+ * the connection parameters, for example
+ * {@code -Pjmh.params=jdbcUrl=jdbc:postgresql://localhost:5432/genie,user=genie,password=genie} or through the JMH
+ * command line with {@code -p jdbcUrl=...}. The table is created and dropped by the benchmark.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IdGenerationBenchmark {
+
+    private static final String TABLE_NAME = "id_generation_benchmark";
+    private static final int BATCH_SIZE = 100;
+
+    /**
+     * How the ids are generated.
+     */
+    @Param({"RANDOM", "TIME_ORDERED"})
+    public IdGenerationProperties.Strategy strategy;
+
+    /**
+     * The number of rows inserted before measuring so the index isn't trivially small.
+     */
+    @Param({"100000"})
+    public int existingRows;
+
+    /**
+     * The JDBC URL of the database to insert into.
+     */
+    @Param({"jdbc:h2:mem:ids;MODE=MySQL;DB_CLOSE_DELAY=-1"})
+    public String jdbcUrl;
+
+    /**
+     * The database user.
+     */
+    @Param({"sa"})
+    public String user;
+
+    /**
+     * The database password.
+     */
+    @Param({""})
+    public String password;
+
+    private IdGenerator idGenerator;
+    private Connection connection;
+    private PreparedStatement insert;
+    private long nextPrimaryKey;
+
+    /**
+     * Create the table and fill it with the existing rows.
+     *
+     * @throws SQLException On error setting up the database
+     */
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        this.idGenerator = this.strategy == IdGenerationProperties.Strategy.TIME_ORDERED
+            ? new TimeOrderedUuidIdGenerator()
+            : new RandomUuidIdGenerator();
+        this.connection = DriverManager.getConnection(this.jdbcUrl, this.user, this.password);
+        this.connection.setAutoCommit(false);
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE_NAME);
+            statement.execute(
+                "CREATE TABLE " + TABLE_NAME + " ("
+                    + "id BIGINT NOT NULL PRIMARY KEY, "
+                    + "unique_id VARCHAR(255) NOT NULL, "
+                    + "name VARCHAR(255) NOT NULL, "
+                    + "CONSTRAINT " + TABLE_NAME + "_unique_id_uk UNIQUE (unique_id))"
+            );
+        }
+        this.connection.commit();
+        this.insert = this.connection.prepareStatement(
+            "INSERT INTO " + TABLE_NAME + " (id, unique_id, name) VALUES (?, ?, ?)"
+        );
+        for (int i = 0; i < this.existingRows; i += BATCH_SIZE) {
+            this.insertBatch();
+        }
+    }
+
+    /**
+     * Drop the table and close the connection.
+     *
+     * @throws SQLException On error cleaning up the database
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        this.insert.close();
+        try (Statement statement = this.connection.createStatement()) {
+            statement.execute("DROP TABLE " + TABLE_NAME);
+        }
+        this.connection.commit();
+        this.connection.close();
+    }
+
+    /**
+     * Insert and commit a batch of rows with newly generated ids.
+     *
+     * @return The number of rows inserted
+     * @throws SQLException On error inserting
+     */
+    @Benchmark
+    public int insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            this.insert.setLong(1, this.nextPrimaryKey++);
+            this.insert.setString(2, this.idGenerator.generateId());
+            this.insert.setString(3, "benchmark");
+            this.insert.addBatch();
+        }
+        final int[] counts = this.insert.executeBatch();
+        this.connection.commit();
+        return counts.length;
+    }
+
+    /**
+     * Generate a single id without touching the database.
+     *
+     * @return The id
+     */
+    @Benchmark
+    public String generateId() {
+        return this.idGenerator.generateId();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import com.netflix.genie.common.external.util.GenieObjectMapper;
+import com.netflix.genie.common.internal.dtos.DirectoryManifest;
+import com.netflix.genie.common.internal.dtos.converters.JobDirectoryManifestProtoConverter;
+import com.netflix.genie.common.internal.exceptions.checked.GenieConversionException;
+import com.netflix.genie.proto.AgentManifestMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link JobDirectoryManifestProtoConverter} conversions of manifests of various sizes, as done by the
+ * agent and the server on every manifest update.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobDirectoryManifestProtoConverterBenchmark {
+
+    /**
+     * The number of files in the manifest.
+     */
+    @Param({"100", "1000", "10000"})
+    public int numFiles;
+
+    private final String jobId = UUID.randomUUID().toString();
+    private JobDirectoryManifestProtoConverter converter;
+    private DirectoryManifest manifest;
+    private AgentManifestMessage message;
+
+    /**
+     * Create the manifest and its proto representation.
+     *
+     * @throws IOException              On error creating the manifest
+     * @throws GenieConversionException On error converting the manifest
+     */
+    @Setup
+    public void setup() throws IOException, GenieConversionException {
+        this.converter = new JobDirectoryManifestProtoConverter(GenieObjectMapper.getMapper());
+        final Path root = BenchmarkUtils.createDirectoryTree(this.numFiles);
+        try {
+            this.manifest = new DirectoryManifest.Factory().getDirectoryManifest(root, true);
+        } finally {
+            BenchmarkUtils.deleteDirectoryTree(root);
+        }
+        this.message = this.converter.manifestToProtoMessage(this.jobId, this.manifest);
+    }
+
+    /**
+     * Convert the manifest to its proto representation.
+     *
+     * @return The proto message
+     * @throws GenieConversionException On error converting
+     */
+    @Benchmark
+    public AgentManifestMessage toProto() throws GenieConversionException {
+        return this.converter.manifestToProtoMessage(this.jobId, this.manifest);
+    }
+
+    /**
+     * Convert the proto representation back to a manifest.
+     *
+     * @return The manifest
+     * @throws GenieConversionException On error converting
+     */
+    @Benchmark
+    public DirectoryManifest fromProto() throws GenieConversionException {
+        return this.converter.toManifest(this.message);
+    }
+}
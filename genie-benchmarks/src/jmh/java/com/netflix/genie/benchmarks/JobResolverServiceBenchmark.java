@@ -0,0 +1,244 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import brave.Tracing;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.netflix.genie.common.internal.dtos.Cluster;
+import com.netflix.genie.common.internal.dtos.ClusterMetadata;
+import com.netflix.genie.common.internal.dtos.ClusterStatus;
+import com.netflix.genie.common.internal.dtos.Command;
+import com.netflix.genie.common.internal.dtos.CommandMetadata;
+import com.netflix.genie.common.internal.dtos.CommandStatus;
+import com.netflix.genie.common.internal.dtos.Criterion;
+import com.netflix.genie.common.internal.dtos.ExecutionEnvironment;
+import com.netflix.genie.common.internal.dtos.ExecutionResourceCriteria;
+import com.netflix.genie.common.internal.dtos.JobMetadata;
+import com.netflix.genie.common.internal.dtos.JobRequest;
+import com.netflix.genie.common.internal.exceptions.checked.GenieJobResolutionException;
+import com.netflix.genie.common.internal.tracing.brave.BraveTracePropagator;
+import com.netflix.genie.common.internal.tracing.brave.BraveTracingCleanup;
+import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
+import com.netflix.genie.common.internal.tracing.brave.impl.DefaultBraveTagAdapterImpl;
+import com.netflix.genie.web.data.services.CatalogCaches;
+import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.data.services.PersistenceService;
+import com.netflix.genie.web.dtos.ResolvedJob;
+import com.netflix.genie.web.dtos.ResourceSelectionResult;
+import com.netflix.genie.web.exceptions.checked.NotFoundException;
+import com.netflix.genie.web.properties.JobResolutionBatchProperties;
+import com.netflix.genie.web.properties.JobResolutionProperties;
+import com.netflix.genie.web.properties.JobsProperties;
+import com.netflix.genie.web.selectors.ClusterSelector;
+import com.netflix.genie.web.selectors.CommandSelector;
+import com.netflix.genie.web.services.impl.JobResolverServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the in-memory part of {@link JobResolverServiceImpl}: merging the job and command cluster criteria,
+ * matching every candidate cluster against them to build the command to clusters matrix and resolving the rest of
+ * the job specification. The database is replaced by a stub returning fixed candidates so only the CPU cost of the
+ * resolution is measured. With the resolution cache enabled every iteration after the first reuses the cached command
+ * to clusters matrix and only the selectors and the rest of the specification resolution run.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobResolverServiceBenchmark {
+
+    /**
+     * The number of commands matching the command criterion of the job.
+     */
+    @Param({"1", "10"})
+    public int numCommands;
+
+    /**
+     * The number of clusters matching the cluster criteria of each command.
+     */
+    @Param({"10", "100"})
+    public int numClustersPerCommand;
+
+    /**
+     * Whether the candidate command to clusters matrix is cached between resolutions of identical criteria.
+     */
+    @Param({"false", "true"})
+    public boolean resolutionCache;
+
+    private Tracing tracing;
+    private JobResolverServiceImpl jobResolverService;
+    private JobRequest jobRequest;
+
+    /**
+     * Create the candidate commands and clusters and the service.
+     *
+     * @throws NotFoundException Never, the persistence service is a stub
+     */
+    @Setup
+    public void setup() throws NotFoundException {
+        final Set<Command> commands = Sets.newHashSet();
+        final Set<Cluster> clusters = Sets.newHashSet();
+        for (int i = 0; i < this.numCommands; i++) {
+            final String commandClusterTag = "command-cluster:" + i;
+            commands.add(
+                new Command(
+                    UUID.randomUUID().toString(),
+                    Instant.now(),
+                    Instant.now(),
+                    new ExecutionEnvironment(null, null, null),
+                    new CommandMetadata.Builder("command-" + i, "genie", "1.0.0", CommandStatus.ACTIVE)
+                        .withTags(Sets.newHashSet("type:spark", "version:3"))
+                        .build(),
+                    Lists.newArrayList("spark-submit"),
+                    Lists.newArrayList(
+                        new Criterion.Builder().withTags(Sets.newHashSet(commandClusterTag, "type:yarn")).build(),
+                        new Criterion.Builder().withTags(Sets.newHashSet(commandClusterTag)).build()
+                    ),
+                    null,
+                    null
+                )
+            );
+            for (int j = 0; j < this.numClustersPerCommand; j++) {
+                clusters.add(
+                    new Cluster(
+                        UUID.randomUUID().toString(),
+                        Instant.now(),
+                        Instant.now(),
+                        new ExecutionEnvironment(null, null, null),
+                        new ClusterMetadata.Builder("cluster-" + i + "-" + j, "genie", "1.0.0", ClusterStatus.UP)
+                            .withTags(Sets.newHashSet(commandClusterTag, "type:yarn", "sched:prod"))
+                            .build()
+                    )
+                );
+            }
+        }
+
+        final PersistenceService persistenceService = Mockito.mock(
+            PersistenceService.class,
+            Mockito.withSettings().stubOnly()
+        );
+        Mockito
+            .when(persistenceService.findCommandsMatchingCriterion(ArgumentMatchers.any(), ArgumentMatchers.eq(true)))
+            .thenReturn(commands);
+        Mockito
+            .when(
+                persistenceService.findClustersMatchingAnyCriterion(
+                    ArgumentMatchers.anySet(),
+                    ArgumentMatchers.eq(true)
+                )
+            )
+            .thenReturn(clusters);
+        Mockito
+            .when(persistenceService.getApplicationsForCommand(ArgumentMatchers.anyString()))
+            .thenReturn(Lists.newArrayList());
+
+        final CommandSelector commandSelector = context -> new ResourceSelectionResult.Builder<Command>(
+            CommandSelector.class
+        )
+            .withSelectedResource(context.getResources().iterator().next())
+            .build();
+        final ClusterSelector clusterSelector = context -> new ResourceSelectionResult.Builder<Cluster>(
+            ClusterSelector.class
+        )
+            .withSelectedResource(context.getResources().iterator().next())
+            .build();
+
+        this.tracing = Tracing.newBuilder().build();
+        this.jobResolverService = new JobResolverServiceImpl(
+            new DataServices(persistenceService),
+            Lists.newArrayList(clusterSelector),
+            commandSelector,
+            new SimpleMeterRegistry(),
+            JobsProperties.getJobsPropertiesDefaults(),
+            new JobResolutionProperties(new StandardEnvironment()),
+            new BraveTracingComponents(
+                this.tracing.tracer(),
+                Mockito.mock(BraveTracePropagator.class),
+                Mockito.mock(BraveTracingCleanup.class),
+                new DefaultBraveTagAdapterImpl()
+            ),
+            this.resolutionCache ? new ConcurrentMapCacheManager(CatalogCaches.RESOLUTION_CANDIDATES) : null,
+            new JobResolutionBatchProperties(),
+            new SyncTaskExecutor()
+        );
+
+        this.jobRequest = new JobRequest(
+            null,
+            null,
+            Lists.newArrayList("--class", "Main", "app.jar"),
+            new JobMetadata.Builder("benchmark", "genie").build(),
+            new ExecutionResourceCriteria(
+                Lists.newArrayList(
+                    new Criterion.Builder().withTags(Sets.newHashSet("sched:prod")).build(),
+                    new Criterion.Builder().withTags(Sets.newHashSet("sched:test")).build()
+                ),
+                new Criterion.Builder().withTags(Sets.newHashSet("type:spark")).build(),
+                null
+            ),
+            null,
+            null
+        );
+    }
+
+    /**
+     * Close the tracing.
+     */
+    @TearDown
+    public void tearDown() {
+        this.tracing.close();
+    }
+
+    /**
+     * Resolve the job.
+     *
+     * @return The resolved job
+     * @throws GenieJobResolutionException On resolution error
+     */
+    @Benchmark
+    public ResolvedJob resolveJob() throws GenieJobResolutionException {
+        return this.jobResolverService.resolveJob(UUID.randomUUID().toString(), this.jobRequest, true);
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import com.google.common.collect.Lists;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.netflix.genie.common.internal.dtos.JobSpecification;
+import com.netflix.genie.common.internal.dtos.converters.JobServiceProtoConverter;
+import com.netflix.genie.web.data.services.impl.jpa.converters.EntityV4DtoConverters;
+import com.netflix.genie.web.data.services.impl.jpa.entities.ApplicationEntity;
+import com.netflix.genie.web.data.services.impl.jpa.entities.ClusterEntity;
+import com.netflix.genie.web.data.services.impl.jpa.entities.CommandEntity;
+import com.netflix.genie.web.data.services.impl.jpa.entities.FileEntity;
+import com.netflix.genie.web.data.services.impl.jpa.entities.JobEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks the two ways a job specification is served to an agent: rebuilding it from the job entity graph as it
+ * was loaded through the job specification entity graph, or parsing the snapshot saved when the job was resolved.
+ * <p>
+ * Only the in memory work is measured. The database side of the entity graph path (joins across the cluster,
+ * command, applications and their files) comes on top of it while the snapshot path reads a single column.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobSpecificationBenchmark {
+
+    private final JobServiceProtoConverter jobServiceProtoConverter = new JobServiceProtoConverter();
+
+    /**
+     * The number of applications, and of configs and dependencies per resource, in the specification.
+     */
+    @Param({"2", "10"})
+    public int resourceCount;
+
+    private JobEntity jobEntity;
+    private JobSpecification jobSpecification;
+    private byte[] snapshot;
+
+    /**
+     * Create a resolved job entity and the snapshot of its specification.
+     */
+    @Setup
+    public void setup() {
+        final ClusterEntity clusterEntity = new ClusterEntity();
+        clusterEntity.setUniqueId(UUID.randomUUID().toString());
+        clusterEntity.setConfigs(this.files("s3://cluster/config"));
+        clusterEntity.setDependencies(this.files("s3://cluster/dependency"));
+        clusterEntity.setSetupFile(new FileEntity("s3://cluster/setup.sh"));
+
+        final CommandEntity commandEntity = new CommandEntity();
+        commandEntity.setUniqueId(UUID.randomUUID().toString());
+        commandEntity.setExecutable(Lists.newArrayList("spark-submit", "--master", "yarn"));
+        commandEntity.setConfigs(this.files("s3://command/config"));
+        commandEntity.setDependencies(this.files("s3://command/dependency"));
+        commandEntity.setSetupFile(new FileEntity("s3://command/setup.sh"));
+
+        final List<ApplicationEntity> applicationEntities = IntStream
+            .range(0, this.resourceCount)
+            .mapToObj(
+                i -> {
+                    final ApplicationEntity applicationEntity = new ApplicationEntity();
+                    applicationEntity.setUniqueId(UUID.randomUUID().toString());
+                    applicationEntity.setConfigs(this.files("s3://application" + i + "/config"));
+                    applicationEntity.setDependencies(this.files("s3://application" + i + "/dependency"));
+                    applicationEntity.setSetupFile(new FileEntity("s3://application" + i + "/setup.sh"));
+                    return applicationEntity;
+                }
+            )
+            .collect(Collectors.toList());
+
+        final Map<String, String> environmentVariables = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            environmentVariables.put("GENIE_VARIABLE_" + i, UUID.randomUUID().toString());
+        }
+
+        final String jobId = UUID.randomUUID().toString();
+        this.jobEntity = new JobEntity();
+        this.jobEntity.setUniqueId(jobId);
+        this.jobEntity.setCluster(clusterEntity);
+        this.jobEntity.setCommand(commandEntity);
+        this.jobEntity.setApplications(applicationEntities);
+        this.jobEntity.setCommandArgs(Lists.newArrayList("-f", "query.sql", "--verbose"));
+        this.jobEntity.setConfigs(this.files("s3://job/config"));
+        this.jobEntity.setDependencies(this.files("s3://job/dependency"));
+        this.jobEntity.setSetupFile(new FileEntity("s3://job/setup.sh"));
+        this.jobEntity.setEnvironmentVariables(environmentVariables);
+        this.jobEntity.setJobDirectoryLocation("/tmp/genie/jobs/" + jobId);
+        this.jobEntity.setArchiveLocation("s3://archive/" + jobId);
+        this.jobEntity.setTimeoutUsed(3_600);
+
+        this.jobSpecification = EntityV4DtoConverters.toJobSpecificationDto(this.jobEntity);
+        this.snapshot = this.serialize();
+    }
+
+    /**
+     * Rebuild the specification from the job entity graph.
+     *
+     * @return The job specification
+     */
+    @Benchmark
+    public JobSpecification fromEntityGraph() {
+        return EntityV4DtoConverters.toJobSpecificationDto(this.jobEntity);
+    }
+
+    /**
+     * Rebuild the specification from the snapshot saved at resolution.
+     *
+     * @return The job specification
+     * @throws InvalidProtocolBufferException If the snapshot can't be parsed
+     */
+    @Benchmark
+    public JobSpecification fromSnapshot() throws InvalidProtocolBufferException {
+        return this.jobServiceProtoConverter.toJobSpecificationDto(
+            com.netflix.genie.proto.JobSpecification.parseFrom(this.snapshot)
+        );
+    }
+
+    /**
+     * Create the snapshot, as done once when the job is resolved.
+     *
+     * @return The serialized specification
+     */
+    @Benchmark
+    public byte[] serialize() {
+        return this.jobServiceProtoConverter.toJobSpecificationProto(this.jobSpecification).toByteArray();
+    }
+
+    private Set<FileEntity> files(final String prefix) {
+        return IntStream
+            .range(0, this.resourceCount)
+            .mapToObj(i -> new FileEntity(prefix + i))
+            .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import com.netflix.genie.common.internal.util.RegexRuleSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link RegexRuleSet} evaluation, as done for every path of a job directory the agent filters and for
+ * every header the server forwards.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegexRuleSetBenchmark {
+
+    private static final int NUM_INPUTS = 1_000;
+
+    /**
+     * The number of rules in the rule set. The inputs match none of them so every rule is evaluated.
+     */
+    @Param({"1", "10", "100"})
+    public int numRules;
+
+    private RegexRuleSet ruleSet;
+    private String[] inputs;
+
+    /**
+     * Create the rule set and the inputs.
+     */
+    @Setup
+    public void setup() {
+        final RegexRuleSet.Builder builder = new RegexRuleSet.Builder(RegexRuleSet.Response.ACCEPT);
+        for (int i = 0; i < this.numRules; i++) {
+            builder.addRule(".*/excluded-" + i + "/.*\\.(log|tmp)$", RegexRuleSet.Response.REJECT);
+        }
+        this.ruleSet = builder.build();
+
+        this.inputs = new String[NUM_INPUTS];
+        for (int i = 0; i < NUM_INPUTS; i++) {
+            this.inputs[i] = "genie/applications/spark/dependencies/level-" + i % 10 + "/file-" + i + ".jar";
+        }
+    }
+
+    /**
+     * Evaluate every input against the rule set.
+     *
+     * @param blackhole The blackhole consuming the responses
+     */
+    @Benchmark
+    @OperationsPerInvocation(NUM_INPUTS)
+    public void evaluate(final Blackhole blackhole) {
+        for (final String input : this.inputs) {
+            blackhole.consume(this.ruleSet.evaluate(input));
+        }
+    }
+}
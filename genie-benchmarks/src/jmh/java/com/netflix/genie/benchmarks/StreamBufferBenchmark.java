@@ -0,0 +1,128 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.benchmarks;
+
+import com.google.protobuf.ByteString;
+import com.netflix.genie.web.util.StreamBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the throughput of {@link StreamBuffer}, through which every byte of a file streamed from an agent to an
+ * API client passes. A writer thread appends chunks as the agent connection would while the benchmark thread reads
+ * them as the servlet would.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamBufferBenchmark {
+
+    private static final int BYTES_PER_OPERATION = 16 * 1024 * 1024;
+
+    /**
+     * The size of the chunks written to the buffer.
+     */
+    @Param({"4096", "65536", "1048576"})
+    public int chunkSize;
+
+    /**
+     * The size of the buffer the reader reads into.
+     */
+    @Param({"8192"})
+    public int readSize;
+
+    private ExecutorService writerExecutor;
+    private ByteString chunk;
+    private byte[] readBuffer;
+
+    /**
+     * Create the data and the writer thread.
+     */
+    @Setup
+    public void setup() {
+        final byte[] data = new byte[this.chunkSize];
+        new Random(this.chunkSize).nextBytes(data);
+        this.chunk = ByteString.copyFrom(data);
+        this.readBuffer = new byte[this.readSize];
+        this.writerExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    /**
+     * Stop the writer thread.
+     */
+    @TearDown
+    public void tearDown() {
+        this.writerExecutor.shutdownNow();
+    }
+
+    /**
+     * Transfer 16MB through a buffer.
+     *
+     * @return The number of bytes read
+     * @throws IOException          On error reading
+     * @throws ExecutionException   On error writing
+     * @throws InterruptedException If interrupted while waiting for the writer
+     */
+    @Benchmark
+    public long transfer() throws IOException, ExecutionException, InterruptedException {
+        final StreamBuffer buffer = new StreamBuffer(0L);
+        final Future<?> writer = this.writerExecutor.submit(
+            () -> {
+                for (int written = 0; written < BYTES_PER_OPERATION; written += this.chunkSize) {
+                    buffer.write(this.chunk);
+                }
+                buffer.closeForCompleted();
+            }
+        );
+
+        long read = 0;
+        try (InputStream inputStream = buffer.getInputStream()) {
+            int bytesRead;
+            while ((bytesRead = inputStream.read(this.readBuffer)) != -1) {
+                read += bytesRead;
+            }
+        }
+        writer.get();
+        return read;
+    }
+}
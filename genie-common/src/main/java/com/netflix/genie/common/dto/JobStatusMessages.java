@@ -31,6 +31,11 @@ public final class JobStatusMessages {
      */
     public static final String JOB_INITIALIZING = "Preparing to launch job";
 
+    /**
+     * The status message while a job waits for its user to be under their active jobs limit.
+     */
+    public static final String JOB_QUEUED = "Job is queued until the user is under their active jobs limit.";
+
     /**
      * The status message while a job is actively running.
      */
@@ -29,6 +29,8 @@ import lombok.Getter;
 public final class GenieUserLimitExceededException extends GenieException {
 
     private static final String ACTIVE_JOBS_LIMIT = "activeJobs";
+    private static final String SUBMISSION_RATE_LIMIT = "submissionRate";
+    private static final String ADMISSION_QUEUE_LIMIT = "admissionQueue";
     private final String user;
     private final String exceededLimitName;
 
@@ -73,4 +75,48 @@ public final class GenieUserLimitExceededException extends GenieException {
                 + ")"
         );
     }
+
+    /**
+     * Static factory method to produce a GenieUserLimitExceededException suitable for when the user submitted jobs
+     * faster than allowed.
+     *
+     * @param user           the user name
+     * @param submissionRate the number of submissions per second the user is allowed
+     * @return a new GenieUserLimitExceededException
+     */
+    public static GenieUserLimitExceededException createForSubmissionRateLimit(
+        final String user,
+        final double submissionRate
+    ) {
+        return new GenieUserLimitExceededException(
+            user,
+            SUBMISSION_RATE_LIMIT,
+            "User exceeded job submission rate limit (" + submissionRate + "/s)"
+        );
+    }
+
+    /**
+     * Static factory method to produce a GenieUserLimitExceededException suitable for when the job can't run yet and
+     * the queue it would wait in is full.
+     *
+     * @param user            the user name
+     * @param queuedJobsCount the count of jobs in the queue
+     * @param queuedJobsLimit the maximum number of jobs in the queue
+     * @return a new GenieUserLimitExceededException
+     */
+    public static GenieUserLimitExceededException createForAdmissionQueueLimit(
+        final String user,
+        final long queuedJobsCount,
+        final long queuedJobsLimit
+    ) {
+        return new GenieUserLimitExceededException(
+            user,
+            ADMISSION_QUEUE_LIMIT,
+            "Job admission queue is full ("
+                + queuedJobsCount
+                + "/"
+                + queuedJobsLimit
+                + ")"
+        );
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Runs the real agent against an {@link InProcessGenieServer} and fails if it takes too long after JVM start to
+ * complete the handshake with the server or to claim its job. The times are the ones the agent itself logs when its
+ * state machine stops, so they include JVM and application context startup.
+ * <p>
+ * Usage: {@code ./gradlew :genie-load-test:agentStartupCheck}. The thresholds and number of runs can be changed with
+ * {@code -PagentStartupArgs="--runs=5 --maxTimeToHandshake=PT10S --maxTimeToClaim=PT15S"}. Every run must pass.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public final class AgentStartupCheck {
+
+    private static final Pattern STARTUP_TIMING_PATTERN = Pattern.compile(
+        "genie-agent-startup time-to-handshake-ms=(-?\\d+) time-to-claim-ms=(-?\\d+)"
+    );
+    private static final Duration AGENT_EXIT_GRACE = Duration.ofMinutes(1);
+
+    private AgentStartupCheck() {
+    }
+
+    /**
+     * Run the check.
+     *
+     * @param args The arguments of the check
+     * @throws Exception If the check can't run
+     */
+    public static void main(final String[] args) throws Exception {
+        final SimpleCommandLinePropertySource source = new SimpleCommandLinePropertySource(args);
+        final Path agentJar = Paths.get(
+            Optional
+                .ofNullable(source.getProperty("agentJar"))
+                .orElseThrow(() -> new IllegalArgumentException("--agentJar is required"))
+        );
+        final int runs = Integer.parseInt(source.getProperty("runs", "3"));
+        final Duration maxTimeToHandshake = Duration.parse(source.getProperty("maxTimeToHandshake", "PT15S"));
+        final Duration maxTimeToClaim = Duration.parse(source.getProperty("maxTimeToClaim", "PT20S"));
+        final boolean fastStart = Boolean.parseBoolean(source.getProperty("fastStart", "true"));
+        final Path workDirectory = Paths.get(source.getProperty("workDirectory", "agent-startup-check"));
+
+        final List<String> failures = new ArrayList<>();
+        try (InProcessGenieServer server = new InProcessGenieServer()) {
+            for (int run = 1; run <= runs; run++) {
+                final Path runDirectory = Files.createDirectories(workDirectory.resolve("run-" + run)).toAbsolutePath();
+                final Optional<long[]> timing = runAgent(
+                    agentJar,
+                    server.getPort(),
+                    fastStart,
+                    runDirectory,
+                    maxTimeToClaim.plus(AGENT_EXIT_GRACE)
+                );
+                if (timing.isEmpty()) {
+                    failures.add("Run " + run + ": no startup timing was logged, see " + runDirectory);
+                    continue;
+                }
+                final long timeToHandshake = timing.get()[0];
+                final long timeToClaim = timing.get()[1];
+                log.info(
+                    "Run {}: time to handshake {}ms (max {}ms), time to claim {}ms (max {}ms)",
+                    run,
+                    timeToHandshake,
+                    maxTimeToHandshake.toMillis(),
+                    timeToClaim,
+                    maxTimeToClaim.toMillis()
+                );
+                if (timeToHandshake < 0 || timeToHandshake > maxTimeToHandshake.toMillis()) {
+                    failures.add("Run " + run + ": time to handshake " + timeToHandshake + "ms");
+                }
+                if (timeToClaim < 0 || timeToClaim > maxTimeToClaim.toMillis()) {
+                    failures.add("Run " + run + ": time to claim " + timeToClaim + "ms");
+                }
+            }
+        }
+
+        if (failures.isEmpty()) {
+            log.info("Agent startup check passed");
+            System.exit(0);
+        }
+        failures.forEach(failure -> log.error("Agent startup check failed. {}", failure));
+        System.exit(1);
+    }
+
+    private static Optional<long[]> runAgent(
+        final Path agentJar,
+        final int serverPort,
+        final boolean fastStart,
+        final Path runDirectory,
+        final Duration timeout
+    ) throws IOException, InterruptedException {
+        final Path jobsDirectory = Files.createDirectories(runDirectory.resolve("jobs"));
+        final Path output = runDirectory.resolve("agent-output.txt");
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Dgenie.agent.fast-start=" + fastStart);
+        command.add("-jar");
+        command.add(agentJar.toAbsolutePath().toString());
+        command.add("exec");
+        command.add("--server-host=localhost");
+        command.add("--server-port=" + serverPort);
+        command.add("--job-directory-location=" + jobsDirectory);
+        command.add("--job-name=agent-startup-check");
+        command.add("--cluster-criterion=TAGS=" + String.join(",", InProcessGenieServer.CLUSTER_TAGS));
+        command.add("--command-criterion=TAGS=" + String.join(",", InProcessGenieServer.COMMAND_TAGS));
+        command.add("--disable-archiving");
+        command.add("--no-cleanup");
+
+        final ProcessBuilder processBuilder = new ProcessBuilder(command)
+            .directory(runDirectory.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(output.toFile());
+        processBuilder
+            .environment()
+            .put("GENIE_AGENT_TEMPORARY_LOG_FILE", runDirectory.resolve("agent.log").toString());
+        log.info("Launching agent: {}", String.join(" ", command));
+        final Process process = processBuilder.start();
+        if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.error("Agent did not exit within {}, killing it", timeout);
+            process.destroyForcibly().waitFor();
+        }
+
+        // The agent log is moved into the job directory once the job is claimed
+        try (Stream<Path> files = Files.walk(runDirectory)) {
+            for (final Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                if (!file.getFileName().toString().endsWith(".log")) {
+                    continue;
+                }
+                final Matcher matcher = STARTUP_TIMING_PATTERN.matcher(
+                    new String(Files.readAllBytes(file), StandardCharsets.UTF_8)
+                );
+                if (matcher.find()) {
+                    return Optional.of(new long[]{Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2))});
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
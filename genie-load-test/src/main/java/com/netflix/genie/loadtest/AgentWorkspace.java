@@ -0,0 +1,108 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.loadtest;
+
+import com.google.common.collect.ImmutableMap;
+import com.netflix.genie.common.internal.dtos.DirectoryManifest;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The job directory every simulated agent pretends to have. It's built once on disk to get a real manifest and then
+ * kept in memory so thousands of agents can serve files from it without touching the disk.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public class AgentWorkspace {
+
+    static final String STDOUT = "stdout";
+
+    private final DirectoryManifest manifest;
+    private final Map<String, byte[]> contents;
+
+    /**
+     * Constructor.
+     *
+     * @param fileSize The size of the job standard output, in bytes. Other files are smaller.
+     * @throws IOException If the workspace can't be created
+     */
+    public AgentWorkspace(final int fileSize) throws IOException {
+        final Random random = new Random(fileSize);
+        final ImmutableMap.Builder<String, byte[]> builder = ImmutableMap.builder();
+        builder.put(STDOUT, randomBytes(random, fileSize));
+        builder.put("stderr", randomBytes(random, Math.max(1, fileSize / 16)));
+        builder.put("run", randomBytes(random, 2048));
+        builder.put("genie/logs/agent.log", randomBytes(random, Math.max(1, fileSize / 4)));
+        builder.put("genie/logs/env.log", randomBytes(random, 4096));
+        this.contents = builder.build();
+
+        final Path directory = Files.createTempDirectory("genie-load-test-");
+        try {
+            for (final Map.Entry<String, byte[]> entry : this.contents.entrySet()) {
+                final Path file = directory.resolve(entry.getKey());
+                Files.createDirectories(file.getParent());
+                Files.write(file, entry.getValue());
+            }
+            this.manifest = new DirectoryManifest.Factory().getDirectoryManifest(directory, false);
+        } finally {
+            final List<Path> paths;
+            try (Stream<Path> walk = Files.walk(directory)) {
+                paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+            }
+            for (final Path path : paths) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Get the manifest of the workspace.
+     *
+     * @return The manifest
+     */
+    public DirectoryManifest getManifest() {
+        return this.manifest;
+    }
+
+    /**
+     * Get the contents of a file in the workspace.
+     *
+     * @param relativePath The path of the file relative to the job directory
+     * @return The contents of the file or {@literal null} if there is no such file
+     */
+    @Nullable
+    public byte[] getContent(final String relativePath) {
+        return this.contents.get(relativePath);
+    }
+
+    private static byte[] randomBytes(final Random random, final int size) {
+        final byte[] bytes = new byte[size];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.loadtest;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.netflix.genie.GenieTestApp;
+import com.netflix.genie.common.internal.dtos.ClusterMetadata;
+import com.netflix.genie.common.internal.dtos.ClusterRequest;
+import com.netflix.genie.common.internal.dtos.ClusterStatus;
+import com.netflix.genie.common.internal.dtos.CommandMetadata;
+import com.netflix.genie.common.internal.dtos.CommandRequest;
+import com.netflix.genie.common.internal.dtos.CommandStatus;
+import com.netflix.genie.common.internal.dtos.Criterion;
+import com.netflix.genie.common.internal.exceptions.checked.GenieCheckedException;
+import com.netflix.genie.web.agent.apis.rpc.servers.GRpcServerManager;
+import com.netflix.genie.web.agent.services.AgentFileStreamService;
+import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.data.services.PersistenceService;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.curator.test.TestingServer;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * A complete Genie server running in the current JVM: the usual web application backed by an in-memory H2 database,
+ * with the agent gRPC server on a random port and agent routing done through an embedded ZooKeeper.
+ * <p>
+ * The server is seeded with a single cluster and command which every simulated job resolves to.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class InProcessGenieServer implements AutoCloseable {
+
+    static final Set<String> CLUSTER_TAGS = ImmutableSet.of("genie.loadtest:cluster");
+    static final Set<String> COMMAND_TAGS = ImmutableSet.of("genie.loadtest:command");
+
+    private final TestingServer zkServer;
+    private final ConfigurableApplicationContext context;
+    private final int port;
+    private final AgentFileStreamService agentFileStreamService;
+    private final Statistics statistics;
+
+    /**
+     * Constructor. Starts ZooKeeper and the Genie server and blocks until both are ready.
+     *
+     * @throws Exception If the server can't be started
+     */
+    public InProcessGenieServer() throws Exception {
+        this.zkServer = new TestingServer();
+        try {
+            // Command line arguments have precedence over the application.yml of the test application
+            this.context = new SpringApplicationBuilder(GenieTestApp.class).run(
+                "--server.port=0",
+                "--grpc.server.port=0",
+                "--genie.grpc.server.enabled=true",
+                "--genie.tasks.database-cleanup.enabled=false",
+                "--genie.tasks.disk-cleanup.enabled=false",
+                "--spring.cloud.zookeeper.enabled=true",
+                "--spring.cloud.zookeeper.connect-string=" + this.zkServer.getConnectString(),
+                "--spring.cloud.zookeeper.discovery.enabled=false",
+                "--spring.jpa.properties.hibernate.generate_statistics=true",
+                "--logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+            );
+        } catch (final RuntimeException e) {
+            this.zkServer.close();
+            throw e;
+        }
+
+        try {
+            this.port = this.context.getBean(GRpcServerManager.class).getServerPort();
+            this.agentFileStreamService = this.context.getBean(AgentFileStreamService.class);
+            this.statistics = this.context
+                .getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+            this.seed(this.context.getBean(DataServices.class).getPersistenceService());
+        } catch (final Exception e) {
+            this.close();
+            throw e;
+        }
+        log.info("In-process Genie server listening for agents on port {}", this.port);
+    }
+
+    /**
+     * Get the port the agent gRPC server listens on.
+     *
+     * @return The port
+     */
+    public int getPort() {
+        return this.port;
+    }
+
+    /**
+     * Get the service the server uses to pull files from the agents.
+     *
+     * @return The agent file stream service
+     */
+    public AgentFileStreamService getAgentFileStreamService() {
+        return this.agentFileStreamService;
+    }
+
+    /**
+     * Get the Hibernate statistics of the server, which count every statement sent to the database.
+     *
+     * @return The statistics
+     */
+    public Statistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            this.context.close();
+        } finally {
+            this.zkServer.close();
+        }
+    }
+
+    private void seed(final PersistenceService persistenceService) throws GenieCheckedException {
+        persistenceService.saveCluster(
+            new ClusterRequest.Builder(
+                new ClusterMetadata.Builder("loadtest", "genie", "1.0.0", ClusterStatus.UP)
+                    .withTags(CLUSTER_TAGS)
+                    .build()
+            ).build()
+        );
+        persistenceService.saveCommand(
+            new CommandRequest.Builder(
+                new CommandMetadata.Builder("loadtest", "genie", "1.0.0", CommandStatus.ACTIVE)
+                    .withTags(COMMAND_TAGS)
+                    .build(),
+                Lists.newArrayList("/bin/true")
+            )
+                .withClusterCriteria(Lists.newArrayList(new Criterion.Builder().withTags(CLUSTER_TAGS).build()))
+                .build()
+        );
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.loadtest;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.netflix.genie.web.agent.services.AgentFileStreamService;
+import io.grpc.Channel;
+import io.grpc.ClientInterceptors;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.NettyChannelBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs a load test: starts an {@link InProcessGenieServer}, points a fleet of {@link SimulatedAgent} at it, keeps
+ * pulling files from the running jobs through the server and reports what happened.
+ * <p>
+ * Usage: {@code ./gradlew :genie-load-test:loadTest -PloadTestArgs="--agents=2000 --duration=PT5M"}. See
+ * {@link LoadTestSettings} for the available arguments.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public final class LoadTestApp {
+
+    private static final int FILE_FETCHER_THREADS = 4;
+
+    private LoadTestApp() {
+    }
+
+    /**
+     * Run the load test.
+     *
+     * @param args The arguments of the test
+     * @throws Exception If the test can't run
+     */
+    public static void main(final String[] args) throws Exception {
+        final LoadTestSettings settings = new LoadTestSettings(args);
+        log.info("Starting load test: {}", settings);
+        final LoadTestReport report;
+        try (InProcessGenieServer server = new InProcessGenieServer()) {
+            report = run(settings, server);
+        }
+        log.info(report.toText());
+        report.write(settings.getReport());
+        log.info("Report written to {}", settings.getReport().toAbsolutePath());
+        System.exit(report.getJobsSucceeded() > 0 ? 0 : 1);
+    }
+
+    static LoadTestReport run(final LoadTestSettings settings, final InProcessGenieServer server) throws Exception {
+        final MeterRegistry registry = new SimpleMeterRegistry();
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        final AtomicLong heapUsedPeak = new AtomicLong();
+        final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+        final AgentWorkspace workspace = new AgentWorkspace(settings.getFileSize());
+
+        final List<ManagedChannel> managedChannels = Lists.newArrayList();
+        final List<Channel> channels = Lists.newArrayList();
+        for (int i = 0; i < settings.getChannels(); i++) {
+            final ManagedChannel managedChannel = NettyChannelBuilder
+                .forAddress("localhost", server.getPort())
+                .usePlaintext()
+                .build();
+            managedChannels.add(managedChannel);
+            channels.add(ClientInterceptors.intercept(managedChannel, new RpcLatencyInterceptor(registry)));
+        }
+
+        final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+            Math.max(4, Runtime.getRuntime().availableProcessors()),
+            new ThreadFactoryBuilder().setNameFormat("agent-streams-%d").setDaemon(true).build()
+        );
+        final ExecutorService agents = Executors.newFixedThreadPool(
+            settings.getAgents(),
+            new ThreadFactoryBuilder().setNameFormat("agent-%d").setDaemon(true).build()
+        );
+        final ExecutorService fileFetchers = Executors.newFixedThreadPool(
+            FILE_FETCHER_THREADS,
+            new ThreadFactoryBuilder().setNameFormat("file-fetcher-%d").setDaemon(true).build()
+        );
+
+        try {
+            scheduler.scheduleAtFixedRate(
+                () -> heapUsedPeak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0L,
+                1L,
+                TimeUnit.SECONDS
+            );
+
+            // Only count what the load does, not the start up and seeding of the server
+            server.getStatistics().clear();
+            final Instant start = Instant.now();
+            final Instant deadline = start.plus(settings.getDuration());
+            for (int i = 0; i < settings.getAgents(); i++) {
+                agents.submit(
+                    new SimulatedAgent(
+                        i,
+                        settings,
+                        channels.get(i % channels.size()),
+                        managedChannels.get(i % managedChannels.size()),
+                        scheduler,
+                        workspace,
+                        runningJobs,
+                        registry,
+                        settings.getRampUp().multipliedBy(i).dividedBy(settings.getAgents()),
+                        deadline
+                    )
+                );
+            }
+            agents.shutdown();
+
+            while (Instant.now().isBefore(deadline)) {
+                Thread.sleep(settings.getFileRequestInterval().toMillis());
+                final String jobId = pickRandom(runningJobs);
+                if (jobId != null) {
+                    fileFetchers.submit(() -> fetchFile(server.getAgentFileStreamService(), jobId, registry));
+                }
+            }
+
+            log.info("Deadline reached, waiting for the jobs in flight to finish");
+            if (!agents.awaitTermination(settings.getJobDuration().plusMinutes(1L).toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Not all agents finished in time, interrupting them");
+            }
+            final Duration elapsed = Duration.between(start, Instant.now());
+            System.gc();
+            return LoadTestReport.create(
+                settings,
+                registry,
+                server.getStatistics(),
+                elapsed,
+                heapUsedPeak.get(),
+                memory.getHeapMemoryUsage().getUsed(),
+                memory.getHeapMemoryUsage().getMax()
+            );
+        } finally {
+            agents.shutdownNow();
+            fileFetchers.shutdownNow();
+            scheduler.shutdownNow();
+            for (final ManagedChannel managedChannel : managedChannels) {
+                managedChannel.shutdownNow();
+            }
+        }
+    }
+
+    private static void fetchFile(
+        final AgentFileStreamService agentFileStreamService,
+        final String jobId,
+        final MeterRegistry registry
+    ) {
+        final long start = System.nanoTime();
+        String outcome = "succeeded";
+        try {
+            final Optional<AgentFileStreamService.AgentFileResource> resource = agentFileStreamService.getResource(
+                jobId,
+                Paths.get(AgentWorkspace.STDOUT),
+                URI.create("agent://" + jobId + "/" + AgentWorkspace.STDOUT),
+                null
+            );
+            if (resource.isPresent() && resource.get().exists()) {
+                try (InputStream inputStream = resource.get().getInputStream()) {
+                    ByteStreams.exhaust(inputStream);
+                }
+            } else {
+                outcome = "notFound";
+            }
+        } catch (final Exception e) {
+            log.debug("Failed to fetch a file of job {}: {}", jobId, e.getMessage());
+            outcome = "failed";
+        }
+        Timer
+            .builder(LoadTestReport.FILE_TRANSFER_TIMER_NAME)
+            .tag(SimulatedAgent.OUTCOME_TAG, outcome)
+            .publishPercentiles(LoadTestReport.PERCENTILES)
+            .register(registry)
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Nullable
+    private static String pickRandom(final Set<String> jobIds) {
+        final int size = jobIds.size();
+        if (size == 0) {
+            return null;
+        }
+        final Iterator<String> iterator = jobIds.iterator();
+        String jobId = null;
+        for (int i = ThreadLocalRandom.current().nextInt(size); i >= 0 && iterator.hasNext(); i--) {
+            jobId = iterator.next();
+        }
+        return jobId;
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.netflix.genie.common.external.util.GenieObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.hibernate.stat.Statistics;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * The results of a load test run.
+ * <p>
+ * Note the heap figures are for the whole JVM, which hosts both the server and the simulated agents.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Getter
+@AllArgsConstructor
+public class LoadTestReport {
+
+    static final String FILE_TRANSFER_TIMER_NAME = "genie.loadtest.fileTransfer.timer";
+    static final double[] PERCENTILES = {0.5, 0.99};
+
+    private final int agents;
+    private final double elapsedSeconds;
+    private final long jobsSucceeded;
+    private final long jobsFailed;
+    private final double jobsPerSecond;
+    private final double rpcsPerSecond;
+    private final LatencySummary jobLatency;
+    private final List<LatencySummary> rpcLatencies;
+    private final LatencySummary fileTransferLatency;
+    private final long heartBeats;
+    private final long manifests;
+    private final long fileChunks;
+    private final Map<String, Long> rpcErrors;
+    private final Map<String, Long> jobFailures;
+    private final long heapUsedPeakBytes;
+    private final long heapUsedEndBytes;
+    private final long heapMaxBytes;
+    private final long dbStatements;
+    private final long dbQueries;
+    private final long dbTransactions;
+    private final double dbStatementsPerJob;
+
+    /**
+     * Create a report from the metrics recorded during a run.
+     *
+     * @param settings          The settings of the run
+     * @param registry          The registry the harness recorded its metrics in
+     * @param statistics        The Hibernate statistics of the server, reset at the start of the run
+     * @param elapsed           How long the run took
+     * @param heapUsedPeakBytes The highest heap usage sampled during the run
+     * @param heapUsedEndBytes  The heap usage at the end of the run
+     * @param heapMaxBytes      The maximum heap size
+     * @return The report
+     */
+    public static LoadTestReport create(
+        final LoadTestSettings settings,
+        final MeterRegistry registry,
+        final Statistics statistics,
+        final Duration elapsed,
+        final long heapUsedPeakBytes,
+        final long heapUsedEndBytes,
+        final long heapMaxBytes
+    ) {
+        final double seconds = elapsed.toMillis() / 1000.0;
+        final Timer succeeded = registry
+            .find(SimulatedAgent.JOBS_TIMER_NAME)
+            .tag(SimulatedAgent.OUTCOME_TAG, "succeeded")
+            .timer();
+        final long jobsSucceeded = succeeded == null ? 0L : succeeded.count();
+        final Timer failed = registry
+            .find(SimulatedAgent.JOBS_TIMER_NAME)
+            .tag(SimulatedAgent.OUTCOME_TAG, "failed")
+            .timer();
+        final long jobsFailed = failed == null ? 0L : failed.count();
+
+        final List<LatencySummary> rpcLatencies = registry
+            .find(RpcLatencyInterceptor.RPC_TIMER_NAME)
+            .timers()
+            .stream()
+            .map(timer -> LatencySummary.of(timer.getId().getTag(RpcLatencyInterceptor.METHOD_TAG), timer))
+            .sorted(Comparator.comparing(LatencySummary::getName))
+            .collect(Collectors.toList());
+        final long rpcs = rpcLatencies.stream().mapToLong(LatencySummary::getCount).sum();
+
+        final long dbStatements = statistics.getPrepareStatementCount();
+        return new LoadTestReport(
+            settings.getAgents(),
+            seconds,
+            jobsSucceeded,
+            jobsFailed,
+            jobsSucceeded / seconds,
+            rpcs / seconds,
+            LatencySummary.of("job", succeeded),
+            rpcLatencies,
+            LatencySummary.of("fileTransfer", registry.find(FILE_TRANSFER_TIMER_NAME).timer()),
+            count(registry, SimulatedAgent.HEART_BEATS_COUNTER_NAME),
+            count(registry, SimulatedAgent.MANIFESTS_COUNTER_NAME),
+            count(registry, SimulatedAgent.CHUNKS_COUNTER_NAME),
+            countByTag(registry, RpcLatencyInterceptor.RPC_ERRORS_COUNTER_NAME, null),
+            countByTag(registry, SimulatedAgent.FAILURES_COUNTER_NAME, SimulatedAgent.STEP_TAG),
+            heapUsedPeakBytes,
+            heapUsedEndBytes,
+            heapMaxBytes,
+            dbStatements,
+            statistics.getQueryExecutionCount(),
+            statistics.getTransactionCount(),
+            jobsSucceeded + jobsFailed == 0 ? 0.0 : (double) dbStatements / (jobsSucceeded + jobsFailed)
+        );
+    }
+
+    /**
+     * Write the report as JSON.
+     *
+     * @param path The file to write the report to
+     * @throws IOException If the report can't be written
+     */
+    public void write(final Path path) throws IOException {
+        final ObjectMapper mapper = GenieObjectMapper.getMapper();
+        if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+        Files.write(path, mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(this));
+    }
+
+    /**
+     * Render the report in a human readable form.
+     *
+     * @return The report as text
+     */
+    public String toText() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%nGenie load test: %d agents for %.1fs%n", this.agents, this.elapsedSeconds));
+        builder.append(
+            String.format(
+                "Jobs: %d succeeded, %d failed, %.2f jobs/s, %.1f RPCs/s%n",
+                this.jobsSucceeded,
+                this.jobsFailed,
+                this.jobsPerSecond,
+                this.rpcsPerSecond
+            )
+        );
+        builder.append(
+            String.format(
+                "Streams: %d heart beats, %d manifests, %d file chunks%n",
+                this.heartBeats,
+                this.manifests,
+                this.fileChunks
+            )
+        );
+        builder.append(String.format("%n%-50s %10s %10s %10s %10s%n", "Latency (ms)", "count", "p50", "p99", "max"));
+        for (final LatencySummary summary : ImmutableList.<LatencySummary>builder()
+            .addAll(this.rpcLatencies)
+            .add(this.fileTransferLatency)
+            .add(this.jobLatency)
+            .build()) {
+            builder.append(
+                String.format(
+                    "%-50s %10d %10.2f %10.2f %10.2f%n",
+                    summary.getName(),
+                    summary.getCount(),
+                    summary.getP50Ms(),
+                    summary.getP99Ms(),
+                    summary.getMaxMs()
+                )
+            );
+        }
+        if (!this.rpcErrors.isEmpty() || !this.jobFailures.isEmpty()) {
+            builder.append(String.format("%nRPC errors: %s%nJob failures: %s%n", this.rpcErrors, this.jobFailures));
+        }
+        builder.append(
+            String.format(
+                "%nHeap: peak %d MB, end %d MB, max %d MB%n",
+                this.heapUsedPeakBytes >> 20,
+                this.heapUsedEndBytes >> 20,
+                this.heapMaxBytes >> 20
+            )
+        );
+        builder.append(
+            String.format(
+                "Database: %d statements (%.1f per job), %d queries, %d transactions%n",
+                this.dbStatements,
+                this.dbStatementsPerJob,
+                this.dbQueries,
+                this.dbTransactions
+            )
+        );
+        return builder.toString();
+    }
+
+    private static long count(final MeterRegistry registry, final String name) {
+        final Counter counter = registry.find(name).counter();
+        return counter == null ? 0L : (long) counter.count();
+    }
+
+    private static Map<String, Long> countByTag(
+        final MeterRegistry registry,
+        final String name,
+        @Nullable final String tag
+    ) {
+        return registry
+            .find(name)
+            .counters()
+            .stream()
+            .collect(
+                Collectors.collectingAndThen(
+                    Collectors.toMap(
+                        counter -> tag == null
+                            ? counter.getId().getTags().toString()
+                            : String.valueOf(counter.getId().getTag(tag)),
+                        counter -> (long) counter.count(),
+                        Long::sum
+                    ),
+                    ImmutableMap::copyOf
+                )
+            );
+    }
+
+    /**
+     * Latency of one kind of operation.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class LatencySummary {
+        private final String name;
+        private final long count;
+        private final double meanMs;
+        private final double p50Ms;
+        private final double p99Ms;
+        private final double maxMs;
+
+        static LatencySummary of(@Nullable final String name, @Nullable final Timer timer) {
+            if (timer == null) {
+                return new LatencySummary(String.valueOf(name), 0L, 0.0, 0.0, 0.0, 0.0);
+            }
+            final HistogramSnapshot snapshot = timer.takeSnapshot();
+            double p50 = 0.0;
+            double p99 = 0.0;
+            for (final ValueAtPercentile percentile : snapshot.percentileValues()) {
+                if (percentile.percentile() == PERCENTILES[0]) {
+                    p50 = percentile.value(TimeUnit.MILLISECONDS);
+                } else if (percentile.percentile() == PERCENTILES[1]) {
+                    p99 = percentile.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            return new LatencySummary(
+                String.valueOf(name),
+                snapshot.count(),
+                snapshot.mean(TimeUnit.MILLISECONDS),
+                p50,
+                p99,
+                snapshot.max(TimeUnit.MILLISECONDS)
+            );
+        }
+    }
+}
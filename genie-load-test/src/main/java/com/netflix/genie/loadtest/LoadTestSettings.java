@@ -0,0 +1,84 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.loadtest;
+
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * The shape of a load test run. Parsed from {@code --name=value} command line arguments.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Getter
+@ToString
+public class LoadTestSettings {
+
+    private final int agents;
+    private final int channels;
+    private final Duration duration;
+    private final Duration rampUp;
+    private final Duration jobDuration;
+    private final Duration heartBeatInterval;
+    private final Duration manifestInterval;
+    private final Duration fileRequestInterval;
+    private final int fileSize;
+    private final int chunkSize;
+    private final Path report;
+
+    /**
+     * Constructor.
+     *
+     * @param args The command line arguments
+     * @throws IllegalArgumentException If any of the arguments is invalid
+     */
+    public LoadTestSettings(final String... args) throws IllegalArgumentException {
+        final SimpleCommandLinePropertySource source = new SimpleCommandLinePropertySource(args);
+        this.agents = Integer.parseInt(source.getProperty("agents", "1000"));
+        this.channels = Integer.parseInt(source.getProperty("channels", "8"));
+        this.duration = Duration.parse(source.getProperty("duration", "PT2M"));
+        this.rampUp = Duration.parse(source.getProperty("rampUp", "PT20S"));
+        this.jobDuration = Duration.parse(source.getProperty("jobDuration", "PT15S"));
+        this.heartBeatInterval = Duration.parse(source.getProperty("heartBeatInterval", "PT2S"));
+        this.manifestInterval = Duration.parse(source.getProperty("manifestInterval", "PT5S"));
+        this.fileRequestInterval = Duration.parse(source.getProperty("fileRequestInterval", "PT0.05S"));
+        this.fileSize = Integer.parseInt(source.getProperty("fileSize", "262144"));
+        this.chunkSize = Integer.parseInt(source.getProperty("chunkSize", "65536"));
+        this.report = Paths.get(source.getProperty("report", "load-test-report.json"));
+
+        if (this.agents < 1 || this.channels < 1 || this.fileSize < 1 || this.chunkSize < 1) {
+            throw new IllegalArgumentException("agents, channels, fileSize and chunkSize must be positive: " + this);
+        }
+        for (final Duration interval : new Duration[]{
+            this.duration,
+            this.heartBeatInterval,
+            this.manifestInterval,
+            this.fileRequestInterval,
+        }) {
+            if (interval.isNegative() || interval.isZero()) {
+                throw new IllegalArgumentException("durations and intervals must be positive: " + this);
+            }
+        }
+    }
+}
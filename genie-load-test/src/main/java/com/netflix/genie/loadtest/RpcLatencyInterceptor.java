@@ -0,0 +1,106 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.loadtest;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client interceptor which records the latency of every unary call made by the simulated agents, as seen by the
+ * agent. Streaming calls are left alone as their lifetime is the lifetime of the job, the harness records their
+ * messages separately.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public class RpcLatencyInterceptor implements ClientInterceptor {
+
+    static final String RPC_TIMER_NAME = "genie.loadtest.rpc.timer";
+    static final String RPC_ERRORS_COUNTER_NAME = "genie.loadtest.rpc.errors.counter";
+    static final String METHOD_TAG = "method";
+    private static final String CODE_TAG = "code";
+
+    private final MeterRegistry registry;
+
+    /**
+     * Constructor.
+     *
+     * @param registry The registry to record the call latencies in
+     */
+    public RpcLatencyInterceptor(final MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(
+        final MethodDescriptor<ReqT, RespT> method,
+        final CallOptions callOptions,
+        final Channel next
+    ) {
+        final ClientCall<ReqT, RespT> call = next.newCall(method, callOptions);
+        if (method.getType() != MethodDescriptor.MethodType.UNARY) {
+            return call;
+        }
+
+        final String methodName = method.getFullMethodName();
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(call) {
+            @Override
+            public void start(final Listener<RespT> responseListener, final Metadata headers) {
+                final long start = System.nanoTime();
+                super.start(
+                    new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                        @Override
+                        public void onClose(final Status status, final Metadata trailers) {
+                            record(methodName, status, System.nanoTime() - start);
+                            super.onClose(status, trailers);
+                        }
+                    },
+                    headers
+                );
+            }
+        };
+    }
+
+    private void record(final String methodName, final Status status, final long durationNanos) {
+        Timer
+            .builder(RPC_TIMER_NAME)
+            .tag(METHOD_TAG, methodName)
+            .publishPercentiles(LoadTestReport.PERCENTILES)
+            .register(this.registry)
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+        if (!status.isOk()) {
+            this.registry
+                .counter(RPC_ERRORS_COUNTER_NAME, METHOD_TAG, methodName, CODE_TAG, status.getCode().name())
+                .increment();
+        }
+    }
+}
@@ -0,0 +1,479 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.loadtest;
+
+import com.google.common.collect.Lists;
+import com.google.protobuf.ByteString;
+import com.netflix.genie.common.external.util.GenieObjectMapper;
+import com.netflix.genie.common.internal.dtos.AgentClientMetadata;
+import com.netflix.genie.common.internal.dtos.AgentConfigRequest;
+import com.netflix.genie.common.internal.dtos.AgentJobRequest;
+import com.netflix.genie.common.internal.dtos.ArchiveStatus;
+import com.netflix.genie.common.internal.dtos.Criterion;
+import com.netflix.genie.common.internal.dtos.ExecutionResourceCriteria;
+import com.netflix.genie.common.internal.dtos.JobMetadata;
+import com.netflix.genie.common.internal.dtos.JobStatus;
+import com.netflix.genie.common.internal.dtos.converters.JobDirectoryManifestProtoConverter;
+import com.netflix.genie.common.internal.dtos.converters.JobServiceProtoConverter;
+import com.netflix.genie.common.internal.exceptions.checked.GenieConversionException;
+import com.netflix.genie.proto.AgentFileMessage;
+import com.netflix.genie.proto.AgentHeartBeat;
+import com.netflix.genie.proto.AgentManifestMessage;
+import com.netflix.genie.proto.ChangeJobStatusResponse;
+import com.netflix.genie.proto.ClaimJobResponse;
+import com.netflix.genie.proto.FileStreamServiceGrpc;
+import com.netflix.genie.proto.HandshakeResponse;
+import com.netflix.genie.proto.HeartBeatServiceGrpc;
+import com.netflix.genie.proto.JobKillRegistrationRequest;
+import com.netflix.genie.proto.JobKillRegistrationResponse;
+import com.netflix.genie.proto.JobKillServiceGrpc;
+import com.netflix.genie.proto.JobServiceGrpc;
+import com.netflix.genie.proto.JobSpecificationResponse;
+import com.netflix.genie.proto.ReserveJobIdResponse;
+import com.netflix.genie.proto.ServerAckMessage;
+import com.netflix.genie.proto.ServerControlMessage;
+import com.netflix.genie.proto.ServerFileRequestMessage;
+import com.netflix.genie.proto.ServerHeartBeat;
+import io.grpc.Channel;
+import io.grpc.Context;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A simulated agent. Runs jobs back to back until the end of the test, each one going through the same RPCs a real
+ * agent makes: handshake, configure, reserve, resolve, claim, status changes, heart beats, kill registration and
+ * manifest syncs. File requests coming from the server are served from an in-memory {@link AgentWorkspace}.
+ * <p>
+ * No process is launched, the job simply "runs" for the configured duration.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class SimulatedAgent implements Runnable {
+
+    static final String JOBS_TIMER_NAME = "genie.loadtest.jobs.timer";
+    static final String HEART_BEATS_COUNTER_NAME = "genie.loadtest.heartBeats.counter";
+    static final String MANIFESTS_COUNTER_NAME = "genie.loadtest.manifests.counter";
+    static final String CHUNKS_COUNTER_NAME = "genie.loadtest.fileChunks.counter";
+    static final String FAILURES_COUNTER_NAME = "genie.loadtest.jobFailures.counter";
+    static final String OUTCOME_TAG = "outcome";
+    static final String STEP_TAG = "step";
+
+    private final int index;
+    private final LoadTestSettings settings;
+    private final Channel channel;
+    private final Channel streamingChannel;
+    private final ScheduledExecutorService scheduler;
+    private final AgentWorkspace workspace;
+    private final Set<String> runningJobs;
+    private final MeterRegistry registry;
+    private final Duration startDelay;
+    private final Instant deadline;
+    private final AgentClientMetadata agentMetadata;
+    private final JobServiceProtoConverter jobServiceProtoConverter = new JobServiceProtoConverter();
+    private final JobDirectoryManifestProtoConverter manifestProtoConverter =
+        new JobDirectoryManifestProtoConverter(GenieObjectMapper.getMapper());
+
+    /**
+     * Constructor.
+     *
+     * @param index            The index of this agent, used to tell agents apart
+     * @param settings         The settings of the test
+     * @param channel          The channel to make unary calls on, it records their latency
+     * @param streamingChannel The channel to open long lived streams and calls on
+     * @param scheduler        The scheduler to send heart beats and manifests with
+     * @param workspace        The job directory to serve files from
+     * @param runningJobs      The jobs currently running. Updated by this agent
+     * @param registry         The registry to record metrics in
+     * @param startDelay       How long to wait before running the first job
+     * @param deadline         When to stop running new jobs
+     */
+    public SimulatedAgent(
+        final int index,
+        final LoadTestSettings settings,
+        final Channel channel,
+        final Channel streamingChannel,
+        final ScheduledExecutorService scheduler,
+        final AgentWorkspace workspace,
+        final Set<String> runningJobs,
+        final MeterRegistry registry,
+        final Duration startDelay,
+        final Instant deadline
+    ) {
+        this.index = index;
+        this.settings = settings;
+        this.channel = channel;
+        this.streamingChannel = streamingChannel;
+        this.scheduler = scheduler;
+        this.workspace = workspace;
+        this.runningJobs = runningJobs;
+        this.registry = registry;
+        this.startDelay = startDelay;
+        this.deadline = deadline;
+        this.agentMetadata = new AgentClientMetadata("loadtest-agent-" + index, "4.4.0-loadtest", index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run() {
+        try {
+            Thread.sleep(this.startDelay.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        while (Instant.now().isBefore(this.deadline) && !Thread.currentThread().isInterrupted()) {
+            final long start = System.nanoTime();
+            String outcome = "succeeded";
+            try {
+                this.runJob();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                outcome = "interrupted";
+            } catch (final StepFailedException e) {
+                log.debug("Agent {} failed a job: {}", this.index, e.getMessage());
+                this.registry.counter(FAILURES_COUNTER_NAME, STEP_TAG, e.getStep()).increment();
+                outcome = "failed";
+            } catch (final StatusRuntimeException e) {
+                log.debug("Agent {} failed a job: {}", this.index, e.getMessage());
+                this.registry.counter(FAILURES_COUNTER_NAME, STEP_TAG, e.getStatus().getCode().name()).increment();
+                outcome = "failed";
+            }
+            Timer
+                .builder(JOBS_TIMER_NAME)
+                .tag(OUTCOME_TAG, outcome)
+                .publishPercentiles(LoadTestReport.PERCENTILES)
+                .register(this.registry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void runJob() throws InterruptedException {
+        final JobServiceGrpc.JobServiceBlockingStub jobService = JobServiceGrpc.newBlockingStub(this.channel);
+
+        final HandshakeResponse handshakeResponse;
+        final ReserveJobIdResponse reserveJobIdResponse;
+        try {
+            handshakeResponse = jobService.handshake(
+                this.jobServiceProtoConverter.toHandshakeRequestProto(this.agentMetadata)
+            );
+            check(handshakeResponse.getType() == HandshakeResponse.Type.ALLOWED, "handshake", handshakeResponse);
+            jobService.configure(this.jobServiceProtoConverter.toConfigureRequestProto(this.agentMetadata));
+            reserveJobIdResponse = jobService.reserveJobId(
+                this.jobServiceProtoConverter.toReserveJobIdRequestProto(this.createJobRequest(), this.agentMetadata)
+            );
+        } catch (final GenieConversionException e) {
+            throw new StepFailedException("conversion", e.getMessage());
+        }
+        check(
+            reserveJobIdResponse.getResponseCase() == ReserveJobIdResponse.ResponseCase.ID,
+            "reserveJobId",
+            reserveJobIdResponse
+        );
+        final String jobId = reserveJobIdResponse.getId();
+
+        final JobSpecificationResponse specificationResponse = jobService.resolveJobSpecification(
+            this.jobServiceProtoConverter.toJobSpecificationRequestProto(jobId)
+        );
+        check(
+            specificationResponse.getResponseCase() == JobSpecificationResponse.ResponseCase.SPECIFICATION,
+            "resolveJobSpecification",
+            specificationResponse
+        );
+
+        final ClaimJobResponse claimJobResponse = jobService.claimJob(
+            this.jobServiceProtoConverter.toClaimJobRequestProto(jobId, this.agentMetadata)
+        );
+        check(claimJobResponse.getSuccessful(), "claimJob", claimJobResponse);
+
+        this.changeStatus(jobService, jobId, JobStatus.CLAIMED, JobStatus.INIT);
+        try (JobStreams ignored = new JobStreams(jobId)) {
+            this.changeStatus(jobService, jobId, JobStatus.INIT, JobStatus.RUNNING);
+            this.runningJobs.add(jobId);
+            try {
+                Thread.sleep(this.settings.getJobDuration().toMillis());
+            } finally {
+                this.runningJobs.remove(jobId);
+            }
+            this.changeStatus(jobService, jobId, JobStatus.RUNNING, JobStatus.SUCCEEDED);
+        }
+
+        jobService.changeJobArchiveStatus(
+            this.jobServiceProtoConverter.toChangeJobStatusArchiveRequestProto(jobId, ArchiveStatus.DISABLED)
+        );
+    }
+
+    private void changeStatus(
+        final JobServiceGrpc.JobServiceBlockingStub jobService,
+        final String jobId,
+        final JobStatus currentStatus,
+        final JobStatus newStatus
+    ) {
+        final ChangeJobStatusResponse response = jobService.changeJobStatus(
+            this.jobServiceProtoConverter.toChangeJobStatusRequestProto(jobId, currentStatus, newStatus, null)
+        );
+        check(response.getSuccessful(), "changeJobStatus." + newStatus.name(), response);
+    }
+
+    private AgentJobRequest createJobRequest() {
+        return new AgentJobRequest.Builder(
+            new JobMetadata.Builder("loadtest", "loadtest-user-" + (this.index % 100)).build(),
+            new ExecutionResourceCriteria(
+                Lists.newArrayList(new Criterion.Builder().withTags(InProcessGenieServer.CLUSTER_TAGS).build()),
+                new Criterion.Builder().withTags(InProcessGenieServer.COMMAND_TAGS).build(),
+                null
+            ),
+            new AgentConfigRequest.Builder().withArchivingDisabled(true).build()
+        ).build();
+    }
+
+    private static void check(final boolean condition, final String step, final Object response) {
+        if (!condition) {
+            throw new StepFailedException(step, String.valueOf(response).trim());
+        }
+    }
+
+    /**
+     * The streams an agent keeps open while its job runs.
+     */
+    private final class JobStreams implements AutoCloseable {
+        private final Context.CancellableContext killRegistrationContext;
+        private final StreamObserver<AgentHeartBeat> heartBeatObserver;
+        private final StreamObserver<AgentManifestMessage> manifestObserver;
+        private final AgentManifestMessage manifestMessage;
+        private final ScheduledFuture<?> heartBeatFuture;
+        private final ScheduledFuture<?> manifestFuture;
+
+        private JobStreams(final String jobId) {
+            try {
+                this.manifestMessage = manifestProtoConverter.manifestToProtoMessage(jobId, workspace.getManifest());
+            } catch (final GenieConversionException e) {
+                throw new StepFailedException("manifest", e.getMessage());
+            }
+
+            this.killRegistrationContext = Context.current().withCancellation();
+            this.killRegistrationContext.run(
+                () -> JobKillServiceGrpc.newStub(streamingChannel).registerForKillNotification(
+                    JobKillRegistrationRequest.newBuilder().setJobId(jobId).build(),
+                    new IgnoringObserver<JobKillRegistrationResponse>()
+                )
+            );
+
+            this.heartBeatObserver = HeartBeatServiceGrpc
+                .newStub(streamingChannel)
+                .heartbeat(new IgnoringObserver<ServerHeartBeat>());
+            final AgentHeartBeat heartBeat = AgentHeartBeat.newBuilder().setClaimedJobId(jobId).build();
+            this.heartBeatFuture = scheduler.scheduleAtFixedRate(
+                () -> this.send(this.heartBeatObserver, heartBeat, HEART_BEATS_COUNTER_NAME),
+                0L,
+                settings.getHeartBeatInterval().toMillis(),
+                TimeUnit.MILLISECONDS
+            );
+
+            this.manifestObserver = FileStreamServiceGrpc
+                .newStub(streamingChannel)
+                .sync(new ControlObserver());
+            this.manifestFuture = scheduler.scheduleAtFixedRate(
+                () -> this.send(this.manifestObserver, this.manifestMessage, MANIFESTS_COUNTER_NAME),
+                0L,
+                settings.getManifestInterval().toMillis(),
+                TimeUnit.MILLISECONDS
+            );
+        }
+
+        private <T> void send(final StreamObserver<T> observer, final T message, final String counterName) {
+            synchronized (observer) {
+                try {
+                    observer.onNext(message);
+                    registry.counter(counterName).increment();
+                } catch (final RuntimeException e) {
+                    log.debug("Agent {} failed to send {}: {}", index, counterName, e.getMessage());
+                }
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+            this.heartBeatFuture.cancel(false);
+            this.manifestFuture.cancel(false);
+            synchronized (this.heartBeatObserver) {
+                this.heartBeatObserver.onCompleted();
+            }
+            synchronized (this.manifestObserver) {
+                this.manifestObserver.onCompleted();
+            }
+            this.killRegistrationContext.cancel(null);
+        }
+    }
+
+    /**
+     * Receives the file requests of the server and starts a transfer for each of them.
+     */
+    private final class ControlObserver implements StreamObserver<ServerControlMessage> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onNext(final ServerControlMessage value) {
+            if (value.hasServerFileRequest()) {
+                new FileTransfer(value.getServerFileRequest()).start();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onError(final Throwable t) {
+            log.debug("Agent {} control stream failed: {}", index, t.getMessage());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onCompleted() {
+            log.debug("Agent {} control stream completed", index);
+        }
+    }
+
+    /**
+     * Sends a range of a file to the server one chunk at a time, waiting for each chunk to be acknowledged before
+     * sending the next one, like the real agent does.
+     */
+    private final class FileTransfer implements StreamObserver<ServerAckMessage> {
+        private final String streamId;
+        private final byte[] content;
+        private final int endOffset;
+        private int offset;
+        private StreamObserver<AgentFileMessage> chunkObserver;
+
+        private FileTransfer(final ServerFileRequestMessage request) {
+            this.streamId = request.getStreamId();
+            final byte[] file = workspace.getContent(request.getRelativePath());
+            this.content = file == null ? new byte[0] : file;
+            this.endOffset = (int) Math.min(request.getEndOffset(), this.content.length);
+            this.offset = (int) Math.min(request.getStartOffset(), this.endOffset);
+        }
+
+        private synchronized void start() {
+            this.chunkObserver = FileStreamServiceGrpc.newStub(streamingChannel).transmit(this);
+            this.sendNextChunk();
+        }
+
+        private synchronized void sendNextChunk() {
+            if (this.offset >= this.endOffset) {
+                this.chunkObserver.onCompleted();
+                return;
+            }
+            final int size = Math.min(settings.getChunkSize(), this.endOffset - this.offset);
+            this.chunkObserver.onNext(
+                AgentFileMessage.newBuilder()
+                    .setStreamId(this.streamId)
+                    .setData(ByteString.copyFrom(this.content, this.offset, size))
+                    .build()
+            );
+            this.offset += size;
+            registry.counter(CHUNKS_COUNTER_NAME).increment();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onNext(final ServerAckMessage value) {
+            this.sendNextChunk();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onError(final Throwable t) {
+            log.debug("Agent {} transfer {} failed: {}", index, this.streamId, t.getMessage());
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onCompleted() {
+            log.debug("Agent {} transfer {} completed", index, this.streamId);
+        }
+    }
+
+    /**
+     * Observer for responses the simulated agent doesn't act on.
+     *
+     * @param <T> The type of the responses
+     */
+    private static final class IgnoringObserver<T> implements StreamObserver<T> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onNext(final T value) {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onError(final Throwable t) {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void onCompleted() {
+        }
+    }
+
+    private static final class StepFailedException extends RuntimeException {
+        private final String step;
+
+        private StepFailedException(final String step, final String message) {
+            super(step + " failed: " + message);
+            this.step = step;
+        }
+
+        private String getStep() {
+            return this.step;
+        }
+    }
+}
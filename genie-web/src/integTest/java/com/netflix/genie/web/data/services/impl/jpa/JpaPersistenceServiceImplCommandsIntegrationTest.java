@@ -31,6 +31,7 @@ import com.netflix.genie.common.internal.dtos.ComputeResources;
 import com.netflix.genie.common.internal.dtos.Criterion;
 import com.netflix.genie.common.internal.dtos.Image;
 import com.netflix.genie.common.internal.exceptions.checked.GenieCheckedException;
+import com.netflix.genie.web.data.services.impl.jpa.entities.CommandEntity;
 import com.netflix.genie.web.exceptions.checked.NotFoundException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -333,6 +334,32 @@ class JpaPersistenceServiceImplCommandsIntegrationTest extends JpaPersistenceSer
             .isThrownBy(() -> this.service.getCommand(id));
     }
 
+    @Test
+    @DatabaseSetup("persistence/commands/init.xml")
+    void testGetCatalogVersion() throws GenieCheckedException {
+        final String initialVersion = this.service.getCatalogVersion();
+        Assertions.assertThat(this.service.getCatalogVersion()).isEqualTo(initialVersion);
+
+        final String id = this.service.saveCommand(
+            new CommandRequest.Builder(
+                new CommandMetadata.Builder(
+                    COMMAND_1_NAME,
+                    COMMAND_1_USER,
+                    COMMAND_1_VERSION,
+                    CommandStatus.ACTIVE
+                )
+                    .build(),
+                COMMAND_1_EXECUTABLE
+            )
+                .build()
+        );
+        final String createdVersion = this.service.getCatalogVersion();
+        Assertions.assertThat(createdVersion).isNotEqualTo(initialVersion);
+
+        this.service.deleteCommand(id);
+        Assertions.assertThat(this.service.getCatalogVersion()).isNotEqualTo(createdVersion);
+    }
+
     @Test
     @DatabaseSetup("persistence/commands/init.xml")
     void testUpdateCommand() throws GenieCheckedException {
@@ -990,6 +1017,12 @@ class JpaPersistenceServiceImplCommandsIntegrationTest extends JpaPersistenceSer
                 )
             )
             .isEqualTo(3);
+        // The bulk update bypasses entity callbacks so make sure the updated time was still changed
+        for (final String id : new String[]{"command2", "command4", "command5"}) {
+            Assertions
+                .assertThat(this.commandRepository.findByUniqueId(id).map(CommandEntity::getUpdated))
+                .hasValueSatisfying(updated -> Assertions.assertThat(updated).isAfter(present));
+        }
     }
 
     @Test
@@ -58,8 +58,13 @@ import com.netflix.genie.common.internal.exceptions.checked.GenieCheckedExceptio
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieInvalidStatusException;
 import com.netflix.genie.test.suppliers.RandomSuppliers;
 import com.netflix.genie.web.data.services.impl.jpa.entities.JobEntity;
+import com.netflix.genie.web.data.services.impl.jpa.entities.JobStatusHistoryEntity;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.ClusterJobResourcesAggregate;
 import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobInfoAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobResourcesAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.UserHostJobResourcesAggregate;
 import com.netflix.genie.web.data.services.impl.jpa.queries.projections.v4.JobSpecificationProjection;
+import com.netflix.genie.web.dtos.JobResourceUsage;
 import com.netflix.genie.web.dtos.JobSubmission;
 import com.netflix.genie.web.dtos.ResolvedJob;
 import com.netflix.genie.web.exceptions.checked.IdAlreadyExistsException;
@@ -480,6 +485,29 @@ class JpaPersistenceServiceImplJobsIntegrationTest extends JpaPersistenceService
         Assertions.assertThat(jobEntity.getStatusMsg()).isPresent().contains(successMessage);
         Assertions.assertThat(jobEntity.getStarted()).isPresent();
         Assertions.assertThat(jobEntity.getFinished()).isPresent();
+        Assertions.assertThat(jobEntity.getStatusUpdated()).isPresent();
+
+        final List<JobStatusHistoryEntity> history = this.jobStatusHistoryRepository.findByJobIdOrderByIdAsc(jobId);
+        Assertions
+            .assertThat(history)
+            .extracting(JobStatusHistoryEntity::getStatus)
+            .containsExactly(
+                JobStatus.RESERVED.name(),
+                JobStatus.RESOLVED.name(),
+                JobStatus.CLAIMED.name(),
+                JobStatus.INIT.name(),
+                JobStatus.RUNNING.name(),
+                JobStatus.SUCCEEDED.name()
+            );
+        Assertions.assertThat(history.get(0).getPreviousStatus()).isNotPresent();
+        Assertions.assertThat(history.get(4).getPreviousStatus()).contains(JobStatus.INIT.name());
+        Assertions.assertThat(history.get(4).getStatusMsg()).contains(runningStatusMessage);
+        Assertions.assertThat(jobEntity.getStatusUpdated()).contains(history.get(5).getCreated());
+
+        Assertions
+            .assertThat(this.service.deleteJobStatusHistoryCreatedBefore(Instant.now().plusSeconds(1L), 4))
+            .isEqualTo(4L);
+        Assertions.assertThat(this.jobStatusHistoryRepository.findByJobIdOrderByIdAsc(jobId)).hasSize(2);
     }
 
     @Test
@@ -597,6 +625,31 @@ class JpaPersistenceServiceImplJobsIntegrationTest extends JpaPersistenceService
         Assertions.assertThat(this.service.getJobArchiveStatus(JOB_2_ID)).isEqualTo(ArchiveStatus.ARCHIVED);
     }
 
+    @Test
+    @DatabaseSetup("persistence/jobs/init.xml")
+    void canUpdateJobResourceUsage() throws GenieCheckedException {
+        Assertions
+            .assertThatExceptionOfType(NotFoundException.class)
+            .isThrownBy(
+                () -> this.service.updateJobResourceUsage(
+                    UUID.randomUUID().toString(),
+                    new JobResourceUsage(1L, 1L, 1L, 1L, 1L, 1L, 1)
+                )
+            );
+
+        final JobResourceUsage first = new JobResourceUsage(2L, 400L, 300L, 1_000L, 10L, 20L, 8);
+        this.service.updateJobResourceUsage(JOB_2_ID, first);
+        Assertions
+            .assertThat(this.jobRepository.findByUniqueId(JOB_2_ID).orElseThrow().getResourceUsage())
+            .contains(first);
+
+        final JobResourceUsage second = new JobResourceUsage(1L, 200L, 600L, 1_500L, 5L, 40L, 4);
+        this.service.updateJobResourceUsage(JOB_2_ID, second);
+        Assertions
+            .assertThat(this.jobRepository.findByUniqueId(JOB_2_ID).orElseThrow().getResourceUsage())
+            .contains(first.merge(second));
+    }
+
     @Test
     @DatabaseSetup("persistence/jobs/search.xml")
     void canFindJobs() {
@@ -1108,6 +1161,30 @@ class JpaPersistenceServiceImplJobsIntegrationTest extends JpaPersistenceService
             .containsExactlyInAnyOrder(JOB_2_ID, JOB_3_ID, AGENT_JOB_1, AGENT_JOB_2);
     }
 
+    @Test
+    @DatabaseSetup("persistence/jobs/search.xml")
+    void canGetActiveClusterJobResources() {
+        final Set<ClusterJobResourcesAggregate> aggregates = this.service.getActiveClusterJobResources();
+        Assertions.assertThat(aggregates).hasSize(2);
+        Assertions.assertThat(aggregates).allMatch(aggregate -> "cluster1".equals(aggregate.getClusterId()));
+        Assertions
+            .assertThat(aggregates)
+            .anySatisfy(
+                aggregate -> {
+                    Assertions.assertThat(aggregate.getStatus()).isEqualTo(JobStatus.INIT.name());
+                    Assertions.assertThat(aggregate.getJobsCount()).isEqualTo(1L);
+                    Assertions.assertThat(aggregate.getRequestedMemory()).isEqualTo(2048L);
+                }
+            )
+            .anySatisfy(
+                aggregate -> {
+                    Assertions.assertThat(aggregate.getStatus()).isEqualTo(JobStatus.RUNNING.name());
+                    Assertions.assertThat(aggregate.getJobsCount()).isEqualTo(3L);
+                    Assertions.assertThat(aggregate.getRequestedMemory()).isEqualTo(6144L);
+                }
+            );
+    }
+
     @Test
     @DatabaseSetup("persistence/jobs/unclaimed.xml")
     void canGetUnclaimedJobs() {
@@ -1117,6 +1194,37 @@ class JpaPersistenceServiceImplJobsIntegrationTest extends JpaPersistenceService
             .containsExactlyInAnyOrder(JOB_2_ID, AGENT_JOB_1, AGENT_JOB_2);
     }
 
+    @Test
+    @DatabaseSetup("persistence/jobs/unclaimed.xml")
+    void canQueueReservedJobs() throws GenieCheckedException {
+        final String owner = "a.netflix.com/" + UUID.randomUUID();
+        final String otherOwner = "b.netflix.com/" + UUID.randomUUID();
+
+        Assertions.assertThat(this.service.queueJob(JOB_2_ID, owner)).isFalse();
+        Assertions.assertThat(this.service.queueJob(AGENT_JOB_1, owner)).isTrue();
+        Assertions.assertThat(this.service.getQueuedJobs()).containsExactly(AGENT_JOB_1);
+        Assertions.assertThat(this.service.renewQueuedJobs(owner)).isEqualTo(1);
+        Assertions.assertThat(this.service.renewQueuedJobs(otherOwner)).isEqualTo(0);
+
+        // The lease is still current
+        final Instant lapsedBefore = Instant.now().minus(1, ChronoUnit.HOURS);
+        Assertions.assertThat(this.service.getQueuedJobsNotRenewedSince(lapsedBefore, 10)).isEmpty();
+        Assertions.assertThat(this.service.adoptQueuedJob(AGENT_JOB_1, otherOwner, lapsedBefore)).isFalse();
+
+        final Instant renewedBefore = Instant.now().plus(1, ChronoUnit.HOURS);
+        Assertions
+            .assertThat(this.service.getQueuedJobsNotRenewedSince(renewedBefore, 10))
+            .containsExactly(AGENT_JOB_1);
+        Assertions.assertThat(this.service.adoptQueuedJob(AGENT_JOB_1, otherOwner, renewedBefore)).isTrue();
+        Assertions.assertThat(this.service.renewQueuedJobs(owner)).isEqualTo(0);
+        Assertions.assertThat(this.service.dequeueJob(AGENT_JOB_1, owner)).isFalse();
+
+        Assertions.assertThat(this.service.dequeueJob(AGENT_JOB_1, otherOwner)).isTrue();
+        Assertions.assertThat(this.service.dequeueJob(AGENT_JOB_1, otherOwner)).isFalse();
+        Assertions.assertThat(this.service.getQueuedJobs()).isEmpty();
+        Assertions.assertThat(this.service.getJobStatus(AGENT_JOB_1)).isEqualTo(JobStatus.RESERVED);
+    }
+
     @Test
     @DatabaseSetup("persistence/jobs/getHostJobInformation/setup.xml")
     void canGetJobHostInformation() {
@@ -1138,6 +1246,38 @@ class JpaPersistenceServiceImplJobsIntegrationTest extends JpaPersistenceService
         Assertions.assertThat(randomInfo.getTotalMemoryUsed()).isEqualTo(0L);
     }
 
+    @Test
+    @DatabaseSetup("persistence/jobs/getHostJobInformation/setup.xml")
+    void canGetActiveJobResourcesOnHost() {
+        Assertions
+            .assertThat(this.service.getActiveJobResourcesOnHost("a.netflix.com"))
+            .extracting(JobResourcesAggregate::getUniqueId, JobResourcesAggregate::getMemoryUsed)
+            .containsExactly(Assertions.tuple("job2", 2048L));
+        Assertions
+            .assertThat(this.service.getActiveJobResourcesOnHost("agent.netflix.com"))
+            .extracting(JobResourcesAggregate::getUniqueId)
+            .containsExactlyInAnyOrder("agentJob1", "agentJob2");
+        Assertions.assertThat(this.service.getActiveJobResourcesOnHost(UUID.randomUUID().toString())).isEmpty();
+    }
+
+    @Test
+    @DatabaseSetup("persistence/jobs/getHostJobInformation/setup.xml")
+    void canGetActiveUserHostJobResources() {
+        Assertions
+            .assertThat(this.service.getActiveUserHostJobResources())
+            .extracting(
+                UserHostJobResourcesAggregate::getUser,
+                UserHostJobResourcesAggregate::getAgentHostname,
+                UserHostJobResourcesAggregate::getNumberOfJobs,
+                UserHostJobResourcesAggregate::getMemory
+            )
+            .containsExactlyInAnyOrder(
+                Assertions.tuple("tgianos", "a.netflix.com", 1L, 2048L),
+                Assertions.tuple("tgianos", "b.netflix.com", 1L, 2048L),
+                Assertions.tuple("tgianos", "agent.netflix.com", 2L, 4096L)
+            );
+    }
+
     @Test
     @DatabaseSetup("persistence/jobs/archive_status.xml")
     void canGetFinishedJobsWithPendingArchiveStatus() {
@@ -31,6 +31,7 @@ import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaCommandRepos
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaCriterionRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaFileRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaJobRepository;
+import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaJobStatusHistoryRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaTagRepository;
 import com.netflix.genie.web.spring.autoconfigure.ValidationAutoConfiguration;
 import com.netflix.genie.web.spring.autoconfigure.data.DataAutoConfiguration;
@@ -94,6 +95,9 @@ class JpaPersistenceServiceIntegrationTestBase {
     @Autowired
     protected JpaJobRepository jobRepository;
 
+    @Autowired
+    protected JpaJobStatusHistoryRepository jobStatusHistoryRepository;
+
     @Autowired
     protected JpaFileRepository fileRepository;
 
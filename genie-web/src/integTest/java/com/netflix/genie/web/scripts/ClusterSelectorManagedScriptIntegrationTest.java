@@ -136,7 +136,8 @@ class ClusterSelectorManagedScriptIntegrationTest {
             scriptManager,
             this.scriptProperties,
             meterRegistry,
-            this.cache
+            this.cache,
+            null
         );
     }
 
@@ -17,6 +17,7 @@
  */
 package com.netflix.genie.web.agent.apis.rpc.servers;
 
+import io.grpc.MethodDescriptor;
 import io.grpc.Server;
 import lombok.extern.slf4j.Slf4j;
 
@@ -59,4 +60,15 @@ public class GRpcServerUtils {
             throw new IllegalStateException("Unable to start gRPC server on port " + server.getPort(), ioe);
         }
     }
+
+    /**
+     * Get the name of the service a method belongs to without the package of the service.
+     *
+     * @param method The method
+     * @return The simple name of the service e.g. {@literal FileStreamService}
+     */
+    public static String getSimpleServiceName(final MethodDescriptor<?, ?> method) {
+        final String serviceName = String.valueOf(method.getServiceName());
+        return serviceName.substring(serviceName.lastIndexOf('.') + 1);
+    }
 }
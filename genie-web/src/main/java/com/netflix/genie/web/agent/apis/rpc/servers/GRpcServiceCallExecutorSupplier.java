@@ -0,0 +1,172 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.agent.apis.rpc.servers;
+
+import com.netflix.genie.web.properties.GRpcServerProperties;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallExecutorSupplier;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import jakarta.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chooses the executor the callbacks of each gRPC call run on. Services configured with dedicated threads in
+ * {@link GRpcServerProperties#getServiceIsolation()} get their own pool so a burst of calls to one service, such as
+ * bulk file streaming, can't hold up the calls of another, such as heartbeats. All other services share a default
+ * executor.
+ * <p>
+ * The time each callback waits for a thread is recorded per method.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class GRpcServiceCallExecutorSupplier implements ServerCallExecutorSupplier, AutoCloseable {
+
+    static final String QUEUE_DELAY_TIMER_NAME = "genie.rpc.server.queueDelay.timer";
+    static final String SERVICE_TAG = "service";
+    static final String METHOD_TAG = "method";
+    private static final String THREAD_NAME_PREFIX = "genie-grpc-";
+
+    private final GRpcServerProperties properties;
+    private final MeterRegistry registry;
+    private final Executor defaultExecutor;
+    @Nullable
+    private final ExecutorService pooledDefaultExecutor;
+    private final Map<String, ExecutorService> serviceExecutors = new ConcurrentHashMap<>();
+    private final Map<String, Executor> methodExecutors = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param properties     The {@link GRpcServerProperties} to use
+     * @param registry       The {@link MeterRegistry} to publish queueing delays to
+     * @param virtualThreads Whether the default executor runs each callback on its own virtual thread instead of on a
+     *                       cached pool of platform threads
+     */
+    public GRpcServiceCallExecutorSupplier(
+        final GRpcServerProperties properties,
+        final MeterRegistry registry,
+        final boolean virtualThreads
+    ) {
+        this.properties = properties;
+        this.registry = registry;
+        if (virtualThreads) {
+            final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+            executor.setVirtualThreads(true);
+            this.defaultExecutor = executor;
+            this.pooledDefaultExecutor = null;
+        } else {
+            // The same kind of executor gRPC uses when none is configured
+            this.pooledDefaultExecutor = Executors.newCachedThreadPool(createThreadFactory(THREAD_NAME_PREFIX));
+            this.defaultExecutor = this.pooledDefaultExecutor;
+        }
+    }
+
+    /**
+     * Get the executor shared by all the services without dedicated threads.
+     *
+     * @return The default executor
+     */
+    public Executor getDefaultExecutor() {
+        return this.defaultExecutor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <ReqT, RespT> Executor getExecutor(final ServerCall<ReqT, RespT> call, final Metadata metadata) {
+        final MethodDescriptor<ReqT, RespT> method = call.getMethodDescriptor();
+        return this.methodExecutors.computeIfAbsent(
+            method.getFullMethodName(),
+            fullMethodName -> this.createMethodExecutor(method)
+        );
+    }
+
+    /**
+     * Shut down the dedicated service threads and the default pool.
+     */
+    @Override
+    public void close() {
+        this.serviceExecutors.values().forEach(ExecutorService::shutdownNow);
+        if (this.pooledDefaultExecutor != null) {
+            this.pooledDefaultExecutor.shutdownNow();
+        }
+    }
+
+    private Executor createMethodExecutor(final MethodDescriptor<?, ?> method) {
+        final String serviceName = GRpcServerUtils.getSimpleServiceName(method);
+        final GRpcServerProperties.ServiceIsolation isolation = this.properties.getServiceIsolation(serviceName);
+        final Executor delegate;
+        if (isolation.getThreads() > 0) {
+            delegate = this.serviceExecutors.computeIfAbsent(
+                serviceName,
+                name -> {
+                    log.info(
+                        "Running calls of gRPC service {} on {} dedicated threads with priority {}",
+                        name,
+                        isolation.getThreads(),
+                        isolation.getThreadPriority()
+                    );
+                    final CustomizableThreadFactory threadFactory = createThreadFactory(
+                        THREAD_NAME_PREFIX + name + "-"
+                    );
+                    threadFactory.setThreadPriority(isolation.getThreadPriority());
+                    return Executors.newFixedThreadPool(isolation.getThreads(), threadFactory);
+                }
+            );
+        } else {
+            delegate = this.defaultExecutor;
+        }
+
+        final Timer queueDelayTimer = Timer
+            .builder(QUEUE_DELAY_TIMER_NAME)
+            .tags(SERVICE_TAG, serviceName, METHOD_TAG, String.valueOf(method.getBareMethodName()))
+            .publishPercentileHistogram()
+            .register(this.registry);
+
+        return command -> {
+            final long enqueuedAt = System.nanoTime();
+            delegate.execute(
+                () -> {
+                    queueDelayTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                    command.run();
+                }
+            );
+        };
+    }
+
+    private static CustomizableThreadFactory createThreadFactory(final String threadNamePrefix) {
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
@@ -382,7 +382,9 @@ public class GRpcAgentFileStreamServiceImpl
         }
     }
 
-    // Manages in-progress file transfers
+    // Manages in-progress file transfers.
+    // Its monitor only guards in-memory bookkeeping and non-blocking gRPC calls, the potentially blocking buffer writes
+    // happen outside of it (see writeDataAndAck), so it can stay synchronized without pinning virtual threads for long.
     private static final class TransferManager {
         private final Map<String, FileTransfer> activeTransfers = Maps.newHashMap();
         private final Set<AgentFileChunkObserver> unclaimedTransferStreams = Sets.newHashSet();
@@ -17,23 +17,35 @@
  */
 package com.netflix.genie.web.agent.apis.rpc.v4.endpoints;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.netflix.genie.proto.AgentHeartBeat;
 import com.netflix.genie.proto.HeartBeatServiceGrpc;
+import com.netflix.genie.proto.ProcessTreeUsage;
 import com.netflix.genie.proto.ServerHeartBeat;
+import com.netflix.genie.web.agent.services.AgentConnectionRebalancingService;
 import com.netflix.genie.web.agent.services.AgentConnectionTrackingService;
 import com.netflix.genie.web.agent.services.AgentRoutingService;
+import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.data.services.PersistenceService;
+import com.netflix.genie.web.dtos.JobResourceUsage;
+import com.netflix.genie.web.exceptions.checked.NotFoundException;
 import com.netflix.genie.web.properties.HeartBeatProperties;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.scheduling.TaskScheduler;
 
+import jakarta.annotation.Nullable;
 import jakarta.annotation.PreDestroy;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ScheduledFuture;
@@ -42,6 +54,12 @@ import java.util.concurrent.ScheduledFuture;
  * An edge gRPC service that uses bi-directional streaming.
  * This is useful to reliably track which connection is handled by which server and to detect disconnections on both
  * ends.
+ * <p>
+ * When an {@link AgentConnectionRebalancingService} is present the regular server heartbeats also carry requests for
+ * some agents to reconnect, which may then land on a less loaded node.
+ * <p>
+ * The process tree resource usage piggybacked on agent heartbeats is saved in batches by a separate task so that
+ * database latency never delays heartbeats.
  *
  * @author mprimi
  * @since 4.0.0
@@ -50,34 +68,74 @@ import java.util.concurrent.ScheduledFuture;
 public class GRpcHeartBeatServiceImpl extends HeartBeatServiceGrpc.HeartBeatServiceImplBase {
 
     private static final String HEARTBEATING_GAUGE_NAME = "genie.agents.heartbeating.gauge";
+    private static final String PROCESS_TREE_PEAK_RSS_DISTRIBUTION_NAME
+        = "genie.agents.jobs.processTree.peakRss.distribution";
+    private static final String PROCESS_TREE_PEAK_THREADS_DISTRIBUTION_NAME
+        = "genie.agents.jobs.processTree.peakThreads.distribution";
+    private static final String RECONNECT_REQUESTED_COUNTER_NAME
+        = "genie.agents.connections.reconnectRequested.counter";
+    private static final ServerHeartBeat RECONNECT_HEART_BEAT = ServerHeartBeat.newBuilder().setReconnect(true).build();
     private final AgentConnectionTrackingService agentConnectionTrackingService;
+    private final PersistenceService persistenceService;
     private final HeartBeatProperties properties;
     private final Map<String, AgentStreamRecord> activeStreamsMap = Maps.newHashMap();
     private final ScheduledFuture<?> sendHeartbeatsFuture;
+    private final ScheduledFuture<?> persistResourceUsageFuture;
+    // Usage reported on streams which ended but which isn't saved yet, by job id
+    private final Map<String, JobResourceUsage> endedStreamsResourceUsage = Maps.newConcurrentMap();
+    // Held for each save of resource usage so shutdown can wait for a run in flight
+    private final Object persistResourceUsageLock = new Object();
+    private boolean persistResourceUsageStopped;
     private final MeterRegistry registry;
+    private final DistributionSummary peakRssDistribution;
+    private final DistributionSummary peakThreadsDistribution;
+    private final Counter reconnectRequestedCounter;
+    private final AgentConnectionRebalancingService agentConnectionRebalancingService;
 
     /**
      * Constructor.
      *
-     * @param agentConnectionTrackingService The {@link AgentRoutingService} implementation to use
-     * @param properties                     The service properties
-     * @param taskScheduler                  The {@link TaskScheduler} instance to use
-     * @param registry                       The meter registry
+     * @param agentConnectionTrackingService    The {@link AgentRoutingService} implementation to use
+     * @param dataServices                      The {@link DataServices} instance to use to save job resource usage
+     * @param properties                        The service properties
+     * @param taskScheduler                     The {@link TaskScheduler} instance to use
+     * @param resourceUsageTaskScheduler        The {@link TaskScheduler} to save job resource usage with
+     * @param registry                          The meter registry
+     * @param agentConnectionRebalancingService The service deciding how many agents to ask to reconnect, if any
      */
     public GRpcHeartBeatServiceImpl(
         final AgentConnectionTrackingService agentConnectionTrackingService,
+        final DataServices dataServices,
         final HeartBeatProperties properties,
         final TaskScheduler taskScheduler,
-        final MeterRegistry registry
+        final TaskScheduler resourceUsageTaskScheduler,
+        final MeterRegistry registry,
+        @Nullable final AgentConnectionRebalancingService agentConnectionRebalancingService
     ) {
         this.agentConnectionTrackingService = agentConnectionTrackingService;
+        this.agentConnectionRebalancingService = agentConnectionRebalancingService;
+        this.persistenceService = dataServices.getPersistenceService();
         this.properties = properties;
         this.sendHeartbeatsFuture = taskScheduler.scheduleWithFixedDelay(
             this::sendHeartbeats,
             this.properties.getSendInterval()
         );
+        this.persistResourceUsageFuture = resourceUsageTaskScheduler.scheduleWithFixedDelay(
+            this::persistResourceUsage,
+            this.properties.getResourceUsagePersistInterval()
+        );
         this.registry = registry;
         this.registry.gaugeMapSize(HEARTBEATING_GAUGE_NAME, Sets.newHashSet(), activeStreamsMap);
+        this.peakRssDistribution = DistributionSummary
+            .builder(PROCESS_TREE_PEAK_RSS_DISTRIBUTION_NAME)
+            .baseUnit("bytes")
+            .publishPercentileHistogram()
+            .register(this.registry);
+        this.peakThreadsDistribution = DistributionSummary
+            .builder(PROCESS_TREE_PEAK_THREADS_DISTRIBUTION_NAME)
+            .publishPercentileHistogram()
+            .register(this.registry);
+        this.reconnectRequestedCounter = this.registry.counter(RECONNECT_REQUESTED_COUNTER_NAME);
     }
 
     /**
@@ -88,6 +146,9 @@ public class GRpcHeartBeatServiceImpl extends HeartBeatServiceGrpc.HeartBeatServ
         if (sendHeartbeatsFuture != null) {
             sendHeartbeatsFuture.cancel(false);
         }
+        if (persistResourceUsageFuture != null) {
+            persistResourceUsageFuture.cancel(false);
+        }
 
         synchronized (activeStreamsMap) {
             for (final Map.Entry<String, AgentStreamRecord> agentStreamRecordEntry : activeStreamsMap.entrySet()) {
@@ -101,9 +162,17 @@ public class GRpcHeartBeatServiceImpl extends HeartBeatServiceGrpc.HeartBeatServ
             }
             for (final AgentStreamRecord agentStreamRecord : activeStreamsMap.values()) {
                 agentStreamRecord.responseObserver.onCompleted();
+                this.handleStreamEnd(agentStreamRecord);
             }
             activeStreamsMap.clear();
         }
+
+        // Save whatever usage is left as the regular task is no longer scheduled. Taking the lock waits for a run of
+        // the task in flight and runs which fired before the cancellation are skipped afterward.
+        synchronized (this.persistResourceUsageLock) {
+            this.persistResourceUsage();
+            this.persistResourceUsageStopped = true;
+        }
     }
 
     /**
@@ -112,13 +181,29 @@ public class GRpcHeartBeatServiceImpl extends HeartBeatServiceGrpc.HeartBeatServ
      */
     private void sendHeartbeats() {
         final Set<String> brokenStreams = Sets.newHashSet();
+        int reconnectQuota = this.agentConnectionRebalancingService == null
+            ? 0
+            : this.agentConnectionRebalancingService.takeReconnectQuota();
         synchronized (activeStreamsMap) {
+            // Stream ids are random so iteration order picks the agents asked to reconnect at random
             for (final Map.Entry<String, AgentStreamRecord> entry : this.activeStreamsMap.entrySet()) {
                 final String streamId = entry.getKey();
                 final AgentStreamRecord agentStreamRecord = entry.getValue();
 
+                ServerHeartBeat serverHeartBeat = ServerHeartBeat.getDefaultInstance();
+                if (reconnectQuota > 0 && agentStreamRecord.requestReconnect()) {
+                    log.info(
+                        "Asking agent of job {} to reconnect (stream id: {})",
+                        agentStreamRecord.getJobId(),
+                        streamId
+                    );
+                    serverHeartBeat = RECONNECT_HEART_BEAT;
+                    reconnectQuota--;
+                    this.reconnectRequestedCounter.increment();
+                }
+
                 try {
-                    agentStreamRecord.responseObserver.onNext(ServerHeartBeat.getDefaultInstance());
+                    agentStreamRecord.responseObserver.onNext(serverHeartBeat);
                 } catch (StatusRuntimeException | IllegalStateException e) {
                     log.warn("Stream {} of job {} is broken", streamId, agentStreamRecord.getJobId());
                     log.debug("Error probing job {} stream {}", agentStreamRecord.getJobId(), streamId, e);
@@ -128,8 +213,9 @@ public class GRpcHeartBeatServiceImpl extends HeartBeatServiceGrpc.HeartBeatServ
         }
 
         for (final String streamId : brokenStreams) {
+            final AgentStreamRecord agentStreamRecord;
             synchronized (activeStreamsMap) {
-                final AgentStreamRecord agentStreamRecord = this.activeStreamsMap.remove(streamId);
+                agentStreamRecord = this.activeStreamsMap.remove(streamId);
                 if (agentStreamRecord != null) {
                     log.debug("Removed broken stream {} of job {}", streamId, agentStreamRecord.getJobId());
                     if (agentStreamRecord.hasJobId()) {
@@ -137,6 +223,55 @@ public class GRpcHeartBeatServiceImpl extends HeartBeatServiceGrpc.HeartBeatServ
                     }
                 }
             }
+            if (agentStreamRecord != null) {
+                this.handleStreamEnd(agentStreamRecord);
+            }
+        }
+    }
+
+    /**
+     * Regularly scheduled to save the resource usage reported since the previous run, at most one write per job.
+     */
+    private void persistResourceUsage() {
+        synchronized (this.persistResourceUsageLock) {
+            if (!this.persistResourceUsageStopped) {
+                this.saveResourceUsage();
+            }
+        }
+    }
+
+    private void saveResourceUsage() {
+        final Map<String, JobResourceUsage> resourceUsages = Maps.newHashMap();
+        for (final String jobId : Sets.newHashSet(this.endedStreamsResourceUsage.keySet())) {
+            final JobResourceUsage resourceUsage = this.endedStreamsResourceUsage.remove(jobId);
+            if (resourceUsage != null) {
+                resourceUsages.put(jobId, resourceUsage);
+            }
+        }
+
+        final List<AgentStreamRecord> liveStreams;
+        synchronized (activeStreamsMap) {
+            liveStreams = Lists.newArrayList(this.activeStreamsMap.values());
+        }
+        for (final AgentStreamRecord agentStreamRecord : liveStreams) {
+            if (agentStreamRecord.hasJobId()) {
+                // A live stream of a job which also has an ended stream is the one it reconnected on, so it's later
+                final String jobId = agentStreamRecord.getJobId();
+                agentStreamRecord
+                    .drainResourceUsage()
+                    .ifPresent(usage -> resourceUsages.merge(jobId, usage, JobResourceUsage::merge));
+            }
+        }
+
+        for (final Map.Entry<String, JobResourceUsage> resourceUsage : resourceUsages.entrySet()) {
+            final String jobId = resourceUsage.getKey();
+            try {
+                this.persistenceService.updateJobResourceUsage(jobId, resourceUsage.getValue());
+            } catch (final NotFoundException e) {
+                log.warn("Unable to save process tree resource usage of job {} as it doesn't exist", jobId);
+            } catch (final RuntimeException e) {
+                log.error("Unable to save process tree resource usage of job {}", jobId, e);
+            }
         }
     }
 
@@ -180,6 +315,37 @@ public class GRpcHeartBeatServiceImpl extends HeartBeatServiceGrpc.HeartBeatServ
                 log.info("Received first heartbeat from job: {}", claimedJobId);
             }
             this.agentConnectionTrackingService.notifyHeartbeat(streamId, claimedJobId);
+            if (agentHeartBeat.hasProcessTreeUsage()) {
+                final ProcessTreeUsage usage = agentHeartBeat.getProcessTreeUsage();
+                agentStreamRecord.addResourceUsage(
+                    new JobResourceUsage(
+                        usage.getSampleCount(),
+                        usage.getPeakRssBytes(),
+                        usage.getAverageRssBytes(),
+                        usage.getCpuTimeMillis(),
+                        usage.getIoReadBytes(),
+                        usage.getIoWriteBytes(),
+                        usage.getPeakThreadCount()
+                    )
+                );
+            }
+        }
+    }
+
+    private void handleStreamEnd(final AgentStreamRecord agentStreamRecord) {
+        if (!agentStreamRecord.hasJobId()) {
+            return;
+        }
+        final String jobId = agentStreamRecord.getJobId();
+        agentStreamRecord
+            .drainResourceUsage()
+            .ifPresent(usage -> this.endedStreamsResourceUsage.merge(jobId, usage, JobResourceUsage::merge));
+
+        // An agent asked to reconnect carries on reporting on its new stream, the peaks are recorded when that one ends
+        final Optional<JobResourceUsage> streamResourceUsage = agentStreamRecord.getStreamResourceUsage();
+        if (streamResourceUsage.isPresent() && !agentStreamRecord.isReconnectRequested()) {
+            this.peakRssDistribution.record(streamResourceUsage.get().getPeakRssBytes());
+            this.peakThreadsDistribution.record(streamResourceUsage.get().getPeakThreadCount());
         }
     }
 
@@ -198,6 +364,7 @@ public class GRpcHeartBeatServiceImpl extends HeartBeatServiceGrpc.HeartBeatServ
                 this.agentConnectionTrackingService.notifyDisconnected(streamId, agentStreamRecord.getJobId());
             }
             agentStreamRecord.responseObserver.onCompleted();
+            this.handleStreamEnd(agentStreamRecord);
         }
     }
 
@@ -215,12 +382,16 @@ public class GRpcHeartBeatServiceImpl extends HeartBeatServiceGrpc.HeartBeatServ
             if (agentStreamRecord.hasJobId()) {
                 this.agentConnectionTrackingService.notifyDisconnected(streamId, agentStreamRecord.getJobId());
             }
+            this.handleStreamEnd(agentStreamRecord);
         }
     }
 
     private static class AgentStreamRecord {
         private final StreamObserver<ServerHeartBeat> responseObserver;
         private String claimedJobId;
+        private JobResourceUsage pendingResourceUsage;
+        private JobResourceUsage streamResourceUsage;
+        private boolean reconnectRequested;
 
         AgentStreamRecord(
             final StreamObserver<ServerHeartBeat> responseObserver
@@ -241,9 +412,45 @@ public class GRpcHeartBeatServiceImpl extends HeartBeatServiceGrpc.HeartBeatServ
             return claimedJobId;
         }
 
+        /**
+         * Mark the agent on this stream as asked to reconnect.
+         *
+         * @return true if the agent is identified and wasn't asked to reconnect on this stream before
+         */
+        synchronized boolean requestReconnect() {
+            if (this.reconnectRequested || !hasJobId()) {
+                return false;
+            }
+            this.reconnectRequested = true;
+            return true;
+        }
+
+        synchronized boolean isReconnectRequested() {
+            return this.reconnectRequested;
+        }
+
         boolean hasJobId() {
             return !StringUtils.isBlank(claimedJobId);
         }
+
+        synchronized void addResourceUsage(final JobResourceUsage resourceUsage) {
+            this.pendingResourceUsage = this.pendingResourceUsage == null
+                ? resourceUsage
+                : this.pendingResourceUsage.merge(resourceUsage);
+            this.streamResourceUsage = this.streamResourceUsage == null
+                ? resourceUsage
+                : this.streamResourceUsage.merge(resourceUsage);
+        }
+
+        synchronized Optional<JobResourceUsage> drainResourceUsage() {
+            final JobResourceUsage resourceUsage = this.pendingResourceUsage;
+            this.pendingResourceUsage = null;
+            return Optional.ofNullable(resourceUsage);
+        }
+
+        synchronized Optional<JobResourceUsage> getStreamResourceUsage() {
+            return Optional.ofNullable(this.streamResourceUsage);
+        }
     }
 
     private static class RequestObserver implements StreamObserver<AgentHeartBeat> {
@@ -17,6 +17,7 @@
  */
 package com.netflix.genie.web.agent.apis.rpc.v4.endpoints;
 
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.netflix.genie.common.internal.dtos.AgentClientMetadata;
 import com.netflix.genie.common.internal.dtos.ArchiveStatus;
@@ -34,6 +35,8 @@ import com.netflix.genie.proto.ClaimJobResponse;
 import com.netflix.genie.proto.ConfigureRequest;
 import com.netflix.genie.proto.ConfigureResponse;
 import com.netflix.genie.proto.DryRunJobSpecificationRequest;
+import com.netflix.genie.proto.DryRunJobSpecificationsRequest;
+import com.netflix.genie.proto.DryRunJobSpecificationsResponse;
 import com.netflix.genie.proto.GetJobStatusRequest;
 import com.netflix.genie.proto.GetJobStatusResponse;
 import com.netflix.genie.proto.HandshakeRequest;
@@ -43,17 +46,26 @@ import com.netflix.genie.proto.JobSpecificationRequest;
 import com.netflix.genie.proto.JobSpecificationResponse;
 import com.netflix.genie.proto.ReserveJobIdRequest;
 import com.netflix.genie.proto.ReserveJobIdResponse;
+import com.netflix.genie.proto.StageTiming;
 import com.netflix.genie.web.agent.services.AgentJobService;
+import com.netflix.genie.web.dtos.JobStageTiming;
 import com.netflix.genie.web.util.MetricsUtils;
 import io.grpc.Status;
 import io.grpc.stub.StreamObserver;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Extension of {@link JobServiceGrpc.JobServiceImplBase} to provide
@@ -75,10 +87,53 @@ public class GRpcJobServiceImpl extends JobServiceGrpc.JobServiceImplBase {
     private static final String RESOLVE_TIMER = TIMERS_PREFIX + ".resolve.timer";
     private static final String GET_SPECIFICATION_TIMER = TIMERS_PREFIX + ".getSpecification.timer";
     private static final String DRY_RUN_RESOLVE_TIMER = TIMERS_PREFIX + ".dryRunResolve.timer";
+    private static final String DRY_RUN_RESOLVE_BATCH_TIMER = TIMERS_PREFIX + ".dryRunResolveBatch.timer";
     private static final String CLAIM_TIMER = TIMERS_PREFIX + ".claim.timer";
     private static final String CHANGE_STATUS_TIMER = TIMERS_PREFIX + ".changeStatus.timer";
     private static final String GET_STATUS_TIMER = TIMERS_PREFIX + ".getStatus.timer";
     private static final String CHANGE_ARCHIVE_STATUS_TIMER = TIMERS_PREFIX + ".changeArchiveStatus.timer";
+    private static final String AGENT_STAGE_TIMER = "genie.agents.jobs.stages.timer";
+    private static final String STAGE_TAG = "stage";
+    private static final String ATTEMPTS_TAG = "attempts";
+    private static final String SINGLE_ATTEMPT = "single";
+    private static final String RETRIED = "retried";
+    private static final String UNKNOWN_STAGE = "unknown";
+    // The states of the agent job execution state machine. Stage names come from the agent so anything else is
+    // reported as unknown to keep the tag cardinality of the stage timer bounded.
+    private static final Set<String> KNOWN_STAGES = ImmutableSet.of(
+        "READY",
+        "INITIALIZE_AGENT",
+        "HANDSHAKE",
+        "CONFIGURE_AGENT",
+        "CONFIGURE_EXECUTION",
+        "RESERVE_JOB_ID",
+        "OBTAIN_JOB_SPECIFICATION",
+        "CLAIM_JOB",
+        "START_HEARTBEAT_SERVICE",
+        "START_KILL_SERVICE",
+        "CREATE_JOB_DIRECTORY",
+        "RELOCATE_LOG",
+        "START_FILE_STREAM_SERVICE",
+        "SET_STATUS_INIT",
+        "CREATE_JOB_SCRIPT",
+        "DOWNLOAD_DEPENDENCIES",
+        "LAUNCH_JOB",
+        "SET_STATUS_RUNNING",
+        "WAIT_JOB_COMPLETION",
+        "SET_STATUS_FINAL",
+        "STOP_KILL_SERVICE",
+        "LOG_EXECUTION_ERRORS",
+        "ARCHIVE",
+        "STOP_HEARTBEAT_SERVICE",
+        "STOP_FILES_STREAM_SERVICE",
+        "CLEAN",
+        "SHUTDOWN",
+        "DONE",
+        "DETERMINE_FINAL_STATUS",
+        "POST_LAUNCH_MANIFEST_REFRESH",
+        "POST_SETUP_MANIFEST_REFRESH",
+        "POST_EXECUTION_MANIFEST_REFRESH"
+    );
     private final AgentJobService agentJobService;
     private final JobServiceProtoConverter jobServiceProtoConverter;
     private final JobServiceProtoErrorComposer protoErrorComposer;
@@ -321,6 +376,123 @@ public class GRpcJobServiceImpl extends JobServiceGrpc.JobServiceImplBase {
         responseObserver.onCompleted();
     }
 
+    /**
+     * Resolve a batch of job specifications without impacting any state in the database. Each request is resolved as
+     * {@link #resolveJobSpecificationDryRun(DryRunJobSpecificationRequest, StreamObserver)} would and its response
+     * is sent, tagged with the position of the request in the batch, as soon as it's available. The stream is
+     * completed once every request of the batch has a response.
+     *
+     * @param request          The request containing all the dry run requests of the batch
+     * @param responseObserver The observer to stream the responses to
+     */
+    @Override
+    public void resolveJobSpecificationsDryRun(
+        final DryRunJobSpecificationsRequest request,
+        final StreamObserver<DryRunJobSpecificationsResponse> responseObserver
+    ) {
+        final Set<Tag> tags = Sets.newHashSet();
+        final long start = System.nanoTime();
+
+        // Requests which can't be converted are answered straight away and left out of the batch
+        final List<Integer> indexes = new ArrayList<>(request.getRequestsCount());
+        final List<JobRequest> jobRequests = new ArrayList<>(request.getRequestsCount());
+        for (int i = 0; i < request.getRequestsCount(); i++) {
+            try {
+                jobRequests.add(this.jobServiceProtoConverter.toJobRequestDto(request.getRequests(i)));
+                indexes.add(i);
+            } catch (final Exception e) {
+                log.error("Error converting request {} of dry run batch", i, e);
+                this.sendDryRunResponse(
+                    responseObserver,
+                    i,
+                    this.protoErrorComposer.toProtoJobSpecificationResponse(e)
+                );
+            }
+        }
+        if (jobRequests.isEmpty()) {
+            MetricsUtils.addSuccessTags(tags);
+            this.meterRegistry
+                .timer(DRY_RUN_RESOLVE_BATCH_TIMER, tags)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            responseObserver.onCompleted();
+            return;
+        }
+
+        final List<CompletableFuture<JobSpecification>> results;
+        try {
+            results = this.agentJobService.dryRunJobSpecificationResolutions(jobRequests);
+        } catch (final Exception e) {
+            log.error("Error resolving dry run batch of {} requests", request.getRequestsCount(), e);
+            MetricsUtils.addFailureTagsWithException(tags, e);
+            this.meterRegistry
+                .timer(DRY_RUN_RESOLVE_BATCH_TIMER, tags)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            responseObserver.onError(
+                Status.INVALID_ARGUMENT.withDescription(e.getMessage()).withCause(e).asRuntimeException()
+            );
+            return;
+        }
+
+        // Complete the stream only once the response of every request has been sent
+        final CompletableFuture<?>[] responsesSent = new CompletableFuture<?>[results.size()];
+        for (int i = 0; i < results.size(); i++) {
+            final int index = indexes.get(i);
+            responsesSent[i] = results.get(i).whenComplete(
+                (jobSpecification, throwable) -> {
+                    if (throwable == null) {
+                        this.sendDryRunResponse(
+                            responseObserver,
+                            index,
+                            this.jobServiceProtoConverter.toJobSpecificationResponseProto(jobSpecification)
+                        );
+                    } else {
+                        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause()
+                            : throwable;
+                        final Exception e = cause instanceof Exception ? (Exception) cause : new Exception(cause);
+                        log.debug("Error resolving request {} of dry run batch", index, e);
+                        this.sendDryRunResponse(
+                            responseObserver,
+                            index,
+                            this.protoErrorComposer.toProtoJobSpecificationResponse(e)
+                        );
+                    }
+                }
+            );
+        }
+        CompletableFuture
+            .allOf(responsesSent)
+            .whenComplete(
+                (ignored, throwable) -> {
+                    // Individual failures were already reported to the client within their own responses
+                    MetricsUtils.addSuccessTags(tags);
+                    this.meterRegistry
+                        .timer(DRY_RUN_RESOLVE_BATCH_TIMER, tags)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    synchronized (responseObserver) {
+                        responseObserver.onCompleted();
+                    }
+                }
+            );
+    }
+
+    private void sendDryRunResponse(
+        final StreamObserver<DryRunJobSpecificationsResponse> responseObserver,
+        final int index,
+        final JobSpecificationResponse response
+    ) {
+        // Responses are sent from whichever thread resolved the request and a stream observer isn't thread safe
+        synchronized (responseObserver) {
+            responseObserver.onNext(
+                DryRunJobSpecificationsResponse
+                    .newBuilder()
+                    .setIndex(index)
+                    .setResponse(response)
+                    .build()
+            );
+        }
+    }
+
     /**
      * When an agent is claiming responsibility and ownership for a job this API is called.
      *
@@ -378,7 +550,11 @@ public class GRpcJobServiceImpl extends JobServiceGrpc.JobServiceImplBase {
             tags.add(Tag.of(STATUS_FROM_TAG, currentStatus.name()));
             tags.add(Tag.of(STATUS_TO_TAG, newStatus.name()));
 
-            this.agentJobService.updateJobStatus(id, currentStatus, newStatus, newStatusMessage);
+            final List<JobStageTiming> stageTimings = this.toJobStageTimings(request.getStageTimingsList());
+            if (this.agentJobService.updateJobStatus(id, currentStatus, newStatus, newStatusMessage, stageTimings)) {
+                // Only the request which changed the status counts its timings so retries aren't recorded twice
+                this.recordStageTimings(stageTimings);
+            }
             responseObserver.onNext(ChangeJobStatusResponse.newBuilder().setSuccessful(true).build());
             MetricsUtils.addSuccessTags(tags);
         } catch (Exception e) {
@@ -445,6 +621,7 @@ public class GRpcJobServiceImpl extends JobServiceGrpc.JobServiceImplBase {
 
         try {
             this.agentJobService.updateJobArchiveStatus(id, newArchiveStatus);
+            this.saveArchiveStageTimings(id, this.toJobStageTimings(request.getStageTimingsList()));
             responseObserver.onNext(ChangeJobArchiveStatusResponse.newBuilder().build());
             responseObserver.onCompleted();
             MetricsUtils.addSuccessTags(tags);
@@ -462,4 +639,47 @@ public class GRpcJobServiceImpl extends JobServiceGrpc.JobServiceImplBase {
                 .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
+
+    private List<JobStageTiming> toJobStageTimings(final List<StageTiming> stageTimings) {
+        return stageTimings
+            .stream()
+            .map(
+                stageTiming -> new JobStageTiming(
+                    KNOWN_STAGES.contains(stageTiming.getStage()) ? stageTiming.getStage() : UNKNOWN_STAGE,
+                    Duration.ofMillis(stageTiming.getDurationMillis()),
+                    stageTiming.getAttempts(),
+                    Duration.ofMillis(stageTiming.getRetryDelayMillis())
+                )
+            )
+            .collect(Collectors.toList());
+    }
+
+    private void recordStageTimings(final List<JobStageTiming> stageTimings) {
+        for (final JobStageTiming stageTiming : stageTimings) {
+            Timer
+                .builder(AGENT_STAGE_TIMER)
+                .tag(STAGE_TAG, stageTiming.getStage())
+                .tag(ATTEMPTS_TAG, stageTiming.getAttempts() > 1 ? RETRIED : SINGLE_ATTEMPT)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry)
+                .record(stageTiming.getDuration());
+        }
+    }
+
+    /*
+     * The archive status is a blind write so there is no transition to tie the timings to. They are diagnostic data
+     * piggybacking on an update which has already been saved by the time this is called. Failing to save them is
+     * logged but must not fail the update or the agent would retry an archive status change that already happened.
+     */
+    private void saveArchiveStageTimings(final String id, final List<JobStageTiming> stageTimings) {
+        if (stageTimings.isEmpty()) {
+            return;
+        }
+        this.recordStageTimings(stageTimings);
+        try {
+            this.agentJobService.addJobStageTimings(id, stageTimings);
+        } catch (final Exception e) {
+            log.warn("Unable to save stage timings {} for job {}: {}", stageTimings, id, e.getMessage());
+        }
+    }
 }
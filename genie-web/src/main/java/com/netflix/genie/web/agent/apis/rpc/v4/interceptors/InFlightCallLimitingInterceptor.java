@@ -0,0 +1,148 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.agent.apis.rpc.v4.interceptors;
+
+import com.netflix.genie.web.agent.apis.rpc.servers.GRpcServerUtils;
+import com.netflix.genie.web.properties.GRpcServerProperties;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server interceptor which limits the number of calls of each gRPC service in flight on this node as configured in
+ * {@link GRpcServerProperties#getServiceIsolation()}. Calls beyond the limit are rejected right away with
+ * {@link Status#RESOURCE_EXHAUSTED} rather than queued behind the calls already in flight.
+ * <p>
+ * A call is in flight from when it starts until it completes or is cancelled. For streaming calls this is the whole
+ * lifetime of the stream.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public class InFlightCallLimitingInterceptor implements ServerInterceptor {
+
+    static final String REJECTED_COUNTER_NAME = "genie.rpc.server.inFlightLimit.rejected.counter";
+    static final String SERVICE_TAG = "service";
+    static final String METHOD_TAG = "method";
+
+    private final GRpcServerProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param properties The {@link GRpcServerProperties} holding the limit of each service
+     * @param registry   The {@link MeterRegistry} to count rejected calls with
+     */
+    public InFlightCallLimitingInterceptor(final GRpcServerProperties properties, final MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+        final ServerCall<ReqT, RespT> call,
+        final Metadata headers,
+        final ServerCallHandler<ReqT, RespT> next
+    ) {
+        final String serviceName = GRpcServerUtils.getSimpleServiceName(call.getMethodDescriptor());
+        final int maxInFlightCalls = this.properties.getServiceIsolation(serviceName).getMaxInFlightCalls();
+        if (maxInFlightCalls <= 0) {
+            return next.startCall(call, headers);
+        }
+
+        final Semaphore servicePermits = this.permits.computeIfAbsent(
+            serviceName,
+            name -> new Semaphore(maxInFlightCalls)
+        );
+        if (!servicePermits.tryAcquire()) {
+            this.registry
+                .counter(
+                    REJECTED_COUNTER_NAME,
+                    SERVICE_TAG,
+                    serviceName,
+                    METHOD_TAG,
+                    String.valueOf(call.getMethodDescriptor().getBareMethodName())
+                )
+                .increment();
+            call.close(
+                Status.RESOURCE_EXHAUSTED.withDescription(
+                    "Too many calls to " + serviceName + " in flight on this node (max " + maxInFlightCalls + ")"
+                ),
+                new Metadata()
+            );
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        final AtomicBoolean released = new AtomicBoolean(false);
+        final Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                servicePermits.release();
+            }
+        };
+
+        final ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(call, headers);
+        } catch (final RuntimeException e) {
+            release.run();
+            throw e;
+        }
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void onCancel() {
+                try {
+                    super.onCancel();
+                } finally {
+                    release.run();
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void onComplete() {
+                try {
+                    super.onComplete();
+                } finally {
+                    release.run();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.agent.apis.rpc.v4.interceptors;
+
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.PersistenceStatistics;
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.PersistenceStatisticsRecorder;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+import java.util.function.Supplier;
+
+/**
+ * Server interceptor which records the statements executed, entities loaded and time spent in the database while
+ * serving each gRPC call.
+ * <p>
+ * The work is accumulated over all the callbacks of a call and recorded once the call completes or is cancelled. For
+ * streaming calls this is the work done over the whole lifetime of the stream.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public class PersistenceInstrumentationInterceptor implements ServerInterceptor {
+
+    static final String RPC_LAYER = "rpc";
+
+    private final PersistenceStatisticsRecorder recorder;
+
+    /**
+     * Constructor.
+     *
+     * @param recorder The {@link PersistenceStatisticsRecorder} to publish the work done by each call with
+     */
+    public PersistenceInstrumentationInterceptor(final PersistenceStatisticsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+        final ServerCall<ReqT, RespT> call,
+        final Metadata headers,
+        final ServerCallHandler<ReqT, RespT> next
+    ) {
+        final PersistenceStatistics.Scope scope = new PersistenceStatistics.Scope();
+        final String operation = call.getMethodDescriptor().getFullMethodName();
+        final ServerCall.Listener<ReqT> listener = callWithinScope(scope, () -> next.startCall(call, headers));
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<ReqT>(listener) {
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void onMessage(final ReqT message) {
+                runWithinScope(scope, () -> super.onMessage(message));
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void onHalfClose() {
+                runWithinScope(scope, super::onHalfClose);
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void onCancel() {
+                try {
+                    runWithinScope(scope, super::onCancel);
+                } finally {
+                    recorder.record(RPC_LAYER, operation, scope);
+                }
+            }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void onComplete() {
+                try {
+                    runWithinScope(scope, super::onComplete);
+                } finally {
+                    recorder.record(RPC_LAYER, operation, scope);
+                }
+            }
+        };
+    }
+
+    private static void runWithinScope(final PersistenceStatistics.Scope scope, final Runnable callback) {
+        callWithinScope(
+            scope,
+            () -> {
+                callback.run();
+                return null;
+            }
+        );
+    }
+
+    private static <T> T callWithinScope(final PersistenceStatistics.Scope scope, final Supplier<T> callback) {
+        PersistenceStatistics.enter(scope);
+        try {
+            return callback.get();
+        } finally {
+            PersistenceStatistics.exit(scope);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.agent.launchers.impl;
+
+import com.netflix.genie.web.properties.LocalAgentLauncherProperties;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory ledger of the resources (memory, CPU and job slots) allocated to agents launched on this host.
+ * <p>
+ * Resources are reserved when an agent is launched and released when the agent process exits, so jobs that were
+ * launched but not yet claimed are accounted for. Admission is a compare-and-set on an immutable {@link Usage}
+ * snapshot rather than a lock around a database query. Jobs running on this host which were not launched through
+ * this ledger (e.g. launched before a server restart) are accounted for by periodically reconciling against the
+ * active jobs stored in the database.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ThreadSafe
+@Slf4j
+public class HostResourceLedger {
+
+    private final LocalAgentLauncherProperties launcherProperties;
+    private final AtomicReference<Usage> usage = new AtomicReference<>(Usage.EMPTY);
+    private final ConcurrentMap<String, Reservation> reservations = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param launcherProperties The properties containing the capacity of this host
+     */
+    public HostResourceLedger(final LocalAgentLauncherProperties launcherProperties) {
+        this.launcherProperties = launcherProperties;
+    }
+
+    /**
+     * Attempt to reserve resources for the given job. Reserving resources for a job which already holds a reservation
+     * is a no-op.
+     *
+     * @param jobId    The id of the job
+     * @param memoryMb The memory (in MB) to reserve
+     * @param cpu      The number of CPUs to reserve
+     * @return true if the resources were reserved, false if the host doesn't have enough capacity left
+     */
+    public boolean tryReserve(final String jobId, final long memoryMb, final long cpu) {
+        final Reservation reservation = new Reservation(memoryMb, cpu);
+        if (this.reservations.putIfAbsent(jobId, reservation) != null) {
+            log.debug("Job {} already holds a reservation", jobId);
+            return true;
+        }
+
+        while (true) {
+            final Usage current = this.usage.get();
+            final Usage next = current.plus(reservation);
+            if (!this.fits(next)) {
+                this.reservations.remove(jobId, reservation);
+                return false;
+            }
+            if (this.usage.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release the resources reserved for the given job, if any.
+     *
+     * @param jobId The id of the job
+     */
+    public void release(final String jobId) {
+        final Reservation reservation = this.reservations.remove(jobId);
+        if (reservation == null) {
+            return;
+        }
+        this.usage.updateAndGet(current -> current.minus(reservation));
+    }
+
+    /**
+     * Reconcile the ledger with the active jobs on this host stored in the database. Jobs which hold a local
+     * reservation are already accounted for, whether the database knows about them yet or not, so only the jobs
+     * without a reservation are attributed to external usage. In practice those are agents which outlived a restart of
+     * this server, at which point there are no local reservations.
+     *
+     * @param activeJobsMemory The memory (in MB) allocated to each active job on this host according to the database,
+     *                         keyed by job id
+     */
+    public void reconcile(final Map<String, Long> activeJobsMemory) {
+        long externalMemory = 0L;
+        long externalJobs = 0L;
+        for (final Map.Entry<String, Long> job : activeJobsMemory.entrySet()) {
+            if (!this.reservations.containsKey(job.getKey())) {
+                externalMemory += job.getValue();
+                externalJobs++;
+            }
+        }
+
+        final long newExternalMemory = externalMemory;
+        final long newExternalJobs = externalJobs;
+        final Usage reconciled = this.usage.updateAndGet(
+            current -> current.withExternal(newExternalMemory, newExternalJobs)
+        );
+        log.debug("Reconciled host resource ledger: {}", reconciled);
+    }
+
+    /**
+     * Get a consistent snapshot of the current usage.
+     *
+     * @return The current {@link Usage}
+     */
+    public Usage getUsage() {
+        return this.usage.get();
+    }
+
+    private boolean fits(final Usage next) {
+        final long maxTotalJobCpu = this.launcherProperties.getMaxTotalJobCpu();
+        final long maxTotalJobs = this.launcherProperties.getMaxTotalJobs();
+        return next.getTotalMemory() <= this.launcherProperties.getMaxTotalJobMemory()
+            && (maxTotalJobCpu <= 0 || next.getReservedCpu() <= maxTotalJobCpu)
+            && (maxTotalJobs <= 0 || next.getTotalJobs() <= maxTotalJobs);
+    }
+
+    /**
+     * Immutable snapshot of the resources in use on this host.
+     *
+     * @author tgianos
+     * @since 4.4.0
+     */
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    @RequiredArgsConstructor
+    public static class Usage {
+        static final Usage EMPTY = new Usage(0L, 0L, 0L, 0L, 0L);
+
+        private final long reservedMemory;
+        private final long reservedCpu;
+        private final long reservedJobs;
+        private final long externalMemory;
+        private final long externalJobs;
+
+        /**
+         * Get the total memory (in MB) allocated on this host.
+         *
+         * @return The sum of reserved and external memory
+         */
+        public long getTotalMemory() {
+            return this.reservedMemory + this.externalMemory;
+        }
+
+        /**
+         * Get the total number of jobs occupying a slot on this host.
+         *
+         * @return The sum of reserved and external jobs
+         */
+        public long getTotalJobs() {
+            return this.reservedJobs + this.externalJobs;
+        }
+
+        private Usage plus(final Reservation reservation) {
+            return new Usage(
+                this.reservedMemory + reservation.memoryMb,
+                this.reservedCpu + reservation.cpu,
+                this.reservedJobs + 1,
+                this.externalMemory,
+                this.externalJobs
+            );
+        }
+
+        private Usage minus(final Reservation reservation) {
+            return new Usage(
+                this.reservedMemory - reservation.memoryMb,
+                this.reservedCpu - reservation.cpu,
+                this.reservedJobs - 1,
+                this.externalMemory,
+                this.externalJobs
+            );
+        }
+
+        private Usage withExternal(final long newExternalMemory, final long newExternalJobs) {
+            return new Usage(
+                this.reservedMemory,
+                this.reservedCpu,
+                this.reservedJobs,
+                newExternalMemory,
+                newExternalJobs
+            );
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Reservation {
+        private final long memoryMb;
+        private final long cpu;
+    }
+}
@@ -28,13 +28,15 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.netflix.genie.common.internal.dtos.ComputeResources;
 import com.netflix.genie.common.internal.dtos.JobMetadata;
+import com.netflix.genie.common.internal.dtos.JobStatus;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracePropagator;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
 import com.netflix.genie.web.agent.launchers.AgentLauncher;
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.PersistenceService;
-import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobInfoAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobResourcesAggregate;
 import com.netflix.genie.web.dtos.ResolvedJob;
 import com.netflix.genie.web.exceptions.checked.AgentLaunchException;
 import com.netflix.genie.web.introspection.GenieWebHostInfo;
@@ -62,10 +64,13 @@ import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link AgentLauncher} which launched Agent instances on the local Genie hardware.
@@ -81,6 +86,7 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
     private static final String USED_MEMORY_KEY = "usedMemory";
     private static final String AVAILABLE_MEMORY_KEY = "availableMemory";
     private static final String AVAILABLE_MAX_JOB_CAPACITY_KEY = "availableMaxJobCapacity";
+    private static final String ALLOCATED_CPU_KEY = "allocatedCpu";
     private static final Map<String, String> INFO_UNAVAILABLE_DETAILS = Map.of(
         "jobInfoUnavailable",
         "Unable to retrieve host job information. State unknown."
@@ -88,10 +94,14 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
 
     private static final String RUN_USER_PLACEHOLDER = "<GENIE_USER>";
     private static final String SETS_ID = "setsid";
-    private static final Object MEMORY_CHECK_LOCK = new Object();
     private static final String THIS_CLASS = LocalAgentLauncherImpl.class.getCanonicalName();
     private static final Tag CLASS_TAG = Tag.of(LAUNCHER_CLASS_KEY, THIS_CLASS);
     private static final long DEFAULT_JOB_MEMORY = 1_536L;
+    private static final long DEFAULT_JOB_CPU = 1L;
+    private static final Set<String> USING_MEMORY_STATUSES = Stream
+        .of(JobStatus.CLAIMED, JobStatus.INIT, JobStatus.RUNNING)
+        .map(Enum::name)
+        .collect(Collectors.toSet());
 
     private final String hostname;
     private final PersistenceService persistenceService;
@@ -100,8 +110,9 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
     private final MeterRegistry registry;
     private final Executor sharedExecutor;
     private final int rpcPort;
-    private final LoadingCache<String, JobInfoAggregate> jobInfoCache;
+    private final LoadingCache<String, Set<JobResourcesAggregate>> jobInfoCache;
     private final JsonNode launcherExt;
+    private final HostResourceLedger resourceLedger;
 
     private final AtomicLong numActiveJobs;
     private final AtomicLong usedMemory;
@@ -143,6 +154,7 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
 
         this.tracer = tracingComponents.getTracer();
         this.tracePropagator = tracingComponents.getTracePropagator();
+        this.resourceLedger = new HostResourceLedger(this.launcherProperties);
 
         final Set<Tag> tags = Sets.newHashSet(
             Tag.of("launcherClass", this.getClass().getSimpleName())
@@ -160,8 +172,8 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
 
         // Leverage a loading cache to handle the timed async fetching for us rather than creating a thread
         // on a scheduler etc. This also provides atomicity.
-        // Note that this is not intended to be used for exact calculations and more for metrics and health checks
-        // as the data could be somewhat stale
+        // Note that this is not intended to be used for exact calculations, admission is done against the local
+        // resource ledger which is reconciled with this data every time it's refreshed
         this.jobInfoCache = Caffeine
             .newBuilder()
             // The refresh fails silently this will protect from stale data
@@ -170,16 +182,25 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
             .initialCapacity(1)
             .build(
                 host -> {
-                    final JobInfoAggregate info = this.persistenceService.getHostJobInformation(host);
+                    final Set<JobResourcesAggregate> jobs = this.persistenceService.getActiveJobResourcesOnHost(host);
 
                     // this should always be the case but just in case
-                    if (info != null) {
+                    if (jobs != null) {
+                        final Map<String, Long> activeJobsMemory = jobs
+                            .stream()
+                            .collect(
+                                Collectors.toMap(
+                                    JobResourcesAggregate::getUniqueId,
+                                    job -> Optional.ofNullable(job.getMemoryUsed()).orElse(0L)
+                                )
+                            );
                         // Proactively update the metric reporting
-                        this.numActiveJobs.set(info.getNumberOfActiveJobs());
-                        this.usedMemory.set(info.getTotalMemoryAllocated());
+                        this.numActiveJobs.set(activeJobsMemory.size());
+                        this.usedMemory.set(activeJobsMemory.values().stream().mapToLong(Long::longValue).sum());
+                        this.resourceLedger.reconcile(activeJobsMemory);
                     }
 
-                    return info;
+                    return jobs;
                 }
             );
 
@@ -223,11 +244,9 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
             }
 
             // Check error conditions
-            final long jobMemory = resolvedJob
-                .getJobEnvironment()
-                .getComputeResources()
-                .getMemoryMb()
-                .orElse(DEFAULT_JOB_MEMORY);
+            final ComputeResources computeResources = resolvedJob.getJobEnvironment().getComputeResources();
+            final long jobMemory = computeResources.getMemoryMb().orElse(DEFAULT_JOB_MEMORY);
+            final long jobCpu = computeResources.getCpu().map(Integer::longValue).orElse(DEFAULT_JOB_CPU);
             final String jobId = resolvedJob.getJobSpecification().getJob().getId();
 
             // Job was resolved with more memory allocated than the system was configured to allow
@@ -251,62 +270,38 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
                 )
             );
 
-            // One at a time to ensure we don't overflow configured max
-            synchronized (MEMORY_CHECK_LOCK) {
-                final long usedMemoryOnHost = this.persistenceService.getUsedMemoryOnHost(this.hostname);
-                final long expectedUsedMemoryOnHost = usedMemoryOnHost + jobMemory;
-                if (expectedUsedMemoryOnHost > this.launcherProperties.getMaxTotalJobMemory()) {
-                    throw new AgentLaunchException(
-                        "Running job "
-                            + jobId
-                            + " with "
-                            + jobMemory
-                            + "MB of memory would cause there to be more memory used than the configured amount of "
-                            + this.launcherProperties.getMaxTotalJobMemory()
-                            + "MB. "
-                            + usedMemoryOnHost
-                            + "MB worth of jobs are currently running on this node."
-                    );
-                }
-            }
-
-            // Inherit server environment
-            final Map<String, String> environment = Maps.newHashMap(System.getenv());
-            // Add extra environment from configuration, if any
-            environment.putAll(this.launcherProperties.getAdditionalEnvironment());
-            // Add tracing context so agent continues trace
-            final Span currentSpan = this.tracer.currentSpan();
-            if (currentSpan != null) {
-                environment.putAll(this.tracePropagator.injectForAgent(currentSpan.context()));
-            }
-            log.debug("Launching agent: {}, env: {}", commandLine, environment);
-
-            // TODO: What happens if the server crashes? Does the process live on? Make sure this is totally detached
-            final Executor executor = this.executorFactory.newInstance(true);
+            // The database is the only source of the jobs on this host which weren't launched through the ledger.
+            // Reconciles the ledger with it first if it was never loaded or has expired and refreshes it in the
+            // background if it is stale
+            this.jobInfoCache.get(this.hostname);
 
-            if (this.launcherProperties.isProcessOutputCaptureEnabled()) {
-                final String debugOutputPath =
-                    System.getProperty(SystemUtils.JAVA_IO_TMPDIR, "/tmp") + "/agent-job-" + jobId + ".txt";
-                try {
-                    final FileOutputStream fileOutput = new FileOutputStream(debugOutputPath, false);
-                    executor.setStreamHandler(new PumpStreamHandler(fileOutput));
-                } catch (final FileNotFoundException e) {
-                    log.error("Failed to create agent process output file", e);
-                    throw new AgentLaunchException(e);
-                }
+            if (!this.resourceLedger.tryReserve(jobId, jobMemory, jobCpu)) {
+                final HostResourceLedger.Usage usage = this.resourceLedger.getUsage();
+                throw new AgentLaunchException(
+                    "Running job "
+                        + jobId
+                        + " with "
+                        + jobMemory
+                        + "MB of memory and "
+                        + jobCpu
+                        + " CPU would exceed the capacity configured for this node ("
+                        + this.launcherProperties.getMaxTotalJobMemory()
+                        + "MB of memory). "
+                        + usage.getTotalMemory()
+                        + "MB and "
+                        + usage.getReservedCpu()
+                        + " CPU worth of jobs ("
+                        + usage.getTotalJobs()
+                        + " jobs) are currently allocated on this node."
+                );
             }
 
-            log.info("Launching agent for job {}", jobId);
-
-            final AgentResultHandler resultHandler = new AgentResultHandler(jobId);
-
             try {
-                executor.execute(commandLine, environment, resultHandler);
-            } catch (final IOException ioe) {
-                throw new AgentLaunchException(
-                    "Unable to launch agent using command: " + commandLine.toString(),
-                    ioe
-                );
+                this.launch(jobId, commandLine);
+            } catch (final AgentLaunchException | RuntimeException e) {
+                // The agent never started so the resources will never be released by the result handler
+                this.resourceLedger.release(jobId);
+                throw e;
             }
 
             MetricsUtils.addSuccessTags(tags);
@@ -323,12 +318,53 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
         }
     }
 
+    private void launch(final String jobId, final CommandLine commandLine) throws AgentLaunchException {
+        // Inherit server environment
+        final Map<String, String> environment = Maps.newHashMap(System.getenv());
+        // Add extra environment from configuration, if any
+        environment.putAll(this.launcherProperties.getAdditionalEnvironment());
+        // Add tracing context so agent continues trace
+        final Span currentSpan = this.tracer.currentSpan();
+        if (currentSpan != null) {
+            environment.putAll(this.tracePropagator.injectForAgent(currentSpan.context()));
+        }
+        log.debug("Launching agent: {}, env: {}", commandLine, environment);
+
+        // TODO: What happens if the server crashes? Does the process live on? Make sure this is totally detached
+        final Executor executor = this.executorFactory.newInstance(true);
+
+        if (this.launcherProperties.isProcessOutputCaptureEnabled()) {
+            final String debugOutputPath =
+                System.getProperty(SystemUtils.JAVA_IO_TMPDIR, "/tmp") + "/agent-job-" + jobId + ".txt";
+            try {
+                final FileOutputStream fileOutput = new FileOutputStream(debugOutputPath, false);
+                executor.setStreamHandler(new PumpStreamHandler(fileOutput));
+            } catch (final FileNotFoundException e) {
+                log.error("Failed to create agent process output file", e);
+                throw new AgentLaunchException(e);
+            }
+        }
+
+        log.info("Launching agent for job {}", jobId);
+
+        final AgentResultHandler resultHandler = new AgentResultHandler(jobId, this.resourceLedger);
+
+        try {
+            executor.execute(commandLine, environment, resultHandler);
+        } catch (final IOException ioe) {
+            throw new AgentLaunchException(
+                "Unable to launch agent using command: " + commandLine.toString(),
+                ioe
+            );
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Health health() {
-        final JobInfoAggregate jobInfo;
+        final Set<JobResourcesAggregate> jobInfo;
         try {
             jobInfo = this.jobInfoCache.get(this.hostname);
         } catch (final Exception e) {
@@ -342,32 +378,48 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
             return Health.unknown().withDetails(INFO_UNAVAILABLE_DETAILS).build();
         }
 
-        // Use allocated memory to make the host go OOS early enough that we don't throw as many exceptions on
-        // accepted jobs during launch
-        final long memoryAllocated = jobInfo.getTotalMemoryAllocated();
+        // Use the same numbers used for admission, which include launched but not yet claimed jobs, to make the host
+        // go OOS early enough that we don't throw as many exceptions on accepted jobs during launch
+        final HostResourceLedger.Usage usage = this.resourceLedger.getUsage();
+        final long memoryAllocated = usage.getTotalMemory();
         final long availableMemory = this.launcherProperties.getMaxTotalJobMemory() - memoryAllocated;
         final long maxJobMemory = this.launcherProperties.getMaxJobMemory();
+        final long maxTotalJobs = this.launcherProperties.getMaxTotalJobs();
 
         final Health.Builder builder;
 
         // If we can fit one more max job in we're still healthy
-        if (availableMemory >= maxJobMemory) {
+        if (availableMemory >= maxJobMemory && (maxTotalJobs <= 0 || usage.getTotalJobs() < maxTotalJobs)) {
             builder = Health.up();
         } else {
             builder = Health.down();
         }
 
         return builder
-            .withDetail(NUMBER_ACTIVE_JOBS_KEY, jobInfo.getNumberOfActiveJobs())
+            .withDetail(NUMBER_ACTIVE_JOBS_KEY, usage.getTotalJobs())
             .withDetail(ALLOCATED_MEMORY_KEY, memoryAllocated)
+            .withDetail(ALLOCATED_CPU_KEY, usage.getReservedCpu())
             .withDetail(AVAILABLE_MEMORY_KEY, availableMemory)
-            .withDetail(USED_MEMORY_KEY, jobInfo.getTotalMemoryUsed())
+            .withDetail(USED_MEMORY_KEY, getMemoryUsed(jobInfo))
             .withDetail(
                 AVAILABLE_MAX_JOB_CAPACITY_KEY,
                 (availableMemory >= 0 && maxJobMemory > 0) ? (availableMemory / maxJobMemory) : 0)
             .build();
     }
 
+    /*
+     * The memory of the jobs whose agent is actually running on this host as opposed to all the memory allocated.
+     */
+    private static long getMemoryUsed(final Set<JobResourcesAggregate> jobs) {
+        return jobs
+            .stream()
+            .filter(job -> USING_MEMORY_STATUSES.contains(job.getStatus()))
+            .map(JobResourcesAggregate::getMemoryUsed)
+            .filter(Objects::nonNull)
+            .mapToLong(Long::longValue)
+            .sum();
+    }
+
     private CommandLine createCommandLine(
         final Map<String, String> argumentValueReplacements
     ) {
@@ -399,7 +451,8 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
     }
 
     /**
-     * Simple {@link org.apache.commons.exec.ExecuteResultHandler} implementation that logs completion.
+     * Simple {@link org.apache.commons.exec.ExecuteResultHandler} implementation that logs completion and releases the
+     * resources reserved for the agent.
      *
      * @author tgianos
      * @since 4.0.0
@@ -409,14 +462,17 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
     static class AgentResultHandler extends DefaultExecuteResultHandler {
 
         private final String jobId;
+        private final HostResourceLedger resourceLedger;
 
         /**
          * Constructor.
          *
-         * @param jobId The id of the job the agent this handler is attached to is running
+         * @param jobId          The id of the job the agent this handler is attached to is running
+         * @param resourceLedger The ledger holding the resources reserved for the agent
          */
-        AgentResultHandler(final String jobId) {
+        AgentResultHandler(final String jobId, final HostResourceLedger resourceLedger) {
             this.jobId = jobId;
+            this.resourceLedger = resourceLedger;
         }
 
         /**
@@ -426,6 +482,7 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
         public void onProcessComplete(final int exitValue) {
             super.onProcessComplete(exitValue);
             log.info("Agent process for job {} completed with exit value {}", this.jobId, exitValue);
+            this.resourceLedger.release(this.jobId);
         }
 
         /**
@@ -435,6 +492,7 @@ public class LocalAgentLauncherImpl implements AgentLauncher {
         public void onProcessFailed(final ExecuteException e) {
             super.onProcessFailed(e);
             log.error("Agent process failed for job {} due to {}", this.jobId, e.getMessage(), e);
+            this.resourceLedger.release(this.jobId);
         }
     }
 }
@@ -0,0 +1,38 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.agent.services;
+
+/**
+ * Spreads agent connections evenly across the nodes of a Genie cluster. Agents connect through a load balancer and
+ * stay connected to the node they landed on until their job is done, so after nodes are added or restarted some nodes
+ * hold most of the connections while others sit idle. This service tells the local node how many of its agents it
+ * should ask to reconnect so the load balancer can place them again.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public interface AgentConnectionRebalancingService {
+
+    /**
+     * Take the number of locally connected agents which should be asked to reconnect now. The number is consumed by
+     * this call so that the same imbalance doesn't cause agents to be asked twice.
+     *
+     * @return The number of agents to ask to reconnect, 0 if this node holds no more than its share of connections
+     */
+    int takeReconnectQuota();
+}
@@ -30,13 +30,18 @@ import com.netflix.genie.common.internal.exceptions.unchecked.GenieJobAlreadyCla
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieJobNotFoundException;
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieJobResolutionRuntimeException;
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieJobSpecificationNotFoundException;
+import com.netflix.genie.web.dtos.JobStageTiming;
+import com.netflix.genie.web.exceptions.checked.PreconditionFailedException;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.annotation.Nullable;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * A Service to collect the logic for implementing calls from the Agent when a job is launched via the CLI.
@@ -113,6 +118,19 @@ public interface AgentJobService {
      */
     JobSpecification dryRunJobSpecificationResolution(@Valid JobRequest jobRequest) throws GenieJobResolutionException;
 
+    /**
+     * Run the job specification resolution algorithm on each of the given inputs but save nothing in the system.
+     *
+     * @param jobRequests The job requests containing all the metadata needed to resolve each job specification
+     * @return One future per job request in the same order as the requests. Each completes with the job specification
+     * that would have been resolved for the request or exceptionally with the reason it couldn't be resolved
+     * @throws PreconditionFailedException  If there are more job requests than can be resolved at once
+     * @throws ConstraintViolationException If the arguments fail validation
+     */
+    List<CompletableFuture<JobSpecification>> dryRunJobSpecificationResolutions(
+        @NotEmpty List<@Valid JobRequest> jobRequests
+    ) throws PreconditionFailedException;
+
     /**
      * Set a job identified by {@code id} to be owned by the agent identified by {@code agentClientMetadata}. The
      * job status in the system will be set to {@link com.netflix.genie.common.dto.JobStatus#CLAIMED}
@@ -132,23 +150,27 @@ public interface AgentJobService {
      * of the job matches {@code newStatus}. Optionally a status message can be provided to provide more details to
      * users. If the {@code newStatus} is {@link JobStatus#RUNNING} the start time will be set. If the {@code newStatus}
      * is a member of {@link JobStatus#getFinishedStatuses()} and the job had a started time set the finished time of
-     * the job will be set.
+     * the job will be set. The stage timings reported with the change are saved with it only if this call changed the
+     * status.
      *
      * @param id               The id of the job to update status for. Must exist in the system.
      * @param currentStatus    The status the caller to this API thinks the job currently has
      * @param newStatus        The new status the caller would like to update the status to
      * @param newStatusMessage An optional status message to associate with this change
+     * @param stageTimings     The time the agent spent in stages since its last update
+     * @return {@literal true} if this call changed the status of the job and saved the stage timings
      * @throws GenieJobNotFoundException    if no job with the given {@code id} exists
      * @throws GenieInvalidStatusException  if the current status of the job identified by {@code id} in the system
      *                                      doesn't match the supplied {@code currentStatus}.
      *                                      Also if the {@code currentStatus} equals the {@code newStatus}.
      * @throws ConstraintViolationException If the arguments fail validation
      */
-    void updateJobStatus(
+    boolean updateJobStatus(
         @NotBlank String id,
         JobStatus currentStatus,
         JobStatus newStatus,
-        @Nullable String newStatusMessage
+        @Nullable String newStatusMessage,
+        List<JobStageTiming> stageTimings
     );
 
     /**
@@ -174,4 +196,18 @@ public interface AgentJobService {
         @NotBlank String id,
         ArchiveStatus newArchiveStatus
     );
+
+    /**
+     * Save the time the agent spent in stages of executing the job identified with {@code id}, appending them to any
+     * timings reported earlier.
+     *
+     * @param id           The id of the job the stages were executed for. Must exist in the system.
+     * @param stageTimings The timings of the stages in the order they were executed
+     * @throws GenieJobNotFoundException    if no job with the given {@code id} exists
+     * @throws ConstraintViolationException If the arguments fail validation
+     */
+    void addJobStageTimings(
+        @NotBlank String id,
+        List<JobStageTiming> stageTimings
+    );
 }
@@ -0,0 +1,214 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.agent.services.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.genie.common.internal.util.GenieHostInfo;
+import com.netflix.genie.web.agent.services.AgentConnectionRebalancingService;
+import com.netflix.genie.web.agent.services.AgentConnectionTrackingService;
+import com.netflix.genie.web.properties.AgentConnectionRebalancingProperties;
+import com.netflix.genie.web.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.utils.ZKPaths;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Implementation of {@link AgentConnectionRebalancingService} which exchanges connection counts through Zookeeper.
+ * <p>
+ * At each interval this node publishes the number of agents connected to it, as tracked by the
+ * {@link AgentConnectionTrackingService}, in an ephemeral node named after its hostname and reads the counts published
+ * by the other nodes. A node starts asking agents to reconnect once it holds more than
+ * {@link AgentConnectionRebalancingProperties#getOverloadedThreshold()} above the cluster average and keeps doing so
+ * until it is back within {@link AgentConnectionRebalancingProperties#getBalancedThreshold()} of it. Only a fraction of
+ * the excess, capped per interval, is asked to move at a time since the load balancer may send some agents straight
+ * back and the other nodes publish their new counts one interval later.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class AgentConnectionRebalancingServiceCuratorImpl implements AgentConnectionRebalancingService, AutoCloseable {
+
+    private static final String METRICS_PREFIX = "genie.agents.connections.rebalancing.";
+    private static final String OVERLOADED_GAUGE_NAME = METRICS_PREFIX + "overloaded.gauge";
+    private static final String EXCHANGE_FAILURE_COUNTER_NAME = METRICS_PREFIX + "exchangeFailure.counter";
+
+    private final String localHostname;
+    private final CuratorFramework client;
+    private final String basePath;
+    private final String localPath;
+    private final AgentConnectionTrackingService agentConnectionTrackingService;
+    private final AgentConnectionRebalancingProperties properties;
+    private final MeterRegistry registry;
+    private final AtomicInteger reconnectQuota = new AtomicInteger();
+    private final AtomicInteger overloaded = new AtomicInteger();
+    private final ScheduledFuture<?> rebalanceFuture;
+
+    /**
+     * Constructor.
+     *
+     * @param genieHostInfo                  The genie local host information
+     * @param client                         The Curator client to exchange connection counts with
+     * @param basePath                       The Zookeeper path under which each node publishes its connection count
+     * @param agentConnectionTrackingService The service tracking the agents connected to this node
+     * @param properties                     The service properties
+     * @param taskScheduler                  The task scheduler to periodically rebalance with
+     * @param registry                       The metrics registry
+     */
+    public AgentConnectionRebalancingServiceCuratorImpl(
+        final GenieHostInfo genieHostInfo,
+        final CuratorFramework client,
+        final String basePath,
+        final AgentConnectionTrackingService agentConnectionTrackingService,
+        final AgentConnectionRebalancingProperties properties,
+        final TaskScheduler taskScheduler,
+        final MeterRegistry registry
+    ) {
+        this.localHostname = genieHostInfo.getHostname();
+        this.client = client;
+        this.basePath = ZKPaths.makePath(basePath, null);
+        this.localPath = ZKPaths.makePath(this.basePath, this.localHostname);
+        this.agentConnectionTrackingService = agentConnectionTrackingService;
+        this.properties = properties;
+        this.registry = registry;
+
+        this.registry.gauge(OVERLOADED_GAUGE_NAME, this.overloaded);
+        this.rebalanceFuture = taskScheduler.scheduleAtFixedRate(this::rebalance, this.properties.getInterval());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int takeReconnectQuota() {
+        return this.reconnectQuota.getAndSet(0);
+    }
+
+    /**
+     * Stop rebalancing and withdraw the connection count of this node so the other nodes stop accounting for it.
+     */
+    @Override
+    public void close() {
+        if (this.rebalanceFuture != null) {
+            this.rebalanceFuture.cancel(false);
+        }
+        try {
+            this.client.delete().quietly().forPath(this.localPath);
+        } catch (final Exception e) {
+            log.debug("Unable to withdraw the agent connection count of this node", e);
+        }
+    }
+
+    @VisibleForTesting
+    void rebalance() {
+        final long localCount = this.agentConnectionTrackingService.getConnectedAgentsCount();
+        final Map<String, Long> clusterCounts;
+        try {
+            this.publishCount(localCount);
+            clusterCounts = this.readCounts();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.reconnectQuota.set(0);
+            return;
+        } catch (final Exception e) {
+            log.warn("Unable to exchange agent connection counts with the other nodes: {}", e.getMessage());
+            this.registry
+                .counter(EXCHANGE_FAILURE_COUNTER_NAME, MetricsUtils.newFailureTagsSetForException(e))
+                .increment();
+            this.reconnectQuota.set(0);
+            return;
+        }
+
+        // The local count is more recent than the one read back
+        clusterCounts.put(this.localHostname, localCount);
+        final int quota = this.computeReconnectQuota(localCount, clusterCounts.values());
+        if (quota > 0) {
+            log.info(
+                "Holding {} agent connections across {} nodes, asking {} agents to reconnect",
+                localCount,
+                clusterCounts.size(),
+                quota
+            );
+        }
+        this.reconnectQuota.set(quota);
+    }
+
+    @VisibleForTesting
+    int computeReconnectQuota(final long localCount, final Collection<Long> clusterCounts) {
+        if (clusterCounts.size() < 2) {
+            // Nowhere to move agents to
+            this.overloaded.set(0);
+            return 0;
+        }
+
+        final double average = clusterCounts.stream().mapToLong(Long::longValue).average().orElse(0.0);
+        final double excess = localCount - average;
+        if (this.overloaded.get() == 1) {
+            if (excess <= average * this.properties.getBalancedThreshold()
+                || excess < this.properties.getMinimumExcess()) {
+                this.overloaded.set(0);
+            }
+        } else if (excess > average * this.properties.getOverloadedThreshold()
+            && excess >= this.properties.getMinimumExcess()) {
+            this.overloaded.set(1);
+        }
+
+        if (this.overloaded.get() == 0) {
+            return 0;
+        }
+
+        final double movable = localCount - average * (1.0 + this.properties.getBalancedThreshold());
+        final long quota = Math.max(1L, (long) Math.ceil(movable * this.properties.getReconnectFraction()));
+        return (int) Math.min(quota, this.properties.getMaxReconnectsPerInterval());
+    }
+
+    private void publishCount(final long localCount) throws Exception {
+        this.client
+            .create()
+            .orSetData()
+            .creatingParentContainersIfNeeded()
+            .withMode(CreateMode.EPHEMERAL)
+            .forPath(this.localPath, Long.toString(localCount).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, Long> readCounts() throws Exception {
+        final Map<String, Long> counts = new HashMap<>();
+        for (final String node : this.client.getChildren().forPath(this.basePath)) {
+            try {
+                final byte[] data = this.client.getData().forPath(ZKPaths.makePath(this.basePath, node));
+                counts.put(node, Long.parseLong(new String(data, StandardCharsets.UTF_8)));
+            } catch (final KeeperException.NoNodeException e) {
+                log.debug("Node {} withdrew its agent connection count", node);
+            } catch (final NumberFormatException e) {
+                log.warn("Ignoring invalid agent connection count published by node {}", node);
+            }
+        }
+        return counts;
+    }
+}
@@ -34,11 +34,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
  * This service keeps track of agent connections and heartbeats. It notifies the downstream {@link AgentRoutingService}
  * of connected/disconnected agents while hiding details of connections, disconnections, missed heartbeats.
+ * <p>
+ * The routing service is notified while holding the lock, to keep notifications for a job in order, and its
+ * implementations are free to block in those calls. This uses a {@link Lock} rather than an object monitor so a virtual
+ * thread waiting on it, or blocked while holding it, doesn't pin its carrier thread.
  *
  * @author mprimi
  * @since 4.0.0
@@ -51,6 +57,7 @@ public class AgentConnectionTrackingServiceImpl implements AgentConnectionTracki
     private final HashMap<String, JobStreamsRecord> jobStreamRecordsMap = Maps.newHashMap();
     private final AgentConnectionTrackingServiceProperties serviceProperties;
     private final Supplier<Instant> timeSupplier;
+    private final Lock lock = new ReentrantLock();
 
     /**
      * Constructor.
@@ -86,33 +93,37 @@ public class AgentConnectionTrackingServiceImpl implements AgentConnectionTracki
      * {@inheritDoc}
      */
     @Override
-    public synchronized void notifyHeartbeat(final String streamId, final String claimedJobId) {
-
-        boolean isNew = false;
-        final JobStreamsRecord record;
-
-        if (this.jobStreamRecordsMap.containsKey(claimedJobId)) {
-            record = this.jobStreamRecordsMap.get(claimedJobId);
-        } else {
-            record = new JobStreamsRecord(claimedJobId);
-            this.jobStreamRecordsMap.put(claimedJobId, record);
-            isNew = true;
-        }
+    public void notifyHeartbeat(final String streamId, final String claimedJobId) {
+        this.lock.lock();
+        try {
+            boolean isNew = false;
+            final JobStreamsRecord record;
+
+            if (this.jobStreamRecordsMap.containsKey(claimedJobId)) {
+                record = this.jobStreamRecordsMap.get(claimedJobId);
+            } else {
+                record = new JobStreamsRecord(claimedJobId);
+                this.jobStreamRecordsMap.put(claimedJobId, record);
+                isNew = true;
+            }
 
-        // Update TTL for this stream
-        record.updateActiveStream(streamId, timeSupplier.get());
+            // Update TTL for this stream
+            record.updateActiveStream(streamId, timeSupplier.get());
 
-        log.debug(
-            "Received heartbeat for {} job {} using stream {}",
-            isNew ? "new" : "existing",
-            claimedJobId,
-            streamId
-        );
+            log.debug(
+                "Received heartbeat for {} job {} using stream {}",
+                isNew ? "new" : "existing",
+                claimedJobId,
+                streamId
+            );
 
-        // If this job record is new, wake up observer
-        if (isNew) {
-            log.debug("Notify new agent connection for job {}", claimedJobId);
-            this.agentRoutingService.handleClientConnected(claimedJobId);
+            // If this job record is new, wake up observer
+            if (isNew) {
+                log.debug("Notify new agent connection for job {}", claimedJobId);
+                this.agentRoutingService.handleClientConnected(claimedJobId);
+            }
+        } finally {
+            this.lock.unlock();
         }
     }
 
@@ -120,26 +131,31 @@ public class AgentConnectionTrackingServiceImpl implements AgentConnectionTracki
      * {@inheritDoc}
      */
     @Override
-    public synchronized void notifyDisconnected(final String streamId, final String claimedJobId) {
-        // Retrieve entry
-        final JobStreamsRecord jobStreamsRecord = this.jobStreamRecordsMap.get(claimedJobId);
-
-        log.debug(
-            "Received disconnection for {} job {} using stream {}",
-            jobStreamsRecord == null ? "unknown" : "existing",
-            claimedJobId,
-            streamId
-        );
-
-        // If record exist, expunge the stream
-        if (jobStreamsRecord != null) {
-            jobStreamsRecord.removeActiveStream(streamId);
-
-            if (!jobStreamsRecord.hasActiveStreams()) {
-                log.debug("Job {} last stream disconnected, notifying routing service", claimedJobId);
-                this.jobStreamRecordsMap.remove(claimedJobId);
-                this.agentRoutingService.handleClientDisconnected(claimedJobId);
+    public void notifyDisconnected(final String streamId, final String claimedJobId) {
+        this.lock.lock();
+        try {
+            // Retrieve entry
+            final JobStreamsRecord jobStreamsRecord = this.jobStreamRecordsMap.get(claimedJobId);
+
+            log.debug(
+                "Received disconnection for {} job {} using stream {}",
+                jobStreamsRecord == null ? "unknown" : "existing",
+                claimedJobId,
+                streamId
+            );
+
+            // If record exist, expunge the stream
+            if (jobStreamsRecord != null) {
+                jobStreamsRecord.removeActiveStream(streamId);
+
+                if (!jobStreamsRecord.hasActiveStreams()) {
+                    log.debug("Job {} last stream disconnected, notifying routing service", claimedJobId);
+                    this.jobStreamRecordsMap.remove(claimedJobId);
+                    this.agentRoutingService.handleClientDisconnected(claimedJobId);
+                }
             }
+        } finally {
+            this.lock.unlock();
         }
     }
 
@@ -147,34 +163,44 @@ public class AgentConnectionTrackingServiceImpl implements AgentConnectionTracki
      * {@inheritDoc}
      */
     @Override
-    public synchronized long getConnectedAgentsCount() {
-        return this.jobStreamRecordsMap.size();
+    public long getConnectedAgentsCount() {
+        this.lock.lock();
+        try {
+            return this.jobStreamRecordsMap.size();
+        } finally {
+            this.lock.unlock();
+        }
     }
 
-    private synchronized void cleanupTask() {
-        final Instant cutoff = this.timeSupplier.get().minus(serviceProperties.getConnectionExpirationPeriod());
-
-        // Drop all streams that didn't heartbeat recently
-        this.jobStreamRecordsMap.forEach(
-            (jobId, record) -> record.expungeExpiredStreams(cutoff)
-        );
-
-        // Remove all records that have no active streams
-        final Set<String> removedJobIds = Sets.newHashSet();
-        this.jobStreamRecordsMap.entrySet().removeIf(
-            entry -> {
-                if (!entry.getValue().hasActiveStreams()) {
-                    removedJobIds.add(entry.getKey());
-                    return true;
+    private void cleanupTask() {
+        this.lock.lock();
+        try {
+            final Instant cutoff = this.timeSupplier.get().minus(serviceProperties.getConnectionExpirationPeriod());
+
+            // Drop all streams that didn't heartbeat recently
+            this.jobStreamRecordsMap.forEach(
+                (jobId, record) -> record.expungeExpiredStreams(cutoff)
+            );
+
+            // Remove all records that have no active streams
+            final Set<String> removedJobIds = Sets.newHashSet();
+            this.jobStreamRecordsMap.entrySet().removeIf(
+                entry -> {
+                    if (!entry.getValue().hasActiveStreams()) {
+                        removedJobIds.add(entry.getKey());
+                        return true;
+                    }
+                    return false;
                 }
-                return false;
-            }
-        );
+            );
 
-        // Notify routing service
-        for (final String jobId : removedJobIds) {
-            log.debug("Job {} last stream expired, notifying routing service", jobId);
-            this.agentRoutingService.handleClientDisconnected(jobId);
+            // Notify routing service
+            for (final String jobId : removedJobIds) {
+                log.debug("Job {} last stream expired, notifying routing service", jobId);
+                this.agentRoutingService.handleClientDisconnected(jobId);
+            }
+        } finally {
+            this.lock.unlock();
         }
     }
 
@@ -187,8 +213,13 @@ public class AgentConnectionTrackingServiceImpl implements AgentConnectionTracki
         builder.withDetail("connectedAgents", jobIds);
     }
 
-    private synchronized List<String> getConnectedAgentsIds() {
-        return ImmutableList.copyOf(this.jobStreamRecordsMap.keySet());
+    private List<String> getConnectedAgentsIds() {
+        this.lock.lock();
+        try {
+            return ImmutableList.copyOf(this.jobStreamRecordsMap.keySet());
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     private static final class JobStreamsRecord {
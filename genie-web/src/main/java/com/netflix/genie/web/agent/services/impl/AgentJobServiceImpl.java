@@ -36,10 +36,12 @@ import com.netflix.genie.web.agent.services.AgentFilterService;
 import com.netflix.genie.web.agent.services.AgentJobService;
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.PersistenceService;
+import com.netflix.genie.web.dtos.JobStageTiming;
 import com.netflix.genie.web.dtos.JobSubmission;
 import com.netflix.genie.web.dtos.ResolvedJob;
 import com.netflix.genie.web.exceptions.checked.IdAlreadyExistsException;
 import com.netflix.genie.web.exceptions.checked.NotFoundException;
+import com.netflix.genie.web.exceptions.checked.PreconditionFailedException;
 import com.netflix.genie.web.services.JobResolverService;
 import com.netflix.genie.web.util.MetricsUtils;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -50,9 +52,13 @@ import org.springframework.validation.annotation.Validated;
 import jakarta.annotation.Nullable;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * Default implementation of {@link AgentJobService}.
@@ -222,6 +228,20 @@ public class AgentJobServiceImpl implements AgentJobService {
         ).getJobSpecification();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<CompletableFuture<JobSpecification>> dryRunJobSpecificationResolutions(
+        @NotEmpty final List<@Valid JobRequest> jobRequests
+    ) throws PreconditionFailedException {
+        return this.jobResolverService
+            .resolveJobs(jobRequests, false)
+            .stream()
+            .map(result -> result.thenApply(ResolvedJob::getJobSpecification))
+            .collect(Collectors.toList());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -238,14 +258,21 @@ public class AgentJobServiceImpl implements AgentJobService {
      * {@inheritDoc}
      */
     @Override
-    public void updateJobStatus(
+    public boolean updateJobStatus(
         @NotBlank final String id,
         final JobStatus currentStatus,
         final JobStatus newStatus,
-        @Nullable final String newStatusMessage
+        @Nullable final String newStatusMessage,
+        final List<JobStageTiming> stageTimings
     ) {
         try {
-            this.persistenceService.updateJobStatus(id, currentStatus, newStatus, newStatusMessage);
+            return this.persistenceService.updateJobStatusWithStageTimings(
+                id,
+                currentStatus,
+                newStatus,
+                newStatusMessage,
+                stageTimings
+            );
         } catch (final NotFoundException e) {
             throw new GenieJobNotFoundException(e);
         }
@@ -274,4 +301,16 @@ public class AgentJobServiceImpl implements AgentJobService {
             throw new GenieJobNotFoundException(e);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addJobStageTimings(@NotBlank final String id, final List<JobStageTiming> stageTimings) {
+        try {
+            this.persistenceService.addJobStageTimings(id, stageTimings);
+        } catch (NotFoundException e) {
+            throw new GenieJobNotFoundException(e);
+        }
+    }
 }
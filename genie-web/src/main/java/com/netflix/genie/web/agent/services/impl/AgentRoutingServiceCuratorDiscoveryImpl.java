@@ -35,10 +35,15 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.state.ConnectionState;
 import org.apache.curator.framework.state.ConnectionStateListener;
+import org.apache.curator.utils.ZKPaths;
 import org.apache.curator.x.discovery.ServiceDiscovery;
 import org.apache.curator.x.discovery.ServiceInstance;
 import org.apache.curator.x.discovery.ServiceType;
+import org.apache.curator.x.discovery.details.InstanceSerializer;
+import org.apache.curator.x.discovery.details.JsonInstanceSerializer;
+import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.data.Stat;
 import org.springframework.scheduling.TaskScheduler;
 
 import jakarta.validation.constraints.NotBlank;
@@ -56,6 +61,11 @@ import java.util.concurrent.atomic.AtomicReference;
  * Implementation of {@link AgentRoutingService} that relies on Curator's Discovery extension.
  * Rather than the traditional use of this recipe (register a service for the node itself, this class registers one
  * service instance for each agent locally connected.
+ * <p>
+ * The service instances are written to Zookeeper directly, in the layout and format {@link ServiceDiscovery} reads,
+ * rather than through {@link ServiceDiscovery#registerService(ServiceInstance)}. When an agent reconnects to another
+ * node its registration is replaced by that node, so this one must only remove the exact version it last saw, which
+ * the discovery API can't express. Registrations lost with the Zookeeper session are recreated by the next refresh.
  *
  * @author mprimi
  * @since 4.0.0
@@ -79,6 +89,9 @@ public class AgentRoutingServiceCuratorDiscoveryImpl implements AgentRoutingServ
     private static final Set<Tag> EMPTY_TAG_SET = ImmutableSet.of();
     private final String localHostname;
     private final ServiceDiscovery<Agent> serviceDiscovery;
+    private final CuratorFramework client;
+    private final String servicePath;
+    private final InstanceSerializer<Agent> serializer;
     private final TaskScheduler taskScheduler;
     private final MeterRegistry registry;
     private final AgentRoutingServiceProperties properties;
@@ -93,6 +106,9 @@ public class AgentRoutingServiceCuratorDiscoveryImpl implements AgentRoutingServ
      *
      * @param genieHostInfo                    The genie local host information
      * @param serviceDiscovery                 The service discovery client
+     * @param client                           The Curator client the service discovery client uses
+     * @param discoveryPath                    The Zookeeper path under which the service discovery client finds
+     *                                         services
      * @param taskScheduler                    The task scheduler
      * @param listenableCuratorConnectionState The listenable curator client connection status
      * @param registry                         The metrics registry
@@ -101,6 +117,8 @@ public class AgentRoutingServiceCuratorDiscoveryImpl implements AgentRoutingServ
     public AgentRoutingServiceCuratorDiscoveryImpl(
         final GenieHostInfo genieHostInfo,
         final ServiceDiscovery<Agent> serviceDiscovery,
+        final CuratorFramework client,
+        final String discoveryPath,
         final TaskScheduler taskScheduler,
         final Listenable<ConnectionStateListener> listenableCuratorConnectionState,
         final MeterRegistry registry,
@@ -109,6 +127,8 @@ public class AgentRoutingServiceCuratorDiscoveryImpl implements AgentRoutingServ
         this(
             genieHostInfo,
             serviceDiscovery,
+            client,
+            discoveryPath,
             taskScheduler,
             listenableCuratorConnectionState,
             registry,
@@ -131,6 +151,8 @@ public class AgentRoutingServiceCuratorDiscoveryImpl implements AgentRoutingServ
     AgentRoutingServiceCuratorDiscoveryImpl(
         final GenieHostInfo genieHostInfo,
         final ServiceDiscovery<Agent> serviceDiscovery,
+        final CuratorFramework client,
+        final String discoveryPath,
         final TaskScheduler taskScheduler,
         final Listenable<ConnectionStateListener> listenableCuratorConnectionState,
         final MeterRegistry registry,
@@ -139,6 +161,10 @@ public class AgentRoutingServiceCuratorDiscoveryImpl implements AgentRoutingServ
     ) {
         this.localHostname = genieHostInfo.getHostname();
         this.serviceDiscovery = serviceDiscovery;
+        this.client = client;
+        this.servicePath = ZKPaths.makePath(discoveryPath, SERVICE_NAME);
+        // The same serializer ServiceDiscoveryBuilder defaults to so lookups can read the registrations
+        this.serializer = new JsonInstanceSerializer<>(Agent.class);
         this.taskScheduler = taskScheduler;
         this.registry = registry;
         this.threadFactory = threadFactory;
@@ -248,7 +274,15 @@ public class AgentRoutingServiceCuratorDiscoveryImpl implements AgentRoutingServ
         Set<Tag> tags = MetricsUtils.newSuccessTagsSet();
         final long start = System.nanoTime();
         try {
-            this.serviceDiscovery.registerService(serviceInstance);
+            final String path = ZKPaths.makePath(this.servicePath, jobId);
+            final byte[] data = this.serializer.serialize(serviceInstance);
+            try {
+                this.createRegistration(path, data);
+            } catch (KeeperException.NodeExistsException e) {
+                // A previous connection of the agent, to this node or another one, is still registered. Take it over.
+                this.client.delete().quietly().forPath(path);
+                this.createRegistration(path, data);
+            }
             this.registeredAgentsMap.put(jobId, serviceInstance);
         } catch (InterruptedException e) {
             // Ensure interrupt is not swallowed by the generic catch
@@ -280,7 +314,10 @@ public class AgentRoutingServiceCuratorDiscoveryImpl implements AgentRoutingServ
         Set<Tag> tags = MetricsUtils.newSuccessTagsSet();
         final long start = System.nanoTime();
         try {
-            this.serviceDiscovery.updateService(serviceInstance);
+            this.client.setData().forPath(
+                ZKPaths.makePath(this.servicePath, jobId),
+                this.serializer.serialize(serviceInstance)
+            );
         } catch (KeeperException.NoNodeException e) {
             log.warn("Failed to update registration of agent executing job id: {}", jobId);
             // Failed because expected existing node is not present. Create it.
@@ -314,7 +351,25 @@ public class AgentRoutingServiceCuratorDiscoveryImpl implements AgentRoutingServ
         Set<Tag> tags = MetricsUtils.newSuccessTagsSet();
         final long start = System.nanoTime();
         try {
-            this.serviceDiscovery.unregisterService(serviceInstance);
+            // The agent may have reconnected to another node which replaced the registration. Leave that one alone.
+            final String path = ZKPaths.makePath(this.servicePath, jobId);
+            final Stat stat = new Stat();
+            final ServiceInstance<Agent> registeredInstance = this.serializer.deserialize(
+                this.client.getData().storingStatIn(stat).forPath(path)
+            );
+            if (!this.localHostname.equals(registeredInstance.getAddress())) {
+                log.info(
+                    "Route for job {} now points to {}. Skipping unregistration",
+                    jobId,
+                    registeredInstance.getAddress()
+                );
+            } else {
+                // Fails if another node replaced the registration since it was read
+                this.client.delete().withVersion(stat.getVersion()).forPath(path);
+            }
+            this.registeredAgentsMap.remove(jobId);
+        } catch (KeeperException.NoNodeException | KeeperException.BadVersionException e) {
+            log.info("Route for job {} was removed or replaced concurrently. Skipping unregistration", jobId);
             this.registeredAgentsMap.remove(jobId);
         } catch (InterruptedException e) {
             // Ensure interrupt is not swallowed by the generic catch
@@ -332,6 +387,14 @@ public class AgentRoutingServiceCuratorDiscoveryImpl implements AgentRoutingServ
         }
     }
 
+    private void createRegistration(final String path, final byte[] data) throws Exception {
+        this.client
+            .create()
+            .creatingParentContainersIfNeeded()
+            .withMode(CreateMode.EPHEMERAL)
+            .forPath(path, data);
+    }
+
     private void handleConnectionStateChange(final CuratorFramework client, final ConnectionState newState) {
 
         this.registry.counter(
@@ -249,18 +249,23 @@ public class ApplicationRestController {
 
     /**
      * Get Application for given id.
+     * <p>
+     * The response carries an entity tag derived from when the application was last updated so clients can
+     * poll with {@literal If-None-Match} and get a {@literal 304 Not Modified} when nothing changed.
      *
      * @param id unique id for application configuration
      * @return The application configuration
      * @throws NotFoundException If no application exists with the given id
      */
     @GetMapping(value = "/{id}", produces = MediaTypes.HAL_JSON_VALUE)
-    @ResponseStatus(HttpStatus.OK)
-    public EntityModel<Application> getApplication(@PathVariable("id") final String id) throws NotFoundException {
+    public ResponseEntity<EntityModel<Application>> getApplication(
+        @PathVariable("id") final String id
+    ) throws NotFoundException {
         log.info("Called to get Application for id {}", id);
-        return this.applicationModelAssembler.toModel(
-            DtoConverters.toV3Application(this.persistenceService.getApplication(id))
-        );
+        final Application application = DtoConverters.toV3Application(this.persistenceService.getApplication(id));
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        ControllerUtils.getEntityTag(application).ifPresent(response::eTag);
+        return response.body(this.applicationModelAssembler.toModel(application));
     }
 
     /**
@@ -131,18 +131,23 @@ public class ClusterRestController {
 
     /**
      * Get cluster configuration from unique id.
+     * <p>
+     * The response carries an entity tag derived from when the cluster was last updated so clients can
+     * poll with {@literal If-None-Match} and get a {@literal 304 Not Modified} when nothing changed.
      *
      * @param id id for the cluster
      * @return the cluster
      * @throws NotFoundException If no cluster with {@literal id} exists
      */
     @GetMapping(value = "/{id}", produces = MediaTypes.HAL_JSON_VALUE)
-    @ResponseStatus(HttpStatus.OK)
-    public EntityModel<Cluster> getCluster(@PathVariable("id") final String id) throws NotFoundException {
+    public ResponseEntity<EntityModel<Cluster>> getCluster(
+        @PathVariable("id") final String id
+    ) throws NotFoundException {
         log.info("[getCluster] Called with id: {}", id);
-        return this.clusterModelAssembler.toModel(
-            DtoConverters.toV3Cluster(this.persistenceService.getCluster(id))
-        );
+        final Cluster cluster = DtoConverters.toV3Cluster(this.persistenceService.getCluster(id));
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        ControllerUtils.getEntityTag(cluster).ifPresent(response::eTag);
+        return response.body(this.clusterModelAssembler.toModel(cluster));
     }
 
     /**
@@ -140,18 +140,23 @@ public class CommandRestController {
 
     /**
      * Get Command configuration for given id.
+     * <p>
+     * The response carries an entity tag derived from when the command was last updated so clients can
+     * poll with {@literal If-None-Match} and get a {@literal 304 Not Modified} when nothing changed.
      *
      * @param id unique id for command configuration
      * @return The command configuration
      * @throws NotFoundException When no {@link Command} with the given {@literal id} exists
      */
     @GetMapping(value = "/{id}", produces = MediaTypes.HAL_JSON_VALUE)
-    @ResponseStatus(HttpStatus.OK)
-    public EntityModel<Command> getCommand(@PathVariable("id") final String id) throws NotFoundException {
+    public ResponseEntity<EntityModel<Command>> getCommand(
+        @PathVariable("id") final String id
+    ) throws NotFoundException {
         log.info("Called to get command with id {}", id);
-        return this.commandModelAssembler.toModel(
-            DtoConverters.toV3Command(this.persistenceService.getCommand(id))
-        );
+        final Command command = DtoConverters.toV3Command(this.persistenceService.getCommand(id));
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        ControllerUtils.getEntityTag(command).ifPresent(response::eTag);
+        return response.body(this.commandModelAssembler.toModel(command));
     }
 
     /**
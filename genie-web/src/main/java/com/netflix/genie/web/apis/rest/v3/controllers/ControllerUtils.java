@@ -17,6 +17,7 @@
  */
 package com.netflix.genie.web.apis.rest.v3.controllers;
 
+import com.netflix.genie.common.dto.BaseDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.util.AntPathMatcher;
@@ -26,6 +27,7 @@ import jakarta.annotation.Nullable;
 import jakarta.servlet.http.HttpServletRequest;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Optional;
 
 /**
  * Utility methods re-used in various controllers.
@@ -65,6 +67,18 @@ public final class ControllerUtils {
         return path;
     }
 
+    /**
+     * Get the entity tag to send along with the representation of a resource so clients can make conditional requests.
+     * The tag is based on the last time the resource was updated. It is weak as the representation also contains
+     * links which depend on the request.
+     *
+     * @param resource The resource which is being returned
+     * @return The entity tag or {@link Optional#empty()} if the resource has no updated time
+     */
+    public static Optional<String> getEntityTag(final BaseDTO resource) {
+        return resource.getUpdated().map(updated -> "W/\"" + updated.toEpochMilli() + "\"");
+    }
+
     /**
      * Given a HTTP {@code request} and a {@code path} this method will return the root of the request minus the path.
      * Generally the path will be derived from {@link #getRemainingPath(HttpServletRequest)} and this method will be
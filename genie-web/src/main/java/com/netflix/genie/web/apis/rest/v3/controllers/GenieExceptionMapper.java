@@ -33,6 +33,7 @@ import com.netflix.genie.common.internal.exceptions.unchecked.GenieRuntimeExcept
 import com.netflix.genie.web.exceptions.checked.IllegalAttachmentFileNameException;
 import com.netflix.genie.web.exceptions.checked.AttachmentTooLargeException;
 import com.netflix.genie.web.exceptions.checked.IdAlreadyExistsException;
+import com.netflix.genie.web.exceptions.checked.JobInColdStorageException;
 import com.netflix.genie.web.exceptions.checked.JobNotFoundException;
 import com.netflix.genie.web.exceptions.checked.NotFoundException;
 import com.netflix.genie.web.exceptions.checked.PreconditionFailedException;
@@ -133,6 +134,9 @@ public class GenieExceptionMapper {
             return new ResponseEntity<>(e, HttpStatus.PRECONDITION_FAILED);
         } else if (e instanceof IdAlreadyExistsException) {
             return new ResponseEntity<>(e, HttpStatus.CONFLICT);
+        } else if (e instanceof JobInColdStorageException) {
+            // The job exists but the data requested isn't kept once it is archived to cold storage
+            return new ResponseEntity<>(e, HttpStatus.GONE);
         } else if (e instanceof JobNotFoundException | e instanceof NotFoundException) {
             return new ResponseEntity<>(e, HttpStatus.NOT_FOUND);
         } else if (e instanceof PreconditionFailedException) {
@@ -18,7 +18,9 @@
 package com.netflix.genie.web.apis.rest.v3.controllers;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.ByteStreams;
 import com.netflix.genie.common.dto.Application;
@@ -31,11 +33,14 @@ import com.netflix.genie.common.dto.JobRequest;
 import com.netflix.genie.common.dto.JobStatus;
 import com.netflix.genie.common.dto.JobStatusMessages;
 import com.netflix.genie.common.dto.search.JobSearchResult;
+import com.netflix.genie.common.exceptions.GenieBadRequestException;
 import com.netflix.genie.common.exceptions.GenieException;
 import com.netflix.genie.common.exceptions.GenieNotFoundException;
+import com.netflix.genie.common.exceptions.GeniePreconditionException;
 import com.netflix.genie.common.exceptions.GenieServerException;
 import com.netflix.genie.common.exceptions.GenieServerUnavailableException;
 import com.netflix.genie.common.exceptions.GenieUserLimitExceededException;
+import com.netflix.genie.common.external.util.GenieObjectMapper;
 import com.netflix.genie.common.internal.dtos.ApiClientMetadata;
 import com.netflix.genie.common.internal.dtos.ArchiveStatus;
 import com.netflix.genie.common.internal.dtos.JobRequestMetadata;
@@ -55,14 +60,18 @@ import com.netflix.genie.web.apis.rest.v3.hateoas.assemblers.JobRequestModelAsse
 import com.netflix.genie.web.apis.rest.v3.hateoas.assemblers.JobSearchResultModelAssembler;
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.PersistenceService;
+import com.netflix.genie.web.dtos.DirectoryArchiveFormat;
 import com.netflix.genie.web.dtos.JobSubmission;
+import com.netflix.genie.web.dtos.ResolvedJob;
 import com.netflix.genie.web.exceptions.checked.NotFoundException;
 import com.netflix.genie.web.properties.JobsActiveLimitProperties;
 import com.netflix.genie.web.properties.JobsProperties;
 import com.netflix.genie.web.services.AttachmentService;
+import com.netflix.genie.web.services.JobAdmissionService;
 import com.netflix.genie.web.services.JobDirectoryServerService;
 import com.netflix.genie.web.services.JobKillService;
 import com.netflix.genie.web.services.JobLaunchService;
+import com.netflix.genie.web.services.JobResolverService;
 import com.netflix.genie.web.util.MetricsConstants;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -103,6 +112,7 @@ import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import jakarta.annotation.Nullable;
@@ -110,15 +120,19 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -160,6 +174,8 @@ public class JobRestController {
     private final Environment environment;
     private final AttachmentService attachmentService;
     private final JobKillService jobKillService;
+    private final JobAdmissionService jobAdmissionService;
+    private final JobResolverService jobResolverService;
 
     // Metrics
     private final MeterRegistry registry;
@@ -181,6 +197,8 @@ public class JobRestController {
      * @param environment               The application environment to pull dynamic properties from
      * @param attachmentService         The attachment service to use to save attachments.
      * @param jobKillService            The service to kill running jobs
+     * @param jobAdmissionService       The service queueing jobs of users at their active jobs limit
+     * @param jobResolverService        The service resolving job requests without saving them
      */
     @Autowired
     @SuppressWarnings("checkstyle:parameternumber")
@@ -196,7 +214,9 @@ public class JobRestController {
         final AgentRoutingService agentRoutingService,
         final Environment environment,
         final AttachmentService attachmentService,
-        final JobKillService jobKillService
+        final JobKillService jobKillService,
+        final JobAdmissionService jobAdmissionService,
+        final JobResolverService jobResolverService
     ) {
         this.jobLaunchService = jobLaunchService;
         this.applicationModelAssembler = entityModelAssemblers.getApplicationModelAssembler();
@@ -216,6 +236,8 @@ public class JobRestController {
         this.environment = environment;
         this.attachmentService = attachmentService;
         this.jobKillService = jobKillService;
+        this.jobAdmissionService = jobAdmissionService;
+        this.jobResolverService = jobResolverService;
         this.registry = registry;
 
         // Set up the metrics
@@ -331,7 +353,10 @@ public class JobRestController {
             );
         }
 
-        final String jobId = this.jobLaunchService.launchJob(jobSubmissionBuilder.build());
+        // When admission is enabled users at their active jobs limit have their jobs queued rather than rejected
+        final String jobId = this.jobAdmissionService.isEnabled()
+            ? this.jobAdmissionService.admit(jobSubmissionBuilder.build())
+            : this.jobLaunchService.launchJob(jobSubmissionBuilder.build());
 
         final HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.setLocation(
@@ -345,6 +370,77 @@ public class JobRestController {
         return new ResponseEntity<>(httpHeaders, HttpStatus.ACCEPTED);
     }
 
+    /**
+     * Resolve a batch of job requests without submitting them, for example to validate job definitions before they
+     * are used. The result of each request is streamed back as a line of JSON as soon as it's resolved, so not
+     * necessarily in the order of the requests. Each line contains the {@literal index} of the request within the batch
+     * and either the {@literal jobSpecification} it would run with or the {@literal error} which prevented it from
+     * being resolved.
+     *
+     * @param jobRequests The job requests to resolve
+     * @return The emitter streaming the result of each request
+     * @throws GenieException        If a job request is invalid
+     * @throws GenieCheckedException If the batch contains more job requests than can be resolved at once
+     */
+    @PostMapping(
+        value = "/resolutions",
+        consumes = MediaType.APPLICATION_JSON_VALUE,
+        produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public ResponseBodyEmitter resolveJobs(
+        @RequestBody final List<JobRequest> jobRequests
+    ) throws GenieException, GenieCheckedException {
+        log.info("[resolveJobs] Called to resolve a batch of {} job requests", jobRequests.size());
+        if (jobRequests.isEmpty()) {
+            throw new GeniePreconditionException("At least one job request is required");
+        }
+        final List<com.netflix.genie.common.internal.dtos.JobRequest> v4JobRequests
+            = new ArrayList<>(jobRequests.size());
+        for (final JobRequest jobRequest : jobRequests) {
+            v4JobRequests.add(DtoConverters.toV4JobRequest(jobRequest));
+        }
+        final List<CompletableFuture<ResolvedJob>> results = this.jobResolverService.resolveJobs(v4JobRequests, true);
+
+        final ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        final CompletableFuture<?>[] resultsSent = new CompletableFuture<?>[results.size()];
+        for (int i = 0; i < results.size(); i++) {
+            final int index = i;
+            resultsSent[i] = results
+                .get(i)
+                .whenComplete((resolvedJob, throwable) -> this.sendResolution(emitter, index, resolvedJob, throwable));
+        }
+        CompletableFuture.allOf(resultsSent).whenComplete((ignored, throwable) -> emitter.complete());
+        return emitter;
+    }
+
+    private void sendResolution(
+        final ResponseBodyEmitter emitter,
+        final int index,
+        @Nullable final ResolvedJob resolvedJob,
+        @Nullable final Throwable throwable
+    ) {
+        final ObjectMapper mapper = GenieObjectMapper.getMapper();
+        final ObjectNode result = mapper.createObjectNode();
+        result.put("index", index);
+        if (resolvedJob != null) {
+            result.set("jobSpecification", mapper.valueToTree(resolvedJob.getJobSpecification()));
+        } else if (throwable != null) {
+            final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+            result
+                .putObject("error")
+                .put("exception", cause.getClass().getCanonicalName())
+                .put("message", cause.getMessage());
+        }
+        try {
+            // Sent as a single chunk so lines of requests resolved concurrently can't interleave
+            emitter.send(mapper.writeValueAsString(result) + "\n", MediaType.APPLICATION_NDJSON);
+        } catch (final IOException | IllegalStateException e) {
+            log.debug("[resolveJobs] Unable to send result of job request {} of the batch", index, e);
+        }
+    }
+
     private Map<String, String> getGenieHeaders(final HttpServletRequest httpServletRequest) {
         final ImmutableMap.Builder<String, String> mapBuilder = ImmutableMap.builder();
         final Enumeration<String> headerNames = httpServletRequest.getHeaderNames();
@@ -376,10 +472,11 @@ public class JobRestController {
         }
 
         final JobsActiveLimitProperties activeLimit = this.jobsProperties.getActiveLimit();
-        if (activeLimit.isEnabled()) {
+        if (activeLimit.isEnabled() && !this.jobAdmissionService.isEnabled()) {
             final String user = jobRequest.getUser();
             log.debug("Checking user limits for {}", user);
             final long activeJobsLimit = activeLimit.getUserLimit(user);
+            // Count from the database as it covers the jobs of every node including the ones only reserved so far
             final long activeJobsCount = this.persistenceService.getActiveJobCountForUser(user);
             if (activeJobsCount >= activeJobsLimit) {
                 this.registry.counter(
@@ -423,12 +520,10 @@ public class JobRestController {
     public JsonNode getJobStatus(@PathVariable("id") final String id) throws NotFoundException {
         log.info("[getJobStatus] Called for job with id: {}", id);
         final JsonNodeFactory factory = JsonNodeFactory.instance;
+        final JobStatus status = DtoConverters.toV3JobStatus(this.persistenceService.getJobStatus(id));
         return factory
             .objectNode()
-            .set(
-                "status",
-                factory.textNode(DtoConverters.toV3JobStatus(this.persistenceService.getJobStatus(id)).toString())
-            );
+            .set("status", factory.textNode(status.toString()));
     }
 
     /**
@@ -582,6 +677,8 @@ public class JobRestController {
             forwardedFrom == null ? EMPTY_STRING : " Forwarded from " + forwardedFrom
         );
 
+        // Queued jobs are saved as reserved so killing them also stops any node which takes them over later
+        this.jobAdmissionService.cancel(id);
         this.jobKillService.killJob(id, JobStatusMessages.JOB_KILLED_BY_USER, request);
     }
 
@@ -727,6 +824,77 @@ public class JobRestController {
             throw new GenieServerException("Unable to parse base request url", e);
         }
 
+        if (this.forwardIfNotLocal(id, path, forwardedFrom, request, response)) {
+            return;
+        }
+
+        // In any other case, delegate the request to the service
+        log.debug("Fetching requested resource \"{}\" for job \"{}\"", path, id);
+        this.jobDirectoryServerService.serveResource(id, baseUrl, path, request, response);
+    }
+
+    /**
+     * Download a directory of the job output, and everything below it, as a single archive.
+     *
+     * @param id            The id of the job to get output for
+     * @param archive       The format of the archive. One of {@literal tar}, {@literal tar.gz} (or {@literal tgz})
+     *                      and {@literal zip}
+     * @param forwardedFrom The host this request was forwarded from if present
+     * @param request       the servlet request
+     * @param response      the servlet response
+     * @throws NotFoundException When no job with {@literal id} exists
+     * @throws GenieException    on any Genie internal error
+     */
+    @GetMapping(
+        value = {
+            "/{id}/output",
+            "/{id}/output/",
+            "/{id}/output/**"
+        },
+        params = "archive"
+    )
+    public void getJobOutputArchive(
+        @PathVariable("id") final String id,
+        @RequestParam("archive") final String archive,
+        @RequestHeader(name = JobConstants.GENIE_FORWARDED_FROM_HEADER, required = false)
+        @Nullable final String forwardedFrom,
+        final HttpServletRequest request,
+        final HttpServletResponse response
+    ) throws GenieException, NotFoundException {
+        final String path = ControllerUtils.getRemainingPath(request);
+        log.info(
+            "[getJobOutputArchive] Called to get {} archive of output path: \"{}\" for job: \"{}\".{}",
+            archive,
+            path,
+            id,
+            forwardedFrom == null ? EMPTY_STRING : " Requested forwarded from: " + forwardedFrom
+        );
+
+        final DirectoryArchiveFormat format = DirectoryArchiveFormat.fromExtension(archive).orElseThrow(
+            () -> new GenieBadRequestException("Unsupported archive format: " + archive)
+        );
+
+        if (this.forwardIfNotLocal(id, path + "?archive=" + format.getExtension(), forwardedFrom, request, response)) {
+            return;
+        }
+
+        log.debug("Streaming {} archive of \"{}\" for job \"{}\"", format, path, id);
+        this.jobDirectoryServerService.serveArchive(id, path, format, response);
+    }
+
+    /**
+     * The files of a running job can only be served by the node its agent is connected to. Forward the request there
+     * if it's another node.
+     *
+     * @return {@literal true} if the request was forwarded and the response is complete
+     */
+    private boolean forwardIfNotLocal(
+        final String id,
+        final String path,
+        @Nullable final String forwardedFrom,
+        final HttpServletRequest request,
+        final HttpServletResponse response
+    ) throws GenieException, NotFoundException {
         final ArchiveStatus archiveStatus = this.persistenceService.getJobArchiveStatus(id);
 
         if (archiveStatus == ArchiveStatus.PENDING) {
@@ -745,16 +913,13 @@ public class JobRestController {
             if (shouldForward && canForward) {
                 // Forward request to another node
                 forwardRequest(id, path, jobHostname, request, response);
-                return;
+                return true;
             } else if (!canForward && shouldForward) {
                 // Should forward but can't
                 throw new GenieServerException("Job files are not local, but forwarding is disabled");
             }
         }
-
-        // In any other case, delegate the request to the service
-        log.debug("Fetching requested resource \"{}\" for job \"{}\"", path, id);
-        this.jobDirectoryServerService.serveResource(id, baseUrl, path, request, response);
+        return false;
     }
 
     private void forwardRequest(
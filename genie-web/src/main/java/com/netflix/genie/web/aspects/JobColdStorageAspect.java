@@ -0,0 +1,281 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.aspects;
+
+import com.netflix.genie.common.dto.JobStatus;
+import com.netflix.genie.common.dto.search.JobSearchResult;
+import com.netflix.genie.common.exceptions.GenieNotFoundException;
+import com.netflix.genie.common.exceptions.GeniePreconditionException;
+import com.netflix.genie.common.internal.dtos.converters.DtoConverters;
+import com.netflix.genie.common.internal.exceptions.unchecked.GenieRuntimeException;
+import com.netflix.genie.web.dtos.ColdStoredJob;
+import com.netflix.genie.web.exceptions.checked.JobInColdStorageException;
+import com.netflix.genie.web.exceptions.checked.NotFoundException;
+import com.netflix.genie.web.services.JobColdStorageService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Aspect which serves the jobs moved to cold storage from the job read methods of the persistence service so every
+ * caller, REST, gRPC or internal, finds them once they are no longer in the database.
+ * <p>
+ * The job, its status, request, execution, metadata and archive status and location are served from cold storage.
+ * The cluster, command and applications of the job aren't kept there so asking for them fails with a
+ * {@link JobInColdStorageException} rather than a plain {@link NotFoundException}. Job searches have the matching
+ * cold storage jobs appended after the database results.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Aspect
+public class JobColdStorageAspect implements Ordered {
+
+    private static final String PERSISTENCE_SERVICE
+        = "execution(* com.netflix.genie.web.data.services.PersistenceService.";
+
+    private final JobColdStorageService jobColdStorageService;
+
+    /**
+     * Constructor.
+     *
+     * @param jobColdStorageService The {@link JobColdStorageService} holding the jobs moved out of the database
+     */
+    public JobColdStorageAspect(final JobColdStorageService jobColdStorageService) {
+        this.jobColdStorageService = jobColdStorageService;
+    }
+
+    /**
+     * Serve the V3 job from cold storage when it isn't in the database.
+     *
+     * @param pjp join point
+     * @param id  The id of the job
+     * @return The job
+     * @throws Throwable Any exception thrown by the persistence service method if the job isn't in cold storage either
+     */
+    @Around(PERSISTENCE_SERVICE + "getJob(String)) && args(id)")
+    @SuppressWarnings("checkstyle:IllegalThrows") // For propagating Throwable from joinPoint.proceed()
+    public Object getJob(final ProceedingJoinPoint pjp, final String id) throws Throwable {
+        try {
+            return pjp.proceed();
+        } catch (final GenieNotFoundException e) {
+            return this.getColdStoredJob(id, e).getJob();
+        }
+    }
+
+    /**
+     * Serve the V3 job execution from cold storage when the job isn't in the database.
+     *
+     * @param pjp join point
+     * @param id  The id of the job
+     * @return The job execution
+     * @throws Throwable Any exception thrown by the persistence service method if the job isn't in cold storage either
+     */
+    @Around(PERSISTENCE_SERVICE + "getJobExecution(String)) && args(id)")
+    @SuppressWarnings("checkstyle:IllegalThrows") // For propagating Throwable from joinPoint.proceed()
+    public Object getJobExecution(final ProceedingJoinPoint pjp, final String id) throws Throwable {
+        try {
+            return pjp.proceed();
+        } catch (final GenieNotFoundException e) {
+            return this.getColdStoredJob(id, e).getExecution();
+        }
+    }
+
+    /**
+     * Serve the V3 job metadata from cold storage when the job isn't in the database.
+     *
+     * @param pjp join point
+     * @param id  The id of the job
+     * @return The job metadata
+     * @throws Throwable Any exception thrown by the persistence service method if the job isn't in cold storage either
+     */
+    @Around(PERSISTENCE_SERVICE + "getJobMetadata(String)) && args(id)")
+    @SuppressWarnings("checkstyle:IllegalThrows") // For propagating Throwable from joinPoint.proceed()
+    public Object getJobMetadata(final ProceedingJoinPoint pjp, final String id) throws Throwable {
+        try {
+            return pjp.proceed();
+        } catch (final GenieNotFoundException e) {
+            return this.getColdStoredJob(id, e).getMetadata();
+        }
+    }
+
+    /**
+     * Serve the job request from cold storage when the job isn't in the database.
+     *
+     * @param pjp join point
+     * @param id  The id of the job
+     * @return The job request
+     * @throws Throwable Any exception thrown by the persistence service method if the job isn't in cold storage either
+     */
+    @Around(PERSISTENCE_SERVICE + "getJobRequest(String)) && args(id)")
+    @SuppressWarnings("checkstyle:IllegalThrows") // For propagating Throwable from joinPoint.proceed()
+    public Object getJobRequest(final ProceedingJoinPoint pjp, final String id) throws Throwable {
+        try {
+            return pjp.proceed();
+        } catch (final NotFoundException e) {
+            final ColdStoredJob coldStoredJob = this.getColdStoredJob(id, e);
+            try {
+                return DtoConverters.toV4JobRequest(coldStoredJob.getRequest());
+            } catch (final GeniePreconditionException conversionException) {
+                throw new GenieRuntimeException(
+                    "Unable to convert the cold stored request of job " + id,
+                    conversionException
+                );
+            }
+        }
+    }
+
+    /**
+     * Serve the job status from cold storage when the job isn't in the database.
+     *
+     * @param pjp join point
+     * @param id  The id of the job
+     * @return The job status
+     * @throws Throwable Any exception thrown by the persistence service method if the job isn't in cold storage either
+     */
+    @Around(PERSISTENCE_SERVICE + "getJobStatus(String)) && args(id)")
+    @SuppressWarnings("checkstyle:IllegalThrows") // For propagating Throwable from joinPoint.proceed()
+    public Object getJobStatus(final ProceedingJoinPoint pjp, final String id) throws Throwable {
+        try {
+            return pjp.proceed();
+        } catch (final NotFoundException e) {
+            return DtoConverters.toV4JobStatus(this.getColdStoredJob(id, e).getJob().getStatus());
+        }
+    }
+
+    /**
+     * Serve the archive status of the job from cold storage when the job isn't in the database so its output is
+     * served from the archive.
+     *
+     * @param pjp join point
+     * @param id  The id of the job
+     * @return The job archive status
+     * @throws Throwable Any exception thrown by the persistence service method if the job isn't in cold storage either
+     */
+    @Around(PERSISTENCE_SERVICE + "getJobArchiveStatus(String)) && args(id)")
+    @SuppressWarnings("checkstyle:IllegalThrows") // For propagating Throwable from joinPoint.proceed()
+    public Object getJobArchiveStatus(final ProceedingJoinPoint pjp, final String id) throws Throwable {
+        try {
+            return pjp.proceed();
+        } catch (final NotFoundException e) {
+            return this.getColdStoredJob(id, e).getArchiveStatus();
+        }
+    }
+
+    /**
+     * Serve the archive location of the job from cold storage when the job isn't in the database.
+     *
+     * @param pjp join point
+     * @param id  The id of the job
+     * @return The job archive location
+     * @throws Throwable Any exception thrown by the persistence service method if the job isn't in cold storage either
+     */
+    @Around(PERSISTENCE_SERVICE + "getJobArchiveLocation(String)) && args(id)")
+    @SuppressWarnings("checkstyle:IllegalThrows") // For propagating Throwable from joinPoint.proceed()
+    public Object getJobArchiveLocation(final ProceedingJoinPoint pjp, final String id) throws Throwable {
+        try {
+            return pjp.proceed();
+        } catch (final NotFoundException e) {
+            return this.getColdStoredJob(id, e).getJob().getArchiveLocation();
+        }
+    }
+
+    /**
+     * Fail with a {@link JobInColdStorageException} when the resources of a job which was moved to cold storage are
+     * requested as they aren't kept there.
+     *
+     * @param pjp join point
+     * @param id  The id of the job
+     * @return The resources of the job
+     * @throws Throwable Any exception thrown by the persistence service method or a {@link JobInColdStorageException}
+     */
+    @Around(
+        "("
+            + PERSISTENCE_SERVICE + "getJobCluster(String)) || "
+            + PERSISTENCE_SERVICE + "getJobCommand(String)) || "
+            + PERSISTENCE_SERVICE + "getJobApplications(String))"
+            + ") && args(id)"
+    )
+    @SuppressWarnings("checkstyle:IllegalThrows") // For propagating Throwable from joinPoint.proceed()
+    public Object getJobResources(final ProceedingJoinPoint pjp, final String id) throws Throwable {
+        try {
+            return pjp.proceed();
+        } catch (final NotFoundException e) {
+            if (e instanceof JobInColdStorageException || this.jobColdStorageService.getJob(id).isEmpty()) {
+                throw e;
+            }
+            throw new JobInColdStorageException(
+                "Job " + id + " was moved to cold storage which doesn't keep its cluster, command and applications",
+                e
+            );
+        }
+    }
+
+    /**
+     * Append the matching jobs in cold storage to the results of a job search.
+     *
+     * @param pjp join point
+     * @return The page of the search results
+     * @throws Throwable Any exception thrown by the persistence service method
+     */
+    @Around(PERSISTENCE_SERVICE + "findJobs(..))")
+    @SuppressWarnings({"checkstyle:IllegalThrows", "unchecked"})
+    public Object findJobs(final ProceedingJoinPoint pjp) throws Throwable {
+        final Page<JobSearchResult> primaryResults = (Page<JobSearchResult>) pjp.proceed();
+        final Object[] args = pjp.getArgs();
+        return this.jobColdStorageService.findJobs(
+            primaryResults,
+            (String) args[0],
+            (String) args[1],
+            (String) args[2],
+            (Set<JobStatus>) args[3],
+            (Set<String>) args[4],
+            (String) args[5],
+            (String) args[6],
+            (String) args[7],
+            (String) args[8],
+            (Instant) args[9],
+            (Instant) args[10],
+            (Instant) args[11],
+            (Instant) args[12],
+            (String) args[13],
+            (String) args[14],
+            (Pageable) args[15]
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOrder() {
+        // Outside of the PersistenceInstrumentationAspect and the DataServiceRetryAspect so the database work is done
+        // and retried as usual before falling back on cold storage
+        return -2;
+    }
+
+    private <E extends Exception> ColdStoredJob getColdStoredJob(final String id, final E notFound) throws E {
+        return this.jobColdStorageService.getJob(id).orElseThrow(() -> notFound);
+    }
+}
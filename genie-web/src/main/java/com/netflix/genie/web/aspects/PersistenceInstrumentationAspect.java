@@ -0,0 +1,103 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.aspects;
+
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.PersistenceStatistics;
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.PersistenceStatisticsRecorder;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+
+/**
+ * Aspect which records the statements executed, entities loaded and time spent in the database by every data service
+ * method and every REST API endpoint.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Aspect
+public class PersistenceInstrumentationAspect implements Ordered {
+
+    static final String DATA_LAYER = "data";
+    static final String REST_LAYER = "rest";
+
+    private final PersistenceStatisticsRecorder recorder;
+
+    /**
+     * Constructor.
+     *
+     * @param recorder The {@link PersistenceStatisticsRecorder} to publish the work done by each operation with
+     */
+    public PersistenceInstrumentationAspect(final PersistenceStatisticsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Record the database work done by a data service method.
+     *
+     * @param pjp join point
+     * @return The result of the data service method
+     * @throws Throwable Any exception thrown by the data service method
+     */
+    @Around("com.netflix.genie.web.aspects.SystemArchitecture.dataOperation()")
+    @SuppressWarnings("checkstyle:IllegalThrows") // For propagating Throwable from joinPoint.proceed()
+    public Object instrumentDataOperation(final ProceedingJoinPoint pjp) throws Throwable {
+        return this.instrument(pjp, DATA_LAYER);
+    }
+
+    /**
+     * Record the database work done by a REST API endpoint.
+     *
+     * @param pjp join point
+     * @return The result of the endpoint
+     * @throws Throwable Any exception thrown by the endpoint
+     */
+    @Around(
+        "com.netflix.genie.web.aspects.SystemArchitecture.resourceOperation() "
+            + "&& @within(org.springframework.web.bind.annotation.RestController)"
+    )
+    @SuppressWarnings("checkstyle:IllegalThrows") // For propagating Throwable from joinPoint.proceed()
+    public Object instrumentResourceOperation(final ProceedingJoinPoint pjp) throws Throwable {
+        return this.instrument(pjp, REST_LAYER);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOrder() {
+        // Run before the DataServiceRetryAspect so the work of every retry is charged to the method called
+        return -1;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalThrows") // For propagating Throwable from joinPoint.proceed()
+    private Object instrument(final ProceedingJoinPoint pjp, final String layer) throws Throwable {
+        final PersistenceStatistics.Scope scope = PersistenceStatistics.enter(new PersistenceStatistics.Scope());
+        try {
+            return pjp.proceed();
+        } finally {
+            PersistenceStatistics.exit(scope);
+            this.recorder.record(
+                layer,
+                pjp.getSignature().getDeclaringType().getSimpleName() + "." + pjp.getSignature().getName(),
+                scope
+            );
+        }
+    }
+}
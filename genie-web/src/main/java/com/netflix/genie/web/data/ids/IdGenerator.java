@@ -0,0 +1,38 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.ids;
+
+/**
+ * Generates the unique id of a job or resource when the client didn't request a specific one. Client requested ids
+ * are always used as is and never pass through a generator.
+ * <p>
+ * Implementations must be thread safe and should produce ids which are unique across all Genie nodes without any
+ * coordination.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public interface IdGenerator {
+
+    /**
+     * Generate a new unique id.
+     *
+     * @return The id. Never blank and at most 255 characters long.
+     */
+    String generateId();
+}
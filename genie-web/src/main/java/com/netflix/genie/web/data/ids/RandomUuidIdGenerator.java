@@ -0,0 +1,38 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.ids;
+
+import java.util.UUID;
+
+/**
+ * An {@link IdGenerator} producing random (version 4) UUIDs. Consecutive ids have no relation to each other so they
+ * are spread across the whole key space of any index they're inserted into.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public class RandomUuidIdGenerator implements IdGenerator {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String generateId() {
+        return UUID.randomUUID().toString();
+    }
+}
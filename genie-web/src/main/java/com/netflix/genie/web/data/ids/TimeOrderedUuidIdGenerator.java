@@ -0,0 +1,98 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.ids;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An {@link IdGenerator} producing time ordered (version 7, RFC 9562) UUIDs.
+ * <p>
+ * The first 48 bits hold the Unix epoch time in milliseconds and the following 12 bits a counter which keeps ids
+ * generated by this instance strictly increasing even when several are generated within the same millisecond or the
+ * clock goes backwards. The remaining 62 non version/variant bits are random so ids generated by different nodes at
+ * the same time don't collide.
+ * <p>
+ * Since the canonical string form is fixed width lowercase hex, ids sort lexicographically in the order they were
+ * generated. New rows therefore land at the right edge of a B-tree index on the id instead of at random pages.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public class TimeOrderedUuidIdGenerator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long TIMESTAMP_MASK = 0xFFFF_FFFF_FFFFL;
+    private static final long VERSION_BITS = 0x7000L;
+    private static final long VARIANT_BITS = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    private final Clock clock;
+    private final Random random;
+    // Milliseconds shifted left by COUNTER_BITS plus the counter, of the last generated id
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    /**
+     * Constructor.
+     */
+    public TimeOrderedUuidIdGenerator() {
+        this(Clock.systemUTC(), new SecureRandom());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param clock  The clock to take the timestamp from
+     * @param random The source of the random bits
+     */
+    @VisibleForTesting
+    TimeOrderedUuidIdGenerator(final Clock clock, final Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String generateId() {
+        return this.generateUuid().toString();
+    }
+
+    @VisibleForTesting
+    UUID generateUuid() {
+        final long now = this.clock.millis() << COUNTER_BITS;
+        // Move forward from the last id if the clock didn't, borrowing from the timestamp if the counter overflows
+        final long timestampAndCounter = this.lastTimestampAndCounter.accumulateAndGet(
+            now,
+            (last, current) -> Math.max(last + 1, current)
+        );
+        final long timestamp = (timestampAndCounter >>> COUNTER_BITS) & TIMESTAMP_MASK;
+        final long counter = timestampAndCounter & COUNTER_MASK;
+        return new UUID(
+            timestamp << 16 | VERSION_BITS | counter,
+            (this.random.nextLong() & RANDOM_MASK) | VARIANT_BITS
+        );
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.observers;
+
+import com.netflix.genie.common.internal.dtos.JobStatus;
+import com.netflix.genie.web.dtos.JobResources;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * A persisted change of a job's status along with the context needed to attribute how long the job spent in the
+ * status it left.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Getter
+@EqualsAndHashCode(doNotUseGetters = true)
+@ToString(doNotUseGetters = true)
+public class JobStatusTransition {
+    private final String jobId;
+    private final JobStatus previousStatus;
+    private final JobStatus currentStatus;
+    private final Duration timeInPreviousStatus;
+    private final String launcherClass;
+    private final JobResources resources;
+
+    /**
+     * Constructor.
+     *
+     * @param jobId                The job unique id
+     * @param previousStatus       The previous status or {@literal null} if the job was just created
+     * @param currentStatus        The status that was just persisted
+     * @param timeInPreviousStatus How long the job was in the previous status if known
+     * @param launcherClass        The class of the agent launcher used for the job if known
+     */
+    public JobStatusTransition(
+        final String jobId,
+        @Nullable final JobStatus previousStatus,
+        final JobStatus currentStatus,
+        @Nullable final Duration timeInPreviousStatus,
+        @Nullable final String launcherClass
+    ) {
+        this(jobId, previousStatus, currentStatus, timeInPreviousStatus, launcherClass, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param jobId                The job unique id
+     * @param previousStatus       The previous status or {@literal null} if the job was just created
+     * @param currentStatus        The status that was just persisted
+     * @param timeInPreviousStatus How long the job was in the previous status if known
+     * @param launcherClass        The class of the agent launcher used for the job if known
+     * @param resources            The resources of the job as of the status that was just persisted if known
+     */
+    public JobStatusTransition(
+        final String jobId,
+        @Nullable final JobStatus previousStatus,
+        final JobStatus currentStatus,
+        @Nullable final Duration timeInPreviousStatus,
+        @Nullable final String launcherClass,
+        @Nullable final JobResources resources
+    ) {
+        this.jobId = jobId;
+        this.previousStatus = previousStatus;
+        this.currentStatus = currentStatus;
+        this.timeInPreviousStatus = timeInPreviousStatus;
+        this.launcherClass = launcherClass;
+        this.resources = resources;
+    }
+
+    /**
+     * Get the status the job was in before this transition.
+     *
+     * @return The previous status or {@link Optional#empty()} if the job was just created
+     */
+    public Optional<JobStatus> getPreviousStatus() {
+        return Optional.ofNullable(this.previousStatus);
+    }
+
+    /**
+     * Get how long the job spent in the previous status.
+     *
+     * @return The duration or {@link Optional#empty()} if it isn't known
+     */
+    public Optional<Duration> getTimeInPreviousStatus() {
+        return Optional.ofNullable(this.timeInPreviousStatus);
+    }
+
+    /**
+     * Get the class of the agent launcher used to launch the job.
+     *
+     * @return The launcher class or {@link Optional#empty()} if the job wasn't launched by the server
+     */
+    public Optional<String> getLauncherClass() {
+        return Optional.ofNullable(this.launcherClass);
+    }
+
+    /**
+     * Get the resources of the job as of the status that was just persisted.
+     *
+     * @return The resources or {@link Optional#empty()} if they weren't captured with the transition
+     */
+    public Optional<JobResources> getResources() {
+        return Optional.ofNullable(this.resources);
+    }
+}
@@ -40,4 +40,14 @@ public interface PersistedJobStatusObserver {
      * @param currentStatus  the job status that was just persisted. Guaranteed to be different than the previous.
      */
     void notify(String jobId, @Nullable JobStatus previousStatus, JobStatus currentStatus);
+
+    /**
+     * Handle a notification of job status change which carries additional context about the transition. By default
+     * this only forwards the job id and statuses to {@link #notify(String, JobStatus, JobStatus)}.
+     *
+     * @param transition the transition that was just persisted
+     */
+    default void notify(final JobStatusTransition transition) {
+        this.notify(transition.getJobId(), transition.getPreviousStatus().orElse(null), transition.getCurrentStatus());
+    }
 }
@@ -20,28 +20,43 @@ package com.netflix.genie.web.data.observers;
 import com.netflix.genie.common.internal.dtos.JobStatus;
 import com.netflix.genie.web.events.GenieEventBus;
 import com.netflix.genie.web.events.JobStateChangeEvent;
+import com.netflix.genie.web.util.MetricsConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 import jakarta.annotation.Nullable;
+import java.time.Duration;
 
 /**
  * Observer of persisted entities modifications that publishes events on the event bus to be consumed asynchronously by
  * interested consumers.
+ * <p>
+ * When a transition carries the time the job spent in the status it left, that time is also recorded in a histogram
+ * per from/to status pair so the latency of each phase of the job lifecycle can be observed. The histogram is only
+ * tagged with values from small fixed sets as every tag combination publishes its own set of buckets.
  *
  * @author mprimi
  * @since 4.0.0
  */
 @Slf4j
 public class PersistedJobStatusObserverImpl implements PersistedJobStatusObserver {
+    private static final String STATE_TRANSITION_TIMER_NAME = "genie.jobs.notifications.state-transition.timer";
+    private static final String UNKNOWN_TAG_VALUE = "unknown";
+    private static final Duration MAXIMUM_EXPECTED_PHASE_DURATION = Duration.ofDays(1);
+
     private final GenieEventBus genieEventBus;
+    private final MeterRegistry registry;
 
     /**
      * Constructor.
      *
      * @param genieEventBus the genie event bus
+     * @param registry      the metrics registry
      */
-    public PersistedJobStatusObserverImpl(final GenieEventBus genieEventBus) {
+    public PersistedJobStatusObserverImpl(final GenieEventBus genieEventBus, final MeterRegistry registry) {
         this.genieEventBus = genieEventBus;
+        this.registry = registry;
     }
 
     /**
@@ -49,10 +64,48 @@ public class PersistedJobStatusObserverImpl implements PersistedJobStatusObserve
      */
     @Override
     public void notify(final String jobId, @Nullable final JobStatus previousStatus, final JobStatus currentStatus) {
-        final JobStateChangeEvent event = new JobStateChangeEvent(jobId, previousStatus, currentStatus, this);
+        this.publish(new JobStateChangeEvent(jobId, previousStatus, currentStatus, this));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notify(final JobStatusTransition transition) {
+        this.publish(
+            new JobStateChangeEvent(
+                transition.getJobId(),
+                transition.getPreviousStatus().orElse(null),
+                transition.getCurrentStatus(),
+                transition.getResources().orElse(null),
+                this
+            )
+        );
+        // Without a previous status there is no phase to time
+        if (transition.getPreviousStatus().isPresent() && transition.getTimeInPreviousStatus().isPresent()) {
+            Timer
+                .builder(STATE_TRANSITION_TIMER_NAME)
+                .tag(MetricsConstants.TagKeys.FROM_STATE, transition.getPreviousStatus().get().name())
+                .tag(MetricsConstants.TagKeys.TO_STATE, transition.getCurrentStatus().name())
+                .tag(
+                    MetricsConstants.TagKeys.AGENT_LAUNCHER_CLASS,
+                    transition.getLauncherClass().orElse(UNKNOWN_TAG_VALUE)
+                )
+                .publishPercentileHistogram()
+                .maximumExpectedValue(MAXIMUM_EXPECTED_PHASE_DURATION)
+                .register(this.registry)
+                .record(transition.getTimeInPreviousStatus().get());
+        }
+    }
+
+    private void publish(final JobStateChangeEvent event) {
         log.debug("Publishing event: {}", event);
         this.genieEventBus.publishAsynchronousEvent(event);
-        log.info("Job {} status changed from: {} to: {}", jobId, previousStatus, currentStatus);
+        log.info(
+            "Job {} status changed from: {} to: {}",
+            event.getJobId(),
+            event.getPreviousStatus(),
+            event.getNewStatus()
+        );
     }
-
 }
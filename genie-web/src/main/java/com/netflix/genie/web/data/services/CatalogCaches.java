@@ -0,0 +1,119 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services;
+
+import com.google.common.collect.ImmutableList;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Names of the caches holding read-mostly catalog (application, cluster and command) data served by the
+ * {@link PersistenceService} along with helpers to invalidate them.
+ * <p>
+ * Catalog caches are always cleared together. Writes to the catalog are rare compared to reads and a single write can
+ * affect entries in more than one cache (e.g. updating an application changes the result of
+ * {@link PersistenceService#getApplicationsForCommand(String)} for every command it's linked to) so there is no
+ * attempt at fine grained eviction.
+ * <p>
+ * Every clear also advances a local {@link #getGeneration() generation}. Caches of values derived from several catalog
+ * reads can include it in their keys so that a value computed concurrently with a catalog change is never served once
+ * that change has been observed.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public final class CatalogCaches {
+
+    /**
+     * Cache of {@link PersistenceService#getApplication(String)} results.
+     */
+    public static final String APPLICATIONS = "catalogApplications";
+
+    /**
+     * Cache of {@link PersistenceService#getCluster(String)} results.
+     */
+    public static final String CLUSTERS = "catalogClusters";
+
+    /**
+     * Cache of {@link PersistenceService#getCommand(String)} results.
+     */
+    public static final String COMMANDS = "catalogCommands";
+
+    /**
+     * Cache of {@link PersistenceService#getApplicationsForCommand(String)} results.
+     */
+    public static final String COMMAND_APPLICATIONS = "catalogCommandApplications";
+
+    /**
+     * Cache of {@link PersistenceService#getClusterCriteriaForCommand(String)} results.
+     */
+    public static final String COMMAND_CLUSTER_CRITERIA = "catalogCommandClusterCriteria";
+
+    /**
+     * Cache of the candidate command to clusters matrix computed while resolving jobs with identical criteria.
+     */
+    public static final String RESOLUTION_CANDIDATES = "catalogResolutionCandidates";
+
+    /**
+     * All the catalog cache names.
+     */
+    public static final List<String> ALL = ImmutableList.of(
+        APPLICATIONS,
+        CLUSTERS,
+        COMMANDS,
+        COMMAND_APPLICATIONS,
+        COMMAND_CLUSTER_CRITERIA,
+        RESOLUTION_CANDIDATES
+    );
+
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private CatalogCaches() {
+    }
+
+    /**
+     * Get the current local catalog generation. This value is advanced every time the catalog caches are cleared.
+     *
+     * @return The current generation
+     */
+    public static long getGeneration() {
+        return GENERATION.get();
+    }
+
+    /**
+     * Clear every catalog cache known to the given {@link CacheManager}.
+     *
+     * @param cacheManager The cache manager to clear the catalog caches of. If {@literal null} this is a no-op.
+     */
+    public static void clear(@Nullable final CacheManager cacheManager) {
+        if (cacheManager == null) {
+            return;
+        }
+        GENERATION.incrementAndGet();
+        for (final String cacheName : ALL) {
+            final Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
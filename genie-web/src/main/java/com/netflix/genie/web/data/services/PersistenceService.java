@@ -43,7 +43,13 @@ import com.netflix.genie.common.internal.dtos.JobSpecification;
 import com.netflix.genie.common.internal.dtos.JobStatus;
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieInvalidStatusException;
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieJobAlreadyClaimedException;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.ClusterJobResourcesAggregate;
 import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobInfoAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobResourcesAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.UserHostJobResourcesAggregate;
+import com.netflix.genie.web.dtos.ColdStoredJob;
+import com.netflix.genie.web.dtos.JobResourceUsage;
+import com.netflix.genie.web.dtos.JobStageTiming;
 import com.netflix.genie.web.dtos.JobSubmission;
 import com.netflix.genie.web.dtos.ResolvedJob;
 import com.netflix.genie.web.exceptions.checked.IdAlreadyExistsException;
@@ -62,6 +68,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -615,6 +622,74 @@ public interface PersistenceService {
         @Min(1) int batchSize
     );
 
+    /**
+     * Get the unique ids of a chunk of the oldest jobs whose creation time is earlier than the given date.
+     *
+     * @param creationThreshold The instant in time before which the jobs were created
+     * @param excludeStatuses   The set of statuses that should be excluded if a job is in one of these statuses
+     * @param batchSize         The maximum number of job ids to return
+     * @return The unique ids of the jobs found
+     */
+    Set<String> getJobsCreatedBefore(
+        @NotNull Instant creationThreshold,
+        @NotNull Set<JobStatus> excludeStatuses,
+        @Min(1) int batchSize
+    );
+
+    /**
+     * Get all the records of the jobs with the given ids which are kept once they are moved to cold storage.
+     *
+     * @param ids The unique ids of the jobs
+     * @return The records of the jobs. Ids with no job are ignored
+     */
+    List<ColdStoredJob> getJobsForColdStorage(@NotNull Set<String> ids);
+
+    /**
+     * Delete the jobs with the given ids.
+     *
+     * @param ids The unique ids of the jobs to delete
+     * @return the number of deleted jobs
+     */
+    long deleteJobs(@NotNull Set<String> ids);
+
+    /**
+     * Delete a batch of job status transition history records which were created before the given time.
+     *
+     * @param creationThreshold The instant in time before which records should be deleted. Exclusive.
+     * @param batchSize         The maximum number of records to delete in a single transaction
+     * @return The number of records deleted
+     */
+    long deleteJobStatusHistoryCreatedBefore(@NotNull Instant creationThreshold, @Min(1) int batchSize);
+
+    /**
+     * Make sure the partitioned storage of jobs covers all creation times up to the given instant by adding new
+     * partitions after the most recent existing one. This is a no-op if the underlying storage isn't partitioned.
+     *
+     * @param coverUntil     The instant in time up to which new jobs must be able to be stored
+     * @param partitionWidth The range of creation times each new partition should cover
+     * @return The number of partitions created
+     */
+    int createJobPartitions(@NotNull Instant coverUntil, @NotNull Duration partitionWidth);
+
+    /**
+     * Delete, a whole partition at a time, the jobs in partitions whose entire range of creation times is earlier
+     * than the given date. Partitions are dropped oldest first and the process stops at the first partition which
+     * still contains a job in one of the excluded statuses. The collections of the dropped jobs (tags, applications,
+     * command arguments, etc.) are deleted in batches once their partitions have been dropped, including any left
+     * behind by a previous call which didn't complete. This is a no-op if the underlying storage isn't partitioned.
+     *
+     * @param creationThreshold The instant in time before which all jobs should be deleted
+     * @param excludeStatuses   The set of statuses that prevent the partition of a job in one of these statuses from
+     *                          being dropped
+     * @param batchSize         The maximum number of jobs whose collections are deleted in a single transaction
+     * @return The number of partitions dropped
+     */
+    int dropJobPartitionsBefore(
+        @NotNull Instant creationThreshold,
+        @NotEmpty Set<JobStatus> excludeStatuses,
+        @Min(1) int batchSize
+    );
+
     /**
      * Save the given job submission information in the underlying data store.
      * <p>
@@ -702,6 +777,28 @@ public interface PersistenceService {
         @Nullable String newStatusMessage
     ) throws NotFoundException;
 
+    /**
+     * Update the status of the job identified with {@code id} like
+     * {@link #updateJobStatus(String, JobStatus, JobStatus, String)} and, in the same transaction, append the given
+     * stage timings to the job. The timings are only saved if this call changed the status so timings reported with a
+     * stale or repeated status change aren't saved twice.
+     *
+     * @param id               The id of the job to update status for. Must exist in the system.
+     * @param currentStatus    The status the caller to this API thinks the job currently has
+     * @param newStatus        The new status the caller would like to update the status to
+     * @param newStatusMessage An optional status message to associate with this change
+     * @param stageTimings     The stage timings reported with the status change
+     * @return {@literal true} if this call changed the status and saved the timings
+     * @throws NotFoundException if no job with the given {@code id} exists
+     */
+    boolean updateJobStatusWithStageTimings(
+        @NotBlank String id,
+        @NotNull JobStatus currentStatus,
+        @NotNull JobStatus newStatus,
+        @Nullable String newStatusMessage,
+        @NotNull List<JobStageTiming> stageTimings
+    ) throws NotFoundException;
+
     /**
      * Update the status and status message of the job.
      *
@@ -714,6 +811,31 @@ public interface PersistenceService {
         @NotNull(message = "Status cannot be null.") ArchiveStatus archiveStatus
     ) throws NotFoundException;
 
+    /**
+     * Combine resource usage of the job process tree, reported by the agent since the last update, with the usage
+     * already saved for the job.
+     *
+     * @param id            The id of the job to update the resource usage for
+     * @param resourceUsage The usage reported since the last update
+     * @throws NotFoundException If no job with the given {@code id} exists
+     */
+    void updateJobResourceUsage(
+        @NotBlank String id,
+        @NotNull JobResourceUsage resourceUsage
+    ) throws NotFoundException;
+
+    /**
+     * Append the time the agent spent in stages of executing the job to the timings already saved for the job.
+     *
+     * @param id           The id of the job to add the stage timings to
+     * @param stageTimings The timings reported since the last update in the order the stages were executed
+     * @throws NotFoundException If no job with the given {@code id} exists
+     */
+    void addJobStageTimings(
+        @NotBlank String id,
+        @NotNull List<JobStageTiming> stageTimings
+    ) throws NotFoundException;
+
     /**
      * Get the status for a job with the given {@code id}.
      *
@@ -823,6 +945,30 @@ public interface PersistenceService {
      */
     Set<String> getActiveJobs();
 
+    /**
+     * Get the number of active jobs and the resources they hold for each user, submission mode and host. Jobs which
+     * are still {@link JobStatus#RESERVED} are not considered as they haven't been allocated any resources yet.
+     *
+     * @return The aggregates for each user, submission mode and host with at least one job
+     */
+    Set<UserHostJobResourcesAggregate> getActiveUserHostJobResources();
+
+    /**
+     * Get the resources held by every active job running on the given host.
+     *
+     * @param hostname The hostname the agents are running the jobs on
+     * @return The resources of each job on the host which currently has a status which is considered active
+     */
+    Set<JobResourcesAggregate> getActiveJobResourcesOnHost(@NotBlank String hostname);
+
+    /**
+     * Get the number of active jobs and the memory they requested for each cluster and status. Jobs which haven't
+     * been sent to a cluster yet are not considered.
+     *
+     * @return The aggregates for each cluster and active status with at least one job
+     */
+    Set<ClusterJobResourcesAggregate> getActiveClusterJobResources();
+
     /**
      * Get the set of jobs in that have not reached CLAIMED state.
      *
@@ -830,6 +976,64 @@ public interface PersistenceService {
      */
     Set<String> getUnclaimedJobs();
 
+    /**
+     * Mark a job saved in {@link JobStatus#RESERVED} as waiting in the admission queue of the given node.
+     * <p>
+     * The queue holds a lease on the job which it has to keep renewing via {@link #renewQueuedJobs(String)}. Once
+     * the lease lapses, e.g. because the node went away or restarted, any node can take the job over via
+     * {@link #adoptQueuedJob(String, String, Instant)}.
+     *
+     * @param id    The id of the job
+     * @param owner The id of the queue holding the job, unique to the process of the node queueing it
+     * @return {@literal true} if the job was marked queued. {@literal false} if no job with the given id is
+     * {@link JobStatus#RESERVED} anymore
+     */
+    boolean queueJob(@NotBlank String id, @NotBlank String owner);
+
+    /**
+     * Renew the lease of the given queue on all the jobs waiting in it.
+     *
+     * @param owner The id of the queue
+     * @return The number of jobs whose lease was renewed
+     */
+    int renewQueuedJobs(@NotBlank String owner);
+
+    /**
+     * Get the ids of the queued jobs whose lease was last renewed before the given time, oldest jobs first.
+     *
+     * @param renewedBefore The time before which the lease must have been last renewed
+     * @param limit         The maximum number of ids to return
+     * @return The ids of the jobs whose lease lapsed
+     */
+    List<String> getQueuedJobsNotRenewedSince(@NotNull Instant renewedBefore, @Min(1) int limit);
+
+    /**
+     * Take over a queued job whose lease lapsed. Only one node can take over a given lapsed lease.
+     *
+     * @param id            The id of the job
+     * @param owner         The id of the queue taking the job over
+     * @param renewedBefore The time before which the lease must have been last renewed
+     * @return {@literal true} if the job is now held by the given queue
+     */
+    boolean adoptQueuedJob(@NotBlank String id, @NotBlank String owner, @NotNull Instant renewedBefore);
+
+    /**
+     * Remove a job from the given admission queue so that it can be launched.
+     *
+     * @param id    The id of the job
+     * @param owner The id of the queue holding the job
+     * @return {@literal true} if the job was held by the given queue and is still {@link JobStatus#RESERVED}.
+     * {@literal false} if it was killed or taken over by another queue in the meantime and shouldn't be launched
+     */
+    boolean dequeueJob(@NotBlank String id, @NotBlank String owner);
+
+    /**
+     * Get the ids of the jobs waiting in the admission queue of any node.
+     *
+     * @return The ids of the queued jobs
+     */
+    Set<String> getQueuedJobs();
+
     /**
      * Get all the aggregate metadata information about jobs running on a given hostname.
      *
@@ -1116,6 +1320,15 @@ public interface PersistenceService {
         @NotBlank String tag,
         Class<R> resourceClass
     ) throws NotFoundException;
+
+    /**
+     * Get an opaque token representing the current state of the application, cluster and command catalog. The token
+     * changes whenever any of those resources is created, updated or deleted by any Genie node. Intended to be polled
+     * cheaply in order to invalidate locally cached catalog data.
+     *
+     * @return The current catalog version token
+     */
+    String getCatalogVersion();
     //endregion
 
     //region Tag APIs
@@ -20,13 +20,17 @@ package com.netflix.genie.web.data.services.impl.jpa;
 import brave.SpanCustomizer;
 import brave.Tracer;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.NullNode;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.netflix.genie.common.dto.Job;
 import com.netflix.genie.common.dto.JobExecution;
+import com.netflix.genie.common.dto.JobStatusMessages;
 import com.netflix.genie.common.dto.UserResourcesSummary;
 import com.netflix.genie.common.dto.search.JobSearchResult;
 import com.netflix.genie.common.exceptions.GenieException;
@@ -63,6 +67,7 @@ import com.netflix.genie.common.internal.dtos.JobRequestMetadata;
 import com.netflix.genie.common.internal.dtos.JobSpecification;
 import com.netflix.genie.common.internal.dtos.JobStatus;
 import com.netflix.genie.common.internal.dtos.converters.DtoConverters;
+import com.netflix.genie.common.internal.dtos.converters.JobServiceProtoConverter;
 import com.netflix.genie.common.internal.exceptions.checked.GenieCheckedException;
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieInvalidStatusException;
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieJobAlreadyClaimedException;
@@ -70,6 +75,11 @@ import com.netflix.genie.common.internal.exceptions.unchecked.GenieRuntimeExcept
 import com.netflix.genie.common.internal.tracing.TracingConstants;
 import com.netflix.genie.common.internal.tracing.brave.BraveTagAdapter;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
+import com.netflix.genie.web.agent.launchers.AgentLauncher;
+import com.netflix.genie.web.data.ids.IdGenerator;
+import com.netflix.genie.web.data.observers.JobStatusTransition;
+import com.netflix.genie.web.data.observers.PersistedJobStatusObserver;
+import com.netflix.genie.web.data.services.CatalogCaches;
 import com.netflix.genie.web.data.services.PersistenceService;
 import com.netflix.genie.web.data.services.impl.jpa.converters.EntityV3DtoConverters;
 import com.netflix.genie.web.data.services.impl.jpa.converters.EntityV4DtoConverters;
@@ -84,9 +94,14 @@ import com.netflix.genie.web.data.services.impl.jpa.entities.CriterionEntity;
 import com.netflix.genie.web.data.services.impl.jpa.entities.FileEntity;
 import com.netflix.genie.web.data.services.impl.jpa.entities.JobEntity;
 import com.netflix.genie.web.data.services.impl.jpa.entities.JobEntity_;
+import com.netflix.genie.web.data.services.impl.jpa.entities.JobStatusHistoryEntity;
 import com.netflix.genie.web.data.services.impl.jpa.entities.TagEntity;
 import com.netflix.genie.web.data.services.impl.jpa.entities.UniqueIdEntity;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.ClusterJobResourcesAggregate;
 import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobInfoAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobResourcesAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobStatusTransitionAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.UserHostJobResourcesAggregate;
 import com.netflix.genie.web.data.services.impl.jpa.queries.predicates.ApplicationPredicates;
 import com.netflix.genie.web.data.services.impl.jpa.queries.predicates.ClusterPredicates;
 import com.netflix.genie.web.data.services.impl.jpa.queries.predicates.CommandPredicates;
@@ -102,8 +117,14 @@ import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaCommandRepos
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaCriterionRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaFileRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaJobRepository;
+import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaJobStatusHistoryRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaRepositories;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaTagRepository;
+import com.netflix.genie.web.data.services.impl.jpa.utils.JobsPartitionUtils;
+import com.netflix.genie.web.dtos.ColdStoredJob;
+import com.netflix.genie.web.dtos.JobResourceUsage;
+import com.netflix.genie.web.dtos.JobResources;
+import com.netflix.genie.web.dtos.JobStageTiming;
 import com.netflix.genie.web.dtos.JobSubmission;
 import com.netflix.genie.web.dtos.ResolvedJob;
 import com.netflix.genie.web.exceptions.checked.IdAlreadyExistsException;
@@ -112,17 +133,22 @@ import com.netflix.genie.web.exceptions.checked.PreconditionFailedException;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Session;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -137,13 +163,14 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.net.URI;
+import java.sql.Statement;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -167,6 +194,11 @@ import java.util.stream.Stream;
 @Slf4j
 public class JpaPersistenceServiceImpl implements PersistenceService {
 
+    /**
+     * The name of the cache of resolved job specifications served to agents.
+     */
+    public static final String JOB_SPECIFICATIONS_CACHE = "jobSpecifications";
+
     /**
      * The set of active statuses as their names.
      */
@@ -187,6 +219,17 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
         .map(Enum::name)
         .collect(Collectors.toSet());
 
+    /**
+     * The set of active statuses in which a job has been allocated resources.
+     */
+    @VisibleForTesting
+    static final Set<String> ALLOCATED_STATUS_SET = JobStatus
+        .getActiveStatuses()
+        .stream()
+        .filter(status -> status != JobStatus.RESERVED)
+        .map(Enum::name)
+        .collect(Collectors.toSet());
+
     /**
      * The set of job statuses which are considered to be using memory on a Genie node.
      */
@@ -198,6 +241,13 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
 
     private static final String LOAD_GRAPH_HINT = "jakarta.persistence.loadgraph";
     private static final int MAX_STATUS_MESSAGE_LENGTH = 255;
+    private static final String STAGE_TIMING_STAGE_FIELD = "stage";
+    private static final String STAGE_TIMING_DURATION_FIELD = "durationMs";
+    private static final String STAGE_TIMING_ATTEMPTS_FIELD = "attempts";
+    private static final String STAGE_TIMING_RETRY_DELAY_FIELD = "retryDelayMs";
+
+    // Job specifications are snapshot in the same form they're sent to agents in
+    private static final JobServiceProtoConverter JOB_SPECIFICATION_CONVERTER = new JobServiceProtoConverter();
 
     private final EntityManager entityManager;
 
@@ -207,22 +257,37 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
     private final JpaCriterionRepository criterionRepository;
     private final JpaFileRepository fileRepository;
     private final JpaJobRepository jobRepository;
+    private final JpaJobStatusHistoryRepository jobStatusHistoryRepository;
     private final JpaTagRepository tagRepository;
 
     private final Tracer tracer;
     private final BraveTagAdapter tagAdapter;
 
+    private final IdGenerator jobIdGenerator;
+    private final IdGenerator resourceIdGenerator;
+
+    @Nullable
+    private final PersistedJobStatusObserver persistedJobStatusObserver;
+
     /**
      * Constructor.
      *
-     * @param entityManager     The {@link EntityManager} to use
-     * @param jpaRepositories   All the repositories in the Genie application
-     * @param tracingComponents All the Brave related tracing components needed to add metadata to Spans
+     * @param entityManager              The {@link EntityManager} to use
+     * @param jpaRepositories            All the repositories in the Genie application
+     * @param tracingComponents          All the Brave related tracing components needed to add metadata to Spans
+     * @param jobIdGenerator             The {@link IdGenerator} for jobs saved without a requested id
+     * @param resourceIdGenerator        The {@link IdGenerator} for applications, clusters and commands saved
+     *                                   without a requested id
+     * @param persistedJobStatusObserver The observer to notify of job status changes made without loading the job
+     *                                   entity or {@literal null} if there is none
      */
     public JpaPersistenceServiceImpl(
         final EntityManager entityManager,
         final JpaRepositories jpaRepositories,
-        final BraveTracingComponents tracingComponents
+        final BraveTracingComponents tracingComponents,
+        final IdGenerator jobIdGenerator,
+        final IdGenerator resourceIdGenerator,
+        @Nullable final PersistedJobStatusObserver persistedJobStatusObserver
     ) {
         this.entityManager = entityManager;
         this.applicationRepository = jpaRepositories.getApplicationRepository();
@@ -231,10 +296,15 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
         this.criterionRepository = jpaRepositories.getCriterionRepository();
         this.fileRepository = jpaRepositories.getFileRepository();
         this.jobRepository = jpaRepositories.getJobRepository();
+        this.jobStatusHistoryRepository = jpaRepositories.getJobStatusHistoryRepository();
         this.tagRepository = jpaRepositories.getTagRepository();
 
         this.tracer = tracingComponents.getTracer();
         this.tagAdapter = tracingComponents.getTagAdapter();
+
+        this.jobIdGenerator = jobIdGenerator;
+        this.resourceIdGenerator = resourceIdGenerator;
+        this.persistedJobStatusObserver = persistedJobStatusObserver;
     }
 
     //region Application APIs
@@ -246,7 +316,7 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
     public String saveApplication(@Valid final ApplicationRequest applicationRequest) throws IdAlreadyExistsException {
         log.debug("[saveApplication] Called to save {}", applicationRequest);
         final ApplicationEntity entity = new ApplicationEntity();
-        this.setUniqueId(entity, applicationRequest.getRequestedId().orElse(null));
+        this.setUniqueId(entity, applicationRequest.getRequestedId().orElse(null), this.resourceIdGenerator);
         this.updateApplicationEntity(entity, applicationRequest.getResources(), applicationRequest.getMetadata());
 
         try {
@@ -263,6 +333,7 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
      * {@inheritDoc}
      */
     @Override
+    @Cacheable(cacheNames = CatalogCaches.APPLICATIONS, sync = true)
     public Application getApplication(@NotBlank final String id) throws NotFoundException {
         log.debug("[getApplication] Called for {}", id);
         return EntityV4DtoConverters.toV4ApplicationDto(
@@ -498,7 +569,7 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
     public String saveCluster(@Valid final ClusterRequest clusterRequest) throws IdAlreadyExistsException {
         log.debug("[saveCluster] Called to save {}", clusterRequest);
         final ClusterEntity entity = new ClusterEntity();
-        this.setUniqueId(entity, clusterRequest.getRequestedId().orElse(null));
+        this.setUniqueId(entity, clusterRequest.getRequestedId().orElse(null), this.resourceIdGenerator);
         this.updateClusterEntity(entity, clusterRequest.getResources(), clusterRequest.getMetadata());
 
         try {
@@ -512,6 +583,7 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
      * {@inheritDoc}
      */
     @Override
+    @Cacheable(cacheNames = CatalogCaches.CLUSTERS, sync = true)
     public Cluster getCluster(@NotBlank final String id) throws NotFoundException {
         log.debug("[getCluster] Called for {}", id);
         return EntityV4DtoConverters.toV4ClusterDto(
@@ -806,7 +878,7 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
     public String saveCommand(@Valid final CommandRequest commandRequest) throws IdAlreadyExistsException {
         log.debug("[saveCommand] Called to save {}", commandRequest);
         final CommandEntity entity = new CommandEntity();
-        this.setUniqueId(entity, commandRequest.getRequestedId().orElse(null));
+        this.setUniqueId(entity, commandRequest.getRequestedId().orElse(null), this.resourceIdGenerator);
         this.updateCommandEntity(
             entity,
             commandRequest.getResources(),
@@ -831,6 +903,7 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
      * {@inheritDoc}
      */
     @Override
+    @Cacheable(cacheNames = CatalogCaches.COMMANDS, sync = true)
     public Command getCommand(@NotBlank final String id) throws NotFoundException {
         log.debug("[getCommand] Called for {}", id);
         return EntityV4DtoConverters.toV4CommandDto(
@@ -1067,15 +1140,17 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
      * {@inheritDoc}
      */
     @Override
+    @Cacheable(cacheNames = CatalogCaches.COMMAND_APPLICATIONS, sync = true)
     public List<Application> getApplicationsForCommand(final String id) throws NotFoundException {
         log.debug("[getApplicationsForCommand] Called for {}", id);
+        // Immutable as the result may be cached and shared between callers
         return this.commandRepository
             .getCommandAndApplicationsDto(id)
             .orElseThrow(() -> new NotFoundException("No command with id " + id + " exists"))
             .getApplications()
             .stream()
             .map(EntityV4DtoConverters::toV4ApplicationDto)
-            .collect(Collectors.toList());
+            .collect(Collectors.collectingAndThen(Collectors.toList(), ImmutableList::copyOf));
     }
 
     /**
@@ -1132,15 +1207,17 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
      * {@inheritDoc}
      */
     @Override
+    @Cacheable(cacheNames = CatalogCaches.COMMAND_CLUSTER_CRITERIA, sync = true)
     public List<Criterion> getClusterCriteriaForCommand(final String id) throws NotFoundException {
         log.debug("[getClusterCriteriaForCommand] Called to get cluster criteria for command {}", id);
+        // Immutable as the result may be cached and shared between callers
         return this.commandRepository
             .getCommandAndClusterCriteria(id)
             .orElseThrow(() -> new NotFoundException("No command with id " + id + " exists"))
             .getClusterCriteria()
             .stream()
             .map(EntityV4DtoConverters::toCriterionDto)
-            .collect(Collectors.toList());
+            .collect(Collectors.collectingAndThen(Collectors.toList(), ImmutableList::copyOf));
     }
 
     /**
@@ -1274,6 +1351,7 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
      */
     @Override
     @Transactional(isolation = Isolation.READ_COMMITTED)
+    @CacheEvict(cacheNames = {CatalogCaches.COMMANDS, CatalogCaches.COMMAND_APPLICATIONS}, allEntries = true)
     public int updateStatusForUnusedCommands(
         final CommandStatus desiredStatus,
         final Instant commandCreatedThreshold,
@@ -1288,8 +1366,11 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
             commandCreatedThreshold,
             desiredStatus
         );
+        // Bulk updates bypass entity callbacks so the updated timestamp is set explicitly here in order for
+        // conditional requests and the catalog version to pick up the change
         final int updateCount = this.commandRepository.setStatusWhereIdIn(
             desiredStatus.name(),
+            Instant.now(),
             this.commandRepository.findUnusedCommandsByStatusesCreatedBefore(
                 currentStatuses.stream().map(Enum::name).collect(Collectors.toSet()),
                 commandCreatedThreshold,
@@ -1561,6 +1642,207 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
         return numJobsDeleted;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getJobsCreatedBefore(
+        @NotNull final Instant creationThreshold,
+        @NotNull final Set<JobStatus> excludeStatuses,
+        @Min(1) final int batchSize
+    ) {
+        log.debug(
+            "[getJobsCreatedBefore] Called to find at most {} jobs created before {} not in {}",
+            batchSize,
+            creationThreshold,
+            excludeStatuses
+        );
+        return this.jobRepository.findJobUniqueIdsCreatedBefore(
+            creationThreshold,
+            excludeStatuses.stream().map(Enum::name).collect(Collectors.toSet()),
+            batchSize
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ColdStoredJob> getJobsForColdStorage(@NotNull final Set<String> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final List<JobEntity> jobEntities = this.jobRepository.getJobsWithRequests(ids);
+        log.debug("[getJobsForColdStorage] Found {} of {} requested jobs", jobEntities.size(), ids.size());
+        return jobEntities
+            .stream()
+            .map(
+                jobEntity -> new ColdStoredJob(
+                    EntityV3DtoConverters.toJobDto(jobEntity),
+                    DtoConverters.toV3JobRequest(EntityV4DtoConverters.toV4JobRequestDto(jobEntity)),
+                    EntityV3DtoConverters.toJobExecutionDto(jobEntity),
+                    EntityV3DtoConverters.toJobMetadataDto(jobEntity),
+                    jobEntity
+                        .getArchiveStatus()
+                        .map(ArchiveStatus::valueOf)
+                        .orElse(ArchiveStatus.UNKNOWN)
+                )
+            )
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long deleteJobs(@NotNull final Set<String> ids) {
+        if (ids.isEmpty()) {
+            return 0L;
+        }
+        final long numJobsDeleted = this.jobRepository.deleteByUniqueIdIn(ids);
+        log.info("[deleteJobs] Deleted {} of {} requested jobs", numJobsDeleted, ids.size());
+        return numJobsDeleted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public long deleteJobStatusHistoryCreatedBefore(
+        @NotNull final Instant creationThreshold,
+        @Min(1) final int batchSize
+    ) {
+        log.info(
+            "[deleteJobStatusHistoryCreatedBefore] Attempting to delete at most {} status history records created "
+                + "before {}",
+            batchSize,
+            creationThreshold
+        );
+        final long numDeleted = this.jobStatusHistoryRepository.deleteByIdIn(
+            this.jobStatusHistoryRepository.findIdsCreatedBefore(creationThreshold, batchSize)
+        );
+        log.info(
+            "[deleteJobStatusHistoryCreatedBefore] Deleted {} status history records created before {}",
+            numDeleted,
+            creationThreshold
+        );
+        return numDeleted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int createJobPartitions(@NotNull final Instant coverUntil, @NotNull final Duration partitionWidth) {
+        // Partitions are managed with a dedicated entity manager as DDL must not run within a JPA transaction
+        try (EntityManager partitionsEntityManager = this.createPartitionsEntityManager()) {
+            final Optional<JobsPartitionUtils.Dialect> dialectOptional
+                = this.getJobsPartitionDialect(partitionsEntityManager);
+            if (!dialectOptional.isPresent()) {
+                log.warn("[createJobPartitions] Database doesn't support partitioned job storage. Skipping");
+                return 0;
+            }
+            final JobsPartitionUtils.Dialect dialect = dialectOptional.get();
+            final List<Instant> upperBounds = this.getJobPartitionUpperBounds(partitionsEntityManager, dialect);
+            if (upperBounds.isEmpty()) {
+                log.warn("[createJobPartitions] The jobs table has no managed partitions. Skipping");
+                return 0;
+            }
+            final String catchAllPartitionName = dialect
+                .getFindCatchAllPartitionSql()
+                .flatMap(
+                    sql -> ((List<?>) partitionsEntityManager.createNativeQuery(sql).getResultList())
+                        .stream()
+                        .findFirst()
+                        .map(String::valueOf)
+                )
+                .orElse(null);
+
+            int numPartitionsCreated = 0;
+            Instant lowerBound = upperBounds.get(upperBounds.size() - 1);
+            while (lowerBound.isBefore(coverUntil)) {
+                final Instant upperBound = lowerBound.plus(partitionWidth);
+                log.info(
+                    "[createJobPartitions] Creating partition for jobs created in [{}, {})",
+                    lowerBound,
+                    upperBound
+                );
+                executeDdl(
+                    partitionsEntityManager,
+                    dialect.getCreatePartitionSql(lowerBound, upperBound, catchAllPartitionName)
+                );
+                numPartitionsCreated++;
+                lowerBound = upperBound;
+            }
+            return numPartitionsCreated;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int dropJobPartitionsBefore(
+        @NotNull final Instant creationThreshold,
+        @NotEmpty final Set<JobStatus> excludeStatuses,
+        @Min(1) final int batchSize
+    ) {
+        // Partitions are managed with a dedicated entity manager as DDL must not run within a JPA transaction
+        try (EntityManager partitionsEntityManager = this.createPartitionsEntityManager()) {
+            final Optional<JobsPartitionUtils.Dialect> dialectOptional
+                = this.getJobsPartitionDialect(partitionsEntityManager);
+            if (!dialectOptional.isPresent()) {
+                log.warn("[dropJobPartitionsBefore] Database doesn't support partitioned job storage. Skipping");
+                return 0;
+            }
+            final JobsPartitionUtils.Dialect dialect = dialectOptional.get();
+            final Set<String> excludeStatusStrings = excludeStatuses
+                .stream()
+                .map(Enum::name)
+                .collect(Collectors.toSet());
+
+            int numPartitionsDropped = 0;
+            Instant lowerBound = Instant.EPOCH;
+            for (final Instant upperBound : this.getJobPartitionUpperBounds(partitionsEntityManager, dialect)) {
+                if (upperBound.isAfter(creationThreshold)) {
+                    break;
+                }
+                if (
+                    this.jobRepository.existsJobsCreatedBetweenWithStatusIn(
+                        lowerBound,
+                        upperBound,
+                        excludeStatusStrings
+                    )
+                ) {
+                    log.info(
+                        "[dropJobPartitionsBefore] Partition for jobs created before {} still has jobs in one of {}. "
+                            + "Stopping",
+                        upperBound,
+                        excludeStatuses
+                    );
+                    break;
+                }
+                final String partitionName = JobsPartitionUtils.getPartitionName(upperBound);
+                log.info("[dropJobPartitionsBefore] Dropping partition {}", partitionName);
+                executeDdl(partitionsEntityManager, dialect.getDropPartitionSql(partitionName));
+                numPartitionsDropped++;
+                lowerBound = upperBound;
+            }
+
+            // The child tables can't reference a partitioned table so their rows are only deleted once the jobs are
+            // gone. Nothing is touched if a drop fails and rows left by an interrupted run are picked up by the next.
+            final long numOrphanedRows = deleteOrphanedJobChildRows(partitionsEntityManager, batchSize);
+            if (numOrphanedRows > 0) {
+                log.info("[dropJobPartitionsBefore] Deleted {} collection rows of dropped jobs", numOrphanedRows);
+            }
+            return numPartitionsDropped;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1576,7 +1858,7 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
         final JobRequestMetadata jobRequestMetadata = jobSubmission.getJobRequestMetadata();
 
         // Create the unique id if one doesn't already exist
-        this.setUniqueId(jobEntity, jobRequest.getRequestedId().orElse(null));
+        this.setUniqueId(jobEntity, jobRequest.getRequestedId().orElse(null), this.jobIdGenerator);
 
         jobEntity.setCommandArgs(jobRequest.getCommandArgs());
 
@@ -1598,6 +1880,8 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
                 : ArchiveStatus.PENDING.name()
         );
 
+        this.recordJobStatusChange(jobEntity, null, JobStatus.RESERVED, null);
+
         // Persist. Catch exception if the ID is reused
         try {
             final String id = this.jobRepository.save(jobEntity).getUniqueId();
@@ -1674,6 +1958,10 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
             entity.setJobDirectoryLocation(jobSpecification.getJobDirectoryLocation().getAbsolutePath());
             jobSpecification.getArchiveLocation().ifPresent(entity::setArchiveLocation);
             jobSpecification.getTimeout().ifPresent(entity::setTimeoutUsed);
+            // The specification can't change once the job is resolved so save it whole for agents to fetch cheaply
+            entity.setJobSpecificationSnapshot(
+                JOB_SPECIFICATION_CONVERTER.toJobSpecificationProto(jobSpecification).toByteArray()
+            );
 
             final JobEnvironment jobEnvironment = resolvedJob.getJobEnvironment();
             this.updateComputeResources(
@@ -1690,6 +1978,12 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
             );
 
             entity.setResolved(true);
+            this.recordJobStatusChange(
+                entity,
+                DtoConverters.toV4JobStatus(entity.getStatus()),
+                JobStatus.RESOLVED,
+                null
+            );
             entity.setStatus(JobStatus.RESOLVED.name());
             log.debug("[saveResolvedJob] Saved resolved information {} for job with id {}", resolvedJob, id);
         } catch (final NotFoundException e) {
@@ -1708,8 +2002,27 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
      * {@inheritDoc}
      */
     @Override
+    @Cacheable(cacheNames = JOB_SPECIFICATIONS_CACHE, unless = "#result == null")
     public Optional<JobSpecification> getJobSpecification(@NotBlank final String id) throws NotFoundException {
         log.debug("[getJobSpecification] Requested to get job specification for job {}", id);
+        final Optional<byte[]> snapshot = this.jobRepository.getJobSpecificationSnapshot(id);
+        if (snapshot.isPresent()) {
+            try {
+                return Optional.of(
+                    JOB_SPECIFICATION_CONVERTER.toJobSpecificationDto(
+                        com.netflix.genie.proto.JobSpecification.parseFrom(snapshot.get())
+                    )
+                );
+            } catch (final InvalidProtocolBufferException e) {
+                log.warn(
+                    "[getJobSpecification] Unreadable job specification snapshot for job {}. Rebuilding it",
+                    id,
+                    e
+                );
+            }
+        }
+
+        // Jobs resolved before snapshots were saved, unresolved or non-existent jobs
         final JobSpecificationProjection projection = this.jobRepository
             .getJobSpecification(id)
             .orElseThrow(
@@ -1732,40 +2045,35 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
         @Valid final AgentClientMetadata agentClientMetadata
     ) throws NotFoundException, GenieJobAlreadyClaimedException, GenieInvalidStatusException {
         log.debug("[claimJob] Agent with metadata {} requesting to claim job with id {}", agentClientMetadata, id);
-        final JobEntity jobEntity = this.getJobEntity(id);
 
-        if (jobEntity.isClaimed()) {
-            throw new GenieJobAlreadyClaimedException("Job with id " + id + " is already claimed. Unable to claim.");
-        }
-
-        final JobStatus currentStatus = DtoConverters.toV4JobStatus(jobEntity.getStatus());
-        // The job must be in one of the claimable states in order to be claimed
-        // TODO: Perhaps could use jobEntity.isResolved here also but wouldn't check the case that the job was in a
-        //       terminal state like killed or invalid in which case we shouldn't claim it anyway as the agent would
-        //       continue running
-        if (!currentStatus.isClaimable()) {
-            throw new GenieInvalidStatusException(
-                "Job "
-                    + id
-                    + " is in status "
-                    + currentStatus
-                    + " and can't be claimed. Needs to be one of "
-                    + JobStatus.getClaimableStatuses()
+        // Each attempt only succeeds if the job is unclaimed and in that status so the status it was claimed from is
+        // known without reading the job first
+        final Instant now = Instant.now();
+        for (final JobStatus claimableStatus : JobStatus.getClaimableStatuses()) {
+            final int claimed = this.jobRepository.compareAndSetClaimed(
+                id,
+                claimableStatus.name(),
+                JobStatus.CLAIMED.name(),
+                agentClientMetadata.getHostname().orElse(null),
+                agentClientMetadata.getVersion().orElse(null),
+                agentClientMetadata.getPid().orElse(null),
+                now
             );
+            if (claimed > 0) {
+                // TODO: It might be nice to set the status message as well to something like "Job claimed by XYZ..."
+                //       we could do this in other places too like after reservation, resolving, etc
+                this.recordJobStatusTransition(id, claimableStatus, JobStatus.CLAIMED, null, now);
+                log.debug("[claimJob] Claimed job {} for agent with metadata {}", id, agentClientMetadata);
+                return;
+            }
         }
 
-        // Good to claim
-        jobEntity.setClaimed(true);
-        jobEntity.setStatus(JobStatus.CLAIMED.name());
-        // TODO: It might be nice to set the status message as well to something like "Job claimed by XYZ..."
-        //       we could do this in other places too like after reservation, resolving, etc
-
-        // TODO: Should these be required? We're reusing the DTO here but perhaps the expectation at this point
-        //       is that the agent will always send back certain metadata
-        agentClientMetadata.getHostname().ifPresent(jobEntity::setAgentHostname);
-        agentClientMetadata.getVersion().ifPresent(jobEntity::setAgentVersion);
-        agentClientMetadata.getPid().ifPresent(jobEntity::setAgentPid);
-        log.debug("[claimJob] Claimed job {} for agent with metadata {}", id, agentClientMetadata);
+        // Nothing was claimed. Read the job to report why.
+        final JobStatusTransitionAggregate job = this.getJobStatusTransition(id);
+        final JobStatus currentStatus = this.checkClaimable(id, job);
+        throw new GenieInvalidStatusException(
+            "Status of job " + id + " changed to " + currentStatus + " while claiming it. Unable to claim."
+        );
     }
 
     /**
@@ -1794,10 +2102,21 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
             return newStatus;
         }
 
-        final JobEntity jobEntity = this.getJobEntity(id);
+        // TODO: Should we prevent updating status for statuses already covered by "reserveJobId" and
+        //      "saveResolvedJob"?
 
-        final JobStatus actualCurrentStatus = DtoConverters.toV4JobStatus(jobEntity.getStatus());
-        if (actualCurrentStatus != currentStatus) {
+        // Only change the status if the job isn't already in a terminal state
+        if (!currentStatus.isActive()) {
+            log.warn(
+                "[updateJobStatus] Job status for {} is expected to be terminal state {}. Skipping update.",
+                id,
+                currentStatus
+            );
+            return this.getActualJobStatus(id);
+        }
+
+        if (!this.compareAndSetJobStatus(id, currentStatus, newStatus, newStatusMessage)) {
+            final JobStatus actualCurrentStatus = this.getActualJobStatus(id);
             log.warn(
                 "[updateJobStatus] Job {} actual status {} differs from expected status {}. Skipping update.",
                 id,
@@ -1807,40 +2126,55 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
             return actualCurrentStatus;
         }
 
-        // TODO: Should we prevent updating status for statuses already covered by "reserveJobId" and
-        //      "saveResolvedJob"?
-
-        // Only change the status if the entity isn't already in a terminal state
-        if (actualCurrentStatus.isActive()) {
-            jobEntity.setStatus(newStatus.name());
-            jobEntity.setStatusMsg(StringUtils.truncate(newStatusMessage, MAX_STATUS_MESSAGE_LENGTH));
-
-            if (newStatus.equals(JobStatus.RUNNING)) {
-                // Status being changed to running so set start date.
-                jobEntity.setStarted(Instant.now());
-            } else if (jobEntity.getStarted().isPresent() && newStatus.isFinished()) {
-                // Since start date is set the job was running previously and now has finished
-                // with status killed, failed or succeeded. So we set the job finish time.
-                jobEntity.setFinished(Instant.now());
-            }
+        return newStatus;
+    }
 
-            log.debug(
-                "[updateJobStatus] Changed the status of job {} from {} to {} with message {}",
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean updateJobStatusWithStageTimings(
+        @NotBlank final String id,
+        @NotNull final JobStatus currentStatus,
+        @NotNull final JobStatus newStatus,
+        @Nullable final String newStatusMessage,
+        @NotNull final List<JobStageTiming> stageTimings
+    ) throws NotFoundException {
+        log.debug(
+            "[updateJobStatusWithStageTimings] Requested to change the status of job {} from {} to {} with message {}",
+            id,
+            currentStatus,
+            newStatus,
+            newStatusMessage
+        );
+        if (currentStatus == newStatus || !currentStatus.isActive()) {
+            log.warn(
+                "[updateJobStatusWithStageTimings] Job {} can't change from status {} to {}. Skipping update.",
                 id,
                 currentStatus,
-                newStatus,
-                newStatusMessage
+                newStatus
             );
+            // Still fail for jobs which don't exist like updateJobStatus does
+            this.getActualJobStatus(id);
+            return false;
+        }
 
-            return newStatus;
-        } else {
+        if (!this.compareAndSetJobStatus(id, currentStatus, newStatus, newStatusMessage)) {
             log.warn(
-                "[updateJobStatus] Job status for {} is already terminal state {}. Skipping update.",
+                "[updateJobStatusWithStageTimings] Job {} actual status {} differs from expected status {}. "
+                    + "Skipping update and stage timings.",
                 id,
-                actualCurrentStatus
+                this.getActualJobStatus(id),
+                currentStatus
             );
-            return actualCurrentStatus;
+            return false;
+        }
+
+        // Only the call which made the transition saves the timings so retried or raced updates aren't double counted
+        if (!stageTimings.isEmpty()) {
+            this.addJobStageTimings(id, stageTimings);
         }
+        return true;
     }
 
     /**
@@ -1857,10 +2191,9 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
             archiveStatus
         );
 
-        this.jobRepository
-            .findByUniqueId(id)
-            .orElseThrow(() -> new NotFoundException("No job exists for the id specified"))
-            .setArchiveStatus(archiveStatus.name());
+        if (this.jobRepository.setArchiveStatus(id, archiveStatus.name(), Instant.now()) == 0) {
+            throw new NotFoundException("No job exists for the id specified");
+        }
 
         log.debug(
             "[updateJobArchiveStatus] Changed the archive status of job {} to {}",
@@ -1869,6 +2202,60 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateJobResourceUsage(
+        @NotBlank final String id,
+        @NotNull final JobResourceUsage resourceUsage
+    ) throws NotFoundException {
+        log.debug("[updateJobResourceUsage] Requested to add resource usage {} to job {}", resourceUsage, id);
+        // Merged by the database so saving usage doesn't load the whole job
+        final int updated = this.jobRepository.addResourceUsage(
+            id,
+            resourceUsage.getSampleCount(),
+            resourceUsage.getPeakRssBytes(),
+            resourceUsage.getAverageRssBytes(),
+            resourceUsage.getCpuTimeMillis(),
+            resourceUsage.getIoReadBytes(),
+            resourceUsage.getIoWriteBytes(),
+            resourceUsage.getPeakThreadCount(),
+            Instant.now()
+        );
+        if (updated == 0) {
+            throw new NotFoundException("No job exists for the id specified");
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addJobStageTimings(
+        @NotBlank final String id,
+        @NotNull final List<JobStageTiming> stageTimings
+    ) throws NotFoundException {
+        log.debug("[addJobStageTimings] Requested to add stage timings {} to job {}", stageTimings, id);
+        final JobEntity jobEntity = this.jobRepository
+            .findByUniqueId(id)
+            .orElseThrow(() -> new NotFoundException("No job exists for the id specified"));
+        final ArrayNode timings = jobEntity
+            .getStageTimings()
+            .filter(JsonNode::isArray)
+            .map(savedTimings -> ((ArrayNode) savedTimings).deepCopy())
+            .orElseGet(() -> GenieObjectMapper.getMapper().createArrayNode());
+        for (final JobStageTiming stageTiming : stageTimings) {
+            timings
+                .addObject()
+                .put(STAGE_TIMING_STAGE_FIELD, stageTiming.getStage())
+                .put(STAGE_TIMING_DURATION_FIELD, stageTiming.getDuration().toMillis())
+                .put(STAGE_TIMING_ATTEMPTS_FIELD, stageTiming.getAttempts())
+                .put(STAGE_TIMING_RETRY_DELAY_FIELD, stageTiming.getRetryDelay().toMillis());
+        }
+        jobEntity.setStageTimings(timings);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2033,6 +2420,36 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
         return this.jobRepository.getJobIdsWithStatusIn(ACTIVE_STATUS_SET);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<UserHostJobResourcesAggregate> getActiveUserHostJobResources() {
+        log.debug("[getActiveUserHostJobResources] Called");
+        return this.jobRepository.getUserHostJobResourcesAggregates(ALLOCATED_STATUS_SET);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<JobResourcesAggregate> getActiveJobResourcesOnHost(@NotBlank final String hostname) {
+        log.debug("[getActiveJobResourcesOnHost] Called for hostname {}", hostname);
+        return this.jobRepository.getJobResourcesOnHostWithStatusIn(hostname, ACTIVE_STATUS_SET);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Set<ClusterJobResourcesAggregate> getActiveClusterJobResources() {
+        log.debug("[getActiveClusterJobResources] Called");
+        return this.jobRepository.getClusterJobResourcesAggregates(ACTIVE_STATUS_SET);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2042,6 +2459,84 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
         return this.jobRepository.getJobIdsWithStatusIn(UNCLAIMED_STATUS_SET);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean queueJob(@NotBlank final String id, @NotBlank final String owner) {
+        log.debug("[queueJob] Called to queue job {} in {}", id, owner);
+        return this.jobRepository.setQueued(
+            id,
+            JobStatus.RESERVED.name(),
+            owner,
+            JobStatusMessages.JOB_QUEUED,
+            Instant.now()
+        ) > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int renewQueuedJobs(@NotBlank final String owner) {
+        log.debug("[renewQueuedJobs] Called for {}", owner);
+        return this.jobRepository.renewQueued(owner, JobStatus.RESERVED.name(), Instant.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> getQueuedJobsNotRenewedSince(@NotNull final Instant renewedBefore, @Min(1) final int limit) {
+        log.debug(
+            "[getQueuedJobsNotRenewedSince] Called to find at most {} jobs not renewed since {}",
+            limit,
+            renewedBefore
+        );
+        return this.jobRepository.findQueuedJobUniqueIdsNotRenewedSince(
+            JobStatus.RESERVED.name(),
+            renewedBefore,
+            limit
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean adoptQueuedJob(
+        @NotBlank final String id,
+        @NotBlank final String owner,
+        @NotNull final Instant renewedBefore
+    ) {
+        log.debug("[adoptQueuedJob] Called for job {} by {}", id, owner);
+        return this.jobRepository.adoptQueued(
+            id,
+            JobStatus.RESERVED.name(),
+            owner,
+            renewedBefore,
+            Instant.now()
+        ) > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean dequeueJob(@NotBlank final String id, @NotBlank final String owner) {
+        log.debug("[dequeueJob] Called for job {} in {}", id, owner);
+        return this.jobRepository.removeQueued(id, JobStatus.RESERVED.name(), owner) > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> getQueuedJobs() {
+        log.debug("[getQueuedJobs] Called");
+        return this.jobRepository.getQueuedJobIds(JobStatus.RESERVED.name());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -2324,6 +2819,26 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
     ) throws NotFoundException {
         this.getResourceTagEntities(id, resourceClass).removeIf(entity -> tag.equals(entity.getTag()));
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public String getCatalogVersion() {
+        return Stream
+            .of(
+                this.applicationRepository.getTableAggregate(),
+                this.clusterRepository.getTableAggregate(),
+                this.commandRepository.getTableAggregate()
+            )
+            .map(
+                aggregate -> aggregate.getNumberOfEntities()
+                    + ":" + aggregate.getVersionSum()
+                    + ":" + Optional.ofNullable(aggregate.getLastUpdated()).map(Instant::toEpochMilli).orElse(0L)
+            )
+            .collect(Collectors.joining("/"));
+    }
     //endregion
 
     //region Tag APIs
@@ -2381,6 +2896,88 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
     //endregion
 
     //region Helper Methods
+    private EntityManager createPartitionsEntityManager() {
+        return this.entityManager.getEntityManagerFactory().createEntityManager();
+    }
+
+    private Optional<JobsPartitionUtils.Dialect> getJobsPartitionDialect(final EntityManager partitionsEntityManager) {
+        final String databaseProductName = partitionsEntityManager
+            .unwrap(Session.class)
+            .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+        return JobsPartitionUtils.Dialect.fromDatabaseProductName(databaseProductName);
+    }
+
+    private List<Instant> getJobPartitionUpperBounds(
+        final EntityManager partitionsEntityManager,
+        final JobsPartitionUtils.Dialect dialect
+    ) {
+        final List<?> partitionNames = partitionsEntityManager
+            .createNativeQuery(dialect.getListPartitionsSql())
+            .getResultList();
+        return partitionNames
+            .stream()
+            .map(String::valueOf)
+            .map(JobsPartitionUtils::getPartitionUpperBound)
+            .flatMap(Optional::stream)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    private static long deleteOrphanedJobChildRows(
+        final EntityManager partitionsEntityManager,
+        final int batchSize
+    ) {
+        final EntityTransaction transaction = partitionsEntityManager.getTransaction();
+        long numRows = 0L;
+        for (final String childTable : JobsPartitionUtils.JOB_CHILD_TABLES) {
+            long afterId = 0L;
+            List<Long> ids;
+            do {
+                transaction.begin();
+                try {
+                    ids = ((List<?>) partitionsEntityManager
+                        .createNativeQuery(JobsPartitionUtils.getFindOrphanedJobIdsSql(childTable))
+                        .setParameter("afterId", afterId)
+                        .setParameter("batchSize", batchSize)
+                        .getResultList())
+                        .stream()
+                        .map(id -> ((Number) id).longValue())
+                        .collect(Collectors.toList());
+                    if (!ids.isEmpty()) {
+                        numRows += partitionsEntityManager
+                            .createNativeQuery(JobsPartitionUtils.getDeleteChildRowsSql(childTable))
+                            .setParameter("ids", ids)
+                            .executeUpdate();
+                        afterId = ids.get(ids.size() - 1);
+                    }
+                    transaction.commit();
+                } catch (final RuntimeException e) {
+                    if (transaction.isActive()) {
+                        transaction.rollback();
+                    }
+                    throw e;
+                }
+            } while (ids.size() == batchSize);
+        }
+        return numRows;
+    }
+
+    // The DDL is built from partition names and bounds the service derives itself, never from user input
+    @SuppressFBWarnings("SQL_NONCONSTANT_STRING_PASSED_TO_EXECUTE")
+    private static void executeDdl(final EntityManager partitionsEntityManager, final String sql) {
+        partitionsEntityManager.unwrap(Session.class).doWork(
+            connection -> {
+                final boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(sql);
+                } finally {
+                    connection.setAutoCommit(autoCommit);
+                }
+            }
+        );
+    }
+
     private ApplicationEntity getApplicationEntity(final String id) throws NotFoundException {
         return this.applicationRepository
             .findByUniqueId(id)
@@ -2399,6 +2996,53 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
             .orElseThrow(() -> new NotFoundException("No command with id " + id + " exists"));
     }
 
+    private boolean compareAndSetJobStatus(
+        final String id,
+        final JobStatus currentStatus,
+        final JobStatus newStatus,
+        @Nullable final String newStatusMessage
+    ) {
+        // The status condition makes this a compare and set so concurrent transitions can't overwrite each other.
+        // The start time is set when the job starts running and the finish time when a job which ran finishes.
+        final Instant now = Instant.now();
+        final int updated = this.jobRepository.compareAndSetStatus(
+            id,
+            currentStatus.name(),
+            newStatus.name(),
+            StringUtils.truncate(newStatusMessage, MAX_STATUS_MESSAGE_LENGTH),
+            newStatus == JobStatus.RUNNING,
+            newStatus.isFinished(),
+            now
+        );
+        if (updated == 0) {
+            return false;
+        }
+        this.recordJobStatusTransition(id, currentStatus, newStatus, newStatusMessage, now);
+
+        log.debug(
+            "[compareAndSetJobStatus] Changed the status of job {} from {} to {} with message {}",
+            id,
+            currentStatus,
+            newStatus,
+            newStatusMessage
+        );
+        return true;
+    }
+
+    private JobStatus getActualJobStatus(final String id) throws NotFoundException {
+        return DtoConverters.toV4JobStatus(
+            this.jobRepository
+                .getJobStatus(id)
+                .orElseThrow(() -> new NotFoundException("No job with id " + id + " exists"))
+        );
+    }
+
+    private JobStatusTransitionAggregate getJobStatusTransition(final String id) throws NotFoundException {
+        return this.jobRepository
+            .getJobStatusTransition(id)
+            .orElseThrow(() -> new NotFoundException("No job with id " + id + " exists"));
+    }
+
     private JobEntity getJobEntity(final String id) throws NotFoundException {
         return this.jobRepository
             .findByUniqueId(id)
@@ -2499,12 +3143,16 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
         }
     }
 
-    private <E extends UniqueIdEntity> void setUniqueId(final E entity, @Nullable final String requestedId) {
+    private <E extends UniqueIdEntity> void setUniqueId(
+        final E entity,
+        @Nullable final String requestedId,
+        final IdGenerator idGenerator
+    ) {
         if (requestedId != null) {
             entity.setUniqueId(requestedId);
             entity.setRequestedId(true);
         } else {
-            entity.setUniqueId(UUID.randomUUID().toString());
+            entity.setUniqueId(idGenerator.generateId());
             entity.setRequestedId(false);
         }
     }
@@ -2647,6 +3295,123 @@ public class JpaPersistenceServiceImpl implements PersistenceService {
         );
     }
 
+    /*
+     * Must be called before the new status is set on the entity. Appends the transition to the status history in the
+     * current transaction and stamps the entity with when its status changed. How long the job spent in the status it
+     * is leaving is kept on the entity so the entity listener can publish it once the change is flushed. That is only
+     * attributable when the status being left is the one last notified, i.e. this is the first change since load.
+     */
+    private void recordJobStatusChange(
+        final JobEntity jobEntity,
+        @Nullable final JobStatus previousStatus,
+        final JobStatus newStatus,
+        @Nullable final String newStatusMessage
+    ) {
+        final Instant now = Instant.now();
+        final Instant previousStatusStart = jobEntity.getStatusUpdated().orElse(jobEntity.getCreated());
+        if (
+            previousStatus != null
+                && previousStatusStart != null
+                && jobEntity.getNotifiedJobStatus().filter(previousStatus.name()::equals).isPresent()
+        ) {
+            jobEntity.setTimeInNotifiedJobStatus(Duration.between(previousStatusStart, now));
+        } else {
+            jobEntity.setTimeInNotifiedJobStatus(null);
+        }
+        jobEntity.setStatusUpdated(now);
+        this.jobStatusHistoryRepository.save(
+            new JobStatusHistoryEntity(
+                now,
+                jobEntity.getUniqueId(),
+                previousStatus == null ? null : previousStatus.name(),
+                newStatus.name(),
+                StringUtils.truncate(newStatusMessage, MAX_STATUS_MESSAGE_LENGTH)
+            )
+        );
+    }
+
+    private JobStatus checkClaimable(
+        final String id,
+        final JobStatusTransitionAggregate job
+    ) throws GenieJobAlreadyClaimedException, GenieInvalidStatusException {
+        if (job.isClaimed()) {
+            throw new GenieJobAlreadyClaimedException("Job with id " + id + " is already claimed. Unable to claim.");
+        }
+
+        final JobStatus currentStatus = DtoConverters.toV4JobStatus(job.getStatus());
+        // The job must be in one of the claimable states in order to be claimed
+        // TODO: Perhaps could use jobEntity.isResolved here also but wouldn't check the case that the job was in a
+        //       terminal state like killed or invalid in which case we shouldn't claim it anyway as the agent would
+        //       continue running
+        if (!currentStatus.isClaimable()) {
+            throw new GenieInvalidStatusException(
+                "Job "
+                    + id
+                    + " is in status "
+                    + currentStatus
+                    + " and can't be claimed. Needs to be one of "
+                    + JobStatus.getClaimableStatuses()
+            );
+        }
+        return currentStatus;
+    }
+
+    /*
+     * Counterpart of recordJobStatusChange for status changes made with a single update statement. No entity is
+     * loaded so the entity listener never sees these changes. The history is appended and the observer notified here
+     * instead, with the same transition the listener would have published had the entity been flushed. The job is
+     * only read once the change succeeded and only if there is an observer to publish it to.
+     */
+    private void recordJobStatusTransition(
+        final String id,
+        final JobStatus previousStatus,
+        final JobStatus newStatus,
+        @Nullable final String newStatusMessage,
+        final Instant now
+    ) {
+        // Read before the history is appended so the latest change recorded is the one into the previous status
+        final JobStatusTransitionAggregate job = this.persistedJobStatusObserver == null
+            ? null
+            : this.jobRepository.getJobStatusTransition(id).orElse(null);
+
+        this.jobStatusHistoryRepository.save(
+            new JobStatusHistoryEntity(
+                now,
+                id,
+                previousStatus.name(),
+                newStatus.name(),
+                StringUtils.truncate(newStatusMessage, MAX_STATUS_MESSAGE_LENGTH)
+            )
+        );
+
+        if (job == null) {
+            return;
+        }
+        final Instant previousStatusStart = job.getLatestStatusChange() != null
+            ? job.getLatestStatusChange()
+            : job.getCreated();
+        final JsonNode launcherExt = job.getLauncherExt();
+        final JsonNode launcherClass = launcherExt == null
+            ? null
+            : launcherExt.get(AgentLauncher.LAUNCHER_CLASS_EXT_FIELD);
+        this.persistedJobStatusObserver.notify(
+            new JobStatusTransition(
+                id,
+                previousStatus,
+                newStatus,
+                previousStatusStart == null ? null : Duration.between(previousStatusStart, now),
+                launcherClass != null && launcherClass.isTextual() ? launcherClass.asText() : null,
+                new JobResources(
+                    job.getUser(),
+                    job.isApi(),
+                    job.getAgentHostname(),
+                    job.getMemoryUsed() == null ? 0L : job.getMemoryUsed(),
+                    job.getCpuUsed() == null ? 0L : job.getCpuUsed()
+                )
+            )
+        );
+    }
+
     private void setJobMetadataFields(
         final JobEntity jobEntity,
         final JobMetadata jobMetadata,
@@ -17,6 +17,7 @@
  */
 package com.netflix.genie.web.data.services.impl.jpa.entities;
 
+import com.netflix.genie.web.data.services.impl.jpa.listeners.CatalogEntityListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -25,6 +26,7 @@ import jakarta.annotation.Nullable;
 import jakarta.persistence.Basic;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
@@ -52,6 +54,11 @@ import java.util.Set;
     doNotUseGetters = true
 )
 @Entity
+@EntityListeners(
+    {
+        CatalogEntityListener.class
+    }
+)
 @Table(name = "applications")
 @NamedEntityGraphs(
     {
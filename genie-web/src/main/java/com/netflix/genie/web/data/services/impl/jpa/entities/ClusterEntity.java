@@ -17,12 +17,14 @@
  */
 package com.netflix.genie.web.data.services.impl.jpa.entities;
 
+import com.netflix.genie.web.data.services.impl.jpa.listeners.CatalogEntityListener;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 import jakarta.annotation.Nullable;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
@@ -48,6 +50,11 @@ import java.util.Set;
     doNotUseGetters = true
 )
 @Entity
+@EntityListeners(
+    {
+        CatalogEntityListener.class
+    }
+)
 @Table(name = "clusters")
 @NamedEntityGraphs(
     {
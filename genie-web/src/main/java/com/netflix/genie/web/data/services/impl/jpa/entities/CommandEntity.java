@@ -20,6 +20,7 @@ package com.netflix.genie.web.data.services.impl.jpa.entities;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.netflix.genie.web.data.services.impl.jpa.converters.IntegerToLongConverter;
 import com.netflix.genie.web.data.services.impl.jpa.converters.JsonAttributeConverter;
+import com.netflix.genie.web.data.services.impl.jpa.listeners.CatalogEntityListener;
 import com.netflix.genie.web.exceptions.checked.PreconditionFailedException;
 import lombok.Getter;
 import lombok.Setter;
@@ -33,6 +34,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
@@ -68,6 +70,11 @@ import java.util.Set;
     doNotUseGetters = true
 )
 @Entity
+@EntityListeners(
+    {
+        CatalogEntityListener.class
+    }
+)
 @Table(name = "commands")
 @NamedEntityGraphs(
     {
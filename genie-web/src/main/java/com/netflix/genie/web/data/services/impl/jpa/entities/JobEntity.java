@@ -35,6 +35,7 @@ import com.netflix.genie.web.data.services.impl.jpa.queries.projections.StatusPr
 import com.netflix.genie.web.data.services.impl.jpa.queries.projections.v4.FinishedJobProjection;
 import com.netflix.genie.web.data.services.impl.jpa.queries.projections.v4.JobRequestProjection;
 import com.netflix.genie.web.data.services.impl.jpa.queries.projections.v4.JobSpecificationProjection;
+import com.netflix.genie.web.dtos.JobResourceUsage;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -68,6 +69,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -485,6 +487,66 @@ public class JobEntity extends BaseEntity implements
     @Column(name = "finished")
     private Instant finished;
 
+    @Basic
+    @Column(name = "status_updated")
+    private Instant statusUpdated;
+
+    // Only ever changed by bulk updates as the lease on a queued job changes independently of the rest of the job
+    @Basic
+    @Column(name = "admission_owner")
+    @Size(max = 255, message = "An admission owner can be no longer than 255 characters")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String admissionOwner;
+
+    @Basic
+    @Column(name = "admission_heartbeat")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Instant admissionHeartbeat;
+
+    @Basic
+    @Column(name = "rss_sample_count")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Long rssSampleCount;
+
+    @Basic
+    @Column(name = "peak_rss_bytes")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Long peakRssBytes;
+
+    @Basic
+    @Column(name = "average_rss_bytes")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Long averageRssBytes;
+
+    @Basic
+    @Column(name = "cpu_time_millis")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Long cpuTimeMillis;
+
+    @Basic
+    @Column(name = "io_read_bytes")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Long ioReadBytes;
+
+    @Basic
+    @Column(name = "io_write_bytes")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Long ioWriteBytes;
+
+    @Basic
+    @Column(name = "peak_thread_count")
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Integer peakThreadCount;
+
     @Basic
     @Column(name = "agent_hostname")
     @Size(max = 255, message = "An agent hostname can be no longer than 255 characters")
@@ -583,6 +645,19 @@ public class JobEntity extends BaseEntity implements
     @ToString.Exclude
     private JsonNode launcherExt;
 
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "stage_timings", columnDefinition = "TEXT DEFAULT NULL")
+    @Convert(converter = JsonAttributeConverter.class)
+    @ToString.Exclude
+    private JsonNode stageTimings;
+
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "job_specification_snapshot")
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private byte[] jobSpecificationSnapshot;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cluster_id")
     @ToString.Exclude
@@ -719,6 +794,10 @@ public class JobEntity extends BaseEntity implements
     @ToString.Exclude
     private String notifiedJobStatus;
 
+    @Transient
+    @ToString.Exclude
+    private Duration timeInNotifiedJobStatus;
+
     /**
      * Default Constructor.
      */
@@ -1148,6 +1227,35 @@ public class JobEntity extends BaseEntity implements
         this.launcherExt = launcherExt;
     }
 
+    /**
+     * Get the time the agent spent in each stage of executing this job, as reported by the agent so far.
+     *
+     * @return The timings or {@link Optional#empty()} if none were reported
+     */
+    public Optional<JsonNode> getStageTimings() {
+        return Optional.ofNullable(this.stageTimings);
+    }
+
+    /**
+     * Set the time the agent spent in each stage of executing this job.
+     *
+     * @param stageTimings The timings
+     */
+    public void setStageTimings(@Nullable final JsonNode stageTimings) {
+        this.stageTimings = stageTimings;
+    }
+
+    /**
+     * Set the serialized job specification saved when the job was resolved. It is only ever read back through
+     * {@link com.netflix.genie.web.data.services.impl.jpa.repositories.JpaJobRepository} so there is no getter.
+     *
+     * @param jobSpecificationSnapshot The serialized {@link com.netflix.genie.proto.JobSpecification} or
+     *                                 {@literal null} to clear it
+     */
+    public void setJobSpecificationSnapshot(@Nullable final byte[] jobSpecificationSnapshot) {
+        this.jobSpecificationSnapshot = jobSpecificationSnapshot == null ? null : jobSpecificationSnapshot.clone();
+    }
+
     /**
      * Set the command arguments to use with this job.
      *
@@ -1325,6 +1433,91 @@ public class JobEntity extends BaseEntity implements
         return Optional.ofNullable(this.notifiedJobStatus);
     }
 
+    /**
+     * Get how long the job spent in the previously notified job status before its current status was set, if it is
+     * known.
+     *
+     * @return The duration wrapped in an {@link Optional} or {@link Optional#empty()}
+     */
+    public Optional<Duration> getTimeInNotifiedJobStatus() {
+        return Optional.ofNullable(this.timeInNotifiedJobStatus);
+    }
+
+    /**
+     * Set how long the job spent in the previously notified job status.
+     *
+     * @param timeInNotifiedJobStatus The duration or {@literal null} if it isn't known
+     */
+    public void setTimeInNotifiedJobStatus(@Nullable final Duration timeInNotifiedJobStatus) {
+        this.timeInNotifiedJobStatus = timeInNotifiedJobStatus;
+    }
+
+    /**
+     * Get the last time the status of this job was changed.
+     *
+     * @return The time wrapped in an {@link Optional} or {@link Optional#empty()} if the job predates status change
+     * tracking
+     */
+    public Optional<Instant> getStatusUpdated() {
+        return Optional.ofNullable(this.statusUpdated);
+    }
+
+    /**
+     * Set the last time the status of this job was changed.
+     *
+     * @param statusUpdated The time the status was changed
+     */
+    public void setStatusUpdated(@Nullable final Instant statusUpdated) {
+        this.statusUpdated = statusUpdated;
+    }
+
+    /**
+     * Get the resource usage of the job process tree as reported by the agent so far.
+     *
+     * @return The usage wrapped in an {@link Optional} or {@link Optional#empty()} if none was reported
+     */
+    public Optional<JobResourceUsage> getResourceUsage() {
+        if (this.rssSampleCount == null) {
+            return Optional.empty();
+        }
+        return Optional.of(
+            new JobResourceUsage(
+                this.rssSampleCount,
+                this.peakRssBytes == null ? 0L : this.peakRssBytes,
+                this.averageRssBytes == null ? 0L : this.averageRssBytes,
+                this.cpuTimeMillis == null ? 0L : this.cpuTimeMillis,
+                this.ioReadBytes == null ? 0L : this.ioReadBytes,
+                this.ioWriteBytes == null ? 0L : this.ioWriteBytes,
+                this.peakThreadCount == null ? 0 : this.peakThreadCount
+            )
+        );
+    }
+
+    /**
+     * Set the resource usage of the job process tree.
+     *
+     * @param resourceUsage The usage or {@literal null} to clear it
+     */
+    public void setResourceUsage(@Nullable final JobResourceUsage resourceUsage) {
+        if (resourceUsage == null) {
+            this.rssSampleCount = null;
+            this.peakRssBytes = null;
+            this.averageRssBytes = null;
+            this.cpuTimeMillis = null;
+            this.ioReadBytes = null;
+            this.ioWriteBytes = null;
+            this.peakThreadCount = null;
+        } else {
+            this.rssSampleCount = resourceUsage.getSampleCount();
+            this.peakRssBytes = resourceUsage.getPeakRssBytes();
+            this.averageRssBytes = resourceUsage.getAverageRssBytes();
+            this.cpuTimeMillis = resourceUsage.getCpuTimeMillis();
+            this.ioReadBytes = resourceUsage.getIoReadBytes();
+            this.ioWriteBytes = resourceUsage.getIoWriteBytes();
+            this.peakThreadCount = resourceUsage.getPeakThreadCount();
+        }
+    }
+
     /**
      * Get any metadata the user provided with respect to the launcher.
      *
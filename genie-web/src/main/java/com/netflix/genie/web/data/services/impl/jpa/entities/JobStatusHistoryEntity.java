@@ -0,0 +1,124 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.entities;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import jakarta.annotation.Nullable;
+import jakarta.persistence.Basic;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * An append-only record of a single job status transition. The job is referenced by its unique id rather than a
+ * foreign key so that history rows can outlive (and be cleaned up independently of) the job record itself.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@ToString(
+    callSuper = true,
+    doNotUseGetters = true
+)
+@Entity
+@Table(name = "job_status_history")
+public class JobStatusHistoryEntity extends IdEntity {
+
+    private static final long serialVersionUID = -3170583265384853190L;
+
+    @Basic(optional = false)
+    @Column(name = "created", nullable = false, updatable = false)
+    @NotNull
+    private Instant created = Instant.now();
+
+    @Basic(optional = false)
+    @Column(name = "job_id", nullable = false, updatable = false)
+    @NotBlank(message = "A job id is required")
+    @Size(max = 255, message = "Max length in database is 255 characters")
+    private String jobId;
+
+    @Basic
+    @Column(name = "previous_status", length = 20, updatable = false)
+    @Size(max = 20, message = "Max length in database is 20 characters")
+    private String previousStatus;
+
+    @Basic(optional = false)
+    @Column(name = "status", nullable = false, length = 20, updatable = false)
+    @NotBlank(message = "A status is required")
+    @Size(max = 20, message = "Max length in database is 20 characters")
+    private String status;
+
+    @Basic
+    @Column(name = "status_msg", updatable = false)
+    @Size(max = 255, message = "Max length in database is 255 characters")
+    private String statusMsg;
+
+    /**
+     * Constructor.
+     *
+     * @param created        The time the transition happened
+     * @param jobId          The unique id of the job which changed status
+     * @param previousStatus The status the job was in before the transition if there was one
+     * @param status         The status the job transitioned to
+     * @param statusMsg      The status message which accompanied the transition if there was one
+     */
+    public JobStatusHistoryEntity(
+        final Instant created,
+        final String jobId,
+        @Nullable final String previousStatus,
+        final String status,
+        @Nullable final String statusMsg
+    ) {
+        super();
+        this.created = created;
+        this.jobId = jobId;
+        this.previousStatus = previousStatus;
+        this.status = status;
+        this.statusMsg = statusMsg;
+    }
+
+    /**
+     * Get the status the job was in before this transition.
+     *
+     * @return The previous status wrapped in an {@link Optional}
+     */
+    public Optional<String> getPreviousStatus() {
+        return Optional.ofNullable(this.previousStatus);
+    }
+
+    /**
+     * Get the status message which accompanied this transition.
+     *
+     * @return The status message wrapped in an {@link Optional}
+     */
+    public Optional<String> getStatusMsg() {
+        return Optional.ofNullable(this.statusMsg);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.instrumentation;
+
+import lombok.Getter;
+
+import jakarta.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Attributes the database work done on the current thread to the operations currently executing on it.
+ * <p>
+ * An operation, such as an API endpoint or a persistence service method, enters a {@link Scope} before doing its work
+ * and exits it afterwards. Work reported by the Hibernate hooks in this package is added to every scope entered on the
+ * thread at the time, so an endpoint is charged for all the statements of the persistence service methods it calls.
+ * Work done on a thread with no entered scope is not tracked.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public final class PersistenceStatistics {
+
+    private static final ThreadLocal<Deque<Scope>> ENTERED_SCOPES = new ThreadLocal<>();
+    private static final ThreadLocal<String> PREPARED_STATEMENT = new ThreadLocal<>();
+
+    private PersistenceStatistics() {
+    }
+
+    /**
+     * Start attributing the database work done on the current thread to the given scope until it is exited.
+     *
+     * @param scope The scope
+     * @return The scope for chaining
+     */
+    public static Scope enter(final Scope scope) {
+        Deque<Scope> scopes = ENTERED_SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            ENTERED_SCOPES.set(scopes);
+        }
+        scopes.push(scope);
+        return scope;
+    }
+
+    /**
+     * Stop attributing the database work done on the current thread to the given scope.
+     *
+     * @param scope The scope previously entered on this thread
+     */
+    public static void exit(final Scope scope) {
+        final Deque<Scope> scopes = ENTERED_SCOPES.get();
+        if (scopes == null) {
+            return;
+        }
+        scopes.removeFirstOccurrence(scope);
+        if (scopes.isEmpty()) {
+            ENTERED_SCOPES.remove();
+            PREPARED_STATEMENT.remove();
+        }
+    }
+
+    /**
+     * Whether any scope is currently entered on this thread.
+     *
+     * @return {@literal true} if work done on this thread is currently being attributed to some operation
+     */
+    public static boolean isScopeEntered() {
+        return ENTERED_SCOPES.get() != null;
+    }
+
+    static void statementPrepared(final String sql) {
+        if (ENTERED_SCOPES.get() != null) {
+            PREPARED_STATEMENT.set(sql);
+        }
+    }
+
+    static void statementExecuted(final long elapsedNanos) {
+        final Deque<Scope> scopes = ENTERED_SCOPES.get();
+        if (scopes != null) {
+            final String sql = PREPARED_STATEMENT.get();
+            for (final Scope scope : scopes) {
+                scope.addStatement(sql, elapsedNanos);
+            }
+        }
+    }
+
+    static void entityLoaded() {
+        final Deque<Scope> scopes = ENTERED_SCOPES.get();
+        if (scopes != null) {
+            for (final Scope scope : scopes) {
+                scope.addEntityLoaded();
+            }
+        }
+    }
+
+    /**
+     * The database work attributed to a single operation.
+     * <p>
+     * A scope may be entered and exited several times, possibly from different threads, as long as it is never entered
+     * on two threads concurrently. This is what happens to the callbacks of a single gRPC call for example.
+     *
+     * @author tgianos
+     * @since 4.4.0
+     */
+    @Getter
+    public static class Scope {
+        private int statementCount;
+        private long entitiesLoaded;
+        private long databaseTimeNanos;
+        @Nullable
+        private String slowestStatement;
+        private long slowestStatementNanos;
+
+        private void addStatement(@Nullable final String sql, final long elapsedNanos) {
+            this.statementCount++;
+            this.databaseTimeNanos += elapsedNanos;
+            if (elapsedNanos > this.slowestStatementNanos) {
+                this.slowestStatementNanos = elapsedNanos;
+                this.slowestStatement = sql;
+            }
+        }
+
+        private void addEntityLoaded() {
+            this.entitiesLoaded++;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.instrumentation;
+
+import com.netflix.genie.web.properties.PersistenceInstrumentationProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Publishes the database work attributed to a {@link PersistenceStatistics.Scope} as metrics and logs a sample of the
+ * slow statements.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class PersistenceStatisticsRecorder {
+
+    static final String STATEMENTS_METRIC_NAME = "genie.data.operations.statements.distribution";
+    static final String ENTITIES_LOADED_METRIC_NAME = "genie.data.operations.entitiesLoaded.distribution";
+    static final String DATABASE_TIME_METRIC_NAME = "genie.data.operations.databaseTime.timer";
+    static final String LAYER_TAG = "layer";
+    static final String OPERATION_TAG = "operation";
+
+    // A run of two or more bind parameters such as the values of an IN list
+    private static final Pattern PARAMETER_LIST_PATTERN = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+
+    private final MeterRegistry registry;
+    private final PersistenceInstrumentationProperties properties;
+
+    /**
+     * Constructor.
+     *
+     * @param registry   The {@link MeterRegistry} to publish metrics to
+     * @param properties The {@link PersistenceInstrumentationProperties} to use
+     */
+    public PersistenceStatisticsRecorder(
+        final MeterRegistry registry,
+        final PersistenceInstrumentationProperties properties
+    ) {
+        this.registry = registry;
+        this.properties = properties;
+    }
+
+    /**
+     * Publish the work done by an operation once it is complete.
+     *
+     * @param layer     The layer of the system the operation belongs to e.g. {@literal rest}
+     * @param operation The name of the operation
+     * @param scope     The work attributed to the operation
+     */
+    public void record(final String layer, final String operation, final PersistenceStatistics.Scope scope) {
+        final Tags tags = Tags.of(LAYER_TAG, layer, OPERATION_TAG, operation);
+        DistributionSummary
+            .builder(STATEMENTS_METRIC_NAME)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(this.registry)
+            .record(scope.getStatementCount());
+        DistributionSummary
+            .builder(ENTITIES_LOADED_METRIC_NAME)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(this.registry)
+            .record(scope.getEntitiesLoaded());
+        Timer
+            .builder(DATABASE_TIME_METRIC_NAME)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(this.registry)
+            .record(scope.getDatabaseTimeNanos(), TimeUnit.NANOSECONDS);
+
+        // Only the outermost operation logs so a slow statement isn't logged again for every enclosing operation
+        if (!PersistenceStatistics.isScopeEntered()
+            && scope.getSlowestStatement() != null
+            && scope.getSlowestStatementNanos() >= this.properties.getSlowStatementThreshold().toNanos()
+            && ThreadLocalRandom.current().nextDouble() < this.properties.getSlowStatementLogSampleRate()
+        ) {
+            log.warn(
+                "Slow statement in {} operation {} took {}ms ({} statements, {} entities loaded, {}ms total): {}",
+                layer,
+                operation,
+                TimeUnit.NANOSECONDS.toMillis(scope.getSlowestStatementNanos()),
+                scope.getStatementCount(),
+                scope.getEntitiesLoaded(),
+                TimeUnit.NANOSECONDS.toMillis(scope.getDatabaseTimeNanos()),
+                toStatementShape(scope.getSlowestStatement())
+            );
+        }
+    }
+
+    /**
+     * Describe the shape of the bind parameters of a statement without their values by collapsing every list of
+     * parameters into a single placeholder annotated with the size of the list. e.g. {@code in (?, ?, ?)} becomes
+     * {@code in (?[3])}.
+     *
+     * @param sql The SQL of the statement as prepared, with {@literal ?} placeholders for bind parameters
+     * @return The shape of the statement
+     */
+    static String toStatementShape(final String sql) {
+        final Matcher matcher = PARAMETER_LIST_PATTERN.matcher(sql);
+        final StringBuilder shape = new StringBuilder();
+        while (matcher.find()) {
+            final long parameters = matcher.group().chars().filter(c -> c == '?').count();
+            matcher.appendReplacement(shape, Matcher.quoteReplacement("?[" + parameters + "]"));
+        }
+        matcher.appendTail(shape);
+        return shape.toString();
+    }
+}
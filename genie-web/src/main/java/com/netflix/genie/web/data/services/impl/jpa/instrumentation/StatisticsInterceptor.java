@@ -0,0 +1,46 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.instrumentation;
+
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+
+/**
+ * A Hibernate {@link Interceptor} which counts the entities loaded from the database. This isn't the number of rows
+ * read by the database as a row may hydrate several entities, or none when only scalar values are selected.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public class StatisticsInterceptor implements Interceptor {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean onLoad(
+        final Object entity,
+        final Object id,
+        final Object[] state,
+        final String[] propertyNames,
+        final Type[] types
+    ) {
+        PersistenceStatistics.entityLoaded();
+        return false;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.instrumentation;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * A Hibernate {@link SessionEventListener} which reports every round trip to the database and the time it took.
+ * <p>
+ * Hibernate creates a new instance for every session from its class name so the instance only ever tracks the
+ * statement currently executing in its own session.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public class StatisticsSessionEventListener implements SessionEventListener {
+
+    private long executionStart;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteStatementStart() {
+        this.executionStart = System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        PersistenceStatistics.statementExecuted(System.nanoTime() - this.executionStart);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteBatchStart() {
+        this.executionStart = System.nanoTime();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        PersistenceStatistics.statementExecuted(System.nanoTime() - this.executionStart);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+/**
+ * Hooks into Hibernate to attribute the statements executed, entities loaded and time spent in the database to the
+ * operations which caused them.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ParametersAreNonnullByDefault
+package com.netflix.genie.web.data.services.impl.jpa.instrumentation;
+
+import javax.annotation.ParametersAreNonnullByDefault;
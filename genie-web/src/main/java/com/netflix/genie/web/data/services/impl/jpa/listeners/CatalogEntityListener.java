@@ -0,0 +1,96 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.listeners;
+
+import com.netflix.genie.web.data.services.CatalogCaches;
+import com.netflix.genie.web.data.services.impl.jpa.entities.ApplicationEntity;
+import com.netflix.genie.web.data.services.impl.jpa.entities.BaseEntity;
+import com.netflix.genie.web.data.services.impl.jpa.entities.ClusterEntity;
+import com.netflix.genie.web.data.services.impl.jpa.entities.CommandEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * Listener for the catalog JPA entities ({@link ApplicationEntity}, {@link ClusterEntity} and {@link CommandEntity}).
+ * Clears the {@link CatalogCaches} whenever one of these entities is created, modified or deleted on this node.
+ * <p>
+ * The caches are cleared right away, so that reads within the same transaction don't see stale data, and once more
+ * after the surrounding transaction commits, so that a concurrent read which repopulated the cache from the
+ * pre-commit state of the database doesn't linger.
+ * <p>
+ * N.B. Spring configuration.
+ * - This class does not appear in any AutoConfiguration as bean.
+ * It is referenced as {@link java.util.EventListener} by the catalog entities.
+ * - The {@link CacheManager} is resolved lazily through an {@link ObjectProvider} as the entity manager factory can be
+ * created before it and there may not be a cache manager at all (e.g. in data only tests).
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class CatalogEntityListener {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+
+    /**
+     * Constructor.
+     *
+     * @param cacheManagerProvider Provider of the {@link CacheManager} holding the catalog caches, if any
+     */
+    public CatalogEntityListener(final ObjectProvider<CacheManager> cacheManagerProvider) {
+        this.cacheManagerProvider = cacheManagerProvider;
+    }
+
+    /**
+     * Persistence callback invoked after a catalog entity has been inserted, updated or deleted.
+     *
+     * @param entity The catalog entity which was modified
+     */
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void catalogChanged(final BaseEntity entity) {
+        final CacheManager cacheManager = this.cacheManagerProvider.getIfAvailable();
+        if (cacheManager == null) {
+            return;
+        }
+        log.debug(
+            "Catalog {} {} modified. Clearing catalog caches",
+            entity.getClass().getSimpleName(),
+            entity.getUniqueId()
+        );
+        CatalogCaches.clear(cacheManager);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        CatalogCaches.clear(cacheManager);
+                    }
+                }
+            );
+        }
+    }
+}
@@ -17,10 +17,14 @@
  */
 package com.netflix.genie.web.data.services.impl.jpa.listeners;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.netflix.genie.common.internal.dtos.JobStatus;
 import com.netflix.genie.common.internal.dtos.converters.DtoConverters;
+import com.netflix.genie.web.agent.launchers.AgentLauncher;
+import com.netflix.genie.web.data.observers.JobStatusTransition;
 import com.netflix.genie.web.data.observers.PersistedJobStatusObserver;
 import com.netflix.genie.web.data.services.impl.jpa.entities.JobEntity;
+import com.netflix.genie.web.dtos.JobResources;
 import lombok.extern.slf4j.Slf4j;
 
 import jakarta.persistence.PostLoad;
@@ -32,6 +36,10 @@ import java.util.Optional;
  * Currently tracks persistent changes to the status of a job and notifies an observer.
  * Could be extended to do proxy more persist changes.
  * <p>
+ * Status changes made with a single update statement, without loading the entity, never reach this listener. The
+ * {@link com.netflix.genie.web.data.services.impl.jpa.JpaPersistenceServiceImpl} notifies the observer of those
+ * itself with the same transition.
+ * <p>
  * N.B. Spring configuration.
  * - This class does not appear in any AutoConfiguration as bean.
  * It is referenced as {@link java.util.EventListener} by {@link JobEntity}.
@@ -97,7 +105,27 @@ public class JobEntityListener {
             );
 
             // Notify observer
-            this.persistedJobStatusObserver.notify(jobId, previouslyNotifiedState, currentState);
+            this.persistedJobStatusObserver.notify(
+                new JobStatusTransition(
+                    jobId,
+                    previouslyNotifiedState,
+                    currentState,
+                    jobEntity.getTimeInNotifiedJobStatus().orElse(null),
+                    jobEntity
+                        .getLauncherExt()
+                        .map(launcherExt -> launcherExt.get(AgentLauncher.LAUNCHER_CLASS_EXT_FIELD))
+                        .filter(JsonNode::isTextual)
+                        .map(JsonNode::asText)
+                        .orElse(null),
+                    new JobResources(
+                        jobEntity.getUser(),
+                        jobEntity.isApi(),
+                        jobEntity.getAgentHostname().orElse(null),
+                        jobEntity.getMemoryUsed().orElse(0L),
+                        jobEntity.getCpuUsed().orElse(0)
+                    )
+                )
+            );
 
             // Save this as the latest published state
             jobEntity.setNotifiedJobStatus(currentState.name());
@@ -0,0 +1,53 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.queries.aggregates;
+
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+
+/**
+ * Aggregate data summarizing the state of a catalog table. Any insert, update or delete in the table changes at least
+ * one of the values so it can be used to cheaply detect modifications made by other Genie nodes.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public interface CatalogTableAggregate {
+
+    /**
+     * Get the number of rows in the table.
+     *
+     * @return The number of rows
+     */
+    long getNumberOfEntities();
+
+    /**
+     * Get the most recent update time of any row in the table.
+     *
+     * @return The latest updated timestamp or {@literal null} if the table is empty
+     */
+    @Nullable
+    Instant getLastUpdated();
+
+    /**
+     * Get the sum of the optimistic locking versions of all the rows in the table.
+     *
+     * @return The sum of all the entity versions
+     */
+    long getVersionSum();
+}
@@ -0,0 +1,55 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.queries.aggregates;
+
+/**
+ * The number of jobs and the memory they requested for a given cluster and job status.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public interface ClusterJobResourcesAggregate {
+
+    /**
+     * Get the unique id of the cluster the jobs were sent to.
+     *
+     * @return The cluster id
+     */
+    String getClusterId();
+
+    /**
+     * Get the status the jobs are currently in.
+     *
+     * @return The job status
+     */
+    String getStatus();
+
+    /**
+     * Get the number of jobs sent to the cluster which are in the status.
+     *
+     * @return count of jobs
+     */
+    Long getJobsCount();
+
+    /**
+     * Get the total amount of memory requested by the jobs.
+     *
+     * @return amount of memory (in megabytes)
+     */
+    Long getRequestedMemory();
+}
@@ -0,0 +1,108 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.queries.aggregates;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+
+/**
+ * The fields of a job needed to explain a failed change of its status or to publish a successful one without loading
+ * the whole job entity.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public interface JobStatusTransitionAggregate {
+
+    /**
+     * Get the current status of the job.
+     *
+     * @return The job status
+     */
+    String getStatus();
+
+    /**
+     * Get whether the job has been claimed by an agent.
+     *
+     * @return {@literal true} if an agent claimed the job
+     */
+    boolean isClaimed();
+
+    /**
+     * Get the time the job was created.
+     *
+     * @return The creation time
+     */
+    Instant getCreated();
+
+    /**
+     * Get the time of the latest status change recorded in the status history of the job.
+     *
+     * @return The time or {@literal null} if no status change of the job is in the history
+     */
+    @Nullable
+    Instant getLatestStatusChange();
+
+    /**
+     * Get the launcher ext of the job.
+     *
+     * @return The launcher ext or {@literal null} if the agent hasn't been launched by the server
+     */
+    @Nullable
+    JsonNode getLauncherExt();
+
+    /**
+     * Get the user the job belongs to.
+     *
+     * @return The user name
+     */
+    String getUser();
+
+    /**
+     * Get whether the job was submitted via the API or other (e.g. Agent CLI) mechanism.
+     *
+     * @return {@literal true} if the job was submitted via an API call. {@literal false} otherwise.
+     */
+    boolean isApi();
+
+    /**
+     * Get the hostname of the agent running the job.
+     *
+     * @return The hostname or {@literal null} if the job hasn't been claimed by an agent yet
+     */
+    @Nullable
+    String getAgentHostname();
+
+    /**
+     * Get the amount of memory (in MB) allocated to the job.
+     *
+     * @return The memory or {@literal null} if the job hasn't been resolved yet
+     */
+    @Nullable
+    Long getMemoryUsed();
+
+    /**
+     * Get the number of CPUs allocated to the job.
+     *
+     * @return The number of CPUs or {@literal null} if the job hasn't been resolved yet
+     */
+    @Nullable
+    Integer getCpuUsed();
+}
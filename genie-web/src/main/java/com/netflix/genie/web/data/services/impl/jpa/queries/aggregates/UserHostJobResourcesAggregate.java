@@ -0,0 +1,72 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.queries.aggregates;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * An aggregate of the jobs and the resources they hold for a given user, submission mode and host.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public interface UserHostJobResourcesAggregate {
+
+    /**
+     * Get the user name.
+     *
+     * @return the user name
+     */
+    String getUser();
+
+    /**
+     * Get whether the jobs were submitted via the API or other (e.g. Agent CLI) mechanism.
+     *
+     * @return {@literal true} if the jobs were submitted via an API call. {@literal false} otherwise.
+     */
+    boolean isApi();
+
+    /**
+     * Get the hostname of the agents running the jobs.
+     *
+     * @return The hostname or {@literal null} for jobs which haven't been claimed by an agent yet
+     */
+    @Nullable
+    String getAgentHostname();
+
+    /**
+     * Get the number of jobs.
+     *
+     * @return count of jobs
+     */
+    Long getNumberOfJobs();
+
+    /**
+     * Get the total amount of memory allocated to the jobs.
+     *
+     * @return amount of memory (in megabytes)
+     */
+    Long getMemory();
+
+    /**
+     * Get the total number of CPUs allocated to the jobs.
+     *
+     * @return number of CPUs
+     */
+    Long getCpu();
+}
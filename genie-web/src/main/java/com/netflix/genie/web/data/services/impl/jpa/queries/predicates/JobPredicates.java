@@ -126,14 +126,18 @@ public final class JobPredicates {
         if (minStarted != null) {
             predicates.add(cb.greaterThanOrEqualTo(root.get(JobEntity_.started), minStarted));
         }
+        // A job is always created before it starts or finishes so upper bounds on those times are also upper bounds on
+        // the creation time. Repeating them on created lets partitioned storage skip newer partitions.
         if (maxStarted != null) {
             predicates.add(cb.lessThan(root.get(JobEntity_.started), maxStarted));
+            predicates.add(cb.lessThan(root.get(JobEntity_.created), maxStarted));
         }
         if (minFinished != null) {
             predicates.add(cb.greaterThanOrEqualTo(root.get(JobEntity_.finished), minFinished));
         }
         if (maxFinished != null) {
             predicates.add(cb.lessThan(root.get(JobEntity_.finished), maxFinished));
+            predicates.add(cb.lessThan(root.get(JobEntity_.created), maxFinished));
         }
         if (grouping != null) {
             predicates.add(
@@ -18,7 +18,9 @@
 package com.netflix.genie.web.data.services.impl.jpa.repositories;
 
 import com.netflix.genie.web.data.services.impl.jpa.entities.BaseEntity;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.CatalogTableAggregate;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
 
 import java.util.Optional;
@@ -69,4 +71,18 @@ public interface JpaBaseRepository<E extends BaseEntity> extends JpaIdRepository
      */
     @Modifying
     Long deleteByIdIn(Set<Long> ids);
+
+    /**
+     * Summarize the contents of the table backing this entity in a way which changes whenever a row is inserted,
+     * updated or deleted.
+     *
+     * @return A {@link CatalogTableAggregate} for the table
+     */
+    @Query(
+        "SELECT COUNT(e) AS numberOfEntities,"
+            + " MAX(e.updated) AS lastUpdated,"
+            + " COALESCE(SUM(e.entityVersion), 0) AS versionSum"
+            + " FROM #{#entityName} e"
+    )
+    CatalogTableAggregate getTableAggregate();
 }
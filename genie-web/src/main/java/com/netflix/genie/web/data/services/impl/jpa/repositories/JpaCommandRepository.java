@@ -51,13 +51,19 @@ public interface JpaCommandRepository extends JpaBaseRepository<CommandEntity> {
      * Bulk set the status of commands which match the given inputs.
      *
      * @param desiredStatus The new status the matching commands should have
+     * @param updated       The time to record as the last update of the matching commands
      * @param commandIds    The ids which should be updated
      * @return The number of commands that were updated by the query
      */
-    @Query(value = "UPDATE CommandEntity c SET c.status = :desiredStatus WHERE c.id IN (:commandIds)")
+    @Query(
+        value = "UPDATE CommandEntity c"
+            + " SET c.status = :desiredStatus, c.updated = :updated"
+            + " WHERE c.id IN (:commandIds)"
+    )
     @Modifying
     int setStatusWhereIdIn(
         @Param("desiredStatus") String desiredStatus,
+        @Param("updated") Instant updated,
         @Param("commandIds") Set<Long> commandIds
     );
 
@@ -18,7 +18,11 @@ package com.netflix.genie.web.data.services.impl.jpa.repositories;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.netflix.genie.common.dto.JobStatus;
 import com.netflix.genie.web.data.services.impl.jpa.entities.JobEntity;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.ClusterJobResourcesAggregate;
 import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobInfoAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobResourcesAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobStatusTransitionAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.UserHostJobResourcesAggregate;
 import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.UserJobResourcesAggregate;
 import com.netflix.genie.web.data.services.impl.jpa.queries.projections.JobApplicationsProjection;
 import com.netflix.genie.web.data.services.impl.jpa.queries.projections.JobClusterProjection;
@@ -27,12 +31,15 @@ import com.netflix.genie.web.data.services.impl.jpa.queries.projections.JobProje
 import com.netflix.genie.web.data.services.impl.jpa.queries.projections.v4.JobRequestProjection;
 import com.netflix.genie.web.data.services.impl.jpa.queries.projections.v4.JobSpecificationProjection;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.annotation.Nullable;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -52,6 +59,34 @@ public interface JpaJobRepository extends JpaBaseRepository<JobEntity> {
             + " WHERE created < :createdThreshold AND status NOT IN (:excludedStatuses)"
             + " LIMIT :batchSize"; // JPQL doesn't support limit so this needs to be native query
 
+    /**
+     * The query used to find the unique ids of the oldest jobs created before a certain time.
+     */
+    String FIND_OLDEST_JOB_UNIQUE_IDS_QUERY =
+        "SELECT unique_id"
+            + " FROM jobs"
+            + " WHERE created < :createdThreshold AND status NOT IN (:excludedStatuses)"
+            + " ORDER BY created"
+            + " LIMIT :batchSize";
+
+    /**
+     * The query used to find the unique ids of the oldest queued jobs whose lease lapsed.
+     */
+    String FIND_QUEUED_JOB_UNIQUE_IDS_NOT_RENEWED_QUERY =
+        "SELECT unique_id"
+            + " FROM jobs"
+            + " WHERE admission_owner IS NOT NULL AND status = :status AND admission_heartbeat < :renewedBefore"
+            + " ORDER BY created"
+            + " LIMIT :maxJobs";
+
+    /**
+     * The select clause used to fetch the resources held by jobs.
+     */
+    String JOB_RESOURCES_SELECT =
+        "SELECT j.uniqueId AS uniqueId, j.user AS user, j.status AS status, j.api AS api,"
+            + " j.agentHostname AS agentHostname, j.memoryUsed AS memoryUsed, j.cpuUsed AS cpuUsed"
+            + " FROM JobEntity j";
+
     // TODO: Make interfaces generic but be aware of https://jira.spring.io/browse/DATAJPA-1185
 
     /**
@@ -129,6 +164,49 @@ public interface JpaJobRepository extends JpaBaseRepository<JobEntity> {
         @Param("batchSize") int limit
     );
 
+    /**
+     * Find the unique ids of a batch of the oldest jobs that were created before the given time.
+     *
+     * @param createdThreshold The time before which the jobs were submitted. Exclusive
+     * @param excludeStatuses  The set of statuses which should be excluded from the results
+     * @param limit            The maximum number of jobs to to find
+     * @return The unique ids of the jobs found
+     */
+    @Query(value = FIND_OLDEST_JOB_UNIQUE_IDS_QUERY, nativeQuery = true)
+    Set<String> findJobUniqueIdsCreatedBefore(
+        @Param("createdThreshold") Instant createdThreshold,
+        @Param("excludedStatuses") Set<String> excludeStatuses,
+        @Param("batchSize") int limit
+    );
+
+    /**
+     * Delete all jobs whose unique ids are contained in the given set of ids.
+     *
+     * @param uniqueIds The unique ids of the jobs to delete
+     * @return The number of deleted jobs
+     */
+    @Modifying
+    Long deleteByUniqueIdIn(Set<String> uniqueIds);
+
+    /**
+     * Whether any job in one of the given statuses was created within the given range of time.
+     *
+     * @param createdLowerBound The time at or after which the jobs were submitted. Inclusive
+     * @param createdUpperBound The time before which the jobs were submitted. Exclusive
+     * @param statuses          The set of statuses to look for
+     * @return {@literal true} if at least one such job exists
+     */
+    @Query(
+        "SELECT COUNT(j) > 0"
+            + " FROM JobEntity j"
+            + " WHERE j.created >= :createdLowerBound AND j.created < :createdUpperBound AND j.status IN (:statuses)"
+    )
+    boolean existsJobsCreatedBetweenWithStatusIn(
+        @Param("createdLowerBound") Instant createdLowerBound,
+        @Param("createdUpperBound") Instant createdUpperBound,
+        @Param("statuses") @NotEmpty Set<String> statuses
+    );
+
     /**
      * Returns resources usage for each user that has a running job.
      * Only jobs running on Genie servers are considered (i.e. no Agent jobs)
@@ -148,6 +226,54 @@ public interface JpaJobRepository extends JpaBaseRepository<JobEntity> {
         @Param("isApi") boolean api
     );
 
+    /**
+     * Returns the number of jobs and the memory they requested for each cluster and status. Jobs which haven't been
+     * sent to a cluster yet are not considered.
+     *
+     * @param statuses The set of statuses a job has to be in to be considered
+     * @return The cluster resource aggregates
+     */
+    @Query(
+        "SELECT c.uniqueId AS clusterId, j.status AS status, COUNT(j) AS jobsCount,"
+            + " COALESCE(SUM(j.requestedMemory), 0) AS requestedMemory"
+            + " FROM JobEntity j JOIN j.cluster c"
+            + " WHERE j.status IN (:statuses)"
+            + " GROUP BY c.uniqueId, j.status"
+    )
+    Set<ClusterJobResourcesAggregate> getClusterJobResourcesAggregates(
+        @Param("statuses") @NotEmpty Set<String> statuses
+    );
+
+    /**
+     * Returns the number of jobs and the resources they hold for each user, submission mode and host.
+     *
+     * @param statuses The set of statuses a job has to be in to be considered
+     * @return The user, submission mode and host resource aggregates
+     */
+    @Query(
+        "SELECT j.user AS user, j.api AS api, j.agentHostname AS agentHostname, COUNT(j) AS numberOfJobs,"
+            + " COALESCE(SUM(j.memoryUsed), 0) AS memory, COALESCE(SUM(j.cpuUsed), 0) AS cpu"
+            + " FROM JobEntity j"
+            + " WHERE j.status IN (:statuses)"
+            + " GROUP BY j.user, j.api, j.agentHostname"
+    )
+    Set<UserHostJobResourcesAggregate> getUserHostJobResourcesAggregates(
+        @Param("statuses") @NotEmpty Set<String> statuses
+    );
+
+    /**
+     * Get the resources held by each job running on the given host in any of the given states.
+     *
+     * @param agentHostname The hostname where the agent is running the job
+     * @param statuses      The set of statuses a job has to be in to be considered
+     * @return The resources of each matching job
+     */
+    @Query(JOB_RESOURCES_SELECT + " WHERE j.agentHostname = :agentHostname AND j.status IN (:statuses)")
+    Set<JobResourcesAggregate> getJobResourcesOnHostWithStatusIn(
+        @Param("agentHostname") @NotBlank String agentHostname,
+        @Param("statuses") @NotEmpty Set<String> statuses
+    );
+
     /**
      * Find agent jobs in the given set of states.
      *
@@ -196,6 +322,158 @@ public interface JpaJobRepository extends JpaBaseRepository<JobEntity> {
     @Query("SELECT j.api FROM JobEntity j WHERE j.uniqueId = :id")
     Optional<Boolean> isAPI(@Param("id") String id);
 
+    /**
+     * Get the fields of a job needed to explain a failed change of its status or publish a successful one.
+     *
+     * @param id The id of the job
+     * @return The {@link JobStatusTransitionAggregate} or {@link Optional#empty()} if no job with the given id exists
+     */
+    @Query(
+        "SELECT j.status AS status, j.claimed AS claimed, j.created AS created,"
+            + " (SELECT MAX(h.created) FROM JobStatusHistoryEntity h WHERE h.jobId = j.uniqueId)"
+            + " AS latestStatusChange,"
+            + " j.launcherExt AS launcherExt, j.user AS user, j.api AS api,"
+            + " j.agentHostname AS agentHostname, j.memoryUsed AS memoryUsed, j.cpuUsed AS cpuUsed"
+            + " FROM JobEntity j"
+            + " WHERE j.uniqueId = :id"
+    )
+    Optional<JobStatusTransitionAggregate> getJobStatusTransition(@Param("id") String id);
+
+    /**
+     * Change the status of a job in a single statement provided its status is still the expected one.
+     * <p>
+     * {@code markStarted} and {@code markFinished} must not both be {@literal true}. MySQL evaluates the assignments
+     * in order so the finish time would otherwise see the start time just set.
+     *
+     * @param id             The id of the job
+     * @param expectedStatus The status the job must currently be in for the update to happen
+     * @param newStatus      The new status
+     * @param statusMsg      The new status message
+     * @param markStarted    Whether to set the start time of the job to {@code now}
+     * @param markFinished   Whether to set the finish time of the job to {@code now} if the job started before
+     * @param now            The time of the change
+     * @return The number of jobs updated. {@literal 0} if no job with the given id is in the expected status
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "UPDATE JobEntity j"
+            + " SET j.status = :newStatus, j.statusMsg = :statusMsg,"
+            + " j.started = CASE WHEN :markStarted = true THEN :now ELSE j.started END,"
+            + " j.finished = CASE WHEN :markFinished = true AND j.started IS NOT NULL THEN :now ELSE j.finished END,"
+            + " j.statusUpdated = :now, j.updated = :now, j.entityVersion = j.entityVersion + 1"
+            + " WHERE j.uniqueId = :id AND j.status = :expectedStatus"
+    )
+    int compareAndSetStatus(
+        @Param("id") String id,
+        @Param("expectedStatus") String expectedStatus,
+        @Param("newStatus") String newStatus,
+        @Param("statusMsg") @Nullable String statusMsg,
+        @Param("markStarted") boolean markStarted,
+        @Param("markFinished") boolean markFinished,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Claim a job for an agent in a single statement provided it is still unclaimed and in the expected status.
+     *
+     * @param id             The id of the job
+     * @param expectedStatus The status the job must currently be in for the claim to happen
+     * @param claimedStatus  The status of a claimed job
+     * @param agentHostname  The hostname of the agent or {@literal null} to keep the current value
+     * @param agentVersion   The version of the agent or {@literal null} to keep the current value
+     * @param agentPid       The process id of the agent or {@literal null} to keep the current value
+     * @param now            The time of the claim
+     * @return The number of jobs claimed. {@literal 0} if no unclaimed job with the given id is in the expected status
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "UPDATE JobEntity j"
+            + " SET j.claimed = true, j.status = :claimedStatus,"
+            + " j.agentHostname = COALESCE(:agentHostname, j.agentHostname),"
+            + " j.agentVersion = COALESCE(:agentVersion, j.agentVersion),"
+            + " j.agentPid = COALESCE(:agentPid, j.agentPid),"
+            + " j.statusUpdated = :now, j.updated = :now, j.entityVersion = j.entityVersion + 1"
+            + " WHERE j.uniqueId = :id AND j.status = :expectedStatus AND j.claimed = false"
+    )
+    int compareAndSetClaimed(
+        @Param("id") String id,
+        @Param("expectedStatus") String expectedStatus,
+        @Param("claimedStatus") String claimedStatus,
+        @Param("agentHostname") @Nullable String agentHostname,
+        @Param("agentVersion") @Nullable String agentVersion,
+        @Param("agentPid") @Nullable Integer agentPid,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Change the archive status of a job in a single statement.
+     *
+     * @param id            The id of the job
+     * @param archiveStatus The new archive status
+     * @param now           The time of the change
+     * @return The number of jobs updated. {@literal 0} if no job with the given id exists
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "UPDATE JobEntity j"
+            + " SET j.archiveStatus = :archiveStatus, j.updated = :now, j.entityVersion = j.entityVersion + 1"
+            + " WHERE j.uniqueId = :id"
+    )
+    int setArchiveStatus(
+        @Param("id") String id,
+        @Param("archiveStatus") String archiveStatus,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Combine resource usage sampled over a later period with the usage saved for a job in a single statement, the same
+     * way {@link com.netflix.genie.web.dtos.JobResourceUsage#merge} does.
+     * <p>
+     * The average is assigned before the sample count as MySQL evaluates assignments from left to right.
+     *
+     * @param id              The id of the job
+     * @param sampleCount     The number of RSS samples taken over the period
+     * @param peakRssBytes    The peak RSS over the period
+     * @param averageRssBytes The average RSS over the period
+     * @param cpuTimeMillis   The cumulative CPU time of the job
+     * @param ioReadBytes     The cumulative bytes read by the job
+     * @param ioWriteBytes    The cumulative bytes written by the job
+     * @param peakThreadCount The peak number of threads over the period
+     * @param now             The time of the change
+     * @return The number of jobs updated. {@literal 0} if no job with the given id exists
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "UPDATE JobEntity j"
+            + " SET j.averageRssBytes = CASE WHEN COALESCE(j.rssSampleCount, 0) + :sampleCount = 0 THEN 0"
+            + " ELSE (COALESCE(j.averageRssBytes, 0) * COALESCE(j.rssSampleCount, 0)"
+            + " + :averageRssBytes * :sampleCount) / (COALESCE(j.rssSampleCount, 0) + :sampleCount) END,"
+            + " j.rssSampleCount = COALESCE(j.rssSampleCount, 0) + :sampleCount,"
+            + " j.peakRssBytes = CASE WHEN COALESCE(j.peakRssBytes, 0) > :peakRssBytes"
+            + " THEN j.peakRssBytes ELSE :peakRssBytes END,"
+            + " j.cpuTimeMillis = CASE WHEN COALESCE(j.cpuTimeMillis, 0) > :cpuTimeMillis"
+            + " THEN j.cpuTimeMillis ELSE :cpuTimeMillis END,"
+            + " j.ioReadBytes = CASE WHEN COALESCE(j.ioReadBytes, 0) > :ioReadBytes"
+            + " THEN j.ioReadBytes ELSE :ioReadBytes END,"
+            + " j.ioWriteBytes = CASE WHEN COALESCE(j.ioWriteBytes, 0) > :ioWriteBytes"
+            + " THEN j.ioWriteBytes ELSE :ioWriteBytes END,"
+            + " j.peakThreadCount = CASE WHEN COALESCE(j.peakThreadCount, 0) > :peakThreadCount"
+            + " THEN j.peakThreadCount ELSE :peakThreadCount END,"
+            + " j.updated = :now, j.entityVersion = j.entityVersion + 1"
+            + " WHERE j.uniqueId = :id"
+    )
+    int addResourceUsage(
+        @Param("id") String id,
+        @Param("sampleCount") long sampleCount,
+        @Param("peakRssBytes") long peakRssBytes,
+        @Param("averageRssBytes") long averageRssBytes,
+        @Param("cpuTimeMillis") long cpuTimeMillis,
+        @Param("ioReadBytes") long ioReadBytes,
+        @Param("ioWriteBytes") long ioWriteBytes,
+        @Param("peakThreadCount") int peakThreadCount,
+        @Param("now") Instant now
+    );
+
     /**
      * Get only the hostname of a job.
      *
@@ -252,6 +530,17 @@ public interface JpaJobRepository extends JpaBaseRepository<JobEntity> {
     @EntityGraph(value = JobEntity.V4_JOB_REQUEST_DTO_ENTITY_GRAPH, type = EntityGraph.EntityGraphType.FETCH)
     Optional<JobRequestProjection> getV4JobRequest(@Param("id") String id);
 
+    /**
+     * Get the jobs with the given unique ids with everything needed to create their V3 Job, V3 Job Request, V3 Job
+     * Execution and V3 Job Metadata DTOs in a single query.
+     *
+     * @param ids The unique ids of the jobs
+     * @return The jobs found. Ids with no job are ignored
+     */
+    @Query("SELECT j FROM JobEntity j WHERE j.uniqueId IN (:ids)")
+    @EntityGraph(value = JobEntity.V4_JOB_REQUEST_DTO_ENTITY_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
+    List<JobEntity> getJobsWithRequests(@Param("ids") Set<String> ids);
+
     /**
      * Get the data needed to create a V4 Job Specification DTO.
      *
@@ -262,6 +551,16 @@ public interface JpaJobRepository extends JpaBaseRepository<JobEntity> {
     @EntityGraph(value = JobEntity.V4_JOB_SPECIFICATION_DTO_ENTITY_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Optional<JobSpecificationProjection> getJobSpecification(@Param("id") String id);
 
+    /**
+     * Get the serialized job specification saved when the job was resolved.
+     *
+     * @param id The unique id of the job
+     * @return The serialized {@link com.netflix.genie.proto.JobSpecification} or {@link Optional#empty()} if the job
+     * doesn't exist, isn't resolved or was resolved before snapshots were saved
+     */
+    @Query("SELECT j.jobSpecificationSnapshot FROM JobEntity j WHERE j.uniqueId = :id")
+    Optional<byte[]> getJobSpecificationSnapshot(@Param("id") String id);
+
     /**
      * Get the applications for a job.
      *
@@ -291,4 +590,118 @@ public interface JpaJobRepository extends JpaBaseRepository<JobEntity> {
     @Query("SELECT j FROM JobEntity j WHERE j.uniqueId = :id")
     @EntityGraph(value = JobEntity.JOB_COMMAND_DTO_ENTITY_GRAPH, type = EntityGraph.EntityGraphType.LOAD)
     Optional<JobCommandProjection> getJobCommand(@Param("id") String id);
+
+    /**
+     * Mark a job as waiting in the given admission queue provided it is in the expected status.
+     *
+     * @param id             The id of the job
+     * @param expectedStatus The status the job must currently be in
+     * @param owner          The id of the queue holding the job
+     * @param statusMsg      The new status message
+     * @param now            The time the job was queued
+     * @return The number of jobs updated. {@literal 0} if no job with the given id is in the expected status
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "UPDATE JobEntity j"
+            + " SET j.admissionOwner = :owner, j.admissionHeartbeat = :now, j.statusMsg = :statusMsg,"
+            + " j.updated = :now, j.entityVersion = j.entityVersion + 1"
+            + " WHERE j.uniqueId = :id AND j.status = :expectedStatus"
+    )
+    int setQueued(
+        @Param("id") String id,
+        @Param("expectedStatus") String expectedStatus,
+        @Param("owner") String owner,
+        @Param("statusMsg") @Nullable String statusMsg,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Renew the lease of an admission queue on the jobs in the given status waiting in it.
+     *
+     * @param owner  The id of the queue
+     * @param status The status the queued jobs are in
+     * @param now    The time of the renewal
+     * @return The number of jobs whose lease was renewed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "UPDATE JobEntity j"
+            + " SET j.admissionHeartbeat = :now"
+            + " WHERE j.admissionOwner = :owner AND j.status = :status"
+    )
+    int renewQueued(
+        @Param("owner") String owner,
+        @Param("status") String status,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Find the unique ids of the oldest queued jobs whose lease was last renewed before the given time.
+     *
+     * @param status        The status the queued jobs are in
+     * @param renewedBefore The time before which the lease was last renewed. Exclusive
+     * @param maxJobs       The maximum number of jobs to find
+     * @return The unique ids of the jobs found, oldest first
+     */
+    @Query(value = FIND_QUEUED_JOB_UNIQUE_IDS_NOT_RENEWED_QUERY, nativeQuery = true)
+    List<String> findQueuedJobUniqueIdsNotRenewedSince(
+        @Param("status") String status,
+        @Param("renewedBefore") Instant renewedBefore,
+        @Param("maxJobs") int maxJobs
+    );
+
+    /**
+     * Move a queued job whose lease lapsed to the given admission queue.
+     *
+     * @param id            The id of the job
+     * @param status        The status the queued job must be in
+     * @param owner         The id of the queue taking the job over
+     * @param renewedBefore The time before which the lease must have been last renewed. Exclusive
+     * @param now           The time of the take over
+     * @return The number of jobs updated. {@literal 0} if the job isn't queued anymore or its lease was renewed
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "UPDATE JobEntity j"
+            + " SET j.admissionOwner = :owner, j.admissionHeartbeat = :now"
+            + " WHERE j.uniqueId = :id AND j.status = :status AND j.admissionOwner IS NOT NULL"
+            + " AND j.admissionHeartbeat < :renewedBefore"
+    )
+    int adoptQueued(
+        @Param("id") String id,
+        @Param("status") String status,
+        @Param("owner") String owner,
+        @Param("renewedBefore") Instant renewedBefore,
+        @Param("now") Instant now
+    );
+
+    /**
+     * Remove a job in the given status from the given admission queue.
+     *
+     * @param id     The id of the job
+     * @param status The status the queued job must be in
+     * @param owner  The id of the queue holding the job
+     * @return The number of jobs updated. {@literal 0} if the job isn't held by the queue in the given status
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "UPDATE JobEntity j"
+            + " SET j.admissionOwner = NULL, j.admissionHeartbeat = NULL"
+            + " WHERE j.uniqueId = :id AND j.status = :status AND j.admissionOwner = :owner"
+    )
+    int removeQueued(
+        @Param("id") String id,
+        @Param("status") String status,
+        @Param("owner") String owner
+    );
+
+    /**
+     * Find the unique ids of the jobs in the given status waiting in any admission queue.
+     *
+     * @param status The status the queued jobs are in
+     * @return The unique ids of the queued jobs
+     */
+    @Query("SELECT j.uniqueId FROM JobEntity j WHERE j.admissionOwner IS NOT NULL AND j.status = :status")
+    Set<String> getQueuedJobIds(@Param("status") String status);
 }
@@ -0,0 +1,75 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.repositories;
+
+import com.netflix.genie.web.data.services.impl.jpa.entities.JobStatusHistoryEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository for the append-only job status transition history.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public interface JpaJobStatusHistoryRepository extends JpaIdRepository<JobStatusHistoryEntity> {
+
+    /**
+     * The query used to find a batch of history records created before a certain time.
+     */
+    String FIND_OLD_JOB_STATUS_HISTORY_QUERY =
+        "SELECT id"
+            + " FROM job_status_history"
+            + " WHERE created < :createdThreshold"
+            + " LIMIT :batchSize";
+
+    /**
+     * Get the ordered status transitions recorded for the given job.
+     *
+     * @param jobId The unique id of the job
+     * @return The transitions in the order they were recorded
+     */
+    List<JobStatusHistoryEntity> findByJobIdOrderByIdAsc(String jobId);
+
+    /**
+     * Find the ids of a batch of history records created before the given time.
+     *
+     * @param createdThreshold The time before which the records were created. Exclusive
+     * @param batchSize        The maximum number of ids to return
+     * @return The ids of the records found
+     */
+    @Query(value = FIND_OLD_JOB_STATUS_HISTORY_QUERY, nativeQuery = true)
+    Set<Long> findIdsCreatedBefore(
+        @Param("createdThreshold") Instant createdThreshold,
+        @Param("batchSize") int batchSize
+    );
+
+    /**
+     * Delete all the history records whose ids are in the given set.
+     *
+     * @param ids The ids of the records to delete
+     * @return The number of records deleted
+     */
+    @Modifying
+    Long deleteByIdIn(Set<Long> ids);
+}
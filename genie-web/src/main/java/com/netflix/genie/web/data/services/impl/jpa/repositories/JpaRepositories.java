@@ -35,5 +35,6 @@ public class JpaRepositories {
     private final JpaCriterionRepository criterionRepository;
     private final JpaFileRepository fileRepository;
     private final JpaJobRepository jobRepository;
+    private final JpaJobStatusHistoryRepository jobStatusHistoryRepository;
     private final JpaTagRepository tagRepository;
 }
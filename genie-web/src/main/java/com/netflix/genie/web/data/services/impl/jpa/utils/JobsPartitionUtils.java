@@ -0,0 +1,285 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.utils;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.lang3.StringUtils;
+
+import jakarta.annotation.Nullable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Utilities for managing the range partitions of the {@code jobs} table when it has been converted to partitioned
+ * storage.
+ * <p>
+ * Partitions are expected to be range partitioned on the {@code created} column with boundaries at midnight UTC.
+ * Each managed partition is named {@code jobs_pYYYYMMDD} after its exclusive upper bound so the partition layout can
+ * be derived from the partition names alone without parsing vendor specific partition bound expressions. Partitions
+ * which don't follow this naming convention (e.g. a default partition) are ignored.
+ * <p>
+ * Every unique key of a partitioned table has to include the partition key. The {@code jobs} table therefore can't
+ * keep {@code id} or {@code unique_id} unique on their own, and the tables holding the collections of a job, which
+ * reference {@code jobs.id} alone, can't keep their foreign keys to it. A partition drop consequently leaves the rows
+ * of those tables behind. They are deleted afterwards, using the statements provided here, by finding the rows whose
+ * job no longer exists. As that search doesn't depend on the dropped partition it picks up any rows left behind by an
+ * earlier run which failed or was interrupted part way.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public final class JobsPartitionUtils {
+
+    static final String PARTITION_NAME_PREFIX = "jobs_p";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd", Locale.US);
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter
+        .ofPattern("yyyy-MM-dd HH:mm:ss", Locale.US)
+        .withZone(ZoneOffset.UTC);
+
+    /**
+     * The tables holding the collections of a job, keyed by the {@code job_id} column.
+     */
+    public static final List<String> JOB_CHILD_TABLES = ImmutableList.of(
+        "job_command_arguments",
+        "job_environment_variables",
+        "job_requested_applications",
+        "job_requested_environment_variables",
+        "jobs_applications",
+        "jobs_cluster_criteria",
+        "jobs_configs",
+        "jobs_dependencies",
+        "jobs_tags"
+    );
+
+    private JobsPartitionUtils() {
+    }
+
+    /**
+     * Get the native query which finds the next batch of job ids, in ascending order, which still have rows in the
+     * given child table but no longer exist in the {@code jobs} table. Only ids greater than the {@code afterId}
+     * parameter are returned and at most {@code batchSize} of them.
+     *
+     * @param childTable One of {@link #JOB_CHILD_TABLES}
+     * @return The SQL
+     */
+    public static String getFindOrphanedJobIdsSql(final String childTable) {
+        return "SELECT DISTINCT c.job_id FROM "
+            + childTable
+            + " c LEFT JOIN jobs j ON j.id = c.job_id"
+            + " WHERE j.id IS NULL AND c.job_id > :afterId"
+            + " ORDER BY c.job_id"
+            + " LIMIT :batchSize";
+    }
+
+    /**
+     * Get the statement which deletes the rows of the given child table belonging to a set of jobs. The job ids are
+     * bound to the {@code ids} parameter.
+     *
+     * @param childTable One of {@link #JOB_CHILD_TABLES}
+     * @return The SQL
+     */
+    public static String getDeleteChildRowsSql(final String childTable) {
+        return "DELETE FROM " + childTable + " WHERE job_id IN (:ids)";
+    }
+
+    /**
+     * Get the name of the partition whose exclusive upper bound is the given instant.
+     *
+     * @param upperBound The exclusive upper bound of the partition. Expected to be midnight UTC.
+     * @return The partition name
+     */
+    public static String getPartitionName(final Instant upperBound) {
+        return PARTITION_NAME_PREFIX + PARTITION_NAME_FORMAT.format(upperBound.atOffset(ZoneOffset.UTC));
+    }
+
+    /**
+     * Get the exclusive upper bound of the partition with the given name.
+     *
+     * @param partitionName The name of the partition
+     * @return The upper bound or {@link Optional#empty()} if the partition isn't named after the managed convention
+     */
+    public static Optional<Instant> getPartitionUpperBound(final String partitionName) {
+        if (!StringUtils.startsWithIgnoreCase(partitionName, PARTITION_NAME_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(
+                LocalDate
+                    .parse(partitionName.substring(PARTITION_NAME_PREFIX.length()), PARTITION_NAME_FORMAT)
+                    .atStartOfDay(ZoneOffset.UTC)
+                    .toInstant()
+            );
+        } catch (final DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The database vendors which support partitioned storage of the {@code jobs} table.
+     *
+     * @author tgianos
+     * @since 4.4.0
+     */
+    public enum Dialect {
+        /**
+         * MySQL {@code RANGE COLUMNS(created)} partitioning.
+         */
+        MYSQL(
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'jobs' AND PARTITION_NAME IS NOT NULL",
+            "SELECT PARTITION_NAME FROM information_schema.PARTITIONS"
+                + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'jobs' AND PARTITION_DESCRIPTION = 'MAXVALUE'"
+        ) {
+            @Override
+            public String getCreatePartitionSql(
+                final Instant lowerBound,
+                final Instant upperBound,
+                @Nullable final String catchAllPartitionName
+            ) {
+                final String partition = "PARTITION "
+                    + getPartitionName(upperBound)
+                    + " VALUES LESS THAN ('"
+                    + BOUND_FORMAT.format(upperBound)
+                    + "')";
+                if (catchAllPartitionName == null) {
+                    return "ALTER TABLE jobs ADD PARTITION (" + partition + ")";
+                }
+                // Partitions can't be added after a MAXVALUE partition so the new range is split off of it instead
+                return "ALTER TABLE jobs REORGANIZE PARTITION "
+                    + catchAllPartitionName
+                    + " INTO ("
+                    + partition
+                    + ", PARTITION "
+                    + catchAllPartitionName
+                    + " VALUES LESS THAN (MAXVALUE))";
+            }
+
+            @Override
+            public String getDropPartitionSql(final String partitionName) {
+                return "ALTER TABLE jobs DROP PARTITION " + partitionName;
+            }
+        },
+
+        /**
+         * PostgreSQL declarative {@code PARTITION BY RANGE (created)} partitioning.
+         */
+        POSTGRESQL(
+            "SELECT c.relname FROM pg_inherits i"
+                + " JOIN pg_class c ON c.oid = i.inhrelid"
+                + " JOIN pg_class p ON p.oid = i.inhparent"
+                + " WHERE p.relname = 'jobs'",
+            null
+        ) {
+            @Override
+            public String getCreatePartitionSql(
+                final Instant lowerBound,
+                final Instant upperBound,
+                @Nullable final String catchAllPartitionName
+            ) {
+                // A new partition can be attached next to a default partition as long as the default partition holds
+                // no rows in its range which is the case as partitions are created ahead of time
+                return "CREATE TABLE "
+                    + getPartitionName(upperBound)
+                    + " PARTITION OF jobs FOR VALUES FROM ('"
+                    + BOUND_FORMAT.format(lowerBound)
+                    + "') TO ('"
+                    + BOUND_FORMAT.format(upperBound)
+                    + "')";
+            }
+
+            @Override
+            public String getDropPartitionSql(final String partitionName) {
+                return "DROP TABLE " + partitionName;
+            }
+        };
+
+        private final String listPartitionsSql;
+        private final String findCatchAllPartitionSql;
+
+        Dialect(final String listPartitionsSql, @Nullable final String findCatchAllPartitionSql) {
+            this.listPartitionsSql = listPartitionsSql;
+            this.findCatchAllPartitionSql = findCatchAllPartitionSql;
+        }
+
+        /**
+         * Get the dialect for the given database product name as reported by the JDBC driver.
+         *
+         * @param databaseProductName The database product name
+         * @return The dialect or {@link Optional#empty()} if the database doesn't support partitioned job storage
+         */
+        public static Optional<Dialect> fromDatabaseProductName(final String databaseProductName) {
+            if (StringUtils.containsIgnoreCase(databaseProductName, "mysql")
+                || StringUtils.containsIgnoreCase(databaseProductName, "mariadb")) {
+                return Optional.of(MYSQL);
+            } else if (StringUtils.containsIgnoreCase(databaseProductName, "postgresql")) {
+                return Optional.of(POSTGRESQL);
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * Get the native query which returns the names of all the partitions of the {@code jobs} table.
+         *
+         * @return The SQL
+         */
+        public String getListPartitionsSql() {
+            return this.listPartitionsSql;
+        }
+
+        /**
+         * Get the native query which returns the name of the partition of the {@code jobs} table catching all the
+         * creation times past the last range partition, if the dialect requires it to be handled when partitions are
+         * created.
+         *
+         * @return The SQL or {@link Optional#empty()} if the catch-all partition doesn't need to be handled
+         */
+        public Optional<String> getFindCatchAllPartitionSql() {
+            return Optional.ofNullable(this.findCatchAllPartitionSql);
+        }
+
+        /**
+         * Get the DDL which creates a new partition of the {@code jobs} table for the given range.
+         *
+         * @param lowerBound            The inclusive lower bound of the partition
+         * @param upperBound            The exclusive upper bound of the partition
+         * @param catchAllPartitionName The name of the partition catching all the creation times past the last range
+         *                              partition, if any, as found by {@link #getFindCatchAllPartitionSql()}
+         * @return The SQL
+         */
+        public abstract String getCreatePartitionSql(
+            Instant lowerBound,
+            Instant upperBound,
+            @Nullable String catchAllPartitionName
+        );
+
+        /**
+         * Get the DDL which drops the given partition of the {@code jobs} table along with all its rows.
+         *
+         * @param partitionName The name of the partition
+         * @return The SQL
+         */
+        public abstract String getDropPartitionSql(String partitionName);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A summary of the resources held by a group of active jobs (e.g. all the active jobs of a user or on a host).
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode(doNotUseGetters = true)
+@ToString(doNotUseGetters = true)
+public class ActiveResourcesSummary {
+
+    /**
+     * A summary with no jobs and no resources.
+     */
+    public static final ActiveResourcesSummary NONE = new ActiveResourcesSummary(0L, 0L, 0L);
+
+    private final long numberOfJobs;
+    private final long memory;
+    private final long cpu;
+}
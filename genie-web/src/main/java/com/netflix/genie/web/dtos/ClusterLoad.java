@@ -0,0 +1,56 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The load a cluster is under from the active jobs that were sent to it.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode(doNotUseGetters = true)
+@ToString(doNotUseGetters = true)
+public class ClusterLoad {
+
+    /**
+     * The load of a cluster with no active jobs.
+     */
+    public static final ClusterLoad NONE = new ClusterLoad(0L, 0L, 0L);
+
+    /**
+     * The number of jobs which have been claimed by an agent and are running or about to run.
+     */
+    private final long runningJobs;
+
+    /**
+     * The number of jobs which were sent to the cluster but haven't been claimed by an agent yet.
+     */
+    private final long queuedJobs;
+
+    /**
+     * The total memory (in MB) requested by the running and queued jobs.
+     */
+    private final long requestedMemory;
+}
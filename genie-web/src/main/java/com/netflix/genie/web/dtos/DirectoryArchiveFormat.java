@@ -0,0 +1,80 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.dtos;
+
+import lombok.Getter;
+
+import jakarta.annotation.Nullable;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The formats a job directory can be downloaded as.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Getter
+public enum DirectoryArchiveFormat {
+
+    /**
+     * An uncompressed POSIX tar archive.
+     */
+    TAR("tar", "application/x-tar"),
+
+    /**
+     * A gzip compressed POSIX tar archive.
+     */
+    TAR_GZ("tar.gz", "application/gzip"),
+
+    /**
+     * A zip archive with deflated entries.
+     */
+    ZIP("zip", "application/zip");
+
+    private final String extension;
+    private final String mediaType;
+
+    DirectoryArchiveFormat(final String extension, final String mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    /**
+     * Parse the format from the file extension it is known by (e.g. {@literal tar.gz}). {@literal tgz} is accepted
+     * as an alias of {@link #TAR_GZ}.
+     *
+     * @param extension The extension, case insensitive
+     * @return The matching format or {@link Optional#empty()} if the extension is unknown
+     */
+    public static Optional<DirectoryArchiveFormat> fromExtension(@Nullable final String extension) {
+        if (extension == null) {
+            return Optional.empty();
+        }
+        final String normalized = extension.trim().toLowerCase(Locale.ROOT);
+        if ("tgz".equals(normalized)) {
+            return Optional.of(TAR_GZ);
+        }
+        for (final DirectoryArchiveFormat format : values()) {
+            if (format.extension.equals(normalized)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resource usage of the process tree of a job as sampled by its agent over one or more periods.
+ * <p>
+ * The RSS average is only meaningful together with the number of samples it was computed from so that usage reported
+ * over successive periods can be combined. CPU time and IO bytes are cumulative for the lifetime of the job.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Getter
+@AllArgsConstructor
+@EqualsAndHashCode(doNotUseGetters = true)
+@ToString(doNotUseGetters = true)
+public class JobResourceUsage {
+
+    private final long sampleCount;
+    private final long peakRssBytes;
+    private final long averageRssBytes;
+    private final long cpuTimeMillis;
+    private final long ioReadBytes;
+    private final long ioWriteBytes;
+    private final int peakThreadCount;
+
+    /**
+     * Combine this usage with usage sampled over a later period.
+     *
+     * @param later The usage sampled after this one
+     * @return The usage over both periods
+     */
+    public JobResourceUsage merge(final JobResourceUsage later) {
+        final long totalSamples = this.sampleCount + later.sampleCount;
+        final long average = totalSamples == 0
+            ? 0L
+            : (this.averageRssBytes * this.sampleCount + later.averageRssBytes * later.sampleCount) / totalSamples;
+        return new JobResourceUsage(
+            totalSamples,
+            Math.max(this.peakRssBytes, later.peakRssBytes),
+            average,
+            Math.max(this.cpuTimeMillis, later.cpuTimeMillis),
+            Math.max(this.ioReadBytes, later.ioReadBytes),
+            Math.max(this.ioWriteBytes, later.ioWriteBytes),
+            Math.max(this.peakThreadCount, later.peakThreadCount)
+        );
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.dtos;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import jakarta.annotation.Nullable;
+import java.util.Optional;
+
+/**
+ * The resources allocated to a job along with the fields used to attribute them to a user, a host and a submission
+ * mode, as of a given status of the job.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Getter
+@EqualsAndHashCode(doNotUseGetters = true)
+@ToString(doNotUseGetters = true)
+public class JobResources {
+    private final String user;
+    private final boolean api;
+    private final String agentHostname;
+    private final long memory;
+    private final long cpu;
+
+    /**
+     * Constructor.
+     *
+     * @param user          The user the job belongs to
+     * @param api           Whether the job was submitted via the API ({@literal true}) or the agent CLI
+     * @param agentHostname The hostname of the agent running the job or {@literal null} if it hasn't been claimed
+     * @param memory        The memory (in MB) allocated to the job. {@literal 0} if it hasn't been resolved
+     * @param cpu           The number of CPUs allocated to the job. {@literal 0} if it hasn't been resolved
+     */
+    public JobResources(
+        final String user,
+        final boolean api,
+        @Nullable final String agentHostname,
+        final long memory,
+        final long cpu
+    ) {
+        this.user = user;
+        this.api = api;
+        this.agentHostname = agentHostname;
+        this.memory = memory;
+        this.cpu = cpu;
+    }
+
+    /**
+     * Get the hostname of the agent running the job.
+     *
+     * @return The hostname or {@link Optional#empty()} if the job hasn't been claimed by an agent
+     */
+    public Optional<String> getAgentHostname() {
+        return Optional.ofNullable(this.agentHostname);
+    }
+}
@@ -18,11 +18,13 @@
 package com.netflix.genie.web.events;
 
 import com.netflix.genie.common.internal.dtos.JobStatus;
+import com.netflix.genie.web.dtos.JobResources;
 import lombok.Getter;
 import lombok.ToString;
 import org.springframework.context.ApplicationEvent;
 
 import jakarta.annotation.Nullable;
+import java.util.Optional;
 
 /**
  * Event representing a job status change.
@@ -36,6 +38,7 @@ public class JobStateChangeEvent extends ApplicationEvent {
     private final String jobId;
     private final JobStatus previousStatus;
     private final JobStatus newStatus;
+    private final JobResources resources;
 
     /**
      * Constructor.
@@ -50,10 +53,39 @@ public class JobStateChangeEvent extends ApplicationEvent {
         @Nullable final JobStatus previousStatus,
         final JobStatus newStatus,
         final Object source
+    ) {
+        this(jobId, previousStatus, newStatus, null, source);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param jobId          the job id
+     * @param previousStatus the previous status, or null if the job was just created
+     * @param newStatus      the status the job just transitioned to
+     * @param resources      the resources of the job as of the new status, or null if they weren't captured
+     * @param source         the event source
+     */
+    public JobStateChangeEvent(
+        final String jobId,
+        @Nullable final JobStatus previousStatus,
+        final JobStatus newStatus,
+        @Nullable final JobResources resources,
+        final Object source
     ) {
         super(source);
         this.jobId = jobId;
         this.previousStatus = previousStatus;
         this.newStatus = newStatus;
+        this.resources = resources;
+    }
+
+    /**
+     * Get the resources of the job as of the new status.
+     *
+     * @return the resources or {@link Optional#empty()} if they weren't captured with the status change
+     */
+    public Optional<JobResources> getResources() {
+        return Optional.ofNullable(this.resources);
     }
 }
@@ -0,0 +1,53 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * Properties for {@link com.netflix.genie.web.services.ActiveJobResourcesService}.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = ActiveJobResourcesProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class ActiveJobResourcesProperties {
+
+    /**
+     * The property prefix for the active job resources properties.
+     */
+    public static final String PROPERTY_PREFIX = "genie.jobs.active-resources";
+
+    /**
+     * How often the in-memory totals are rebuilt from the database. This bounds how long job status changes persisted
+     * by other nodes take to be reflected locally.
+     */
+    @NotNull
+    @DurationMin(seconds = 1)
+    private Duration reconcileInterval = Duration.ofSeconds(30);
+}
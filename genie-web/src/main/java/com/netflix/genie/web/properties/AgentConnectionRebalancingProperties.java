@@ -0,0 +1,100 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * Properties for {@link com.netflix.genie.web.agent.services.AgentConnectionRebalancingService}.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = AgentConnectionRebalancingProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class AgentConnectionRebalancingProperties {
+
+    /**
+     * The property prefix for this group.
+     */
+    public static final String PROPERTY_PREFIX = "genie.agent.connection-rebalancing";
+
+    /**
+     * The property key for whether this feature is enabled or not.
+     */
+    public static final String ENABLED_PROPERTY = PROPERTY_PREFIX + ".enabled";
+
+    /**
+     * Whether nodes holding more than their share of agent connections ask some agents to reconnect.
+     */
+    private boolean enabled;
+
+    /**
+     * How often the connection count of this node is published and compared to the rest of the cluster.
+     */
+    @NotNull
+    @DurationMin(seconds = 1)
+    private Duration interval = Duration.ofSeconds(30);
+
+    /**
+     * How far above the cluster average, as a fraction of the average, the connection count of this node has to be
+     * for it to start asking agents to reconnect.
+     */
+    @DecimalMin("0.0")
+    private double overloadedThreshold = 0.2;
+
+    /**
+     * How close to the cluster average, as a fraction of the average, the connection count of this node has to come
+     * back for it to stop asking agents to reconnect. Lower than {@link #overloadedThreshold} so a node doesn't flip
+     * between the two states.
+     */
+    @DecimalMin("0.0")
+    private double balancedThreshold = 0.05;
+
+    /**
+     * The smallest number of connections above the cluster average worth moving. Below it the node is considered
+     * balanced whatever the fractions above say, which keeps small clusters from churning.
+     */
+    @Min(1)
+    private int minimumExcess = 5;
+
+    /**
+     * The fraction of the connections above the balanced level which agents are asked to move at each interval.
+     */
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax("1.0")
+    private double reconnectFraction = 0.25;
+
+    /**
+     * The maximum number of agents asked to reconnect at each interval.
+     */
+    @Min(1)
+    private int maxReconnectsPerInterval = 20;
+}
@@ -0,0 +1,70 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * Properties related to caching application, cluster and command catalog reads made through the persistence service.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = CatalogCacheProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class CatalogCacheProperties {
+
+    /**
+     * The property prefix for all properties in this group.
+     */
+    public static final String PROPERTY_PREFIX = "genie.data.catalog-cache";
+
+    /**
+     * The property that determines if catalog caching is enabled.
+     */
+    public static final String ENABLED_PROPERTY = PROPERTY_PREFIX + ".enabled";
+
+    private boolean enabled = true;
+
+    /**
+     * The maximum number of entries held by each catalog cache.
+     */
+    @Min(1)
+    private long maximumSize = 10_000L;
+
+    /**
+     * How long an entry stays in a catalog cache after it was loaded, regardless of invalidation.
+     */
+    @NotNull
+    private Duration timeToLive = Duration.ofMinutes(10L);
+
+    /**
+     * How often each node checks the database for catalog changes made by other nodes.
+     */
+    @NotNull
+    private Duration refreshCheckInterval = Duration.ofSeconds(10L);
+}
@@ -18,7 +18,15 @@
 package com.netflix.genie.web.properties;
 
 import com.netflix.genie.web.scripts.ManagedScriptBaseProperties;
+import lombok.Getter;
+import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 
 /**
  * Properties for cluster selection via script.
@@ -27,6 +35,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * @since 4.0.0
  */
 @ConfigurationProperties(prefix = ClusterSelectorScriptProperties.PREFIX)
+@Getter
+@Setter
+@Validated
 public class ClusterSelectorScriptProperties extends ManagedScriptBaseProperties {
     /**
      * Prefix for this properties class.
@@ -41,4 +52,67 @@ public class ClusterSelectorScriptProperties extends ManagedScriptBaseProperties
      * Prefix for properties passed to the script (with the prefix stripped).
      */
     public static final String SCRIPT_PROPERTIES_PREFIX = "cluster-selector.";
+
+    @Valid
+    private Scoring scoring = new Scoring();
+
+    @Valid
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Properties for running the script in scoring mode, where each candidate cluster is scored by a separate
+     * evaluation of the script and the highest scoring cluster is selected.
+     *
+     * @author tgianos
+     * @since 4.4.0
+     */
+    @Validated
+    @Getter
+    @Setter
+    public static class Scoring {
+        /**
+         * Whether the script scores candidate clusters one by one instead of selecting one of them at once.
+         */
+        private boolean enabled;
+
+        /**
+         * How long a score is reused for the same script version, cluster and job criteria. Zero disables reuse.
+         */
+        @NotNull
+        private Duration cacheTimeToLive = Duration.ZERO;
+
+        /**
+         * The maximum number of scores kept for reuse.
+         */
+        @Min(1)
+        private long cacheMaximumSize = 10_000L;
+    }
+
+    /**
+     * Properties for bypassing the script, in favor of a random selection, after it failed repeatedly.
+     *
+     * @author tgianos
+     * @since 4.4.0
+     */
+    @Validated
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        /**
+         * Whether the script is bypassed after consecutive failures.
+         */
+        private boolean enabled;
+
+        /**
+         * The number of consecutive failures after which the script is bypassed.
+         */
+        @Min(1)
+        private int failureThreshold = 5;
+
+        /**
+         * How long the script is bypassed before it is given another chance.
+         */
+        @NotNull
+        private Duration openDuration = Duration.ofSeconds(30);
+    }
 }
@@ -112,6 +112,13 @@ public class DatabaseCleanupProperties {
     @NotNull
     private JobDatabaseCleanupProperties jobCleanup = new JobDatabaseCleanupProperties();
 
+    /**
+     * Properties related to cleaning up job status history records from the database.
+     */
+    @NotNull
+    private JobStatusHistoryDatabaseCleanupProperties jobStatusHistoryCleanup
+        = new JobStatusHistoryDatabaseCleanupProperties();
+
     /**
      * Properties related to cleaning up tag records from the database.
      */
@@ -348,6 +355,44 @@ public class DatabaseCleanupProperties {
         private int pageSize = 1_000;
     }
 
+    /**
+     * Properties related to cleaning up job status history records from the database.
+     *
+     * @author tgianos
+     * @since 4.4.0
+     */
+    @Getter
+    @Setter
+    public static class JobStatusHistoryDatabaseCleanupProperties {
+
+        /**
+         * The prefix for all properties related to cleaning up job status history records from the database.
+         */
+        public static final String JOB_STATUS_HISTORY_CLEANUP_PROPERTY_PREFIX
+            = DatabaseCleanupProperties.PROPERTY_PREFIX + ".job-status-history-cleanup";
+
+        /**
+         * Skip the Job Status History table when performing database cleanup.
+         */
+        public static final String SKIP_PROPERTY = JOB_STATUS_HISTORY_CLEANUP_PROPERTY_PREFIX + ".skip";
+
+        /**
+         * The number of days to retain job status history records in the database.
+         */
+        public static final String RETENTION_PROPERTY = JOB_STATUS_HISTORY_CLEANUP_PROPERTY_PREFIX + ".retention";
+
+        /**
+         * Skip the Job Status History table when performing database cleanup.
+         */
+        private boolean skip;
+
+        /**
+         * The number of days to retain job status history records in the database.
+         */
+        @Min(1)
+        private int retention = 90;
+    }
+
     /**
      * Properties related to cleaning up tag records from the database.
      *
@@ -20,8 +20,19 @@ package com.netflix.genie.web.properties;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.annotation.Nullable;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Properties related to Genie's gRPC server functionality.
  *
@@ -45,4 +56,107 @@ public class GRpcServerProperties {
     public static final String ENABLED_PROPERTY = PROPERTY_PREFIX + ".enabled";
 
     private boolean enabled;
+
+    /**
+     * The HTTP/2 flow control window of each stream. A larger window lets bulk transfers make progress without waiting
+     * for the receiver to acknowledge every few chunks.
+     */
+    @NotNull
+    private DataSize flowControlWindow = DataSize.ofMegabytes(1L);
+
+    /**
+     * The largest message the server accepts from an agent.
+     */
+    @NotNull
+    private DataSize maxInboundMessageSize = DataSize.ofMegabytes(4L);
+
+    /**
+     * The maximum number of calls an agent can have open at once over a single connection.
+     */
+    @Min(1)
+    private int maxConcurrentCallsPerConnection = Integer.MAX_VALUE;
+
+    /**
+     * How long a connection is idle before the server pings the agent to check it is still there.
+     */
+    @NotNull
+    private Duration keepAliveTime = Duration.ofHours(2L);
+
+    /**
+     * How long the server waits for a ping to be acknowledged before closing the connection.
+     */
+    @NotNull
+    private Duration keepAliveTimeout = Duration.ofSeconds(20L);
+
+    /**
+     * The most frequently an agent is allowed to ping the server. Agents pinging more often are disconnected.
+     */
+    @NotNull
+    private Duration permitKeepAliveTime = Duration.ofMinutes(5L);
+
+    /**
+     * Whether agents are allowed to ping the server while they have no calls open.
+     */
+    private boolean permitKeepAliveWithoutCalls;
+
+    /**
+     * How long a connection may have no calls open before the server closes it. No limit if not set.
+     */
+    @Nullable
+    private Duration maxConnectionIdle;
+
+    /**
+     * Isolation of individual gRPC services keyed by the simple name of the service e.g. {@literal FileStreamService}.
+     * Services not present share the default executor and have no in-flight limit.
+     */
+    @NotNull
+    private Map<String, @Valid ServiceIsolation> serviceIsolation = new HashMap<>();
+
+    /**
+     * Get the isolation settings of the given service.
+     *
+     * @param serviceName The simple name of the gRPC service e.g. {@literal FileStreamService}
+     * @return The settings of the service or defaults if it isn't configured
+     */
+    public ServiceIsolation getServiceIsolation(final String serviceName) {
+        for (final Map.Entry<String, ServiceIsolation> entry : this.serviceIsolation.entrySet()) {
+            // Keys bound from environment variables are lower case
+            if (entry.getKey().toLowerCase(Locale.ROOT).equals(serviceName.toLowerCase(Locale.ROOT))) {
+                return entry.getValue();
+            }
+        }
+        return new ServiceIsolation();
+    }
+
+    /**
+     * Properties isolating the calls of a single gRPC service from the others so that, for example, bulk file
+     * transfers can't delay heartbeats.
+     *
+     * @author tgianos
+     * @since 4.4.0
+     */
+    @Validated
+    @Getter
+    @Setter
+    public static class ServiceIsolation {
+        /**
+         * The number of threads dedicated to the calls of the service. 0 shares the default executor.
+         */
+        @Min(0)
+        private int threads;
+
+        /**
+         * The priority of the dedicated threads.
+         */
+        @Min(Thread.MIN_PRIORITY)
+        @Max(Thread.MAX_PRIORITY)
+        private int threadPriority = Thread.NORM_PRIORITY;
+
+        /**
+         * The maximum number of calls of the service in flight on this node. For streaming calls this is the number
+         * of open streams. Calls beyond it are rejected with {@literal RESOURCE_EXHAUSTED}. 0 disables the limit.
+         */
+        @Min(0)
+        private int maxInFlightCalls;
+    }
 }
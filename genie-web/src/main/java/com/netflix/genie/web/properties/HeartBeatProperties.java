@@ -43,4 +43,6 @@ public class HeartBeatProperties {
 
     private Duration sendInterval = Duration.ofSeconds(5);
 
+    private Duration resourceUsagePersistInterval = Duration.ofMinutes(1);
+
 }
@@ -0,0 +1,73 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Properties controlling how ids are generated for jobs and resources which weren't given one by the client.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = IdGenerationProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class IdGenerationProperties {
+
+    /**
+     * The property prefix for all properties in this group.
+     */
+    public static final String PROPERTY_PREFIX = "genie.data.ids";
+
+    /**
+     * How ids are generated for jobs.
+     */
+    @NotNull
+    private Strategy jobs = Strategy.TIME_ORDERED;
+
+    /**
+     * How ids are generated for applications, clusters and commands.
+     */
+    @NotNull
+    private Strategy resources = Strategy.RANDOM;
+
+    /**
+     * The available id generation strategies.
+     *
+     * @author tgianos
+     * @since 4.4.0
+     */
+    public enum Strategy {
+        /**
+         * Random (version 4) UUIDs.
+         */
+        RANDOM,
+
+        /**
+         * Time ordered (version 7) UUIDs.
+         */
+        TIME_ORDERED
+    }
+}
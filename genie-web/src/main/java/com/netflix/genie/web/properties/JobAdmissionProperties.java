@@ -0,0 +1,116 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Properties for {@link com.netflix.genie.web.services.JobAdmissionService}.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = JobAdmissionProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class JobAdmissionProperties {
+
+    /**
+     * The property prefix for the job admission properties.
+     */
+    public static final String PROPERTY_PREFIX = "genie.jobs.admission";
+
+    /**
+     * The property key for whether this feature is enabled or not.
+     */
+    public static final String ENABLED_PROPERTY = PROPERTY_PREFIX + ".enabled";
+
+    /**
+     * Whether jobs submitted by a user at their active jobs limit are queued instead of rejected.
+     */
+    private boolean enabled;
+
+    /**
+     * The maximum number of jobs queued on this node across all users. Submissions beyond it are rejected and no jobs
+     * are taken over from other nodes.
+     */
+    @Min(0)
+    private int maxQueuedJobs = 10_000;
+
+    /**
+     * The maximum number of jobs queued on this node for a single user. Submissions beyond it are rejected.
+     */
+    @Min(0)
+    private int maxQueuedJobsPerUser = 1_000;
+
+    /**
+     * The number of submissions per second a single user is allowed to sustain on this node. 0 disables the limit.
+     */
+    @PositiveOrZero
+    private double submissionRate;
+
+    /**
+     * The number of submissions a single user is allowed to make in a burst above {@link #submissionRate}.
+     */
+    @Min(1)
+    private int submissionBurst = 10;
+
+    /**
+     * How often queued jobs are considered for launch in addition to whenever a job finishes.
+     */
+    @NotNull
+    @DurationMin(seconds = 1)
+    private Duration dispatchInterval = Duration.ofSeconds(5);
+
+    /**
+     * How long the jobs queued on a node stay with it without being renewed. Queued jobs are renewed on every
+     * {@link #dispatchInterval} so this has to be a good deal longer. Once it lapses, e.g. because the node went away,
+     * any node takes the jobs over.
+     */
+    @NotNull
+    @DurationMin(seconds = 10)
+    private Duration queueLeaseDuration = Duration.ofMinutes(1);
+
+    /**
+     * The share of launches given to a user relative to other users with queued jobs. Users not present default to 1.
+     */
+    @NotNull
+    private Map<String, @Min(1) Integer> userWeights = new HashMap<>();
+
+    /**
+     * Get the weight of the given user.
+     *
+     * @param user The user name
+     * @return The weight of the user, 1 unless configured otherwise
+     */
+    public int getUserWeight(final String user) {
+        return this.userWeights.getOrDefault(user, 1);
+    }
+}
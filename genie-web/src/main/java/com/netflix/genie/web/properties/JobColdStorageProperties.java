@@ -0,0 +1,106 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Properties controlling the cold storage tier for finished jobs and the leadership task which moves jobs into it.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = JobColdStorageProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class JobColdStorageProperties {
+
+    /**
+     * The property prefix for job cold storage related properties.
+     */
+    public static final String PROPERTY_PREFIX = "genie.tasks.job-cold-storage";
+
+    /**
+     * The property key for whether this feature is enabled or not.
+     */
+    public static final String ENABLED_PROPERTY = PROPERTY_PREFIX + ".enabled";
+
+    /**
+     * The cron expression for when the cold storage export task should occur.
+     */
+    public static final String EXPRESSION_PROPERTY = PROPERTY_PREFIX + ".expression";
+
+    /**
+     * The number of days after creation a finished job is moved to cold storage.
+     */
+    public static final String AGE_PROPERTY = PROPERTY_PREFIX + ".age";
+
+    /**
+     * The number of days after creation a job is deleted from cold storage.
+     */
+    public static final String RETENTION_PROPERTY = PROPERTY_PREFIX + ".retention";
+
+    /**
+     * Whether finished jobs are moved to cold storage and job lookups fall through to it.
+     */
+    private boolean enabled;
+
+    /**
+     * The cron expression for when the cold storage export task should occur.
+     */
+    @NotBlank
+    private String expression = "0 0 1 * * *";
+
+    /**
+     * The directory the cold storage segments are written to. Every node serving the API must be able to read it so
+     * in a cluster this is expected to be a shared mount.
+     */
+    @NotBlank
+    private String location = "/tmp/genie/cold-storage/jobs/";
+
+    /**
+     * The number of days after creation a finished job is moved to cold storage.
+     */
+    @Min(1)
+    private int age = 30;
+
+    /**
+     * The number of days after creation a job is deleted from cold storage. {@literal 0} keeps jobs forever.
+     */
+    @Min(0)
+    private int retention = 365;
+
+    /**
+     * The maximum number of jobs written to a single cold storage segment.
+     */
+    @Min(1)
+    private int batchSize = 10_000;
+
+    /**
+     * How long, in milliseconds, the index of the cold storage segments is cached before the location is listed again.
+     */
+    @Min(0)
+    private long indexRefreshInterval = 60_000L;
+}
@@ -0,0 +1,88 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * Properties for downloading a job directory, or a subtree of it, as a single archive generated on the fly.
+ * <p>
+ * Each download buffers at most {@code prefetchChunks} (or {@code agentPrefetchChunks}) chunks of {@code chunkSize}
+ * bytes so memory use is bounded by these values times {@code maxConcurrentDownloads}.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = JobDirectoryArchiveDownloadProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class JobDirectoryArchiveDownloadProperties {
+
+    /**
+     * The property prefix for all properties in this group.
+     */
+    public static final String PROPERTY_PREFIX = "genie.jobs.files.archive-download";
+
+    /**
+     * The size of the ranges files are fetched in. Files larger than 2GB are streamed in one piece instead.
+     */
+    @NotNull
+    private DataSize chunkSize = DataSize.ofMegabytes(4);
+
+    /**
+     * How many chunks of an archived job directory are fetched ahead of the one being written.
+     */
+    @Min(1)
+    private int prefetchChunks = 8;
+
+    /**
+     * How many chunks are fetched ahead of the one being written when the files are streamed from the agent of a
+     * running job. Each one uses an agent file transfer.
+     */
+    @Min(1)
+    private int agentPrefetchChunks = 2;
+
+    /**
+     * How many archive downloads this node serves at once. Further requests are rejected as unavailable.
+     */
+    @Min(1)
+    private int maxConcurrentDownloads = 4;
+
+    /**
+     * The number of threads shared by all downloads to fetch chunks on.
+     */
+    @Min(1)
+    private int fetchThreads = 16;
+
+    /**
+     * How long to wait for a chunk to be fetched before the download is aborted.
+     */
+    @NotNull
+    @DurationMin(seconds = 1)
+    private Duration fetchTimeout = Duration.ofMinutes(2);
+}
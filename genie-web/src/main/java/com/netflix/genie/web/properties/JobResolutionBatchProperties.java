@@ -0,0 +1,63 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Properties related to resolving batches of job requests without saving them, for example to validate many job
+ * definitions at once.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = JobResolutionBatchProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class JobResolutionBatchProperties {
+
+    /**
+     * The property prefix for this group.
+     */
+    public static final String PROPERTY_PREFIX = "genie.services.resolution.batch";
+
+    /**
+     * The maximum number of job requests accepted in a single batch.
+     */
+    @Min(1)
+    private int maxRequests = 1_000;
+
+    /**
+     * The number of threads resolving the requests of batches in parallel. Shared by all batches on a node.
+     */
+    @Min(1)
+    private int threads = 4;
+
+    /**
+     * The name prefix to apply to threads resolving batches.
+     */
+    @NotBlank(message = "A thread prefix name is required")
+    private String threadNamePrefix = "genie-job-resolution-";
+}
@@ -0,0 +1,81 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Properties controlling the partitioned storage of the jobs table and the leadership task which maintains it.
+ * <p>
+ * Partitioned storage requires the operator to convert the jobs table to range partitions on the {@code created}
+ * column ahead of time. When enabled, job retention is enforced by dropping whole partitions instead of deleting
+ * jobs in batches as part of the database cleanup task.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = JobsPartitioningProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class JobsPartitioningProperties {
+
+    /**
+     * The property prefix for jobs partitioning related properties.
+     */
+    public static final String PROPERTY_PREFIX = "genie.tasks.jobs-partitioning";
+
+    /**
+     * The property key for whether this feature is enabled or not.
+     */
+    public static final String ENABLED_PROPERTY = PROPERTY_PREFIX + ".enabled";
+
+    /**
+     * The cron expression for when the partition maintenance task should occur.
+     */
+    public static final String EXPRESSION_PROPERTY = PROPERTY_PREFIX + ".expression";
+
+    /**
+     * Whether the jobs table is stored in partitions maintained by this feature.
+     */
+    private boolean enabled;
+
+    /**
+     * The cron expression for when the partition maintenance task should occur.
+     */
+    @NotBlank
+    private String expression = "0 30 0 * * *";
+
+    /**
+     * The range of job creation times, in days, covered by each new partition.
+     */
+    @Min(1)
+    private int partitionWidthDays = 7;
+
+    /**
+     * The number of partitions to keep created ahead of the current time so inserts never run out of partitions.
+     */
+    @Min(1)
+    private int partitionsAhead = 4;
+}
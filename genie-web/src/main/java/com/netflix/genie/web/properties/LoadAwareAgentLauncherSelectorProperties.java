@@ -0,0 +1,90 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * Properties for the {@link com.netflix.genie.web.selectors.impl.LoadAwareAgentLauncherSelectorImpl}.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = LoadAwareAgentLauncherSelectorProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class LoadAwareAgentLauncherSelectorProperties {
+
+    /**
+     * The property prefix for all properties in this group.
+     */
+    public static final String PROPERTY_PREFIX = "genie.agent.launcher.selector.load-aware";
+
+    /**
+     * The property that determines if the load-aware selector is used when no selector script is configured.
+     */
+    public static final String ENABLED_PROPERTY = PROPERTY_PREFIX + ".enabled";
+
+    private boolean enabled;
+
+    /**
+     * How long the health reported by a launcher is reused before asking it again.
+     */
+    @NotNull
+    @DurationMin(millis = 0)
+    private Duration healthTtl = Duration.ofSeconds(2);
+
+    /**
+     * How to pick among the launchers able to take the job.
+     */
+    @NotNull
+    private Strategy strategy = Strategy.POWER_OF_TWO_CHOICES;
+
+    /**
+     * The load, between 0 and 1, assumed for launchers whose health carries no capacity details (e.g. Titus).
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double unknownLoad = 0.5;
+
+    /**
+     * The ways to pick a launcher once their load is known.
+     */
+    public enum Strategy {
+        /**
+         * Compare two launchers picked at random and keep the less loaded one. Spreads jobs even when several
+         * nodes select off the same slightly stale view of the launchers.
+         */
+        POWER_OF_TWO_CHOICES,
+
+        /**
+         * Pick the least loaded launcher, breaking ties at random.
+         */
+        LEAST_LOADED
+    }
+}
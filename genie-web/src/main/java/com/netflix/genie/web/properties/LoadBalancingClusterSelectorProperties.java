@@ -0,0 +1,95 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.validator.constraints.time.DurationMin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * Properties for the {@link com.netflix.genie.web.selectors.impl.LoadBalancingClusterSelectorImpl} and the
+ * {@link com.netflix.genie.web.services.ClusterLoadService} it relies on.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = LoadBalancingClusterSelectorProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class LoadBalancingClusterSelectorProperties {
+
+    /**
+     * The property prefix for all properties in this group.
+     */
+    public static final String PROPERTY_PREFIX = "genie.jobs.clusters.selectors.load-balancing";
+
+    /**
+     * The property that determines if the cluster load is tracked and the load-balancing selector is used.
+     */
+    public static final String ENABLED_PROPERTY = PROPERTY_PREFIX + ".enabled";
+
+    private boolean enabled;
+
+    /**
+     * How often the cluster load is rebuilt from the database. This bounds how long jobs sent to a cluster by other
+     * nodes take to be reflected locally.
+     */
+    @NotNull
+    @DurationMin(seconds = 1)
+    private Duration refreshInterval = Duration.ofSeconds(10);
+
+    /**
+     * The weight of each running job in the load of a cluster.
+     */
+    @DecimalMin("0.0")
+    private double runningJobsWeight = 1.0;
+
+    /**
+     * The weight of each queued job in the load of a cluster.
+     */
+    @DecimalMin("0.0")
+    private double queuedJobsWeight = 1.0;
+
+    /**
+     * The weight of each GB of memory requested by the running and queued jobs in the load of a cluster. Disabled by
+     * default as job counts are a good enough proxy when jobs request similar amounts of memory.
+     */
+    @DecimalMin("0.0")
+    private double memoryWeight;
+
+    /**
+     * How much more loaded, relative to the least loaded candidate, the cluster previously selected for the same
+     * candidates can be before jobs are sent elsewhere. Keeps jobs from flapping between clusters of similar load.
+     */
+    @DecimalMin("0.0")
+    private double stickiness = 0.1;
+
+    /**
+     * How long the cluster previously selected for a set of candidates is remembered.
+     */
+    @NotNull
+    @DurationMin(seconds = 0)
+    private Duration stickinessTtl = Duration.ofMinutes(10);
+}
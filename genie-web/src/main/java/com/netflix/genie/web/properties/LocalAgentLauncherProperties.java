@@ -121,6 +121,18 @@ public class LocalAgentLauncherProperties {
     @Min(value = 1L, message = "The minimum value is 1MB but the value should likely be set much higher")
     private long maxTotalJobMemory = 30_720L;
 
+    /**
+     * The total number of CPUs that can be allocated to jobs launched on this host. 0 disables the check.
+     */
+    @Min(value = 0L, message = "The minimum value is 0 which disables the check")
+    private long maxTotalJobCpu;
+
+    /**
+     * The total number of jobs that can be active on this host at the same time. 0 disables the check.
+     */
+    @Min(value = 0L, message = "The minimum value is 0 which disables the check")
+    private long maxTotalJobs;
+
     /**
      * Launch agent as the user in the job request (launches as the server user if false).
      */
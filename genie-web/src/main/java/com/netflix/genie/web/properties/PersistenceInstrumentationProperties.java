@@ -0,0 +1,66 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+
+/**
+ * Properties related to instrumenting the database work done by persistence service methods and API endpoints.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@ConfigurationProperties(prefix = PersistenceInstrumentationProperties.PROPERTY_PREFIX)
+@Getter
+@Setter
+@Validated
+public class PersistenceInstrumentationProperties {
+
+    /**
+     * The property prefix for all properties in this group.
+     */
+    public static final String PROPERTY_PREFIX = "genie.data.instrumentation";
+
+    /**
+     * The property that determines if persistence instrumentation is enabled.
+     */
+    public static final String ENABLED_PROPERTY = PROPERTY_PREFIX + ".enabled";
+
+    private boolean enabled;
+
+    /**
+     * The execution time at or above which a statement is considered slow and may be logged.
+     */
+    @NotNull
+    private Duration slowStatementThreshold = Duration.ofSeconds(1L);
+
+    /**
+     * The fraction of operations with a slow statement for which the statement is logged.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double slowStatementLogSampleRate = 0.1;
+}
@@ -34,4 +34,12 @@ public class ScriptManagerProperties {
      */
     public static final String PREFIX = "genie.scripts-manager";
     private long refreshInterval = 300_000L;
+    /**
+     * The maximum number of script evaluations running at the same time.
+     */
+    private int maxThreads = 64;
+    /**
+     * The maximum number of script evaluations waiting for a thread before new ones are rejected.
+     */
+    private int queueCapacity = 1_000;
 }
@@ -48,4 +48,9 @@ public class ZookeeperProperties {
      * The base Zookeeper node path for discovery.
      */
     private String discoveryPath = "/genie/agents/";
+
+    /**
+     * The base Zookeeper node path under which each node publishes the number of agents connected to it.
+     */
+    private String agentConnectionCountsPath = "/genie/agentConnectionCounts/";
 }
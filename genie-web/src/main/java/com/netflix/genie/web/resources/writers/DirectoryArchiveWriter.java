@@ -0,0 +1,353 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.resources.writers;
+
+import com.netflix.genie.web.dtos.DirectoryArchiveFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes the entries of a directory tree to an archive as they are produced so that the archive can be streamed
+ * without ever being buffered as a whole. Files are added with {@link #putFile(String, long, Instant)}, followed by
+ * exactly as many bytes as declared and then {@link #closeEntry()}. {@link #finish()} completes the archive but never
+ * closes the underlying stream.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public abstract class DirectoryArchiveWriter {
+
+    private String currentEntry;
+    private long remaining;
+
+    /**
+     * Create a writer producing the given format.
+     *
+     * @param format The {@link DirectoryArchiveFormat} to write
+     * @param out    The stream to write the archive to
+     * @return A new writer
+     * @throws IOException On error writing the stream header
+     */
+    public static DirectoryArchiveWriter create(
+        final DirectoryArchiveFormat format,
+        final OutputStream out
+    ) throws IOException {
+        switch (format) {
+            case TAR:
+                return new TarWriter(out, null);
+            case TAR_GZ:
+                final GZIPOutputStream gzip = new GZIPOutputStream(out, TarWriter.BLOCK_SIZE * 16);
+                return new TarWriter(gzip, gzip);
+            case ZIP:
+                return new ZipWriter(out);
+            default:
+                throw new IllegalArgumentException("Unsupported archive format " + format);
+        }
+    }
+
+    /**
+     * Add an empty directory entry.
+     *
+     * @param name         The path of the directory within the archive
+     * @param lastModified When the directory was last modified
+     * @throws IOException On error writing the entry
+     */
+    public void putDirectory(final String name, final Instant lastModified) throws IOException {
+        this.checkNoOpenEntry();
+        this.writeDirectory(name.endsWith("/") ? name : name + "/", lastModified);
+    }
+
+    /**
+     * Start a file entry. The content must be written next.
+     *
+     * @param name         The path of the file within the archive
+     * @param size         The exact number of bytes that will be written for the file
+     * @param lastModified When the file was last modified
+     * @throws IOException On error writing the entry
+     */
+    public void putFile(final String name, final long size, final Instant lastModified) throws IOException {
+        this.checkNoOpenEntry();
+        if (size < 0) {
+            throw new IllegalArgumentException("Negative size " + size + " for " + name);
+        }
+        this.startFile(name, size, lastModified);
+        this.currentEntry = name;
+        this.remaining = size;
+    }
+
+    /**
+     * Write content of the current file entry.
+     *
+     * @param b   The buffer
+     * @param off The offset of the content in the buffer
+     * @param len The number of bytes to write
+     * @throws IOException If no file entry is open, it would exceed the declared size or on write error
+     */
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (this.currentEntry == null) {
+            throw new IOException("No open archive entry");
+        }
+        if (len > this.remaining) {
+            throw new IOException("Content of " + this.currentEntry + " exceeds its declared size");
+        }
+        this.writeContent(b, off, len);
+        this.remaining -= len;
+    }
+
+    /**
+     * Complete the current file entry.
+     *
+     * @throws IOException If fewer bytes than declared were written or on write error
+     */
+    public void closeEntry() throws IOException {
+        if (this.currentEntry == null) {
+            throw new IOException("No open archive entry");
+        }
+        if (this.remaining != 0) {
+            throw new IOException(
+                "Content of " + this.currentEntry + " is " + this.remaining + " bytes shorter than its declared size"
+            );
+        }
+        this.endFile();
+        this.currentEntry = null;
+    }
+
+    /**
+     * Write the end of the archive and flush it. The underlying stream is left open.
+     *
+     * @throws IOException If a file entry is still open or on write error
+     */
+    public void finish() throws IOException {
+        this.checkNoOpenEntry();
+        this.writeEnd();
+    }
+
+    abstract void writeDirectory(String name, Instant lastModified) throws IOException;
+
+    abstract void startFile(String name, long size, Instant lastModified) throws IOException;
+
+    abstract void writeContent(byte[] b, int off, int len) throws IOException;
+
+    abstract void endFile() throws IOException;
+
+    abstract void writeEnd() throws IOException;
+
+    private void checkNoOpenEntry() throws IOException {
+        if (this.currentEntry != null) {
+            throw new IOException("Archive entry " + this.currentEntry + " was not closed");
+        }
+    }
+
+    /**
+     * Writes POSIX.1-2001 (pax) tar archives. Plain ustar headers are used unless a name or size doesn't fit in them.
+     */
+    private static final class TarWriter extends DirectoryArchiveWriter {
+
+        static final int BLOCK_SIZE = 512;
+        private static final long MAX_USTAR_SIZE = 077777777777L;
+        private static final int NAME_LENGTH = 100;
+        private static final byte FILE_TYPE = '0';
+        private static final byte DIRECTORY_TYPE = '5';
+        private static final byte PAX_TYPE = 'x';
+
+        private final OutputStream out;
+        private final GZIPOutputStream gzip;
+        private long entryLength;
+
+        TarWriter(final OutputStream out, final GZIPOutputStream gzip) {
+            this.out = out;
+            this.gzip = gzip;
+        }
+
+        @Override
+        void writeDirectory(final String name, final Instant lastModified) throws IOException {
+            this.writeHeader(name, 0L, lastModified, DIRECTORY_TYPE, "0000755");
+        }
+
+        @Override
+        void startFile(final String name, final long size, final Instant lastModified) throws IOException {
+            this.writeHeader(name, size, lastModified, FILE_TYPE, "0000644");
+            this.entryLength = size;
+        }
+
+        @Override
+        void writeContent(final byte[] b, final int off, final int len) throws IOException {
+            this.out.write(b, off, len);
+        }
+
+        @Override
+        void endFile() throws IOException {
+            this.pad(this.entryLength);
+        }
+
+        @Override
+        void writeEnd() throws IOException {
+            // Two empty blocks mark the end of a tar archive
+            this.out.write(new byte[BLOCK_SIZE * 2]);
+            if (this.gzip != null) {
+                this.gzip.finish();
+            }
+            this.out.flush();
+        }
+
+        private void writeHeader(
+            final String name,
+            final long size,
+            final Instant lastModified,
+            final byte type,
+            final String mode
+        ) throws IOException {
+            final byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            final boolean longName = nameBytes.length > NAME_LENGTH || nameBytes.length != name.length();
+            final boolean largeSize = size > MAX_USTAR_SIZE;
+            final long mtime = Math.max(0L, lastModified.getEpochSecond());
+
+            if (longName || largeSize) {
+                final StringBuilder records = new StringBuilder();
+                if (longName) {
+                    records.append(paxRecord("path", name));
+                }
+                if (largeSize) {
+                    records.append(paxRecord("size", Long.toString(size)));
+                }
+                final byte[] paxBytes = records.toString().getBytes(StandardCharsets.UTF_8);
+                this.out.write(
+                    header(asciiName("PaxHeaders/" + name), paxBytes.length, mtime, PAX_TYPE, "0000644")
+                );
+                this.out.write(paxBytes);
+                this.pad(paxBytes.length);
+            }
+
+            this.out.write(header(longName ? asciiName(name) : nameBytes, largeSize ? 0L : size, mtime, type, mode));
+        }
+
+        private void pad(final long length) throws IOException {
+            final int remainder = (int) (length % BLOCK_SIZE);
+            if (remainder != 0) {
+                this.out.write(new byte[BLOCK_SIZE - remainder]);
+            }
+        }
+
+        private static byte[] header(
+            final byte[] name,
+            final long size,
+            final long mtime,
+            final byte type,
+            final String mode
+        ) {
+            final byte[] header = new byte[BLOCK_SIZE];
+            System.arraycopy(name, 0, header, 0, Math.min(name.length, NAME_LENGTH));
+            putAscii(header, 100, mode);
+            putAscii(header, 108, "0000000");
+            putAscii(header, 116, "0000000");
+            putAscii(header, 124, String.format("%011o", size));
+            putAscii(header, 136, String.format("%011o", mtime));
+            header[156] = type;
+            putAscii(header, 257, "ustar");
+            putAscii(header, 263, "00");
+
+            // The checksum is computed with the checksum field itself filled with spaces
+            putAscii(header, 148, "        ");
+            long checksum = 0;
+            for (final byte b : header) {
+                checksum += b & 0xFF;
+            }
+            putAscii(header, 148, String.format("%06o", checksum));
+            header[154] = 0;
+            return header;
+        }
+
+        private static void putAscii(final byte[] header, final int offset, final String value) {
+            final byte[] bytes = value.getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(bytes, 0, header, offset, bytes.length);
+        }
+
+        /**
+         * The name put in the ustar header when the real one is carried by a pax record. Readers without pax support
+         * still get something recognizable.
+         */
+        private static byte[] asciiName(final String name) {
+            final String ascii = name.replaceAll("[^\\x20-\\x7E]", "_");
+            return ascii.substring(Math.max(0, ascii.length() - NAME_LENGTH)).getBytes(StandardCharsets.US_ASCII);
+        }
+
+        /**
+         * A pax record is {@literal "<length> <key>=<value>\n"} where the length is in bytes and counts itself.
+         */
+        private static String paxRecord(final String key, final String value) {
+            final int baseLength = key.length() + value.getBytes(StandardCharsets.UTF_8).length + 3;
+            int length = baseLength + Integer.toString(baseLength).length();
+            if (Integer.toString(length).length() + baseLength != length) {
+                length = baseLength + Integer.toString(length).length();
+            }
+            return length + " " + key + "=" + value + "\n";
+        }
+    }
+
+    /**
+     * Writes zip archives with deflated entries. Zip64 extensions are added by the JDK when sizes require them.
+     */
+    private static final class ZipWriter extends DirectoryArchiveWriter {
+
+        private final ZipOutputStream zip;
+
+        ZipWriter(final OutputStream out) {
+            this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        void writeDirectory(final String name, final Instant lastModified) throws IOException {
+            this.zip.putNextEntry(entry(name, lastModified));
+            this.zip.closeEntry();
+        }
+
+        @Override
+        void startFile(final String name, final long size, final Instant lastModified) throws IOException {
+            this.zip.putNextEntry(entry(name, lastModified));
+        }
+
+        @Override
+        void writeContent(final byte[] b, final int off, final int len) throws IOException {
+            this.zip.write(b, off, len);
+        }
+
+        @Override
+        void endFile() throws IOException {
+            this.zip.closeEntry();
+        }
+
+        @Override
+        void writeEnd() throws IOException {
+            this.zip.finish();
+            this.zip.flush();
+        }
+
+        private static ZipEntry entry(final String name, final Instant lastModified) {
+            final ZipEntry entry = new ZipEntry(name);
+            entry.setLastModifiedTime(FileTime.from(lastModified));
+            return entry;
+        }
+    }
+}
@@ -17,16 +17,32 @@
  */
 package com.netflix.genie.web.scripts;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.netflix.genie.common.internal.dtos.Cluster;
+import com.netflix.genie.common.internal.dtos.Command;
+import com.netflix.genie.common.internal.dtos.ExecutionResourceCriteria;
 import com.netflix.genie.common.internal.util.PropertiesMapCache;
+import com.netflix.genie.web.dtos.ClusterLoad;
 import com.netflix.genie.web.exceptions.checked.ResourceSelectionException;
+import com.netflix.genie.web.exceptions.checked.ScriptExecutionException;
+import com.netflix.genie.web.exceptions.checked.ScriptNotConfiguredException;
 import com.netflix.genie.web.properties.ClusterSelectorScriptProperties;
 import com.netflix.genie.web.selectors.ClusterSelectionContext;
 import com.netflix.genie.web.selectors.ClusterSelector;
+import com.netflix.genie.web.services.ClusterLoadService;
 import io.micrometer.core.instrument.MeterRegistry;
+import lombok.EqualsAndHashCode;
 import lombok.extern.slf4j.Slf4j;
 
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
 
 /**
  * Extension of {@link ResourceSelectorScript} that delegates selection of a job's cluster when more than one choice is
@@ -36,6 +52,16 @@ import java.util.Map;
  * {@code clusters} and {@code jobRequest} which will be a {@code Set} of {@link Cluster} instances
  * matching the cluster criteria and the job request that kicked off this evaluation respectively. The code expects the
  * script to return a {@link ResourceSelectorScriptResult} instance.
+ * <p>
+ * When a {@link ClusterLoadService} is available the script is also supplied the global variable
+ * {@code clusterLoadsParameter}, a {@code Map} of the current {@link ClusterLoad} of each candidate keyed on cluster
+ * id, so it can weigh the running jobs, queued jobs and requested memory of each cluster in its decision.
+ * <p>
+ * When scoring is enabled the script is instead evaluated once per candidate, concurrently, with the additional
+ * global variable {@code clusterParameter} holding the {@link Cluster} to score. The code expects each evaluation to
+ * return a {@link Number}, the highest of which wins, or {@literal null} to rule the cluster out. Scores can be reused
+ * for a while as long as the script version, the cluster and the job request criteria, user and command are the same,
+ * so scripts whose score depends on anything else, including the cluster load, should leave that reuse disabled.
  *
  * @author mprimi
  * @since 4.0.0
@@ -44,22 +70,45 @@ import java.util.Map;
 public class ClusterSelectorManagedScript extends ResourceSelectorScript<Cluster, ClusterSelectionContext> {
 
     static final String CLUSTERS_BINDING = "clustersParameter";
+    static final String CLUSTER_BINDING = "clusterParameter";
+    static final String CLUSTER_LOADS_BINDING = "clusterLoadsParameter";
+    static final String NO_SCORE_RATIONALE = "No cluster was given a score";
+
+    private final ClusterSelectorScriptProperties.Scoring scoringProperties;
+    @Nullable
+    private final Cache<ScoreKey, OptionalDouble> scoreCache;
+    @Nullable
+    private final ClusterLoadService clusterLoadService;
 
     /**
      * Constructor.
      *
-     * @param scriptManager    script manager
-     * @param properties       script manager properties
-     * @param registry         meter registry
-     * @param propertyMapCache dynamic properties map cache
+     * @param scriptManager      script manager
+     * @param properties         script manager properties
+     * @param registry           meter registry
+     * @param propertyMapCache   dynamic properties map cache
+     * @param clusterLoadService the service to read the load of the candidate clusters from, if one is available
      */
     public ClusterSelectorManagedScript(
         final ScriptManager scriptManager,
         final ClusterSelectorScriptProperties properties,
         final MeterRegistry registry,
-        final PropertiesMapCache propertyMapCache
+        final PropertiesMapCache propertyMapCache,
+        @Nullable final ClusterLoadService clusterLoadService
     ) {
         super(scriptManager, properties, registry, propertyMapCache);
+        this.clusterLoadService = clusterLoadService;
+        this.scoringProperties = properties.getScoring();
+        final Duration cacheTimeToLive = this.scoringProperties.getCacheTimeToLive();
+        if (this.scoringProperties.isEnabled() && cacheTimeToLive.compareTo(Duration.ZERO) > 0) {
+            this.scoreCache = CacheBuilder
+                .newBuilder()
+                .expireAfterWrite(cacheTimeToLive)
+                .maximumSize(this.scoringProperties.getCacheMaximumSize())
+                .build();
+        } else {
+            this.scoreCache = null;
+        }
     }
 
     /**
@@ -75,7 +124,19 @@ public class ClusterSelectorManagedScript extends ResourceSelectorScript<Cluster
             context.getJobId()
         );
 
-        return super.selectResource(context);
+        if (!this.scoringProperties.isEnabled()) {
+            return super.selectResource(context);
+        }
+
+        try {
+            return this.selectHighestScoringCluster(context);
+        } catch (
+            final ScriptExecutionException
+                | ScriptNotConfiguredException
+                | RuntimeException e
+        ) {
+            throw new ResourceSelectionException(e);
+        }
     }
 
     /**
@@ -90,5 +151,117 @@ public class ClusterSelectorManagedScript extends ResourceSelectorScript<Cluster
 
         // TODO: Remove once internal scripts migrate to use context directly
         parameters.put(CLUSTERS_BINDING, context.getClusters());
+
+        if (this.clusterLoadService != null) {
+            final Map<String, ClusterLoad> clusterLoads = new HashMap<>();
+            for (final Cluster cluster : context.getClusters()) {
+                clusterLoads.put(cluster.getId(), this.clusterLoadService.getClusterLoad(cluster.getId()));
+            }
+            parameters.put(CLUSTER_LOADS_BINDING, clusterLoads);
+        }
+    }
+
+    private ResourceSelectorScriptResult<Cluster> selectHighestScoringCluster(
+        final ClusterSelectionContext context
+    ) throws ResourceSelectionException, ScriptExecutionException, ScriptNotConfiguredException {
+        final Map<String, Object> parameters = this.createParametersForScript(context);
+        final Object scriptVersion = this.getScriptVersion();
+        final Map<Cluster, OptionalDouble> scores = new HashMap<>();
+        final List<Cluster> clustersToScore = new ArrayList<>();
+        final List<ScoreKey> scoreKeys = new ArrayList<>();
+        final List<Map<String, Object>> parametersToScore = new ArrayList<>();
+
+        for (final Cluster cluster : context.getClusters()) {
+            final ScoreKey scoreKey = this.scoreCache != null && scriptVersion != null
+                ? new ScoreKey(scriptVersion, cluster, context, parameters.get(PROPERTIES_MAP_BINDING))
+                : null;
+            final OptionalDouble cachedScore = scoreKey != null ? this.scoreCache.getIfPresent(scoreKey) : null;
+            if (cachedScore != null) {
+                scores.put(cluster, cachedScore);
+            } else {
+                final Map<String, Object> clusterParameters = new HashMap<>(parameters);
+                clusterParameters.put(CLUSTER_BINDING, cluster);
+                clustersToScore.add(cluster);
+                scoreKeys.add(scoreKey);
+                parametersToScore.add(clusterParameters);
+            }
+        }
+
+        if (!clustersToScore.isEmpty()) {
+            log.debug("Scoring {} clusters for job {}", clustersToScore.size(), context.getJobId());
+            final List<Object> evaluationResults = this.evaluateScriptConcurrently(parametersToScore);
+            for (int i = 0; i < clustersToScore.size(); i++) {
+                final OptionalDouble score = this.toScore(evaluationResults.get(i));
+                scores.put(clustersToScore.get(i), score);
+                final ScoreKey scoreKey = scoreKeys.get(i);
+                if (scoreKey != null && this.scoreCache != null) {
+                    this.scoreCache.put(scoreKey, score);
+                }
+            }
+        }
+
+        Cluster highestScoringCluster = null;
+        double highestScore = Double.NEGATIVE_INFINITY;
+        for (final Cluster cluster : context.getClusters()) {
+            final OptionalDouble score = scores.get(cluster);
+            if (score.isPresent() && (highestScoringCluster == null || score.getAsDouble() > highestScore)) {
+                highestScoringCluster = cluster;
+                highestScore = score.getAsDouble();
+            }
+        }
+
+        final ResourceSelectorScriptResult.Builder<Cluster> builder = new ResourceSelectorScriptResult.Builder<>();
+        if (highestScoringCluster == null) {
+            return builder.withRationale(NO_SCORE_RATIONALE).build();
+        }
+        return builder
+            .withResource(highestScoringCluster)
+            .withRationale("Highest score " + highestScore + " out of " + context.getClusters().size() + " clusters")
+            .build();
+    }
+
+    private OptionalDouble toScore(@Nullable final Object evaluationResult) throws ResourceSelectionException {
+        if (evaluationResult == null) {
+            return OptionalDouble.empty();
+        }
+        if (!(evaluationResult instanceof Number)) {
+            throw new ResourceSelectionException(
+                "Scoring evaluation returned invalid type: " + evaluationResult.getClass().getName()
+                    + " expected " + Number.class.getName()
+            );
+        }
+        final double score = ((Number) evaluationResult).doubleValue();
+        return Double.isNaN(score) ? OptionalDouble.empty() : OptionalDouble.of(score);
+    }
+
+    /**
+     * The inputs a cluster score is assumed to depend on.
+     */
+    @EqualsAndHashCode(doNotUseGetters = true)
+    private static final class ScoreKey {
+        private final Object scriptVersion;
+        private final String clusterId;
+        private final Instant clusterUpdated;
+        private final String commandId;
+        private final ExecutionResourceCriteria criteria;
+        private final String user;
+        private final boolean apiJob;
+        private final Object scriptProperties;
+
+        private ScoreKey(
+            final Object scriptVersion,
+            final Cluster cluster,
+            final ClusterSelectionContext context,
+            @Nullable final Object scriptProperties
+        ) {
+            this.scriptVersion = scriptVersion;
+            this.clusterId = cluster.getId();
+            this.clusterUpdated = cluster.getUpdated();
+            this.commandId = context.getCommand().map(Command::getId).orElse(null);
+            this.criteria = context.getJobRequest().getCriteria();
+            this.user = context.getJobRequest().getMetadata().getUser();
+            this.apiJob = context.isApiJob();
+            this.scriptProperties = scriptProperties;
+        }
     }
 }
@@ -24,9 +24,12 @@ import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import jakarta.annotation.Nullable;
 import javax.script.Bindings;
 import javax.script.SimpleBindings;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -68,19 +71,53 @@ public abstract class ManagedScript {
         final Map<String, Object> scriptParameters
     ) throws ScriptExecutionException, ScriptNotConfiguredException {
 
+        return this.scriptManager.evaluateScript(
+            this.getScriptUri(),
+            this.toBindings(scriptParameters),
+            this.properties.getTimeout()
+        );
+    }
+
+    protected List<Object> evaluateScriptConcurrently(
+        final List<Map<String, Object>> scriptParametersList
+    ) throws ScriptExecutionException, ScriptNotConfiguredException {
+
+        final URI scriptUri = this.getScriptUri();
+        final List<Bindings> bindingsList = new ArrayList<>(scriptParametersList.size());
+        for (final Map<String, Object> scriptParameters : scriptParametersList) {
+            bindingsList.add(this.toBindings(scriptParameters));
+        }
+        return this.scriptManager.evaluateScriptConcurrently(scriptUri, bindingsList, this.properties.getTimeout());
+    }
+
+    /**
+     * Get a token identifying the version of the script currently loaded for evaluation.
+     *
+     * @return the version token or {@literal null} if the script isn't configured or loaded yet
+     */
+    @Nullable
+    protected Object getScriptVersion() {
+        final URI scriptUri = this.properties.getSource();
+        return scriptUri == null ? null : this.scriptManager.getScriptVersion(scriptUri);
+    }
+
+    private URI getScriptUri() throws ScriptNotConfiguredException {
         final URI scriptUri = this.properties.getSource();
 
         if (scriptUri == null) {
             throw new ScriptNotConfiguredException("Script source URI not set");
         }
 
+        return scriptUri;
+    }
+
+    private Bindings toBindings(final Map<String, Object> scriptParameters) {
         // NOTE: Avoid the constructor that directly takes the map as it uses it directly as the underlying
         //       implementation and if it's immutable it could cause unexpected side effects not expected by
         //       some implementation.
         final Bindings bindings = new SimpleBindings();
         bindings.putAll(scriptParameters);
-
-        return this.scriptManager.evaluateScript(scriptUri, bindings, this.properties.getTimeout());
+        return bindings;
     }
 
     @VisibleForTesting
@@ -74,10 +74,7 @@ public class ResourceSelectorScript<R, C extends ResourceSelectionContext<R>> ex
      */
     public ResourceSelectorScriptResult<R> selectResource(final C context) throws ResourceSelectionException {
         try {
-            final Map<String, Object> parameters = Maps.newHashMap();
-            parameters.put(PROPERTIES_MAP_BINDING, this.propertiesCache.get());
-            this.addParametersForScript(parameters, context);
-            final Object evaluationResult = this.evaluateScript(parameters);
+            final Object evaluationResult = this.evaluateScript(this.createParametersForScript(context));
             if (!(evaluationResult instanceof ResourceSelectorScriptResult)) {
                 throw new ResourceSelectionException(
                     "Selector evaluation returned invalid type: " + evaluationResult.getClass().getName()
@@ -102,6 +99,19 @@ public class ResourceSelectorScript<R, C extends ResourceSelectionContext<R>> ex
         }
     }
 
+    /**
+     * Create the full map of parameters to send to the script for the given selection context.
+     *
+     * @param context The selection context
+     * @return The parameters, in a new mutable map
+     */
+    protected Map<String, Object> createParametersForScript(final C context) {
+        final Map<String, Object> parameters = Maps.newHashMap();
+        parameters.put(PROPERTIES_MAP_BINDING, this.propertiesCache.get());
+        this.addParametersForScript(parameters, context);
+        return parameters;
+    }
+
     /**
      * Add any implementation specific parameters to the map of parameters to send to the script.
      *
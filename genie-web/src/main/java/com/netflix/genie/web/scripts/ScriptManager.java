@@ -27,12 +27,14 @@ import com.netflix.genie.web.util.MetricsConstants;
 import com.netflix.genie.web.util.MetricsUtils;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.scheduling.TaskScheduler;
 
+import jakarta.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 import javax.script.Bindings;
 import javax.script.Compilable;
@@ -49,11 +51,14 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -76,6 +81,7 @@ import java.util.concurrent.atomic.AtomicReference;
 public class ScriptManager {
     private static final String SCRIPT_LOAD_TIMER_NAME = "genie.scripts.load.timer";
     private static final String SCRIPT_EVALUATE_TIMER_NAME = "genie.scripts.evaluate.timer";
+    private static final String SCRIPT_EVALUATE_CONCURRENTLY_TIMER_NAME = "genie.scripts.evaluateConcurrently.timer";
 
     private final ConcurrentMap<URI, AtomicReference<CompiledScript>> scriptsMap = Maps.newConcurrentMap();
     private final ScriptManagerProperties properties;
@@ -180,16 +186,19 @@ public class ScriptManager {
 
         final ScriptContext scriptContext = new SimpleScriptContext();
         scriptContext.setBindings(bindings, ScriptContext.ENGINE_SCOPE);
-        final Future<Object> taskFuture = this.executorService.submit(() -> compiledScript.eval(scriptContext));
+        Future<Object> taskFuture = null;
 
         try {
+            taskFuture = this.executorService.submit(() -> compiledScript.eval(scriptContext));
             final Object evaluationResult = taskFuture.get(timeout, TimeUnit.MILLISECONDS);
             MetricsUtils.addSuccessTags(tags);
             return evaluationResult;
 
-        } catch (TimeoutException | InterruptedException | ExecutionException e) {
+        } catch (TimeoutException | InterruptedException | ExecutionException | RejectedExecutionException e) {
             // On timeout, stop evaluation. In other cases doesn't hurt
-            taskFuture.cancel(true);
+            if (taskFuture != null) {
+                taskFuture.cancel(true);
+            }
             MetricsUtils.addFailureTagsWithException(tags, e);
             throw new ScriptExecutionException(
                 "Script evaluation failed: " + scriptUri + ": " + e.getClass().getSimpleName() + ": " + e.getMessage(),
@@ -204,6 +213,82 @@ public class ScriptManager {
         }
     }
 
+    /**
+     * Evaluate a given script once for each of the given bindings. The evaluations are submitted all at once so they
+     * run concurrently, and they share a single deadline: the whole batch fails if any evaluation fails or if they
+     * haven't all completed within the timeout.
+     *
+     * @param scriptUri    the script URI
+     * @param bindingsList the input parameter bindings of each evaluation
+     * @param timeout      the timeout in milliseconds for the whole batch of evaluations
+     * @return the results of the evaluations, in the same order as the bindings they were given
+     * @throws ScriptNotConfiguredException if the script is not loaded (due to invalid URI or compilation errors).
+     * @throws ScriptExecutionException     if any of the script evaluations produces an error
+     */
+    protected List<Object> evaluateScriptConcurrently(
+        final URI scriptUri,
+        final List<Bindings> bindingsList,
+        final long timeout
+    ) throws ScriptNotConfiguredException, ScriptExecutionException {
+
+        final Set<Tag> tags = Sets.newHashSet();
+        tags.add(Tag.of(MetricsConstants.TagKeys.SCRIPT_URI, scriptUri.toString()));
+
+        final long start = System.nanoTime();
+        final long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeout);
+        final List<Future<Object>> taskFutures = new ArrayList<>(bindingsList.size());
+
+        try {
+            final CompiledScript compiledScript = this.getCompiledScript(scriptUri);
+            for (final Bindings bindings : bindingsList) {
+                final ScriptContext scriptContext = new SimpleScriptContext();
+                scriptContext.setBindings(bindings, ScriptContext.ENGINE_SCOPE);
+                taskFutures.add(this.executorService.submit(() -> compiledScript.eval(scriptContext)));
+            }
+
+            final List<Object> evaluationResults = new ArrayList<>(taskFutures.size());
+            for (final Future<Object> taskFuture : taskFutures) {
+                evaluationResults.add(
+                    taskFuture.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS)
+                );
+            }
+            MetricsUtils.addSuccessTags(tags);
+            return evaluationResults;
+
+        } catch (final ScriptNotConfiguredException e) {
+            MetricsUtils.addFailureTagsWithException(tags, e);
+            throw e;
+        } catch (TimeoutException | InterruptedException | ExecutionException | RejectedExecutionException e) {
+            // Stop the evaluations still in flight, their results are no longer of any use
+            taskFutures.forEach(taskFuture -> taskFuture.cancel(true));
+            MetricsUtils.addFailureTagsWithException(tags, e);
+            throw new ScriptExecutionException(
+                "Script evaluation failed: " + scriptUri + ": " + e.getClass().getSimpleName() + ": " + e.getMessage(),
+                e
+            );
+        } finally {
+            Timer
+                .builder(SCRIPT_EVALUATE_CONCURRENTLY_TIMER_NAME)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(this.meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Get a token identifying the currently loaded version of the given script. Every successful (re)load of the
+     * script yields a different token, so anything derived from the evaluation of one version can be keyed on it.
+     *
+     * @param scriptUri the script URI
+     * @return the version token or {@literal null} if the script isn't loaded
+     */
+    @Nullable
+    protected Object getScriptVersion(final URI scriptUri) {
+        final AtomicReference<CompiledScript> compiledScriptReference = this.scriptsMap.get(scriptUri);
+        return compiledScriptReference == null ? null : compiledScriptReference.get();
+    }
+
     private CompiledScript getCompiledScript(final URI scriptUri) throws ScriptNotConfiguredException {
         final AtomicReference<CompiledScript> compiledScriptReference = this.scriptsMap.get(scriptUri);
 
@@ -0,0 +1,300 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.selectors.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.netflix.genie.web.agent.launchers.AgentLauncher;
+import com.netflix.genie.web.dtos.ResourceSelectionResult;
+import com.netflix.genie.web.exceptions.checked.ResourceSelectionException;
+import com.netflix.genie.web.properties.LoadAwareAgentLauncherSelectorProperties;
+import com.netflix.genie.web.selectors.AgentLauncherSelectionContext;
+import com.netflix.genie.web.selectors.AgentLauncherSelector;
+import com.netflix.genie.web.util.MetricsConstants;
+import com.netflix.genie.web.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.Valid;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An implementation of the {@link AgentLauncherSelector} interface which sends jobs to the launchers with the most
+ * spare capacity.
+ * <p>
+ * The load of each launcher is derived from the details of its {@link AgentLauncher#health()}: the share of its job
+ * memory already allocated and, if reported, its {@literal cpuLoad}. Launchers reporting themselves down or without
+ * enough memory left for the job are left out. Launchers which report no capacity details are assumed to carry
+ * {@link LoadAwareAgentLauncherSelectorProperties#getUnknownLoad()}. If no launcher is left a random one is selected,
+ * as the default selector would, and it gets to reject the job itself.
+ * <p>
+ * Health is cached for {@link LoadAwareAgentLauncherSelectorProperties#getHealthTtl()} so bursts of submissions don't
+ * each query every launcher.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class LoadAwareAgentLauncherSelectorImpl implements AgentLauncherSelector {
+
+    static final String SELECT_TIMER_NAME = "genie.jobs.agentLauncher.selectors.loadAware.select.timer";
+    static final String SELECTION_TAG = "selection";
+    static final String SINGLE_SELECTION = "single";
+    static final String FALLBACK_SELECTION = "fallback";
+    static final String POWER_OF_TWO_CHOICES_SELECTION = "powerOfTwoChoices";
+    static final String LEAST_LOADED_SELECTION = "leastLoaded";
+    static final String FALLBACK_RATIONALE = "No launcher reported enough capacity for the job, selected randomly";
+
+    // Health details published by LocalAgentLauncherImpl
+    static final String ALLOCATED_MEMORY_KEY = "allocatedMemory";
+    static final String AVAILABLE_MEMORY_KEY = "availableMemory";
+    // Health detail published by GenieCpuHealthIndicator, used if a launcher reports it
+    static final String CPU_LOAD_KEY = "cpuLoad";
+
+    private static final Set<Status> UNAVAILABLE_STATUSES = ImmutableSet.of(Status.DOWN, Status.OUT_OF_SERVICE);
+
+    private final Set<AgentLauncher> agentLaunchers;
+    private final LoadAwareAgentLauncherSelectorProperties properties;
+    private final MeterRegistry registry;
+    private final Cache<AgentLauncher, Health> healthCache;
+
+    /**
+     * Constructor.
+     *
+     * @param agentLaunchers the available agent launchers
+     * @param properties     the selector properties
+     * @param registry       the metrics registry
+     */
+    public LoadAwareAgentLauncherSelectorImpl(
+        final Collection<AgentLauncher> agentLaunchers,
+        final LoadAwareAgentLauncherSelectorProperties properties,
+        final MeterRegistry registry
+    ) {
+        this.agentLaunchers = ImmutableSet.copyOf(agentLaunchers);
+        this.properties = properties;
+        this.registry = registry;
+        this.healthCache = Caffeine
+            .newBuilder()
+            .expireAfterWrite(properties.getHealthTtl())
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceSelectionResult<AgentLauncher> select(
+        @Valid final AgentLauncherSelectionContext context
+    ) throws ResourceSelectionException {
+        final long selectStart = System.nanoTime();
+        final String jobId = context.getJobId();
+        final Set<AgentLauncher> resources = context.getAgentLaunchers();
+        log.debug("Called to select agent launcher from {} for job {}", resources, jobId);
+        final Set<Tag> tags = Sets.newHashSet();
+        final ResourceSelectionResult.Builder<AgentLauncher> builder =
+            new ResourceSelectionResult.Builder<>(this.getClass());
+
+        try {
+            final List<Candidate> candidates = this.getCandidates(resources, this.getJobMemory(context));
+
+            final AgentLauncher selectedAgentLauncher;
+            final String selection;
+            final String rationale;
+            if (candidates.isEmpty()) {
+                selectedAgentLauncher = Lists.newArrayList(resources).get(this.nextRandom(resources.size()));
+                selection = FALLBACK_SELECTION;
+                rationale = FALLBACK_RATIONALE;
+            } else {
+                final Candidate candidate;
+                if (candidates.size() == 1) {
+                    candidate = candidates.get(0);
+                    selection = SINGLE_SELECTION;
+                } else if (this.properties.getStrategy()
+                    == LoadAwareAgentLauncherSelectorProperties.Strategy.LEAST_LOADED) {
+                    candidate = this.selectLeastLoaded(candidates);
+                    selection = LEAST_LOADED_SELECTION;
+                } else {
+                    candidate = this.selectBestOfTwo(candidates);
+                    selection = POWER_OF_TWO_CHOICES_SELECTION;
+                }
+                selectedAgentLauncher = candidate.getAgentLauncher();
+                rationale = String.format(
+                    "Selected %s with load %.2f among %d launchers with capacity for the job (%s)",
+                    selectedAgentLauncher.getClass().getSimpleName(),
+                    candidate.getLoad(),
+                    candidates.size(),
+                    selection
+                );
+            }
+            log.debug("{} for job {}", rationale, jobId);
+
+            MetricsUtils.addSuccessTags(tags);
+            tags.add(Tag.of(SELECTION_TAG, selection));
+            tags.add(
+                Tag.of(MetricsConstants.TagKeys.AGENT_LAUNCHER_CLASS, selectedAgentLauncher.getClass().getSimpleName())
+            );
+            return builder
+                .withSelectionRationale(rationale)
+                .withSelectedResource(selectedAgentLauncher)
+                .build();
+        } catch (final Throwable e) {
+            log.error("Agent launcher selection error: {}", e.getMessage(), e);
+            MetricsUtils.addFailureTagsWithException(tags, e);
+            throw new ResourceSelectionException(e);
+        } finally {
+            this.registry
+                .timer(SELECT_TIMER_NAME, tags)
+                .record(System.nanoTime() - selectStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<AgentLauncher> getAgentLaunchers() {
+        return this.agentLaunchers;
+    }
+
+    /**
+     * Compute the load of a launcher out of the details of its health.
+     *
+     * @param details The health details reported by the launcher
+     * @return The load between 0 (idle) and 1 (full)
+     */
+    @VisibleForTesting
+    double computeLoad(final Map<String, Object> details) {
+        double load = -1.0;
+
+        final Long allocatedMemory = toLong(details.get(ALLOCATED_MEMORY_KEY));
+        final Long availableMemory = toLong(details.get(AVAILABLE_MEMORY_KEY));
+        if (allocatedMemory != null && availableMemory != null) {
+            final long totalMemory = allocatedMemory + Math.max(availableMemory, 0L);
+            if (totalMemory > 0) {
+                load = (double) allocatedMemory / totalMemory;
+            }
+        }
+
+        final Object cpuLoad = details.get(CPU_LOAD_KEY);
+        if (cpuLoad instanceof Number) {
+            // Reported as a percentage
+            load = Math.max(load, ((Number) cpuLoad).doubleValue() / 100.0);
+        }
+
+        return load < 0.0 ? this.properties.getUnknownLoad() : Math.min(load, 1.0);
+    }
+
+    private List<Candidate> getCandidates(final Set<AgentLauncher> resources, @Nullable final Long jobMemory) {
+        final List<Candidate> candidates = Lists.newArrayListWithCapacity(resources.size());
+        for (final AgentLauncher agentLauncher : resources) {
+            final Health health = this.healthCache.get(agentLauncher, this::fetchHealth);
+            if (UNAVAILABLE_STATUSES.contains(health.getStatus())) {
+                log.debug("Skipping launcher {} reporting {}", agentLauncher, health.getStatus());
+                continue;
+            }
+            final Long availableMemory = toLong(health.getDetails().get(AVAILABLE_MEMORY_KEY));
+            if (jobMemory != null && availableMemory != null && availableMemory < jobMemory) {
+                log.debug(
+                    "Skipping launcher {} with {}MB left for a {}MB job",
+                    agentLauncher,
+                    availableMemory,
+                    jobMemory
+                );
+                continue;
+            }
+            candidates.add(new Candidate(agentLauncher, this.computeLoad(health.getDetails())));
+        }
+        return candidates;
+    }
+
+    private Health fetchHealth(final AgentLauncher agentLauncher) {
+        try {
+            return agentLauncher.health();
+        } catch (final Exception e) {
+            log.warn("Unable to get the health of launcher {}: {}", agentLauncher, e.getMessage());
+            return Health.down(e).build();
+        }
+    }
+
+    @Nullable
+    private Long getJobMemory(final AgentLauncherSelectionContext context) {
+        return context
+            .getResolvedJob()
+            .getJobEnvironment()
+            .getComputeResources()
+            .getMemoryMb()
+            .orElse(null);
+    }
+
+    private Candidate selectLeastLoaded(final List<Candidate> candidates) {
+        final double minimumLoad = candidates.stream().mapToDouble(Candidate::getLoad).min().orElse(0.0);
+        final List<Candidate> leastLoaded = Lists.newArrayList();
+        for (final Candidate candidate : candidates) {
+            if (candidate.getLoad() <= minimumLoad) {
+                leastLoaded.add(candidate);
+            }
+        }
+        return leastLoaded.get(this.nextRandom(leastLoaded.size()));
+    }
+
+    private Candidate selectBestOfTwo(final List<Candidate> candidates) {
+        final int first = this.nextRandom(candidates.size());
+        // Pick the second among the others so both choices are distinct
+        int second = this.nextRandom(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        final Candidate firstCandidate = candidates.get(first);
+        final Candidate secondCandidate = candidates.get(second);
+        return secondCandidate.getLoad() < firstCandidate.getLoad() ? secondCandidate : firstCandidate;
+    }
+
+    private int nextRandom(final int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    @Nullable
+    private static Long toLong(@Nullable final Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+    @Getter
+    private static class Candidate {
+        private final AgentLauncher agentLauncher;
+        private final double load;
+
+        Candidate(final AgentLauncher agentLauncher, final double load) {
+            this.agentLauncher = agentLauncher;
+            this.load = load;
+        }
+    }
+}
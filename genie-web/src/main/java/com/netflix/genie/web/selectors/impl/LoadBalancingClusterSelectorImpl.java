@@ -0,0 +1,169 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.selectors.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.netflix.genie.common.internal.dtos.Cluster;
+import com.netflix.genie.web.dtos.ClusterLoad;
+import com.netflix.genie.web.dtos.ResourceSelectionResult;
+import com.netflix.genie.web.exceptions.checked.ResourceSelectionException;
+import com.netflix.genie.web.properties.LoadBalancingClusterSelectorProperties;
+import com.netflix.genie.web.selectors.ClusterSelectionContext;
+import com.netflix.genie.web.selectors.ClusterSelector;
+import com.netflix.genie.web.services.ClusterLoadService;
+import com.netflix.genie.web.util.MetricsConstants;
+import com.netflix.genie.web.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.extern.slf4j.Slf4j;
+
+import jakarta.validation.Valid;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An implementation of the {@link ClusterSelector} interface which sends jobs to the least loaded candidate cluster
+ * according to the {@link ClusterLoadService}.
+ * <p>
+ * The load of a cluster is the weighted sum of its running jobs, queued jobs and the memory they requested. To avoid
+ * flapping between clusters of similar load the cluster previously selected for the same candidates is kept as long
+ * as it isn't more loaded than the least loaded candidate by more than the configured stickiness.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class LoadBalancingClusterSelectorImpl implements ClusterSelector {
+
+    static final String SELECT_TIMER_NAME = "genie.jobs.clusters.selectors.loadBalancing.select.timer";
+    private static final String STICKY_TAG = "sticky";
+    private static final long MAX_STICKY_SELECTIONS = 10_000L;
+    private static final double MB_PER_GB = 1024.0;
+
+    private final ClusterLoadService clusterLoadService;
+    private final LoadBalancingClusterSelectorProperties properties;
+    private final MeterRegistry registry;
+    // The cluster last selected for each set of candidate cluster ids
+    private final Cache<Set<String>, String> stickySelections;
+
+    /**
+     * Constructor.
+     *
+     * @param clusterLoadService The {@link ClusterLoadService} to read the load of the candidates from
+     * @param properties         The load-balancing cluster selector properties
+     * @param registry           The metrics registry
+     */
+    public LoadBalancingClusterSelectorImpl(
+        final ClusterLoadService clusterLoadService,
+        final LoadBalancingClusterSelectorProperties properties,
+        final MeterRegistry registry
+    ) {
+        this.clusterLoadService = clusterLoadService;
+        this.properties = properties;
+        this.registry = registry;
+        this.stickySelections = Caffeine
+            .newBuilder()
+            .expireAfterWrite(properties.getStickinessTtl())
+            .maximumSize(MAX_STICKY_SELECTIONS)
+            .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceSelectionResult<Cluster> select(
+        @Valid final ClusterSelectionContext context
+    ) throws ResourceSelectionException {
+        final long selectStart = System.nanoTime();
+        final Set<Cluster> clusters = context.getClusters();
+        log.debug("Called to select cluster from {} for job {}", clusters, context.getJobId());
+        final Set<Tag> tags = Sets.newHashSet();
+        final ResourceSelectionResult.Builder<Cluster> builder = new ResourceSelectionResult.Builder<>(this.getClass());
+
+        try {
+            final Map<String, Cluster> clustersById = new HashMap<>();
+            final Map<String, Double> loads = new HashMap<>();
+            double minimumLoad = Double.POSITIVE_INFINITY;
+            for (final Cluster cluster : clusters) {
+                final double load = this.getLoad(this.clusterLoadService.getClusterLoad(cluster.getId()));
+                clustersById.put(cluster.getId(), cluster);
+                loads.put(cluster.getId(), load);
+                minimumLoad = Math.min(minimumLoad, load);
+            }
+
+            final Set<String> candidateIds = ImmutableSet.copyOf(clustersById.keySet());
+            final String previousId = this.stickySelections.getIfPresent(candidateIds);
+            final Double previousLoad = previousId == null ? null : loads.get(previousId);
+            final boolean sticky = previousLoad != null
+                && previousLoad <= minimumLoad * (1.0 + this.properties.getStickiness());
+
+            final Cluster selectedCluster;
+            if (sticky) {
+                selectedCluster = clustersById.get(previousId);
+                builder.withSelectionRationale(
+                    "Kept previously selected cluster with load " + previousLoad
+                        + " within stickiness of least load " + minimumLoad
+                );
+            } else {
+                final List<Cluster> leastLoaded = Lists.newArrayList();
+                for (final Cluster cluster : clusters) {
+                    if (loads.get(cluster.getId()) <= minimumLoad) {
+                        leastLoaded.add(cluster);
+                    }
+                }
+                selectedCluster = leastLoaded.get(ThreadLocalRandom.current().nextInt(leastLoaded.size()));
+                builder.withSelectionRationale(
+                    "Least loaded cluster with load " + minimumLoad + " out of " + clusters.size() + " clusters"
+                );
+            }
+
+            // The load of the selection is recorded by the resolver once the job is saved since dry runs select too
+            this.stickySelections.put(candidateIds, selectedCluster.getId());
+
+            MetricsUtils.addSuccessTags(tags);
+            tags.add(Tag.of(MetricsConstants.TagKeys.CLUSTER_ID, selectedCluster.getId()));
+            tags.add(Tag.of(MetricsConstants.TagKeys.CLUSTER_NAME, selectedCluster.getMetadata().getName()));
+            tags.add(Tag.of(STICKY_TAG, String.valueOf(sticky)));
+            return builder.withSelectedResource(selectedCluster).build();
+        } catch (final Throwable e) {
+            final String errorMessage = "Cluster selection error: " + e.getMessage();
+            log.error(errorMessage, e);
+            MetricsUtils.addFailureTagsWithException(tags, e);
+            throw new ResourceSelectionException(e);
+        } finally {
+            this.registry
+                .timer(SELECT_TIMER_NAME, tags)
+                .record(System.nanoTime() - selectStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private double getLoad(final ClusterLoad clusterLoad) {
+        return this.properties.getRunningJobsWeight() * clusterLoad.getRunningJobs()
+            + this.properties.getQueuedJobsWeight() * clusterLoad.getQueuedJobs()
+            + this.properties.getMemoryWeight() * clusterLoad.getRequestedMemory() / MB_PER_GB;
+    }
+}
@@ -21,6 +21,7 @@ import com.google.common.collect.Sets;
 import com.netflix.genie.common.internal.dtos.Cluster;
 import com.netflix.genie.web.dtos.ResourceSelectionResult;
 import com.netflix.genie.web.exceptions.checked.ResourceSelectionException;
+import com.netflix.genie.web.properties.ClusterSelectorScriptProperties;
 import com.netflix.genie.web.scripts.ClusterSelectorManagedScript;
 import com.netflix.genie.web.scripts.ResourceSelectorScriptResult;
 import com.netflix.genie.web.selectors.ClusterSelectionContext;
@@ -35,10 +36,14 @@ import jakarta.validation.Valid;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * An implementation of the {@link ClusterSelector} interface which uses user-provided script to make decisions
  * based on the list of clusters and the job request supplied.
+ * <p>
+ * If the circuit breaker is enabled and the script fails too many times in a row, the script is bypassed for a while
+ * and clusters are selected by a {@link RandomClusterSelectorImpl} instead.
  *
  * @author tgianos
  * @since 3.1.0
@@ -48,22 +53,30 @@ public class ScriptClusterSelectorImpl implements ClusterSelector {
 
     static final String SELECT_TIMER_NAME = "genie.jobs.clusters.selectors.script.select.timer";
     private static final String NULL_TAG = "null";
+    static final String BYPASS_COUNTER_NAME = "genie.jobs.clusters.selectors.script.bypass.counter";
     private static final String NULL_RATIONALE = "Script returned null, no preference";
 
     private final MeterRegistry registry;
     private final ClusterSelectorManagedScript clusterSelectorManagedScript;
+    private final ClusterSelectorScriptProperties.CircuitBreaker circuitBreakerProperties;
+    private final RandomClusterSelectorImpl fallbackSelector = new RandomClusterSelectorImpl();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long bypassDeadline;
 
     /**
      * Constructor.
      *
      * @param clusterSelectorManagedScript the cluster selector script
+     * @param scriptProperties             the cluster selector script properties
      * @param registry                     the metrics registry
      */
     public ScriptClusterSelectorImpl(
         final ClusterSelectorManagedScript clusterSelectorManagedScript,
+        final ClusterSelectorScriptProperties scriptProperties,
         final MeterRegistry registry
     ) {
         this.clusterSelectorManagedScript = clusterSelectorManagedScript;
+        this.circuitBreakerProperties = scriptProperties.getCircuitBreaker();
         this.registry = registry;
     }
 
@@ -74,8 +87,14 @@ public class ScriptClusterSelectorImpl implements ClusterSelector {
     public ResourceSelectionResult<Cluster> select(
         @Valid final ClusterSelectionContext context
     ) throws ResourceSelectionException {
-        final long selectStart = System.nanoTime();
         final String jobId = context.getJobId();
+        if (this.isBypassed()) {
+            log.debug("Cluster selection script is bypassed after repeated failures, selecting randomly for {}", jobId);
+            this.registry.counter(BYPASS_COUNTER_NAME).increment();
+            return this.fallbackSelector.select(context);
+        }
+
+        final long selectStart = System.nanoTime();
         final Set<Cluster> resources = context.getClusters();
         log.debug("Called to select cluster from {} for job {}", resources, jobId);
         final Set<Tag> tags = Sets.newHashSet();
@@ -85,6 +104,7 @@ public class ScriptClusterSelectorImpl implements ClusterSelector {
             final ResourceSelectorScriptResult<Cluster> result
                 = this.clusterSelectorManagedScript.selectResource(context);
             MetricsUtils.addSuccessTags(tags);
+            this.consecutiveFailures.set(0);
 
             final Optional<Cluster> clusterOptional = result.getResource();
             if (!clusterOptional.isPresent()) {
@@ -107,6 +127,7 @@ public class ScriptClusterSelectorImpl implements ClusterSelector {
             final String errorMessage = "Cluster selection error: " + e.getMessage();
             log.error(errorMessage, e);
             MetricsUtils.addFailureTagsWithException(tags, e);
+            this.recordFailure();
             if (e instanceof ResourceSelectionException) {
                 throw e;
             } else {
@@ -118,4 +139,23 @@ public class ScriptClusterSelectorImpl implements ClusterSelector {
                 .record(System.nanoTime() - selectStart, TimeUnit.NANOSECONDS);
         }
     }
+
+    private boolean isBypassed() {
+        return this.circuitBreakerProperties.isEnabled()
+            && this.consecutiveFailures.get() >= this.circuitBreakerProperties.getFailureThreshold()
+            && System.nanoTime() - this.bypassDeadline < 0;
+    }
+
+    private void recordFailure() {
+        // Failures aren't reset when the bypass expires, so a single further failure bypasses the script again
+        if (this.circuitBreakerProperties.isEnabled()
+            && this.consecutiveFailures.incrementAndGet() >= this.circuitBreakerProperties.getFailureThreshold()) {
+            this.bypassDeadline = System.nanoTime() + this.circuitBreakerProperties.getOpenDuration().toNanos();
+            log.warn(
+                "Cluster selection script failed {} times in a row, bypassing it for {}",
+                this.consecutiveFailures.get(),
+                this.circuitBreakerProperties.getOpenDuration()
+            );
+        }
+    }
 }
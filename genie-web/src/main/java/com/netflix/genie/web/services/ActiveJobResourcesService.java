@@ -0,0 +1,67 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services;
+
+import com.netflix.genie.common.dto.UserResourcesSummary;
+import com.netflix.genie.web.dtos.ActiveResourcesSummary;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotBlank;
+import java.util.Map;
+
+/**
+ * A service which keeps totals of the resources held by active jobs broken down by user, by host and by submission
+ * mode so that metrics, user limits and host lookups don't need to aggregate the jobs table on every call.
+ * <p>
+ * Totals are eventually consistent. Job status changes persisted by this node are reflected as soon as they are
+ * observed while changes persisted by other nodes are picked up when the totals are periodically reconciled against
+ * the database.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Validated
+public interface ActiveJobResourcesService {
+
+    /**
+     * Get the resources held by the active jobs of the given user.
+     *
+     * @param user The user name
+     * @return The {@link ActiveResourcesSummary} for the user. {@link ActiveResourcesSummary#NONE} if the user has no
+     * active jobs
+     */
+    ActiveResourcesSummary getUserResources(@NotBlank String user);
+
+    /**
+     * Get a summary of the resources held by each user with at least one active job submitted via the given mode.
+     *
+     * @param api Whether the jobs were submitted via the api ({@literal true}) or the agent cli ({@literal false})
+     * @return a map of user resources summaries, keyed on user name
+     */
+    Map<String, UserResourcesSummary> getUserResourcesSummaries(boolean api);
+
+    /**
+     * Get the resources held by the active jobs running on the given host. Jobs are attributed to a host once they
+     * have been claimed by an agent running there.
+     *
+     * @param hostname The hostname the agents are running on
+     * @return The {@link ActiveResourcesSummary} for the host. {@link ActiveResourcesSummary#NONE} if there are no
+     * active jobs on the host
+     */
+    ActiveResourcesSummary getHostResources(@NotBlank String hostname);
+}
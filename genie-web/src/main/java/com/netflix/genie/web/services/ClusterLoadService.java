@@ -0,0 +1,63 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services;
+
+import com.netflix.genie.web.dtos.ClusterLoad;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.util.Map;
+
+/**
+ * A service which keeps an in-memory view of the load each cluster is under, broken down into running jobs, queued
+ * jobs and requested memory, so that cluster selection doesn't need to aggregate the jobs table on every call.
+ * <p>
+ * The view is eventually consistent. It is periodically rebuilt from the database and, in between, only reflects the
+ * selections recorded on this node.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Validated
+public interface ClusterLoadService {
+
+    /**
+     * Get the load the given cluster is under.
+     *
+     * @param clusterId The unique id of the cluster
+     * @return The {@link ClusterLoad} of the cluster. {@link ClusterLoad#NONE} if it has no active jobs
+     */
+    ClusterLoad getClusterLoad(@NotBlank String clusterId);
+
+    /**
+     * Get the load of every cluster with at least one active job.
+     *
+     * @return An immutable map of {@link ClusterLoad}, keyed on cluster id
+     */
+    Map<String, ClusterLoad> getClusterLoads();
+
+    /**
+     * Account for a job which was just sent to the given cluster so that following selections on this node see it
+     * before the view is next rebuilt from the database. Only jobs whose resolution was saved are recorded.
+     *
+     * @param clusterId       The unique id of the cluster the job was sent to
+     * @param requestedMemory The memory (in MB) requested by the job. {@literal 0} if unknown
+     */
+    void recordSelection(@NotBlank String clusterId, @Min(0) long requestedMemory);
+}
@@ -0,0 +1,84 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services;
+
+import com.netflix.genie.common.exceptions.GenieUserLimitExceededException;
+import com.netflix.genie.common.internal.exceptions.checked.GenieJobResolutionException;
+import com.netflix.genie.web.dtos.JobSubmission;
+import com.netflix.genie.web.exceptions.checked.AgentLaunchException;
+import com.netflix.genie.web.exceptions.checked.IdAlreadyExistsException;
+import com.netflix.genie.web.exceptions.checked.NotFoundException;
+import com.netflix.genie.web.exceptions.checked.SaveAttachmentException;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.annotation.Nonnull;
+import jakarta.validation.Valid;
+
+/**
+ * Service which sits in front of {@link JobLaunchService} and decides when a submitted job is launched.
+ * <p>
+ * Jobs of users under their active jobs limit are launched immediately. Jobs of users at their limit are saved and
+ * held in a queue and launched once capacity frees up, with launches shared between users with queued jobs according
+ * to their weights.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Validated
+public interface JobAdmissionService {
+
+    /**
+     * Whether submissions should go through this service rather than being launched directly.
+     *
+     * @return {@literal true} if admission is enabled
+     */
+    boolean isEnabled();
+
+    /**
+     * Launch the job if its user has capacity, otherwise queue it for later launch.
+     *
+     * @param jobSubmission The payload of metadata and resources making up all the information needed to launch
+     *                      a job
+     * @return The id of the job. The job is either at least {@literal ACCEPTED} or saved as {@literal RESERVED} and
+     * queued
+     * @throws GenieUserLimitExceededException If the user exceeded their submission rate or the queue is full
+     * @throws AgentLaunchException            If the job was launched immediately and launching an agent failed
+     * @throws GenieJobResolutionException     If the job was launched immediately and couldn't be resolved
+     * @throws NotFoundException               If the job was launched immediately and a resource wasn't found
+     * @throws IdAlreadyExistsException        If the unique identifier for the job conflicts with an existing job
+     * @throws SaveAttachmentException         If the job was launched immediately and saving attachments failed
+     * @see JobLaunchService#launchJob(JobSubmission)
+     */
+    @Nonnull
+    String admit(@Valid JobSubmission jobSubmission) throws
+        GenieUserLimitExceededException,
+        AgentLaunchException,
+        GenieJobResolutionException,
+        IdAlreadyExistsException,
+        NotFoundException,
+        SaveAttachmentException;
+
+    /**
+     * Remove the job with the given id from the queue of this node so that it is never launched. The saved job still
+     * has to be killed for it to be removed from the queue of whichever node may take it over.
+     *
+     * @param jobId The id of the job
+     * @return {@literal true} if the job was queued on this node and has been removed
+     */
+    boolean cancel(String jobId);
+}
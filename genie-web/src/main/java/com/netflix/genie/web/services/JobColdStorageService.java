@@ -0,0 +1,113 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services;
+
+import com.netflix.genie.common.dto.JobStatus;
+import com.netflix.genie.common.dto.search.JobSearchResult;
+import com.netflix.genie.web.dtos.ColdStoredJob;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A Service interface for the cold storage tier which holds finished jobs after they have been removed from the
+ * primary database.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+public interface JobColdStorageService {
+
+    /**
+     * Write the given finished jobs to cold storage. Once this method returns successfully the jobs can be looked up
+     * from cold storage and are safe to remove from the primary database.
+     *
+     * @param jobs The jobs to store
+     * @throws IOException If the jobs couldn't be written
+     */
+    void storeJobs(List<ColdStoredJob> jobs) throws IOException;
+
+    /**
+     * Get a job from cold storage.
+     *
+     * @param id The id of the job
+     * @return The records of the job or {@link Optional#empty()} if no such job is in cold storage
+     */
+    Optional<ColdStoredJob> getJob(String id);
+
+    /**
+     * Delete from cold storage the jobs created before the given time. Jobs are stored in immutable segments which
+     * are only deleted once all the jobs they hold are past the threshold.
+     *
+     * @param creationThreshold The instant in time before which jobs should be deleted
+     * @return The number of jobs deleted
+     */
+    long deleteJobsCreatedBefore(Instant creationThreshold);
+
+    /**
+     * Extend a page of job search results found in the primary database with the matching jobs from cold storage.
+     * Jobs in cold storage are always older than the jobs in the primary database so they are appended after the
+     * primary results and cold storage is only read when the requested page reaches past the primary results. Pages
+     * which aren't sorted by descending creation time are returned unmodified.
+     *
+     * @param primaryResults   The page of results found in the primary database for the same criteria
+     * @param id               id for job
+     * @param name             name of job (can be a SQL-style pattern such as HIVE%)
+     * @param user             user who submitted job
+     * @param statuses         statuses of job
+     * @param tags             tags for the job
+     * @param clusterName      name of cluster for job
+     * @param clusterId        id of cluster for job
+     * @param commandName      name of the command run in the job
+     * @param commandId        id of the command run in the job
+     * @param minStarted       The time which the job had to start after in order to be return (inclusive)
+     * @param maxStarted       The time which the job had to start before in order to be returned (exclusive)
+     * @param minFinished      The time which the job had to finish after in order to be return (inclusive)
+     * @param maxFinished      The time which the job had to finish before in order to be returned (exclusive)
+     * @param grouping         The job grouping to search for
+     * @param groupingInstance The job grouping instance to search for
+     * @param page             Page information of jobs to get
+     * @return The combined page of results
+     */
+    @SuppressWarnings("checkstyle:parameternumber")
+    Page<JobSearchResult> findJobs(
+        Page<JobSearchResult> primaryResults,
+        @Nullable String id,
+        @Nullable String name,
+        @Nullable String user,
+        @Nullable Set<JobStatus> statuses,
+        @Nullable Set<String> tags,
+        @Nullable String clusterName,
+        @Nullable String clusterId,
+        @Nullable String commandName,
+        @Nullable String commandId,
+        @Nullable Instant minStarted,
+        @Nullable Instant maxStarted,
+        @Nullable Instant minFinished,
+        @Nullable Instant maxFinished,
+        @Nullable String grouping,
+        @Nullable String groupingInstance,
+        Pageable page
+    );
+}
@@ -18,6 +18,7 @@
 package com.netflix.genie.web.services;
 
 import com.netflix.genie.common.exceptions.GenieException;
+import com.netflix.genie.web.dtos.DirectoryArchiveFormat;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -53,4 +54,23 @@ public interface JobDirectoryServerService {
         HttpServletRequest request,
         HttpServletResponse response
     ) throws GenieException;
+
+    /**
+     * Write the entry at {@code relativePath} and everything below it to {@code response} as a single archive. The
+     * archive is generated while it is being sent so it can be as large as the job directory itself. If the job
+     * directory can't be read an appropriate error is thrown before anything is written, errors occurring afterwards
+     * truncate the archive.
+     *
+     * @param jobId        The id of the job this request is for
+     * @param relativePath The relative path from the root of the job directory of the entry to archive
+     * @param format       The {@link DirectoryArchiveFormat} to send the archive as
+     * @param response     The HTTP response where the archive should be written
+     * @throws GenieException If there is an error serving the response
+     */
+    void serveArchive(
+        String jobId,
+        String relativePath,
+        DirectoryArchiveFormat format,
+        HttpServletResponse response
+    ) throws GenieException;
 }
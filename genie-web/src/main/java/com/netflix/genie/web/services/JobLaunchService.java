@@ -17,6 +17,8 @@
  */
 package com.netflix.genie.web.services;
 
+import com.netflix.genie.common.internal.dtos.JobRequest;
+import com.netflix.genie.common.internal.dtos.JobRequestMetadata;
 import com.netflix.genie.common.internal.dtos.JobStatus;
 import com.netflix.genie.common.internal.exceptions.checked.GenieJobResolutionException;
 import com.netflix.genie.web.dtos.JobSubmission;
@@ -28,6 +30,7 @@ import org.springframework.validation.annotation.Validated;
 
 import jakarta.annotation.Nonnull;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 
 /**
  * Top level coordination service responsible for taking a job request and running the job if possible.
@@ -64,4 +67,29 @@ public interface JobLaunchService {
         IdAlreadyExistsException,
         NotFoundException,
         SaveAttachmentException;
+
+    /**
+     * Launches a job whose submission was already saved via
+     * {@link com.netflix.genie.web.data.services.PersistenceService#saveJobSubmission(JobSubmission)}, e.g. after it
+     * waited in an admission queue.
+     * <p>
+     * This runs the same steps as {@link #launchJob(JobSubmission)} after the submission was saved.
+     *
+     * @param jobId              The id of the saved job which must still be {@link JobStatus#RESERVED}
+     * @param jobRequest         The request the job was submitted with
+     * @param jobRequestMetadata The metadata gathered by the system when the job was submitted
+     * @throws AgentLaunchException        If the system was unable to launch an agent to handle job execution
+     * @throws GenieJobResolutionException If the job, based on user input and current system state, can't be
+     *                                     successfully resolved for whatever reason
+     * @throws NotFoundException           When a resource that is expected to exist, like a job or a cluster, is not
+     *                                     found in the system at runtime for some reason
+     */
+    void launchSavedJob(
+        @NotBlank String jobId,
+        @Valid JobRequest jobRequest,
+        @Valid JobRequestMetadata jobRequestMetadata
+    ) throws
+        AgentLaunchException,
+        GenieJobResolutionException,
+        NotFoundException;
 }
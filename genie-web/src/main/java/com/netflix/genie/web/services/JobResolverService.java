@@ -22,10 +22,14 @@ import com.netflix.genie.common.internal.dtos.JobStatus;
 import com.netflix.genie.common.internal.exceptions.checked.GenieJobResolutionException;
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieJobResolutionRuntimeException;
 import com.netflix.genie.web.dtos.ResolvedJob;
+import com.netflix.genie.web.exceptions.checked.PreconditionFailedException;
 import org.springframework.validation.annotation.Validated;
 
 import jakarta.annotation.Nonnull;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service API for taking inputs from a user and resolving them to concrete information that the Genie system will use
@@ -67,4 +71,25 @@ public interface JobResolverService {
         @Valid JobRequest jobRequest,
         boolean apiJob
     ) throws GenieJobResolutionException, GenieJobResolutionRuntimeException;
+
+    /**
+     * Given many job requests resolve all the details needed to run each of them as
+     * {@link #resolveJob(String, JobRequest, boolean)} would. This API is stateless and saves nothing.
+     * <p>
+     * The catalog is queried once for every distinct set of criteria within the batch and the result is shared by all
+     * the requests with those criteria. The rest of the resolution, including the selectors, runs in parallel so
+     * results are available as soon as each request is resolved rather than when the whole batch is.
+     *
+     * @param jobRequests The job requests to resolve. Requests without a requested id are given a random one
+     * @param apiJob      {@literal true} if these jobs would be submitted via the REST API. {@literal false} otherwise.
+     * @return One future per job request in the same order as the requests. Each is completed with the resolved job
+     * or exceptionally with the {@link GenieJobResolutionException} or {@link GenieJobResolutionRuntimeException}
+     * which prevented the request from being resolved
+     * @throws PreconditionFailedException If the batch contains more requests than this service accepts at once
+     */
+    @Nonnull
+    List<CompletableFuture<ResolvedJob>> resolveJobs(
+        @NotEmpty List<@Valid JobRequest> jobRequests,
+        boolean apiJob
+    ) throws PreconditionFailedException;
 }
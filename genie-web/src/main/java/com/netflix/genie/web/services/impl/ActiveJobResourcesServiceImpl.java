@@ -0,0 +1,333 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Sets;
+import com.netflix.genie.common.dto.UserResourcesSummary;
+import com.netflix.genie.common.internal.dtos.JobStatus;
+import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.data.services.PersistenceService;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.UserHostJobResourcesAggregate;
+import com.netflix.genie.web.dtos.ActiveResourcesSummary;
+import com.netflix.genie.web.dtos.JobResources;
+import com.netflix.genie.web.events.JobStateChangeEvent;
+import com.netflix.genie.web.properties.ActiveJobResourcesProperties;
+import com.netflix.genie.web.services.ActiveJobResourcesService;
+import com.netflix.genie.web.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.scheduling.TaskScheduler;
+
+import jakarta.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link ActiveJobResourcesService} which keeps the totals in memory.
+ * <p>
+ * The totals are updated incrementally from the {@link JobStateChangeEvent}s emitted when this node persists a job
+ * status change. Each event carries the resources of the job so the resources it held in the previous status are
+ * removed from the totals and the ones it holds in the new status added without reading the job back. A job is counted
+ * once it has been resolved, as that's when it is allocated resources, and is attributed to a host once it has been
+ * claimed. The totals are periodically rebuilt from a single aggregate query to pick up changes persisted by other
+ * nodes and to correct any missed event.
+ * <p>
+ * As they are only updated from the changes persisted by this node and don't count reserved jobs the totals aren't
+ * suitable to enforce limits which must hold across the cluster.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+@ThreadSafe
+public class ActiveJobResourcesServiceImpl
+    implements ActiveJobResourcesService, ApplicationListener<JobStateChangeEvent> {
+
+    private static final String RECONCILE_TIMER_NAME = "genie.jobs.activeResources.reconcile.timer";
+    private static final String NUM_ACTIVE_JOBS_GAUGE_NAME = "genie.jobs.activeResources.numActiveJobs.gauge";
+
+    private final PersistenceService persistenceService;
+    private final MeterRegistry registry;
+    private final Object lock = new Object();
+
+    private volatile Ledger ledger = new Ledger();
+    // Guarded by lock
+    @Nullable
+    private List<Change> changesDuringReconcile;
+
+    /**
+     * Constructor. Schedules the periodic reconciliation with the database.
+     *
+     * @param dataServices  The {@link DataServices} instance to use
+     * @param taskScheduler The task scheduler to run the reconciliation on
+     * @param properties    The service properties
+     * @param registry      The metrics registry
+     */
+    public ActiveJobResourcesServiceImpl(
+        final DataServices dataServices,
+        final TaskScheduler taskScheduler,
+        final ActiveJobResourcesProperties properties,
+        final MeterRegistry registry
+    ) {
+        this.persistenceService = dataServices.getPersistenceService();
+        this.registry = registry;
+
+        this.registry.gauge(NUM_ACTIVE_JOBS_GAUGE_NAME, this, service -> service.ledger.getNumberOfJobs());
+        taskScheduler.scheduleWithFixedDelay(this::reconcile, properties.getReconcileInterval());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ActiveResourcesSummary getUserResources(final String user) {
+        return this.ledger.byUser.getOrDefault(user, ActiveResourcesSummary.NONE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, UserResourcesSummary> getUserResourcesSummaries(final boolean api) {
+        return (api ? this.ledger.byApiUser : this.ledger.byAgentUser)
+            .entrySet()
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    Map.Entry::getKey,
+                    entry -> new UserResourcesSummary(
+                        entry.getKey(),
+                        entry.getValue().getNumberOfJobs(),
+                        entry.getValue().getMemory()
+                    )
+                )
+            );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ActiveResourcesSummary getHostResources(final String hostname) {
+        return this.ledger.byHost.getOrDefault(hostname, ActiveResourcesSummary.NONE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onApplicationEvent(final JobStateChangeEvent event) {
+        final JobResources resources = event.getResources().orElse(null);
+        if (resources == null) {
+            log.debug(
+                "Status change of job {} carries no resources. Totals will be corrected on next reconcile",
+                event.getJobId()
+            );
+            return;
+        }
+
+        final Change change = new Change(
+            event.getTimestamp(),
+            Allocation.of(event.getPreviousStatus(), resources),
+            Allocation.of(event.getNewStatus(), resources)
+        );
+        synchronized (this.lock) {
+            if (this.changesDuringReconcile != null) {
+                this.changesDuringReconcile.add(change);
+            }
+            this.ledger.apply(change);
+        }
+    }
+
+    /**
+     * Rebuild the totals from the active jobs stored in the database. Changes observed while the database is being
+     * read are applied on top of the rebuilt totals if they happened after the read started, as they can't be reflected
+     * in what was read. Changes which happened before but were only observed during the read are already part of it.
+     */
+    @VisibleForTesting
+    void reconcile() {
+        final long start = System.nanoTime();
+        final Set<Tag> tags = Sets.newHashSet();
+        try {
+            synchronized (this.lock) {
+                this.changesDuringReconcile = new ArrayList<>();
+            }
+
+            final Ledger reconciled = new Ledger();
+            // Same clock as the event timestamps
+            final long snapshotTimestamp = System.currentTimeMillis();
+            this.persistenceService.getActiveUserHostJobResources().forEach(reconciled::add);
+
+            synchronized (this.lock) {
+                if (this.changesDuringReconcile != null) {
+                    this.changesDuringReconcile
+                        .stream()
+                        .filter(change -> change.timestamp >= snapshotTimestamp)
+                        .forEach(reconciled::apply);
+                }
+                this.changesDuringReconcile = null;
+                this.ledger = reconciled;
+            }
+            log.debug("Reconciled resources of {} active jobs", reconciled.getNumberOfJobs());
+            MetricsUtils.addSuccessTags(tags);
+        } catch (final RuntimeException e) {
+            synchronized (this.lock) {
+                this.changesDuringReconcile = null;
+            }
+            log.error("Unable to reconcile active job resources with the database", e);
+            MetricsUtils.addFailureTagsWithException(tags, e);
+        } finally {
+            this.registry
+                .timer(RECONCILE_TIMER_NAME, tags)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * The resources a single job contributes to the totals while in a given status. Immutable.
+     */
+    private static final class Allocation {
+        private final String user;
+        private final boolean api;
+        @Nullable
+        private final String hostname;
+        private final ActiveResourcesSummary summary;
+
+        private Allocation(final JobStatus status, final JobResources resources) {
+            this.user = resources.getUser();
+            this.api = resources.isApi();
+            // The hostname is only saved when the job is claimed
+            this.hostname = JobStatus.getStatusesBeforeClaimed().contains(status)
+                ? null
+                : resources.getAgentHostname().orElse(null);
+            this.summary = new ActiveResourcesSummary(1L, resources.getMemory(), resources.getCpu());
+        }
+
+        @Nullable
+        private static Allocation of(@Nullable final JobStatus status, final JobResources resources) {
+            // Reserved jobs haven't been allocated any resources yet
+            if (status == null || !status.isActive() || status == JobStatus.RESERVED) {
+                return null;
+            }
+            return new Allocation(status, resources);
+        }
+    }
+
+    /**
+     * The change in the totals caused by a job changing status. Immutable.
+     */
+    private static final class Change {
+        private final long timestamp;
+        @Nullable
+        private final Allocation removed;
+        @Nullable
+        private final Allocation added;
+
+        private Change(final long timestamp, @Nullable final Allocation removed, @Nullable final Allocation added) {
+            this.timestamp = timestamp;
+            this.removed = removed;
+            this.added = added;
+        }
+    }
+
+    /**
+     * The totals of the active jobs. Writes are serialized by the owning service while the totals can be read
+     * concurrently.
+     */
+    private static final class Ledger {
+        private final ConcurrentMap<String, ActiveResourcesSummary> byUser = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, ActiveResourcesSummary> byApiUser = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, ActiveResourcesSummary> byAgentUser = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, ActiveResourcesSummary> byHost = new ConcurrentHashMap<>();
+
+        private long getNumberOfJobs() {
+            return this.byUser.values().stream().mapToLong(ActiveResourcesSummary::getNumberOfJobs).sum();
+        }
+
+        private void add(final UserHostJobResourcesAggregate aggregate) {
+            final ActiveResourcesSummary summary = new ActiveResourcesSummary(
+                aggregate.getNumberOfJobs(),
+                aggregate.getMemory(),
+                aggregate.getCpu()
+            );
+            this.add(aggregate.getUser(), aggregate.isApi(), aggregate.getAgentHostname(), summary, 1L);
+        }
+
+        private void apply(final Change change) {
+            if (change.removed != null) {
+                this.add(change.removed, -1L);
+            }
+            if (change.added != null) {
+                this.add(change.added, 1L);
+            }
+        }
+
+        private void add(final Allocation allocation, final long sign) {
+            this.add(allocation.user, allocation.api, allocation.hostname, allocation.summary, sign);
+        }
+
+        private void add(
+            final String user,
+            final boolean api,
+            @Nullable final String hostname,
+            final ActiveResourcesSummary summary,
+            final long sign
+        ) {
+            merge(this.byUser, user, summary, sign);
+            merge(api ? this.byApiUser : this.byAgentUser, user, summary, sign);
+            if (hostname != null) {
+                merge(this.byHost, hostname, summary, sign);
+            }
+        }
+
+        private static void merge(
+            final ConcurrentMap<String, ActiveResourcesSummary> totals,
+            final String key,
+            final ActiveResourcesSummary delta,
+            final long sign
+        ) {
+            totals.compute(
+                key,
+                (ignored, current) -> {
+                    final ActiveResourcesSummary base = current == null ? ActiveResourcesSummary.NONE : current;
+                    final long numberOfJobs = base.getNumberOfJobs() + sign * delta.getNumberOfJobs();
+                    // A job which finished before it was ever counted (e.g. it was resolved by another node since the
+                    // last reconcile) can't take the totals negative
+                    if (numberOfJobs <= 0) {
+                        return null;
+                    }
+                    return new ActiveResourcesSummary(
+                        numberOfJobs,
+                        Math.max(0L, base.getMemory() + sign * delta.getMemory()),
+                        Math.max(0L, base.getCpu() + sign * delta.getCpu())
+                    );
+                }
+            );
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import com.netflix.genie.common.internal.dtos.JobStatus;
+import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.data.services.PersistenceService;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.ClusterJobResourcesAggregate;
+import com.netflix.genie.web.dtos.ClusterLoad;
+import com.netflix.genie.web.properties.LoadBalancingClusterSelectorProperties;
+import com.netflix.genie.web.services.ClusterLoadService;
+import com.netflix.genie.web.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of {@link ClusterLoadService} which keeps the load of each cluster in memory.
+ * <p>
+ * The load is periodically rebuilt from a single aggregate read of the active jobs grouped by cluster and status.
+ * Selections recorded in between are added on top so that a burst of jobs doesn't all land on the cluster which was
+ * least loaded at the last refresh. Those recorded before a refresh reads the database are dropped once its result
+ * replaces the load as the jobs will have been saved with their cluster by then. Those recorded while it reads are
+ * kept for the following refresh.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+@ThreadSafe
+public class ClusterLoadServiceImpl implements ClusterLoadService {
+
+    private static final String REFRESH_TIMER_NAME = "genie.jobs.clusters.load.refresh.timer";
+    private static final String NUM_CLUSTERS_GAUGE_NAME = "genie.jobs.clusters.load.numClusters.gauge";
+
+    private final PersistenceService persistenceService;
+    private final MeterRegistry registry;
+    private final ScheduledFuture<?> refreshFuture;
+    // Guards swapping the map selections are recorded into so none is recorded into a map already dropped
+    private final Object selectionsLock = new Object();
+
+    private volatile Map<String, ClusterLoad> clusterLoads = ImmutableMap.of();
+    // Jobs sent to each cluster by this node since the last refresh started
+    private volatile ConcurrentMap<String, ClusterLoad> recordedSelections = new ConcurrentHashMap<>();
+    // Jobs sent to each cluster by this node before the refresh in progress started, if any
+    private volatile Map<String, ClusterLoad> selectionsBeforeRefresh = ImmutableMap.of();
+
+    /**
+     * Constructor. Schedules the periodic refresh from the database.
+     *
+     * @param dataServices  The {@link DataServices} instance to use
+     * @param taskScheduler The task scheduler to run the refresh on
+     * @param properties    The load-balancing cluster selector properties
+     * @param registry      The metrics registry
+     */
+    public ClusterLoadServiceImpl(
+        final DataServices dataServices,
+        final TaskScheduler taskScheduler,
+        final LoadBalancingClusterSelectorProperties properties,
+        final MeterRegistry registry
+    ) {
+        this.persistenceService = dataServices.getPersistenceService();
+        this.registry = registry;
+
+        this.registry.gauge(NUM_CLUSTERS_GAUGE_NAME, this, service -> service.clusterLoads.size());
+        this.refreshFuture = taskScheduler.scheduleWithFixedDelay(this::refresh, properties.getRefreshInterval());
+    }
+
+    /**
+     * Stop refreshing the load from the database.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (this.refreshFuture != null) {
+            this.refreshFuture.cancel(false);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClusterLoad getClusterLoad(final String clusterId) {
+        // Read in the reverse order of the writes in refresh so a selection may be counted twice but is never missed
+        final ClusterLoad recorded = this.recordedSelections.get(clusterId);
+        final ClusterLoad recordedBeforeRefresh = this.selectionsBeforeRefresh.get(clusterId);
+        ClusterLoad load = this.clusterLoads.getOrDefault(clusterId, ClusterLoad.NONE);
+        if (recordedBeforeRefresh != null) {
+            load = add(load, recordedBeforeRefresh);
+        }
+        return recorded == null ? load : add(load, recorded);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ClusterLoad> getClusterLoads() {
+        final Map<String, ClusterLoad> recorded = this.recordedSelections;
+        final Map<String, ClusterLoad> recordedBeforeRefresh = this.selectionsBeforeRefresh;
+        final Map<String, ClusterLoad> clusterLoadsSnapshot = this.clusterLoads;
+        if (recordedBeforeRefresh.isEmpty() && recorded.isEmpty()) {
+            return clusterLoadsSnapshot;
+        }
+        final Map<String, ClusterLoad> loads = new HashMap<>(clusterLoadsSnapshot);
+        recordedBeforeRefresh.forEach((clusterId, load) -> loads.merge(clusterId, load, ClusterLoadServiceImpl::add));
+        recorded.forEach((clusterId, load) -> loads.merge(clusterId, load, ClusterLoadServiceImpl::add));
+        return ImmutableMap.copyOf(loads);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordSelection(final String clusterId, final long requestedMemory) {
+        synchronized (this.selectionsLock) {
+            this.recordedSelections.merge(
+                clusterId,
+                new ClusterLoad(0L, 1L, requestedMemory),
+                ClusterLoadServiceImpl::add
+            );
+        }
+    }
+
+    /**
+     * Rebuild the load of every cluster from the active jobs stored in the database.
+     */
+    @VisibleForTesting
+    void refresh() {
+        final long start = System.nanoTime();
+        final Set<Tag> tags = Sets.newHashSet();
+        // Start a new set of selections so only those recorded before the database is read are dropped after. Those
+        // left from a failed refresh are kept with them.
+        synchronized (this.selectionsLock) {
+            final Map<String, ClusterLoad> previous = this.selectionsBeforeRefresh;
+            if (previous.isEmpty()) {
+                this.selectionsBeforeRefresh = this.recordedSelections;
+            } else {
+                final Map<String, ClusterLoad> merged = new HashMap<>(previous);
+                this.recordedSelections.forEach(
+                    (clusterId, load) -> merged.merge(clusterId, load, ClusterLoadServiceImpl::add)
+                );
+                this.selectionsBeforeRefresh = merged;
+            }
+            this.recordedSelections = new ConcurrentHashMap<>();
+        }
+        try {
+            final Set<ClusterJobResourcesAggregate> aggregates = this.persistenceService.getActiveClusterJobResources();
+            final Map<String, ClusterLoad> loads = new HashMap<>();
+            for (final ClusterJobResourcesAggregate aggregate : aggregates) {
+                toClusterLoad(aggregate).ifPresent(
+                    load -> loads.merge(aggregate.getClusterId(), load, ClusterLoadServiceImpl::add)
+                );
+            }
+            this.clusterLoads = ImmutableMap.copyOf(loads);
+            this.selectionsBeforeRefresh = ImmutableMap.of();
+            log.debug("Refreshed the load of {} clusters", loads.size());
+            MetricsUtils.addSuccessTags(tags);
+        } catch (final RuntimeException e) {
+            // The load wasn't replaced so the selections recorded before stay counted until a refresh succeeds
+            log.error("Unable to refresh the cluster load from the database", e);
+            MetricsUtils.addFailureTagsWithException(tags, e);
+        } finally {
+            this.registry
+                .timer(REFRESH_TIMER_NAME, tags)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Optional<ClusterLoad> toClusterLoad(final ClusterJobResourcesAggregate aggregate) {
+        final JobStatus status;
+        try {
+            status = JobStatus.valueOf(aggregate.getStatus());
+        } catch (final IllegalArgumentException e) {
+            log.error("Jobs on cluster {} have unknown status {}", aggregate.getClusterId(), aggregate.getStatus());
+            return Optional.empty();
+        }
+        if (!status.isActive()) {
+            return Optional.empty();
+        }
+        final long jobs = Optional.ofNullable(aggregate.getJobsCount()).orElse(0L);
+        final long memory = Optional.ofNullable(aggregate.getRequestedMemory()).orElse(0L);
+        return Optional.of(
+            JobStatus.getStatusesBeforeClaimed().contains(status)
+                ? new ClusterLoad(0L, jobs, memory)
+                : new ClusterLoad(jobs, 0L, memory)
+        );
+    }
+
+    private static ClusterLoad add(final ClusterLoad first, final ClusterLoad second) {
+        return new ClusterLoad(
+            first.getRunningJobs() + second.getRunningJobs(),
+            first.getQueuedJobs() + second.getQueuedJobs(),
+            first.getRequestedMemory() + second.getRequestedMemory()
+        );
+    }
+}
@@ -0,0 +1,692 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnel;
+import com.google.common.hash.Funnels;
+import com.netflix.genie.common.dto.Job;
+import com.netflix.genie.common.dto.JobExecution;
+import com.netflix.genie.common.dto.JobMetadata;
+import com.netflix.genie.common.dto.JobRequest;
+import com.netflix.genie.common.dto.JobStatus;
+import com.netflix.genie.common.dto.search.JobSearchResult;
+import com.netflix.genie.common.external.util.GenieObjectMapper;
+import com.netflix.genie.common.internal.dtos.ArchiveStatus;
+import com.netflix.genie.web.dtos.ColdStoredJob;
+import com.netflix.genie.web.properties.JobColdStorageProperties;
+import com.netflix.genie.web.services.JobColdStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import jakarta.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Implementation of {@link JobColdStorageService} which stores jobs as immutable segments in a directory.
+ * <p>
+ * Each segment is a gzip compressed file of JSON serialized job records, one per line, sorted by descending creation
+ * time. Next to it an index file records the minimum and maximum creation time of the segment, the number of jobs per
+ * user and status and a bloom filter of the ids of the jobs in the segment. The index file is written last so a
+ * segment is only visible once it is complete.
+ * <p>
+ * Storing is idempotent per job. Jobs whose id is already in a segment are skipped so storing the same jobs again,
+ * for example after a crash between storing them and deleting them from the primary database, doesn't duplicate them.
+ * <p>
+ * Lookups by id only decompress the segments whose bloom filter may contain the id and stop at the first match.
+ * Searches only read segments when the requested page reaches past the results of the primary database and then read
+ * them newest first, stopping as soon as no remaining segment can hold a job of the page. Search totals are computed
+ * from the indexes. They are exact when the search is only on user and status and an upper bound otherwise.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class FileSystemJobColdStorageServiceImpl implements JobColdStorageService {
+
+    @VisibleForTesting
+    static final String SEGMENT_SUFFIX = ".jsonl.gz";
+    @VisibleForTesting
+    static final String INDEX_SUFFIX = ".index.json";
+    private static final String SEGMENT_PREFIX = "jobs-";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String CREATED = "created";
+    private static final String PERCENT = "%";
+    private static final String JOB_FIELD = "job";
+    private static final String REQUEST_FIELD = "request";
+    private static final String EXECUTION_FIELD = "execution";
+    private static final String METADATA_FIELD = "metadata";
+    private static final String ARCHIVE_STATUS_FIELD = "archiveStatus";
+    private static final double ID_FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final Funnel<CharSequence> ID_FUNNEL = Funnels.stringFunnel(StandardCharsets.UTF_8);
+    private static final Comparator<Job> CREATED_DESCENDING = Comparator
+        .comparing(FileSystemJobColdStorageServiceImpl::getCreated)
+        .reversed();
+    private static final Comparator<Segment> NEWEST_SEGMENT_FIRST = Comparator
+        .comparing((Segment segment) -> segment.maxCreated)
+        .reversed();
+
+    private final JobColdStorageProperties properties;
+    private final ObjectMapper mapper;
+    private final Object indexLock = new Object();
+    private volatile List<Segment> segments = Collections.emptyList();
+    private volatile long segmentsLoadedAt = Long.MIN_VALUE;
+
+    /**
+     * Constructor.
+     *
+     * @param properties The {@link JobColdStorageProperties} to use
+     */
+    public FileSystemJobColdStorageServiceImpl(final JobColdStorageProperties properties) {
+        this.properties = properties;
+        this.mapper = GenieObjectMapper.getMapper();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void storeJobs(final List<ColdStoredJob> jobs) throws IOException {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        final Set<String> storedIds = this.getStoredIds(
+            jobs
+                .stream()
+                .map(job -> job.getJob().getId().orElseThrow(IllegalArgumentException::new))
+                .collect(Collectors.toSet())
+        );
+        final List<ColdStoredJob> sortedJobs = jobs
+            .stream()
+            .filter(job -> !storedIds.contains(job.getJob().getId().orElseThrow(IllegalArgumentException::new)))
+            .collect(Collectors.toCollection(ArrayList::new));
+        if (sortedJobs.isEmpty()) {
+            log.info("All {} jobs are already in cold storage", jobs.size());
+            return;
+        }
+        sortedJobs.sort(Comparator.comparing(ColdStoredJob::getJob, CREATED_DESCENDING));
+        final Job newestJob = sortedJobs.get(0).getJob();
+        final Job oldestJob = sortedJobs.get(sortedJobs.size() - 1).getJob();
+
+        final Path directory = this.getDirectory();
+        Files.createDirectories(directory);
+        final String segmentName = SEGMENT_PREFIX
+            + getCreated(newestJob).toEpochMilli()
+            + "-"
+            + UUID.randomUUID();
+        final Path dataFile = directory.resolve(segmentName + SEGMENT_SUFFIX);
+        final Path indexFile = directory.resolve(segmentName + INDEX_SUFFIX);
+
+        final BloomFilter<CharSequence> ids = BloomFilter.create(
+            ID_FUNNEL,
+            sortedJobs.size(),
+            ID_FALSE_POSITIVE_PROBABILITY
+        );
+        final Map<String, Map<JobStatus, Long>> counts = new HashMap<>();
+
+        final Path tempDataFile = directory.resolve(segmentName + SEGMENT_SUFFIX + TEMP_SUFFIX);
+        try (
+            BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(tempDataFile)),
+                    StandardCharsets.UTF_8
+                )
+            )
+        ) {
+            for (final ColdStoredJob coldStoredJob : sortedJobs) {
+                final Job job = coldStoredJob.getJob();
+                writer.write(this.mapper.writeValueAsString(this.toRecord(coldStoredJob)));
+                writer.newLine();
+                job.getId().ifPresent(ids::put);
+                counts
+                    .computeIfAbsent(job.getUser(), user -> new EnumMap<>(JobStatus.class))
+                    .merge(job.getStatus(), 1L, Long::sum);
+            }
+        }
+
+        final Segment segment = new Segment(
+            dataFile,
+            getCreated(oldestJob),
+            getCreated(newestJob),
+            counts,
+            ids
+        );
+        final Path tempIndexFile = directory.resolve(segmentName + INDEX_SUFFIX + TEMP_SUFFIX);
+        Files.write(tempIndexFile, this.mapper.writeValueAsBytes(segment.toIndex(this.mapper)));
+
+        // Move the data first so the segment is only visible to readers once the index is in place
+        Files.move(tempDataFile, dataFile, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(tempIndexFile, indexFile, StandardCopyOption.ATOMIC_MOVE);
+
+        synchronized (this.indexLock) {
+            final List<Segment> updatedSegments = new ArrayList<>(this.segments);
+            updatedSegments.add(segment);
+            this.segments = Collections.unmodifiableList(updatedSegments);
+        }
+        log.info("Stored {} jobs in cold storage segment {}", sortedJobs.size(), dataFile);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<ColdStoredJob> getJob(final String id) {
+        if (!this.properties.isEnabled()) {
+            return Optional.empty();
+        }
+        // The id is serialized as is so lines which don't contain it can be skipped without being parsed
+        final String quotedId = "\"" + id + "\"";
+        for (final Segment segment : this.getSegments()) {
+            if (!segment.ids.mightContain(id)) {
+                continue;
+            }
+            try (Stream<String> lines = this.readLines(segment)) {
+                final Optional<ColdStoredJob> job = lines
+                    .filter(line -> line.contains(quotedId))
+                    .map(this::readRecord)
+                    .filter(candidate -> candidate.getJob().getId().map(id::equals).orElse(false))
+                    .findFirst();
+                if (job.isPresent()) {
+                    return job;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("checkstyle:parameternumber")
+    public Page<JobSearchResult> findJobs(
+        final Page<JobSearchResult> primaryResults,
+        @Nullable final String id,
+        @Nullable final String name,
+        @Nullable final String user,
+        @Nullable final Set<JobStatus> statuses,
+        @Nullable final Set<String> tags,
+        @Nullable final String clusterName,
+        @Nullable final String clusterId,
+        @Nullable final String commandName,
+        @Nullable final String commandId,
+        @Nullable final Instant minStarted,
+        @Nullable final Instant maxStarted,
+        @Nullable final Instant minFinished,
+        @Nullable final Instant maxFinished,
+        @Nullable final String grouping,
+        @Nullable final String groupingInstance,
+        final Pageable page
+    ) {
+        // Cold storage doesn't record cluster or command ids so nothing there can match those criteria
+        if (!this.properties.isEnabled()
+            || !isSortedByCreatedDescending(page)
+            || StringUtils.isNotBlank(clusterId)
+            || StringUtils.isNotBlank(commandId)) {
+            return primaryResults;
+        }
+
+        // A job can't start or finish before it is created so either bound is also a bound on the creation time
+        Instant maxCreated = maxStarted;
+        if (maxFinished != null && (maxCreated == null || maxFinished.isBefore(maxCreated))) {
+            maxCreated = maxFinished;
+        }
+        final Instant createdBound = maxCreated;
+        final String exactUser = StringUtils.isBlank(user) || StringUtils.contains(user, PERCENT) ? null : user;
+
+        final List<Segment> candidates = this
+            .getSegments()
+            .stream()
+            .filter(segment -> segment.mightMatch(id, exactUser, statuses, createdBound))
+            .sorted(NEWEST_SEGMENT_FIRST)
+            .collect(Collectors.toList());
+        // The index counts only account for the user and status criteria so with any other criteria they can only
+        // bound the number of matching jobs
+        final boolean exactCounts = StringUtils.isBlank(id)
+            && StringUtils.isBlank(name)
+            && (StringUtils.isBlank(user) || exactUser != null)
+            && (tags == null || tags.isEmpty())
+            && StringUtils.isBlank(clusterName)
+            && StringUtils.isBlank(commandName)
+            && minStarted == null
+            && maxStarted == null
+            && minFinished == null
+            && maxFinished == null
+            && StringUtils.isBlank(grouping)
+            && StringUtils.isBlank(groupingInstance);
+        final long coldCount = candidates.stream().mapToLong(segment -> segment.count(exactUser, statuses)).sum();
+        if (coldCount == 0L) {
+            return primaryResults;
+        }
+
+        final long primaryTotal = primaryResults.getTotalElements();
+        final List<JobSearchResult> content = new ArrayList<>(primaryResults.getContent());
+        final int remaining = page.getPageSize() - content.size();
+        if (remaining <= 0) {
+            // The page is served entirely from the primary database
+            return new PageImpl<>(content, page, primaryTotal + coldCount);
+        }
+
+        final Predicate<Job> filter = matches(id, Job::getId)
+            .and(matches(name, job -> Optional.of(job.getName())))
+            .and(matches(user, job -> Optional.of(job.getUser())))
+            .and(job -> statuses == null || statuses.isEmpty() || statuses.contains(job.getStatus()))
+            .and(job -> tags == null || tags.isEmpty() || job.getTags().containsAll(tags))
+            .and(matches(clusterName, Job::getClusterName))
+            .and(matches(commandName, Job::getCommandName))
+            .and(job -> minStarted == null || job.getStarted().map(t -> !t.isBefore(minStarted)).orElse(false))
+            .and(job -> maxStarted == null || job.getStarted().map(t -> t.isBefore(maxStarted)).orElse(false))
+            .and(job -> minFinished == null || job.getFinished().map(t -> !t.isBefore(minFinished)).orElse(false))
+            .and(job -> maxFinished == null || job.getFinished().map(t -> t.isBefore(maxFinished)).orElse(false))
+            .and(matches(grouping, Job::getGrouping))
+            .and(matches(groupingInstance, Job::getGroupingInstance));
+
+        // Read the segments newest first keeping only the jobs which can still be part of the page
+        final long coldOffset = Math.max(0L, page.getOffset() - primaryTotal);
+        final long needed = coldOffset + remaining;
+        List<Job> coldMatches = new ArrayList<>();
+        long numScannedMatches = 0L;
+        long unscannedCount = coldCount;
+        for (final Segment segment : candidates) {
+            if (coldMatches.size() >= needed && !getCreated(coldMatches.get(coldMatches.size() - 1))
+                .isBefore(segment.maxCreated)) {
+                // This and all the older segments can only hold jobs which sort after the page
+                break;
+            }
+            unscannedCount -= segment.count(exactUser, statuses);
+            try (Stream<String> lines = this.readLines(segment)) {
+                final List<Job> segmentMatches = lines
+                    .map(line -> this.readRecord(line).getJob())
+                    .filter(filter)
+                    .collect(Collectors.toList());
+                numScannedMatches += segmentMatches.size();
+                coldMatches.addAll(segmentMatches);
+            }
+            coldMatches.sort(CREATED_DESCENDING);
+            if (coldMatches.size() > needed) {
+                coldMatches = new ArrayList<>(coldMatches.subList(0, (int) needed));
+            }
+        }
+
+        coldMatches
+            .stream()
+            .skip(coldOffset)
+            .limit(remaining)
+            .map(FileSystemJobColdStorageServiceImpl::toSearchResult)
+            .forEach(content::add);
+        // Without exact counts the segments which weren't read can only contribute an upper bound
+        final long coldTotal = exactCounts ? coldCount : numScannedMatches + unscannedCount;
+        return new PageImpl<>(content, page, primaryTotal + coldTotal);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long deleteJobsCreatedBefore(final Instant creationThreshold) {
+        long numDeletedJobs = 0L;
+        synchronized (this.indexLock) {
+            // Always work off the current content of the location as other nodes may have written segments
+            final List<Segment> keptSegments = new ArrayList<>();
+            for (final Segment segment : this.loadSegments()) {
+                if (!segment.maxCreated.isBefore(creationThreshold)) {
+                    keptSegments.add(segment);
+                    continue;
+                }
+                try {
+                    // Delete the index first so readers stop considering the segment before its data goes away
+                    Files.deleteIfExists(segment.getIndex());
+                    Files.deleteIfExists(segment.data);
+                    numDeletedJobs += segment.count(null, null);
+                    log.info("Deleted cold storage segment {} past retention", segment.data);
+                } catch (final IOException e) {
+                    log.error("Unable to delete cold storage segment {}", segment.data, e);
+                    keptSegments.add(segment);
+                }
+            }
+            this.segments = Collections.unmodifiableList(keptSegments);
+            this.segmentsLoadedAt = System.currentTimeMillis();
+        }
+        return numDeletedJobs;
+    }
+
+    private static Instant getCreated(final Job job) {
+        return job.getCreated().orElse(Instant.EPOCH);
+    }
+
+    private static boolean isSortedByCreatedDescending(final Pageable page) {
+        if (page.isUnpaged()) {
+            return false;
+        }
+        final List<Sort.Order> orders = page.getSort().toList();
+        return orders.isEmpty()
+            || (orders.size() == 1 && CREATED.equals(orders.get(0).getProperty()) && orders.get(0).isDescending());
+    }
+
+    private static Predicate<Job> matches(
+        @Nullable final String criterion,
+        final Function<Job, Optional<String>> field
+    ) {
+        if (StringUtils.isBlank(criterion)) {
+            return job -> true;
+        }
+        if (StringUtils.contains(criterion, PERCENT)) {
+            // Same semantics as the SQL LIKE used against the primary database
+            final Pattern pattern = Pattern.compile(
+                Pattern.quote(criterion).replace(PERCENT, "\\E.*\\Q"),
+                Pattern.DOTALL
+            );
+            return job -> field.apply(job).map(value -> pattern.matcher(value).matches()).orElse(false);
+        }
+        return job -> field.apply(job).map(criterion::equals).orElse(false);
+    }
+
+    private static JobSearchResult toSearchResult(final Job job) {
+        return new JobSearchResult(
+            job.getId().orElseThrow(IllegalStateException::new),
+            job.getName(),
+            job.getUser(),
+            job.getStatus(),
+            job.getStarted().orElse(null),
+            job.getFinished().orElse(null),
+            job.getClusterName().orElse(null),
+            job.getCommandName().orElse(null)
+        );
+    }
+
+    private ObjectNode toRecord(final ColdStoredJob job) {
+        final ObjectNode record = this.mapper.createObjectNode();
+        record.set(JOB_FIELD, this.mapper.valueToTree(job.getJob()));
+        record.set(REQUEST_FIELD, this.mapper.valueToTree(job.getRequest()));
+        record.set(EXECUTION_FIELD, this.mapper.valueToTree(job.getExecution()));
+        record.set(METADATA_FIELD, this.mapper.valueToTree(job.getMetadata()));
+        record.put(ARCHIVE_STATUS_FIELD, job.getArchiveStatus().name());
+        return record;
+    }
+
+    private ColdStoredJob readRecord(final String line) {
+        try {
+            final JsonNode record = this.mapper.readTree(line);
+            return new ColdStoredJob(
+                this.mapper.treeToValue(record.get(JOB_FIELD), Job.class),
+                this.mapper.treeToValue(record.get(REQUEST_FIELD), JobRequest.class),
+                this.mapper.treeToValue(record.get(EXECUTION_FIELD), JobExecution.class),
+                this.mapper.treeToValue(record.get(METADATA_FIELD), JobMetadata.class),
+                // Segments written before the archive status was recorded don't have it
+                record.hasNonNull(ARCHIVE_STATUS_FIELD)
+                    ? ArchiveStatus.valueOf(record.get(ARCHIVE_STATUS_FIELD).asText())
+                    : ArchiveStatus.UNKNOWN
+            );
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to read cold storage record", e);
+        }
+    }
+
+    /**
+     * The subset of the given ids which are already stored in a segment. Always works off the current content of the
+     * location as the segments may have been written by another node.
+     */
+    private Set<String> getStoredIds(final Set<String> ids) {
+        final Set<String> storedIds = new HashSet<>();
+        for (final Segment segment : this.loadSegments()) {
+            final Set<String> candidateIds = ids
+                .stream()
+                .filter(id -> !storedIds.contains(id))
+                .filter(segment.ids::mightContain)
+                .collect(Collectors.toSet());
+            if (candidateIds.isEmpty()) {
+                continue;
+            }
+            try (Stream<String> lines = this.readLines(segment)) {
+                lines
+                    .filter(line -> candidateIds.stream().anyMatch(id -> line.contains("\"" + id + "\"")))
+                    .map(line -> this.readRecord(line).getJob().getId())
+                    .flatMap(Optional::stream)
+                    .filter(candidateIds::contains)
+                    .forEach(storedIds::add);
+            }
+        }
+        return storedIds;
+    }
+
+    private Path getDirectory() {
+        return Paths.get(this.properties.getLocation());
+    }
+
+    private List<Segment> getSegments() {
+        final long now = System.currentTimeMillis();
+        if (now - this.segmentsLoadedAt < this.properties.getIndexRefreshInterval()) {
+            return this.segments;
+        }
+        synchronized (this.indexLock) {
+            if (now - this.segmentsLoadedAt >= this.properties.getIndexRefreshInterval()) {
+                this.segments = Collections.unmodifiableList(this.loadSegments());
+                this.segmentsLoadedAt = now;
+            }
+            return this.segments;
+        }
+    }
+
+    private List<Segment> loadSegments() {
+        final Path directory = this.getDirectory();
+        final List<Segment> loadedSegments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return loadedSegments;
+        }
+        try (DirectoryStream<Path> indexFiles = Files.newDirectoryStream(directory, "*" + INDEX_SUFFIX)) {
+            for (final Path indexFile : indexFiles) {
+                final String fileName = indexFile.getFileName().toString();
+                final Path dataFile = directory.resolve(
+                    fileName.substring(0, fileName.length() - INDEX_SUFFIX.length()) + SEGMENT_SUFFIX
+                );
+                try {
+                    loadedSegments.add(Segment.fromIndex(dataFile, this.mapper.readTree(indexFile.toFile())));
+                } catch (final IOException | RuntimeException e) {
+                    log.error("Unable to read cold storage index {}. Skipping segment", indexFile, e);
+                }
+            }
+        } catch (final IOException e) {
+            log.error("Unable to list cold storage segments in {}", directory, e);
+        }
+        log.debug("Loaded {} cold storage segments from {}", loadedSegments.size(), directory);
+        return loadedSegments;
+    }
+
+    private Stream<String> readLines(final Segment segment) {
+        final InputStream input;
+        try {
+            input = Files.newInputStream(segment.data);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to read cold storage segment " + segment.data, e);
+        }
+        final BufferedReader reader;
+        try {
+            reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(input), StandardCharsets.UTF_8));
+        } catch (final IOException e) {
+            try {
+                input.close();
+            } catch (final IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw new UncheckedIOException("Unable to read cold storage segment " + segment.data, e);
+        }
+        return reader
+            .lines()
+            .filter(StringUtils::isNotBlank)
+            .onClose(
+                () -> {
+                    try {
+                        reader.close();
+                    } catch (final IOException e) {
+                        throw new UncheckedIOException("Unable to close cold storage segment " + segment.data, e);
+                    }
+                }
+            );
+    }
+
+    /**
+     * In memory representation of the index of a single segment.
+     */
+    private static final class Segment {
+        private final Path data;
+        private final Instant minCreated;
+        private final Instant maxCreated;
+        private final Map<String, Map<JobStatus, Long>> counts;
+        private final BloomFilter<CharSequence> ids;
+
+        private Segment(
+            final Path data,
+            final Instant minCreated,
+            final Instant maxCreated,
+            final Map<String, Map<JobStatus, Long>> counts,
+            final BloomFilter<CharSequence> ids
+        ) {
+            this.data = data;
+            this.minCreated = minCreated;
+            this.maxCreated = maxCreated;
+            this.counts = counts;
+            this.ids = ids;
+        }
+
+        private static Segment fromIndex(final Path data, final JsonNode index) throws IOException {
+            final Map<String, Map<JobStatus, Long>> counts = new HashMap<>();
+            index.get("counts").fields().forEachRemaining(
+                userCounts -> {
+                    final Map<JobStatus, Long> statusCounts = new EnumMap<>(JobStatus.class);
+                    userCounts.getValue().fields().forEachRemaining(
+                        statusCount -> statusCounts.put(
+                            JobStatus.valueOf(statusCount.getKey()),
+                            statusCount.getValue().asLong()
+                        )
+                    );
+                    counts.put(userCounts.getKey(), statusCounts);
+                }
+            );
+            return new Segment(
+                data,
+                Instant.ofEpochMilli(index.get("minCreated").asLong()),
+                Instant.ofEpochMilli(index.get("maxCreated").asLong()),
+                counts,
+                BloomFilter.readFrom(
+                    new ByteArrayInputStream(Base64.getDecoder().decode(index.get("ids").asText())),
+                    ID_FUNNEL
+                )
+            );
+        }
+
+        private ObjectNode toIndex(final ObjectMapper mapper) throws IOException {
+            final ObjectNode index = mapper.createObjectNode();
+            index.put("minCreated", this.minCreated.toEpochMilli());
+            index.put("maxCreated", this.maxCreated.toEpochMilli());
+            final ObjectNode countsNode = index.putObject("counts");
+            this.counts.forEach(
+                (user, statusCounts) -> {
+                    final ObjectNode userNode = countsNode.putObject(user);
+                    statusCounts.forEach((status, count) -> userNode.put(status.name(), count));
+                }
+            );
+            final ByteArrayOutputStream ids = new ByteArrayOutputStream();
+            this.ids.writeTo(ids);
+            index.put("ids", Base64.getEncoder().encodeToString(ids.toByteArray()));
+            return index;
+        }
+
+        private Path getIndex() {
+            final String fileName = this.data.getFileName().toString();
+            return this.data.resolveSibling(
+                fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX
+            );
+        }
+
+        /**
+         * The number of jobs in the segment of the given user, or all users if {@literal null}, in one of the given
+         * statuses, or any status if {@literal null} or empty.
+         */
+        private long count(@Nullable final String user, @Nullable final Set<JobStatus> queryStatuses) {
+            final Stream<Map<JobStatus, Long>> userCounts = user == null
+                ? this.counts.values().stream()
+                : Stream.ofNullable(this.counts.get(user));
+            return userCounts
+                .flatMap(statusCounts -> statusCounts.entrySet().stream())
+                .filter(
+                    statusCount -> queryStatuses == null
+                        || queryStatuses.isEmpty()
+                        || queryStatuses.contains(statusCount.getKey())
+                )
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+        }
+
+        private boolean mightMatch(
+            @Nullable final String id,
+            @Nullable final String exactUser,
+            @Nullable final Set<JobStatus> queryStatuses,
+            @Nullable final Instant maxCreatedExclusive
+        ) {
+            if (StringUtils.isNotBlank(id) && !StringUtils.contains(id, PERCENT) && !this.ids.mightContain(id)) {
+                return false;
+            }
+            if (this.count(exactUser, queryStatuses) == 0L) {
+                return false;
+            }
+            return maxCreatedExclusive == null || this.minCreated.isBefore(maxCreatedExclusive);
+        }
+    }
+}
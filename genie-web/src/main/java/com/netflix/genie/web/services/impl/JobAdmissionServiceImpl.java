@@ -0,0 +1,560 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.netflix.genie.common.dto.JobMetadata;
+import com.netflix.genie.common.exceptions.GenieException;
+import com.netflix.genie.common.exceptions.GenieUserLimitExceededException;
+import com.netflix.genie.common.internal.dtos.ApiClientMetadata;
+import com.netflix.genie.common.internal.dtos.JobRequest;
+import com.netflix.genie.common.internal.dtos.JobRequestMetadata;
+import com.netflix.genie.common.internal.exceptions.checked.GenieJobResolutionException;
+import com.netflix.genie.common.internal.util.GenieHostInfo;
+import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.data.services.PersistenceService;
+import com.netflix.genie.web.dtos.JobSubmission;
+import com.netflix.genie.web.events.JobStateChangeEvent;
+import com.netflix.genie.web.exceptions.checked.AgentLaunchException;
+import com.netflix.genie.web.exceptions.checked.IdAlreadyExistsException;
+import com.netflix.genie.web.exceptions.checked.NotFoundException;
+import com.netflix.genie.web.exceptions.checked.SaveAttachmentException;
+import com.netflix.genie.web.properties.JobAdmissionProperties;
+import com.netflix.genie.web.properties.JobsActiveLimitProperties;
+import com.netflix.genie.web.services.ActiveJobResourcesService;
+import com.netflix.genie.web.services.JobAdmissionService;
+import com.netflix.genie.web.services.JobLaunchService;
+import com.netflix.genie.web.util.MetricsConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementation of {@link JobAdmissionService} which saves queued jobs and keeps their queue in the memory of this
+ * node.
+ * <p>
+ * Each user with queued jobs has a FIFO queue. When capacity frees up the next job is taken from the queue of the user
+ * with the lowest pass (stride scheduling): every launch advances the pass of its user by the inverse of the user's
+ * weight so that over time users get launches in proportion to their weights. Queued jobs are launched on the given
+ * executor whenever a job finishes and at a fixed interval in case a finish event was missed or happened on another
+ * node.
+ * <p>
+ * Queued jobs are saved in {@literal RESERVED} state before their id is handed back so every node can report on and
+ * kill them. This node holds a lease on them which it renews at the dispatch interval. When the lease of a queued job
+ * lapses, because the node holding it went away or restarted, the first node to notice takes it over.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+@ThreadSafe
+public class JobAdmissionServiceImpl implements JobAdmissionService, ApplicationListener<JobStateChangeEvent> {
+
+    private static final String QUEUE_WAIT_TIMER_NAME = "genie.jobs.admission.queueWait.timer";
+    private static final String NUM_QUEUED_JOBS_GAUGE_NAME = "genie.jobs.admission.numQueuedJobs.gauge";
+    private static final String REJECTED_COUNTER_NAME = "genie.jobs.admission.rejected.counter";
+    private static final String ADOPTED_COUNTER_NAME = "genie.jobs.admission.adopted.counter";
+    private static final String LIMIT_TAG = "limit";
+    private static final String SUBMISSION_RATE_LIMIT = "submissionRate";
+    private static final String QUEUE_LIMIT = "queue";
+    private static final String USER_QUEUE_LIMIT = "userQueue";
+    private static final Duration TOKEN_BUCKET_EXPIRATION = Duration.ofHours(1L);
+    private static final int MAX_HOSTNAME_LENGTH = 200;
+
+    private final JobLaunchService jobLaunchService;
+    private final PersistenceService persistenceService;
+    private final ActiveJobResourcesService activeJobResourcesService;
+    private final JobsActiveLimitProperties activeLimitProperties;
+    private final JobAdmissionProperties properties;
+    private final TaskExecutor launchExecutor;
+    private final MeterRegistry registry;
+    private final String queueOwner;
+    private final Cache<String, TokenBucket> tokenBuckets;
+
+    private final Object lock = new Object();
+    // Guarded by lock
+    private final Map<String, UserState> users = new HashMap<>();
+    // Guarded by lock
+    private final Map<String, QueuedJob> queuedJobs = new HashMap<>();
+    // Guarded by lock. The number of jobs admitted into the queue which are still being saved
+    private int numSavingJobs;
+    // Guarded by lock. The pass of the last user selected, new and idle users start from here
+    private double virtualTime;
+
+    /**
+     * Constructor. Schedules the periodic dispatch of queued jobs if admission is enabled.
+     *
+     * @param jobLaunchService          The service to launch jobs with
+     * @param dataServices              The {@link DataServices} instance to save queued jobs with
+     * @param activeJobResourcesService The service holding the number of active jobs of each user
+     * @param activeLimitProperties     The active jobs limit of each user
+     * @param properties                The admission properties
+     * @param taskScheduler             The task scheduler to run the periodic dispatch on
+     * @param launchExecutor            The executor to launch queued jobs on
+     * @param registry                  The metrics registry
+     * @param genieHostInfo             The information about the node this service runs on
+     */
+    public JobAdmissionServiceImpl(
+        final JobLaunchService jobLaunchService,
+        final DataServices dataServices,
+        final ActiveJobResourcesService activeJobResourcesService,
+        final JobsActiveLimitProperties activeLimitProperties,
+        final JobAdmissionProperties properties,
+        final TaskScheduler taskScheduler,
+        final TaskExecutor launchExecutor,
+        final MeterRegistry registry,
+        final GenieHostInfo genieHostInfo
+    ) {
+        this.jobLaunchService = jobLaunchService;
+        this.persistenceService = dataServices.getPersistenceService();
+        this.activeJobResourcesService = activeJobResourcesService;
+        this.activeLimitProperties = activeLimitProperties;
+        this.properties = properties;
+        this.launchExecutor = launchExecutor;
+        this.registry = registry;
+        // Unique to this process so that a restarted node doesn't keep renewing jobs it no longer holds in memory
+        this.queueOwner = StringUtils.truncate(genieHostInfo.getHostname(), MAX_HOSTNAME_LENGTH)
+            + "/"
+            + UUID.randomUUID();
+        this.tokenBuckets = Caffeine
+            .newBuilder()
+            .expireAfterAccess(TOKEN_BUCKET_EXPIRATION)
+            .build();
+
+        this.registry.gauge(NUM_QUEUED_JOBS_GAUGE_NAME, this, JobAdmissionServiceImpl::getNumberOfQueuedJobs);
+        if (this.properties.isEnabled()) {
+            taskScheduler.scheduleWithFixedDelay(
+                () -> {
+                    this.maintainQueue();
+                    this.dispatch();
+                },
+                this.properties.getDispatchInterval()
+            );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return this.properties.isEnabled();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Nonnull
+    @Override
+    public String admit(final JobSubmission jobSubmission) throws
+        GenieUserLimitExceededException,
+        AgentLaunchException,
+        GenieJobResolutionException,
+        IdAlreadyExistsException,
+        NotFoundException,
+        SaveAttachmentException {
+        final String user = jobSubmission.getJobRequest().getMetadata().getUser();
+
+        if (!this.tryAcquireSubmissionToken(user)) {
+            this.incrementRejected(user, SUBMISSION_RATE_LIMIT);
+            throw GenieUserLimitExceededException.createForSubmissionRateLimit(
+                user,
+                this.properties.getSubmissionRate()
+            );
+        }
+
+        final boolean launchNow;
+        synchronized (this.lock) {
+            final UserState existingState = this.users.get(user);
+            final int userQueueSize = existingState == null ? 0 : existingState.queue.size() + existingState.saving;
+            if (userQueueSize == 0 && this.hasCapacity(user, existingState)) {
+                this.charge(user, this.users.computeIfAbsent(user, key -> new UserState(this.virtualTime)));
+                launchNow = true;
+            } else {
+                final int queueSize = this.queuedJobs.size() + this.numSavingJobs;
+                if (queueSize >= this.properties.getMaxQueuedJobs()) {
+                    this.incrementRejected(user, QUEUE_LIMIT);
+                    throw GenieUserLimitExceededException.createForAdmissionQueueLimit(
+                        user,
+                        queueSize,
+                        this.properties.getMaxQueuedJobs()
+                    );
+                }
+                if (userQueueSize >= this.properties.getMaxQueuedJobsPerUser()) {
+                    this.incrementRejected(user, USER_QUEUE_LIMIT);
+                    throw GenieUserLimitExceededException.createForAdmissionQueueLimit(
+                        user,
+                        userQueueSize,
+                        this.properties.getMaxQueuedJobsPerUser()
+                    );
+                }
+
+                // Hold the spot in the queue while the job is saved outside the lock
+                this.users.computeIfAbsent(user, key -> new UserState(this.virtualTime)).saving++;
+                this.numSavingJobs++;
+                launchNow = false;
+            }
+        }
+
+        if (launchNow) {
+            try {
+                return this.jobLaunchService.launchJob(jobSubmission);
+            } finally {
+                this.launchFinished(user);
+            }
+        }
+
+        QueuedJob queuedJob = null;
+        try {
+            final String jobId = this.persistenceService.saveJobSubmission(jobSubmission);
+            if (this.persistenceService.queueJob(jobId, this.queueOwner)) {
+                queuedJob = new QueuedJob(
+                    jobId,
+                    user,
+                    jobSubmission.getJobRequest(),
+                    jobSubmission.getJobRequestMetadata(),
+                    System.nanoTime()
+                );
+                log.info("User {} is at their active jobs limit. Queued job {}", user, jobId);
+            } else {
+                log.info("Job {} was no longer reserved once saved. Not queueing it", jobId);
+            }
+            return jobId;
+        } finally {
+            this.savingFinished(user, queuedJob);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean cancel(final String jobId) {
+        synchronized (this.lock) {
+            final QueuedJob queuedJob = this.queuedJobs.remove(jobId);
+            if (queuedJob == null) {
+                return false;
+            }
+            final UserState state = this.users.get(queuedJob.user);
+            if (state != null) {
+                state.queue.remove(queuedJob);
+                this.removeIfIdle(queuedJob.user, state);
+            }
+        }
+        log.info("Removed job {} from the admission queue", jobId);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onApplicationEvent(final JobStateChangeEvent event) {
+        if (this.properties.isEnabled() && event.getNewStatus().isFinished()) {
+            this.dispatch();
+        }
+    }
+
+    /**
+     * Renew the lease on the jobs queued on this node and take over the queued jobs whose lease lapsed.
+     */
+    @VisibleForTesting
+    void maintainQueue() {
+        try {
+            this.persistenceService.renewQueuedJobs(this.queueOwner);
+        } catch (final RuntimeException e) {
+            log.error("Unable to renew the lease on the jobs queued on this node", e);
+        }
+
+        final int room = this.properties.getMaxQueuedJobs() - this.getNumberOfQueuedJobs();
+        if (room <= 0) {
+            return;
+        }
+        final Instant renewedBefore = Instant.now().minus(this.properties.getQueueLeaseDuration());
+        try {
+            for (final String jobId : this.persistenceService.getQueuedJobsNotRenewedSince(renewedBefore, room)) {
+                if (this.persistenceService.adoptQueuedJob(jobId, this.queueOwner, renewedBefore)) {
+                    this.adopt(jobId);
+                }
+            }
+        } catch (final RuntimeException e) {
+            log.error("Unable to take over queued jobs whose lease lapsed", e);
+        }
+    }
+
+    /**
+     * Launch queued jobs for as long as their users have capacity.
+     */
+    @VisibleForTesting
+    void dispatch() {
+        QueuedJob next;
+        while ((next = this.selectNext()) != null) {
+            final QueuedJob queuedJob = next;
+            try {
+                this.launchExecutor.execute(() -> this.launch(queuedJob));
+            } catch (final RejectedExecutionException e) {
+                log.warn("Unable to launch queued job {}. Will retry on next dispatch", queuedJob.jobId, e);
+                this.requeue(queuedJob);
+                return;
+            }
+        }
+    }
+
+    @VisibleForTesting
+    int getNumberOfQueuedJobs() {
+        synchronized (this.lock) {
+            return this.queuedJobs.size();
+        }
+    }
+
+    @VisibleForTesting
+    String getQueueOwner() {
+        return this.queueOwner;
+    }
+
+    private void adopt(final String jobId) {
+        try {
+            final JobRequest jobRequest = this.persistenceService.getJobRequest(jobId);
+            final JobMetadata jobMetadata = this.persistenceService.getJobMetadata(jobId);
+            // Request headers aren't saved so they're lost for the launcher selection of jobs taken over
+            final JobRequestMetadata jobRequestMetadata = new JobRequestMetadata(
+                new ApiClientMetadata(
+                    jobMetadata.getClientHost().orElse(null),
+                    jobMetadata.getUserAgent().orElse(null)
+                ),
+                null,
+                jobMetadata.getNumAttachments().orElse(0),
+                jobMetadata.getTotalSizeOfAttachments().orElse(0L),
+                null
+            );
+            final String user = jobRequest.getMetadata().getUser();
+            synchronized (this.lock) {
+                final QueuedJob queuedJob = new QueuedJob(
+                    jobId,
+                    user,
+                    jobRequest,
+                    jobRequestMetadata,
+                    System.nanoTime()
+                );
+                this.users.computeIfAbsent(user, key -> new UserState(this.virtualTime)).queue.add(queuedJob);
+                this.queuedJobs.put(jobId, queuedJob);
+            }
+            this.registry.counter(ADOPTED_COUNTER_NAME, MetricsConstants.TagKeys.USER, user).increment();
+            log.info("Took over queued job {} of user {} whose lease lapsed", jobId, user);
+        } catch (final GenieException | NotFoundException | RuntimeException e) {
+            // Release the job so that the agent cleanup fails it rather than this node renewing it forever
+            log.error("Unable to take over queued job {}. Releasing it", jobId, e);
+            this.persistenceService.dequeueJob(jobId, this.queueOwner);
+        }
+    }
+
+    @Nullable
+    private QueuedJob selectNext() {
+        synchronized (this.lock) {
+            String selectedUser = null;
+            UserState selectedState = null;
+            for (final Map.Entry<String, UserState> entry : this.users.entrySet()) {
+                final UserState state = entry.getValue();
+                if (state.queue.isEmpty() || (selectedState != null && state.pass >= selectedState.pass)) {
+                    continue;
+                }
+                if (this.hasCapacity(entry.getKey(), state)) {
+                    selectedUser = entry.getKey();
+                    selectedState = state;
+                }
+            }
+            if (selectedState == null) {
+                return null;
+            }
+
+            final QueuedJob queuedJob = selectedState.queue.poll();
+            this.queuedJobs.remove(queuedJob.jobId);
+            this.charge(selectedUser, selectedState);
+            return queuedJob;
+        }
+    }
+
+    private void launch(final QueuedJob queuedJob) {
+        try {
+            if (!this.persistenceService.dequeueJob(queuedJob.jobId, this.queueOwner)) {
+                log.info("Job {} was killed or taken over by another node. Not launching it", queuedJob.jobId);
+                return;
+            }
+            this.registry
+                .timer(QUEUE_WAIT_TIMER_NAME, MetricsConstants.TagKeys.USER, queuedJob.user)
+                .record(System.nanoTime() - queuedJob.queuedAt, TimeUnit.NANOSECONDS);
+            this.jobLaunchService.launchSavedJob(queuedJob.jobId, queuedJob.jobRequest, queuedJob.jobRequestMetadata);
+            log.info("Launched queued job {} of user {}", queuedJob.jobId, queuedJob.user);
+        } catch (final Exception e) {
+            log.error("Unable to launch queued job {} of user {}", queuedJob.jobId, queuedJob.user, e);
+        } finally {
+            this.launchFinished(queuedJob.user);
+        }
+    }
+
+    private void requeue(final QueuedJob queuedJob) {
+        synchronized (this.lock) {
+            final UserState state = this.users.computeIfAbsent(queuedJob.user, key -> new UserState(this.virtualTime));
+            state.launching--;
+            state.queue.addFirst(queuedJob);
+            this.queuedJobs.put(queuedJob.jobId, queuedJob);
+        }
+    }
+
+    private void savingFinished(final String user, @Nullable final QueuedJob queuedJob) {
+        synchronized (this.lock) {
+            this.numSavingJobs--;
+            final UserState state = this.users.computeIfAbsent(user, key -> new UserState(this.virtualTime));
+            state.saving--;
+            if (queuedJob != null) {
+                state.queue.add(queuedJob);
+                this.queuedJobs.put(queuedJob.jobId, queuedJob);
+            }
+            this.removeIfIdle(user, state);
+        }
+    }
+
+    private void launchFinished(final String user) {
+        synchronized (this.lock) {
+            final UserState state = this.users.get(user);
+            if (state != null) {
+                state.launching--;
+                this.removeIfIdle(user, state);
+            }
+        }
+    }
+
+    // Must hold lock
+    private boolean hasCapacity(final String user, @Nullable final UserState state) {
+        if (!this.activeLimitProperties.isEnabled()) {
+            return true;
+        }
+        // Jobs being launched aren't necessarily counted as active yet
+        final long launching = state == null ? 0 : state.launching;
+        final long activeJobs = this.activeJobResourcesService.getUserResources(user).getNumberOfJobs() + launching;
+        return activeJobs < this.activeLimitProperties.getUserLimit(user);
+    }
+
+    // Must hold lock
+    private void charge(final String user, final UserState state) {
+        state.pass = Math.max(state.pass, this.virtualTime);
+        this.virtualTime = state.pass;
+        state.pass += 1.0 / this.properties.getUserWeight(user);
+        state.launching++;
+    }
+
+    // Must hold lock
+    private void removeIfIdle(final String user, final UserState state) {
+        if (state.queue.isEmpty() && state.launching <= 0 && state.saving <= 0) {
+            this.users.remove(user);
+        }
+    }
+
+    private boolean tryAcquireSubmissionToken(final String user) {
+        final double rate = this.properties.getSubmissionRate();
+        if (rate <= 0) {
+            return true;
+        }
+        final int burst = this.properties.getSubmissionBurst();
+        return this.tokenBuckets
+            .get(user, key -> new TokenBucket(burst, System.nanoTime()))
+            .tryAcquire(rate, burst, System.nanoTime());
+    }
+
+    private void incrementRejected(final String user, final String limit) {
+        this.registry.counter(
+            REJECTED_COUNTER_NAME,
+            MetricsConstants.TagKeys.USER,
+            user,
+            LIMIT_TAG,
+            limit
+        ).increment();
+    }
+
+    private static final class UserState {
+        private final Deque<QueuedJob> queue = new ArrayDeque<>();
+        private double pass;
+        private int launching;
+        private int saving;
+
+        private UserState(final double pass) {
+            this.pass = pass;
+        }
+    }
+
+    private static final class QueuedJob {
+        private final String jobId;
+        private final String user;
+        private final JobRequest jobRequest;
+        private final JobRequestMetadata jobRequestMetadata;
+        private final long queuedAt;
+
+        private QueuedJob(
+            final String jobId,
+            final String user,
+            final JobRequest jobRequest,
+            final JobRequestMetadata jobRequestMetadata,
+            final long queuedAt
+        ) {
+            this.jobId = jobId;
+            this.user = user;
+            this.jobRequest = jobRequest;
+            this.jobRequestMetadata = jobRequestMetadata;
+            this.queuedAt = queuedAt;
+        }
+    }
+
+    private static final class TokenBucket {
+        private double tokens;
+        private long lastRefill;
+
+        private TokenBucket(final int burst, final long now) {
+            this.tokens = burst;
+            this.lastRefill = now;
+        }
+
+        private synchronized boolean tryAcquire(final double rate, final int burst, final long now) {
+            final double refill = rate * (now - this.lastRefill) / TimeUnit.SECONDS.toNanos(1L);
+            this.tokens = Math.min(burst, this.tokens + refill);
+            this.lastRefill = now;
+            if (this.tokens < 1.0) {
+                return false;
+            }
+            this.tokens -= 1.0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services.impl;
+
+import com.google.common.io.ByteStreams;
+import com.netflix.genie.common.internal.dtos.DirectoryManifest;
+import com.netflix.genie.web.resources.writers.DirectoryArchiveWriter;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Streams a subtree of a job directory into a {@link DirectoryArchiveWriter} using only the manifest and ranged
+ * reads of the files. Files are split in chunks which are fetched ahead of the writer on a shared executor, at most
+ * {@code prefetchChunks} at a time, so the throughput of remote storage isn't limited by a single sequential read and
+ * the memory used doesn't depend on the size of the directory.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+class JobDirectoryArchiveStreamer {
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final ResourceLoader resourceLoader;
+    private final AsyncTaskExecutor executor;
+    private final int chunkSize;
+    private final long fetchTimeoutMillis;
+
+    /**
+     * Constructor.
+     *
+     * @param resourceLoader The resource loader used to open the files of the job directory
+     * @param executor       The executor chunks are fetched on
+     * @param chunkSize      The size of the ranges files are fetched in
+     * @param fetchTimeout   How long to wait for a chunk before giving up
+     */
+    JobDirectoryArchiveStreamer(
+        final ResourceLoader resourceLoader,
+        final AsyncTaskExecutor executor,
+        final int chunkSize,
+        final Duration fetchTimeout
+    ) {
+        this.resourceLoader = resourceLoader;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.fetchTimeoutMillis = fetchTimeout.toMillis();
+    }
+
+    /**
+     * Write {@code root} and everything below it to the archive. Entries are named relative to {@code rootName} and
+     * written depth first in name order.
+     *
+     * @param manifest         The manifest of the job directory
+     * @param root             The entry to archive
+     * @param rootName         The name of {@code root} in the archive
+     * @param jobDirectoryRoot The location of the job directory the manifest paths are relative to
+     * @param prefetchChunks   How many chunks to fetch ahead of the writer
+     * @param writer           The archive to write to. It is finished once all entries are written.
+     * @throws IOException On error reading a file or writing the archive
+     */
+    void stream(
+        final DirectoryManifest manifest,
+        final DirectoryManifest.ManifestEntry root,
+        final String rootName,
+        final URI jobDirectoryRoot,
+        final int prefetchChunks,
+        final DirectoryArchiveWriter writer
+    ) throws IOException {
+        final List<Item> items = new ArrayList<>();
+        final List<Chunk> chunks = new ArrayList<>();
+        this.plan(manifest, root, rootName, jobDirectoryRoot, items, chunks);
+        log.debug("Archiving {} entries in {} chunks from {}", items.size(), chunks.size(), jobDirectoryRoot);
+
+        final Deque<Future<byte[]>> inFlight = new ArrayDeque<>(prefetchChunks);
+        int nextChunk = 0;
+        try {
+            for (final Item item : items) {
+                final DirectoryManifest.ManifestEntry entry = item.entry;
+                if (entry.isDirectory()) {
+                    writer.putDirectory(item.name, entry.getLastModifiedTime());
+                    continue;
+                }
+                writer.putFile(item.name, entry.getSize(), entry.getLastModifiedTime());
+                if (item.chunked) {
+                    for (int i = 0; i < item.numChunks; i++) {
+                        while (inFlight.size() < prefetchChunks && nextChunk < chunks.size()) {
+                            final Chunk chunk = chunks.get(nextChunk++);
+                            inFlight.add(this.executor.submit(() -> this.fetch(chunk)));
+                        }
+                        final byte[] bytes = this.await(inFlight.poll(), item.name);
+                        writer.write(bytes, 0, bytes.length);
+                    }
+                } else {
+                    this.copy(item, writer);
+                }
+                writer.closeEntry();
+            }
+            writer.finish();
+        } finally {
+            // Only non-empty on failure. Stop fetching data nobody will read.
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private void plan(
+        final DirectoryManifest manifest,
+        final DirectoryManifest.ManifestEntry entry,
+        final String name,
+        final URI jobDirectoryRoot,
+        final List<Item> items,
+        final List<Chunk> chunks
+    ) {
+        if (entry.isDirectory()) {
+            items.add(new Item(entry, name, null, true, 0));
+            entry
+                .getChildren()
+                .stream()
+                .map(childPath -> {
+                    final Optional<DirectoryManifest.ManifestEntry> child = manifest.getEntry(childPath);
+                    if (child.isEmpty()) {
+                        log.warn("Child entry not found in manifest, skipping: {}", childPath);
+                    }
+                    return child;
+                })
+                .flatMap(Optional::stream)
+                .sorted(Comparator.comparing(DirectoryManifest.ManifestEntry::getName))
+                .forEach(child -> this.plan(
+                    manifest, child, name + "/" + child.getName(), jobDirectoryRoot, items, chunks
+                ));
+            return;
+        }
+
+        final String location = jobDirectoryRoot.resolve(entry.getPath()).toString();
+        final long size = entry.getSize();
+        // Ranges are parsed as integers by the storage resources so bigger files are copied in a single read
+        if (size > Integer.MAX_VALUE) {
+            items.add(new Item(entry, name, location, false, 0));
+            return;
+        }
+        int numChunks = 0;
+        for (long offset = 0; offset < size; offset += this.chunkSize) {
+            chunks.add(new Chunk(location, offset, (int) Math.min(this.chunkSize, size - offset)));
+            numChunks++;
+        }
+        items.add(new Item(entry, name, location, true, numChunks));
+    }
+
+    private byte[] fetch(final Chunk chunk) throws IOException {
+        final String range = "#bytes=" + chunk.offset + "-" + (chunk.offset + chunk.length - 1);
+        final byte[] bytes = new byte[chunk.length];
+        // Ranged resources return a stream positioned as if it was the whole file, skipping is what seeks
+        try (InputStream inputStream = this.resourceLoader.getResource(chunk.location + range).getInputStream()) {
+            ByteStreams.skipFully(inputStream, chunk.offset);
+            ByteStreams.readFully(inputStream, bytes);
+        }
+        return bytes;
+    }
+
+    private byte[] await(final Future<byte[]> future, final String name) throws IOException {
+        try {
+            return future.get(this.fetchTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while fetching " + name);
+        } catch (final TimeoutException e) {
+            throw new IOException("Timed out fetching " + name, e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Failed to fetch " + name, e.getCause());
+        }
+    }
+
+    private void copy(final Item item, final DirectoryArchiveWriter writer) throws IOException {
+        final byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        try (
+            InputStream inputStream = ByteStreams.limit(
+                this.resourceLoader.getResource(item.location).getInputStream(),
+                item.entry.getSize()
+            )
+        ) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                writer.write(buffer, 0, read);
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class Item {
+        private final DirectoryManifest.ManifestEntry entry;
+        private final String name;
+        private final String location;
+        private final boolean chunked;
+        private final int numChunks;
+    }
+
+    @AllArgsConstructor
+    private static final class Chunk {
+        private final String location;
+        private final long offset;
+        private final int length;
+    }
+}
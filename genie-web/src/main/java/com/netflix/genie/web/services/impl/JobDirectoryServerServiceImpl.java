@@ -34,29 +34,37 @@ import com.netflix.genie.web.agent.services.AgentRoutingService;
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.PersistenceService;
 import com.netflix.genie.web.dtos.ArchivedJobMetadata;
+import com.netflix.genie.web.dtos.DirectoryArchiveFormat;
 import com.netflix.genie.web.exceptions.checked.JobDirectoryManifestNotFoundException;
 import com.netflix.genie.web.exceptions.checked.JobNotArchivedException;
 import com.netflix.genie.web.exceptions.checked.JobNotFoundException;
 import com.netflix.genie.web.exceptions.checked.NotFoundException;
+import com.netflix.genie.web.properties.JobDirectoryArchiveDownloadProperties;
 import com.netflix.genie.web.resources.writers.DefaultDirectoryWriter;
+import com.netflix.genie.web.resources.writers.DirectoryArchiveWriter;
 import com.netflix.genie.web.services.ArchivedJobService;
 import com.netflix.genie.web.services.JobDirectoryServerService;
 import com.netflix.genie.web.util.MetricsUtils;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.client.utils.URIBuilder;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.ResourceHttpMessageConverter;
 import org.springframework.http.converter.ResourceRegionHttpMessageConverter;
 import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
 
+import jakarta.annotation.Nullable;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -66,6 +74,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -79,7 +88,10 @@ public class JobDirectoryServerServiceImpl implements JobDirectoryServerService
 
     private static final String SLASH = "/";
     private static final String SERVE_RESOURCE_TIMER = "genie.files.serve.timer";
+    private static final String SERVE_ARCHIVE_TIMER = "genie.files.archive.serve.timer";
     private static final String ARCHIVE_STATUS_TAG = "archiveStatus";
+    private static final String FORMAT_TAG = "format";
+    private static final int ARCHIVE_OUTPUT_BUFFER_SIZE = 64 * 1024;
 
     private final ResourceLoader resourceLoader;
     private final PersistenceService persistenceService;
@@ -88,17 +100,22 @@ public class JobDirectoryServerServiceImpl implements JobDirectoryServerService
     private final GenieResourceHandler.Factory genieResourceHandlerFactory;
     private final ArchivedJobService archivedJobService;
     private final AgentRoutingService agentRoutingService;
+    private final JobDirectoryArchiveDownloadProperties archiveDownloadProperties;
+    private final JobDirectoryArchiveStreamer archiveStreamer;
+    private final Semaphore archiveDownloads;
 
     /**
      * Constructor.
      *
-     * @param resourceLoader         The application resource loader used to get references to resources
-     * @param dataServices           The {@link DataServices} instance to use
-     * @param agentFileStreamService The service providing file manifest for active agent jobs
-     * @param archivedJobService     The {@link ArchivedJobService} implementation to use to get archived
-     *                               job data
-     * @param meterRegistry          The meter registry used to keep track of metrics
-     * @param agentRoutingService    The agent routing service
+     * @param resourceLoader            The application resource loader used to get references to resources
+     * @param dataServices              The {@link DataServices} instance to use
+     * @param agentFileStreamService    The service providing file manifest for active agent jobs
+     * @param archivedJobService        The {@link ArchivedJobService} implementation to use to get archived
+     *                                  job data
+     * @param meterRegistry             The meter registry used to keep track of metrics
+     * @param agentRoutingService       The agent routing service
+     * @param archiveDownloadProperties The properties of job directory archive downloads
+     * @param archiveDownloadExecutor   The executor the files of archive downloads are fetched on
      */
     public JobDirectoryServerServiceImpl(
         final ResourceLoader resourceLoader,
@@ -106,7 +123,9 @@ public class JobDirectoryServerServiceImpl implements JobDirectoryServerService
         final AgentFileStreamService agentFileStreamService,
         final ArchivedJobService archivedJobService,
         final MeterRegistry meterRegistry,
-        final AgentRoutingService agentRoutingService
+        final AgentRoutingService agentRoutingService,
+        final JobDirectoryArchiveDownloadProperties archiveDownloadProperties,
+        final AsyncTaskExecutor archiveDownloadExecutor
     ) {
         this(
             resourceLoader,
@@ -115,7 +134,9 @@ public class JobDirectoryServerServiceImpl implements JobDirectoryServerService
             archivedJobService,
             new GenieResourceHandler.Factory(),
             meterRegistry,
-            agentRoutingService
+            agentRoutingService,
+            archiveDownloadProperties,
+            archiveDownloadExecutor
         );
     }
 
@@ -130,7 +151,9 @@ public class JobDirectoryServerServiceImpl implements JobDirectoryServerService
         final ArchivedJobService archivedJobService,
         final GenieResourceHandler.Factory genieResourceHandlerFactory,
         final MeterRegistry meterRegistry,
-        final AgentRoutingService agentRoutingService
+        final AgentRoutingService agentRoutingService,
+        final JobDirectoryArchiveDownloadProperties archiveDownloadProperties,
+        final AsyncTaskExecutor archiveDownloadExecutor
     ) {
         this.resourceLoader = resourceLoader;
         this.persistenceService = dataServices.getPersistenceService();
@@ -139,6 +162,14 @@ public class JobDirectoryServerServiceImpl implements JobDirectoryServerService
         this.genieResourceHandlerFactory = genieResourceHandlerFactory;
         this.archivedJobService = archivedJobService;
         this.agentRoutingService = agentRoutingService;
+        this.archiveDownloadProperties = archiveDownloadProperties;
+        this.archiveStreamer = new JobDirectoryArchiveStreamer(
+            resourceLoader,
+            archiveDownloadExecutor,
+            (int) Math.min(archiveDownloadProperties.getChunkSize().toBytes(), Integer.MAX_VALUE),
+            archiveDownloadProperties.getFetchTimeout()
+        );
+        this.archiveDownloads = new Semaphore(archiveDownloadProperties.getMaxConcurrentDownloads());
     }
 
     /**
@@ -162,54 +193,11 @@ public class JobDirectoryServerServiceImpl implements JobDirectoryServerService
             final ArchiveStatus archiveStatus = this.persistenceService.getJobArchiveStatus(id);
             tags.add(Tag.of(ARCHIVE_STATUS_TAG, archiveStatus.name()));
 
-            final DirectoryManifest manifest;
-            final URI jobDirRoot;
-
-            switch (archiveStatus) {
-                case NO_FILES:
-                    // Job failed before any files were created. Nothing to serve.
-                    throw new GenieNotFoundException("Job failed before any file was created: " + id);
-
-                case FAILED:
-                    // Archive failed (also implies job is done). Return 404 without further processing
-                    throw new GenieNotFoundException("Job failed to archive files: " + id);
-
-                case DISABLED:
-                    // Not a possible state in database as of now [GENIE-657]
-                    throw new GeniePreconditionException("Archive disabled for job " + id);
-
-                case UNKNOWN:
-                    // Set by the server when an agent is AWOL long enough.
-                    // Archive status is truly unknown. As of now, fall-through and attempt serving from archive.
-
-                case ARCHIVED:
-                    // Serve file from archive
-                    log.debug("Routing request to archive");
-                    final ArchivedJobMetadata archivedJobMetadata = this.archivedJobService.getArchivedJobMetadata(id);
-                    final String rangeHeader = request.getHeader(HttpHeaders.RANGE);
-                    manifest = archivedJobMetadata.getManifest();
-                    final URI baseJobDirRoot = archivedJobMetadata.getArchiveBaseUri();
-                    jobDirRoot = new URIBuilder(baseJobDirRoot).setFragment(rangeHeader).build();
-                    break;
-
-                case PENDING:
-                    log.debug("Routing request to connected agent");
-                    if (!this.agentRoutingService.isAgentConnectionLocal(id)) {
-                        throw new GenieServerUnavailableException("Agent connection has moved or was terminated");
-                    }
-                    manifest = this.agentFileStreamService.getManifest(id).orElseThrow(
-                        () -> new GenieNotFoundException("Manifest not found for job " + id + " generally due to job not started.")
-                    );
-                    jobDirRoot = AgentFileProtocolResolver.createUri(
-                        id,
-                        SLASH,
-                        request.getHeader(HttpHeaders.RANGE)
-                    );
-                    break;
-
-                default:
-                    throw new GenieServerException("Unknown archive status " + archiveStatus + "(" + id + ")");
-            }
+            final JobDirectory jobDirectory = this.getJobDirectory(
+                id,
+                archiveStatus,
+                request.getHeader(HttpHeaders.RANGE)
+            );
 
             log.debug(
                 "Serving file: {} for job: {} (archive status: {})",
@@ -219,7 +207,14 @@ public class JobDirectoryServerServiceImpl implements JobDirectoryServerService
             );
 
             // Common handling of archived, locally running v3 job or locally connected v4 job
-            this.handleRequest(baseUri, relativePath, request, response, manifest, jobDirRoot);
+            this.handleRequest(
+                baseUri,
+                relativePath,
+                request,
+                response,
+                jobDirectory.manifest,
+                jobDirectory.root
+            );
             MetricsUtils.addSuccessTags(tags);
 
         } catch (NotFoundException e) {
@@ -246,6 +241,150 @@ public class JobDirectoryServerServiceImpl implements JobDirectoryServerService
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void serveArchive(
+        final String id,
+        final String relativePath,
+        final DirectoryArchiveFormat format,
+        final HttpServletResponse response
+    ) throws GenieException {
+        final long start = System.nanoTime();
+        final Set<Tag> tags = Sets.newHashSet(Tag.of(FORMAT_TAG, format.name()));
+        boolean acquired = false;
+        try {
+            if (!this.archiveDownloads.tryAcquire()) {
+                throw new GenieServerUnavailableException("Too many job directory archive downloads in progress");
+            }
+            acquired = true;
+
+            final ArchiveStatus archiveStatus = this.persistenceService.getJobArchiveStatus(id);
+            tags.add(Tag.of(ARCHIVE_STATUS_TAG, archiveStatus.name()));
+            final JobDirectory jobDirectory = this.getJobDirectory(id, archiveStatus, null);
+            final DirectoryManifest.ManifestEntry entry = jobDirectory.manifest.getEntry(relativePath).orElseThrow(
+                () -> new GenieNotFoundException("No such entry in job manifest: " + relativePath)
+            );
+
+            // The root of the job directory is named after the job so archives of different jobs don't collide
+            final String rootName = entry.getPath().isEmpty() ? id : entry.getName();
+            final int prefetchChunks = archiveStatus == ArchiveStatus.PENDING
+                ? this.archiveDownloadProperties.getAgentPrefetchChunks()
+                : this.archiveDownloadProperties.getPrefetchChunks();
+            log.debug(
+                "Serving {} archive of: {} for job: {} (archive status: {})",
+                format,
+                relativePath,
+                id,
+                archiveStatus
+            );
+
+            response.setContentType(format.getMediaType());
+            response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition
+                    .attachment()
+                    .filename(rootName + "." + format.getExtension(), StandardCharsets.UTF_8)
+                    .build()
+                    .toString()
+            );
+            // Not closed as the servlet container owns the response stream. Finishing the archive flushes it.
+            final BufferedOutputStream outputStream = new BufferedOutputStream(
+                response.getOutputStream(),
+                ARCHIVE_OUTPUT_BUFFER_SIZE
+            );
+            this.archiveStreamer.stream(
+                jobDirectory.manifest,
+                entry,
+                rootName,
+                jobDirectory.root,
+                prefetchChunks,
+                DirectoryArchiveWriter.create(format, outputStream)
+            );
+            MetricsUtils.addSuccessTags(tags);
+        } catch (IOException e) {
+            MetricsUtils.addFailureTagsWithException(tags, e);
+            throw new GenieServerException("Error streaming archive: " + e.getMessage(), e);
+        } catch (URISyntaxException e) {
+            MetricsUtils.addFailureTagsWithException(tags, e);
+            throw new GenieServerException(e.getMessage(), e);
+        } catch (final JobNotArchivedException e) {
+            MetricsUtils.addFailureTagsWithException(tags, e);
+            throw new GeniePreconditionException("Job outputs were not archived", e);
+        } catch (final JobNotFoundException | JobDirectoryManifestNotFoundException e) {
+            MetricsUtils.addFailureTagsWithException(tags, e);
+            throw new GenieNotFoundException("Failed to retrieve job archived files metadata", e);
+        } catch (GenieException e) {
+            MetricsUtils.addFailureTagsWithException(tags, e);
+            throw e;
+        } finally {
+            if (acquired) {
+                this.archiveDownloads.release();
+            }
+            final long elapsed = System.nanoTime() - start;
+            this.meterRegistry.timer(SERVE_ARCHIVE_TIMER, tags).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Locate the job directory based on the archive status of the job.
+     */
+    private JobDirectory getJobDirectory(
+        final String id,
+        final ArchiveStatus archiveStatus,
+        @Nullable final String rangeHeader
+    ) throws
+        GenieException,
+        JobNotFoundException,
+        JobNotArchivedException,
+        JobDirectoryManifestNotFoundException,
+        URISyntaxException {
+        switch (archiveStatus) {
+            case NO_FILES:
+                // Job failed before any files were created. Nothing to serve.
+                throw new GenieNotFoundException("Job failed before any file was created: " + id);
+
+            case FAILED:
+                // Archive failed (also implies job is done). Return 404 without further processing
+                throw new GenieNotFoundException("Job failed to archive files: " + id);
+
+            case DISABLED:
+                // Not a possible state in database as of now [GENIE-657]
+                throw new GeniePreconditionException("Archive disabled for job " + id);
+
+            case UNKNOWN:
+                // Set by the server when an agent is AWOL long enough.
+                // Archive status is truly unknown. As of now, fall-through and attempt serving from archive.
+
+            case ARCHIVED:
+                // Serve file from archive
+                log.debug("Routing request to archive");
+                final ArchivedJobMetadata archivedJobMetadata = this.archivedJobService.getArchivedJobMetadata(id);
+                return new JobDirectory(
+                    archivedJobMetadata.getManifest(),
+                    new URIBuilder(archivedJobMetadata.getArchiveBaseUri()).setFragment(rangeHeader).build()
+                );
+
+            case PENDING:
+                log.debug("Routing request to connected agent");
+                if (!this.agentRoutingService.isAgentConnectionLocal(id)) {
+                    throw new GenieServerUnavailableException("Agent connection has moved or was terminated");
+                }
+                return new JobDirectory(
+                    this.agentFileStreamService.getManifest(id).orElseThrow(
+                        () -> new GenieNotFoundException(
+                            "Manifest not found for job " + id + " generally due to job not started."
+                        )
+                    ),
+                    AgentFileProtocolResolver.createUri(id, SLASH, rangeHeader)
+                );
+
+            default:
+                throw new GenieServerException("Unknown archive status " + archiveStatus + "(" + id + ")");
+        }
+    }
+
     private void handleRequest(
         final URI baseUri,
         final String relativePath,
@@ -356,6 +495,12 @@ public class JobDirectoryServerServiceImpl implements JobDirectoryServerService
         return entry;
     }
 
+    @AllArgsConstructor
+    private static final class JobDirectory {
+        private final DirectoryManifest manifest;
+        private final URI root;
+    }
+
     /**
      * Helper class which overrides two entry points from {@link ResourceHttpRequestHandler} in order to be easily
      * reusable for our use case while still leveraging all the work done in there for proper HTTP interaction.
@@ -23,6 +23,8 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.Sets;
 import com.netflix.genie.common.dto.JobStatusMessages;
 import com.netflix.genie.common.internal.dtos.ArchiveStatus;
+import com.netflix.genie.common.internal.dtos.JobRequest;
+import com.netflix.genie.common.internal.dtos.JobRequestMetadata;
 import com.netflix.genie.common.internal.dtos.JobStatus;
 import com.netflix.genie.common.internal.exceptions.checked.GenieJobResolutionException;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
@@ -74,7 +76,6 @@ public class JobLaunchServiceImpl implements JobLaunchService {
     private static final String SELECTOR_CLASS_TAG = "agentLauncherSelectorClass";
     private static final String LAUNCHER_CLASS_TAG = "agentLauncherSelectedClass";
     private static final int MAX_STATUS_UPDATE_ATTEMPTS = 5;
-    private static final int INITIAL_ATTEMPT = 0;
     private static final String ACCEPTED_MESSAGE = "The job has been accepted by the system for execution";
 
     private final PersistenceService persistenceService;
@@ -135,80 +136,13 @@ public class JobLaunchServiceImpl implements JobLaunchService {
             final String jobId = this.persistenceService.saveJobSubmission(jobSubmission);
             span.annotate(SAVED_JOB_SUBMISSION_ANNOTATION);
 
-            final ResolvedJob resolvedJob;
-            try {
-                resolvedJob = this.jobResolverService.resolveJob(jobId);
-            } catch (final Throwable t) {
-                final String message;
-                if (t instanceof GenieJobResolutionException) {
-                    message = JobStatusMessages.FAILED_TO_RESOLVE_JOB;
-                } else {
-                    message = JobStatusMessages.RESOLUTION_RUNTIME_ERROR;
-                }
-
-                MetricsUtils.addFailureTagsWithException(tags, t);
-                this.persistenceService.updateJobArchiveStatus(jobId, ArchiveStatus.NO_FILES);
-                if (
-                    this.updateJobStatus(jobId, JobStatus.RESERVED, JobStatus.FAILED, message, INITIAL_ATTEMPT)
-                        != JobStatus.FAILED
-                ) {
-                    log.error("Updating status to failed didn't succeed");
-                }
-                throw t; // Caught below for metrics gathering
-            }
-            span.annotate(RESOLVED_JOB_ANNOTATION);
-
-            // Job state should be RESOLVED now. Mark it ACCEPTED to avoid race condition with agent starting up
-            // before we get return from launchAgent and trying to set it to CLAIMED
-            try {
-                final JobStatus updatedStatus = this.updateJobStatus(
-                    jobId,
-                    JobStatus.RESOLVED,
-                    JobStatus.ACCEPTED,
-                    ACCEPTED_MESSAGE,
-                    INITIAL_ATTEMPT
-                );
-                if (updatedStatus != JobStatus.ACCEPTED) {
-                    throw new AgentLaunchException("Unable to mark job accepted. Job state " + updatedStatus);
-                }
-            } catch (final Exception e) {
-                this.persistenceService.updateJobArchiveStatus(jobId, ArchiveStatus.NO_FILES);
-                // TODO: Failed to update the status to accepted. Try to set it to failed or rely on other cleanup
-                //       mechanism? For now rely on janitor mechanisms
-                throw e;
-            }
-            span.annotate(MARKED_JOB_ACCEPTED_ANNOTATION);
-
-            // TODO: at the moment this is not populated, it's going to be a null node (not null)
-            final JsonNode requestedLauncherExt = this.persistenceService.getRequestedLauncherExt(jobId);
-
-            final Optional<JsonNode> launcherExt;
-            try {
-                final AgentLauncher launcher = this.selectLauncher(jobId, jobSubmission, resolvedJob);
-                tags.add(Tag.of(LAUNCHER_CLASS_TAG, launcher.getClass().getCanonicalName()));
-                launcherExt = launcher.launchAgent(resolvedJob, requestedLauncherExt);
-            } catch (final AgentLaunchException e) {
-                this.persistenceService.updateJobArchiveStatus(jobId, ArchiveStatus.NO_FILES);
-                this.updateJobStatus(jobId, JobStatus.ACCEPTED, JobStatus.FAILED, e.getMessage(), INITIAL_ATTEMPT);
-                // TODO: How will we get the ID back to the user? Should we add it to an exception? We don't get
-                //       We don't get the ID until after saveJobSubmission so if that fails we'd still return nothing
-                //       Probably need multiple exceptions to be thrown from this API (if we go with checked)
-                throw e;
-            }
-            span.annotate(LAUNCHED_AGENT_ANNOTATION);
-
-            if (launcherExt.isPresent()) {
-                try {
-                    this.persistenceService.updateLauncherExt(jobId, launcherExt.get());
-                } catch (final Exception e) {
-                    // Being unable to update the launcher ext is not optimal however
-                    // it's not worth returning an error to the user at this point as
-                    // the agent has launched and we have all the other pieces in place
-                    log.error("Unable to update the launcher ext for job {}", jobId, e);
-                }
-            }
-            span.annotate(SAVED_LAUNCHER_EXT_ANNOTATION);
-
+            this.resolveAndLaunch(
+                jobId,
+                jobSubmission.getJobRequest(),
+                jobSubmission.getJobRequestMetadata(),
+                span,
+                tags
+            );
             MetricsUtils.addSuccessTags(tags);
             return jobId;
         } catch (final Throwable t) {
@@ -222,17 +156,125 @@ public class JobLaunchServiceImpl implements JobLaunchService {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void launchSavedJob(
+        final String jobId,
+        @Valid final JobRequest jobRequest,
+        @Valid final JobRequestMetadata jobRequestMetadata
+    ) throws AgentLaunchException, GenieJobResolutionException, NotFoundException {
+        final long start = System.nanoTime();
+        final SpanCustomizer span = this.tracer.currentSpanCustomizer();
+        span.annotate(BEGIN_LAUNCH_JOB_ANNOTATION);
+        final Set<Tag> tags = Sets.newHashSet();
+        try {
+            this.resolveAndLaunch(jobId, jobRequest, jobRequestMetadata, span, tags);
+            MetricsUtils.addSuccessTags(tags);
+        } catch (final Throwable t) {
+            MetricsUtils.addFailureTagsWithException(tags, t);
+            throw t;
+        } finally {
+            span.annotate(END_LAUNCH_JOB_ANNOTATION);
+            this.registry
+                .timer(LAUNCH_JOB_TIMER, tags)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void resolveAndLaunch(
+        final String jobId,
+        final JobRequest jobRequest,
+        final JobRequestMetadata jobRequestMetadata,
+        final SpanCustomizer span,
+        final Set<Tag> tags
+    ) throws AgentLaunchException, GenieJobResolutionException, NotFoundException {
+        final ResolvedJob resolvedJob;
+        try {
+            resolvedJob = this.jobResolverService.resolveJob(jobId);
+        } catch (final Throwable t) {
+            final String message;
+            if (t instanceof GenieJobResolutionException) {
+                message = JobStatusMessages.FAILED_TO_RESOLVE_JOB;
+            } else {
+                message = JobStatusMessages.RESOLUTION_RUNTIME_ERROR;
+            }
+
+            MetricsUtils.addFailureTagsWithException(tags, t);
+            this.persistenceService.updateJobArchiveStatus(jobId, ArchiveStatus.NO_FILES);
+            if (
+                this.updateJobStatus(jobId, JobStatus.RESERVED, JobStatus.FAILED, message) != JobStatus.FAILED
+            ) {
+                log.error("Updating status to failed didn't succeed");
+            }
+            throw t; // Caught by the caller for metrics gathering
+        }
+        span.annotate(RESOLVED_JOB_ANNOTATION);
+
+        // Job state should be RESOLVED now. Mark it ACCEPTED to avoid race condition with agent starting up
+        // before we get return from launchAgent and trying to set it to CLAIMED
+        try {
+            final JobStatus updatedStatus = this.updateJobStatus(
+                jobId,
+                JobStatus.RESOLVED,
+                JobStatus.ACCEPTED,
+                ACCEPTED_MESSAGE
+            );
+            if (updatedStatus != JobStatus.ACCEPTED) {
+                throw new AgentLaunchException("Unable to mark job accepted. Job state " + updatedStatus);
+            }
+        } catch (final Exception e) {
+            this.persistenceService.updateJobArchiveStatus(jobId, ArchiveStatus.NO_FILES);
+            // TODO: Failed to update the status to accepted. Try to set it to failed or rely on other cleanup
+            //       mechanism? For now rely on janitor mechanisms
+            throw e;
+        }
+        span.annotate(MARKED_JOB_ACCEPTED_ANNOTATION);
+
+        // TODO: at the moment this is not populated, it's going to be a null node (not null)
+        final JsonNode requestedLauncherExt = this.persistenceService.getRequestedLauncherExt(jobId);
+
+        final Optional<JsonNode> launcherExt;
+        try {
+            final AgentLauncher launcher = this.selectLauncher(jobId, jobRequest, jobRequestMetadata, resolvedJob);
+            tags.add(Tag.of(LAUNCHER_CLASS_TAG, launcher.getClass().getCanonicalName()));
+            launcherExt = launcher.launchAgent(resolvedJob, requestedLauncherExt);
+        } catch (final AgentLaunchException e) {
+            this.persistenceService.updateJobArchiveStatus(jobId, ArchiveStatus.NO_FILES);
+            this.updateJobStatus(jobId, JobStatus.ACCEPTED, JobStatus.FAILED, e.getMessage());
+            // TODO: How will we get the ID back to the user? Should we add it to an exception? We don't get
+            //       We don't get the ID until after saveJobSubmission so if that fails we'd still return nothing
+            //       Probably need multiple exceptions to be thrown from this API (if we go with checked)
+            throw e;
+        }
+        span.annotate(LAUNCHED_AGENT_ANNOTATION);
+
+        if (launcherExt.isPresent()) {
+            try {
+                this.persistenceService.updateLauncherExt(jobId, launcherExt.get());
+            } catch (final Exception e) {
+                // Being unable to update the launcher ext is not optimal however
+                // it's not worth returning an error to the user at this point as
+                // the agent has launched and we have all the other pieces in place
+                log.error("Unable to update the launcher ext for job {}", jobId, e);
+            }
+        }
+        span.annotate(SAVED_LAUNCHER_EXT_ANNOTATION);
+    }
+
     private AgentLauncher selectLauncher(
         final String jobId,
-        final JobSubmission jobSubmission,
+        final JobRequest jobRequest,
+        final JobRequestMetadata jobRequestMetadata,
         final ResolvedJob resolvedJob
     ) throws AgentLaunchException {
         final Collection<AgentLauncher> availableLaunchers = this.agentLauncherSelector.getAgentLaunchers();
         log.debug("Selecting agent launcher for job {} ({} available)", jobId, availableLaunchers.size());
         final AgentLauncherSelectionContext context = new AgentLauncherSelectionContext(
             jobId,
-            jobSubmission.getJobRequest(),
-            jobSubmission.getJobRequestMetadata(),
+            jobRequest,
+            jobRequestMetadata,
             resolvedJob,
             availableLaunchers
         );
@@ -269,60 +311,55 @@ public class JobLaunchServiceImpl implements JobLaunchService {
     /**
      * Helper method to update the job status ONLY IF the job is not in a final state already. This will maintain the
      * final state that may have been set elsewhere by another process (e.g. kill request).
+     * <p>
+     * Each attempt is a compare and set against the status last seen in the database so a concurrent change is never
+     * overwritten blindly. If another process moved the job to a different non-final status the update is retried
+     * from that status.
      *
      * @param jobId                The id of the job to update status for
+     * @param expectedStatus       The {@link JobStatus} the job is expected to be in before the first attempt
      * @param desiredStatus        The {@link JobStatus} that is the status the job should be in the database after
      *                             exiting this method
      * @param desiredStatusMessage The status message for the database
-     * @param attemptNumber        The number of attempts that have been made to update this job status
      * @return The {@link JobStatus} in the database after the final attempt of this method
      */
     private JobStatus updateJobStatus(
         final String jobId,
         final JobStatus expectedStatus,
         final JobStatus desiredStatus,
-        final String desiredStatusMessage,
-        final int attemptNumber
+        final String desiredStatusMessage
     ) throws NotFoundException {
-        final int nextAttemptNumber = attemptNumber + 1;
-        final JobStatus currentStatus = this.persistenceService.updateJobStatus(
-            jobId,
-            expectedStatus,
-            desiredStatus,
-            desiredStatusMessage
-        );
-        if (currentStatus.isFinished()) {
-            log.info(
-                "Won't change job status of {} from {} to {} desired status as {} is already a final status",
+        JobStatus assumedStatus = expectedStatus;
+        for (int attempt = 1; ; attempt++) {
+            final JobStatus currentStatus = this.persistenceService.updateJobStatus(
                 jobId,
-                currentStatus,
+                assumedStatus,
                 desiredStatus,
-                currentStatus
+                desiredStatusMessage
             );
-            return currentStatus;
-        } else if (currentStatus == desiredStatus) {
-            log.debug("Successfully updated status of {} from {} to {}", jobId, expectedStatus, desiredStatus);
-            return currentStatus;
-        } else {
+            if (currentStatus.isFinished()) {
+                log.info(
+                    "Won't change job status of {} from {} to {} desired status as {} is already a final status",
+                    jobId,
+                    currentStatus,
+                    desiredStatus,
+                    currentStatus
+                );
+                return currentStatus;
+            } else if (currentStatus == desiredStatus) {
+                log.debug("Successfully updated status of {} from {} to {}", jobId, assumedStatus, desiredStatus);
+                return currentStatus;
+            }
+
             log.error(
                 "Job {} status changed from expected {} to {}. Couldn't update to {}. Attempt {}",
                 jobId,
-                expectedStatus,
+                assumedStatus,
                 currentStatus,
                 desiredStatus,
-                nextAttemptNumber
+                attempt
             );
-            // Recursive call that should break out if update is successful or job is now in a final state
-            // or if attempts reach the max attempts
-            if (nextAttemptNumber < MAX_STATUS_UPDATE_ATTEMPTS) {
-                return this.updateJobStatus(
-                    jobId,
-                    currentStatus,
-                    desiredStatus,
-                    desiredStatusMessage,
-                    nextAttemptNumber
-                );
-            } else {
+            if (attempt >= MAX_STATUS_UPDATE_ATTEMPTS) {
                 // breakout condition, stop attempting to update DB
                 log.error(
                     "Out of attempts to update job {} status to {}. Unable to complete status update",
@@ -331,6 +368,7 @@ public class JobLaunchServiceImpl implements JobLaunchService {
                 );
                 return currentStatus;
             }
+            assumedStatus = currentStatus;
         }
     }
 }
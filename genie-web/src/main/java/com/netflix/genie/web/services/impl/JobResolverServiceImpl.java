@@ -17,6 +17,7 @@
  */
 package com.netflix.genie.web.services.impl;
 
+import brave.NoopSpanCustomizer;
 import brave.SpanCustomizer;
 import brave.Tracer;
 import com.netflix.genie.common.internal.dtos.Application;
@@ -25,6 +26,7 @@ import com.netflix.genie.common.internal.dtos.ClusterMetadata;
 import com.netflix.genie.common.internal.dtos.Command;
 import com.netflix.genie.common.internal.dtos.ComputeResources;
 import com.netflix.genie.common.internal.dtos.Criterion;
+import com.netflix.genie.common.internal.dtos.ExecutionResourceCriteria;
 import com.netflix.genie.common.internal.dtos.Image;
 import com.netflix.genie.common.internal.dtos.JobEnvironment;
 import com.netflix.genie.common.internal.dtos.JobMetadata;
@@ -37,22 +39,27 @@ import com.netflix.genie.common.internal.jobs.JobConstants;
 import com.netflix.genie.common.internal.tracing.TracingConstants;
 import com.netflix.genie.common.internal.tracing.brave.BraveTagAdapter;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
+import com.netflix.genie.web.data.services.CatalogCaches;
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.PersistenceService;
 import com.netflix.genie.web.dtos.ResolvedJob;
 import com.netflix.genie.web.dtos.ResourceSelectionResult;
+import com.netflix.genie.web.exceptions.checked.PreconditionFailedException;
 import com.netflix.genie.web.exceptions.checked.ResourceSelectionException;
+import com.netflix.genie.web.properties.JobResolutionBatchProperties;
 import com.netflix.genie.web.properties.JobResolutionProperties;
 import com.netflix.genie.web.properties.JobsProperties;
 import com.netflix.genie.web.selectors.ClusterSelectionContext;
 import com.netflix.genie.web.selectors.ClusterSelector;
 import com.netflix.genie.web.selectors.CommandSelectionContext;
 import com.netflix.genie.web.selectors.CommandSelector;
+import com.netflix.genie.web.services.ClusterLoadService;
 import com.netflix.genie.web.services.JobResolverService;
 import com.netflix.genie.web.util.MetricsConstants;
 import com.netflix.genie.web.util.MetricsUtils;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
@@ -62,6 +69,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.TargetClassAware;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
@@ -82,6 +92,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -129,6 +142,19 @@ public class JobResolverServiceImpl implements JobResolverService {
     private static final String CLUSTER_SELECTOR_COUNTER
         = "genie.services.jobResolver.resolveCluster.clusterSelector.counter";
 
+    /**
+     * How many times the candidate command to clusters matrix was found in or missing from the resolution cache.
+     */
+    private static final String RESOLUTION_CACHE_COUNTER
+        = "genie.services.jobResolver.resolveCommand.resolutionCache.counter";
+
+    /**
+     * How much time computing the candidate command to clusters matrix took when it was originally cached, recorded
+     * each time the cached matrix is reused instead.
+     */
+    private static final String RESOLUTION_CACHE_SAVED_TIMER
+        = "genie.services.jobResolver.resolveCommand.resolutionCache.savedTime.timer";
+
     private static final int DEFAULT_CPU = 1;
     private static final int DEFAULT_GPU = 0;
     private static final long DEFAULT_MEMORY = 1_500L;
@@ -151,6 +177,10 @@ public class JobResolverServiceImpl implements JobResolverService {
 
     private static final String CLUSTER_SELECTOR_STATUS_SUCCESS = "success";
     private static final String CLUSTER_SELECTOR_STATUS_NO_PREFERENCE = "no preference";
+
+    private static final String RESOLUTION_CACHE_RESULT_TAG = "result";
+    private static final Tag RESOLUTION_CACHE_HIT_TAG = Tag.of(RESOLUTION_CACHE_RESULT_TAG, "hit");
+    private static final Tag RESOLUTION_CACHE_MISS_TAG = Tag.of(RESOLUTION_CACHE_RESULT_TAG, "miss");
     //endregion
 
     //region Members
@@ -164,6 +194,10 @@ public class JobResolverServiceImpl implements JobResolverService {
     private final Tracer tracer;
     private final BraveTagAdapter tagAdapter;
     private final JobResolutionProperties jobResolutionProperties;
+    private final Cache resolutionCandidatesCache;
+    private final JobResolutionBatchProperties batchProperties;
+    private final TaskExecutor batchExecutor;
+    private final ClusterLoadService clusterLoadService;
     //endregion
 
     //region Public APIs
@@ -178,6 +212,12 @@ public class JobResolverServiceImpl implements JobResolverService {
      * @param jobsProperties          The properties for running a job set by the user
      * @param jobResolutionProperties The {@link JobResolutionProperties} instance
      * @param tracingComponents       The {@link BraveTracingComponents} instance to use
+     * @param cacheManager            The {@link CacheManager} holding the {@link CatalogCaches}. If {@literal null}
+     *                                the candidate commands and clusters are computed for every job
+     * @param batchProperties         The {@link JobResolutionBatchProperties} instance
+     * @param batchExecutor           The {@link TaskExecutor} resolving the requests of batches in parallel
+     * @param clusterLoadService      The {@link ClusterLoadService} to record the clusters saved jobs were sent to.
+     *                                {@literal null} if cluster load isn't tracked
      */
     public JobResolverServiceImpl(
         final DataServices dataServices,
@@ -186,7 +226,11 @@ public class JobResolverServiceImpl implements JobResolverService {
         final MeterRegistry registry,
         final JobsProperties jobsProperties,
         final JobResolutionProperties jobResolutionProperties,
-        final BraveTracingComponents tracingComponents
+        final BraveTracingComponents tracingComponents,
+        @Nullable final CacheManager cacheManager,
+        final JobResolutionBatchProperties batchProperties,
+        final TaskExecutor batchExecutor,
+        @Nullable final ClusterLoadService clusterLoadService
     ) {
         this.persistenceService = dataServices.getPersistenceService();
         this.clusterSelectors = clusterSelectors;
@@ -206,6 +250,16 @@ public class JobResolverServiceImpl implements JobResolverService {
         // tracing
         this.tracer = tracingComponents.getTracer();
         this.tagAdapter = tracingComponents.getTagAdapter();
+
+        // caching
+        this.resolutionCandidatesCache = cacheManager == null
+            ? null
+            : cacheManager.getCache(CatalogCaches.RESOLUTION_CANDIDATES);
+
+        // batches
+        this.batchProperties = batchProperties;
+        this.batchExecutor = batchExecutor;
+        this.clusterLoadService = clusterLoadService;
     }
 
     /**
@@ -251,6 +305,17 @@ public class JobResolverServiceImpl implements JobResolverService {
              *       same time to minimize downtimes. - TJG 2/2/21
              */
             this.persistenceService.saveResolvedJob(id, resolvedJob);
+            if (this.clusterLoadService != null) {
+                // Only saved jobs add load. Resolutions which aren't saved don't run anywhere.
+                this.clusterLoadService.recordSelection(
+                    resolvedJob.getJobSpecification().getCluster().getId(),
+                    jobRequest
+                        .getRequestedJobEnvironment()
+                        .getRequestedComputeResources()
+                        .getMemoryMb()
+                        .orElse(0L)
+                );
+            }
             MetricsUtils.addSuccessTags(tags);
             return resolvedJob;
         } catch (final GenieJobResolutionException e) {
@@ -276,23 +341,97 @@ public class JobResolverServiceImpl implements JobResolverService {
         @Valid final JobRequest jobRequest,
         final boolean apiJob
     ) throws GenieJobResolutionException, GenieJobResolutionRuntimeException {
-        final long start = System.nanoTime();
-        final Set<Tag> tags = new HashSet<>();
-        tags.add(NOT_SAVED_TAG);
-        try {
-            LOG.info(
-                "Received request to resolve a job for id {} and request {}",
+        LOG.info(
+            "Received request to resolve a job for id {} and request {}",
+            id,
+            jobRequest
+        );
+
+        return this.resolveWithoutSaving(
+            new JobResolutionContext(
                 id,
-                jobRequest
+                jobRequest,
+                apiJob,
+                this.tracer.currentSpanCustomizer()
+            )
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Nonnull
+    public List<CompletableFuture<ResolvedJob>> resolveJobs(
+        final List<@Valid JobRequest> jobRequests,
+        final boolean apiJob
+    ) throws PreconditionFailedException {
+        final int maxRequests = this.batchProperties.getMaxRequests();
+        if (jobRequests.size() > maxRequests) {
+            throw new PreconditionFailedException(
+                "Batch of " + jobRequests.size() + " job requests exceeds the maximum of " + maxRequests
             );
+        }
+        LOG.info("Received request to resolve a batch of {} job requests", jobRequests.size());
+
+        // The catalog is only queried on this thread, once per distinct criteria, before fanning out the rest
+        final Map<ResolutionCandidatesKey, Map<Command, Set<Cluster>>> batchCandidates = new HashMap<>();
+        final Map<ResolutionCandidatesKey, Exception> batchFailures = new HashMap<>();
+        final List<CompletableFuture<ResolvedJob>> results = new ArrayList<>(jobRequests.size());
+        for (final JobRequest jobRequest : jobRequests) {
+            final ResolutionCandidatesKey key = this.toResolutionCandidatesKey(jobRequest);
+            if (!batchCandidates.containsKey(key) && !batchFailures.containsKey(key)) {
+                try {
+                    batchCandidates.put(key, this.getCandidates(jobRequest));
+                } catch (final GenieJobResolutionException e) {
+                    batchFailures.put(key, e);
+                } catch (final RuntimeException e) {
+                    batchFailures.put(key, new GenieJobResolutionRuntimeException(e));
+                }
+            }
 
+            final CompletableFuture<ResolvedJob> result = new CompletableFuture<>();
+            results.add(result);
+            final Exception failure = batchFailures.get(key);
+            if (failure != null) {
+                result.completeExceptionally(failure);
+                continue;
+            }
+
+            // Requests of a batch aren't traced individually so don't tag the span of the batch with each of them
             final JobResolutionContext context = new JobResolutionContext(
-                id,
+                jobRequest.getRequestedId().orElse(UUID.randomUUID().toString()),
                 jobRequest,
                 apiJob,
-                this.tracer.currentSpanCustomizer()
+                NoopSpanCustomizer.INSTANCE
             );
+            context.setCommandClusters(batchCandidates.get(key));
+            try {
+                this.batchExecutor.execute(
+                    () -> {
+                        try {
+                            result.complete(this.resolveWithoutSaving(context));
+                        } catch (final GenieJobResolutionException | GenieJobResolutionRuntimeException e) {
+                            result.completeExceptionally(e);
+                        }
+                    }
+                );
+            } catch (final RejectedExecutionException e) {
+                result.completeExceptionally(new GenieJobResolutionRuntimeException(e));
+            }
+        }
+        return results;
+    }
+    //endregion
 
+    //region Resolution Helpers
+    private ResolvedJob resolveWithoutSaving(
+        final JobResolutionContext context
+    ) throws GenieJobResolutionException, GenieJobResolutionRuntimeException {
+        final long start = System.nanoTime();
+        final Set<Tag> tags = new HashSet<>();
+        tags.add(NOT_SAVED_TAG);
+        try {
             final ResolvedJob resolvedJob = this.resolve(context);
             MetricsUtils.addSuccessTags(tags);
             return resolvedJob;
@@ -308,9 +447,7 @@ public class JobResolverServiceImpl implements JobResolverService {
                 .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
-    //endregion
 
-    //region Resolution Helpers
     private ResolvedJob resolve(
         final JobResolutionContext context
     ) throws GenieJobResolutionException, GenieJobResolutionRuntimeException {
@@ -342,6 +479,10 @@ public class JobResolverServiceImpl implements JobResolverService {
      *    command
      * 5. Using command result pass previously computed Set<Cluster> to cluster selector
      * 6. Save results and run job
+     *
+     * Steps 1 through 3 only depend on the request criteria and the catalog so their result is cached for subsequent
+     * jobs with identical criteria, or computed ahead of time for batches. The selectors in steps 4 and 5 are always
+     * invoked.
      */
     private void resolveCommand(final JobResolutionContext context) throws GenieJobResolutionException {
         final long start = System.nanoTime();
@@ -350,44 +491,12 @@ public class JobResolverServiceImpl implements JobResolverService {
             final JobRequest jobRequest = context.getJobRequest();
             final Criterion criterion = jobRequest.getCriteria().getCommandCriterion();
 
-            //region Algorithm Step 1
-            final Set<Command> commands = this.persistenceService.findCommandsMatchingCriterion(criterion, true);
-
-            // Short circuit if there are no commands
-            if (commands.isEmpty()) {
-                throw new GenieJobResolutionException("No command matching command criterion found");
-            }
-            //endregion
-
-            //region Algorithm Step 2
-            final Map<Command, List<Criterion>> commandClusterCriterions = this.generateClusterCriteriaPermutations(
-                commands,
-                jobRequest
-            );
-
-            final Set<Criterion> uniqueCriteria = this.flattenClusterCriteriaPermutations(commandClusterCriterions);
-
-            final Set<Cluster> allCandidateClusters = this.persistenceService.findClustersMatchingAnyCriterion(
-                uniqueCriteria,
-                true
-            );
-            if (allCandidateClusters.isEmpty()) {
-                throw new GenieJobResolutionException("No clusters available to run any candidate command on");
-            }
-            //endregion
-
-            //region Algorithm Step 3
-            final Map<Command, Set<Cluster>> commandClusters = this.generateCommandClustersMap(
-                commandClusterCriterions,
-                allCandidateClusters
-            );
-            // this should never really happen based on above check but just in case
-            if (commandClusters.isEmpty()) {
-                throw new GenieJobResolutionException("No clusters available to run any candidate command on");
-            }
+            final Optional<Map<Command, Set<Cluster>>> batchCandidates = context.getCommandClusters();
+            final Map<Command, Set<Cluster>> commandClusters = batchCandidates.isPresent()
+                ? batchCandidates.get()
+                : this.getCandidates(jobRequest);
             // save the map for use later by cluster resolution
             context.setCommandClusters(commandClusters);
-            //endregion
 
             //region Algorithm Step 4
             final ResourceSelectionResult<Command> result = this.commandSelector.select(
@@ -444,6 +553,95 @@ public class JobResolverServiceImpl implements JobResolverService {
         }
     }
 
+    /*
+     * Get the candidate command -> clusters matrix for the criteria of the job request either from the resolution
+     * cache or by querying the catalog (algorithm steps 1 through 3 above).
+     *
+     * The key includes the local catalog generation at the time the matrix was computed. If the catalog changes while
+     * the matrix is being computed the generation will have moved on by the time any later lookup is made so a
+     * possibly stale matrix will never be returned.
+     */
+    private Map<Command, Set<Cluster>> getCandidates(
+        final JobRequest jobRequest
+    ) throws GenieJobResolutionException {
+        if (this.resolutionCandidatesCache == null) {
+            return this.computeCandidates(jobRequest);
+        }
+
+        final ResolutionCandidatesKey key = this.toResolutionCandidatesKey(jobRequest);
+        final ResolutionCandidates cached = this.resolutionCandidatesCache.get(key, ResolutionCandidates.class);
+        if (cached != null) {
+            LOG.debug("Found cached candidate commands and clusters for {}", key);
+            this.registry.counter(RESOLUTION_CACHE_COUNTER, Set.of(RESOLUTION_CACHE_HIT_TAG)).increment();
+            this.registry
+                .timer(RESOLUTION_CACHE_SAVED_TIMER)
+                .record(cached.getComputeTimeNanos(), TimeUnit.NANOSECONDS);
+            return cached.getCommandClusters();
+        }
+
+        this.registry.counter(RESOLUTION_CACHE_COUNTER, Set.of(RESOLUTION_CACHE_MISS_TAG)).increment();
+        final long start = System.nanoTime();
+        final Map<Command, Set<Cluster>> commandClusters = this.computeCandidates(jobRequest);
+        this.resolutionCandidatesCache.put(
+            key,
+            new ResolutionCandidates(commandClusters, System.nanoTime() - start)
+        );
+        return commandClusters;
+    }
+
+    private ResolutionCandidatesKey toResolutionCandidatesKey(final JobRequest jobRequest) {
+        final ExecutionResourceCriteria criteria = jobRequest.getCriteria();
+        return new ResolutionCandidatesKey(
+            criteria.getCommandCriterion(),
+            criteria.getClusterCriteria(),
+            CatalogCaches.getGeneration()
+        );
+    }
+
+    private Map<Command, Set<Cluster>> computeCandidates(
+        final JobRequest jobRequest
+    ) throws GenieJobResolutionException {
+        final Criterion criterion = jobRequest.getCriteria().getCommandCriterion();
+
+        //region Algorithm Step 1
+        final Set<Command> commands = this.persistenceService.findCommandsMatchingCriterion(criterion, true);
+
+        // Short circuit if there are no commands
+        if (commands.isEmpty()) {
+            throw new GenieJobResolutionException("No command matching command criterion found");
+        }
+        //endregion
+
+        //region Algorithm Step 2
+        final Map<Command, List<Criterion>> commandClusterCriterions = this.generateClusterCriteriaPermutations(
+            commands,
+            jobRequest
+        );
+
+        final Set<Criterion> uniqueCriteria = this.flattenClusterCriteriaPermutations(commandClusterCriterions);
+
+        final Set<Cluster> allCandidateClusters = this.persistenceService.findClustersMatchingAnyCriterion(
+            uniqueCriteria,
+            true
+        );
+        if (allCandidateClusters.isEmpty()) {
+            throw new GenieJobResolutionException("No clusters available to run any candidate command on");
+        }
+        //endregion
+
+        //region Algorithm Step 3
+        final Map<Command, Set<Cluster>> commandClusters = this.generateCommandClustersMap(
+            commandClusterCriterions,
+            allCandidateClusters
+        );
+        // this should never really happen based on above check but just in case
+        if (commandClusters.isEmpty()) {
+            throw new GenieJobResolutionException("No clusters available to run any candidate command on");
+        }
+        //endregion
+        return commandClusters;
+    }
+
     /*
      * At this point we should have resolved a command and now we can use the map command -> clusters that was
      * previously computed to invoke the cluster selectors to narrow down the candidate clusters to a single cluster
@@ -1132,5 +1330,34 @@ public class JobResolverServiceImpl implements JobResolverService {
             return new ResolvedJob(jobSpecification, jobEnvironment, this.jobRequest.getMetadata());
         }
     }
+
+    /**
+     * Canonical key of the parts of a job request which determine the candidate commands and clusters. The order of
+     * the cluster criteria is significant as it is the priority order. Tags are already sets so their order isn't.
+     *
+     * @author tgianos
+     * @since 4.4.0
+     */
+    @RequiredArgsConstructor
+    @EqualsAndHashCode(doNotUseGetters = true)
+    @ToString(doNotUseGetters = true)
+    static class ResolutionCandidatesKey {
+        private final Criterion commandCriterion;
+        private final List<Criterion> clusterCriteria;
+        private final long catalogGeneration;
+    }
+
+    /**
+     * The cached candidate command to clusters matrix along with how long it took to compute.
+     *
+     * @author tgianos
+     * @since 4.4.0
+     */
+    @RequiredArgsConstructor
+    @Getter
+    static class ResolutionCandidates {
+        private final Map<Command, Set<Cluster>> commandClusters;
+        private final long computeTimeNanos;
+    }
     //endregion
 }
@@ -17,9 +17,19 @@
  */
 package com.netflix.genie.web.spring.autoconfigure;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.netflix.genie.web.data.services.CatalogCaches;
+import com.netflix.genie.web.data.services.impl.jpa.JpaPersistenceServiceImpl;
+import com.netflix.genie.web.properties.CatalogCacheProperties;
+import com.netflix.genie.web.properties.JobSpecificationCacheProperties;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -35,5 +45,63 @@ import org.springframework.context.annotation.Configuration;
     }
 )
 @EnableCaching
+@EnableConfigurationProperties(
+    {
+        CatalogCacheProperties.class,
+        JobSpecificationCacheProperties.class
+    }
+)
 public class CachingAutoConfiguration {
+
+    /**
+     * Register the application, cluster and command catalog caches with their own size and expiration settings
+     * rather than the defaults from {@literal spring.cache.caffeine.spec} which are sized for much smaller data sets.
+     * When catalog caching is disabled the caches are still registered but hold no entries.
+     *
+     * @param properties The catalog cache properties to use
+     * @return A {@link CacheManagerCustomizer} applied to the Caffeine based {@link CaffeineCacheManager}
+     */
+    @Bean
+    @ConditionalOnClass({Caffeine.class, CaffeineCacheManager.class})
+    public CacheManagerCustomizer<CaffeineCacheManager> catalogCacheManagerCustomizer(
+        final CatalogCacheProperties properties
+    ) {
+        return cacheManager -> {
+            for (final String cacheName : CatalogCaches.ALL) {
+                cacheManager.registerCustomCache(
+                    cacheName,
+                    Caffeine
+                        .newBuilder()
+                        .maximumSize(properties.isEnabled() ? properties.getMaximumSize() : 0L)
+                        .expireAfterWrite(properties.getTimeToLive())
+                        .recordStats()
+                        .build()
+                );
+            }
+        };
+    }
+
+    /**
+     * Register the least recently used cache of resolved job specifications. Specifications never change once a job
+     * is resolved so entries are only evicted for space or after being idle. When disabled the cache is still
+     * registered but holds no entries.
+     *
+     * @param properties The job specification cache properties to use
+     * @return A {@link CacheManagerCustomizer} applied to the Caffeine based {@link CaffeineCacheManager}
+     */
+    @Bean
+    @ConditionalOnClass({Caffeine.class, CaffeineCacheManager.class})
+    public CacheManagerCustomizer<CaffeineCacheManager> jobSpecificationCacheManagerCustomizer(
+        final JobSpecificationCacheProperties properties
+    ) {
+        return cacheManager -> cacheManager.registerCustomCache(
+            JpaPersistenceServiceImpl.JOB_SPECIFICATIONS_CACHE,
+            Caffeine
+                .newBuilder()
+                .maximumSize(properties.isEnabled() ? properties.getMaximumSize() : 0L)
+                .expireAfterAccess(properties.getTimeToIdle())
+                .recordStats()
+                .build()
+        );
+    }
 }
@@ -20,23 +20,28 @@ package com.netflix.genie.web.spring.autoconfigure.agent.apis.rpc.servers;
 import brave.Tracing;
 import brave.grpc.GrpcTracing;
 import com.netflix.genie.web.agent.apis.rpc.servers.GRpcServerManager;
+import com.netflix.genie.web.agent.apis.rpc.servers.GRpcServiceCallExecutorSupplier;
 import com.netflix.genie.web.properties.GRpcServerProperties;
 import io.grpc.BindableService;
 import io.grpc.Server;
 import io.grpc.ServerInterceptor;
 import io.grpc.ServerInterceptors;
 import io.grpc.netty.NettyServerBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Controls whether a gRPC server is configured and started for this Genie node or not.
@@ -58,13 +63,42 @@ import java.util.Set;
 @Slf4j
 public class AgentRpcServersAutoConfiguration {
 
+    /**
+     * Create a {@link GRpcServiceCallExecutorSupplier} which runs the calls of each service on the executor configured
+     * for it if one isn't already present in the context.
+     * <p>
+     * When virtual threads are enabled ({@literal spring.threads.virtual.enabled} on Java 21 or later) the callbacks
+     * of services without dedicated threads, which block on the database, run on virtual threads instead of a cached
+     * thread pool.
+     *
+     * @param serverProperties The {@link GRpcServerProperties} to use
+     * @param registry         The {@link MeterRegistry} to publish queueing delays to
+     * @param environment      The environment used to determine whether virtual threads are enabled
+     * @return A {@link GRpcServiceCallExecutorSupplier} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(GRpcServiceCallExecutorSupplier.class)
+    public GRpcServiceCallExecutorSupplier gRpcServiceCallExecutorSupplier(
+        final GRpcServerProperties serverProperties,
+        final MeterRegistry registry,
+        final Environment environment
+    ) {
+        return new GRpcServiceCallExecutorSupplier(
+            serverProperties,
+            registry,
+            Threading.VIRTUAL.isActive(environment)
+        );
+    }
+
     /**
      * Create a {@link Server} if one isn't already present in the context.
      *
-     * @param port               The port this server should listen on
-     * @param services           The gRPC services this server should serve
-     * @param serverInterceptors The {@link ServerInterceptor} implementations that should be applied to all services
-     * @param tracing            The Brave {@link Tracing} instance to use
+     * @param port                 The port this server should listen on
+     * @param services             The gRPC services this server should serve
+     * @param serverInterceptors   The {@link ServerInterceptor} implementations that should be applied to all services
+     * @param tracing              The Brave {@link Tracing} instance to use
+     * @param serverProperties     The {@link GRpcServerProperties} holding the transport settings
+     * @param callExecutorSupplier The {@link GRpcServiceCallExecutorSupplier} choosing the executor of each call
      * @return A Netty server instance based on the provided information
      */
     @Bean
@@ -73,9 +107,24 @@ public class AgentRpcServersAutoConfiguration {
         @Value("${grpc.server.port:0}") final int port,  // TODO: finalize how to get configure this property
         final Set<BindableService> services,
         final List<ServerInterceptor> serverInterceptors,
-        final Tracing tracing
+        final Tracing tracing,
+        final GRpcServerProperties serverProperties,
+        final GRpcServiceCallExecutorSupplier callExecutorSupplier
     ) {
-        final NettyServerBuilder builder = NettyServerBuilder.forPort(port);
+        final NettyServerBuilder builder = NettyServerBuilder
+            .forPort(port)
+            .executor(callExecutorSupplier.getDefaultExecutor())
+            .callExecutor(callExecutorSupplier)
+            .flowControlWindow(Math.toIntExact(serverProperties.getFlowControlWindow().toBytes()))
+            .maxInboundMessageSize(Math.toIntExact(serverProperties.getMaxInboundMessageSize().toBytes()))
+            .maxConcurrentCallsPerConnection(serverProperties.getMaxConcurrentCallsPerConnection())
+            .keepAliveTime(serverProperties.getKeepAliveTime().toNanos(), TimeUnit.NANOSECONDS)
+            .keepAliveTimeout(serverProperties.getKeepAliveTimeout().toNanos(), TimeUnit.NANOSECONDS)
+            .permitKeepAliveTime(serverProperties.getPermitKeepAliveTime().toNanos(), TimeUnit.NANOSECONDS)
+            .permitKeepAliveWithoutCalls(serverProperties.isPermitKeepAliveWithoutCalls());
+        if (serverProperties.getMaxConnectionIdle() != null) {
+            builder.maxConnectionIdle(serverProperties.getMaxConnectionIdle().toNanos(), TimeUnit.NANOSECONDS);
+        }
 
         final List<ServerInterceptor> finalServerInterceptors = new ArrayList<>(serverInterceptors);
         finalServerInterceptors.add(GrpcTracing.create(tracing).newServerInterceptor());
@@ -31,6 +31,7 @@ import com.netflix.genie.web.agent.apis.rpc.v4.endpoints.GRpcJobKillServiceImpl;
 import com.netflix.genie.web.agent.apis.rpc.v4.endpoints.GRpcJobServiceImpl;
 import com.netflix.genie.web.agent.apis.rpc.v4.endpoints.GRpcPingServiceImpl;
 import com.netflix.genie.web.agent.apis.rpc.v4.endpoints.JobServiceProtoErrorComposer;
+import com.netflix.genie.web.agent.services.AgentConnectionRebalancingService;
 import com.netflix.genie.web.agent.services.AgentConnectionTrackingService;
 import com.netflix.genie.web.agent.services.AgentJobService;
 import com.netflix.genie.web.agent.services.AgentRoutingService;
@@ -40,6 +41,7 @@ import com.netflix.genie.web.properties.HeartBeatProperties;
 import com.netflix.genie.web.services.RequestForwardingService;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -115,21 +117,35 @@ public class AgentRpcEndpointsAutoConfiguration {
      * Provide an implementation of {@link com.netflix.genie.proto.HeartBeatServiceGrpc.HeartBeatServiceImplBase}
      * if no other is provided.
      *
-     * @param agentConnectionTrackingService The {@link AgentConnectionTrackingService} implementation to use
-     * @param properties                     The service properties
-     * @param taskScheduler                  The {@link TaskScheduler} instance to use
-     * @param registry                       The meter registry
+     * @param agentConnectionTrackingService    The {@link AgentConnectionTrackingService} implementation to use
+     * @param dataServices                      The {@link DataServices} instance to use
+     * @param properties                        The service properties
+     * @param taskScheduler                     The {@link TaskScheduler} instance to use
+     * @param resourceUsageTaskScheduler        The {@link TaskScheduler} to save job resource usage with
+     * @param registry                          The meter registry
+     * @param agentConnectionRebalancingService The {@link AgentConnectionRebalancingService} to use, if one exists
      * @return A {@link GRpcHeartBeatServiceImpl} instance
      */
     @Bean
     @ConditionalOnMissingBean(HeartBeatServiceGrpc.HeartBeatServiceImplBase.class)
     public GRpcHeartBeatServiceImpl gRpcHeartBeatService(
         final AgentConnectionTrackingService agentConnectionTrackingService,
+        final DataServices dataServices,
         final HeartBeatProperties properties,
         @Qualifier("heartBeatServiceTaskScheduler") final TaskScheduler taskScheduler,
-        final MeterRegistry registry
+        @Qualifier("genieTaskScheduler") final TaskScheduler resourceUsageTaskScheduler,
+        final MeterRegistry registry,
+        final ObjectProvider<AgentConnectionRebalancingService> agentConnectionRebalancingService
     ) {
-        return new GRpcHeartBeatServiceImpl(agentConnectionTrackingService, properties, taskScheduler, registry);
+        return new GRpcHeartBeatServiceImpl(
+            agentConnectionTrackingService,
+            dataServices,
+            properties,
+            taskScheduler,
+            resourceUsageTaskScheduler,
+            registry,
+            agentConnectionRebalancingService.getIfAvailable()
+        );
     }
 
     /**
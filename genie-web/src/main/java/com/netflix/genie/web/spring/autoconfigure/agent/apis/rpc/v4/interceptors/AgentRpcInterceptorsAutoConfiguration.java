@@ -17,8 +17,16 @@
  */
 package com.netflix.genie.web.spring.autoconfigure.agent.apis.rpc.v4.interceptors;
 
+import com.netflix.genie.web.agent.apis.rpc.v4.interceptors.InFlightCallLimitingInterceptor;
+import com.netflix.genie.web.agent.apis.rpc.v4.interceptors.PersistenceInstrumentationInterceptor;
 import com.netflix.genie.web.agent.apis.rpc.v4.interceptors.SimpleLoggingInterceptor;
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.PersistenceStatisticsRecorder;
+import com.netflix.genie.web.properties.GRpcServerProperties;
+import com.netflix.genie.web.properties.PersistenceInstrumentationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -30,6 +38,11 @@ import org.springframework.core.annotation.Order;
  * @since 4.0.0
  */
 @Configuration
+@EnableConfigurationProperties(
+    {
+        GRpcServerProperties.class
+    }
+)
 public class AgentRpcInterceptorsAutoConfiguration {
 
     /**
@@ -43,4 +56,42 @@ public class AgentRpcInterceptorsAutoConfiguration {
     public SimpleLoggingInterceptor simpleLoggingInterceptor() {
         return new SimpleLoggingInterceptor();
     }
+
+    /**
+     * An interceptor which records the database work done while serving each call.
+     *
+     * @param meterRegistry The metrics repository to use
+     * @param properties    The {@link PersistenceInstrumentationProperties} to use
+     * @return Instance of {@link PersistenceInstrumentationInterceptor}
+     */
+    @Bean
+    @ConditionalOnProperty(
+        value = PersistenceInstrumentationProperties.ENABLED_PROPERTY,
+        havingValue = "true"
+    )
+    @ConditionalOnMissingBean(PersistenceInstrumentationInterceptor.class)
+    @Order // Defaults to lowest precedence when stored in a list
+    public PersistenceInstrumentationInterceptor persistenceInstrumentationInterceptor(
+        final MeterRegistry meterRegistry,
+        final PersistenceInstrumentationProperties properties
+    ) {
+        return new PersistenceInstrumentationInterceptor(new PersistenceStatisticsRecorder(meterRegistry, properties));
+    }
+
+    /**
+     * An interceptor which rejects calls to a service once its limit of calls in flight is reached.
+     *
+     * @param serverProperties The {@link GRpcServerProperties} holding the limit of each service
+     * @param meterRegistry    The metrics repository to use
+     * @return Instance of {@link InFlightCallLimitingInterceptor}
+     */
+    @Bean
+    @ConditionalOnMissingBean(InFlightCallLimitingInterceptor.class)
+    @Order // Defaults to lowest precedence when stored in a list
+    public InFlightCallLimitingInterceptor inFlightCallLimitingInterceptor(
+        final GRpcServerProperties serverProperties,
+        final MeterRegistry meterRegistry
+    ) {
+        return new InFlightCallLimitingInterceptor(serverProperties, meterRegistry);
+    }
 }
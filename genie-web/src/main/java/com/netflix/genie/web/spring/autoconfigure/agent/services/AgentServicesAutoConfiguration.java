@@ -21,11 +21,13 @@ import com.netflix.genie.common.internal.util.GenieHostInfo;
 import com.netflix.genie.common.internal.util.PropertiesMapCache;
 import com.netflix.genie.web.agent.inspectors.AgentMetadataInspector;
 import com.netflix.genie.web.agent.services.AgentConfigurationService;
+import com.netflix.genie.web.agent.services.AgentConnectionRebalancingService;
 import com.netflix.genie.web.agent.services.AgentConnectionTrackingService;
 import com.netflix.genie.web.agent.services.AgentFilterService;
 import com.netflix.genie.web.agent.services.AgentJobService;
 import com.netflix.genie.web.agent.services.AgentRoutingService;
 import com.netflix.genie.web.agent.services.impl.AgentConfigurationServiceImpl;
+import com.netflix.genie.web.agent.services.impl.AgentConnectionRebalancingServiceCuratorImpl;
 import com.netflix.genie.web.agent.services.impl.AgentConnectionTrackingServiceImpl;
 import com.netflix.genie.web.agent.services.impl.AgentFilterServiceImpl;
 import com.netflix.genie.web.agent.services.impl.AgentJobServiceImpl;
@@ -33,16 +35,20 @@ import com.netflix.genie.web.agent.services.impl.AgentRoutingServiceCuratorDisco
 import com.netflix.genie.web.agent.services.impl.AgentRoutingServiceSingleNodeImpl;
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.properties.AgentConfigurationProperties;
+import com.netflix.genie.web.properties.AgentConnectionRebalancingProperties;
 import com.netflix.genie.web.properties.AgentConnectionTrackingServiceProperties;
 import com.netflix.genie.web.properties.AgentRoutingServiceProperties;
+import com.netflix.genie.web.properties.ZookeeperProperties;
 import com.netflix.genie.web.services.JobResolverService;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.state.ConnectionStateListener;
 import org.apache.curator.x.discovery.ServiceDiscovery;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -61,7 +67,8 @@ import java.util.List;
     {
         AgentConfigurationProperties.class,
         AgentRoutingServiceProperties.class,
-        AgentConnectionTrackingServiceProperties.class
+        AgentConnectionTrackingServiceProperties.class,
+        AgentConnectionRebalancingProperties.class
     }
 )
 public class AgentServicesAutoConfiguration {
@@ -141,6 +148,8 @@ public class AgentServicesAutoConfiguration {
      *
      * @param genieHostInfo                    The local genie host information
      * @param serviceDiscovery                 The Zookeeper Curator service discovery
+     * @param client                           The Curator client
+     * @param zookeeperProperties              The Zookeeper properties
      * @param taskScheduler                    The task scheduler
      * @param listenableCuratorConnectionState the connection state listenable
      * @param registry                         The metrics registry
@@ -153,6 +162,8 @@ public class AgentServicesAutoConfiguration {
     public AgentRoutingService agentRoutingServiceCurator(
         final GenieHostInfo genieHostInfo,
         final ServiceDiscovery<AgentRoutingServiceCuratorDiscoveryImpl.Agent> serviceDiscovery,
+        final CuratorFramework client,
+        final ZookeeperProperties zookeeperProperties,
         @Qualifier("genieTaskScheduler") final TaskScheduler taskScheduler,
         final Listenable<ConnectionStateListener> listenableCuratorConnectionState,
         final MeterRegistry registry,
@@ -161,6 +172,8 @@ public class AgentServicesAutoConfiguration {
         return new AgentRoutingServiceCuratorDiscoveryImpl(
             genieHostInfo,
             serviceDiscovery,
+            client,
+            zookeeperProperties.getDiscoveryPath(),
             taskScheduler,
             listenableCuratorConnectionState,
             registry,
@@ -168,6 +181,44 @@ public class AgentServicesAutoConfiguration {
         );
     }
 
+    /**
+     * Get an implementation of {@link AgentConnectionRebalancingService} if one hasn't already been defined.
+     * This bean is created if Zookeeper is enabled and rebalancing is turned on, since with a single node there is
+     * nowhere to move agents to.
+     *
+     * @param genieHostInfo                  The local genie host information
+     * @param client                         The Curator client
+     * @param zookeeperProperties            The Zookeeper properties
+     * @param agentConnectionTrackingService The agent connection tracking service
+     * @param properties                     The service properties
+     * @param taskScheduler                  The task scheduler
+     * @param registry                       The metrics registry
+     * @return A {@link AgentConnectionRebalancingServiceCuratorImpl} instance
+     */
+    @Bean
+    @ConditionalOnBean(ServiceDiscovery.class)
+    @ConditionalOnProperty(value = AgentConnectionRebalancingProperties.ENABLED_PROPERTY, havingValue = "true")
+    @ConditionalOnMissingBean(AgentConnectionRebalancingService.class)
+    public AgentConnectionRebalancingServiceCuratorImpl agentConnectionRebalancingService(
+        final GenieHostInfo genieHostInfo,
+        final CuratorFramework client,
+        final ZookeeperProperties zookeeperProperties,
+        final AgentConnectionTrackingService agentConnectionTrackingService,
+        final AgentConnectionRebalancingProperties properties,
+        @Qualifier("genieTaskScheduler") final TaskScheduler taskScheduler,
+        final MeterRegistry registry
+    ) {
+        return new AgentConnectionRebalancingServiceCuratorImpl(
+            genieHostInfo,
+            client,
+            zookeeperProperties.getAgentConnectionCountsPath(),
+            agentConnectionTrackingService,
+            properties,
+            taskScheduler,
+            registry
+        );
+    }
+
     /**
      * A {@link AgentFilterService} implementation that federates the decision to a set of
      * {@link AgentMetadataInspector}s.
@@ -19,10 +19,14 @@ package com.netflix.genie.web.spring.autoconfigure.aspects;
 
 import com.netflix.genie.web.aspects.DataServiceRetryAspect;
 import com.netflix.genie.web.aspects.HealthCheckMetricsAspect;
+import com.netflix.genie.web.aspects.PersistenceInstrumentationAspect;
 import com.netflix.genie.web.aspects.SystemArchitecture;
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.PersistenceStatisticsRecorder;
 import com.netflix.genie.web.properties.DataServiceRetryProperties;
+import com.netflix.genie.web.properties.PersistenceInstrumentationProperties;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -67,6 +71,26 @@ public class AspectsAutoConfiguration {
         return new HealthCheckMetricsAspect(meterRegistry);
     }
 
+    /**
+     * An aspect for recording the database work done by data service methods and REST API endpoints.
+     *
+     * @param meterRegistry The metrics repository to use
+     * @param properties    The {@link PersistenceInstrumentationProperties} to use
+     * @return The instance of {@link PersistenceInstrumentationAspect}
+     */
+    @Bean
+    @ConditionalOnProperty(
+        value = PersistenceInstrumentationProperties.ENABLED_PROPERTY,
+        havingValue = "true"
+    )
+    @ConditionalOnMissingBean(PersistenceInstrumentationAspect.class)
+    public PersistenceInstrumentationAspect persistenceInstrumentationAspect(
+        final MeterRegistry meterRegistry,
+        final PersistenceInstrumentationProperties properties
+    ) {
+        return new PersistenceInstrumentationAspect(new PersistenceStatisticsRecorder(meterRegistry, properties));
+    }
+
     /**
      * A bean that defines pointcuts for various layers of the Genie system.
      *
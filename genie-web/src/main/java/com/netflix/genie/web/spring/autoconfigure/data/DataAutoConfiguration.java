@@ -18,19 +18,35 @@
 package com.netflix.genie.web.spring.autoconfigure.data;
 
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
+import com.netflix.genie.web.data.ids.IdGenerator;
+import com.netflix.genie.web.data.ids.RandomUuidIdGenerator;
+import com.netflix.genie.web.data.ids.TimeOrderedUuidIdGenerator;
+import com.netflix.genie.web.data.observers.PersistedJobStatusObserver;
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.PersistenceService;
 import com.netflix.genie.web.data.services.impl.jpa.JpaPersistenceServiceImpl;
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.StatisticsInterceptor;
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.StatisticsSessionEventListener;
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.StatisticsStatementInspector;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaApplicationRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaClusterRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaCommandRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaCriterionRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaFileRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaJobRepository;
+import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaJobStatusHistoryRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaRepositories;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaTagRepository;
+import com.netflix.genie.web.properties.IdGenerationProperties;
+import com.netflix.genie.web.properties.PersistenceInstrumentationProperties;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
@@ -46,6 +62,12 @@ import jakarta.persistence.EntityManager;
 @Configuration
 @EnableJpaRepositories("com.netflix.genie.web.data.services.impl.jpa.repositories")
 @EntityScan("com.netflix.genie.web.data.services.impl.jpa.entities")
+@EnableConfigurationProperties(
+    {
+        IdGenerationProperties.class,
+        PersistenceInstrumentationProperties.class
+    }
+)
 public class DataAutoConfiguration {
 
     /**
@@ -63,13 +85,14 @@ public class DataAutoConfiguration {
     /**
      * Provide a {@link JpaRepositories} container instance if one wasn't already provided.
      *
-     * @param applicationRepository The {@link JpaApplicationRepository} instance
-     * @param clusterRepository     The {@link JpaClusterRepository} instance
-     * @param commandRepository     The {@link JpaCommandRepository} instance
-     * @param criterionRepository   The {@link JpaCriterionRepository} instance
-     * @param fileRepository        The {@link JpaFileRepository} instance
-     * @param jobRepository         The {@link JpaJobRepository} instance
-     * @param tagRepository         The {@link JpaTagRepository} instance
+     * @param applicationRepository      The {@link JpaApplicationRepository} instance
+     * @param clusterRepository          The {@link JpaClusterRepository} instance
+     * @param commandRepository          The {@link JpaCommandRepository} instance
+     * @param criterionRepository        The {@link JpaCriterionRepository} instance
+     * @param fileRepository             The {@link JpaFileRepository} instance
+     * @param jobRepository              The {@link JpaJobRepository} instance
+     * @param jobStatusHistoryRepository The {@link JpaJobStatusHistoryRepository} instance
+     * @param tagRepository              The {@link JpaTagRepository} instance
      * @return A new {@link JpaRepositories} instance to simplify passing around all repositories
      */
     @Bean
@@ -81,6 +104,7 @@ public class DataAutoConfiguration {
         final JpaCriterionRepository criterionRepository,
         final JpaFileRepository fileRepository,
         final JpaJobRepository jobRepository,
+        final JpaJobStatusHistoryRepository jobStatusHistoryRepository,
         final JpaTagRepository tagRepository
     ) {
         return new JpaRepositories(
@@ -90,16 +114,46 @@ public class DataAutoConfiguration {
             criterionRepository,
             fileRepository,
             jobRepository,
+            jobStatusHistoryRepository,
             tagRepository
         );
     }
 
+    /**
+     * Provide the {@link IdGenerator} used for jobs submitted without a requested id if no other has been defined.
+     *
+     * @param properties The {@link IdGenerationProperties} to use
+     * @return An {@link IdGenerator} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "genieJobIdGenerator")
+    public IdGenerator genieJobIdGenerator(final IdGenerationProperties properties) {
+        return createIdGenerator(properties.getJobs());
+    }
+
+    /**
+     * Provide the {@link IdGenerator} used for applications, clusters and commands created without a requested id if
+     * no other has been defined.
+     *
+     * @param properties The {@link IdGenerationProperties} to use
+     * @return An {@link IdGenerator} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "genieResourceIdGenerator")
+    public IdGenerator genieResourceIdGenerator(final IdGenerationProperties properties) {
+        return createIdGenerator(properties.getResources());
+    }
+
     /**
      * Provide a default implementation of {@link PersistenceService} if no other has been defined.
      *
-     * @param entityManager     The {@link EntityManager} for this application
-     * @param jpaRepositories   The {@link JpaRepositories} for Genie
-     * @param tracingComponents The {@link BraveTracingComponents} instance to use
+     * @param entityManager              The {@link EntityManager} for this application
+     * @param jpaRepositories            The {@link JpaRepositories} for Genie
+     * @param tracingComponents          The {@link BraveTracingComponents} instance to use
+     * @param jobIdGenerator             The {@link IdGenerator} to use for jobs
+     * @param resourceIdGenerator        The {@link IdGenerator} to use for applications, clusters and commands
+     * @param persistedJobStatusObserver The {@link PersistedJobStatusObserver} to notify of job status changes if
+     *                                   one is available
      * @return A {@link JpaPersistenceServiceImpl} instance which implements {@link PersistenceService} backed by
      * JPA and a relational database
      */
@@ -108,8 +162,51 @@ public class DataAutoConfiguration {
     public JpaPersistenceServiceImpl geniePersistenceService(
         final EntityManager entityManager,
         final JpaRepositories jpaRepositories,
-        final BraveTracingComponents tracingComponents
+        final BraveTracingComponents tracingComponents,
+        @Qualifier("genieJobIdGenerator") final IdGenerator jobIdGenerator,
+        @Qualifier("genieResourceIdGenerator") final IdGenerator resourceIdGenerator,
+        final ObjectProvider<PersistedJobStatusObserver> persistedJobStatusObserver
     ) {
-        return new JpaPersistenceServiceImpl(entityManager, jpaRepositories, tracingComponents);
+        return new JpaPersistenceServiceImpl(
+            entityManager,
+            jpaRepositories,
+            tracingComponents,
+            jobIdGenerator,
+            resourceIdGenerator,
+            persistedJobStatusObserver.getIfAvailable()
+        );
+    }
+
+    /**
+     * Register the Hibernate hooks which attribute the statements executed, entities loaded and time spent in the
+     * database to the operation on whose behalf they were done.
+     *
+     * @return A {@link HibernatePropertiesCustomizer} which registers the hooks
+     */
+    @Bean
+    @ConditionalOnProperty(
+        value = PersistenceInstrumentationProperties.ENABLED_PROPERTY,
+        havingValue = "true"
+    )
+    public HibernatePropertiesCustomizer persistenceStatisticsHibernatePropertiesCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatisticsStatementInspector());
+            hibernateProperties.put(AvailableSettings.INTERCEPTOR, new StatisticsInterceptor());
+            // Hibernate creates a listener per session from the class name
+            hibernateProperties.put(
+                AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                StatisticsSessionEventListener.class.getName()
+            );
+        };
+    }
+
+    private static IdGenerator createIdGenerator(final IdGenerationProperties.Strategy strategy) {
+        switch (strategy) {
+            case TIME_ORDERED:
+                return new TimeOrderedUuidIdGenerator();
+            case RANDOM:
+            default:
+                return new RandomUuidIdGenerator();
+        }
     }
 }
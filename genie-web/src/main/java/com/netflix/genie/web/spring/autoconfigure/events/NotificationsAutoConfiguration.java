@@ -52,14 +52,16 @@ public class NotificationsAutoConfiguration {
      * Create {@link PersistedJobStatusObserver} if one does not exist.
      *
      * @param genieEventBus the genie event bus
+     * @param registry      the metrics registry
      * @return a {@link PersistedJobStatusObserver}
      */
     @Bean
     @ConditionalOnMissingBean(PersistedJobStatusObserver.class)
     public PersistedJobStatusObserver persistedJobStatusObserver(
-        final GenieEventBus genieEventBus
+        final GenieEventBus genieEventBus,
+        final MeterRegistry registry
     ) {
-        return new PersistedJobStatusObserverImpl(genieEventBus);
+        return new PersistedJobStatusObserverImpl(genieEventBus, registry);
     }
 
     /**
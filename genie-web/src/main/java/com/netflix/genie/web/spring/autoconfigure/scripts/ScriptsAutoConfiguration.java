@@ -27,7 +27,9 @@ import com.netflix.genie.web.scripts.ClusterSelectorManagedScript;
 import com.netflix.genie.web.scripts.CommandSelectorManagedScript;
 import com.netflix.genie.web.scripts.ManagedScript;
 import com.netflix.genie.web.scripts.ScriptManager;
+import com.netflix.genie.web.services.ClusterLoadService;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -37,10 +39,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 import javax.script.ScriptEngineManager;
 import java.util.List;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Configuration for script extensions.
@@ -61,6 +66,9 @@ public class ScriptsAutoConfiguration {
 
     /**
      * Create a {@link ScriptManager} unless one exists.
+     * <p>
+     * Scripts are evaluated on a bounded pool of threads so a slow script can't pile up threads without limit. Once
+     * the pool and its queue are full further evaluations fail right away instead of waiting for their timeout.
      *
      * @param scriptManagerProperties properties
      * @param taskScheduler           task scheduler
@@ -76,10 +84,19 @@ public class ScriptsAutoConfiguration {
         final ResourceLoader resourceLoader,
         final MeterRegistry meterRegistry
     ) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            scriptManagerProperties.getMaxThreads(),
+            scriptManagerProperties.getMaxThreads(),
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(scriptManagerProperties.getQueueCapacity()),
+            new CustomizableThreadFactory("genie-scripts-")
+        );
+        executor.allowCoreThreadTimeOut(true);
         return new ScriptManager(
             scriptManagerProperties,
             taskScheduler,
-            Executors.newCachedThreadPool(),
+            executor,
             new ScriptEngineManager(),
             resourceLoader,
             meterRegistry
@@ -105,6 +122,7 @@ public class ScriptsAutoConfiguration {
      * @param scriptProperties        script properties
      * @param propertyMapCacheFactory the cache factory
      * @param meterRegistry           meter registry
+     * @param clusterLoadService      the cluster load service, if load balancing across clusters is enabled
      * @return a {@link ClusterSelectorManagedScript}
      */
     @Bean
@@ -114,7 +132,8 @@ public class ScriptsAutoConfiguration {
         final ScriptManager scriptManager,
         final ClusterSelectorScriptProperties scriptProperties,
         final PropertiesMapCache.Factory propertyMapCacheFactory,
-        final MeterRegistry meterRegistry
+        final MeterRegistry meterRegistry,
+        final ObjectProvider<ClusterLoadService> clusterLoadService
     ) {
         return new ClusterSelectorManagedScript(
             scriptManager,
@@ -123,7 +142,8 @@ public class ScriptsAutoConfiguration {
             propertyMapCacheFactory.get(
                 scriptProperties.getPropertiesRefreshInterval(),
                 ClusterSelectorScriptProperties.SCRIPT_PROPERTIES_PREFIX
-            )
+            ),
+            clusterLoadService.getIfAvailable()
         );
     }
 
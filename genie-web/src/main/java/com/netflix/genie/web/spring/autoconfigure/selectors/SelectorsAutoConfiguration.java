@@ -18,25 +18,37 @@
 package com.netflix.genie.web.spring.autoconfigure.selectors;
 
 import com.netflix.genie.web.agent.launchers.AgentLauncher;
+import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.properties.ClusterSelectorScriptProperties;
+import com.netflix.genie.web.properties.LoadAwareAgentLauncherSelectorProperties;
+import com.netflix.genie.web.properties.LoadBalancingClusterSelectorProperties;
 import com.netflix.genie.web.scripts.AgentLauncherSelectorManagedScript;
 import com.netflix.genie.web.scripts.ClusterSelectorManagedScript;
 import com.netflix.genie.web.scripts.CommandSelectorManagedScript;
 import com.netflix.genie.web.selectors.AgentLauncherSelector;
 import com.netflix.genie.web.selectors.ClusterSelector;
 import com.netflix.genie.web.selectors.CommandSelector;
+import com.netflix.genie.web.selectors.impl.LoadAwareAgentLauncherSelectorImpl;
+import com.netflix.genie.web.selectors.impl.LoadBalancingClusterSelectorImpl;
 import com.netflix.genie.web.selectors.impl.RandomAgentLauncherSelectorImpl;
 import com.netflix.genie.web.selectors.impl.RandomClusterSelectorImpl;
 import com.netflix.genie.web.selectors.impl.RandomCommandSelectorImpl;
 import com.netflix.genie.web.selectors.impl.ScriptAgentLauncherSelectorImpl;
 import com.netflix.genie.web.selectors.impl.ScriptClusterSelectorImpl;
 import com.netflix.genie.web.selectors.impl.ScriptCommandSelectorImpl;
+import com.netflix.genie.web.services.ClusterLoadService;
+import com.netflix.genie.web.services.impl.ClusterLoadServiceImpl;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.TaskScheduler;
 
 import jakarta.validation.constraints.NotEmpty;
 import java.util.Collection;
@@ -49,6 +61,12 @@ import java.util.Optional;
  * @since 4.0.0
  */
 @Configuration
+@EnableConfigurationProperties(
+    {
+        LoadAwareAgentLauncherSelectorProperties.class,
+        LoadBalancingClusterSelectorProperties.class
+    }
+)
 public class SelectorsAutoConfiguration {
 
     /**
@@ -60,11 +78,18 @@ public class SelectorsAutoConfiguration {
      */
     public static final int SCRIPT_CLUSTER_SELECTOR_PRECEDENCE = Ordered.LOWEST_PRECEDENCE - 50;
 
+    /**
+     * The relative order of the {@link LoadBalancingClusterSelectorImpl} if one is enabled. It sits between the script
+     * selector, which can still express a preference, and the default {@link RandomClusterSelectorImpl}.
+     */
+    public static final int LOAD_BALANCING_CLUSTER_SELECTOR_PRECEDENCE = Ordered.LOWEST_PRECEDENCE - 25;
+
     /**
      * Produce the {@link ScriptClusterSelectorImpl} instance to use for this Genie node if it was configured by the
      * user. This bean is only created if the script is configured.
      *
      * @param clusterSelectorManagedScript the cluster selector script
+     * @param scriptProperties             the cluster selector script properties
      * @param registry                     the metrics registry
      * @return a {@link ScriptClusterSelectorImpl}
      */
@@ -73,9 +98,52 @@ public class SelectorsAutoConfiguration {
     @ConditionalOnBean(ClusterSelectorManagedScript.class)
     public ScriptClusterSelectorImpl scriptClusterSelector(
         final ClusterSelectorManagedScript clusterSelectorManagedScript,
+        final ClusterSelectorScriptProperties scriptProperties,
+        final MeterRegistry registry
+    ) {
+        return new ScriptClusterSelectorImpl(clusterSelectorManagedScript, scriptProperties, registry);
+    }
+
+    /**
+     * Provide a {@link ClusterLoadService} implementation if load balancing across clusters is enabled and one hasn't
+     * been provided already.
+     *
+     * @param dataServices  The {@link DataServices} instance to use
+     * @param taskScheduler The {@link TaskScheduler} to refresh the cluster load on
+     * @param properties    The {@link LoadBalancingClusterSelectorProperties} to use
+     * @param registry      The metrics registry to use
+     * @return A {@link ClusterLoadServiceImpl} instance
+     */
+    @Bean
+    @ConditionalOnProperty(value = LoadBalancingClusterSelectorProperties.ENABLED_PROPERTY, havingValue = "true")
+    @ConditionalOnMissingBean(ClusterLoadService.class)
+    public ClusterLoadServiceImpl clusterLoadService(
+        final DataServices dataServices,
+        @Qualifier("genieTaskScheduler") final TaskScheduler taskScheduler,
+        final LoadBalancingClusterSelectorProperties properties,
+        final MeterRegistry registry
+    ) {
+        return new ClusterLoadServiceImpl(dataServices, taskScheduler, properties, registry);
+    }
+
+    /**
+     * Produce the {@link LoadBalancingClusterSelectorImpl} instance to use for this Genie node if load balancing
+     * across clusters is enabled.
+     *
+     * @param clusterLoadService The {@link ClusterLoadService} to read the load of the clusters from
+     * @param properties         The {@link LoadBalancingClusterSelectorProperties} to use
+     * @param registry           The metrics registry to use
+     * @return A {@link LoadBalancingClusterSelectorImpl} instance
+     */
+    @Bean
+    @Order(LOAD_BALANCING_CLUSTER_SELECTOR_PRECEDENCE)
+    @ConditionalOnProperty(value = LoadBalancingClusterSelectorProperties.ENABLED_PROPERTY, havingValue = "true")
+    public LoadBalancingClusterSelectorImpl loadBalancingClusterSelector(
+        final ClusterLoadService clusterLoadService,
+        final LoadBalancingClusterSelectorProperties properties,
         final MeterRegistry registry
     ) {
-        return new ScriptClusterSelectorImpl(clusterSelectorManagedScript, registry);
+        return new LoadBalancingClusterSelectorImpl(clusterLoadService, properties, registry);
     }
 
     /**
@@ -121,9 +189,11 @@ public class SelectorsAutoConfiguration {
      * @param agentLauncherSelectorManagedScript An {@link Optional} {@link AgentLauncherSelectorManagedScript}
      *                                           instance if one is present in the context
      * @param agentLaunchers                     The available agent launchers
+     * @param loadAwareProperties                The {@link LoadAwareAgentLauncherSelectorProperties} to use
      * @param registry                           The {@link MeterRegistry} instance to use
      * @return A {@link ScriptAgentLauncherSelectorImpl} if a {@link AgentLauncherSelectorManagedScript} instance is
-     * present, else a {@link RandomAgentLauncherSelectorImpl} instance
+     * present, else a {@link LoadAwareAgentLauncherSelectorImpl} if enabled, else a
+     * {@link RandomAgentLauncherSelectorImpl} instance
      */
     @Bean
     @ConditionalOnMissingBean(AgentLauncherSelector.class)
@@ -131,6 +201,7 @@ public class SelectorsAutoConfiguration {
     public AgentLauncherSelector agentLauncherSelector(
         final Optional<AgentLauncherSelectorManagedScript> agentLauncherSelectorManagedScript,
         @NotEmpty final Collection<AgentLauncher> agentLaunchers,
+        final LoadAwareAgentLauncherSelectorProperties loadAwareProperties,
         final MeterRegistry registry
     ) {
         if (agentLauncherSelectorManagedScript.isPresent()) {
@@ -139,6 +210,8 @@ public class SelectorsAutoConfiguration {
                 agentLaunchers,
                 registry
             );
+        } else if (loadAwareProperties.isEnabled()) {
+            return new LoadAwareAgentLauncherSelectorImpl(agentLaunchers, loadAwareProperties, registry);
         } else {
             return new RandomAgentLauncherSelectorImpl(agentLaunchers);
         }
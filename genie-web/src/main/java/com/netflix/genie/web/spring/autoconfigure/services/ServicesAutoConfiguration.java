@@ -22,8 +22,14 @@ import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
 import com.netflix.genie.common.internal.util.GenieHostInfo;
 import com.netflix.genie.web.agent.services.AgentFileStreamService;
 import com.netflix.genie.web.agent.services.AgentRoutingService;
+import com.netflix.genie.web.aspects.JobColdStorageAspect;
 import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.properties.ActiveJobResourcesProperties;
 import com.netflix.genie.web.properties.AttachmentServiceProperties;
+import com.netflix.genie.web.properties.JobAdmissionProperties;
+import com.netflix.genie.web.properties.JobColdStorageProperties;
+import com.netflix.genie.web.properties.JobDirectoryArchiveDownloadProperties;
+import com.netflix.genie.web.properties.JobResolutionBatchProperties;
 import com.netflix.genie.web.properties.JobResolutionProperties;
 import com.netflix.genie.web.properties.JobsActiveLimitProperties;
 import com.netflix.genie.web.properties.JobsForwardingProperties;
@@ -34,13 +40,20 @@ import com.netflix.genie.web.properties.JobsUsersProperties;
 import com.netflix.genie.web.selectors.AgentLauncherSelector;
 import com.netflix.genie.web.selectors.ClusterSelector;
 import com.netflix.genie.web.selectors.CommandSelector;
+import com.netflix.genie.web.services.ActiveJobResourcesService;
 import com.netflix.genie.web.services.ArchivedJobService;
 import com.netflix.genie.web.services.AttachmentService;
+import com.netflix.genie.web.services.ClusterLoadService;
+import com.netflix.genie.web.services.JobAdmissionService;
+import com.netflix.genie.web.services.JobColdStorageService;
 import com.netflix.genie.web.services.JobDirectoryServerService;
 import com.netflix.genie.web.services.JobLaunchService;
 import com.netflix.genie.web.services.JobResolverService;
 import com.netflix.genie.web.services.RequestForwardingService;
+import com.netflix.genie.web.services.impl.ActiveJobResourcesServiceImpl;
 import com.netflix.genie.web.services.impl.ArchivedJobServiceImpl;
+import com.netflix.genie.web.services.impl.FileSystemJobColdStorageServiceImpl;
+import com.netflix.genie.web.services.impl.JobAdmissionServiceImpl;
 import com.netflix.genie.web.services.impl.JobDirectoryServerServiceImpl;
 import com.netflix.genie.web.services.impl.JobLaunchServiceImpl;
 import com.netflix.genie.web.services.impl.JobResolverServiceImpl;
@@ -48,13 +61,19 @@ import com.netflix.genie.web.services.impl.LocalFileSystemAttachmentServiceImpl;
 import com.netflix.genie.web.services.impl.RequestForwardingServiceImpl;
 import com.netflix.genie.web.services.impl.S3AttachmentServiceImpl;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
 import jakarta.validation.constraints.NotEmpty;
@@ -77,7 +96,12 @@ import java.util.List;
         JobsMemoryProperties.class,
         JobsUsersProperties.class,
         JobsActiveLimitProperties.class,
-        AttachmentServiceProperties.class
+        AttachmentServiceProperties.class,
+        JobColdStorageProperties.class,
+        ActiveJobResourcesProperties.class,
+        JobAdmissionProperties.class,
+        JobResolutionBatchProperties.class,
+        JobDirectoryArchiveDownloadProperties.class
     }
 )
 public class ServicesAutoConfiguration {
@@ -150,6 +174,22 @@ public class ServicesAutoConfiguration {
         }
     }
 
+    /**
+     * Get the executor which resolves the requests of batches submitted to the {@link JobResolverService} in parallel.
+     * It is kept apart from the other executors so large batches can't delay launching jobs.
+     *
+     * @param batchProperties The {@link JobResolutionBatchProperties} instance
+     * @return The executor to use
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "genieJobResolutionExecutor")
+    public ThreadPoolTaskExecutor genieJobResolutionExecutor(final JobResolutionBatchProperties batchProperties) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(batchProperties.getThreads());
+        executor.setThreadNamePrefix(batchProperties.getThreadNamePrefix());
+        return executor;
+    }
+
     /**
      * Get an implementation of {@link JobResolverService} if one hasn't already been defined.
      *
@@ -160,6 +200,10 @@ public class ServicesAutoConfiguration {
      * @param jobsProperties          The properties for running a job set by the user
      * @param jobResolutionProperties The {@link JobResolutionProperties} instance
      * @param tracingComponents       The {@link BraveTracingComponents} to use
+     * @param cacheManagerProvider    Provider of the {@link CacheManager} used to cache resolution candidates, if any
+     * @param batchProperties         The {@link JobResolutionBatchProperties} instance
+     * @param batchExecutor           The executor resolving the requests of batches in parallel
+     * @param clusterLoadServiceProvider Provider of the {@link ClusterLoadService} recording saved jobs, if any
      * @return A {@link JobResolverServiceImpl} instance
      */
     @Bean
@@ -171,7 +215,11 @@ public class ServicesAutoConfiguration {
         final MeterRegistry registry,
         final JobsProperties jobsProperties,
         final JobResolutionProperties jobResolutionProperties,
-        final BraveTracingComponents tracingComponents
+        final BraveTracingComponents tracingComponents,
+        final ObjectProvider<CacheManager> cacheManagerProvider,
+        final JobResolutionBatchProperties batchProperties,
+        @Qualifier("genieJobResolutionExecutor") final TaskExecutor batchExecutor,
+        final ObjectProvider<ClusterLoadService> clusterLoadServiceProvider
     ) {
         return new JobResolverServiceImpl(
             dataServices,
@@ -180,20 +228,45 @@ public class ServicesAutoConfiguration {
             registry,
             jobsProperties,
             jobResolutionProperties,
-            tracingComponents
+            tracingComponents,
+            cacheManagerProvider.getIfAvailable(),
+            batchProperties,
+            batchExecutor,
+            clusterLoadServiceProvider.getIfAvailable()
         );
     }
 
+    /**
+     * Get the executor the files of job directory archive downloads are fetched on. It is kept apart from the other
+     * executors as a download keeps several of its threads busy with slow remote reads.
+     *
+     * @param archiveDownloadProperties The {@link JobDirectoryArchiveDownloadProperties} instance
+     * @return The executor to use
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "genieJobDirectoryArchiveExecutor")
+    public ThreadPoolTaskExecutor genieJobDirectoryArchiveExecutor(
+        final JobDirectoryArchiveDownloadProperties archiveDownloadProperties
+    ) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(archiveDownloadProperties.getFetchThreads());
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("genie-archive-download-");
+        return executor;
+    }
+
     /**
      * Provide the default implementation of {@link JobDirectoryServerService} for serving job directory resources.
      *
-     * @param resourceLoader         The application resource loader used to get references to resources
-     * @param dataServices           The {@link DataServices} instance to use
-     * @param agentFileStreamService The service to request a file from an agent running a job
-     * @param archivedJobService     The {@link ArchivedJobService} implementation to use to get archived
-     *                               job data
-     * @param meterRegistry          The meter registry used to keep track of metrics
-     * @param agentRoutingService    The agent routing service
+     * @param resourceLoader            The application resource loader used to get references to resources
+     * @param dataServices              The {@link DataServices} instance to use
+     * @param agentFileStreamService    The service to request a file from an agent running a job
+     * @param archivedJobService        The {@link ArchivedJobService} implementation to use to get archived
+     *                                  job data
+     * @param meterRegistry             The meter registry used to keep track of metrics
+     * @param agentRoutingService       The agent routing service
+     * @param archiveDownloadProperties The properties of job directory archive downloads
+     * @param archiveDownloadExecutor   The executor the files of archive downloads are fetched on
      * @return An instance of {@link JobDirectoryServerServiceImpl}
      */
     @Bean
@@ -204,7 +277,9 @@ public class ServicesAutoConfiguration {
         final AgentFileStreamService agentFileStreamService,
         final ArchivedJobService archivedJobService,
         final MeterRegistry meterRegistry,
-        final AgentRoutingService agentRoutingService
+        final AgentRoutingService agentRoutingService,
+        final JobDirectoryArchiveDownloadProperties archiveDownloadProperties,
+        @Qualifier("genieJobDirectoryArchiveExecutor") final AsyncTaskExecutor archiveDownloadExecutor
     ) {
         return new JobDirectoryServerServiceImpl(
             resourceLoader,
@@ -212,7 +287,9 @@ public class ServicesAutoConfiguration {
             agentFileStreamService,
             archivedJobService,
             meterRegistry,
-            agentRoutingService
+            agentRoutingService,
+            archiveDownloadProperties,
+            archiveDownloadExecutor
         );
     }
 
@@ -262,6 +339,92 @@ public class ServicesAutoConfiguration {
         return new ArchivedJobServiceImpl(dataServices, resourceLoader, meterRegistry);
     }
 
+    /**
+     * Provide a {@link JobColdStorageService} implementation if one hasn't been provided already.
+     *
+     * @param jobColdStorageProperties The {@link JobColdStorageProperties} to use
+     * @return A {@link FileSystemJobColdStorageServiceImpl} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(JobColdStorageService.class)
+    public FileSystemJobColdStorageServiceImpl jobColdStorageService(
+        final JobColdStorageProperties jobColdStorageProperties
+    ) {
+        return new FileSystemJobColdStorageServiceImpl(jobColdStorageProperties);
+    }
+
+    /**
+     * Serve the jobs moved to cold storage from the job read methods of the persistence service.
+     *
+     * @param jobColdStorageService The {@link JobColdStorageService} holding the jobs moved out of the database
+     * @return A {@link JobColdStorageAspect} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(JobColdStorageAspect.class)
+    public JobColdStorageAspect jobColdStorageAspect(final JobColdStorageService jobColdStorageService) {
+        return new JobColdStorageAspect(jobColdStorageService);
+    }
+
+    /**
+     * Provide a {@link ActiveJobResourcesService} implementation if one hasn't been provided already.
+     *
+     * @param dataServices                 The {@link DataServices} instance to use
+     * @param taskScheduler                The {@link TaskScheduler} to reconcile with the database on
+     * @param activeJobResourcesProperties The {@link ActiveJobResourcesProperties} to use
+     * @param registry                     The metrics registry to use
+     * @return A {@link ActiveJobResourcesServiceImpl} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(ActiveJobResourcesService.class)
+    public ActiveJobResourcesServiceImpl activeJobResourcesService(
+        final DataServices dataServices,
+        @Qualifier("genieTaskScheduler") final TaskScheduler taskScheduler,
+        final ActiveJobResourcesProperties activeJobResourcesProperties,
+        final MeterRegistry registry
+    ) {
+        return new ActiveJobResourcesServiceImpl(dataServices, taskScheduler, activeJobResourcesProperties, registry);
+    }
+
+    /**
+     * Provide a {@link JobAdmissionService} implementation if one hasn't been provided already.
+     *
+     * @param jobLaunchService          The {@link JobLaunchService} to launch admitted jobs with
+     * @param dataServices              The {@link DataServices} instance to use
+     * @param activeJobResourcesService The {@link ActiveJobResourcesService} to check user capacity with
+     * @param jobsActiveLimitProperties The {@link JobsActiveLimitProperties} to use
+     * @param jobAdmissionProperties    The {@link JobAdmissionProperties} to use
+     * @param taskScheduler             The {@link TaskScheduler} to periodically dispatch queued jobs on
+     * @param asyncTaskExecutor         The executor to launch queued jobs on
+     * @param registry                  The metrics registry to use
+     * @param genieHostInfo             The {@link GenieHostInfo} of this node
+     * @return A {@link JobAdmissionServiceImpl} instance
+     */
+    @Bean
+    @ConditionalOnMissingBean(JobAdmissionService.class)
+    public JobAdmissionServiceImpl jobAdmissionService(
+        final JobLaunchService jobLaunchService,
+        final DataServices dataServices,
+        final ActiveJobResourcesService activeJobResourcesService,
+        final JobsActiveLimitProperties jobsActiveLimitProperties,
+        final JobAdmissionProperties jobAdmissionProperties,
+        @Qualifier("genieTaskScheduler") final TaskScheduler taskScheduler,
+        @Qualifier("genieAsyncTaskExecutor") final AsyncTaskExecutor asyncTaskExecutor,
+        final MeterRegistry registry,
+        final GenieHostInfo genieHostInfo
+    ) {
+        return new JobAdmissionServiceImpl(
+            jobLaunchService,
+            dataServices,
+            activeJobResourcesService,
+            jobsActiveLimitProperties,
+            jobAdmissionProperties,
+            taskScheduler,
+            asyncTaskExecutor,
+            registry,
+            genieHostInfo
+        );
+    }
+
     /**
      * Provide a default implementation of {@link RequestForwardingService} for use by other services.
      *
@@ -23,10 +23,13 @@ import org.apache.commons.exec.DefaultExecutor;
 import org.apache.commons.exec.Executor;
 import org.apache.commons.exec.PumpStreamHandler;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -81,13 +84,26 @@ public class TasksAutoConfiguration {
 
     /**
      * Get a task executor for executing tasks asynchronously that don't need to be scheduled at a recurring rate.
+     * <p>
+     * When virtual threads are enabled ({@literal spring.threads.virtual.enabled} on Java 21 or later) each task runs
+     * on its own virtual thread instead of on the pool.
      *
      * @param tasksExecutorPoolProperties The properties for the task executor thread pool
+     * @param environment                 The environment used to determine whether virtual threads are enabled
      * @return The task executor the system to use
      */
     @Bean
     @ConditionalOnMissingBean(name = "genieAsyncTaskExecutor")
-    public AsyncTaskExecutor genieAsyncTaskExecutor(final TasksExecutorPoolProperties tasksExecutorPoolProperties) {
+    public AsyncTaskExecutor genieAsyncTaskExecutor(
+        final TasksExecutorPoolProperties tasksExecutorPoolProperties,
+        final Environment environment
+    ) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            final SimpleAsyncTaskExecutor executor
+                = new SimpleAsyncTaskExecutor(tasksExecutorPoolProperties.getThreadNamePrefix());
+            executor.setVirtualThreads(true);
+            return executor;
+        }
         final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(tasksExecutorPoolProperties.getSize());
         executor.setThreadNamePrefix(tasksExecutorPoolProperties.getThreadNamePrefix());
@@ -23,9 +23,13 @@ import com.netflix.genie.web.events.GenieEventBus;
 import com.netflix.genie.web.properties.AgentCleanupProperties;
 import com.netflix.genie.web.properties.ArchiveStatusCleanupProperties;
 import com.netflix.genie.web.properties.DatabaseCleanupProperties;
+import com.netflix.genie.web.properties.JobColdStorageProperties;
+import com.netflix.genie.web.properties.JobsPartitioningProperties;
 import com.netflix.genie.web.properties.LeadershipProperties;
 import com.netflix.genie.web.properties.UserMetricsProperties;
+import com.netflix.genie.web.services.ActiveJobResourcesService;
 import com.netflix.genie.web.services.ClusterLeaderService;
+import com.netflix.genie.web.services.JobColdStorageService;
 import com.netflix.genie.web.services.impl.ClusterLeaderServiceCuratorImpl;
 import com.netflix.genie.web.services.impl.ClusterLeaderServiceLocalLeaderImpl;
 import com.netflix.genie.web.spring.actuators.LeaderElectionActuator;
@@ -34,6 +38,8 @@ import com.netflix.genie.web.spring.autoconfigure.tasks.TasksAutoConfiguration;
 import com.netflix.genie.web.tasks.leader.AgentJobCleanupTask;
 import com.netflix.genie.web.tasks.leader.ArchiveStatusCleanupTask;
 import com.netflix.genie.web.tasks.leader.DatabaseCleanupTask;
+import com.netflix.genie.web.tasks.leader.JobColdStorageTask;
+import com.netflix.genie.web.tasks.leader.JobsPartitionMaintenanceTask;
 import com.netflix.genie.web.tasks.leader.LeaderTask;
 import com.netflix.genie.web.tasks.leader.LeaderTasksCoordinator;
 import com.netflix.genie.web.tasks.leader.LocalLeader;
@@ -65,6 +71,8 @@ import java.util.Set;
         AgentCleanupProperties.class,
         ArchiveStatusCleanupProperties.class,
         DatabaseCleanupProperties.class,
+        JobColdStorageProperties.class,
+        JobsPartitioningProperties.class,
         LeadershipProperties.class,
         UserMetricsProperties.class,
     }
@@ -121,11 +129,69 @@ public class LeaderAutoConfiguration {
     }
 
     /**
-     * If required get a {@link UserMetricsTask} instance for use.
+     * Create a {@link JobColdStorageTask} if finished jobs should be moved to cold storage.
      *
+     * @param coldStorageProperties The properties to use to configure this task
+     * @param environment           The application {@link Environment} to pull properties from
+     * @param dataServices          The {@link DataServices} encapsulation instance to use
+     * @param jobColdStorageService The {@link JobColdStorageService} to move jobs to
      * @param registry              The metrics registry
-     * @param dataServices          The {@link DataServices} instance to use
-     * @param userMetricsProperties The properties
+     * @return The {@link JobColdStorageTask} instance to use if the conditions match
+     */
+    @Bean
+    @ConditionalOnProperty(value = JobColdStorageProperties.ENABLED_PROPERTY, havingValue = "true")
+    @ConditionalOnMissingBean(JobColdStorageTask.class)
+    public JobColdStorageTask jobColdStorageTask(
+        final JobColdStorageProperties coldStorageProperties,
+        final Environment environment,
+        final DataServices dataServices,
+        final JobColdStorageService jobColdStorageService,
+        final MeterRegistry registry
+    ) {
+        return new JobColdStorageTask(
+            coldStorageProperties,
+            environment,
+            dataServices,
+            jobColdStorageService,
+            registry
+        );
+    }
+
+    /**
+     * Create a {@link JobsPartitionMaintenanceTask} if the jobs table is stored partitioned.
+     *
+     * @param partitioningProperties The properties to use to configure this task
+     * @param cleanupProperties      The database cleanup properties which hold the job retention
+     * @param environment            The application {@link Environment} to pull properties from
+     * @param dataServices           The {@link DataServices} encapsulation instance to use
+     * @param registry               The metrics registry
+     * @return The {@link JobsPartitionMaintenanceTask} instance to use if the conditions match
+     */
+    @Bean
+    @ConditionalOnProperty(value = JobsPartitioningProperties.ENABLED_PROPERTY, havingValue = "true")
+    @ConditionalOnMissingBean(JobsPartitionMaintenanceTask.class)
+    public JobsPartitionMaintenanceTask jobsPartitionMaintenanceTask(
+        final JobsPartitioningProperties partitioningProperties,
+        final DatabaseCleanupProperties cleanupProperties,
+        final Environment environment,
+        final DataServices dataServices,
+        final MeterRegistry registry
+    ) {
+        return new JobsPartitionMaintenanceTask(
+            partitioningProperties,
+            cleanupProperties,
+            environment,
+            dataServices,
+            registry
+        );
+    }
+
+    /**
+     * If required get a {@link UserMetricsTask} instance for use.
+     *
+     * @param registry                  The metrics registry
+     * @param activeJobResourcesService The {@link ActiveJobResourcesService} to read the user resources from
+     * @param userMetricsProperties     The properties
      * @return The {@link UserMetricsTask} instance
      */
     @Bean
@@ -133,12 +199,12 @@ public class LeaderAutoConfiguration {
     @ConditionalOnMissingBean(UserMetricsTask.class)
     public UserMetricsTask userMetricsTask(
         final MeterRegistry registry,
-        final DataServices dataServices,
+        final ActiveJobResourcesService activeJobResourcesService,
         final UserMetricsProperties userMetricsProperties
     ) {
         return new UserMetricsTask(
             registry,
-            dataServices,
+            activeJobResourcesService,
             userMetricsProperties
         );
     }
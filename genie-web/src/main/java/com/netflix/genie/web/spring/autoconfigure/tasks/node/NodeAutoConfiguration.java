@@ -18,15 +18,21 @@
 package com.netflix.genie.web.spring.autoconfigure.tasks.node;
 
 import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.properties.CatalogCacheProperties;
 import com.netflix.genie.web.properties.DiskCleanupProperties;
 import com.netflix.genie.web.properties.JobsProperties;
+import com.netflix.genie.web.tasks.node.CatalogCacheRefreshTask;
 import com.netflix.genie.web.tasks.node.DiskCleanupTask;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.exec.Executor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.Resource;
@@ -41,8 +47,14 @@ import java.io.IOException;
  * @since 4.0.0
  */
 @Configuration
+@AutoConfigureAfter(
+    {
+        CacheAutoConfiguration.class
+    }
+)
 @EnableConfigurationProperties(
     {
+        CatalogCacheProperties.class,
         DiskCleanupProperties.class,
     }
 )
@@ -83,4 +95,28 @@ public class NodeAutoConfiguration {
             registry
         );
     }
+
+    /**
+     * If required get a {@link CatalogCacheRefreshTask} instance for use.
+     *
+     * @param properties   The catalog cache properties to use
+     * @param scheduler    The scheduler to use to run the task periodically
+     * @param dataServices The {@link DataServices} instance to use
+     * @param cacheManager The {@link CacheManager} holding the catalog caches
+     * @param registry     The metrics registry
+     * @return The {@link CatalogCacheRefreshTask} instance
+     */
+    @Bean
+    @ConditionalOnProperty(value = CatalogCacheProperties.ENABLED_PROPERTY, havingValue = "true", matchIfMissing = true)
+    @ConditionalOnBean(CacheManager.class)
+    @ConditionalOnMissingBean(CatalogCacheRefreshTask.class)
+    public CatalogCacheRefreshTask catalogCacheRefreshTask(
+        final CatalogCacheProperties properties,
+        @Qualifier("genieTaskScheduler") final TaskScheduler scheduler,
+        final DataServices dataServices,
+        final CacheManager cacheManager,
+        final MeterRegistry registry
+    ) {
+        return new CatalogCacheRefreshTask(properties, scheduler, dataServices, cacheManager, registry);
+    }
 }
@@ -94,9 +94,13 @@ public class AgentJobCleanupTask extends LeaderTask {
         // Get agent jobs that in ACCEPTED status (i.e. waiting for agent to start)
         final Set<String> acceptedAgentJobIds = this.persistenceService.getUnclaimedJobs();
 
+        // Jobs waiting in an admission queue aren't expected to have an agent yet
+        final Set<String> queuedJobIds = this.persistenceService.getQueuedJobs();
+
         // Filter out jobs whose agent is connected
         final Set<String> currentlyAwolJobsIds = activeAgentJobIds
             .stream()
+            .filter(jobId -> !queuedJobIds.contains(jobId))
             .filter(jobId -> !this.agentRoutingService.isAgentConnected(jobId))
             .collect(Collectors.toSet());
 
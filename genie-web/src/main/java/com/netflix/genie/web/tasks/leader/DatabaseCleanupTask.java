@@ -25,6 +25,7 @@ import com.netflix.genie.common.internal.jobs.JobConstants;
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.PersistenceService;
 import com.netflix.genie.web.properties.DatabaseCleanupProperties;
+import com.netflix.genie.web.properties.JobsPartitioningProperties;
 import com.netflix.genie.web.tasks.GenieTaskScheduleType;
 import com.netflix.genie.web.tasks.TaskUtils;
 import com.netflix.genie.web.util.MetricsUtils;
@@ -69,6 +70,8 @@ public class DatabaseCleanupTask extends LeaderTask {
     private static final String COMMAND_DEACTIVATION_TIMER = "genie.tasks.databaseCleanup.commandDeactivation.timer";
     private static final String COMMAND_DELETION_TIMER = "genie.tasks.databaseCleanup.commandDeletion.timer";
     private static final String FILE_DELETION_TIMER = "genie.tasks.databaseCleanup.fileDeletion.timer";
+    private static final String JOB_STATUS_HISTORY_DELETION_TIMER
+        = "genie.tasks.databaseCleanup.jobStatusHistoryDeletion.timer";
     private static final String TAG_DELETION_TIMER = "genie.tasks.databaseCleanup.tagDeletion.timer";
 
     // TODO: May want to make this a property
@@ -88,6 +91,7 @@ public class DatabaseCleanupTask extends LeaderTask {
 
     private final MeterRegistry registry;
     private final AtomicLong numDeletedJobs;
+    private final AtomicLong numDeletedJobStatusHistory;
     private final AtomicLong numDeletedClusters;
     private final AtomicLong numDeactivatedCommands;
     private final AtomicLong numDeletedCommands;
@@ -118,6 +122,10 @@ public class DatabaseCleanupTask extends LeaderTask {
             "genie.tasks.databaseCleanup.numDeletedJobs.gauge",
             new AtomicLong()
         );
+        this.numDeletedJobStatusHistory = this.registry.gauge(
+            "genie.tasks.databaseCleanup.numDeletedJobStatusHistory.gauge",
+            new AtomicLong()
+        );
         this.numDeletedClusters = this.registry.gauge(
             "genie.tasks.databaseCleanup.numDeletedClusters.gauge",
             new AtomicLong()
@@ -175,6 +183,7 @@ public class DatabaseCleanupTask extends LeaderTask {
         final Set<Tag> tags = Sets.newHashSet();
         try {
             this.deleteJobs();
+            this.deleteJobStatusHistory();
 
             // Get now - 1 hour to avoid deleting references that were created as part of new resources recently
             final Instant creationThreshold = runtime.minus(1L, ChronoUnit.HOURS);
@@ -203,6 +212,7 @@ public class DatabaseCleanupTask extends LeaderTask {
     @Override
     public void cleanup() {
         this.numDeletedJobs.set(0L);
+        this.numDeletedJobStatusHistory.set(0L);
         this.numDeletedClusters.set(0L);
         this.numDeactivatedCommands.set(0L);
         this.numDeletedCommands.set(0L);
@@ -220,9 +230,17 @@ public class DatabaseCleanupTask extends LeaderTask {
             Boolean.class,
             this.cleanupProperties.getJobCleanup().isSkip()
         );
+        final boolean partitioned = this.environment.getProperty(
+            JobsPartitioningProperties.ENABLED_PROPERTY,
+            Boolean.class,
+            false
+        );
         if (skipJobs) {
             log.info("Skipping job cleanup");
             this.numDeletedJobs.set(0);
+        } else if (partitioned) {
+            log.info("Jobs are stored partitioned. Retention is enforced by dropping partitions");
+            this.numDeletedJobs.set(0);
         } else {
             // TODO: Maybe we shouldn't reset it to midnight no matter what... just go with runtime minus something
             final Instant midnightUTC = TaskUtils.getMidnightUTC();
@@ -263,6 +281,63 @@ public class DatabaseCleanupTask extends LeaderTask {
         }
     }
 
+    /*
+     * Delete job status transition history older than its retention threshold. History rows only reference jobs by
+     * their unique id so this is independent of whether or how the jobs themselves have been deleted.
+     */
+    private void deleteJobStatusHistory() {
+        final long startTime = System.nanoTime();
+        final Set<Tag> tags = Sets.newHashSet();
+        try {
+            final boolean skipJobStatusHistory = this.environment.getProperty(
+                DatabaseCleanupProperties.JobStatusHistoryDatabaseCleanupProperties.SKIP_PROPERTY,
+                Boolean.class,
+                this.cleanupProperties.getJobStatusHistoryCleanup().isSkip()
+            );
+            if (skipJobStatusHistory) {
+                log.info("Skipping job status history cleanup");
+                this.numDeletedJobStatusHistory.set(0);
+            } else {
+                final Instant retentionLimit = TaskUtils.getMidnightUTC().minus(
+                    this.environment.getProperty(
+                        DatabaseCleanupProperties.JobStatusHistoryDatabaseCleanupProperties.RETENTION_PROPERTY,
+                        Integer.class,
+                        this.cleanupProperties.getJobStatusHistoryCleanup().getRetention()
+                    ),
+                    ChronoUnit.DAYS
+                );
+                final int batchSize = this.environment.getProperty(
+                    DatabaseCleanupProperties.BATCH_SIZE_PROPERTY,
+                    Integer.class,
+                    this.cleanupProperties.getBatchSize()
+                );
+
+                log.info(
+                    "Attempting to delete job status history from before {} in batches of {}",
+                    retentionLimit,
+                    batchSize
+                );
+
+                long deleted;
+                long totalDeleted = 0L;
+                do {
+                    deleted = this.persistenceService.deleteJobStatusHistoryCreatedBefore(retentionLimit, batchSize);
+                    totalDeleted += deleted;
+                } while (deleted > 0);
+
+                log.info("Deleted {} job status history records created before {}", totalDeleted, retentionLimit);
+                this.numDeletedJobStatusHistory.set(totalDeleted);
+            }
+        } catch (final Exception e) {
+            log.error("Unable to delete job status history from database", e);
+            MetricsUtils.addFailureTagsWithException(tags, e);
+        } finally {
+            this.registry
+                .timer(JOB_STATUS_HISTORY_DELETION_TIMER, tags)
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
     /*
      * Delete all clusters that are marked terminated and aren't attached to any jobs after jobs were deleted.
      */
@@ -0,0 +1,192 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.tasks.leader;
+
+import com.google.common.collect.Sets;
+import com.netflix.genie.common.internal.dtos.JobStatus;
+import com.netflix.genie.common.internal.jobs.JobConstants;
+import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.data.services.PersistenceService;
+import com.netflix.genie.web.properties.JobColdStorageProperties;
+import com.netflix.genie.web.services.JobColdStorageService;
+import com.netflix.genie.web.tasks.GenieTaskScheduleType;
+import com.netflix.genie.web.tasks.TaskUtils;
+import com.netflix.genie.web.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.CronTrigger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link LeaderTask} which moves finished jobs older than the configured age from the database to cold storage.
+ * Jobs are written to cold storage before they are deleted from the database so a failure part way through at worst
+ * leaves a job in both places, in which case the database copy wins for lookups and the next run doesn't store it in
+ * cold storage again. Jobs past the configured cold storage retention are then deleted from cold storage.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class JobColdStorageTask extends LeaderTask {
+
+    private static final String COLD_STORAGE_DURATION_TIMER_NAME = "genie.tasks.jobColdStorage.duration.timer";
+
+    private final JobColdStorageProperties coldStorageProperties;
+    private final Environment environment;
+    private final PersistenceService persistenceService;
+    private final JobColdStorageService jobColdStorageService;
+
+    private final MeterRegistry registry;
+    private final AtomicLong numMovedJobs;
+    private final AtomicLong numExpiredJobs;
+
+    /**
+     * Constructor.
+     *
+     * @param coldStorageProperties The properties to use to configure this task
+     * @param environment           The application environment to pull properties from
+     * @param dataServices          The {@link DataServices} encapsulation instance to use
+     * @param jobColdStorageService The {@link JobColdStorageService} to move jobs to
+     * @param registry              The metrics registry
+     */
+    public JobColdStorageTask(
+        final JobColdStorageProperties coldStorageProperties,
+        final Environment environment,
+        final DataServices dataServices,
+        final JobColdStorageService jobColdStorageService,
+        final MeterRegistry registry
+    ) {
+        this.coldStorageProperties = coldStorageProperties;
+        this.environment = environment;
+        this.persistenceService = dataServices.getPersistenceService();
+        this.jobColdStorageService = jobColdStorageService;
+        this.registry = registry;
+
+        this.numMovedJobs = this.registry.gauge(
+            "genie.tasks.jobColdStorage.numMovedJobs.gauge",
+            new AtomicLong()
+        );
+        this.numExpiredJobs = this.registry.gauge(
+            "genie.tasks.jobColdStorage.numExpiredJobs.gauge",
+            new AtomicLong()
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GenieTaskScheduleType getScheduleType() {
+        return GenieTaskScheduleType.TRIGGER;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Trigger getTrigger() {
+        final String expression = this.environment.getProperty(
+            JobColdStorageProperties.EXPRESSION_PROPERTY,
+            String.class,
+            this.coldStorageProperties.getExpression()
+        );
+        return new CronTrigger(expression, JobConstants.UTC);
+    }
+
+    /**
+     * Move batches of finished jobs older than the configured age to cold storage then delete the jobs past the cold
+     * storage retention.
+     */
+    @Override
+    public void run() {
+        final long start = System.nanoTime();
+        final Set<Tag> tags = Sets.newHashSet();
+        try {
+            final Instant threshold = TaskUtils.getMidnightUTC().minus(
+                this.environment.getProperty(
+                    JobColdStorageProperties.AGE_PROPERTY,
+                    Integer.class,
+                    this.coldStorageProperties.getAge()
+                ),
+                ChronoUnit.DAYS
+            );
+            log.info("Moving jobs created before {} to cold storage", threshold);
+
+            long totalMovedJobs = 0L;
+            Set<String> ids;
+            do {
+                ids = this.persistenceService.getJobsCreatedBefore(
+                    threshold,
+                    JobStatus.getActiveStatuses(),
+                    this.coldStorageProperties.getBatchSize()
+                );
+                if (!ids.isEmpty()) {
+                    this.jobColdStorageService.storeJobs(this.persistenceService.getJobsForColdStorage(ids));
+                    totalMovedJobs += this.persistenceService.deleteJobs(ids);
+                }
+            } while (!ids.isEmpty());
+
+            log.info("Moved {} jobs to cold storage", totalMovedJobs);
+            this.numMovedJobs.set(totalMovedJobs);
+
+            final int retention = this.environment.getProperty(
+                JobColdStorageProperties.RETENTION_PROPERTY,
+                Integer.class,
+                this.coldStorageProperties.getRetention()
+            );
+            if (retention > 0) {
+                final Instant retentionLimit = TaskUtils.getMidnightUTC().minus(retention, ChronoUnit.DAYS);
+                final long expiredJobs = this.jobColdStorageService.deleteJobsCreatedBefore(retentionLimit);
+                log.info("Deleted {} jobs created before {} from cold storage", expiredJobs, retentionLimit);
+                this.numExpiredJobs.set(expiredJobs);
+            } else {
+                this.numExpiredJobs.set(0L);
+            }
+            MetricsUtils.addSuccessTags(tags);
+        } catch (final IOException e) {
+            MetricsUtils.addFailureTagsWithException(tags, e);
+            throw new UncheckedIOException("Unable to write jobs to cold storage", e);
+        } catch (final Throwable t) {
+            MetricsUtils.addFailureTagsWithException(tags, t);
+            throw t;
+        } finally {
+            this.registry
+                .timer(COLD_STORAGE_DURATION_TIMER_NAME, tags)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cleanup() {
+        this.numMovedJobs.set(0L);
+        this.numExpiredJobs.set(0L);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.tasks.leader;
+
+import com.google.common.collect.Sets;
+import com.netflix.genie.common.internal.dtos.JobStatus;
+import com.netflix.genie.common.internal.jobs.JobConstants;
+import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.data.services.PersistenceService;
+import com.netflix.genie.web.properties.DatabaseCleanupProperties;
+import com.netflix.genie.web.properties.JobsPartitioningProperties;
+import com.netflix.genie.web.tasks.GenieTaskScheduleType;
+import com.netflix.genie.web.tasks.TaskUtils;
+import com.netflix.genie.web.util.MetricsUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.CronTrigger;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link LeaderTask} which maintains the partitions of the jobs table when it is stored partitioned by creation
+ * time. Partitions are created ahead of the current time and partitions older than the job retention configured for
+ * the {@link DatabaseCleanupTask} are dropped whole.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class JobsPartitionMaintenanceTask extends LeaderTask {
+
+    private static final String PARTITION_MAINTENANCE_TIMER_NAME = "genie.tasks.jobsPartitioning.duration.timer";
+
+    private final JobsPartitioningProperties partitioningProperties;
+    private final DatabaseCleanupProperties cleanupProperties;
+    private final Environment environment;
+    private final PersistenceService persistenceService;
+
+    private final MeterRegistry registry;
+    private final AtomicLong numCreatedPartitions;
+    private final AtomicLong numDroppedPartitions;
+
+    /**
+     * Constructor.
+     *
+     * @param partitioningProperties The properties to use to configure this task
+     * @param cleanupProperties      The database cleanup properties which hold the job retention
+     * @param environment            The application environment to pull properties from
+     * @param dataServices           The {@link DataServices} encapsulation instance to use
+     * @param registry               The metrics registry
+     */
+    public JobsPartitionMaintenanceTask(
+        final JobsPartitioningProperties partitioningProperties,
+        final DatabaseCleanupProperties cleanupProperties,
+        final Environment environment,
+        final DataServices dataServices,
+        final MeterRegistry registry
+    ) {
+        this.partitioningProperties = partitioningProperties;
+        this.cleanupProperties = cleanupProperties;
+        this.environment = environment;
+        this.persistenceService = dataServices.getPersistenceService();
+        this.registry = registry;
+
+        this.numCreatedPartitions = this.registry.gauge(
+            "genie.tasks.jobsPartitioning.numCreatedPartitions.gauge",
+            new AtomicLong()
+        );
+        this.numDroppedPartitions = this.registry.gauge(
+            "genie.tasks.jobsPartitioning.numDroppedPartitions.gauge",
+            new AtomicLong()
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GenieTaskScheduleType getScheduleType() {
+        return GenieTaskScheduleType.TRIGGER;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Trigger getTrigger() {
+        final String expression = this.environment.getProperty(
+            JobsPartitioningProperties.EXPRESSION_PROPERTY,
+            String.class,
+            this.partitioningProperties.getExpression()
+        );
+        return new CronTrigger(expression, JobConstants.UTC);
+    }
+
+    /**
+     * Create upcoming partitions then drop the ones past retention.
+     */
+    @Override
+    public void run() {
+        final long start = System.nanoTime();
+        final Set<Tag> tags = Sets.newHashSet();
+        try {
+            final Duration partitionWidth = Duration.ofDays(this.partitioningProperties.getPartitionWidthDays());
+            final Instant coverUntil = Instant.now().plus(
+                partitionWidth.multipliedBy(this.partitioningProperties.getPartitionsAhead())
+            );
+            final int created = this.persistenceService.createJobPartitions(coverUntil, partitionWidth);
+            log.info("Created {} jobs partitions to cover jobs created until {}", created, coverUntil);
+            this.numCreatedPartitions.set(created);
+
+            final boolean skipJobs = this.environment.getProperty(
+                DatabaseCleanupProperties.JobDatabaseCleanupProperties.SKIP_PROPERTY,
+                Boolean.class,
+                this.cleanupProperties.getJobCleanup().isSkip()
+            );
+            if (skipJobs) {
+                log.info("Job cleanup is skipped. Not dropping any jobs partitions");
+                this.numDroppedPartitions.set(0L);
+            } else {
+                final Instant retentionLimit = TaskUtils.getMidnightUTC().minus(
+                    this.environment.getProperty(
+                        DatabaseCleanupProperties.JobDatabaseCleanupProperties.JOB_RETENTION_PROPERTY,
+                        Integer.class,
+                        this.cleanupProperties.getJobCleanup().getRetention()
+                    ),
+                    ChronoUnit.DAYS
+                );
+                final int batchSize = this.environment.getProperty(
+                    DatabaseCleanupProperties.JobDatabaseCleanupProperties.PAGE_SIZE_PROPERTY,
+                    Integer.class,
+                    this.cleanupProperties.getJobCleanup().getPageSize()
+                );
+                final int dropped = this.persistenceService.dropJobPartitionsBefore(
+                    retentionLimit,
+                    JobStatus.getActiveStatuses(),
+                    batchSize
+                );
+                log.info("Dropped {} jobs partitions holding jobs created before {}", dropped, retentionLimit);
+                this.numDroppedPartitions.set(dropped);
+            }
+
+            MetricsUtils.addSuccessTags(tags);
+        } catch (final Throwable t) {
+            MetricsUtils.addFailureTagsWithException(tags, t);
+            throw t;
+        } finally {
+            this.registry
+                .timer(PARTITION_MAINTENANCE_TIMER_NAME, tags)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cleanup() {
+        this.numCreatedPartitions.set(0L);
+        this.numDroppedPartitions.set(0L);
+    }
+}
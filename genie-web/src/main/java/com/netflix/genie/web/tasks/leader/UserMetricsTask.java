@@ -21,10 +21,8 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.AtomicDouble;
 import com.netflix.genie.common.dto.UserResourcesSummary;
-import com.netflix.genie.common.internal.dtos.JobStatus;
-import com.netflix.genie.web.data.services.DataServices;
-import com.netflix.genie.web.data.services.PersistenceService;
 import com.netflix.genie.web.properties.UserMetricsProperties;
+import com.netflix.genie.web.services.ActiveJobResourcesService;
 import com.netflix.genie.web.tasks.GenieTaskScheduleType;
 import com.netflix.genie.web.util.MetricsConstants;
 import io.micrometer.core.instrument.Gauge;
@@ -53,7 +51,7 @@ public class UserMetricsTask extends LeaderTask {
         "genie.user.active-memory.by-submission-mode.gauge";
     private static final UserResourcesRecord USER_RECORD_PLACEHOLDER = new UserResourcesRecord("nobody");
     private final MeterRegistry registry;
-    private final PersistenceService persistenceService;
+    private final ActiveJobResourcesService activeJobResourcesService;
     private final UserMetricsProperties userMetricsProperties;
 
     private final Map<String, UserResourcesRecord> userResourcesRecordMap = Maps.newHashMap();
@@ -65,17 +63,17 @@ public class UserMetricsTask extends LeaderTask {
     /**
      * Constructor.
      *
-     * @param registry              the metrics registry
-     * @param dataServices          The {@link DataServices} instance to use
-     * @param userMetricsProperties the properties that configure this task
+     * @param registry                  the metrics registry
+     * @param activeJobResourcesService the service holding the resources used by active jobs
+     * @param userMetricsProperties     the properties that configure this task
      */
     public UserMetricsTask(
         final MeterRegistry registry,
-        final DataServices dataServices,
+        final ActiveJobResourcesService activeJobResourcesService,
         final UserMetricsProperties userMetricsProperties
     ) {
         this.registry = registry;
-        this.persistenceService = dataServices.getPersistenceService();
+        this.activeJobResourcesService = activeJobResourcesService;
         this.userMetricsProperties = userMetricsProperties;
         this.activeUsersCount = new AtomicDouble(Double.NaN);
 
@@ -108,8 +106,7 @@ public class UserMetricsTask extends LeaderTask {
         log.debug("Publishing user metrics");
 
         // An opt-in per-submission-mode breakdown (API vs. agent/CLI) is published below when enabled.
-        final Map<String, UserResourcesSummary> summaries = this.persistenceService.getUserResourcesSummaries(
-            JobStatus.getActiveStatuses(),
+        final Map<String, UserResourcesSummary> summaries = this.activeJobResourcesService.getUserResourcesSummaries(
             true
         );
 
@@ -205,11 +202,11 @@ public class UserMetricsTask extends LeaderTask {
 
     private void publishResourcesBySubmissionMode(final Map<String, UserResourcesSummary> apiSummaries) {
         // Reuse the api=true summaries already fetched above; only the agent (api=false) slice is
-        // an additional query.
+        // an additional lookup.
         this.updateSubmissionModeRecords(true, apiSummaries);
         this.updateSubmissionModeRecords(
             false,
-            this.persistenceService.getUserResourcesSummaries(JobStatus.getActiveStatuses(), false)
+            this.activeJobResourcesService.getUserResourcesSummaries(false)
         );
     }
 
@@ -0,0 +1,108 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.tasks.node;
+
+import com.netflix.genie.web.data.services.CatalogCaches;
+import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.data.services.PersistenceService;
+import com.netflix.genie.web.properties.CatalogCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.TaskScheduler;
+
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * This task runs on every Genie node and clears the local {@link CatalogCaches} whenever the application, cluster or
+ * command catalog was modified, possibly by another node, since the last time it ran.
+ * <p>
+ * Modifications made through this node are already invalidated as they happen by the catalog entity listener. This
+ * task bounds how long catalog data changed elsewhere can be served stale to roughly the configured refresh check
+ * interval.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+@Slf4j
+public class CatalogCacheRefreshTask implements Runnable {
+
+    private final PersistenceService persistenceService;
+    private final CacheManager cacheManager;
+    private final Counter invalidationCounter;
+    private final Counter checkFailureCounter;
+
+    @Nullable
+    private String lastCatalogVersion;
+
+    /**
+     * Constructor. Schedules this task to be run by the task scheduler.
+     *
+     * @param properties   The catalog cache properties to use
+     * @param scheduler    The scheduler to use to run the task periodically
+     * @param dataServices The {@link DataServices} instance to use
+     * @param cacheManager The {@link CacheManager} holding the catalog caches
+     * @param registry     The metrics registry
+     */
+    public CatalogCacheRefreshTask(
+        @NotNull final CatalogCacheProperties properties,
+        @NotNull final TaskScheduler scheduler,
+        @NotNull final DataServices dataServices,
+        @NotNull final CacheManager cacheManager,
+        @NotNull final MeterRegistry registry
+    ) {
+        this.persistenceService = dataServices.getPersistenceService();
+        this.cacheManager = cacheManager;
+        this.invalidationCounter = registry.counter("genie.tasks.catalogCacheRefresh.invalidations.rate");
+        this.checkFailureCounter = registry.counter("genie.tasks.catalogCacheRefresh.checkFailures.rate");
+
+        scheduler.scheduleWithFixedDelay(this, properties.getRefreshCheckInterval());
+    }
+
+    /**
+     * Compare the current catalog version with the one seen on the previous run and clear the catalog caches if they
+     * differ. If the version can't be retrieved the caches are cleared as well since staleness can't be ruled out.
+     */
+    @Override
+    public void run() {
+        final String catalogVersion;
+        try {
+            catalogVersion = this.persistenceService.getCatalogVersion();
+        } catch (final Exception e) {
+            log.warn("Unable to check the catalog version. Clearing catalog caches", e);
+            this.checkFailureCounter.increment();
+            this.lastCatalogVersion = null;
+            CatalogCaches.clear(this.cacheManager);
+            return;
+        }
+
+        // Nothing is known about entries cached before the first successful check so treat that as a change too
+        if (!catalogVersion.equals(this.lastCatalogVersion)) {
+            log.debug(
+                "Catalog version changed from {} to {}. Clearing catalog caches",
+                this.lastCatalogVersion,
+                catalogVersion
+            );
+            this.invalidationCounter.increment();
+            CatalogCaches.clear(this.cacheManager);
+        }
+        this.lastCatalogVersion = catalogVersion;
+    }
+}
@@ -25,6 +25,9 @@ import javax.annotation.concurrent.ThreadSafe;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * A temporary in-memory structure to hold in-transit data.
@@ -36,6 +39,9 @@ import java.util.concurrent.atomic.AtomicReference;
  * To support range requests in a memory-efficient way, {@link StreamBufferInputStream} also allows skipping the first
  * {@code skipOffset - 1} bytes without allocating memory (or worse: downloading the actual bytes only to have them
  * thrown away to get to the actual range)
+ * <p>
+ * Readers and writers wait on a {@link Lock} rather than an object monitor so a virtual thread blocked on this buffer
+ * releases its carrier thread.
  *
  * @author mprimi
  * @since 4.0.0
@@ -44,7 +50,8 @@ import java.util.concurrent.atomic.AtomicReference;
 @Slf4j
 public class StreamBuffer {
 
-    private final Object lock = new Object();
+    private final Lock lock = new ReentrantLock();
+    private final Condition changed = this.lock.newCondition();
     private final AtomicReference<StreamBufferInputStream> inputStreamRef = new AtomicReference<>();
 
     private boolean closed;
@@ -69,9 +76,12 @@ public class StreamBuffer {
      */
     public void closeForError(final Throwable t) {
         log.error("Closing buffer due to error: " + t.getClass().getSimpleName() + ": " + t.getMessage());
-        synchronized (this.lock) {
+        this.lock.lock();
+        try {
             this.closeCause = t;
             this.closeForCompleted();
+        } finally {
+            this.lock.unlock();
         }
     }
 
@@ -80,9 +90,12 @@ public class StreamBuffer {
      * Reading will return the end of stream marker after all data has been consumed.
      */
     public void closeForCompleted() {
-        synchronized (this.lock) {
+        this.lock.lock();
+        try {
             this.closed = true;
-            this.lock.notifyAll();
+            this.changed.signalAll();
+        } finally {
+            this.lock.unlock();
         }
     }
 
@@ -94,14 +107,17 @@ public class StreamBuffer {
      * @throws IllegalStateException if writing is attempted after the buffer has been closed
      */
     public void write(final ByteString data) {
-        synchronized (this.lock) {
+        this.lock.lock();
+        try {
             while (!tryWrite(data)) {
                 try {
-                    this.lock.wait();
+                    this.changed.await();
                 } catch (InterruptedException e) {
                     log.warn("Interrupted while waiting to write next chunk of data");
                 }
             }
+        } finally {
+            this.lock.unlock();
         }
     }
 
@@ -115,7 +131,8 @@ public class StreamBuffer {
      * @throws IllegalStateException if writing is attempted after the buffer has been closed
      */
     public boolean tryWrite(final ByteString data) {
-        synchronized (this.lock) {
+        this.lock.lock();
+        try {
             if (this.closed) {
                 throw new IllegalStateException("Attempting to write after closing");
             } else if (this.currentChunk == null) {
@@ -123,13 +140,15 @@ public class StreamBuffer {
                 this.currentChunk = data;
                 this.currentChunkWatermark = 0;
                 // Wake up reading thread
-                this.lock.notifyAll();
+                this.changed.signalAll();
                 return true;
             } else {
                 // Previous chunk of data is still being consumed.
-                this.lock.notifyAll();
+                this.changed.signalAll();
                 return false;
             }
+        } finally {
+            this.lock.unlock();
         }
     }
 
@@ -148,7 +167,8 @@ public class StreamBuffer {
     }
 
     private int read(final byte[] destination) throws IOException {
-        synchronized (this.lock) {
+        this.lock.lock();
+        try {
             while (true) {
                 if (currentChunk != null) {
                     // Read from current chunk into destination
@@ -165,7 +185,7 @@ public class StreamBuffer {
                         // Make room for the next one
                         this.currentChunk = null;
                         // Wake the writer thread
-                        this.lock.notifyAll();
+                        this.changed.signalAll();
                     }
                     return bytesRead;
                 } else if (this.closed) {
@@ -180,13 +200,15 @@ public class StreamBuffer {
                     }
                 } else {
                     try {
-                        this.lock.wait();
+                        this.changed.await();
                     } catch (InterruptedException e) {
                         log.warn("Interrupted while attempting read");
                         return 0;
                     }
                 }
             }
+        } finally {
+            this.lock.unlock();
         }
     }
 
@@ -0,0 +1,28 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+
+ALTER TABLE `jobs`
+  ADD COLUMN `rss_sample_count`  BIGINT(20) DEFAULT NULL,
+  ADD COLUMN `peak_rss_bytes`    BIGINT(20) DEFAULT NULL,
+  ADD COLUMN `average_rss_bytes` BIGINT(20) DEFAULT NULL,
+  ADD COLUMN `cpu_time_millis`   BIGINT(20) DEFAULT NULL,
+  ADD COLUMN `io_read_bytes`     BIGINT(20) DEFAULT NULL,
+  ADD COLUMN `io_write_bytes`    BIGINT(20) DEFAULT NULL,
+  ADD COLUMN `peak_thread_count` INT(11)    DEFAULT NULL,
+  ALGORITHM=INPLACE, LOCK=NONE;
@@ -0,0 +1,37 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+
+
+CREATE TABLE job_status_history (
+  id              BIGSERIAL                                    NOT NULL,
+  created         TIMESTAMP(3) WITHOUT TIME ZONE DEFAULT now() NOT NULL,
+  job_id          VARCHAR(255)                                 NOT NULL,
+  previous_status VARCHAR(20)  DEFAULT NULL,
+  status          VARCHAR(20)                                  NOT NULL,
+  status_msg      VARCHAR(255) DEFAULT NULL,
+  PRIMARY KEY (id)
+);
+
+CREATE INDEX job_status_history_job_id_index
+  ON job_status_history (job_id);
+
+CREATE INDEX job_status_history_created_index
+  ON job_status_history (created);
+
+ALTER TABLE jobs
+  ADD COLUMN status_updated TIMESTAMP(3) WITHOUT TIME ZONE DEFAULT NULL;
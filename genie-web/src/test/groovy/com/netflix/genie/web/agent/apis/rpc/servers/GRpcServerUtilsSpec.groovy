@@ -17,8 +17,10 @@
  */
 package com.netflix.genie.web.agent.apis.rpc.servers
 
+import io.grpc.MethodDescriptor
 import io.grpc.Server
 import spock.lang.Specification
+import spock.lang.Unroll
 
 /**
  * Specifications for {@link GRpcServerUtils}.
@@ -64,4 +66,22 @@ class GRpcServerUtilsSpec extends Specification {
         1 * server.getPort() >> port
         thrown(IllegalStateException)
     }
+
+    @Unroll
+    def "Simple service name of #fullMethodName is #expectedServiceName"() {
+        def method = MethodDescriptor.newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName(fullMethodName)
+            .setRequestMarshaller(Mock(MethodDescriptor.Marshaller))
+            .setResponseMarshaller(Mock(MethodDescriptor.Marshaller))
+            .build()
+
+        expect:
+        GRpcServerUtils.getSimpleServiceName(method) == expectedServiceName
+
+        where:
+        fullMethodName                                       | expectedServiceName
+        "com.netflix.genie.proto.FileStreamService/Transmit" | "FileStreamService"
+        "HeartBeatService/Heartbeat"                         | "HeartBeatService"
+    }
 }
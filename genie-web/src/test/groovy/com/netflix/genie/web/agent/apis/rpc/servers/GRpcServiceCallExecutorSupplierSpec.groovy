@@ -0,0 +1,124 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.agent.apis.rpc.servers
+
+import com.netflix.genie.web.properties.GRpcServerProperties
+import io.grpc.Metadata
+import io.grpc.MethodDescriptor
+import io.grpc.ServerCall
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * Specifications for {@link GRpcServiceCallExecutorSupplier}.
+ *
+ * @author tgianos
+ */
+class GRpcServiceCallExecutorSupplierSpec extends Specification {
+
+    GRpcServerProperties properties
+    SimpleMeterRegistry registry
+    GRpcServiceCallExecutorSupplier supplier
+
+    def setup() {
+        this.properties = new GRpcServerProperties()
+        def isolation = new GRpcServerProperties.ServiceIsolation()
+        isolation.setThreads(2)
+        isolation.setThreadPriority(Thread.MIN_PRIORITY)
+        this.properties.getServiceIsolation().put("FileStreamService", isolation)
+        this.registry = new SimpleMeterRegistry()
+        this.supplier = new GRpcServiceCallExecutorSupplier(this.properties, this.registry, false)
+    }
+
+    def cleanup() {
+        this.supplier.close()
+    }
+
+    def "Calls of isolated services run on dedicated threads"() {
+        when:
+        def fileStreamThread = runOn("com.netflix.genie.proto.FileStreamService/Transmit")
+        def heartBeatThread = runOn("com.netflix.genie.proto.HeartBeatService/Heartbeat")
+
+        then:
+        fileStreamThread.getName().startsWith("genie-grpc-FileStreamService-")
+        fileStreamThread.getPriority() == Thread.MIN_PRIORITY
+        fileStreamThread.isDaemon()
+        heartBeatThread.getName().startsWith("genie-grpc-")
+        !heartBeatThread.getName().startsWith("genie-grpc-FileStreamService-")
+        heartBeatThread.getPriority() == Thread.NORM_PRIORITY
+    }
+
+    def "The same executor is returned for every call of a method"() {
+        def call = createCall("com.netflix.genie.proto.HeartBeatService/Heartbeat")
+
+        expect:
+        this.supplier.getExecutor(call, new Metadata()).is(this.supplier.getExecutor(call, new Metadata()))
+    }
+
+    def "Queueing delay is recorded per method"() {
+        when:
+        runOn("com.netflix.genie.proto.FileStreamService/Transmit")
+        runOn("com.netflix.genie.proto.FileStreamService/Transmit")
+        runOn("com.netflix.genie.proto.HeartBeatService/Heartbeat")
+
+        then:
+        this.registry
+            .get(GRpcServiceCallExecutorSupplier.QUEUE_DELAY_TIMER_NAME)
+            .tags(
+                GRpcServiceCallExecutorSupplier.SERVICE_TAG,
+                "FileStreamService",
+                GRpcServiceCallExecutorSupplier.METHOD_TAG,
+                "Transmit"
+            )
+            .timer()
+            .count() == 2L
+        this.registry
+            .get(GRpcServiceCallExecutorSupplier.QUEUE_DELAY_TIMER_NAME)
+            .tags(
+                GRpcServiceCallExecutorSupplier.SERVICE_TAG,
+                "HeartBeatService",
+                GRpcServiceCallExecutorSupplier.METHOD_TAG,
+                "Heartbeat"
+            )
+            .timer()
+            .count() == 1L
+    }
+
+    private Thread runOn(final String fullMethodName) {
+        def future = new CompletableFuture<Thread>()
+        this.supplier
+            .getExecutor(createCall(fullMethodName), new Metadata())
+            .execute({ future.complete(Thread.currentThread()) })
+        return future.get(10L, TimeUnit.SECONDS)
+    }
+
+    private ServerCall<String, String> createCall(final String fullMethodName) {
+        MethodDescriptor<String, String> methodDescriptor = MethodDescriptor.newBuilder()
+            .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+            .setFullMethodName(fullMethodName)
+            .setRequestMarshaller(Mock(MethodDescriptor.Marshaller))
+            .setResponseMarshaller(Mock(MethodDescriptor.Marshaller))
+            .build()
+        return Mock(ServerCall) {
+            getMethodDescriptor() >> methodDescriptor
+        }
+    }
+}
@@ -18,8 +18,14 @@
 package com.netflix.genie.web.agent.apis.rpc.v4.endpoints
 
 import com.netflix.genie.proto.AgentHeartBeat
+import com.netflix.genie.proto.ProcessTreeUsage
 import com.netflix.genie.proto.ServerHeartBeat
+import com.netflix.genie.web.agent.services.AgentConnectionRebalancingService
 import com.netflix.genie.web.agent.services.AgentConnectionTrackingService
+import com.netflix.genie.web.data.services.DataServices
+import com.netflix.genie.web.data.services.PersistenceService
+import com.netflix.genie.web.dtos.JobResourceUsage
+import com.netflix.genie.web.exceptions.checked.NotFoundException
 import com.netflix.genie.web.properties.HeartBeatProperties
 import io.grpc.Status
 import io.grpc.StatusRuntimeException
@@ -29,16 +35,23 @@ import org.springframework.scheduling.TaskScheduler
 import spock.lang.Specification
 
 import java.time.Duration
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.ScheduledFuture
 
 class GRpcHeartBeatServiceImplSpec extends Specification {
     AgentConnectionTrackingService agentConnectionTrackingService
+    PersistenceService persistenceService
+    SimpleMeterRegistry registry
     GRpcHeartBeatServiceImpl service
     StreamObserver<ServerHeartBeat> responseObserver
     TaskScheduler taskScheduler
     ScheduledFuture taskFuture
     Runnable task
+    TaskScheduler resourceUsageTaskScheduler
+    ScheduledFuture persistFuture
+    Runnable persistTask
     HeartBeatProperties props
+    AgentConnectionRebalancingService agentConnectionRebalancingService
 
     void setup() {
         this.taskFuture = Mock(ScheduledFuture)
@@ -49,11 +62,34 @@ class GRpcHeartBeatServiceImplSpec extends Specification {
                     return taskFuture
             }
         }
+        this.persistFuture = Mock(ScheduledFuture)
+        this.resourceUsageTaskScheduler = Mock(TaskScheduler) {
+            scheduleWithFixedDelay(_ as Runnable, _ as Duration) >> {
+                args ->
+                    this.persistTask = args[0] as Runnable
+                    return persistFuture
+            }
+        }
         this.agentConnectionTrackingService = Mock(AgentConnectionTrackingService)
         this.responseObserver = Mock(StreamObserver)
         this.props = new HeartBeatProperties()
-        this.service = new GRpcHeartBeatServiceImpl(agentConnectionTrackingService, props, taskScheduler, new SimpleMeterRegistry())
+        this.persistenceService = Mock(PersistenceService)
+        def dataServices = Mock(DataServices) {
+            getPersistenceService() >> this.persistenceService
+        }
+        this.registry = new SimpleMeterRegistry()
+        this.agentConnectionRebalancingService = Mock(AgentConnectionRebalancingService)
+        this.service = new GRpcHeartBeatServiceImpl(
+            agentConnectionTrackingService,
+            dataServices,
+            props,
+            taskScheduler,
+            resourceUsageTaskScheduler,
+            registry,
+            agentConnectionRebalancingService
+        )
         assert task != null
+        assert persistTask != null
     }
 
     void cleanup() {
@@ -128,6 +164,7 @@ class GRpcHeartBeatServiceImplSpec extends Specification {
 
         then:
         1 * taskFuture.cancel(false)
+        1 * persistFuture.cancel(false)
         0 * responseObserver.onCompleted()
         0 * agentConnectionTrackingService._
     }
@@ -287,12 +324,144 @@ class GRpcHeartBeatServiceImplSpec extends Specification {
 
         then:
         1 * taskFuture.cancel(false)
+        1 * persistFuture.cancel(false)
         1 * agentConnectionTrackingService.notifyDisconnected(streamId1, jobId1)
         1 * agentConnectionTrackingService.notifyDisconnected(streamId2, jobId2)
         1 * responseObserver1.onCompleted()
         1 * responseObserver2.onCompleted()
     }
 
+    def "Process tree usage is saved by the persist task and peaks are recorded once the stream ends"() {
+        setup:
+        String jobId = UUID.randomUUID().toString()
+        StreamObserver<ServerHeartBeat> responseObserver = Mock(StreamObserver)
+        def usage1 = ProcessTreeUsage.newBuilder()
+            .setSampleCount(2)
+            .setPeakRssBytes(400L)
+            .setAverageRssBytes(300L)
+            .setCpuTimeMillis(1_000L)
+            .setIoReadBytes(10L)
+            .setIoWriteBytes(20L)
+            .setPeakThreadCount(8)
+            .setProcessCount(2)
+            .build()
+        def usage2 = usage1.toBuilder()
+            .setSampleCount(1)
+            .setPeakRssBytes(200L)
+            .setAverageRssBytes(600L)
+            .setCpuTimeMillis(1_500L)
+            .setPeakThreadCount(4)
+            .build()
+
+        when:
+        StreamObserver<AgentHeartBeat> requestObserver = service.heartbeat(responseObserver)
+        requestObserver.onNext(AgentHeartBeat.newBuilder().setClaimedJobId(jobId).setProcessTreeUsage(usage1).build())
+        requestObserver.onNext(AgentHeartBeat.newBuilder().setClaimedJobId(jobId).setProcessTreeUsage(usage2).build())
+        task.run()
+
+        then: "Nothing is saved or recorded while heartbeating"
+        2 * agentConnectionTrackingService.notifyHeartbeat(_ as String, jobId)
+        1 * responseObserver.onNext(_ as ServerHeartBeat)
+        0 * persistenceService.updateJobResourceUsage(_, _)
+        registry.find("genie.agents.jobs.processTree.peakRss.distribution").summary().count() == 0
+
+        when:
+        persistTask.run()
+        persistTask.run()
+
+        then: "Pending usage is saved once"
+        1 * persistenceService.updateJobResourceUsage(
+            jobId,
+            new JobResourceUsage(3L, 400L, 400L, 1_500L, 10L, 20L, 8)
+        )
+
+        when:
+        requestObserver.onNext(AgentHeartBeat.newBuilder().setClaimedJobId(jobId).setProcessTreeUsage(usage2).build())
+        requestObserver.onCompleted()
+
+        then: "The peaks of the whole stream are recorded when it ends but nothing is saved yet"
+        0 * persistenceService.updateJobResourceUsage(_, _)
+        registry.find("genie.agents.jobs.processTree.peakRss.distribution").summary().count() == 1
+        registry.find("genie.agents.jobs.processTree.peakRss.distribution").summary().max() == 400.0
+        registry.find("genie.agents.jobs.processTree.peakThreads.distribution").summary().max() == 8.0
+
+        when:
+        persistTask.run()
+
+        then: "Whatever is left is saved by the next run of the persist task"
+        1 * persistenceService.updateJobResourceUsage(
+            jobId,
+            new JobResourceUsage(1L, 200L, 600L, 1_500L, 10L, 20L, 4)
+        ) >> { throw new NotFoundException("gone") }
+        noExceptionThrown()
+    }
+
+    def "Shutdown cancels the persist task and waits for a run in flight before saving what is left"() {
+        setup:
+        String jobId = UUID.randomUUID().toString()
+        CountDownLatch saving = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+        def usage = ProcessTreeUsage.newBuilder().setSampleCount(1).setPeakRssBytes(400L).setPeakThreadCount(8).build()
+        StreamObserver<AgentHeartBeat> requestObserver = service.heartbeat(responseObserver)
+        requestObserver.onNext(AgentHeartBeat.newBuilder().setClaimedJobId(jobId).setProcessTreeUsage(usage).build())
+
+        when:
+        Thread inFlight = Thread.start { persistTask.run() }
+        saving.await()
+        Thread shutdown = Thread.start { service.shutdown() }
+        shutdown.join(500L)
+        boolean waited = shutdown.isAlive()
+        release.countDown()
+        inFlight.join()
+        shutdown.join()
+
+        then:
+        1 * persistFuture.cancel(false)
+        1 * persistenceService.updateJobResourceUsage(jobId, new JobResourceUsage(1L, 400L, 0L, 0L, 0L, 0L, 8)) >> {
+            saving.countDown()
+            release.await()
+        }
+        waited
+        !shutdown.isAlive()
+
+        when: "A run which fired before the cancellation starts after the final save"
+        persistTask.run()
+
+        then:
+        0 * persistenceService.updateJobResourceUsage(_, _)
+    }
+
+    def "Peaks of a stream asked to reconnect aren't recorded and its usage is saved with the new stream's"() {
+        setup:
+        String jobId = UUID.randomUUID().toString()
+        StreamObserver<ServerHeartBeat> responseObserver1 = Mock(StreamObserver)
+        StreamObserver<ServerHeartBeat> responseObserver2 = Mock(StreamObserver)
+        def usage1 = ProcessTreeUsage.newBuilder().setSampleCount(1).setPeakRssBytes(400L).setPeakThreadCount(8).build()
+        def usage2 = ProcessTreeUsage.newBuilder().setSampleCount(1).setPeakRssBytes(200L).setPeakThreadCount(4).build()
+
+        when:
+        StreamObserver<AgentHeartBeat> requestObserver1 = service.heartbeat(responseObserver1)
+        requestObserver1.onNext(AgentHeartBeat.newBuilder().setClaimedJobId(jobId).setProcessTreeUsage(usage1).build())
+        task.run()
+        StreamObserver<AgentHeartBeat> requestObserver2 = service.heartbeat(responseObserver2)
+        requestObserver2.onNext(AgentHeartBeat.newBuilder().setClaimedJobId(jobId).setProcessTreeUsage(usage2).build())
+        requestObserver1.onCompleted()
+        persistTask.run()
+
+        then:
+        1 * agentConnectionRebalancingService.takeReconnectQuota() >> 1
+        1 * responseObserver1.onNext(ServerHeartBeat.newBuilder().setReconnect(true).build())
+        1 * persistenceService.updateJobResourceUsage(jobId, new JobResourceUsage(2L, 400L, 0L, 0L, 0L, 0L, 8))
+        registry.find("genie.agents.jobs.processTree.peakRss.distribution").summary().count() == 0
+
+        when:
+        requestObserver2.onCompleted()
+
+        then:
+        registry.find("genie.agents.jobs.processTree.peakRss.distribution").summary().count() == 1
+        registry.find("genie.agents.jobs.processTree.peakRss.distribution").summary().max() == 200.0
+    }
+
     def "Accept anonymous agents"() {
         setup:
         String jobId = ""
@@ -323,4 +492,42 @@ class GRpcHeartBeatServiceImplSpec extends Specification {
         1 * responseObserver.onCompleted()
     }
 
+
+    def "Ask at most the reconnect quota of identified agents to reconnect, once per stream"() {
+        setup:
+        StreamObserver<ServerHeartBeat> responseObserver1 = Mock(StreamObserver)
+        StreamObserver<ServerHeartBeat> responseObserver2 = Mock(StreamObserver)
+        StreamObserver<ServerHeartBeat> responseObserver3 = Mock(StreamObserver)
+        List<ServerHeartBeat> sent = []
+
+        when:
+        service.heartbeat(responseObserver1).onNext(
+            AgentHeartBeat.newBuilder().setClaimedJobId(UUID.randomUUID().toString()).build()
+        )
+        service.heartbeat(responseObserver2).onNext(
+            AgentHeartBeat.newBuilder().setClaimedJobId(UUID.randomUUID().toString()).build()
+        )
+        service.heartbeat(responseObserver3).onNext(AgentHeartBeat.newBuilder().build())
+        task.run()
+
+        then:
+        1 * agentConnectionRebalancingService.takeReconnectQuota() >> 1
+        1 * responseObserver1.onNext(_ as ServerHeartBeat) >> { args -> sent.add(args[0] as ServerHeartBeat) }
+        1 * responseObserver2.onNext(_ as ServerHeartBeat) >> { args -> sent.add(args[0] as ServerHeartBeat) }
+        1 * responseObserver3.onNext(ServerHeartBeat.getDefaultInstance())
+        sent.count { it.getReconnect() } == 1
+        registry.counter("genie.agents.connections.reconnectRequested.counter").count() == 1
+
+        when:
+        sent.clear()
+        task.run()
+
+        then:
+        1 * agentConnectionRebalancingService.takeReconnectQuota() >> 5
+        1 * responseObserver1.onNext(_ as ServerHeartBeat) >> { args -> sent.add(args[0] as ServerHeartBeat) }
+        1 * responseObserver2.onNext(_ as ServerHeartBeat) >> { args -> sent.add(args[0] as ServerHeartBeat) }
+        1 * responseObserver3.onNext(ServerHeartBeat.getDefaultInstance())
+        sent.count { it.getReconnect() } == 1
+        registry.counter("genie.agents.connections.reconnectRequested.counter").count() == 2
+    }
 }
@@ -46,16 +46,20 @@ import com.netflix.genie.proto.JobSpecificationRequest
 import com.netflix.genie.proto.JobSpecificationResponse
 import com.netflix.genie.proto.ReserveJobIdRequest
 import com.netflix.genie.proto.ReserveJobIdResponse
+import com.netflix.genie.proto.StageTiming
 import com.netflix.genie.web.agent.services.AgentJobService
+import com.netflix.genie.web.dtos.JobStageTiming
 import io.grpc.stub.StreamObserver
 import io.micrometer.core.instrument.MeterRegistry
 import io.micrometer.core.instrument.Timer
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.apache.commons.lang3.StringUtils
 import org.assertj.core.util.Sets
 import spock.lang.Specification
 import spock.lang.Unroll
 
 import jakarta.validation.ConstraintViolationException
+import java.time.Duration
 import java.util.concurrent.TimeUnit
 
 /**
@@ -393,7 +397,7 @@ class GRpcJobServiceImplSpec extends Specification {
         gRpcJobService.changeJobStatus(request, changeJobStatusResponseObserver)
 
         then:
-        1 * agentJobService.updateJobStatus(id, currentStatus, newStatus, message)
+        1 * agentJobService.updateJobStatus(id, currentStatus, newStatus, message, []) >> true
         1 * changeJobStatusResponseObserver.onNext(_ as ChangeJobStatusResponse) >> {
             args -> responseCapture = args[0] as ChangeJobStatusResponse
         }
@@ -423,7 +427,7 @@ class GRpcJobServiceImplSpec extends Specification {
         gRpcJobService.changeJobStatus(request, changeJobStatusResponseObserver)
 
         then:
-        1 * agentJobService.updateJobStatus(id, currentStatus, newStatus, message) >> {
+        1 * agentJobService.updateJobStatus(id, currentStatus, newStatus, message, []) >> {
             throw exception
         }
         1 * errorMessageComposer.toProtoChangeJobStatusResponse(exception) >> response
@@ -449,7 +453,7 @@ class GRpcJobServiceImplSpec extends Specification {
         gRpcJobService.changeJobStatus(request, changeJobStatusResponseObserver)
 
         then:
-        0 * agentJobService.updateJobStatus(_, _, _, _)
+        0 * agentJobService.updateJobStatus(_, _, _, _, _)
         1 * errorMessageComposer.toProtoChangeJobStatusResponse(_ as IllegalArgumentException) >> response
         1 * changeJobStatusResponseObserver.onNext(response)
         1 * meterRegistry.timer(_, _) >> timer
@@ -457,6 +461,147 @@ class GRpcJobServiceImplSpec extends Specification {
         1 * changeJobStatusResponseObserver.onCompleted()
     }
 
+    def "Change job status -- with stage timings"() {
+        MeterRegistry registry = new SimpleMeterRegistry()
+        GRpcJobServiceImpl service = new GRpcJobServiceImpl(
+            agentJobService,
+            jobServiceProtoConverter,
+            errorMessageComposer,
+            registry
+        )
+        JobStatus currentStatus = JobStatus.RUNNING
+        JobStatus newStatus = JobStatus.SUCCEEDED
+        ChangeJobStatusRequest request = ChangeJobStatusRequest.newBuilder()
+            .setCurrentStatus(currentStatus.name())
+            .setNewStatus(newStatus.name())
+            .setId(id)
+            .setNewStatusMessage("...")
+            .addStageTimings(
+                StageTiming.newBuilder()
+                    .setStage("CLAIM_JOB")
+                    .setDurationMillis(1500L)
+                    .setAttempts(3)
+                    .setRetryDelayMillis(1000L)
+                    .build()
+            )
+            .addStageTimings(
+                StageTiming.newBuilder()
+                    .setStage("WAIT_JOB_COMPLETION")
+                    .setDurationMillis(60_000L)
+                    .setAttempts(1)
+                    .build()
+            )
+            .addStageTimings(
+                StageTiming.newBuilder()
+                    .setStage("NOT_A_STAGE_" + UUID.randomUUID())
+                    .setDurationMillis(10L)
+                    .setAttempts(1)
+                    .build()
+            )
+            .build()
+        ChangeJobStatusResponse responseCapture
+
+        when:
+        service.changeJobStatus(request, changeJobStatusResponseObserver)
+
+        then:
+        1 * agentJobService.updateJobStatus(
+            id,
+            currentStatus,
+            newStatus,
+            "...",
+            [
+                new JobStageTiming("CLAIM_JOB", Duration.ofMillis(1500L), 3, Duration.ofSeconds(1L)),
+                new JobStageTiming("WAIT_JOB_COMPLETION", Duration.ofMinutes(1L), 1, Duration.ZERO),
+                new JobStageTiming("unknown", Duration.ofMillis(10L), 1, Duration.ZERO)
+            ]
+        ) >> true
+        0 * agentJobService.addJobStageTimings(_, _)
+        1 * changeJobStatusResponseObserver.onNext(_ as ChangeJobStatusResponse) >> {
+            args -> responseCapture = args[0] as ChangeJobStatusResponse
+        }
+        1 * changeJobStatusResponseObserver.onCompleted()
+        responseCapture.getSuccessful()
+        registry
+            .get("genie.agents.jobs.stages.timer")
+            .tag("stage", "CLAIM_JOB")
+            .tag("attempts", "retried")
+            .timer()
+            .totalTime(TimeUnit.MILLISECONDS) == 1500.0d
+        registry
+            .get("genie.agents.jobs.stages.timer")
+            .tag("stage", "WAIT_JOB_COMPLETION")
+            .tag("attempts", "single")
+            .timer()
+            .count() == 1L
+        registry
+            .get("genie.agents.jobs.stages.timer")
+            .tag("stage", "unknown")
+            .timer()
+            .count() == 1L
+    }
+
+    def "Change job status -- stage timings not recorded if the status was already changed"() {
+        MeterRegistry registry = new SimpleMeterRegistry()
+        GRpcJobServiceImpl service = new GRpcJobServiceImpl(
+            agentJobService,
+            jobServiceProtoConverter,
+            errorMessageComposer,
+            registry
+        )
+        ChangeJobStatusRequest request = ChangeJobStatusRequest.newBuilder()
+            .setCurrentStatus(JobStatus.RUNNING.name())
+            .setNewStatus(JobStatus.SUCCEEDED.name())
+            .setId(id)
+            .addStageTimings(StageTiming.newBuilder().setStage("CLAIM_JOB").setDurationMillis(10L).setAttempts(1))
+            .build()
+        ChangeJobStatusResponse responseCapture
+
+        when:
+        service.changeJobStatus(request, changeJobStatusResponseObserver)
+
+        then:
+        1 * agentJobService.updateJobStatus(
+            id,
+            JobStatus.RUNNING,
+            JobStatus.SUCCEEDED,
+            "",
+            [new JobStageTiming("CLAIM_JOB", Duration.ofMillis(10L), 1, Duration.ZERO)]
+        ) >> false
+        0 * agentJobService.addJobStageTimings(_, _)
+        1 * changeJobStatusResponseObserver.onNext(_ as ChangeJobStatusResponse) >> {
+            args -> responseCapture = args[0] as ChangeJobStatusResponse
+        }
+        1 * changeJobStatusResponseObserver.onCompleted()
+        responseCapture.getSuccessful()
+        registry.find("genie.agents.jobs.stages.timer").timers().isEmpty()
+    }
+
+    def "Change job status -- stage timings not saved if status update fails"() {
+        ChangeJobStatusRequest request = ChangeJobStatusRequest.newBuilder()
+            .setCurrentStatus(JobStatus.RUNNING.name())
+            .setNewStatus(JobStatus.SUCCEEDED.name())
+            .setId(id)
+            .addStageTimings(StageTiming.newBuilder().setStage("CLAIM_JOB").setDurationMillis(10L).setAttempts(1))
+            .build()
+        Exception exception = new GenieInvalidStatusException()
+        ChangeJobStatusResponse response = ChangeJobStatusResponse.newBuilder().build()
+
+        when:
+        gRpcJobService.changeJobStatus(request, changeJobStatusResponseObserver)
+
+        then:
+        1 * agentJobService.updateJobStatus(id, JobStatus.RUNNING, JobStatus.SUCCEEDED, "", _ as List) >> {
+            throw exception
+        }
+        0 * agentJobService.addJobStageTimings(_, _)
+        1 * errorMessageComposer.toProtoChangeJobStatusResponse(exception) >> response
+        1 * changeJobStatusResponseObserver.onNext(response)
+        1 * meterRegistry.timer(_, _) >> timer
+        1 * timer.record(_, TimeUnit.NANOSECONDS)
+        1 * changeJobStatusResponseObserver.onCompleted()
+    }
+
     def "Get job status -- successful"() {
         JobStatus currentStatus = JobStatus.INIT
         GetJobStatusRequest request = GetJobStatusRequest.newBuilder()
@@ -512,12 +657,48 @@ class GRpcJobServiceImplSpec extends Specification {
 
         then:
         1 * agentJobService.updateJobArchiveStatus(id, archiveStatus)
+        0 * agentJobService.addJobStageTimings(_, _)
         1 * changeJobArchiveStatusObserver.onNext(_ as ChangeJobArchiveStatusResponse)
         1 * meterRegistry.timer(_, _) >> timer
         1 * timer.record(_, TimeUnit.NANOSECONDS)
         1 * changeJobArchiveStatusObserver.onCompleted()
     }
 
+    def "Update archive status -- with stage timings"() {
+        MeterRegistry registry = new SimpleMeterRegistry()
+        GRpcJobServiceImpl service = new GRpcJobServiceImpl(
+            agentJobService,
+            jobServiceProtoConverter,
+            errorMessageComposer,
+            registry
+        )
+        ArchiveStatus archiveStatus = ArchiveStatus.ARCHIVED
+        ChangeJobArchiveStatusRequest request = ChangeJobArchiveStatusRequest.newBuilder()
+            .setId(id)
+            .setNewStatus(archiveStatus.name())
+            .addStageTimings(
+                StageTiming.newBuilder().setStage("ARCHIVE").setDurationMillis(2000L).setAttempts(1).build()
+            )
+            .build()
+
+        when:
+        service.changeJobArchiveStatus(request, changeJobArchiveStatusObserver)
+
+        then:
+        1 * agentJobService.updateJobArchiveStatus(id, archiveStatus)
+        1 * agentJobService.addJobStageTimings(
+            id,
+            [new JobStageTiming("ARCHIVE", Duration.ofSeconds(2L), 1, Duration.ZERO)]
+        )
+        1 * changeJobArchiveStatusObserver.onNext(_ as ChangeJobArchiveStatusResponse)
+        1 * changeJobArchiveStatusObserver.onCompleted()
+        registry
+            .get("genie.agents.jobs.stages.timer")
+            .tag("stage", "ARCHIVE")
+            .timer()
+            .totalTime(TimeUnit.SECONDS) == 2.0d
+    }
+
     @Unroll
     def "Update archive status -- service exception #exception"() {
         ArchiveStatus archiveStatus = ArchiveStatus.ARCHIVED
@@ -0,0 +1,156 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.agent.apis.rpc.v4.interceptors
+
+import com.netflix.genie.web.properties.GRpcServerProperties
+import io.grpc.Metadata
+import io.grpc.MethodDescriptor
+import io.grpc.ServerCall
+import io.grpc.ServerCallHandler
+import io.grpc.Status
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+/**
+ * Specifications for {@link InFlightCallLimitingInterceptor}.
+ *
+ * @author tgianos
+ */
+class InFlightCallLimitingInterceptorSpec extends Specification {
+
+    GRpcServerProperties properties
+    SimpleMeterRegistry registry
+    InFlightCallLimitingInterceptor interceptor
+    ServerCallHandler<String, String> handler
+    Metadata headers
+
+    def setup() {
+        this.properties = new GRpcServerProperties()
+        def isolation = new GRpcServerProperties.ServiceIsolation()
+        isolation.setMaxInFlightCalls(1)
+        this.properties.getServiceIsolation().put("FileStreamService", isolation)
+        this.registry = new SimpleMeterRegistry()
+        this.interceptor = new InFlightCallLimitingInterceptor(this.properties, this.registry)
+        this.handler = Mock(ServerCallHandler)
+        this.headers = new Metadata()
+    }
+
+    def "Calls beyond the limit are rejected until a call in flight finishes"() {
+        def firstCall = createCall("com.netflix.genie.proto.FileStreamService/Transmit")
+        def secondCall = createCall("com.netflix.genie.proto.FileStreamService/Transmit")
+        def thirdCall = createCall("com.netflix.genie.proto.FileStreamService/Transmit")
+        def firstListener = Mock(ServerCall.Listener)
+        def thirdListener = Mock(ServerCall.Listener)
+
+        when:
+        def interceptedListener = this.interceptor.interceptCall(firstCall, this.headers, this.handler)
+
+        then:
+        1 * this.handler.startCall(firstCall, this.headers) >> firstListener
+        0 * firstCall.close(_, _)
+
+        when:
+        this.interceptor.interceptCall(secondCall, this.headers, this.handler)
+
+        then:
+        0 * this.handler.startCall(secondCall, _)
+        1 * secondCall.close(
+            { Status status -> status.getCode() == Status.Code.RESOURCE_EXHAUSTED },
+            _ as Metadata
+        )
+        this.registry
+            .get(InFlightCallLimitingInterceptor.REJECTED_COUNTER_NAME)
+            .tags(
+                InFlightCallLimitingInterceptor.SERVICE_TAG,
+                "FileStreamService",
+                InFlightCallLimitingInterceptor.METHOD_TAG,
+                "Transmit"
+            )
+            .counter()
+            .count() == 1.0d
+
+        when:
+        interceptedListener.onComplete()
+        this.interceptor.interceptCall(thirdCall, this.headers, this.handler)
+
+        then:
+        1 * firstListener.onComplete()
+        1 * this.handler.startCall(thirdCall, this.headers) >> thirdListener
+        0 * thirdCall.close(_, _)
+    }
+
+    def "A cancelled call releases its permit only once"() {
+        def firstCall = createCall("com.netflix.genie.proto.FileStreamService/Transmit")
+        def secondCall = createCall("com.netflix.genie.proto.FileStreamService/Transmit")
+        def thirdCall = createCall("com.netflix.genie.proto.FileStreamService/Transmit")
+
+        when:
+        def interceptedListener = this.interceptor.interceptCall(firstCall, this.headers, this.handler)
+        interceptedListener.onCancel()
+        interceptedListener.onComplete()
+        this.interceptor.interceptCall(secondCall, this.headers, this.handler)
+        this.interceptor.interceptCall(thirdCall, this.headers, this.handler)
+
+        then:
+        3 * this.handler.startCall(_, this.headers) >> Mock(ServerCall.Listener)
+        0 * secondCall.close(_, _)
+        1 * thirdCall.close({ Status status -> status.getCode() == Status.Code.RESOURCE_EXHAUSTED }, _ as Metadata)
+    }
+
+    def "A call which fails to start releases its permit"() {
+        def firstCall = createCall("com.netflix.genie.proto.FileStreamService/Transmit")
+        def secondCall = createCall("com.netflix.genie.proto.FileStreamService/Transmit")
+
+        when:
+        this.interceptor.interceptCall(firstCall, this.headers, this.handler)
+
+        then:
+        1 * this.handler.startCall(firstCall, this.headers) >> { throw new IllegalStateException("failed") }
+        thrown(IllegalStateException)
+
+        when:
+        this.interceptor.interceptCall(secondCall, this.headers, this.handler)
+
+        then:
+        1 * this.handler.startCall(secondCall, this.headers) >> Mock(ServerCall.Listener)
+        0 * secondCall.close(_, _)
+    }
+
+    def "Calls of services without a limit are never rejected"() {
+        def calls = (1..5).collect { createCall("com.netflix.genie.proto.HeartBeatService/Heartbeat") }
+
+        when:
+        calls.each { this.interceptor.interceptCall(it, this.headers, this.handler) }
+
+        then:
+        5 * this.handler.startCall(_, this.headers) >> Mock(ServerCall.Listener)
+        0 * _.close(_, _)
+    }
+
+    private ServerCall<String, String> createCall(final String fullMethodName) {
+        MethodDescriptor<String, String> methodDescriptor = MethodDescriptor.newBuilder()
+            .setType(MethodDescriptor.MethodType.BIDI_STREAMING)
+            .setFullMethodName(fullMethodName)
+            .setRequestMarshaller(Mock(MethodDescriptor.Marshaller))
+            .setResponseMarshaller(Mock(MethodDescriptor.Marshaller))
+            .build()
+        return Mock(ServerCall) {
+            getMethodDescriptor() >> methodDescriptor
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.agent.apis.rpc.v4.interceptors
+
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.PersistenceStatistics
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.PersistenceStatisticsRecorder
+import io.grpc.Metadata
+import io.grpc.MethodDescriptor
+import io.grpc.ServerCall
+import io.grpc.ServerCallHandler
+import spock.lang.Specification
+
+/**
+ * Specifications for {@link PersistenceInstrumentationInterceptor}.
+ *
+ * @author tgianos
+ */
+class PersistenceInstrumentationInterceptorSpec extends Specification {
+
+    static final String METHOD_NAME = "genie.JobService/ChangeJobStatus"
+
+    PersistenceStatisticsRecorder recorder
+    PersistenceInstrumentationInterceptor interceptor
+    ServerCall<String, String> call
+    ServerCallHandler<String, String> handler
+    ServerCall.Listener<String> listener
+    Metadata headers
+
+    def setup() {
+        this.recorder = Mock(PersistenceStatisticsRecorder)
+        this.interceptor = new PersistenceInstrumentationInterceptor(this.recorder)
+        MethodDescriptor<String, String> methodDescriptor = MethodDescriptor.newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName(METHOD_NAME)
+            .setRequestMarshaller(Mock(MethodDescriptor.Marshaller))
+            .setResponseMarshaller(Mock(MethodDescriptor.Marshaller))
+            .build()
+        this.call = Mock(ServerCall) {
+            getMethodDescriptor() >> methodDescriptor
+        }
+        this.handler = Mock(ServerCallHandler)
+        this.listener = Mock(ServerCall.Listener)
+        this.headers = new Metadata()
+    }
+
+    def "Work done over all callbacks of a call is recorded once it completes"() {
+        PersistenceStatistics.Scope recordedScope = null
+
+        when:
+        def interceptedListener = this.interceptor.interceptCall(this.call, this.headers, this.handler)
+        interceptedListener.onMessage("request")
+        interceptedListener.onHalfClose()
+
+        then:
+        1 * this.handler.startCall(this.call, this.headers) >> {
+            PersistenceStatistics.statementExecuted(10L)
+            return this.listener
+        }
+        1 * this.listener.onMessage("request") >> {
+            PersistenceStatistics.statementExecuted(20L)
+        }
+        1 * this.listener.onHalfClose() >> {
+            PersistenceStatistics.statementExecuted(30L)
+            PersistenceStatistics.entityLoaded()
+        }
+        0 * this.recorder.record(_, _, _)
+        !PersistenceStatistics.isScopeEntered()
+
+        when:
+        interceptedListener.onComplete()
+
+        then:
+        1 * this.listener.onComplete()
+        1 * this.recorder.record(PersistenceInstrumentationInterceptor.RPC_LAYER, METHOD_NAME, _) >> {
+            recordedScope = it[2] as PersistenceStatistics.Scope
+        }
+        recordedScope.getStatementCount() == 3
+        recordedScope.getDatabaseTimeNanos() == 60L
+        recordedScope.getEntitiesLoaded() == 1L
+        !PersistenceStatistics.isScopeEntered()
+    }
+
+    def "Cancelled calls are recorded"() {
+        when:
+        def interceptedListener = this.interceptor.interceptCall(this.call, this.headers, this.handler)
+        interceptedListener.onCancel()
+
+        then:
+        1 * this.handler.startCall(this.call, this.headers) >> this.listener
+        1 * this.listener.onCancel() >> { throw new IllegalStateException("...") }
+        1 * this.recorder.record(PersistenceInstrumentationInterceptor.RPC_LAYER, METHOD_NAME, _)
+        thrown(IllegalStateException)
+        !PersistenceStatistics.isScopeEntered()
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.agent.launchers.impl
+
+import com.netflix.genie.web.properties.LocalAgentLauncherProperties
+import spock.lang.Specification
+
+/**
+ * Specifications for {@link HostResourceLedger}.
+ *
+ * @author tgianos
+ */
+class HostResourceLedgerSpec extends Specification {
+
+    LocalAgentLauncherProperties properties
+    HostResourceLedger ledger
+
+    def setup() {
+        this.properties = new LocalAgentLauncherProperties()
+        this.properties.setMaxTotalJobMemory(1_000L)
+        this.properties.setMaxTotalJobCpu(8L)
+        this.properties.setMaxTotalJobs(3L)
+        this.ledger = new HostResourceLedger(this.properties)
+    }
+
+    def "Reservations are admitted until a capacity is exhausted"() {
+        expect:
+        this.ledger.tryReserve("job1", 400L, 2L)
+        this.ledger.tryReserve("job1", 400L, 2L)
+        this.ledger.getUsage() == new HostResourceLedger.Usage(400L, 2L, 1L, 0L, 0L)
+
+        !this.ledger.tryReserve("job2", 601L, 1L)
+        !this.ledger.tryReserve("job2", 100L, 7L)
+        this.ledger.tryReserve("job2", 600L, 6L)
+        this.ledger.getUsage() == new HostResourceLedger.Usage(1_000L, 8L, 2L, 0L, 0L)
+
+        when:
+        this.ledger.release("job1")
+        this.ledger.release("job1")
+
+        then: "Releasing is idempotent"
+        this.ledger.getUsage() == new HostResourceLedger.Usage(600L, 6L, 1L, 0L, 0L)
+    }
+
+    def "Job slots are enforced"() {
+        expect:
+        this.ledger.tryReserve("job1", 1L, 1L)
+        this.ledger.tryReserve("job2", 1L, 1L)
+        this.ledger.tryReserve("job3", 1L, 1L)
+        !this.ledger.tryReserve("job4", 1L, 1L)
+    }
+
+    def "Disabled CPU and job slot checks only enforce memory"() {
+        this.properties.setMaxTotalJobCpu(0L)
+        this.properties.setMaxTotalJobs(0L)
+
+        expect:
+        (1..10).every { this.ledger.tryReserve("job" + it, 100L, 100L) }
+        !this.ledger.tryReserve("job11", 1L, 1L)
+    }
+
+    def "Reconciliation accounts for jobs not launched through the ledger"() {
+        when: "Nothing is reserved locally"
+        this.ledger.reconcile([ext1: 200L, ext2: 300L])
+
+        then: "Everything in the database is external"
+        this.ledger.getUsage() == new HostResourceLedger.Usage(0L, 0L, 0L, 500L, 2L)
+        !this.ledger.tryReserve("job1", 501L, 1L)
+        this.ledger.tryReserve("job1", 500L, 1L)
+
+        when: "The local job is claimed and shows up in the database"
+        this.ledger.reconcile([ext1: 200L, ext2: 300L, job1: 500L])
+
+        then: "It isn't counted twice"
+        this.ledger.getUsage() == new HostResourceLedger.Usage(500L, 1L, 1L, 500L, 2L)
+
+        when: "The external jobs finish"
+        this.ledger.reconcile([job1: 500L])
+
+        then:
+        this.ledger.getUsage() == new HostResourceLedger.Usage(500L, 1L, 1L, 0L, 0L)
+        this.ledger.getUsage().getTotalMemory() == 500L
+        this.ledger.getUsage().getTotalJobs() == 1L
+    }
+
+    def "Reservations not yet claimed don't hide external usage"() {
+        this.properties.setMaxTotalJobs(0L)
+
+        when: "Jobs are launched locally but their agents haven't claimed them yet"
+        this.ledger.tryReserve("job1", 300L, 1L)
+        this.ledger.tryReserve("job2", 300L, 1L)
+        this.ledger.reconcile([ext1: 400L])
+
+        then: "The external job is fully accounted for"
+        this.ledger.getUsage() == new HostResourceLedger.Usage(600L, 2L, 2L, 400L, 1L)
+        !this.ledger.tryReserve("job3", 1L, 1L)
+
+        when: "One of the agents claims its job"
+        this.ledger.reconcile([ext1: 400L, job1: 300L])
+
+        then: "Nothing changes"
+        this.ledger.getUsage() == new HostResourceLedger.Usage(600L, 2L, 2L, 400L, 1L)
+    }
+}
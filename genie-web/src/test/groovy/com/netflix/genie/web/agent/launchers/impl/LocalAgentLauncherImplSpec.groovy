@@ -25,14 +25,16 @@ import com.netflix.genie.common.internal.dtos.ComputeResources
 import com.netflix.genie.common.internal.dtos.JobEnvironment
 import com.netflix.genie.common.internal.dtos.JobMetadata
 import com.netflix.genie.common.internal.dtos.JobSpecification
+import com.netflix.genie.common.internal.dtos.JobStatus
 import com.netflix.genie.common.internal.tracing.brave.BraveTagAdapter
 import com.netflix.genie.common.internal.tracing.brave.BraveTracePropagator
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingCleanup
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents
 import com.netflix.genie.web.data.services.DataServices
 import com.netflix.genie.web.data.services.PersistenceService
-import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobInfoAggregate
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobResourcesAggregate
 import com.netflix.genie.web.dtos.ResolvedJob
+import com.netflix.genie.web.exceptions.checked.AgentLaunchException
 import com.netflix.genie.web.introspection.GenieWebHostInfo
 import com.netflix.genie.web.introspection.GenieWebRpcInfo
 import com.netflix.genie.web.properties.LocalAgentLauncherProperties
@@ -135,7 +137,7 @@ class LocalAgentLauncherImplSpec extends Specification {
     def "Launch agent (runAsUser: #runAsUser)"(boolean runAsUser, List<String> expectedCommandLine) {
         this.launchProperties.setRunAsUserEnabled(runAsUser)
         this.launchProperties.setAdditionalEnvironment(this.additionalEnvironment)
-        def jobInfo = Mock(JobInfoAggregate)
+        def jobInfo = [jobResources(1_000L), jobResources(1_000L), jobResources(2_000L)] as Set
         def currentSpan = Mock(Span) {
             context() >> TraceContext.newBuilder()
                 .traceId(UUID.randomUUID().getLeastSignificantBits())
@@ -160,10 +162,7 @@ class LocalAgentLauncherImplSpec extends Specification {
 
         then:
         1 * this.executorFactory.newInstance(false) >> this.sharedExecutor
-        1 * this.persistenceService.getHostJobInformation(this.hostname) >> jobInfo
-        1 * jobInfo.getNumberOfActiveJobs() >> 3L
-        1 * jobInfo.getTotalMemoryAllocated() >> 4_000L
-        0 * jobInfo.getTotalMemoryUsed()
+        1 * this.persistenceService.getActiveJobResourcesOnHost(this.hostname) >> jobInfo
 
         when:
         Optional<JsonNode> launcherExt = this.launcher.launchAgent(this.resolvedJob, this.requestedLauncherExt)
@@ -180,10 +179,10 @@ class LocalAgentLauncherImplSpec extends Specification {
         1 * this.resolvedJob.getJobEnvironment() >> this.jobEnvironment
         1 * this.jobEnvironment.getComputeResources() >> this.computeResources
         1 * this.computeResources.getMemoryMb() >> Optional.of(this.jobMemory)
+        1 * this.computeResources.getCpu() >> Optional.empty()
         1 * this.resolvedJob.getJobSpecification() >> this.jobSpec
         1 * this.jobSpec.getJob() >> this.job
         1 * this.job.getId() >> JOB_ID
-        1 * this.persistenceService.getUsedMemoryOnHost(this.hostname)
         1 * this.tracer.currentSpan() >> currentSpan
         1 * this.tracePropagator.injectForAgent(_ as TraceContext) >> new HashMap<>()
         1 * this.executorFactory.newInstance(true) >> this.executor
@@ -196,6 +195,9 @@ class LocalAgentLauncherImplSpec extends Specification {
                 assert env.size() > 1
         }
         launcherExt.isPresent()
+        this.launcher.resourceLedger.getUsage().getReservedMemory() == this.jobMemory
+        this.launcher.resourceLedger.getUsage().getReservedCpu() == 1L
+        this.launcher.resourceLedger.getUsage().getTotalJobs() == 4L
 
         where:
         runAsUser | expectedCommandLine
@@ -223,7 +225,7 @@ class LocalAgentLauncherImplSpec extends Specification {
         def health = healthIndicator.health()
 
         then: "The system reports down"
-        2 * this.persistenceService.getHostJobInformation(this.hostname) >> { throw new RuntimeException() }
+        2 * this.persistenceService.getActiveJobResourcesOnHost(this.hostname) >> { throw new RuntimeException() }
         health.getStatus() == Status.DOWN
     }
 
@@ -247,15 +249,18 @@ class LocalAgentLauncherImplSpec extends Specification {
         def health = healthIndicator.health()
 
         then: "The system reports unknown state"
-        2 * this.persistenceService.getHostJobInformation(this.hostname) >> null
+        2 * this.persistenceService.getActiveJobResourcesOnHost(this.hostname) >> null
         health.getStatus() == Status.UNKNOWN
         health.getDetails().size() == 1
     }
 
     def "Can report health"() {
-        def jobInfo = Mock(JobInfoAggregate)
         def maxTotalJobMemory = 100_003L
         def maxJobMemory = 10_000L
+        def jobInfo = [jobResources(maxTotalJobMemory - maxJobMemory - 334L)] as Set
+        jobInfo.addAll((1..333).collect { jobResources(1L) })
+        // Only counts towards the allocated memory
+        jobInfo.add(jobResources(1L, JobStatus.ACCEPTED))
         def properties = Mock(LocalAgentLauncherProperties) {
             getMaxTotalJobMemory() >> maxTotalJobMemory
             getMaxJobMemory() >> maxJobMemory
@@ -277,43 +282,115 @@ class LocalAgentLauncherImplSpec extends Specification {
         def health = healthIndicator.health()
 
         then: "The system reports healthy and the job info is cached"
-        1 * this.persistenceService.getHostJobInformation(this.hostname) >> jobInfo
-        2 * jobInfo.getTotalMemoryAllocated() >> maxTotalJobMemory - maxJobMemory
-        1 * jobInfo.getTotalMemoryUsed() >> maxTotalJobMemory - 2 * maxJobMemory
-        2 * jobInfo.getNumberOfActiveJobs() >> 335L
+        1 * this.persistenceService.getActiveJobResourcesOnHost(this.hostname) >> jobInfo
         health.getStatus() == Status.UP
         health.getDetails().get(LocalAgentLauncherImpl.NUMBER_ACTIVE_JOBS_KEY) == 335L
         health.getDetails().get(LocalAgentLauncherImpl.ALLOCATED_MEMORY_KEY) == maxTotalJobMemory - maxJobMemory
+        health.getDetails().get(LocalAgentLauncherImpl.ALLOCATED_CPU_KEY) == 0L
         health.getDetails().get(LocalAgentLauncherImpl.AVAILABLE_MEMORY_KEY) == maxTotalJobMemory - (maxTotalJobMemory - maxJobMemory)
-        health.getDetails().get(LocalAgentLauncherImpl.USED_MEMORY_KEY) == maxTotalJobMemory - 2 * maxJobMemory
+        health.getDetails().get(LocalAgentLauncherImpl.USED_MEMORY_KEY) == maxTotalJobMemory - maxJobMemory - 1
         health.getDetails().get(LocalAgentLauncherImpl.AVAILABLE_MAX_JOB_CAPACITY_KEY) == ((maxTotalJobMemory - (maxTotalJobMemory - maxJobMemory)) / maxJobMemory).toInteger()
 
-        when: "Available memory is equal to more than one max job"
+        when: "A launched but not yet claimed job holds a reservation"
+        healthIndicator.resourceLedger.tryReserve(JOB_ID, 1L, 2L)
         health = healthIndicator.health()
 
-        then: "Cached job information is used and the system reports healthy"
-        1 * jobInfo.getTotalMemoryAllocated() >> maxTotalJobMemory - maxJobMemory - 1
-        1 * jobInfo.getTotalMemoryUsed() >> maxTotalJobMemory - 2 * maxJobMemory
-        1 * jobInfo.getNumberOfActiveJobs() >> 337L
-        health.getStatus() == Status.UP
-        health.getDetails().get(LocalAgentLauncherImpl.NUMBER_ACTIVE_JOBS_KEY) == 337L
-        health.getDetails().get(LocalAgentLauncherImpl.ALLOCATED_MEMORY_KEY) == maxTotalJobMemory - maxJobMemory - 1
-        health.getDetails().get(LocalAgentLauncherImpl.AVAILABLE_MEMORY_KEY) == maxTotalJobMemory - (maxTotalJobMemory - maxJobMemory - 1)
-        health.getDetails().get(LocalAgentLauncherImpl.USED_MEMORY_KEY) == maxTotalJobMemory - 2 * maxJobMemory
-        health.getDetails().get(LocalAgentLauncherImpl.AVAILABLE_MAX_JOB_CAPACITY_KEY) == ((maxTotalJobMemory - (maxTotalJobMemory - maxJobMemory - 1)) / maxJobMemory).toInteger()
+        then: "Cached job information is only used for used memory and the system reports down"
+        0 * this.persistenceService.getActiveJobResourcesOnHost(_)
+        health.getStatus() == Status.DOWN
+        health.getDetails().get(LocalAgentLauncherImpl.NUMBER_ACTIVE_JOBS_KEY) == 336L
+        health.getDetails().get(LocalAgentLauncherImpl.ALLOCATED_MEMORY_KEY) == maxTotalJobMemory - maxJobMemory + 1
+        health.getDetails().get(LocalAgentLauncherImpl.ALLOCATED_CPU_KEY) == 2L
+        health.getDetails().get(LocalAgentLauncherImpl.AVAILABLE_MEMORY_KEY) == maxJobMemory - 1
+        health.getDetails().get(LocalAgentLauncherImpl.USED_MEMORY_KEY) == maxTotalJobMemory - maxJobMemory - 1
+        health.getDetails().get(LocalAgentLauncherImpl.AVAILABLE_MAX_JOB_CAPACITY_KEY) == 0
 
-        when: "Available memory is less than one max job"
+        when: "The agent process exits"
+        new LocalAgentLauncherImpl.AgentResultHandler(JOB_ID, healthIndicator.resourceLedger).onProcessComplete(0)
         health = healthIndicator.health()
 
-        then: "Cached job information is used and the system reports down"
-        1 * jobInfo.getTotalMemoryAllocated() >> maxTotalJobMemory - maxJobMemory + 1
-        1 * jobInfo.getTotalMemoryUsed() >> maxTotalJobMemory - 2 * maxJobMemory
-        1 * jobInfo.getNumberOfActiveJobs() >> 343L
-        health.getStatus() == Status.DOWN
-        health.getDetails().get(LocalAgentLauncherImpl.NUMBER_ACTIVE_JOBS_KEY) == 343L
-        health.getDetails().get(LocalAgentLauncherImpl.ALLOCATED_MEMORY_KEY) == maxTotalJobMemory - maxJobMemory + 1
-        health.getDetails().get(LocalAgentLauncherImpl.AVAILABLE_MEMORY_KEY) == maxTotalJobMemory - (maxTotalJobMemory - maxJobMemory + 1)
-        health.getDetails().get(LocalAgentLauncherImpl.USED_MEMORY_KEY) == maxTotalJobMemory - 2 * maxJobMemory
-        health.getDetails().get(LocalAgentLauncherImpl.AVAILABLE_MAX_JOB_CAPACITY_KEY) == ((maxTotalJobMemory - (maxTotalJobMemory - maxJobMemory + 1)) / maxJobMemory).toInteger()
+        then: "The reservation is released and the system reports healthy"
+        health.getStatus() == Status.UP
+        health.getDetails().get(LocalAgentLauncherImpl.NUMBER_ACTIVE_JOBS_KEY) == 335L
+        health.getDetails().get(LocalAgentLauncherImpl.ALLOCATED_MEMORY_KEY) == maxTotalJobMemory - maxJobMemory
+        health.getDetails().get(LocalAgentLauncherImpl.ALLOCATED_CPU_KEY) == 0L
+    }
+
+    def "Launch is rejected when the host doesn't have enough capacity left"() {
+        this.launchProperties.setMaxTotalJobMemory(150L)
+        this.persistenceService.getActiveJobResourcesOnHost(this.hostname) >> ([jobResources(100L)] as Set)
+        this.executorFactory.newInstance(false) >> this.sharedExecutor
+        this.resolvedJob.getJobMetadata() >> this.jobMetadata
+        this.jobMetadata.getUser() >> USERNAME
+        this.resolvedJob.getJobEnvironment() >> this.jobEnvironment
+        this.jobEnvironment.getComputeResources() >> this.computeResources
+        this.computeResources.getMemoryMb() >> Optional.of(this.jobMemory)
+        this.computeResources.getCpu() >> Optional.of(4)
+        this.resolvedJob.getJobSpecification() >> this.jobSpec
+        this.jobSpec.getJob() >> this.job
+        this.job.getId() >> JOB_ID
+        this.launcher = new LocalAgentLauncherImpl(
+            this.hostInfo,
+            this.rpcInfo,
+            this.dataServices,
+            this.launchProperties,
+            this.executorFactory,
+            this.tracingComponents,
+            this.meterRegistry
+        )
+
+        when:
+        this.launcher.launchAgent(this.resolvedJob, this.requestedLauncherExt)
+
+        then:
+        thrown(AgentLaunchException)
+        0 * this.executorFactory.newInstance(true)
+        this.launcher.resourceLedger.getUsage().getReservedJobs() == 0L
+    }
+
+    def "Host info which couldn't be loaded initially is loaded before admitting a launch"() {
+        this.launchProperties.setMaxTotalJobMemory(150L)
+        this.executorFactory.newInstance(false) >> this.sharedExecutor
+        this.resolvedJob.getJobMetadata() >> this.jobMetadata
+        this.jobMetadata.getUser() >> USERNAME
+        this.resolvedJob.getJobEnvironment() >> this.jobEnvironment
+        this.jobEnvironment.getComputeResources() >> this.computeResources
+        this.computeResources.getMemoryMb() >> Optional.of(this.jobMemory)
+        this.computeResources.getCpu() >> Optional.of(4)
+        this.resolvedJob.getJobSpecification() >> this.jobSpec
+        this.jobSpec.getJob() >> this.job
+        this.job.getId() >> JOB_ID
+
+        when:
+        this.launcher = new LocalAgentLauncherImpl(
+            this.hostInfo,
+            this.rpcInfo,
+            this.dataServices,
+            this.launchProperties,
+            this.executorFactory,
+            this.tracingComponents,
+            this.meterRegistry
+        )
+
+        then:
+        1 * this.persistenceService.getActiveJobResourcesOnHost(this.hostname) >> { throw new RuntimeException() }
+
+        when:
+        this.launcher.launchAgent(this.resolvedJob, this.requestedLauncherExt)
+
+        then: "The jobs already on the host are accounted for"
+        1 * this.persistenceService.getActiveJobResourcesOnHost(this.hostname) >> ([jobResources(100L)] as Set)
+        thrown(AgentLaunchException)
+        0 * this.executorFactory.newInstance(true)
+        this.launcher.resourceLedger.getUsage().getExternalMemory() == 100L
+    }
+
+    JobResourcesAggregate jobResources(final long memory, final JobStatus status = JobStatus.RUNNING) {
+        def jobId = UUID.randomUUID().toString()
+        return Mock(JobResourcesAggregate) {
+            getUniqueId() >> jobId
+            getStatus() >> status.name()
+            getMemoryUsed() >> memory
+        }
     }
 }
@@ -0,0 +1,163 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.agent.services.impl
+
+import com.netflix.genie.common.internal.util.GenieHostInfo
+import com.netflix.genie.web.agent.services.AgentConnectionTrackingService
+import com.netflix.genie.web.properties.AgentConnectionRebalancingProperties
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.apache.curator.framework.CuratorFramework
+import org.apache.curator.framework.api.DeleteBuilder
+import org.apache.curator.framework.api.GetChildrenBuilder
+import org.apache.curator.framework.api.GetDataBuilder
+import org.apache.zookeeper.KeeperException
+import org.springframework.scheduling.TaskScheduler
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.time.Duration
+import java.util.concurrent.ScheduledFuture
+
+class AgentConnectionRebalancingServiceCuratorImplSpec extends Specification {
+
+    static final String BASE_PATH = "/genie/agentConnectionCounts/"
+
+    CuratorFramework client
+    AgentConnectionTrackingService agentConnectionTrackingService
+    AgentConnectionRebalancingProperties properties
+    TaskScheduler taskScheduler
+    ScheduledFuture scheduledFuture
+    SimpleMeterRegistry registry
+    AgentConnectionRebalancingServiceCuratorImpl service
+
+    void setup() {
+        this.client = Stub(CuratorFramework)
+        this.agentConnectionTrackingService = Mock(AgentConnectionTrackingService)
+        this.properties = new AgentConnectionRebalancingProperties()
+        this.taskScheduler = Mock(TaskScheduler)
+        this.scheduledFuture = Mock(ScheduledFuture)
+        this.registry = new SimpleMeterRegistry()
+    }
+
+    AgentConnectionRebalancingServiceCuratorImpl newService() {
+        return new AgentConnectionRebalancingServiceCuratorImpl(
+            new GenieHostInfo("local"),
+            client,
+            BASE_PATH,
+            agentConnectionTrackingService,
+            properties,
+            taskScheduler,
+            registry
+        )
+    }
+
+    def "Schedules rebalancing and withdraws the local count on close"() {
+        DeleteBuilder deleteBuilder = Mock(DeleteBuilder)
+        client.delete() >> deleteBuilder
+
+        when:
+        service = newService()
+
+        then:
+        1 * taskScheduler.scheduleAtFixedRate(_ as Runnable, Duration.ofSeconds(30)) >> scheduledFuture
+
+        when:
+        service.close()
+
+        then:
+        1 * scheduledFuture.cancel(false)
+        1 * deleteBuilder.quietly() >> deleteBuilder
+        1 * deleteBuilder.forPath("/genie/agentConnectionCounts/local")
+    }
+
+    def "Quota follows hysteresis and caps"() {
+        service = newService()
+        def overloadedGauge = registry.find("genie.agents.connections.rebalancing.overloaded.gauge").gauge()
+
+        expect: "Nothing to do alone"
+        service.computeReconnectQuota(100, [100L]) == 0
+
+        and: "Becomes overloaded past the overloaded threshold"
+        service.computeReconnectQuota(130, [130L, 100L, 70L]) == 7
+        overloadedGauge.value() == 1.0d
+
+        and: "Keeps going until within the balanced threshold"
+        service.computeReconnectQuota(115, [115L, 100L, 85L]) == 3
+        service.computeReconnectQuota(104, [104L, 100L, 96L]) == 0
+        overloadedGauge.value() == 0.0d
+
+        and: "Doesn't restart below the overloaded threshold"
+        service.computeReconnectQuota(115, [115L, 100L, 85L]) == 0
+
+        and: "Ignores small excess"
+        service.computeReconnectQuota(13, [13L, 7L]) == 0
+
+        and: "Caps the number of agents asked to reconnect at once"
+        service.computeReconnectQuota(1000, [1000L, 100L]) == 20
+    }
+
+    def "Rebalance publishes the local count and reads the others"() {
+        client.getChildren() >> Stub(GetChildrenBuilder) {
+            forPath("/genie/agentConnectionCounts") >> ["local", "other", "gone", "invalid"]
+        }
+        client.getData() >> Stub(GetDataBuilder) {
+            forPath("/genie/agentConnectionCounts/local") >> "0".getBytes(StandardCharsets.UTF_8)
+            forPath("/genie/agentConnectionCounts/other") >> "10".getBytes(StandardCharsets.UTF_8)
+            forPath("/genie/agentConnectionCounts/gone") >> {
+                throw new KeeperException.NoNodeException()
+            }
+            forPath("/genie/agentConnectionCounts/invalid") >> "foo".getBytes(StandardCharsets.UTF_8)
+        }
+        service = newService()
+
+        when:
+        service.rebalance()
+
+        then:
+        1 * agentConnectionTrackingService.getConnectedAgentsCount() >> 30L
+        service.takeReconnectQuota() == 3
+        service.takeReconnectQuota() == 0
+    }
+
+    def "Rebalance failure stops asking agents to reconnect"() {
+        boolean failing = false
+        GetChildrenBuilder getChildrenBuilder = Stub(GetChildrenBuilder) {
+            forPath("/genie/agentConnectionCounts") >> ["local", "other"]
+        }
+        client.getChildren() >> {
+            if (failing) {
+                throw new IllegalStateException("not connected")
+            }
+            return getChildrenBuilder
+        }
+        client.getData() >> Stub(GetDataBuilder) {
+            forPath("/genie/agentConnectionCounts/other") >> "10".getBytes(StandardCharsets.UTF_8)
+        }
+        service = newService()
+
+        when:
+        service.rebalance()
+        failing = true
+        service.rebalance()
+
+        then:
+        2 * agentConnectionTrackingService.getConnectedAgentsCount() >> 30L
+        service.takeReconnectQuota() == 0
+        registry.find("genie.agents.connections.rebalancing.exchangeFailure.counter").counter().count() == 1.0d
+    }
+}
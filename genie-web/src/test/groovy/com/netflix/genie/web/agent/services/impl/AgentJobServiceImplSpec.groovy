@@ -32,6 +32,7 @@ import com.netflix.genie.web.agent.services.AgentConfigurationService
 import com.netflix.genie.web.agent.services.AgentFilterService
 import com.netflix.genie.web.data.services.DataServices
 import com.netflix.genie.web.data.services.PersistenceService
+import com.netflix.genie.web.dtos.JobStageTiming
 import com.netflix.genie.web.dtos.JobSubmission
 import com.netflix.genie.web.dtos.ResolvedJob
 import com.netflix.genie.web.exceptions.checked.NotFoundException
@@ -43,6 +44,9 @@ import io.micrometer.core.instrument.MeterRegistry
 import io.micrometer.core.instrument.Tag
 import spock.lang.Specification
 
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+
 /**
  * Specifications for the {@link AgentJobServiceImpl} class.
  *
@@ -288,6 +292,25 @@ class AgentJobServiceImplSpec extends Specification {
         jobSpecification == jobSpecificationMock
     }
 
+    def "Can dry run a batch of job specification resolutions"() {
+        def jobRequest = Mock(JobRequest)
+        def jobSpecificationMock = Mock(JobSpecification)
+        def resolvedJobMock = Mock(ResolvedJob)
+
+        when:
+        def jobSpecifications = service.dryRunJobSpecificationResolutions([jobRequest, jobRequest])
+
+        then:
+        1 * jobSpecificationService.resolveJobs([jobRequest, jobRequest], false) >> [
+            CompletableFuture.completedFuture(resolvedJobMock),
+            CompletableFuture.failedFuture(new GenieJobResolutionException("No cluster"))
+        ]
+        1 * resolvedJobMock.getJobSpecification() >> jobSpecificationMock
+        jobSpecifications.size() == 2
+        jobSpecifications.get(0).get() == jobSpecificationMock
+        jobSpecifications.get(1).isCompletedExceptionally()
+    }
+
     def "Can claim job"() {
         def agentClientMetadata = Mock(AgentClientMetadata)
         def id = UUID.randomUUID().toString()
@@ -301,12 +324,42 @@ class AgentJobServiceImplSpec extends Specification {
 
     def "Can update job status"() {
         def id = UUID.randomUUID().toString()
+        def stageTimings = [new JobStageTiming("CLAIM_JOB", Duration.ofMillis(10L), 1, Duration.ZERO)]
+
+        when:
+        def updated = service.updateJobStatus(
+            id,
+            JobStatus.CLAIMED,
+            JobStatus.INIT,
+            UUID.randomUUID().toString(),
+            stageTimings
+        )
+
+        then:
+        1 * persistenceService.updateJobStatusWithStageTimings(
+            id,
+            JobStatus.CLAIMED,
+            JobStatus.INIT,
+            _ as String,
+            stageTimings
+        ) >> true
+        updated
+
+        when:
+        updated = service.updateJobStatus(id, JobStatus.CLAIMED, JobStatus.INIT, null, [])
+
+        then:
+        1 * persistenceService.updateJobStatusWithStageTimings(id, JobStatus.CLAIMED, JobStatus.INIT, null, []) >> false
+        !updated
 
         when:
-        service.updateJobStatus(id, JobStatus.CLAIMED, JobStatus.INIT, UUID.randomUUID().toString())
+        service.updateJobStatus(id, JobStatus.CLAIMED, JobStatus.INIT, null, [])
 
         then:
-        1 * persistenceService.updateJobStatus(id, JobStatus.CLAIMED, JobStatus.INIT, _ as String)
+        1 * persistenceService.updateJobStatusWithStageTimings(id, JobStatus.CLAIMED, JobStatus.INIT, null, []) >> {
+            throw new NotFoundException("...")
+        }
+        thrown(GenieJobNotFoundException)
     }
 
     def "Can get job status"() {
@@ -353,4 +406,22 @@ class AgentJobServiceImplSpec extends Specification {
         ArchiveStatus.ARCHIVED | _
         ArchiveStatus.FAILED   | _
     }
+
+    def "Can add job stage timings"() {
+        def id = UUID.randomUUID().toString()
+        def stageTimings = [new JobStageTiming("CLAIM_JOB", Duration.ofMillis(10L), 1, Duration.ZERO)]
+
+        when:
+        service.addJobStageTimings(id, stageTimings)
+
+        then:
+        1 * persistenceService.addJobStageTimings(id, stageTimings)
+
+        when:
+        service.addJobStageTimings(id, stageTimings)
+
+        then:
+        1 * persistenceService.addJobStageTimings(id, stageTimings) >> { throw new NotFoundException("...") }
+        thrown(GenieJobNotFoundException)
+    }
 }
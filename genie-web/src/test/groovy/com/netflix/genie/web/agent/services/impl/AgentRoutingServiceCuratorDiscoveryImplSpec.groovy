@@ -26,12 +26,24 @@ import io.micrometer.core.instrument.Counter
 import io.micrometer.core.instrument.MeterRegistry
 import io.micrometer.core.instrument.Timer
 import org.apache.curator.framework.CuratorFramework
+import org.apache.curator.framework.api.ACLBackgroundPathAndBytesable
+import org.apache.curator.framework.api.BackgroundPathable
+import org.apache.curator.framework.api.CreateBuilder
+import org.apache.curator.framework.api.DeleteBuilder
+import org.apache.curator.framework.api.GetDataBuilder
+import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable
+import org.apache.curator.framework.api.SetDataBuilder
+import org.apache.curator.framework.api.WatchPathable
 import org.apache.curator.framework.listen.Listenable
 import org.apache.curator.framework.state.ConnectionState
 import org.apache.curator.framework.state.ConnectionStateListener
 import org.apache.curator.x.discovery.ServiceDiscovery
 import org.apache.curator.x.discovery.ServiceInstance
+import org.apache.curator.x.discovery.ServiceType
+import org.apache.curator.x.discovery.details.JsonInstanceSerializer
+import org.apache.zookeeper.CreateMode
 import org.apache.zookeeper.KeeperException
+import org.apache.zookeeper.data.Stat
 import org.springframework.scheduling.TaskScheduler
 import spock.lang.Specification
 
@@ -54,6 +66,13 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
     CuratorFramework curatorClient
     AgentRoutingServiceProperties serviceProperties = new AgentRoutingServiceProperties()
     Thread registrationThread
+    ACLBackgroundPathAndBytesable<String> ephemeralCreate
+    SetDataBuilder setDataBuilder
+    WatchPathable<byte[]> statGetData
+    DeleteBuilder deleteBuilder
+    BackgroundPathable<Void> versionedDelete
+    JsonInstanceSerializer<AgentRoutingServiceCuratorDiscoveryImpl.Agent> serializer =
+        new JsonInstanceSerializer<>(AgentRoutingServiceCuratorDiscoveryImpl.Agent)
 
     void setup() {
         this.genieHostInfo = Mock(GenieHostInfo)
@@ -68,6 +87,31 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         this.threadFactory = Mock(ThreadFactory)
         this.curatorClient = Mock(CuratorFramework)
         this.registrationThread = Mock(Thread)
+
+        this.ephemeralCreate = Mock(ACLBackgroundPathAndBytesable)
+        this.setDataBuilder = Mock(SetDataBuilder)
+        this.statGetData = Mock(WatchPathable)
+        this.deleteBuilder = Mock(DeleteBuilder)
+        this.versionedDelete = Mock(BackgroundPathable)
+        this.curatorClient.create() >> Stub(CreateBuilder) {
+            creatingParentContainersIfNeeded() >> Stub(ProtectACLCreateModeStatPathAndBytesable) {
+                withMode(CreateMode.EPHEMERAL) >> this.ephemeralCreate
+            }
+        }
+        this.curatorClient.setData() >> this.setDataBuilder
+        this.curatorClient.getData() >> Stub(GetDataBuilder) {
+            storingStatIn(_ as Stat) >> { Stat stat ->
+                stat.setVersion(7)
+                return this.statGetData
+            }
+        }
+        this.curatorClient.delete() >> this.deleteBuilder
+        this.deleteBuilder.quietly() >> this.deleteBuilder
+        this.deleteBuilder.withVersion(7) >> this.versionedDelete
+    }
+
+    static String registrationPath(final String jobId) {
+        return "/genie/agents/agent_connections/" + jobId
     }
 
     def "Handle Zookeeper connection state changes"() {
@@ -80,6 +124,8 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         new AgentRoutingServiceCuratorDiscoveryImpl(
             genieHostInfo,
             serviceDiscovery,
+            curatorClient,
+            "/genie/agents/",
             taskScheduler,
             listenableConnectionState,
             meterRegistry,
@@ -149,6 +195,8 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         AgentRoutingService agentRoutingService = new AgentRoutingServiceCuratorDiscoveryImpl(
             genieHostInfo,
             serviceDiscovery,
+            curatorClient,
+            "/genie/agents/",
             taskScheduler,
             listenableConnectionState,
             meterRegistry,
@@ -187,6 +235,8 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         AgentRoutingService agentRoutingService = new AgentRoutingServiceCuratorDiscoveryImpl(
             genieHostInfo,
             serviceDiscovery,
+            curatorClient,
+            "/genie/agents/",
             taskScheduler,
             listenableConnectionState,
             meterRegistry,
@@ -230,12 +280,14 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         String jobId = UUID.randomUUID().toString()
         Runnable refreshTask
         ConnectionStateListener listener
-        ServiceInstance<AgentRoutingServiceCuratorDiscoveryImpl.Agent> serviceInstance
+        byte[] registration
 
         when:
         AgentRoutingService agentRoutingService = new AgentRoutingServiceCuratorDiscoveryImpl(
             genieHostInfo,
             serviceDiscovery,
+            curatorClient,
+            "/genie/agents/",
             taskScheduler,
             listenableConnectionState,
             meterRegistry,
@@ -267,15 +319,16 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
                 refreshTask = r
                 return null
         }
-        1 * serviceDiscovery.registerService(_ as ServiceInstance) >> {
-            ServiceInstance si ->
-                serviceInstance = si
+        1 * ephemeralCreate.forPath(registrationPath(jobId), _ as byte[]) >> {
+            String path, byte[] data ->
+                registration = data
+                return path
         }
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_REGISTERED_TIMER_NAME, _) >> timer
         refreshTask != null
-        serviceInstance != null
-        serviceInstance.getAddress() == localHostname
-        serviceInstance.getId() == jobId
+        registration != null
+        serializer.deserialize(registration).getAddress() == localHostname
+        serializer.deserialize(registration).getId() == jobId
 
         when:
         refreshTask.run()
@@ -288,7 +341,7 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
 
         then:
         1 * taskScheduler.schedule(_ as Runnable, _ as Instant)
-        1 * serviceDiscovery.updateService(serviceInstance)
+        1 * setDataBuilder.forPath(registrationPath(jobId), _ as byte[])
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_REFRESH_TIMER_NAME, _) >> timer
 
         when:
@@ -301,20 +354,132 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         agentRoutingService.processNextRegistrationMutation()
 
         then:
-        1 * serviceDiscovery.unregisterService(serviceInstance)
+        1 * statGetData.forPath(registrationPath(jobId)) >> registration
+        1 * versionedDelete.forPath(registrationPath(jobId))
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_UNREGISTERED_TIMER_NAME, _) >> timer
     }
 
+    def "Disconnection leaves the route alone once the agent reconnected to another node"() {
+        setup:
+        String jobId = UUID.randomUUID().toString()
+        genieHostInfo.getHostname() >> this.localHostname
+        threadFactory.newThread(_ as Runnable) >> registrationThread
+        meterRegistry.counter(_ as String) >> counter
+        meterRegistry.timer(_ as String, _) >> timer
+        AgentRoutingService agentRoutingService = new AgentRoutingServiceCuratorDiscoveryImpl(
+            genieHostInfo,
+            serviceDiscovery,
+            curatorClient,
+            "/genie/agents/",
+            taskScheduler,
+            listenableConnectionState,
+            meterRegistry,
+            serviceProperties,
+            threadFactory
+        )
+        ServiceInstance<AgentRoutingServiceCuratorDiscoveryImpl.Agent> otherInstance = new ServiceInstance<>(
+            "agent_connections",
+            jobId,
+            "other-host",
+            null,
+            null,
+            new AgentRoutingServiceCuratorDiscoveryImpl.Agent(jobId),
+            Instant.now().getEpochSecond(),
+            ServiceType.DYNAMIC,
+            null
+        )
+
+        when:
+        agentRoutingService.handleClientConnected(jobId)
+        agentRoutingService.processNextRegistrationMutation()
+
+        then:
+        1 * ephemeralCreate.forPath(registrationPath(jobId), _ as byte[])
+
+        when:
+        agentRoutingService.handleClientDisconnected(jobId)
+        agentRoutingService.processNextRegistrationMutation()
+
+        then:
+        1 * statGetData.forPath(registrationPath(jobId)) >> serializer.serialize(otherInstance)
+        0 * versionedDelete.forPath(_)
+        1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_UNREGISTERED_TIMER_NAME, _) >> timer
+
+        when: "Nothing is left to unregister"
+        agentRoutingService.handleClientDisconnected(jobId)
+        agentRoutingService.processNextRegistrationMutation()
+
+        then:
+        0 * statGetData.forPath(_)
+        0 * versionedDelete.forPath(_)
+    }
+
+    def "Disconnection only removes the registration version it read"() {
+        setup:
+        String jobId = UUID.randomUUID().toString()
+        genieHostInfo.getHostname() >> this.localHostname
+        threadFactory.newThread(_ as Runnable) >> registrationThread
+        meterRegistry.counter(_ as String) >> counter
+        meterRegistry.timer(_ as String, _) >> timer
+        byte[] registration
+        AgentRoutingService agentRoutingService = new AgentRoutingServiceCuratorDiscoveryImpl(
+            genieHostInfo,
+            serviceDiscovery,
+            curatorClient,
+            "/genie/agents/",
+            taskScheduler,
+            listenableConnectionState,
+            meterRegistry,
+            serviceProperties,
+            threadFactory
+        )
+
+        when: "A registration left by a previous connection is taken over"
+        agentRoutingService.handleClientConnected(jobId)
+        agentRoutingService.processNextRegistrationMutation()
+
+        then:
+        1 * ephemeralCreate.forPath(registrationPath(jobId), _ as byte[]) >> {
+            throw new KeeperException.NodeExistsException()
+        }
+        1 * deleteBuilder.forPath(registrationPath(jobId))
+        1 * ephemeralCreate.forPath(registrationPath(jobId), _ as byte[]) >> {
+            String path, byte[] data ->
+                registration = data
+                return path
+        }
+
+        when: "Another node replaces the registration between the read and the delete"
+        agentRoutingService.handleClientDisconnected(jobId)
+        agentRoutingService.processNextRegistrationMutation()
+
+        then:
+        1 * statGetData.forPath(registrationPath(jobId)) >> registration
+        1 * versionedDelete.forPath(registrationPath(jobId)) >> { throw new KeeperException.BadVersionException() }
+        0 * deleteBuilder.forPath(_)
+
+        when: "Nothing is left to unregister"
+        agentRoutingService.handleClientDisconnected(jobId)
+        agentRoutingService.processNextRegistrationMutation()
+
+        then:
+        0 * statGetData.forPath(_)
+        0 * versionedDelete.forPath(_)
+    }
+
 
     def "Registration errors"() {
         setup:
         String jobId = UUID.randomUUID().toString()
         Runnable refreshTask
+        byte[] registration
 
         when:
         AgentRoutingService agentRoutingService = new AgentRoutingServiceCuratorDiscoveryImpl(
             genieHostInfo,
             serviceDiscovery,
+            curatorClient,
+            "/genie/agents/",
             taskScheduler,
             listenableConnectionState,
             meterRegistry,
@@ -337,7 +502,7 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         agentRoutingService.processNextRegistrationMutation()
 
         then: "Registration is attempted, but thread is interrupted, mutation is back in the queue"
-        1 * serviceDiscovery.registerService(_ as ServiceInstance) >> { throw new InterruptedException() }
+        1 * ephemeralCreate.forPath(_ as String, _ as byte[]) >> { throw new InterruptedException() }
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_REGISTERED_TIMER_NAME, _) >> timer
         thrown(InterruptedException)
 
@@ -345,7 +510,7 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         agentRoutingService.processNextRegistrationMutation()
 
         then: "Registration is attempted again, error is encountered. Registration is scheduled for refresh"
-        1 * serviceDiscovery.registerService(_ as ServiceInstance) >> { throw new RuntimeException() }
+        1 * ephemeralCreate.forPath(_ as String, _ as byte[]) >> { throw new RuntimeException() }
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_REGISTERED_TIMER_NAME, _) >> timer
         1 * taskScheduler.schedule(_ as Runnable, _ as Instant) >> {
             Runnable r, Instant i ->
@@ -358,7 +523,11 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         agentRoutingService.processNextRegistrationMutation()
 
         then: "Registration refresh is attempted, but service was never registered"
-        1 * serviceDiscovery.registerService(_ as ServiceInstance)
+        1 * ephemeralCreate.forPath(_ as String, _ as byte[]) >> {
+            String path, byte[] data ->
+                registration = data
+                return path
+        }
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_REGISTERED_TIMER_NAME, _) >> timer
         1 * taskScheduler.schedule(_ as Runnable, _ as Instant) >> {
             Runnable r, Instant i ->
@@ -371,9 +540,9 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         agentRoutingService.processNextRegistrationMutation()
 
         then: "Registration refresh is attempted, but node does not exist"
-        1 * serviceDiscovery.updateService(_ as ServiceInstance) >> { throw new KeeperException.NoNodeException() }
+        1 * setDataBuilder.forPath(_ as String, _ as byte[]) >> { throw new KeeperException.NoNodeException() }
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_REFRESH_TIMER_NAME, _) >> timer
-        1 * serviceDiscovery.registerService(_ as ServiceInstance) >> { throw new RuntimeException() }
+        1 * ephemeralCreate.forPath(_ as String, _ as byte[]) >> { throw new RuntimeException() }
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_REGISTERED_TIMER_NAME, _) >> timer
         1 * taskScheduler.schedule(_ as Runnable, _ as Instant) >> {
             Runnable r, Instant i ->
@@ -386,7 +555,7 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         agentRoutingService.processNextRegistrationMutation()
 
         then: "Registration refresh is attempted, but thread is interrupted, mutation goes back in queue"
-        1 * serviceDiscovery.updateService(_ as ServiceInstance) >> { throw new InterruptedException() }
+        1 * setDataBuilder.forPath(_ as String, _ as byte[]) >> { throw new InterruptedException() }
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_REFRESH_TIMER_NAME, _) >> timer
         thrown(InterruptedException)
 
@@ -395,7 +564,7 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         agentRoutingService.processNextRegistrationMutation()
 
         then: "Registration refresh is attempted, but node does not exist"
-        1 * serviceDiscovery.updateService(_ as ServiceInstance) >> { throw new RuntimeException() }
+        1 * setDataBuilder.forPath(_ as String, _ as byte[]) >> { throw new RuntimeException() }
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_REFRESH_TIMER_NAME, _) >> timer
         1 * taskScheduler.schedule(_ as Runnable, _ as Instant) >> {
             Runnable r, Instant i ->
@@ -414,7 +583,7 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         agentRoutingService.processNextRegistrationMutation()
 
         then: "Unregistration is attempted, but thread is interrupted"
-        1 * serviceDiscovery.unregisterService(_ as ServiceInstance) >> { throw new InterruptedException() }
+        1 * statGetData.forPath(_ as String) >> { throw new InterruptedException() }
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_UNREGISTERED_TIMER_NAME, _) >> timer
         thrown(InterruptedException)
 
@@ -422,21 +591,24 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         agentRoutingService.processNextRegistrationMutation()
 
         then: "Unregistration is attempted, but an error is encountered"
-        1 * serviceDiscovery.unregisterService(_ as ServiceInstance) >> { throw new RuntimeException() }
+        1 * statGetData.forPath(_ as String) >> { throw new RuntimeException() }
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_UNREGISTERED_TIMER_NAME, _) >> timer
 
         when:
         agentRoutingService.processNextRegistrationMutation()
 
-        then: "Unregistration is attempted, but an error is encountered"
-        1 * serviceDiscovery.unregisterService(_ as ServiceInstance)
+        then: "Unregistration succeeds"
+        1 * statGetData.forPath(_ as String) >> registration
+        1 * versionedDelete.forPath(_ as String)
         1 * meterRegistry.timer(AgentRoutingServiceCuratorDiscoveryImpl.AGENT_UNREGISTERED_TIMER_NAME, _) >> timer
 
         when:
         agentRoutingService.processNextRegistrationMutation()
 
         then: "Previous refresh does nothing"
-        0 * serviceDiscovery._
+        0 * statGetData._
+        0 * setDataBuilder._
+        0 * ephemeralCreate._
         0 * taskScheduler.schedule(_, _)
     }
 
@@ -446,6 +618,8 @@ class AgentRoutingServiceCuratorDiscoveryImplSpec extends Specification {
         AgentRoutingService agentRoutingService = new AgentRoutingServiceCuratorDiscoveryImpl(
             genieHostInfo,
             serviceDiscovery,
+            curatorClient,
+            "/genie/agents/",
             taskScheduler,
             listenableConnectionState,
             meterRegistry,
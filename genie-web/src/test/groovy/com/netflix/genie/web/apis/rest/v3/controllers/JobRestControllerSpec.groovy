@@ -18,26 +18,40 @@
 package com.netflix.genie.web.apis.rest.v3.controllers
 
 import com.netflix.genie.common.dto.JobRequest
+import com.netflix.genie.common.dto.JobStatusMessages
+import com.netflix.genie.common.exceptions.GenieBadRequestException
+import com.netflix.genie.common.exceptions.GeniePreconditionException
 import com.netflix.genie.common.exceptions.GenieServerUnavailableException
 import com.netflix.genie.common.exceptions.GenieUserLimitExceededException
+import com.netflix.genie.common.internal.dtos.ArchiveStatus
+import com.netflix.genie.common.internal.dtos.JobStatus
+import com.netflix.genie.common.internal.exceptions.checked.GenieJobResolutionException
 import com.netflix.genie.common.internal.util.GenieHostInfo
 import com.netflix.genie.web.agent.services.AgentRoutingService
 import com.netflix.genie.web.apis.rest.v3.hateoas.assemblers.EntityModelAssemblers
 import com.netflix.genie.web.data.services.DataServices
 import com.netflix.genie.web.data.services.PersistenceService
+import com.netflix.genie.web.dtos.DirectoryArchiveFormat
 import com.netflix.genie.web.dtos.JobSubmission
+import com.netflix.genie.web.dtos.ResolvedJob
 import com.netflix.genie.web.properties.JobsActiveLimitProperties
 import com.netflix.genie.web.properties.JobsProperties
 import com.netflix.genie.web.services.AttachmentService
+import com.netflix.genie.web.services.JobAdmissionService
 import com.netflix.genie.web.services.JobDirectoryServerService
 import com.netflix.genie.web.services.JobKillService
 import com.netflix.genie.web.services.JobLaunchService
+import com.netflix.genie.web.services.JobResolverService
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.springframework.core.env.Environment
+import org.springframework.http.HttpMethod
 import org.springframework.web.client.RestTemplate
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter
 import spock.lang.Specification
 
 import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import java.util.concurrent.CompletableFuture
 
 class JobRestControllerSpec extends Specification {
     JobRestController controller
@@ -45,26 +59,40 @@ class JobRestControllerSpec extends Specification {
     Environment environment
     PersistenceService persistenceService
     JobLaunchService jobLaunchService
+    JobAdmissionService jobAdmissionService
+    JobKillService jobKillService
+    JobResolverService jobResolverService
+    JobDirectoryServerService jobDirectoryServerService
+    AgentRoutingService agentRoutingService
+    RestTemplate restTemplate
 
     void setup() {
         this.jobsProperties = JobsProperties.getJobsPropertiesDefaults()
         this.environment = Mock(Environment)
         this.persistenceService = Mock(PersistenceService)
         this.jobLaunchService = Mock(JobLaunchService)
+        this.jobAdmissionService = Mock(JobAdmissionService)
+        this.jobKillService = Mock(JobKillService)
+        this.jobResolverService = Mock(JobResolverService)
+        this.jobDirectoryServerService = Mock(JobDirectoryServerService)
+        this.agentRoutingService = Mock(AgentRoutingService)
+        this.restTemplate = Mock(RestTemplate)
 
         this.controller = new JobRestController(
             jobLaunchService,
             new DataServices(this.persistenceService),
             Mock(EntityModelAssemblers),
-            Mock(GenieHostInfo),
-            Mock(RestTemplate),
-            Mock(JobDirectoryServerService),
+            new GenieHostInfo("genie.example.com"),
+            this.restTemplate,
+            this.jobDirectoryServerService,
             jobsProperties,
             new SimpleMeterRegistry(),
-            Mock(AgentRoutingService),
+            this.agentRoutingService,
             environment,
             Mock(AttachmentService),
-            Mock(JobKillService),
+            this.jobKillService,
+            this.jobAdmissionService,
+            this.jobResolverService,
         )
     }
 
@@ -90,7 +118,7 @@ class JobRestControllerSpec extends Specification {
         then:
         1 * environment.getProperty("genie.jobs.submission.enabled", _, _) >> true
         1 * jobRequest.getUser() >> "user-name"
-        1 * persistenceService.getActiveJobCountForUser("user-name") >> 1
+        1 * persistenceService.getActiveJobCountForUser("user-name") >> 1L
         thrown(GenieUserLimitExceededException)
     }
 
@@ -129,4 +157,121 @@ class JobRestControllerSpec extends Specification {
         jobSubmission.getJobRequestMetadata().getApiClientMetadata().isPresent()
         jobSubmission.getJobRequestMetadata().getRequestHeaders() == [GENIE_FOO: "GENIE_BAR"]
     }
+
+    def "Queue jobs instead of rejecting them when admission is enabled"() {
+        setup:
+        def request = Mock(HttpServletRequest)
+        JobsActiveLimitProperties activeLimitProperties = jobsProperties.getActiveLimit()
+        activeLimitProperties.setEnabled(true)
+        activeLimitProperties.setCount(1)
+
+        JobRequest jobRequest = new JobRequest.Builder(
+            "name",
+            "user",
+            "version",
+            [] as List,
+            ["type:foo"] as Set
+        ).build()
+
+        when:
+        controller.submitJob(jobRequest, "", "test-client", request)
+
+        then:
+        1 * environment.getProperty("genie.jobs.submission.enabled", _, _) >> true
+        _ * jobAdmissionService.isEnabled() >> true
+        0 * persistenceService.getActiveJobCountForUser(_)
+        1 * request.getRemoteAddr() >> "8.8.8.8"
+        1 * request.getHeaderNames() >> Collections.enumeration([])
+        1 * jobAdmissionService.admit(_ as JobSubmission) >> {
+            throw new RuntimeException("End test")
+        }
+        0 * jobLaunchService.launchJob(_ as JobSubmission)
+        thrown(RuntimeException)
+    }
+
+    def "Queued jobs are reported from the database and killed after removing them from the queue"() {
+        def jobId = UUID.randomUUID().toString()
+        def request = Mock(HttpServletRequest)
+
+        when:
+        def status = controller.getJobStatus(jobId)
+
+        then:
+        1 * persistenceService.getJobStatus(jobId) >> JobStatus.RESERVED
+        status.get("status").textValue() == "RESERVED"
+
+        when:
+        controller.killJob(jobId, null, request)
+
+        then:
+        1 * jobAdmissionService.cancel(jobId) >> true
+
+        then:
+        1 * jobKillService.killJob(jobId, JobStatusMessages.JOB_KILLED_BY_USER, request)
+    }
+
+    def "Can resolve a batch of job requests without launching them"() {
+        def jobRequest = new JobRequest.Builder(
+            "name",
+            "user",
+            "version",
+            [] as List,
+            ["type:foo"] as Set
+        ).build()
+
+        when:
+        controller.resolveJobs([])
+
+        then:
+        0 * jobResolverService.resolveJobs(_, _)
+        thrown(GeniePreconditionException)
+
+        when:
+        def emitter = controller.resolveJobs([jobRequest, jobRequest])
+
+        then:
+        1 * jobResolverService.resolveJobs({ it.size() == 2 }, true) >> [
+            CompletableFuture.completedFuture(Mock(ResolvedJob)),
+            CompletableFuture.failedFuture(new GenieJobResolutionException("No cluster"))
+        ]
+        0 * jobLaunchService.launchJob(_)
+        emitter instanceof ResponseBodyEmitter
+    }
+
+    def "Can download the job output as an archive"() {
+        def jobId = UUID.randomUUID().toString()
+        def request = Mock(HttpServletRequest)
+        def response = Mock(HttpServletResponse)
+
+        when:
+        controller.getJobOutputArchive(jobId, "rar", null, request, response)
+
+        then:
+        0 * jobDirectoryServerService.serveArchive(_, _, _, _)
+        thrown(GenieBadRequestException)
+
+        when:
+        controller.getJobOutputArchive(jobId, "TGZ", null, request, response)
+
+        then:
+        1 * persistenceService.getJobArchiveStatus(jobId) >> ArchiveStatus.ARCHIVED
+        0 * agentRoutingService.getHostnameForAgentConnection(_)
+        1 * jobDirectoryServerService.serveArchive(jobId, "", DirectoryArchiveFormat.TAR_GZ, response)
+
+        when:
+        jobsProperties.getForwarding().setEnabled(true)
+        controller.getJobOutputArchive(jobId, "zip", null, request, response)
+
+        then:
+        1 * persistenceService.getJobArchiveStatus(jobId) >> ArchiveStatus.PENDING
+        1 * agentRoutingService.getHostnameForAgentConnection(jobId) >> Optional.of("other.example.com")
+        1 * restTemplate.execute(
+            { String url -> url.endsWith("/api/v3/jobs/" + jobId + "/output/?archive=zip") },
+            HttpMethod.GET,
+            _,
+            _,
+            *_
+        )
+        0 * jobDirectoryServerService.serveArchive(_, _, _, _)
+    }
 }
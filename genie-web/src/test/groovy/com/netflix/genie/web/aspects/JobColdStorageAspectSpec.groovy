@@ -0,0 +1,183 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.aspects
+
+import com.netflix.genie.common.dto.ClusterCriteria
+import com.netflix.genie.common.dto.Job
+import com.netflix.genie.common.dto.JobExecution
+import com.netflix.genie.common.dto.JobMetadata
+import com.netflix.genie.common.dto.JobRequest
+import com.netflix.genie.common.dto.JobStatus
+import com.netflix.genie.common.exceptions.GenieNotFoundException
+import com.netflix.genie.common.internal.dtos.ArchiveStatus
+import com.netflix.genie.web.dtos.ColdStoredJob
+import com.netflix.genie.web.exceptions.checked.JobInColdStorageException
+import com.netflix.genie.web.exceptions.checked.NotFoundException
+import com.netflix.genie.web.services.JobColdStorageService
+import org.aspectj.lang.ProceedingJoinPoint
+import org.springframework.data.domain.Page
+import org.springframework.data.domain.PageRequest
+import spock.lang.Specification
+
+/**
+ * Specifications for {@link JobColdStorageAspect}.
+ *
+ * @author tgianos
+ */
+class JobColdStorageAspectSpec extends Specification {
+
+    JobColdStorageService jobColdStorageService
+    JobColdStorageAspect aspect
+    ProceedingJoinPoint joinPoint
+    ColdStoredJob coldStoredJob
+
+    def setup() {
+        this.jobColdStorageService = Mock(JobColdStorageService)
+        this.aspect = new JobColdStorageAspect(this.jobColdStorageService)
+        this.joinPoint = Mock(ProceedingJoinPoint)
+        def job = new Job.Builder("name", "user", "1.0")
+            .withId("id")
+            .withStatus(JobStatus.SUCCEEDED)
+            .withArchiveLocation("s3://bucket/id")
+            .build()
+        def request = new JobRequest.Builder(
+            "name",
+            "user",
+            "1.0",
+            [new ClusterCriteria(["type:yarn"] as Set)],
+            ["type:spark"] as Set
+        ).withId("id").build()
+        this.coldStoredJob = new ColdStoredJob(
+            job,
+            request,
+            new JobExecution.Builder("host").withId("id").build(),
+            new JobMetadata.Builder().withId("id").build(),
+            ArchiveStatus.ARCHIVED
+        )
+    }
+
+    def "Jobs in the database aren't looked up in cold storage"() {
+        def job = Mock(Job)
+
+        when:
+        def result = this.aspect.getJob(this.joinPoint, "id")
+
+        then:
+        1 * this.joinPoint.proceed() >> job
+        0 * this.jobColdStorageService.getJob(_)
+        result == job
+    }
+
+    def "Jobs moved to cold storage are served from it"() {
+        when:
+        def job = this.aspect.getJob(this.joinPoint, "id")
+        def execution = this.aspect.getJobExecution(this.joinPoint, "id")
+        def metadata = this.aspect.getJobMetadata(this.joinPoint, "id")
+
+        then:
+        3 * this.joinPoint.proceed() >> { throw new GenieNotFoundException("Not in the database") }
+        3 * this.jobColdStorageService.getJob("id") >> Optional.of(this.coldStoredJob)
+        job == this.coldStoredJob.getJob()
+        execution == this.coldStoredJob.getExecution()
+        metadata == this.coldStoredJob.getMetadata()
+
+        when:
+        def request = this.aspect.getJobRequest(this.joinPoint, "id")
+        def status = this.aspect.getJobStatus(this.joinPoint, "id")
+        def archiveStatus = this.aspect.getJobArchiveStatus(this.joinPoint, "id")
+        def archiveLocation = this.aspect.getJobArchiveLocation(this.joinPoint, "id")
+
+        then:
+        4 * this.joinPoint.proceed() >> { throw new NotFoundException("Not in the database") }
+        4 * this.jobColdStorageService.getJob("id") >> Optional.of(this.coldStoredJob)
+        (request as com.netflix.genie.common.internal.dtos.JobRequest).getMetadata().getName() == "name"
+        status == com.netflix.genie.common.internal.dtos.JobStatus.SUCCEEDED
+        archiveStatus == ArchiveStatus.ARCHIVED
+        archiveLocation == Optional.of("s3://bucket/id")
+    }
+
+    def "Jobs in neither place aren't found"() {
+        def exception = new NotFoundException("Not in the database")
+
+        when:
+        this.aspect.getJobStatus(this.joinPoint, "id")
+
+        then:
+        1 * this.joinPoint.proceed() >> { throw exception }
+        1 * this.jobColdStorageService.getJob("id") >> Optional.empty()
+        def e = thrown(NotFoundException)
+        e.is(exception)
+
+        when:
+        this.aspect.getJobResources(this.joinPoint, "id")
+
+        then:
+        1 * this.joinPoint.proceed() >> { throw exception }
+        1 * this.jobColdStorageService.getJob("id") >> Optional.empty()
+        e = thrown(NotFoundException)
+        e.is(exception)
+    }
+
+    def "The resources of jobs moved to cold storage can't be served"() {
+        when:
+        this.aspect.getJobResources(this.joinPoint, "id")
+
+        then:
+        1 * this.joinPoint.proceed() >> { throw new NotFoundException("Not in the database") }
+        1 * this.jobColdStorageService.getJob("id") >> Optional.of(this.coldStoredJob)
+        thrown(JobInColdStorageException)
+    }
+
+    def "Cold storage results are appended to job searches"() {
+        def page = PageRequest.of(0, 10)
+        def primaryResults = Mock(Page)
+        def results = Mock(Page)
+        def statuses = [JobStatus.SUCCEEDED] as Set
+        def tags = ["tag"] as Set
+
+        when:
+        def returned = this.aspect.findJobs(this.joinPoint)
+
+        then:
+        1 * this.joinPoint.proceed() >> primaryResults
+        1 * this.joinPoint.getArgs() >> ([
+            "id", "name", "user", statuses, tags, "cluster", null, "command", null,
+            null, null, null, null, "grouping", "instance", page
+        ] as Object[])
+        1 * this.jobColdStorageService.findJobs(
+            primaryResults,
+            "id",
+            "name",
+            "user",
+            statuses,
+            tags,
+            "cluster",
+            null,
+            "command",
+            null,
+            null,
+            null,
+            null,
+            null,
+            "grouping",
+            "instance",
+            page
+        ) >> results
+        returned == results
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.aspects
+
+import com.netflix.genie.web.data.services.impl.jpa.JpaPersistenceServiceImpl
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.PersistenceStatistics
+import com.netflix.genie.web.data.services.impl.jpa.instrumentation.PersistenceStatisticsRecorder
+import com.netflix.genie.web.properties.DataServiceRetryProperties
+import org.aspectj.lang.ProceedingJoinPoint
+import org.aspectj.lang.Signature
+import spock.lang.Specification
+
+/**
+ * Specifications for {@link PersistenceInstrumentationAspect}.
+ *
+ * @author tgianos
+ */
+class PersistenceInstrumentationAspectSpec extends Specification {
+
+    PersistenceStatisticsRecorder recorder
+    PersistenceInstrumentationAspect aspect
+    ProceedingJoinPoint joinPoint
+    Signature signature
+
+    def setup() {
+        this.recorder = Mock(PersistenceStatisticsRecorder)
+        this.aspect = new PersistenceInstrumentationAspect(this.recorder)
+        this.joinPoint = Mock(ProceedingJoinPoint)
+        this.signature = Mock(Signature) {
+            getDeclaringType() >> JpaPersistenceServiceImpl
+            getName() >> "getJobStatus"
+        }
+    }
+
+    def "Data operations are recorded"() {
+        def result = new Object()
+        boolean scopeEnteredDuringCall = false
+
+        when:
+        def returned = this.aspect.instrumentDataOperation(this.joinPoint)
+
+        then:
+        1 * this.joinPoint.proceed() >> {
+            scopeEnteredDuringCall = PersistenceStatistics.isScopeEntered()
+            return result
+        }
+        _ * this.joinPoint.getSignature() >> this.signature
+        1 * this.recorder.record(
+            PersistenceInstrumentationAspect.DATA_LAYER,
+            "JpaPersistenceServiceImpl.getJobStatus",
+            _ as PersistenceStatistics.Scope
+        )
+        returned == result
+        scopeEnteredDuringCall
+        !PersistenceStatistics.isScopeEntered()
+    }
+
+    def "Resource operations are recorded even when they fail"() {
+        def exception = new IllegalStateException("...")
+
+        when:
+        this.aspect.instrumentResourceOperation(this.joinPoint)
+
+        then:
+        1 * this.joinPoint.proceed() >> { throw exception }
+        _ * this.joinPoint.getSignature() >> this.signature
+        1 * this.recorder.record(
+            PersistenceInstrumentationAspect.REST_LAYER,
+            "JpaPersistenceServiceImpl.getJobStatus",
+            _ as PersistenceStatistics.Scope
+        )
+        def thrownException = thrown(IllegalStateException)
+        thrownException == exception
+        !PersistenceStatistics.isScopeEntered()
+    }
+
+    def "Runs before the retry aspect"() {
+        expect:
+        this.aspect.getOrder() < new DataServiceRetryAspect(new DataServiceRetryProperties()).getOrder()
+    }
+}
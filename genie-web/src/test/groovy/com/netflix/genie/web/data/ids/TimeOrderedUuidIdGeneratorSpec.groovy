@@ -0,0 +1,101 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.ids
+
+import spock.lang.Specification
+
+import java.time.Clock
+import java.time.Instant
+import java.time.ZoneOffset
+
+/**
+ * Specifications for {@link TimeOrderedUuidIdGenerator}.
+ *
+ * @author tgianos
+ */
+class TimeOrderedUuidIdGeneratorSpec extends Specification {
+
+    def "Generates version 7 ids carrying the current time"() {
+        def now = Instant.parse("2026-10-19T12:34:56.789Z")
+        def generator = new TimeOrderedUuidIdGenerator(Clock.fixed(now, ZoneOffset.UTC), new Random(42L))
+
+        when:
+        def uuid = generator.generateUuid()
+
+        then:
+        uuid.version() == 7
+        uuid.variant() == 2
+        uuid.getMostSignificantBits() >>> 16 == now.toEpochMilli()
+        UUID.fromString(uuid.toString()) == uuid
+    }
+
+    def "Ids generated within the same millisecond are strictly increasing"() {
+        def generator = new TimeOrderedUuidIdGenerator(
+            Clock.fixed(Instant.parse("2026-10-19T00:00:00Z"), ZoneOffset.UTC),
+            new Random(42L)
+        )
+
+        when:
+        def ids = (1..10_000).collect { generator.generateId() }
+
+        then:
+        ids.toSet().size() == ids.size()
+        ids == ids.toSorted()
+    }
+
+    def "Ids keep increasing when the clock moves backwards"() {
+        def clock = Mock(Clock) {
+            millis() >>> [1_000_000L, 1_000_000L, 999_000L, 1_000_001L]
+        }
+        def generator = new TimeOrderedUuidIdGenerator(clock, new Random(42L))
+
+        when:
+        def ids = (1..4).collect { generator.generateId() }
+
+        then:
+        ids == ids.toSorted()
+        ids.toSet().size() == 4
+    }
+
+    def "Ids from later milliseconds sort after earlier ones"() {
+        def clock = Mock(Clock) {
+            millis() >>> [1_000L, 2_000L, 0x7FFF_FFFF_FFFFL]
+        }
+        def generator = new TimeOrderedUuidIdGenerator(clock, new Random(42L))
+
+        when:
+        def first = generator.generateId()
+        def second = generator.generateId()
+        def third = generator.generateId()
+
+        then:
+        first < second
+        second < third
+    }
+
+    def "Default generator produces unique version 7 ids"() {
+        def generator = new TimeOrderedUuidIdGenerator()
+
+        when:
+        def ids = (1..1_000).collect { generator.generateId() }
+
+        then:
+        ids.toSet().size() == 1_000
+        ids.every { UUID.fromString(it).version() == 7 }
+    }
+}
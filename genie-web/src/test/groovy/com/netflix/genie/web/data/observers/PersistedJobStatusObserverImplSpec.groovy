@@ -18,26 +18,35 @@
 package com.netflix.genie.web.data.observers
 
 import com.netflix.genie.common.internal.dtos.JobStatus
+import com.netflix.genie.web.dtos.JobResources
 import com.netflix.genie.web.events.GenieEventBus
 import com.netflix.genie.web.events.JobStateChangeEvent
+import com.netflix.genie.web.util.MetricsConstants
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.springframework.context.ApplicationEvent
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
 class PersistedJobStatusObserverImplSpec extends Specification {
 
     GenieEventBus genieEventbus
+    MeterRegistry registry
     String jobId
 
     void setup() {
         this.genieEventbus = Mock(GenieEventBus)
+        this.registry = new SimpleMeterRegistry()
         this.jobId = UUID.randomUUID().toString()
     }
 
     @Unroll
     def "Notify #prevStatus -> #currStatus"() {
         setup:
-        PersistedJobStatusObserver observer = new PersistedJobStatusObserverImpl(genieEventbus)
+        PersistedJobStatusObserver observer = new PersistedJobStatusObserverImpl(genieEventbus, registry)
         JobStateChangeEvent event
 
         when:
@@ -59,4 +68,50 @@ class PersistedJobStatusObserverImplSpec extends Specification {
         null               | JobStatus.RESERVED
         JobStatus.RESERVED | JobStatus.RESOLVED
     }
+
+    def "Transitions publish events and record the time spent in the previous status"() {
+        setup:
+        PersistedJobStatusObserver observer = new PersistedJobStatusObserverImpl(genieEventbus, registry)
+        def resources = new JobResources("user", true, "host", 1_024L, 2L)
+
+        when:
+        observer.notify(new JobStatusTransition(jobId, null, JobStatus.RESERVED, null, null))
+
+        then:
+        1 * genieEventbus.publishAsynchronousEvent({ JobStateChangeEvent event ->
+            event.getPreviousStatus() == null && event.getNewStatus() == JobStatus.RESERVED
+                && !event.getResources().isPresent()
+        })
+        registry.find("genie.jobs.notifications.state-transition.timer").timers().isEmpty()
+
+        when:
+        observer.notify(
+            new JobStatusTransition(
+                jobId,
+                JobStatus.CLAIMED,
+                JobStatus.INIT,
+                Duration.ofSeconds(5),
+                "LocalAgentLauncherImpl",
+                resources
+            )
+        )
+
+        then:
+        1 * genieEventbus.publishAsynchronousEvent({ JobStateChangeEvent event ->
+            event.getPreviousStatus() == JobStatus.CLAIMED && event.getNewStatus() == JobStatus.INIT
+                && event.getResources() == Optional.of(resources)
+        })
+        def timer = registry
+            .find("genie.jobs.notifications.state-transition.timer")
+            .tags(
+                MetricsConstants.TagKeys.FROM_STATE, JobStatus.CLAIMED.name(),
+                MetricsConstants.TagKeys.TO_STATE, JobStatus.INIT.name(),
+                MetricsConstants.TagKeys.AGENT_LAUNCHER_CLASS, "LocalAgentLauncherImpl"
+            )
+            .timer()
+        timer != null
+        timer.getId().getTags().size() == 3
+        timer.count() == 1L
+        timer.totalTime(TimeUnit.SECONDS) == 5.0d
+    }
 }
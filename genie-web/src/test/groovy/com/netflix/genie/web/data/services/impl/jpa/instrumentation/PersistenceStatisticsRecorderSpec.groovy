@@ -0,0 +1,102 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.instrumentation
+
+import com.netflix.genie.web.properties.PersistenceInstrumentationProperties
+import io.micrometer.core.instrument.MeterRegistry
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.util.concurrent.TimeUnit
+
+/**
+ * Specifications for {@link PersistenceStatisticsRecorder}.
+ *
+ * @author tgianos
+ */
+class PersistenceStatisticsRecorderSpec extends Specification {
+
+    MeterRegistry registry
+    PersistenceInstrumentationProperties properties
+    PersistenceStatisticsRecorder recorder
+
+    def setup() {
+        this.registry = new SimpleMeterRegistry()
+        this.properties = new PersistenceInstrumentationProperties()
+        this.properties.setSlowStatementLogSampleRate(1.0d)
+        this.recorder = new PersistenceStatisticsRecorder(this.registry, this.properties)
+    }
+
+    def "Can record the work of an operation"() {
+        def scope = new PersistenceStatistics.Scope()
+        PersistenceStatistics.enter(scope)
+        PersistenceStatistics.statementPrepared("select * from jobs where id = ?")
+        PersistenceStatistics.statementExecuted(TimeUnit.SECONDS.toNanos(2L))
+        PersistenceStatistics.statementExecuted(TimeUnit.MILLISECONDS.toNanos(5L))
+        PersistenceStatistics.entityLoaded()
+        PersistenceStatistics.exit(scope)
+
+        when:
+        this.recorder.record("data", "JpaPersistenceServiceImpl.getJobStatus", scope)
+
+        then:
+        this.registry
+            .get(PersistenceStatisticsRecorder.STATEMENTS_METRIC_NAME)
+            .tag(PersistenceStatisticsRecorder.LAYER_TAG, "data")
+            .tag(PersistenceStatisticsRecorder.OPERATION_TAG, "JpaPersistenceServiceImpl.getJobStatus")
+            .summary()
+            .totalAmount() == 2.0d
+        this.registry
+            .get(PersistenceStatisticsRecorder.ENTITIES_LOADED_METRIC_NAME)
+            .tag(PersistenceStatisticsRecorder.OPERATION_TAG, "JpaPersistenceServiceImpl.getJobStatus")
+            .summary()
+            .totalAmount() == 1.0d
+        this.registry
+            .get(PersistenceStatisticsRecorder.DATABASE_TIME_METRIC_NAME)
+            .tag(PersistenceStatisticsRecorder.OPERATION_TAG, "JpaPersistenceServiceImpl.getJobStatus")
+            .timer()
+            .totalTime(TimeUnit.MILLISECONDS) == 2_005.0d
+    }
+
+    def "Can record an operation which did no database work"() {
+        when:
+        this.recorder.record("rest", "JobRestController.getJob", new PersistenceStatistics.Scope())
+
+        then:
+        this.registry
+            .get(PersistenceStatisticsRecorder.STATEMENTS_METRIC_NAME)
+            .tag(PersistenceStatisticsRecorder.LAYER_TAG, "rest")
+            .summary()
+            .count() == 1L
+    }
+
+    @Unroll
+    def "Statement shape of #sql is #shape"() {
+        expect:
+        PersistenceStatisticsRecorder.toStatementShape(sql) == shape
+
+        where:
+        sql                                                  | shape
+        "select * from jobs where id = ?"                    | "select * from jobs where id = ?"
+        "select * from tags where tag in (?, ?, ?)"          | "select * from tags where tag in (?[3])"
+        "select * from tags where tag in (?,?) and id = ?"   | "select * from tags where tag in (?[2]) and id = ?"
+        "insert into tags (tag, created) values (?, ?)"      | "insert into tags (tag, created) values (?[2])"
+        "select 1"                                           | "select 1"
+    }
+}
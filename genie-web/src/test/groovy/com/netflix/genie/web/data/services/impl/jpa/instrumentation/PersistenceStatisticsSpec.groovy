@@ -0,0 +1,93 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.instrumentation
+
+import spock.lang.Specification
+
+/**
+ * Specifications for {@link PersistenceStatistics}.
+ *
+ * @author tgianos
+ */
+class PersistenceStatisticsSpec extends Specification {
+
+    def "Work done outside any scope is not tracked"() {
+        when:
+        PersistenceStatistics.statementPrepared("select 1")
+        PersistenceStatistics.statementExecuted(100L)
+        PersistenceStatistics.entityLoaded()
+
+        then:
+        !PersistenceStatistics.isScopeEntered()
+    }
+
+    def "Work is attributed to every entered scope"() {
+        def outer = new PersistenceStatistics.Scope()
+        def inner = new PersistenceStatistics.Scope()
+
+        when:
+        PersistenceStatistics.enter(outer)
+        PersistenceStatistics.statementPrepared("select * from jobs where id = ?")
+        PersistenceStatistics.statementExecuted(500L)
+        PersistenceStatistics.enter(inner)
+        PersistenceStatistics.statementPrepared("select * from tags where tag in (?, ?)")
+        PersistenceStatistics.statementExecuted(300L)
+        PersistenceStatistics.entityLoaded()
+        PersistenceStatistics.entityLoaded()
+        PersistenceStatistics.exit(inner)
+
+        then:
+        PersistenceStatistics.isScopeEntered()
+        inner.getStatementCount() == 1
+        inner.getEntitiesLoaded() == 2L
+        inner.getDatabaseTimeNanos() == 300L
+        inner.getSlowestStatement() == "select * from tags where tag in (?, ?)"
+        inner.getSlowestStatementNanos() == 300L
+        outer.getStatementCount() == 2
+        outer.getEntitiesLoaded() == 2L
+        outer.getDatabaseTimeNanos() == 800L
+        outer.getSlowestStatement() == "select * from jobs where id = ?"
+        outer.getSlowestStatementNanos() == 500L
+
+        when:
+        PersistenceStatistics.exit(outer)
+        PersistenceStatistics.statementExecuted(1_000L)
+
+        then:
+        !PersistenceStatistics.isScopeEntered()
+        outer.getStatementCount() == 2
+    }
+
+    def "A scope can be entered more than once"() {
+        def scope = new PersistenceStatistics.Scope()
+
+        when:
+        PersistenceStatistics.enter(scope)
+        PersistenceStatistics.statementExecuted(10L)
+        PersistenceStatistics.exit(scope)
+        PersistenceStatistics.enter(scope)
+        PersistenceStatistics.statementExecuted(20L)
+        PersistenceStatistics.exit(scope)
+
+        then:
+        scope.getStatementCount() == 2
+        scope.getDatabaseTimeNanos() == 30L
+        scope.getSlowestStatement() == null
+        !PersistenceStatistics.isScopeEntered()
+    }
+}
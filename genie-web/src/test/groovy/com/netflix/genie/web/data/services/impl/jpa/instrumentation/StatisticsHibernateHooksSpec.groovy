@@ -0,0 +1,54 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.instrumentation
+
+import spock.lang.Specification
+
+/**
+ * Specifications for the Hibernate hooks feeding {@link PersistenceStatistics}:
+ * {@link StatisticsStatementInspector}, {@link StatisticsSessionEventListener} and {@link StatisticsInterceptor}.
+ *
+ * @author tgianos
+ */
+class StatisticsHibernateHooksSpec extends Specification {
+
+    def "Statements executed and entities loaded are attributed to the entered scope"() {
+        def inspector = new StatisticsStatementInspector()
+        def listener = new StatisticsSessionEventListener()
+        def interceptor = new StatisticsInterceptor()
+        def scope = PersistenceStatistics.enter(new PersistenceStatistics.Scope())
+        def sql = "select * from jobs where id = ?"
+
+        when:
+        def inspected = inspector.inspect(sql)
+        listener.jdbcExecuteStatementStart()
+        listener.jdbcExecuteStatementEnd()
+        def veto = interceptor.onLoad(new Object(), 1L, new Object[0], new String[0], null)
+        listener.jdbcExecuteBatchStart()
+        listener.jdbcExecuteBatchEnd()
+        PersistenceStatistics.exit(scope)
+
+        then:
+        inspected == sql
+        !veto
+        scope.getStatementCount() == 2
+        scope.getEntitiesLoaded() == 1L
+        scope.getDatabaseTimeNanos() >= 0L
+        scope.getSlowestStatement() == null || scope.getSlowestStatement() == sql
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.listeners
+
+import com.netflix.genie.web.data.services.CatalogCaches
+import com.netflix.genie.web.data.services.impl.jpa.entities.ApplicationEntity
+import com.netflix.genie.web.data.services.impl.jpa.entities.CommandEntity
+import org.springframework.beans.factory.ObjectProvider
+import org.springframework.cache.CacheManager
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+import spock.lang.Specification
+
+/**
+ * Specifications for {@link CatalogEntityListener}.
+ *
+ * @author tgianos
+ */
+class CatalogEntityListenerSpec extends Specification {
+    ConcurrentMapCacheManager cacheManager
+    ObjectProvider<CacheManager> cacheManagerProvider
+    CatalogEntityListener listener
+
+    def setup() {
+        this.cacheManager = new ConcurrentMapCacheManager(CatalogCaches.ALL as String[])
+        this.cacheManagerProvider = Mock(ObjectProvider)
+        this.listener = new CatalogEntityListener(this.cacheManagerProvider)
+    }
+
+    def cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization()
+        }
+    }
+
+    def "Catalog caches are cleared when an entity changes outside a transaction"() {
+        CatalogCaches.ALL.each { this.cacheManager.getCache(it).put("id", "value") }
+
+        when:
+        this.listener.catalogChanged(new ApplicationEntity())
+
+        then:
+        1 * this.cacheManagerProvider.getIfAvailable() >> this.cacheManager
+        CatalogCaches.ALL.every { this.cacheManager.getCache(it).get("id") == null }
+    }
+
+    def "Catalog caches are cleared again once the transaction commits"() {
+        TransactionSynchronizationManager.initSynchronization()
+
+        when:
+        this.listener.catalogChanged(new CommandEntity())
+
+        then:
+        1 * this.cacheManagerProvider.getIfAvailable() >> this.cacheManager
+        TransactionSynchronizationManager.getSynchronizations().size() == 1
+
+        when: "A concurrent read repopulated the cache before the commit"
+        this.cacheManager.getCache(CatalogCaches.COMMANDS).put("id", "stale")
+        TransactionSynchronizationManager.getSynchronizations().each { TransactionSynchronization sync ->
+            sync.afterCommit()
+        }
+
+        then:
+        this.cacheManager.getCache(CatalogCaches.COMMANDS).get("id") == null
+    }
+
+    def "Nothing happens without a cache manager"() {
+        when:
+        this.listener.catalogChanged(new ApplicationEntity())
+
+        then:
+        1 * this.cacheManagerProvider.getIfAvailable() >> null
+        noExceptionThrown()
+    }
+}
@@ -17,11 +17,17 @@
  */
 package com.netflix.genie.web.data.services.impl.jpa.listeners
 
+import com.netflix.genie.common.external.util.GenieObjectMapper
 import com.netflix.genie.common.internal.dtos.JobStatus
+import com.netflix.genie.web.agent.launchers.AgentLauncher
+import com.netflix.genie.web.data.observers.JobStatusTransition
 import com.netflix.genie.web.data.observers.PersistedJobStatusObserver
 import com.netflix.genie.web.data.services.impl.jpa.entities.JobEntity
+import com.netflix.genie.web.dtos.JobResources
 import spock.lang.Specification
 
+import java.time.Duration
+
 class JobEntityListenerSpec extends Specification {
     String jobId
     PersistedJobStatusObserver observer
@@ -44,7 +50,25 @@ class JobEntityListenerSpec extends Specification {
         1 * jobEntity.getStatus() >> JobStatus.RESERVED.name()
         1 * jobEntity.getNotifiedJobStatus() >> Optional.empty()
         1 * jobEntity.getUniqueId() >> jobId
-        1 * observer.notify(jobId, null, JobStatus.RESERVED)
+        1 * jobEntity.getTimeInNotifiedJobStatus() >> Optional.empty()
+        1 * jobEntity.getLauncherExt() >> Optional.empty()
+        0 * jobEntity.getCommandName()
+        0 * jobEntity.getClusterName()
+        1 * jobEntity.getUser() >> "user"
+        1 * jobEntity.isApi() >> true
+        1 * jobEntity.getAgentHostname() >> Optional.empty()
+        1 * jobEntity.getMemoryUsed() >> Optional.empty()
+        1 * jobEntity.getCpuUsed() >> Optional.empty()
+        1 * observer.notify(
+            new JobStatusTransition(
+                jobId,
+                null,
+                JobStatus.RESERVED,
+                null,
+                null,
+                new JobResources("user", true, null, 0L, 0L)
+            )
+        )
         1 * jobEntity.setNotifiedJobStatus(JobStatus.RESERVED.name())
 
         when:
@@ -61,7 +85,25 @@ class JobEntityListenerSpec extends Specification {
         1 * jobEntity.getStatus() >> JobStatus.RESOLVED.name()
         1 * jobEntity.getNotifiedJobStatus() >> Optional.of(JobStatus.RESERVED.name())
         1 * jobEntity.getUniqueId() >> jobId
-        1 * observer.notify(jobId, JobStatus.RESERVED, JobStatus.RESOLVED)
+        1 * jobEntity.getTimeInNotifiedJobStatus() >> Optional.of(Duration.ofSeconds(3))
+        1 * jobEntity.getLauncherExt() >> Optional.of(
+            GenieObjectMapper.getMapper().createObjectNode().put(AgentLauncher.LAUNCHER_CLASS_EXT_FIELD, "Foo")
+        )
+        1 * jobEntity.getUser() >> "user"
+        1 * jobEntity.isApi() >> false
+        1 * jobEntity.getAgentHostname() >> Optional.empty()
+        1 * jobEntity.getMemoryUsed() >> Optional.of(1_024L)
+        1 * jobEntity.getCpuUsed() >> Optional.of(2)
+        1 * observer.notify(
+            new JobStatusTransition(
+                jobId,
+                JobStatus.RESERVED,
+                JobStatus.RESOLVED,
+                Duration.ofSeconds(3),
+                "Foo",
+                new JobResources("user", false, null, 1_024L, 2L)
+            )
+        )
         1 * jobEntity.setNotifiedJobStatus(JobStatus.RESOLVED.name())
 
         when:
@@ -72,6 +114,7 @@ class JobEntityListenerSpec extends Specification {
         1 * jobEntity.getNotifiedJobStatus() >> Optional.of(JobStatus.RUNNING.name())
         1 * jobEntity.getUniqueId() >> jobId
         0 * observer.notify(_, _, _)
+        0 * observer.notify(_ as JobStatusTransition)
         0 * jobEntity.setNotifiedJobStatus(_)
     }
 }
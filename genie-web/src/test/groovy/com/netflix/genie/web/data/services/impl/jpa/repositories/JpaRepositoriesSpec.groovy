@@ -33,6 +33,7 @@ class JpaRepositoriesSpec extends Specification {
         def criterionRepo = Mock(JpaCriterionRepository)
         def fileRepo = Mock(JpaFileRepository)
         def jobRepo = Mock(JpaJobRepository)
+        def jobStatusHistoryRepo = Mock(JpaJobStatusHistoryRepository)
         def tagRepo = Mock(JpaTagRepository)
 
         when:
@@ -43,6 +44,7 @@ class JpaRepositoriesSpec extends Specification {
             criterionRepo,
             fileRepo,
             jobRepo,
+            jobStatusHistoryRepo,
             tagRepo
         )
 
@@ -53,6 +55,7 @@ class JpaRepositoriesSpec extends Specification {
         repositories.getCriterionRepository() == criterionRepo
         repositories.getFileRepository() == fileRepo
         repositories.getJobRepository() == jobRepo
+        repositories.getJobStatusHistoryRepository() == jobStatusHistoryRepo
         repositories.getTagRepository() == tagRepo
     }
 }
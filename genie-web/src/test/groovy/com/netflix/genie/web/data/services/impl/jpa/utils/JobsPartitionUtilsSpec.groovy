@@ -0,0 +1,94 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.data.services.impl.jpa.utils
+
+import spock.lang.Specification
+
+import java.time.Instant
+
+class JobsPartitionUtilsSpec extends Specification {
+
+    def "Partition names round trip to their upper bound"() {
+        def upperBound = Instant.parse("2026-10-19T00:00:00Z")
+
+        when:
+        def name = JobsPartitionUtils.getPartitionName(upperBound)
+
+        then:
+        name == "jobs_p20261019"
+        JobsPartitionUtils.getPartitionUpperBound(name) == Optional.of(upperBound)
+        JobsPartitionUtils.getPartitionUpperBound("JOBS_P20261019") == Optional.of(upperBound)
+    }
+
+    def "Unmanaged partition names are ignored"() {
+        expect:
+        !JobsPartitionUtils.getPartitionUpperBound(name).isPresent()
+
+        where:
+        name << ["jobs_default", "p20261019", "jobs_pmax", "jobs_p2026101"]
+    }
+
+    def "Can detect dialect from database product name"() {
+        expect:
+        JobsPartitionUtils.Dialect.fromDatabaseProductName(productName) == Optional.ofNullable(dialect)
+
+        where:
+        productName  | dialect
+        "MySQL"      | JobsPartitionUtils.Dialect.MYSQL
+        "MariaDB"    | JobsPartitionUtils.Dialect.MYSQL
+        "PostgreSQL" | JobsPartitionUtils.Dialect.POSTGRESQL
+        "H2"         | null
+    }
+
+    def "Can generate MySQL DDL"() {
+        def lowerBound = Instant.parse("2026-10-12T00:00:00Z")
+        def upperBound = Instant.parse("2026-10-19T00:00:00Z")
+
+        expect:
+        JobsPartitionUtils.Dialect.MYSQL.getCreatePartitionSql(lowerBound, upperBound, null)
+            == "ALTER TABLE jobs ADD PARTITION (PARTITION jobs_p20261019 VALUES LESS THAN ('2026-10-19 00:00:00'))"
+        JobsPartitionUtils.Dialect.MYSQL.getCreatePartitionSql(lowerBound, upperBound, "jobs_max")
+            == "ALTER TABLE jobs REORGANIZE PARTITION jobs_max INTO ("
+            + "PARTITION jobs_p20261019 VALUES LESS THAN ('2026-10-19 00:00:00'), "
+            + "PARTITION jobs_max VALUES LESS THAN (MAXVALUE))"
+        JobsPartitionUtils.Dialect.MYSQL.getFindCatchAllPartitionSql().isPresent()
+        JobsPartitionUtils.Dialect.MYSQL.getDropPartitionSql("jobs_p20261019")
+            == "ALTER TABLE jobs DROP PARTITION jobs_p20261019"
+    }
+
+    def "Can generate PostgreSQL DDL"() {
+        def lowerBound = Instant.parse("2026-10-12T00:00:00Z")
+        def upperBound = Instant.parse("2026-10-19T00:00:00Z")
+
+        expect:
+        JobsPartitionUtils.Dialect.POSTGRESQL.getCreatePartitionSql(lowerBound, upperBound, null)
+            == "CREATE TABLE jobs_p20261019 PARTITION OF jobs FOR VALUES FROM ('2026-10-12 00:00:00') TO ('2026-10-19 00:00:00')"
+        JobsPartitionUtils.Dialect.POSTGRESQL.getDropPartitionSql("jobs_p20261019") == "DROP TABLE jobs_p20261019"
+        !JobsPartitionUtils.Dialect.POSTGRESQL.getFindCatchAllPartitionSql().isPresent()
+    }
+
+    def "Can generate child table cleanup statements"() {
+        expect:
+        JobsPartitionUtils.getDeleteChildRowsSql("jobs_tags") == "DELETE FROM jobs_tags WHERE job_id IN (:ids)"
+        JobsPartitionUtils.getFindOrphanedJobIdsSql("jobs_tags") == "SELECT DISTINCT c.job_id FROM jobs_tags c"
+            + " LEFT JOIN jobs j ON j.id = c.job_id WHERE j.id IS NULL AND c.job_id > :afterId"
+            + " ORDER BY c.job_id LIMIT :batchSize"
+        JobsPartitionUtils.JOB_CHILD_TABLES.contains("jobs_tags")
+        JobsPartitionUtils.JOB_CHILD_TABLES.contains("job_command_arguments")
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties
+
+import spock.lang.Specification
+
+import java.time.Duration
+
+class AgentConnectionRebalancingPropertiesSpec extends Specification {
+
+    def "Defaults, setters, getters"() {
+        when:
+        AgentConnectionRebalancingProperties props = new AgentConnectionRebalancingProperties()
+
+        then:
+        !props.isEnabled()
+        props.getInterval() == Duration.ofSeconds(30)
+        props.getOverloadedThreshold() == 0.2d
+        props.getBalancedThreshold() == 0.05d
+        props.getMinimumExcess() == 5
+        props.getReconnectFraction() == 0.25d
+        props.getMaxReconnectsPerInterval() == 20
+
+        when:
+        props.setEnabled(true)
+        props.setInterval(Duration.ofMinutes(1))
+        props.setOverloadedThreshold(0.5d)
+        props.setBalancedThreshold(0.1d)
+        props.setMinimumExcess(10)
+        props.setReconnectFraction(0.5d)
+        props.setMaxReconnectsPerInterval(50)
+
+        then:
+        props.isEnabled()
+        props.getInterval() == Duration.ofMinutes(1)
+        props.getOverloadedThreshold() == 0.5d
+        props.getBalancedThreshold() == 0.1d
+        props.getMinimumExcess() == 10
+        props.getReconnectFraction() == 0.5d
+        props.getMaxReconnectsPerInterval() == 50
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties
+
+import spock.lang.Specification
+
+import java.time.Duration
+
+/**
+ * Specifications for {@link CatalogCacheProperties}.
+ *
+ * @author tgianos
+ */
+class CatalogCachePropertiesSpec extends Specification {
+
+    def "Defaults, setters, getters"() {
+        when:
+        CatalogCacheProperties props = new CatalogCacheProperties()
+
+        then:
+        props.isEnabled()
+        props.getMaximumSize() == 10_000L
+        props.getTimeToLive() == Duration.ofMinutes(10L)
+        props.getRefreshCheckInterval() == Duration.ofSeconds(10L)
+
+        when:
+        props.setEnabled(false)
+        props.setMaximumSize(500L)
+        props.setTimeToLive(Duration.ofMinutes(1L))
+        props.setRefreshCheckInterval(Duration.ofSeconds(30L))
+
+        then:
+        !props.isEnabled()
+        props.getMaximumSize() == 500L
+        props.getTimeToLive() == Duration.ofMinutes(1L)
+        props.getRefreshCheckInterval() == Duration.ofSeconds(30L)
+    }
+}
@@ -17,8 +17,11 @@
  */
 package com.netflix.genie.web.properties
 
+import org.springframework.util.unit.DataSize
 import spock.lang.Specification
 
+import java.time.Duration
+
 /**
  * Specifications for {@link GRpcServerProperties}.
  *
@@ -32,11 +35,52 @@ class GRpcServerPropertiesSpec extends Specification {
 
         then:
         !properties.isEnabled()
+        properties.getFlowControlWindow() == DataSize.ofMegabytes(1L)
+        properties.getMaxInboundMessageSize() == DataSize.ofMegabytes(4L)
+        properties.getMaxConcurrentCallsPerConnection() == Integer.MAX_VALUE
+        properties.getKeepAliveTime() == Duration.ofHours(2L)
+        properties.getKeepAliveTimeout() == Duration.ofSeconds(20L)
+        properties.getPermitKeepAliveTime() == Duration.ofMinutes(5L)
+        !properties.isPermitKeepAliveWithoutCalls()
+        properties.getMaxConnectionIdle() == null
+        properties.getServiceIsolation().isEmpty()
 
         when:
         properties.setEnabled(true)
+        properties.setFlowControlWindow(DataSize.ofMegabytes(8L))
+        properties.setMaxInboundMessageSize(DataSize.ofMegabytes(16L))
+        properties.setMaxConcurrentCallsPerConnection(100)
+        properties.setKeepAliveTime(Duration.ofMinutes(1L))
+        properties.setKeepAliveTimeout(Duration.ofSeconds(5L))
+        properties.setPermitKeepAliveTime(Duration.ofSeconds(30L))
+        properties.setPermitKeepAliveWithoutCalls(true)
+        properties.setMaxConnectionIdle(Duration.ofHours(1L))
 
         then:
         properties.isEnabled()
+        properties.getFlowControlWindow() == DataSize.ofMegabytes(8L)
+        properties.getMaxInboundMessageSize() == DataSize.ofMegabytes(16L)
+        properties.getMaxConcurrentCallsPerConnection() == 100
+        properties.getKeepAliveTime() == Duration.ofMinutes(1L)
+        properties.getKeepAliveTimeout() == Duration.ofSeconds(5L)
+        properties.getPermitKeepAliveTime() == Duration.ofSeconds(30L)
+        properties.isPermitKeepAliveWithoutCalls()
+        properties.getMaxConnectionIdle() == Duration.ofHours(1L)
+    }
+
+    def "Can get the isolation of a service"() {
+        def properties = new GRpcServerProperties()
+        def isolation = new GRpcServerProperties.ServiceIsolation()
+        isolation.setThreads(4)
+        isolation.setThreadPriority(Thread.MIN_PRIORITY)
+        isolation.setMaxInFlightCalls(50)
+        properties.getServiceIsolation().put("FileStreamService", isolation)
+
+        expect:
+        properties.getServiceIsolation("FileStreamService") == isolation
+        properties.getServiceIsolation("filestreamservice") == isolation
+        properties.getServiceIsolation("HeartBeatService").getThreads() == 0
+        properties.getServiceIsolation("HeartBeatService").getThreadPriority() == Thread.NORM_PRIORITY
+        properties.getServiceIsolation("HeartBeatService").getMaxInFlightCalls() == 0
     }
 }
@@ -29,11 +29,14 @@ class HeartBeatPropertiesSpec extends Specification {
 
         then:
         props.getSendInterval() == Duration.ofSeconds(5)
+        props.getResourceUsagePersistInterval() == Duration.ofMinutes(1)
 
         when:
         props.setSendInterval(Duration.ofSeconds(10))
+        props.setResourceUsagePersistInterval(Duration.ofMinutes(5))
 
         then:
         props.getSendInterval() == Duration.ofSeconds(10)
+        props.getResourceUsagePersistInterval() == Duration.ofMinutes(5)
     }
 }
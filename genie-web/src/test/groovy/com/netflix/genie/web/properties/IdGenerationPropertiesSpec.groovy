@@ -0,0 +1,45 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties
+
+import spock.lang.Specification
+
+/**
+ * Specifications for {@link IdGenerationProperties}.
+ *
+ * @author tgianos
+ */
+class IdGenerationPropertiesSpec extends Specification {
+
+    def "Defaults, setters, getters"() {
+        when:
+        IdGenerationProperties props = new IdGenerationProperties()
+
+        then:
+        props.getJobs() == IdGenerationProperties.Strategy.TIME_ORDERED
+        props.getResources() == IdGenerationProperties.Strategy.RANDOM
+
+        when:
+        props.setJobs(IdGenerationProperties.Strategy.RANDOM)
+        props.setResources(IdGenerationProperties.Strategy.TIME_ORDERED)
+
+        then:
+        props.getJobs() == IdGenerationProperties.Strategy.RANDOM
+        props.getResources() == IdGenerationProperties.Strategy.TIME_ORDERED
+    }
+}
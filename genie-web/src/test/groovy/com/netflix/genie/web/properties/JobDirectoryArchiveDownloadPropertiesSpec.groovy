@@ -0,0 +1,60 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties
+
+import org.springframework.util.unit.DataSize
+import spock.lang.Specification
+
+import java.time.Duration
+
+/**
+ * Specifications for {@link JobDirectoryArchiveDownloadProperties}.
+ *
+ * @author tgianos
+ */
+class JobDirectoryArchiveDownloadPropertiesSpec extends Specification {
+
+    def "Defaults, setters, getters"() {
+        when:
+        def properties = new JobDirectoryArchiveDownloadProperties()
+
+        then:
+        properties.getChunkSize() == DataSize.ofMegabytes(4)
+        properties.getPrefetchChunks() == 8
+        properties.getAgentPrefetchChunks() == 2
+        properties.getMaxConcurrentDownloads() == 4
+        properties.getFetchThreads() == 16
+        properties.getFetchTimeout() == Duration.ofMinutes(2)
+
+        when:
+        properties.setChunkSize(DataSize.ofMegabytes(16))
+        properties.setPrefetchChunks(4)
+        properties.setAgentPrefetchChunks(1)
+        properties.setMaxConcurrentDownloads(10)
+        properties.setFetchThreads(32)
+        properties.setFetchTimeout(Duration.ofSeconds(30))
+
+        then:
+        properties.getChunkSize() == DataSize.ofMegabytes(16)
+        properties.getPrefetchChunks() == 4
+        properties.getAgentPrefetchChunks() == 1
+        properties.getMaxConcurrentDownloads() == 10
+        properties.getFetchThreads() == 32
+        properties.getFetchTimeout() == Duration.ofSeconds(30)
+    }
+}
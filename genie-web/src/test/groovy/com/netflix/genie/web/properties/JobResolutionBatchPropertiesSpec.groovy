@@ -0,0 +1,48 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties
+
+import spock.lang.Specification
+
+/**
+ * Specifications for {@link JobResolutionBatchProperties}.
+ *
+ * @author tgianos
+ */
+class JobResolutionBatchPropertiesSpec extends Specification {
+
+    def "Defaults, setters, getters"() {
+        when:
+        def properties = new JobResolutionBatchProperties()
+
+        then:
+        properties.getMaxRequests() == 1_000
+        properties.getThreads() == 4
+        properties.getThreadNamePrefix() == "genie-job-resolution-"
+
+        when:
+        properties.setMaxRequests(10)
+        properties.setThreads(16)
+        properties.setThreadNamePrefix("resolver-")
+
+        then:
+        properties.getMaxRequests() == 10
+        properties.getThreads() == 16
+        properties.getThreadNamePrefix() == "resolver-"
+    }
+}
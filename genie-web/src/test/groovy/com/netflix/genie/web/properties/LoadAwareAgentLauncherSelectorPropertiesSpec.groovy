@@ -0,0 +1,48 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties
+
+import spock.lang.Specification
+
+import java.time.Duration
+
+class LoadAwareAgentLauncherSelectorPropertiesSpec extends Specification {
+
+    def "Defaults, setters, getters"() {
+        when:
+        LoadAwareAgentLauncherSelectorProperties props = new LoadAwareAgentLauncherSelectorProperties()
+
+        then:
+        !props.isEnabled()
+        props.getHealthTtl() == Duration.ofSeconds(2)
+        props.getStrategy() == LoadAwareAgentLauncherSelectorProperties.Strategy.POWER_OF_TWO_CHOICES
+        props.getUnknownLoad() == 0.5d
+
+        when:
+        props.setEnabled(true)
+        props.setHealthTtl(Duration.ofMillis(500))
+        props.setStrategy(LoadAwareAgentLauncherSelectorProperties.Strategy.LEAST_LOADED)
+        props.setUnknownLoad(0.9d)
+
+        then:
+        props.isEnabled()
+        props.getHealthTtl() == Duration.ofMillis(500)
+        props.getStrategy() == LoadAwareAgentLauncherSelectorProperties.Strategy.LEAST_LOADED
+        props.getUnknownLoad() == 0.9d
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties
+
+import spock.lang.Specification
+
+import java.time.Duration
+
+class LoadBalancingClusterSelectorPropertiesSpec extends Specification {
+
+    def "Defaults, setters, getters"() {
+        when:
+        LoadBalancingClusterSelectorProperties props = new LoadBalancingClusterSelectorProperties()
+
+        then:
+        !props.isEnabled()
+        props.getRefreshInterval() == Duration.ofSeconds(10)
+        props.getRunningJobsWeight() == 1.0d
+        props.getQueuedJobsWeight() == 1.0d
+        props.getMemoryWeight() == 0.0d
+        props.getStickiness() == 0.1d
+        props.getStickinessTtl() == Duration.ofMinutes(10)
+
+        when:
+        props.setEnabled(true)
+        props.setRefreshInterval(Duration.ofSeconds(30))
+        props.setRunningJobsWeight(2.0d)
+        props.setQueuedJobsWeight(3.0d)
+        props.setMemoryWeight(0.5d)
+        props.setStickiness(0.25d)
+        props.setStickinessTtl(Duration.ofMinutes(1))
+
+        then:
+        props.isEnabled()
+        props.getRefreshInterval() == Duration.ofSeconds(30)
+        props.getRunningJobsWeight() == 2.0d
+        props.getQueuedJobsWeight() == 3.0d
+        props.getMemoryWeight() == 0.5d
+        props.getStickiness() == 0.25d
+        props.getStickinessTtl() == Duration.ofMinutes(1)
+    }
+}
@@ -45,6 +45,8 @@ class LocalAgentLauncherPropertiesSpec extends Specification {
         properties.getAgentJarPath() == "/tmp/genie-agent.jar"
         properties.getMaxJobMemory() == 10_240L
         properties.getMaxTotalJobMemory() == 30_720L
+        properties.getMaxTotalJobCpu() == 0L
+        properties.getMaxTotalJobs() == 0L
         !properties.isRunAsUserEnabled()
         properties.additionalEnvironment.isEmpty()
         !properties.isProcessOutputCaptureEnabled()
@@ -69,6 +71,8 @@ class LocalAgentLauncherPropertiesSpec extends Specification {
         properties.setAgentJarPath(newJar)
         properties.setMaxJobMemory(newMaxJobMemory)
         properties.setMaxTotalJobMemory(newMaxTotalJobMemory)
+        properties.setMaxTotalJobCpu(64L)
+        properties.setMaxTotalJobs(20L)
         properties.setRunAsUserEnabled(true)
         properties.setAdditionalEnvironment(environment)
         properties.setProcessOutputCaptureEnabled(true)
@@ -82,6 +86,8 @@ class LocalAgentLauncherPropertiesSpec extends Specification {
         properties.getAgentJarPath() == newJar
         properties.getMaxJobMemory() == newMaxJobMemory
         properties.getMaxTotalJobMemory() == newMaxTotalJobMemory
+        properties.getMaxTotalJobCpu() == 64L
+        properties.getMaxTotalJobs() == 20L
         properties.isRunAsUserEnabled()
         properties.getAdditionalEnvironment() == environment
         properties.isProcessOutputCaptureEnabled()
@@ -0,0 +1,50 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.properties
+
+import spock.lang.Specification
+
+import java.time.Duration
+
+/**
+ * Specifications for {@link PersistenceInstrumentationProperties}.
+ *
+ * @author tgianos
+ */
+class PersistenceInstrumentationPropertiesSpec extends Specification {
+
+    def "Defaults, setters, getters"() {
+        when:
+        PersistenceInstrumentationProperties props = new PersistenceInstrumentationProperties()
+
+        then:
+        !props.isEnabled()
+        props.getSlowStatementThreshold() == Duration.ofSeconds(1L)
+        props.getSlowStatementLogSampleRate() == 0.1d
+
+        when:
+        props.setEnabled(true)
+        props.setSlowStatementThreshold(Duration.ofMillis(250L))
+        props.setSlowStatementLogSampleRate(1.0d)
+
+        then:
+        props.isEnabled()
+        props.getSlowStatementThreshold() == Duration.ofMillis(250L)
+        props.getSlowStatementLogSampleRate() == 1.0d
+    }
+}
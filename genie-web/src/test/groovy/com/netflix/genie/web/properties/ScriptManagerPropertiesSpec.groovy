@@ -31,5 +31,11 @@ class ScriptManagerPropertiesSpec extends Specification {
         this.scriptManagerProperties.getRefreshInterval() == 300_000L
         this.scriptManagerProperties.setRefreshInterval(5_000L)
         this.scriptManagerProperties.getRefreshInterval() == 5_000L
+        this.scriptManagerProperties.getMaxThreads() == 64
+        this.scriptManagerProperties.setMaxThreads(8)
+        this.scriptManagerProperties.getMaxThreads() == 8
+        this.scriptManagerProperties.getQueueCapacity() == 1_000
+        this.scriptManagerProperties.setQueueCapacity(10)
+        this.scriptManagerProperties.getQueueCapacity() == 10
     }
 }
@@ -28,13 +28,16 @@ class ZookeeperPropertiesSpec extends Specification {
         then:
         zkProperties.getLeaderPath() == "/genie/leader/"
         zkProperties.getDiscoveryPath() == "/genie/agents/"
+        zkProperties.getAgentConnectionCountsPath() == "/genie/agentConnectionCounts/"
 
         when:
         zkProperties.setLeaderPath("/genie/my-cluster/leader/")
         zkProperties.setDiscoveryPath("/genie/my-cluster/agents/")
+        zkProperties.setAgentConnectionCountsPath("/genie/my-cluster/agentConnectionCounts/")
 
         then:
         zkProperties.getLeaderPath() == "/genie/my-cluster/leader/"
         zkProperties.getDiscoveryPath() == "/genie/my-cluster/agents/"
+        zkProperties.getAgentConnectionCountsPath() == "/genie/my-cluster/agentConnectionCounts/"
     }
 }
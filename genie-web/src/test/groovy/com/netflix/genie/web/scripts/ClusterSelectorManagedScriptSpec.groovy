@@ -0,0 +1,222 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.scripts
+
+import com.netflix.genie.common.internal.dtos.Cluster
+import com.netflix.genie.common.internal.dtos.ExecutionResourceCriteria
+import com.netflix.genie.common.internal.dtos.JobMetadata
+import com.netflix.genie.common.internal.dtos.JobRequest
+import com.netflix.genie.common.internal.util.PropertiesMapCache
+import com.netflix.genie.web.dtos.ClusterLoad
+import com.netflix.genie.web.exceptions.checked.ResourceSelectionException
+import com.netflix.genie.web.exceptions.checked.ScriptExecutionException
+import com.netflix.genie.web.properties.ClusterSelectorScriptProperties
+import com.netflix.genie.web.selectors.ClusterSelectionContext
+import com.netflix.genie.web.services.ClusterLoadService
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+import javax.script.Bindings
+import java.time.Duration
+import java.time.Instant
+
+/**
+ * Specifications for {@link ClusterSelectorManagedScript}.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+class ClusterSelectorManagedScriptSpec extends Specification {
+
+    URI scriptUri = URI.create("s3://scripts/cluster-selector.groovy")
+    ScriptManager scriptManager
+    PropertiesMapCache cache
+    ClusterSelectorScriptProperties properties
+    Cluster cluster1
+    Cluster cluster2
+    Cluster cluster3
+    ClusterSelectionContext context
+
+    void setup() {
+        this.scriptManager = Mock(ScriptManager)
+        this.cache = Mock(PropertiesMapCache)
+        this.properties = new ClusterSelectorScriptProperties()
+        this.properties.setSource(this.scriptUri)
+        this.cluster1 = Mock(Cluster) {
+            getId() >> "cluster1"
+            getUpdated() >> Instant.EPOCH
+        }
+        this.cluster2 = Mock(Cluster) {
+            getId() >> "cluster2"
+            getUpdated() >> Instant.EPOCH
+        }
+        this.cluster3 = Mock(Cluster) {
+            getId() >> "cluster3"
+            getUpdated() >> Instant.EPOCH
+        }
+        def jobRequest = Mock(JobRequest) {
+            getCriteria() >> Mock(ExecutionResourceCriteria)
+            getMetadata() >> Mock(JobMetadata) {
+                getUser() >> "user"
+            }
+        }
+        this.context = new ClusterSelectionContext(
+            UUID.randomUUID().toString(),
+            jobRequest,
+            true,
+            null,
+            [this.cluster1, this.cluster2, this.cluster3] as Set
+        )
+    }
+
+    def "Selects with a single evaluation when scoring is disabled"() {
+        def script = new ClusterSelectorManagedScript(
+            this.scriptManager,
+            this.properties,
+            new SimpleMeterRegistry(),
+            this.cache,
+            null
+        )
+        def scriptResult = new ResourceSelectorScriptResult.Builder<Cluster>().withResource(this.cluster3).build()
+
+        when:
+        def result = script.selectResource(this.context)
+
+        then:
+        1 * this.cache.get() >> [:]
+        1 * this.scriptManager.evaluateScript(this.scriptUri, _ as Bindings, _) >> {
+            URI uri, Bindings bindings, long timeout ->
+                assert bindings.get(ClusterSelectorManagedScript.CLUSTERS_BINDING) == this.context.getClusters()
+                assert !bindings.containsKey(ClusterSelectorManagedScript.CLUSTER_LOADS_BINDING)
+                return scriptResult
+        }
+        0 * this.scriptManager.evaluateScriptConcurrently(_, _, _)
+        result.getResource().orElse(null) == this.cluster3
+    }
+
+    def "Supplies the load of the candidate clusters when available"() {
+        def clusterLoadService = Mock(ClusterLoadService)
+        def script = new ClusterSelectorManagedScript(
+            this.scriptManager,
+            this.properties,
+            new SimpleMeterRegistry(),
+            this.cache,
+            clusterLoadService
+        )
+        def load1 = new ClusterLoad(3L, 1L, 4096L)
+        def scriptResult = new ResourceSelectorScriptResult.Builder<Cluster>().withResource(this.cluster1).build()
+
+        when:
+        def result = script.selectResource(this.context)
+
+        then:
+        1 * this.cache.get() >> [:]
+        1 * clusterLoadService.getClusterLoad("cluster1") >> load1
+        1 * clusterLoadService.getClusterLoad("cluster2") >> ClusterLoad.NONE
+        1 * clusterLoadService.getClusterLoad("cluster3") >> ClusterLoad.NONE
+        1 * this.scriptManager.evaluateScript(this.scriptUri, _ as Bindings, _) >> {
+            URI uri, Bindings bindings, long timeout ->
+                assert bindings.get(ClusterSelectorManagedScript.CLUSTER_LOADS_BINDING) == [
+                    cluster1: load1,
+                    cluster2: ClusterLoad.NONE,
+                    cluster3: ClusterLoad.NONE
+                ]
+                return scriptResult
+        }
+        result.getResource().orElse(null) == this.cluster1
+    }
+
+    def "Can select the highest scoring cluster and reuse scores"() {
+        this.properties.getScoring().setEnabled(true)
+        this.properties.getScoring().setCacheTimeToLive(Duration.ofMinutes(1))
+        def script = new ClusterSelectorManagedScript(
+            this.scriptManager,
+            this.properties,
+            new SimpleMeterRegistry(),
+            this.cache,
+            null
+        )
+        def scores = [cluster1: 1, cluster2: 5.5d, cluster3: null]
+        def scoreAll = {
+            URI uri, List<Bindings> bindingsList, long timeout ->
+                bindingsList.collect {
+                    Bindings bindings ->
+                        def cluster = bindings.get(ClusterSelectorManagedScript.CLUSTER_BINDING) as Cluster
+                        scores[cluster.getId()]
+                }
+        }
+        def version = new Object()
+
+        when: "Scores are computed"
+        def result = script.selectResource(this.context)
+
+        then:
+        1 * this.cache.get() >> [:]
+        1 * this.scriptManager.getScriptVersion(this.scriptUri) >> version
+        1 * this.scriptManager.evaluateScriptConcurrently(this.scriptUri, { it.size() == 3 }, _) >> scoreAll
+        result.getResource().orElse(null) == this.cluster2
+
+        when: "Scores are reused for the same script version"
+        result = script.selectResource(this.context)
+
+        then:
+        1 * this.cache.get() >> [:]
+        1 * this.scriptManager.getScriptVersion(this.scriptUri) >> version
+        0 * this.scriptManager.evaluateScriptConcurrently(_, _, _)
+        result.getResource().orElse(null) == this.cluster2
+
+        when: "Scores are computed again for a new script version"
+        result = script.selectResource(this.context)
+
+        then:
+        1 * this.cache.get() >> [:]
+        1 * this.scriptManager.getScriptVersion(this.scriptUri) >> new Object()
+        1 * this.scriptManager.evaluateScriptConcurrently(this.scriptUri, { it.size() == 3 }, _) >> [null, null, null]
+        !result.getResource().isPresent()
+        result.getRationale().orElse(null) == ClusterSelectorManagedScript.NO_SCORE_RATIONALE
+    }
+
+    def "Handles scoring errors"() {
+        this.properties.getScoring().setEnabled(true)
+        def script = new ClusterSelectorManagedScript(
+            this.scriptManager,
+            this.properties,
+            new SimpleMeterRegistry(),
+            this.cache,
+            null
+        )
+        def executionException = new ScriptExecutionException("Timed out")
+
+        when:
+        script.selectResource(this.context)
+
+        then:
+        1 * this.cache.get() >> [:]
+        1 * this.scriptManager.evaluateScriptConcurrently(this.scriptUri, _, _) >> ["high", 1, 2]
+        thrown(ResourceSelectionException)
+
+        when:
+        script.selectResource(this.context)
+
+        then:
+        1 * this.cache.get() >> [:]
+        1 * this.scriptManager.evaluateScriptConcurrently(this.scriptUri, _, _) >> { throw executionException }
+        def e = thrown(ResourceSelectionException)
+        e.getCause() == executionException
+    }
+}
@@ -26,6 +26,7 @@ import com.netflix.genie.web.util.MetricsUtils
 import io.micrometer.core.instrument.MeterRegistry
 import io.micrometer.core.instrument.Tag
 import io.micrometer.core.instrument.Timer
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.springframework.core.io.Resource
 import org.springframework.core.io.ResourceLoader
 import org.springframework.scheduling.TaskScheduler
@@ -365,6 +366,58 @@ class ScriptManagerSpec extends Specification {
         result == evaluationResult
     }
 
+    def "evaluateScriptConcurrently"() {
+        URI scriptUri = new URI("s3://genie/scripts/myscript.js")
+        CompiledScript compiledScript = Mock(CompiledScript)
+        MeterRegistry simpleMeterRegistry = new SimpleMeterRegistry()
+        ScriptManager manager = new ScriptManager(
+            scriptManagerProperties,
+            taskScheduler,
+            executorService,
+            scriptEngineManager,
+            resourceLoader,
+            simpleMeterRegistry
+        )
+        List<Bindings> bindingsList = [Mock(Bindings), Mock(Bindings)]
+        long timeout = 5_000L
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout)
+        Future<Object> evalTaskFuture1 = Mock(Future)
+        Future<Object> evalTaskFuture2 = Mock(Future)
+        Object evaluationResult1 = new Object()
+        Object evaluationResult2 = new Object()
+
+        when: "Evaluate script not yet compiled successfully"
+        manager.evaluateScriptConcurrently(scriptUri, bindingsList, timeout)
+
+        then:
+        0 * executorService.submit(_)
+        thrown(ScriptNotConfiguredException)
+        manager.getScriptVersion(scriptUri) == null
+
+        when: "One of the evaluations fails"
+        manager.scriptsMap.put(scriptUri, new AtomicReference<>(compiledScript))
+        manager.evaluateScriptConcurrently(scriptUri, bindingsList, timeout)
+
+        then:
+        2 * executorService.submit(_) >>> [evalTaskFuture1, evalTaskFuture2]
+        1 * evalTaskFuture1.get(_, TimeUnit.NANOSECONDS) >> evaluationResult1
+        1 * evalTaskFuture2.get(_, TimeUnit.NANOSECONDS) >> { throw new TimeoutException("...") }
+        1 * evalTaskFuture1.cancel(true)
+        1 * evalTaskFuture2.cancel(true)
+        thrown(ScriptExecutionException)
+
+        when: "All evaluations succeed"
+        def results = manager.evaluateScriptConcurrently(scriptUri, bindingsList, timeout)
+
+        then:
+        2 * executorService.submit(_) >>> [evalTaskFuture1, evalTaskFuture2]
+        1 * evalTaskFuture1.get({ it <= timeoutNanos }, TimeUnit.NANOSECONDS) >> evaluationResult1
+        1 * evalTaskFuture2.get({ it <= timeoutNanos }, TimeUnit.NANOSECONDS) >> evaluationResult2
+        results == [evaluationResult1, evaluationResult2]
+        manager.getScriptVersion(scriptUri) == compiledScript
+        simpleMeterRegistry.find(ScriptManager.SCRIPT_EVALUATE_CONCURRENTLY_TIMER_NAME).timers().size() == 3
+    }
+
     abstract class CompilableScriptEngine implements ScriptEngine, Compilable {
     }
 
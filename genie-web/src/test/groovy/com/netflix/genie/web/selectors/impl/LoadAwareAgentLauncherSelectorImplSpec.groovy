@@ -0,0 +1,198 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.selectors.impl
+
+import com.netflix.genie.common.internal.dtos.ComputeResources
+import com.netflix.genie.common.internal.dtos.JobEnvironment
+import com.netflix.genie.common.internal.dtos.JobRequest
+import com.netflix.genie.common.internal.dtos.JobRequestMetadata
+import com.netflix.genie.web.agent.launchers.AgentLauncher
+import com.netflix.genie.web.dtos.ResolvedJob
+import com.netflix.genie.web.dtos.ResourceSelectionResult
+import com.netflix.genie.web.exceptions.checked.ResourceSelectionException
+import com.netflix.genie.web.properties.LoadAwareAgentLauncherSelectorProperties
+import com.netflix.genie.web.selectors.AgentLauncherSelectionContext
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.boot.actuate.health.Health
+import spock.lang.Specification
+
+import java.time.Duration
+
+/**
+ * Specifications for the {@link LoadAwareAgentLauncherSelectorImpl} class.
+ */
+class LoadAwareAgentLauncherSelectorImplSpec extends Specification {
+
+    LoadAwareAgentLauncherSelectorProperties properties
+    SimpleMeterRegistry registry
+    AgentLauncher idleLauncher
+    AgentLauncher busyLauncher
+    AgentLauncher fullLauncher
+    AgentLauncher titusLauncher
+
+    def setup() {
+        this.properties = new LoadAwareAgentLauncherSelectorProperties()
+        this.registry = new SimpleMeterRegistry()
+        this.idleLauncher = Mock(AgentLauncher)
+        this.busyLauncher = Mock(AgentLauncher)
+        this.fullLauncher = Mock(AgentLauncher)
+        this.titusLauncher = Mock(AgentLauncher)
+    }
+
+    static Health localHealth(final long allocatedMemory, final long availableMemory) {
+        return (availableMemory >= 2_000L ? Health.up() : Health.down())
+            .withDetail("numActiveJobs", 1)
+            .withDetail("allocatedMemory", allocatedMemory)
+            .withDetail("availableMemory", availableMemory)
+            .build()
+    }
+
+    AgentLauncherSelectionContext context(final Collection<AgentLauncher> launchers, final Long jobMemory) {
+        ResolvedJob resolvedJob = Mock(ResolvedJob) {
+            getJobEnvironment() >> new JobEnvironment.Builder()
+                .withComputeResources(new ComputeResources.Builder().withMemoryMb(jobMemory).build())
+                .build()
+        }
+        return new AgentLauncherSelectionContext(
+            UUID.randomUUID().toString(),
+            Mock(JobRequest),
+            Mock(JobRequestMetadata),
+            resolvedJob,
+            launchers
+        )
+    }
+
+    def "Compute load from health details"() {
+        def selector = new LoadAwareAgentLauncherSelectorImpl([idleLauncher], properties, registry)
+
+        expect:
+        selector.computeLoad(details) == load
+
+        where:
+        details                                                            | load
+        [allocatedMemory: 0L, availableMemory: 10_000L]                    | 0.0d
+        [allocatedMemory: 2_500L, availableMemory: 7_500L]                 | 0.25d
+        [allocatedMemory: 12_000L, availableMemory: -2_000L]               | 1.0d
+        [allocatedMemory: 2_500L, availableMemory: 7_500L, cpuLoad: 80.0d] | 0.8d
+        [cpuLoad: 30.0d]                                                   | 0.3d
+        [titusId: "abc"]                                                   | 0.5d
+        [:]                                                                | 0.5d
+    }
+
+    def "Least loaded launcher with room for the job is selected"() {
+        properties.setStrategy(LoadAwareAgentLauncherSelectorProperties.Strategy.LEAST_LOADED)
+        def launchers = [busyLauncher, idleLauncher, fullLauncher, titusLauncher]
+        def selector = new LoadAwareAgentLauncherSelectorImpl(launchers, properties, registry)
+
+        when:
+        ResourceSelectionResult<AgentLauncher> result = selector.select(context(launchers, 2_048L))
+
+        then:
+        1 * busyLauncher.health() >> localHealth(6_000L, 4_000L)
+        1 * idleLauncher.health() >> localHealth(1_000L, 9_000L)
+        1 * fullLauncher.health() >> localHealth(9_000L, 1_000L)
+        1 * titusLauncher.health() >> Health.up().build()
+        result.getSelectedResource().orElse(null) == idleLauncher
+        result.getSelectionRationale().orElse("").contains("leastLoaded")
+        registry
+            .find(LoadAwareAgentLauncherSelectorImpl.SELECT_TIMER_NAME)
+            .tag(LoadAwareAgentLauncherSelectorImpl.SELECTION_TAG, "leastLoaded")
+            .timer()
+            .count() == 1
+
+        when: "Health is reused within its time to live"
+        result = selector.select(context(launchers, 2_048L))
+
+        then:
+        0 * busyLauncher.health()
+        0 * idleLauncher.health()
+        0 * fullLauncher.health()
+        0 * titusLauncher.health()
+        result.getSelectedResource().orElse(null) == idleLauncher
+    }
+
+    def "Launchers without enough memory for the job are left out"() {
+        properties.setStrategy(LoadAwareAgentLauncherSelectorProperties.Strategy.LEAST_LOADED)
+        def launchers = [busyLauncher, idleLauncher]
+        def selector = new LoadAwareAgentLauncherSelectorImpl(launchers, properties, registry)
+
+        when:
+        ResourceSelectionResult<AgentLauncher> result = selector.select(context(launchers, 6_000L))
+
+        then:
+        1 * busyLauncher.health() >> localHealth(1_000L, 5_000L)
+        1 * idleLauncher.health() >> localHealth(4_000L, 16_000L)
+        result.getSelectedResource().orElse(null) == idleLauncher
+        result.getSelectionRationale().orElse("").contains("single")
+    }
+
+    def "Power of two choices never selects the most loaded of two launchers"() {
+        properties.setHealthTtl(Duration.ofMinutes(1))
+        def launchers = [busyLauncher, idleLauncher]
+        def selector = new LoadAwareAgentLauncherSelectorImpl(launchers, properties, registry)
+        busyLauncher.health() >> localHealth(6_000L, 6_000L)
+        idleLauncher.health() >> localHealth(1_000L, 11_000L)
+
+        expect:
+        (1..20).every {
+            selector.select(context(launchers, null)).getSelectedResource().orElse(null) == idleLauncher
+        }
+        registry
+            .find(LoadAwareAgentLauncherSelectorImpl.SELECT_TIMER_NAME)
+            .tag(LoadAwareAgentLauncherSelectorImpl.SELECTION_TAG, "powerOfTwoChoices")
+            .timer()
+            .count() == 20
+    }
+
+    def "Falls back to a random launcher when none reports capacity"() {
+        def launchers = [busyLauncher, fullLauncher]
+        def selector = new LoadAwareAgentLauncherSelectorImpl(launchers, properties, registry)
+
+        when:
+        ResourceSelectionResult<AgentLauncher> result = selector.select(context(launchers, null))
+
+        then:
+        1 * busyLauncher.health() >> { throw new IllegalStateException("unreachable") }
+        1 * fullLauncher.health() >> localHealth(9_000L, 1_000L)
+        result.getSelectedResource().isPresent()
+        launchers.contains(result.getSelectedResource().get())
+        result.getSelectionRationale().orElse(null) == LoadAwareAgentLauncherSelectorImpl.FALLBACK_RATIONALE
+        registry
+            .find(LoadAwareAgentLauncherSelectorImpl.SELECT_TIMER_NAME)
+            .tag(LoadAwareAgentLauncherSelectorImpl.SELECTION_TAG, "fallback")
+            .timer()
+            .count() == 1
+    }
+
+    def "Unexpected errors are wrapped"() {
+        def launchers = [idleLauncher]
+        def selector = new LoadAwareAgentLauncherSelectorImpl(launchers, properties, registry)
+        def context = Mock(AgentLauncherSelectionContext) {
+            getAgentLaunchers() >> launchers.toSet()
+            getResolvedJob() >> { throw new IllegalStateException("broken") }
+        }
+
+        when:
+        selector.select(context)
+
+        then:
+        thrown(ResourceSelectionException)
+        registry.find(LoadAwareAgentLauncherSelectorImpl.SELECT_TIMER_NAME).timer().count() == 1
+        selector.getAgentLaunchers() == launchers.toSet()
+    }
+}
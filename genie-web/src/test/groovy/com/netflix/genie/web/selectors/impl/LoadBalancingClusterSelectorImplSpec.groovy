@@ -0,0 +1,185 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.selectors.impl
+
+import com.netflix.genie.common.internal.dtos.Cluster
+import com.netflix.genie.common.internal.dtos.ClusterMetadata
+import com.netflix.genie.common.internal.dtos.ComputeResources
+import com.netflix.genie.common.internal.dtos.JobEnvironmentRequest
+import com.netflix.genie.common.internal.dtos.JobRequest
+import com.netflix.genie.web.dtos.ClusterLoad
+import com.netflix.genie.web.exceptions.checked.ResourceSelectionException
+import com.netflix.genie.web.properties.LoadBalancingClusterSelectorProperties
+import com.netflix.genie.web.selectors.ClusterSelectionContext
+import com.netflix.genie.web.services.ClusterLoadService
+import com.netflix.genie.web.util.MetricsConstants
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import spock.lang.Specification
+
+/**
+ * Specifications for the {@link LoadBalancingClusterSelectorImpl} class.
+ */
+class LoadBalancingClusterSelectorImplSpec extends Specification {
+
+    ClusterLoadService clusterLoadService
+    LoadBalancingClusterSelectorProperties properties
+    SimpleMeterRegistry registry
+    Cluster cluster1
+    Cluster cluster2
+    ClusterSelectionContext context
+
+    def setup() {
+        this.clusterLoadService = Mock(ClusterLoadService)
+        this.properties = new LoadBalancingClusterSelectorProperties()
+        this.registry = new SimpleMeterRegistry()
+        this.cluster1 = cluster("cluster1")
+        this.cluster2 = cluster("cluster2")
+        def jobRequest = Mock(JobRequest) {
+            getRequestedJobEnvironment() >> Mock(JobEnvironmentRequest) {
+                getRequestedComputeResources() >> Mock(ComputeResources) {
+                    getMemoryMb() >> Optional.of(2_048L)
+                }
+            }
+        }
+        this.context = new ClusterSelectionContext(
+            UUID.randomUUID().toString(),
+            jobRequest,
+            true,
+            null,
+            [this.cluster1, this.cluster2] as Set
+        )
+    }
+
+    def "Selects the least loaded cluster"() {
+        this.properties.setStickiness(0.0d)
+        def selector = new LoadBalancingClusterSelectorImpl(this.clusterLoadService, this.properties, this.registry)
+
+        when:
+        def result = selector.select(this.context)
+
+        then:
+        1 * this.clusterLoadService.getClusterLoad("cluster1") >> new ClusterLoad(5L, 1L, 0L)
+        1 * this.clusterLoadService.getClusterLoad("cluster2") >> new ClusterLoad(2L, 3L, 0L)
+        0 * this.clusterLoadService.recordSelection(_, _)
+        result.getSelectedResource().orElse(null) == this.cluster2
+        result.getSelectorClass() == LoadBalancingClusterSelectorImpl.class
+        result.getSelectionRationale().isPresent()
+        this.registry
+            .get(LoadBalancingClusterSelectorImpl.SELECT_TIMER_NAME)
+            .tag(MetricsConstants.TagKeys.STATUS, MetricsConstants.TagValues.SUCCESS)
+            .tag(MetricsConstants.TagKeys.CLUSTER_ID, "cluster2")
+            .tag("sticky", "false")
+            .timer()
+            .count() == 1
+
+        when: "Weights make queued jobs count more"
+        this.properties.setQueuedJobsWeight(3.0d)
+        result = selector.select(this.context)
+
+        then:
+        1 * this.clusterLoadService.getClusterLoad("cluster1") >> new ClusterLoad(5L, 1L, 0L)
+        1 * this.clusterLoadService.getClusterLoad("cluster2") >> new ClusterLoad(2L, 3L, 0L)
+        result.getSelectedResource().orElse(null) == this.cluster1
+
+        when: "Memory is weighed in"
+        this.properties.setQueuedJobsWeight(1.0d)
+        this.properties.setMemoryWeight(1.0d)
+        result = selector.select(this.context)
+
+        then:
+        1 * this.clusterLoadService.getClusterLoad("cluster1") >> new ClusterLoad(5L, 1L, 1_024L)
+        1 * this.clusterLoadService.getClusterLoad("cluster2") >> new ClusterLoad(2L, 3L, 8_192L)
+        result.getSelectedResource().orElse(null) == this.cluster1
+    }
+
+    def "Keeps the previously selected cluster within the stickiness"() {
+        this.properties.setStickiness(0.5d)
+        def selector = new LoadBalancingClusterSelectorImpl(this.clusterLoadService, this.properties, this.registry)
+
+        when:
+        def result = selector.select(this.context)
+
+        then:
+        1 * this.clusterLoadService.getClusterLoad("cluster1") >> new ClusterLoad(4L, 0L, 0L)
+        1 * this.clusterLoadService.getClusterLoad("cluster2") >> new ClusterLoad(6L, 0L, 0L)
+        result.getSelectedResource().orElse(null) == this.cluster1
+
+        when: "The previous cluster is more loaded but within the stickiness"
+        result = selector.select(this.context)
+
+        then:
+        1 * this.clusterLoadService.getClusterLoad("cluster1") >> new ClusterLoad(6L, 0L, 0L)
+        1 * this.clusterLoadService.getClusterLoad("cluster2") >> new ClusterLoad(4L, 0L, 0L)
+        result.getSelectedResource().orElse(null) == this.cluster1
+        this.registry
+            .get(LoadBalancingClusterSelectorImpl.SELECT_TIMER_NAME)
+            .tag("sticky", "true")
+            .timer()
+            .count() == 1
+
+        when: "The previous cluster is more loaded beyond the stickiness"
+        result = selector.select(this.context)
+
+        then:
+        1 * this.clusterLoadService.getClusterLoad("cluster1") >> new ClusterLoad(7L, 0L, 0L)
+        1 * this.clusterLoadService.getClusterLoad("cluster2") >> new ClusterLoad(4L, 0L, 0L)
+        result.getSelectedResource().orElse(null) == this.cluster2
+
+        when: "A different set of candidates isn't sticky"
+        def otherContext = new ClusterSelectionContext(
+            UUID.randomUUID().toString(),
+            this.context.getJobRequest(),
+            true,
+            null,
+            [this.cluster1] as Set
+        )
+        result = selector.select(otherContext)
+
+        then:
+        1 * this.clusterLoadService.getClusterLoad("cluster1") >> new ClusterLoad(7L, 0L, 0L)
+        result.getSelectedResource().orElse(null) == this.cluster1
+    }
+
+    def "Surfaces errors reading the load"() {
+        def selector = new LoadBalancingClusterSelectorImpl(this.clusterLoadService, this.properties, this.registry)
+        def exception = new IllegalStateException("broken")
+
+        when:
+        selector.select(this.context)
+
+        then:
+        1 * this.clusterLoadService.getClusterLoad(_ as String) >> { throw exception }
+        0 * this.clusterLoadService.recordSelection(_, _)
+        def e = thrown(ResourceSelectionException)
+        e.getCause() == exception
+        this.registry
+            .get(LoadBalancingClusterSelectorImpl.SELECT_TIMER_NAME)
+            .tag(MetricsConstants.TagKeys.STATUS, MetricsConstants.TagValues.FAILURE)
+            .timer()
+            .count() == 1
+    }
+
+    private Cluster cluster(final String id) {
+        return Mock(Cluster) {
+            getId() >> id
+            getMetadata() >> Mock(ClusterMetadata) {
+                getName() >> id + "-name"
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.netflix.genie.common.internal.dtos.JobRequest
 import com.netflix.genie.web.dtos.ResourceSelectionResult
 import com.netflix.genie.web.exceptions.checked.ResourceSelectionException
 import com.netflix.genie.web.exceptions.checked.ScriptExecutionException
+import com.netflix.genie.web.properties.ClusterSelectorScriptProperties
 import com.netflix.genie.web.scripts.ClusterSelectorManagedScript
 import com.netflix.genie.web.scripts.ResourceSelectorScriptResult
 import com.netflix.genie.web.selectors.ClusterSelectionContext
@@ -32,8 +33,10 @@ import com.netflix.genie.web.util.MetricsUtils
 import io.micrometer.core.instrument.MeterRegistry
 import io.micrometer.core.instrument.Tag
 import io.micrometer.core.instrument.Timer
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import spock.lang.Specification
 
+import java.time.Duration
 import java.util.concurrent.TimeUnit
 
 /**
@@ -51,7 +54,11 @@ class ScriptClusterSelectorImplSpec extends Specification {
         this.timer = Mock(Timer)
         this.script = Mock(ClusterSelectorManagedScript)
         this.registry = Mock(MeterRegistry)
-        this.scriptClusterSelector = new ScriptClusterSelectorImpl(this.script, this.registry)
+        this.scriptClusterSelector = new ScriptClusterSelectorImpl(
+            this.script,
+            new ClusterSelectorScriptProperties(),
+            this.registry
+        )
     }
 
     def "can select a cluster"() {
@@ -129,4 +136,44 @@ class ScriptClusterSelectorImplSpec extends Specification {
         result.getSelectionRationale().orElse(null) == "Cluster 2 was good"
         result.getSelectorClass() == ScriptClusterSelectorImpl.class
     }
+
+    def "can bypass the script after repeated failures"() {
+        def properties = new ClusterSelectorScriptProperties()
+        properties.getCircuitBreaker().setEnabled(true)
+        properties.getCircuitBreaker().setFailureThreshold(2)
+        properties.getCircuitBreaker().setOpenDuration(Duration.ofMinutes(10))
+        def meterRegistry = new SimpleMeterRegistry()
+        def selector = new ScriptClusterSelectorImpl(this.script, properties, meterRegistry)
+        def cluster = Mock(Cluster)
+        def context = new ClusterSelectionContext(
+            UUID.randomUUID().toString(),
+            Mock(JobRequest),
+            true,
+            null,
+            [cluster] as Set
+        )
+
+        when: "The script fails fewer times than the threshold"
+        selector.select(context)
+
+        then:
+        1 * this.script.selectResource(context) >> { throw new ScriptExecutionException("some error") }
+        thrown(ResourceSelectionException)
+
+        when: "The script fails as many times as the threshold"
+        selector.select(context)
+
+        then:
+        1 * this.script.selectResource(context) >> { throw new ScriptExecutionException("some error") }
+        thrown(ResourceSelectionException)
+
+        when: "The script is bypassed"
+        def result = selector.select(context)
+
+        then:
+        0 * this.script.selectResource(_)
+        result.getSelectedResource().orElse(null) == cluster
+        result.getSelectorClass() == RandomClusterSelectorImpl.class
+        meterRegistry.counter(ScriptClusterSelectorImpl.BYPASS_COUNTER_NAME).count() == 1
+    }
 }
@@ -0,0 +1,250 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services.impl
+
+import com.netflix.genie.common.internal.dtos.JobStatus
+import com.netflix.genie.web.data.services.DataServices
+import com.netflix.genie.web.data.services.PersistenceService
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.UserHostJobResourcesAggregate
+import com.netflix.genie.web.dtos.ActiveResourcesSummary
+import com.netflix.genie.web.dtos.JobResources
+import com.netflix.genie.web.events.JobStateChangeEvent
+import com.netflix.genie.web.properties.ActiveJobResourcesProperties
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.scheduling.TaskScheduler
+import spock.lang.Specification
+
+import java.time.Duration
+
+class ActiveJobResourcesServiceImplSpec extends Specification {
+    PersistenceService persistenceService
+    TaskScheduler taskScheduler
+    ActiveJobResourcesProperties properties
+    SimpleMeterRegistry registry
+    ActiveJobResourcesServiceImpl service
+
+    def setup() {
+        this.persistenceService = Mock(PersistenceService)
+        this.taskScheduler = Mock(TaskScheduler)
+        this.properties = new ActiveJobResourcesProperties()
+        this.registry = new SimpleMeterRegistry()
+        def dataServices = Mock(DataServices) {
+            getPersistenceService() >> this.persistenceService
+        }
+        this.service = new ActiveJobResourcesServiceImpl(
+            dataServices,
+            this.taskScheduler,
+            this.properties,
+            this.registry
+        )
+    }
+
+    def "Reconciliation is scheduled"() {
+        def dataServices = Mock(DataServices) {
+            getPersistenceService() >> this.persistenceService
+        }
+
+        when:
+        new ActiveJobResourcesServiceImpl(dataServices, this.taskScheduler, this.properties, this.registry)
+
+        then:
+        1 * this.taskScheduler.scheduleWithFixedDelay(_ as Runnable, Duration.ofSeconds(30))
+    }
+
+    def "Totals are empty until something is observed"() {
+        expect:
+        this.service.getUserResources("user") == ActiveResourcesSummary.NONE
+        this.service.getHostResources("host") == ActiveResourcesSummary.NONE
+        this.service.getUserResourcesSummaries(true).isEmpty()
+        this.service.getUserResourcesSummaries(false).isEmpty()
+    }
+
+    def "Totals are updated incrementally from job status changes"() {
+        when: "A job is reserved"
+        this.service.onApplicationEvent(event("job1", null, JobStatus.RESERVED, "alice", true, null, 0L, 0L))
+
+        then: "It isn't counted until it is allocated resources"
+        this.service.getUserResources("alice") == ActiveResourcesSummary.NONE
+
+        when: "The job is resolved"
+        this.service.onApplicationEvent(
+            event("job1", JobStatus.RESERVED, JobStatus.RESOLVED, "alice", true, null, 1_024L, 2L)
+        )
+
+        then: "It is attributed to its user but not to any host yet"
+        this.service.getUserResources("alice") == new ActiveResourcesSummary(1L, 1_024L, 2L)
+        this.service.getHostResources("host1") == ActiveResourcesSummary.NONE
+        this.service.getUserResourcesSummaries(true).get("alice").getRunningJobsCount() == 1L
+        this.service.getUserResourcesSummaries(true).get("alice").getUsedMemory() == 1_024L
+        this.service.getUserResourcesSummaries(false).isEmpty()
+
+        when: "The job is accepted"
+        this.service.onApplicationEvent(
+            event("job1", JobStatus.RESOLVED, JobStatus.ACCEPTED, "alice", true, null, 1_024L, 2L)
+        )
+
+        then: "Nothing changes"
+        this.service.getUserResources("alice") == new ActiveResourcesSummary(1L, 1_024L, 2L)
+
+        when: "The job is claimed and another job from the same user is resolved and claimed on the same host"
+        this.service.onApplicationEvent(
+            event("job1", JobStatus.ACCEPTED, JobStatus.CLAIMED, "alice", true, "host1", 1_024L, 2L)
+        )
+        this.service.onApplicationEvent(
+            event("job2", JobStatus.RESERVED, JobStatus.RESOLVED, "alice", false, null, 512L, 0L)
+        )
+        this.service.onApplicationEvent(
+            event("job2", JobStatus.RESOLVED, JobStatus.CLAIMED, "alice", false, "host1", 512L, 0L)
+        )
+
+        then: "The jobs are attributed to the host and aren't counted twice"
+        this.service.getUserResources("alice") == new ActiveResourcesSummary(2L, 1_536L, 2L)
+        this.service.getHostResources("host1") == new ActiveResourcesSummary(2L, 1_536L, 2L)
+        this.service.getUserResourcesSummaries(true).get("alice").getRunningJobsCount() == 1L
+        this.service.getUserResourcesSummaries(false).get("alice").getRunningJobsCount() == 1L
+        this.registry.get("genie.jobs.activeResources.numActiveJobs.gauge").gauge().value() == 2
+
+        when: "A job finishes"
+        this.service.onApplicationEvent(
+            event("job1", JobStatus.RUNNING, JobStatus.SUCCEEDED, "alice", true, "host1", 1_024L, 2L)
+        )
+
+        then: "Its resources are released"
+        this.service.getUserResources("alice") == new ActiveResourcesSummary(1L, 512L, 0L)
+        this.service.getHostResources("host1") == new ActiveResourcesSummary(1L, 512L, 0L)
+        this.service.getUserResourcesSummaries(true).isEmpty()
+
+        when: "A job which was never counted finishes"
+        this.service.onApplicationEvent(
+            event("job3", JobStatus.RUNNING, JobStatus.FAILED, "bob", true, "host1", 1_024L, 2L)
+        )
+
+        then: "The totals don't go negative"
+        this.service.getUserResources("bob") == ActiveResourcesSummary.NONE
+        this.service.getHostResources("host1") == new ActiveResourcesSummary(1L, 512L, 0L)
+
+        when: "The status change doesn't carry the resources of the job"
+        this.service.onApplicationEvent(new JobStateChangeEvent("job2", JobStatus.RUNNING, JobStatus.KILLED, this))
+
+        then: "The totals are unchanged and no database read happens"
+        0 * this.persistenceService._
+        this.service.getUserResources("alice") == new ActiveResourcesSummary(1L, 512L, 0L)
+    }
+
+    def "Totals are rebuilt from the database on reconcile"() {
+        this.service.onApplicationEvent(
+            event("job1", JobStatus.ACCEPTED, JobStatus.CLAIMED, "alice", true, "host1", 1_024L, 2L)
+        )
+
+        when: "Another node finished the job and claimed new ones"
+        this.service.reconcile()
+
+        then:
+        1 * this.persistenceService.getActiveUserHostJobResources() >> ([
+            aggregate("bob", true, "host2", 1L, 2_048L, 4L),
+            aggregate("bob", false, null, 2L, 1_024L, 2L)
+        ] as Set)
+        this.service.getUserResources("alice") == ActiveResourcesSummary.NONE
+        this.service.getHostResources("host1") == ActiveResourcesSummary.NONE
+        this.service.getUserResources("bob") == new ActiveResourcesSummary(3L, 3_072L, 6L)
+        this.service.getHostResources("host2") == new ActiveResourcesSummary(1L, 2_048L, 4L)
+        this.service.getUserResourcesSummaries(true).get("bob").getRunningJobsCount() == 1L
+        this.service.getUserResourcesSummaries(false).get("bob").getRunningJobsCount() == 2L
+        this.registry.get("genie.jobs.activeResources.numActiveJobs.gauge").gauge().value() == 3
+        this.registry.get("genie.jobs.activeResources.reconcile.timer").timer().count() == 1
+
+        when: "The database can't be read"
+        this.service.reconcile()
+
+        then: "The previous totals are kept"
+        1 * this.persistenceService.getActiveUserHostJobResources() >> { throw new RuntimeException("down") }
+        this.service.getUserResources("bob") == new ActiveResourcesSummary(3L, 3_072L, 6L)
+        noExceptionThrown()
+    }
+
+    def "Changes observed while reconciling are kept"() {
+        when:
+        this.service.reconcile()
+
+        then:
+        1 * this.persistenceService.getActiveUserHostJobResources() >> {
+            // The job finishes after it was read as part of the active jobs
+            this.service.onApplicationEvent(
+                event("job1", JobStatus.RUNNING, JobStatus.FAILED, "alice", true, "host1", 1_024L, 2L)
+            )
+            [aggregate("alice", true, "host1", 2L, 2_048L, 4L)] as Set
+        }
+        this.service.getUserResources("alice") == new ActiveResourcesSummary(1L, 1_024L, 2L)
+        this.service.getHostResources("host1") == new ActiveResourcesSummary(1L, 1_024L, 2L)
+    }
+
+    def "Changes which happened before the database was read aren't applied twice"() {
+        def event = event("job1", JobStatus.RESOLVED, JobStatus.CLAIMED, "alice", true, "host1", 1_024L, 2L)
+        // Make sure the snapshot is read strictly after the change
+        Thread.sleep(5L)
+
+        when:
+        this.service.reconcile()
+
+        then:
+        1 * this.persistenceService.getActiveUserHostJobResources() >> {
+            // The change was persisted before the read so it is part of it but is only observed now
+            this.service.onApplicationEvent(event)
+            [aggregate("alice", true, "host1", 1L, 1_024L, 2L)] as Set
+        }
+        this.service.getUserResources("alice") == new ActiveResourcesSummary(1L, 1_024L, 2L)
+        this.service.getHostResources("host1") == new ActiveResourcesSummary(1L, 1_024L, 2L)
+    }
+
+    private JobStateChangeEvent event(
+        final String jobId,
+        final JobStatus previousStatus,
+        final JobStatus newStatus,
+        final String user,
+        final boolean api,
+        final String hostname,
+        final long memory,
+        final long cpu
+    ) {
+        return new JobStateChangeEvent(
+            jobId,
+            previousStatus,
+            newStatus,
+            new JobResources(user, api, hostname, memory, cpu),
+            this
+        )
+    }
+
+    private UserHostJobResourcesAggregate aggregate(
+        final String user,
+        final boolean api,
+        final String hostname,
+        final long numberOfJobs,
+        final long memory,
+        final long cpu
+    ) {
+        return Stub(UserHostJobResourcesAggregate) {
+            getUser() >> user
+            isApi() >> api
+            getAgentHostname() >> hostname
+            getNumberOfJobs() >> numberOfJobs
+            getMemory() >> memory
+            getCpu() >> cpu
+        }
+    }
+}
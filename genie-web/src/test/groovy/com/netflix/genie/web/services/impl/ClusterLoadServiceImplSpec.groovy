@@ -0,0 +1,217 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services.impl
+
+import com.netflix.genie.common.internal.dtos.JobStatus
+import com.netflix.genie.web.data.services.DataServices
+import com.netflix.genie.web.data.services.PersistenceService
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.ClusterJobResourcesAggregate
+import com.netflix.genie.web.dtos.ClusterLoad
+import com.netflix.genie.web.properties.LoadBalancingClusterSelectorProperties
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.scheduling.TaskScheduler
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.ScheduledFuture
+
+class ClusterLoadServiceImplSpec extends Specification {
+    PersistenceService persistenceService
+    TaskScheduler taskScheduler
+    LoadBalancingClusterSelectorProperties properties
+    SimpleMeterRegistry registry
+    ClusterLoadServiceImpl service
+
+    def setup() {
+        this.persistenceService = Mock(PersistenceService)
+        this.taskScheduler = Mock(TaskScheduler)
+        this.properties = new LoadBalancingClusterSelectorProperties()
+        this.registry = new SimpleMeterRegistry()
+        def dataServices = Mock(DataServices) {
+            getPersistenceService() >> this.persistenceService
+        }
+        this.service = new ClusterLoadServiceImpl(
+            dataServices,
+            this.taskScheduler,
+            this.properties,
+            this.registry
+        )
+    }
+
+    def "Refresh is scheduled and cancelled on shutdown"() {
+        def dataServices = Mock(DataServices) {
+            getPersistenceService() >> this.persistenceService
+        }
+        def refreshFuture = Mock(ScheduledFuture)
+
+        when:
+        def service = new ClusterLoadServiceImpl(dataServices, this.taskScheduler, this.properties, this.registry)
+
+        then:
+        1 * this.taskScheduler.scheduleWithFixedDelay(_ as Runnable, Duration.ofSeconds(10)) >> refreshFuture
+
+        when:
+        service.shutdown()
+
+        then:
+        1 * refreshFuture.cancel(false)
+    }
+
+    def "Load is empty until refreshed"() {
+        expect:
+        this.service.getClusterLoad("cluster1") == ClusterLoad.NONE
+        this.service.getClusterLoads().isEmpty()
+    }
+
+    def "Load is rebuilt from the database"() {
+        when:
+        this.service.refresh()
+
+        then:
+        1 * this.persistenceService.getActiveClusterJobResources() >> [
+            aggregate("cluster1", JobStatus.RESOLVED, 2L, 2_048L),
+            aggregate("cluster1", JobStatus.ACCEPTED, 1L, 1_024L),
+            aggregate("cluster1", JobStatus.RUNNING, 5L, 10_240L),
+            aggregate("cluster1", JobStatus.INIT, 1L, 512L),
+            aggregate("cluster2", JobStatus.CLAIMED, 3L, null),
+            aggregate("cluster2", JobStatus.SUCCEEDED, 7L, 7_168L),
+            aggregate("cluster3", "UNKNOWN", 4L, 4_096L),
+        ] as Set
+        this.service.getClusterLoad("cluster1") == new ClusterLoad(6L, 3L, 13_824L)
+        this.service.getClusterLoad("cluster2") == new ClusterLoad(3L, 0L, 0L)
+        this.service.getClusterLoad("cluster3") == ClusterLoad.NONE
+        this.service.getClusterLoads() == [
+            cluster1: new ClusterLoad(6L, 3L, 13_824L),
+            cluster2: new ClusterLoad(3L, 0L, 0L)
+        ]
+        this.registry.get("genie.jobs.clusters.load.numClusters.gauge").gauge().value() == 2
+        this.registry.get("genie.jobs.clusters.load.refresh.timer").tag("status", "success").timer().count() == 1
+
+        when: "The database can't be read"
+        this.service.refresh()
+
+        then: "The previous load is kept"
+        1 * this.persistenceService.getActiveClusterJobResources() >> { throw new RuntimeException("down") }
+        this.service.getClusterLoad("cluster1") == new ClusterLoad(6L, 3L, 13_824L)
+        this.registry.get("genie.jobs.clusters.load.refresh.timer").tag("status", "failure").timer().count() == 1
+    }
+
+    def "Recorded selections are added until the next refresh"() {
+        when:
+        this.service.refresh()
+        this.service.recordSelection("cluster1", 1_024L)
+        this.service.recordSelection("cluster1", 0L)
+        this.service.recordSelection("cluster2", 512L)
+
+        then:
+        1 * this.persistenceService.getActiveClusterJobResources() >> [
+            aggregate("cluster1", JobStatus.RUNNING, 1L, 2_048L)
+        ] as Set
+        this.service.getClusterLoad("cluster1") == new ClusterLoad(1L, 2L, 3_072L)
+        this.service.getClusterLoad("cluster2") == new ClusterLoad(0L, 1L, 512L)
+        this.service.getClusterLoads() == [
+            cluster1: new ClusterLoad(1L, 2L, 3_072L),
+            cluster2: new ClusterLoad(0L, 1L, 512L)
+        ]
+
+        when:
+        this.service.refresh()
+
+        then:
+        1 * this.persistenceService.getActiveClusterJobResources() >> [
+            aggregate("cluster1", JobStatus.RESOLVED, 2L, 1_024L)
+        ] as Set
+        this.service.getClusterLoad("cluster1") == new ClusterLoad(0L, 2L, 1_024L)
+        this.service.getClusterLoad("cluster2") == ClusterLoad.NONE
+    }
+
+    def "Selections recorded while the database is read are kept after the refresh"() {
+        when:
+        this.service.recordSelection("cluster1", 1_024L)
+        this.service.refresh()
+
+        then: "Only the selection recorded before the read is dropped"
+        1 * this.persistenceService.getActiveClusterJobResources() >> {
+            assert this.service.getClusterLoad("cluster1") == new ClusterLoad(0L, 1L, 1_024L)
+            this.service.recordSelection("cluster1", 256L)
+            return [aggregate("cluster1", JobStatus.RESOLVED, 1L, 1_024L)] as Set
+        }
+        this.service.getClusterLoad("cluster1") == new ClusterLoad(0L, 2L, 1_280L)
+        this.service.getClusterLoads() == [cluster1: new ClusterLoad(0L, 2L, 1_280L)]
+
+        when:
+        this.service.refresh()
+
+        then:
+        1 * this.persistenceService.getActiveClusterJobResources() >> [
+            aggregate("cluster1", JobStatus.RESOLVED, 2L, 1_280L)
+        ] as Set
+        this.service.getClusterLoad("cluster1") == new ClusterLoad(0L, 2L, 1_280L)
+    }
+
+    def "Selections are kept until a refresh succeeds"() {
+        when:
+        this.service.recordSelection("cluster1", 1_024L)
+        this.service.refresh()
+        this.service.recordSelection("cluster1", 512L)
+
+        then:
+        1 * this.persistenceService.getActiveClusterJobResources() >> { throw new RuntimeException("down") }
+        this.service.getClusterLoad("cluster1") == new ClusterLoad(0L, 2L, 1_536L)
+
+        when:
+        this.service.refresh()
+
+        then:
+        1 * this.persistenceService.getActiveClusterJobResources() >> { throw new RuntimeException("down") }
+        this.service.getClusterLoad("cluster1") == new ClusterLoad(0L, 2L, 1_536L)
+        this.service.getClusterLoads() == [cluster1: new ClusterLoad(0L, 2L, 1_536L)]
+
+        when:
+        this.service.refresh()
+
+        then:
+        1 * this.persistenceService.getActiveClusterJobResources() >> [
+            aggregate("cluster1", JobStatus.RESOLVED, 2L, 1_536L)
+        ] as Set
+        this.service.getClusterLoad("cluster1") == new ClusterLoad(0L, 2L, 1_536L)
+    }
+
+    private ClusterJobResourcesAggregate aggregate(
+        final String clusterId,
+        final JobStatus status,
+        final Long jobsCount,
+        final Long requestedMemory
+    ) {
+        return aggregate(clusterId, status.name(), jobsCount, requestedMemory)
+    }
+
+    private ClusterJobResourcesAggregate aggregate(
+        final String clusterId,
+        final String status,
+        final Long jobsCount,
+        final Long requestedMemory
+    ) {
+        return Mock(ClusterJobResourcesAggregate) {
+            getClusterId() >> clusterId
+            getStatus() >> status
+            getJobsCount() >> jobsCount
+            getRequestedMemory() >> requestedMemory
+        }
+    }
+}
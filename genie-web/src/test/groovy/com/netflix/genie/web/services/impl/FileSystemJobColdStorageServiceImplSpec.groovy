@@ -0,0 +1,328 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services.impl
+
+import com.netflix.genie.common.dto.ClusterCriteria
+import com.netflix.genie.common.dto.Job
+import com.netflix.genie.common.dto.JobExecution
+import com.netflix.genie.common.dto.JobMetadata
+import com.netflix.genie.common.dto.JobRequest
+import com.netflix.genie.common.dto.JobStatus
+import com.netflix.genie.common.dto.search.JobSearchResult
+import com.netflix.genie.common.internal.dtos.ArchiveStatus
+import com.netflix.genie.web.dtos.ColdStoredJob
+import com.netflix.genie.web.properties.JobColdStorageProperties
+import org.springframework.data.domain.PageImpl
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.Sort
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Instant
+
+class FileSystemJobColdStorageServiceImplSpec extends Specification {
+
+    @TempDir
+    Path temporaryFolder
+
+    JobColdStorageProperties properties
+    FileSystemJobColdStorageServiceImpl service
+
+    def setup() {
+        this.properties = new JobColdStorageProperties()
+        this.properties.setEnabled(true)
+        this.properties.setLocation(this.temporaryFolder.toString())
+        this.service = new FileSystemJobColdStorageServiceImpl(this.properties)
+    }
+
+    def "Can store and get jobs"() {
+        def job1 = createJob("job1", "alice", JobStatus.SUCCEEDED, 1_000L)
+        def job2 = createJob("job2", "bob", JobStatus.FAILED, 2_000L)
+
+        when:
+        this.service.storeJobs([job1, job2])
+
+        then:
+        Files.list(this.temporaryFolder).filter({
+            it.toString().endsWith(FileSystemJobColdStorageServiceImpl.SEGMENT_SUFFIX)
+        }).count() == 1
+        Files.list(this.temporaryFolder).filter({
+            it.toString().endsWith(FileSystemJobColdStorageServiceImpl.INDEX_SUFFIX)
+        }).count() == 1
+
+        when:
+        def found = this.service.getJob("job2")
+
+        then:
+        found.isPresent()
+        found.get().getJob().getUser() == "bob"
+        found.get().getJob().getStatus() == JobStatus.FAILED
+        found.get().getJob().getCreated() == Optional.of(Instant.ofEpochMilli(2_000L))
+        found.get().getRequest().getCommandCriteria() == ["type:spark"] as Set
+        found.get().getExecution().getHostName() == "host"
+        found.get().getMetadata().getClientHost() == Optional.of("client")
+        found.get().getArchiveStatus() == ArchiveStatus.ARCHIVED
+
+        expect:
+        !this.service.getJob("job3").isPresent()
+    }
+
+    def "Segments written by another node are found once the index is refreshed"() {
+        def writer = new FileSystemJobColdStorageServiceImpl(this.properties)
+
+        when:
+        def missing = this.service.getJob("job1")
+        writer.storeJobs([createJob("job1", "alice", JobStatus.SUCCEEDED, 1_000L)])
+        def stillMissing = this.service.getJob("job1")
+        this.properties.setIndexRefreshInterval(0L)
+        def found = this.service.getJob("job1")
+
+        then:
+        !missing.isPresent()
+        !stillMissing.isPresent()
+        found.isPresent()
+    }
+
+    def "Jobs already in a segment aren't stored again"() {
+        def writer = new FileSystemJobColdStorageServiceImpl(this.properties)
+        writer.storeJobs([createJob("job1", "alice", JobStatus.SUCCEEDED, 1_000L)])
+
+        when: "All the jobs are already stored"
+        this.service.storeJobs([createJob("job1", "alice", JobStatus.SUCCEEDED, 1_000L)])
+
+        then: "No segment is written"
+        Files.list(this.temporaryFolder).count() == 2
+
+        when: "Some of the jobs are already stored"
+        this.service.storeJobs(
+            [
+                createJob("job1", "alice", JobStatus.SUCCEEDED, 1_000L),
+                createJob("job2", "bob", JobStatus.FAILED, 2_000L)
+            ]
+        )
+        this.properties.setIndexRefreshInterval(0L)
+
+        then: "Only the new jobs are stored"
+        Files.list(this.temporaryFolder).count() == 4
+        this.service.findJobs(
+            new PageImpl<JobSearchResult>([], PageRequest.of(0, 10), 0),
+            null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+            PageRequest.of(0, 10)
+        ).getContent()*.getId() == ["job2", "job1"]
+    }
+
+    def "Nothing is returned when disabled"() {
+        def primary = new PageImpl<JobSearchResult>([], PageRequest.of(0, 10), 0)
+        this.service.storeJobs([createJob("job1", "alice", JobStatus.SUCCEEDED, 1_000L)])
+        this.properties.setEnabled(false)
+
+        expect:
+        !this.service.getJob("job1").isPresent()
+        this.service.findJobs(
+            primary, null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+            PageRequest.of(0, 10)
+        ).is(primary)
+    }
+
+    def "Search results are appended after primary results"() {
+        this.service.storeJobs(
+            [
+                createJob("job1", "alice", JobStatus.SUCCEEDED, 1_000L),
+                createJob("job2", "bob", JobStatus.FAILED, 2_000L),
+                createJob("job3", "alice", JobStatus.KILLED, 3_000L)
+            ]
+        )
+        this.service.storeJobs([createJob("job4", "alice", JobStatus.SUCCEEDED, 4_000L)])
+        def hot = new JobSearchResult("hot1", "name", "alice", JobStatus.RUNNING, null, null, null, null)
+
+        when: "The primary page isn't full"
+        def page = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "created"))
+        def results = this.service.findJobs(
+            new PageImpl<JobSearchResult>([hot], page, 1),
+            null, null, "alice", null, null, null, null, null, null, null, null, null, null, null, null,
+            page
+        )
+
+        then:
+        results.getTotalElements() == 4
+        results.getContent()*.getId() == ["hot1", "job4", "job3"]
+
+        when: "Only the newest segment can hold jobs of the page"
+        page = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "created"))
+        results = this.service.findJobs(
+            new PageImpl<JobSearchResult>([hot], page, 1),
+            null, null, "alice", null, null, null, null, null, null, null, null, null, null, null, null,
+            page
+        )
+
+        then:
+        results.getTotalElements() == 4
+        results.getContent()*.getId() == ["hot1", "job4"]
+
+        when: "The page is entirely past the primary results"
+        page = PageRequest.of(1, 3)
+        results = this.service.findJobs(
+            new PageImpl<JobSearchResult>([], page, 1),
+            null, null, "alice", null, null, null, null, null, null, null, null, null, null, null, null,
+            page
+        )
+
+        then:
+        results.getTotalElements() == 4
+        results.getContent()*.getId() == ["job1"]
+
+        when: "Filtering on statuses and a name pattern"
+        page = PageRequest.of(0, 10)
+        results = this.service.findJobs(
+            new PageImpl<JobSearchResult>([], page, 0),
+            null, "na%", null, [JobStatus.FAILED, JobStatus.KILLED] as Set, null, null, null, null, null,
+            null, null, null, null, null, null,
+            page
+        )
+
+        then: "The total is bounded by the indexes as the name can only be matched by reading the jobs"
+        results.getTotalElements() == 2
+        results.getContent()*.getId() == ["job3", "job2"]
+
+        when: "Filtering on something cold storage doesn't record"
+        results = this.service.findJobs(
+            new PageImpl<JobSearchResult>([], page, 0),
+            null, null, null, null, null, null, "clusterId", null, null, null, null, null, null, null, null,
+            page
+        )
+
+        then:
+        results.getTotalElements() == 0
+
+        when: "Sorted on something other than creation time"
+        page = PageRequest.of(0, 10, Sort.by("user"))
+        results = this.service.findJobs(
+            new PageImpl<JobSearchResult>([], page, 0),
+            null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+            page
+        )
+
+        then:
+        results.getTotalElements() == 0
+    }
+
+    def "Searches only read segments when the page reaches past the primary results"() {
+        this.service.storeJobs(
+            [
+                createJob("job1", "alice", JobStatus.SUCCEEDED, 1_000L),
+                createJob("job2", "bob", JobStatus.FAILED, 2_000L)
+            ]
+        )
+        // Any read of the segment would now fail
+        Files.list(this.temporaryFolder)
+            .filter({ it.toString().endsWith(FileSystemJobColdStorageServiceImpl.SEGMENT_SUFFIX) })
+            .forEach({ Files.write(it, "corrupt".getBytes()) })
+        def hot = (1..10).collect {
+            new JobSearchResult("hot" + it, "name", "alice", JobStatus.RUNNING, null, null, null, null)
+        }
+        def page = PageRequest.of(0, 10)
+
+        when: "The page is full of primary results"
+        def results = this.service.findJobs(
+            new PageImpl<JobSearchResult>(hot, page, 25),
+            null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+            page
+        )
+
+        then: "The total is computed from the indexes"
+        results.getTotalElements() == 27
+        results.getContent() == hot
+
+        when: "Only statuses no segment holds are searched"
+        results = this.service.findJobs(
+            new PageImpl<JobSearchResult>([], page, 0),
+            null, null, null, [JobStatus.KILLED] as Set, null, null, null, null, null, null, null, null, null, null,
+            null,
+            page
+        )
+
+        then:
+        results.getTotalElements() == 0
+
+        when: "The page reaches past the primary results"
+        this.service.findJobs(
+            new PageImpl<JobSearchResult>([], page, 0),
+            null, null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+            page
+        )
+
+        then:
+        thrown(UncheckedIOException)
+    }
+
+    def "Segments past retention are deleted"() {
+        this.service.storeJobs([createJob("job1", "alice", JobStatus.SUCCEEDED, 1_000L)])
+        this.service.storeJobs(
+            [
+                createJob("job2", "alice", JobStatus.SUCCEEDED, 2_000L),
+                createJob("job3", "bob", JobStatus.FAILED, 4_000L)
+            ]
+        )
+
+        when: "The threshold falls within a segment"
+        def deleted = this.service.deleteJobsCreatedBefore(Instant.ofEpochMilli(3_000L))
+
+        then: "Only the segments entirely past the threshold are deleted"
+        deleted == 1L
+        !this.service.getJob("job1").isPresent()
+        this.service.getJob("job2").isPresent()
+        Files.list(this.temporaryFolder).count() == 2
+
+        when:
+        deleted = this.service.deleteJobsCreatedBefore(Instant.ofEpochMilli(5_000L))
+
+        then:
+        deleted == 2L
+        !this.service.getJob("job3").isPresent()
+        Files.list(this.temporaryFolder).count() == 0
+    }
+
+    private static ColdStoredJob createJob(
+        final String id,
+        final String user,
+        final JobStatus status,
+        final long created
+    ) {
+        def job = new Job.Builder("name", user, "1.0")
+            .withId(id)
+            .withCreated(Instant.ofEpochMilli(created))
+            .withUpdated(Instant.ofEpochMilli(created))
+            .withStatus(status)
+            .withStarted(Instant.ofEpochMilli(created + 10))
+            .withFinished(Instant.ofEpochMilli(created + 20))
+            .withTags(["type:test"] as Set)
+            .build()
+        def request = new JobRequest.Builder(
+            "name",
+            user,
+            "1.0",
+            [new ClusterCriteria(["type:yarn"] as Set)],
+            ["type:spark"] as Set
+        ).withId(id).build()
+        def execution = new JobExecution.Builder("host").withId(id).build()
+        def metadata = new JobMetadata.Builder().withId(id).withClientHost("client").build()
+        return new ColdStoredJob(job, request, execution, metadata, ArchiveStatus.ARCHIVED)
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services.impl
+
+import com.netflix.genie.common.exceptions.GenieUserLimitExceededException
+import com.netflix.genie.common.internal.dtos.Criterion
+import com.netflix.genie.common.internal.dtos.ExecutionResourceCriteria
+import com.netflix.genie.common.internal.dtos.JobMetadata
+import com.netflix.genie.common.internal.dtos.JobRequest
+import com.netflix.genie.common.internal.dtos.JobRequestMetadata
+import com.netflix.genie.common.internal.dtos.JobStatus
+import com.netflix.genie.common.internal.util.GenieHostInfo
+import com.netflix.genie.web.data.services.DataServices
+import com.netflix.genie.web.data.services.PersistenceService
+import com.netflix.genie.web.dtos.ActiveResourcesSummary
+import com.netflix.genie.web.dtos.JobSubmission
+import com.netflix.genie.web.events.JobStateChangeEvent
+import com.netflix.genie.web.exceptions.checked.IdAlreadyExistsException
+import com.netflix.genie.web.properties.JobAdmissionProperties
+import com.netflix.genie.web.properties.JobsActiveLimitProperties
+import com.netflix.genie.web.services.ActiveJobResourcesService
+import com.netflix.genie.web.services.JobLaunchService
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.core.task.SyncTaskExecutor
+import org.springframework.scheduling.TaskScheduler
+import spock.lang.Specification
+
+import java.time.Duration
+import java.time.Instant
+
+class JobAdmissionServiceImplSpec extends Specification {
+    JobLaunchService jobLaunchService
+    PersistenceService persistenceService
+    DataServices dataServices
+    ActiveJobResourcesService activeJobResourcesService
+    JobsActiveLimitProperties activeLimitProperties
+    JobAdmissionProperties properties
+    TaskScheduler taskScheduler
+    SimpleMeterRegistry registry
+    JobAdmissionServiceImpl service
+
+    def setup() {
+        this.jobLaunchService = Mock(JobLaunchService)
+        this.persistenceService = Mock(PersistenceService)
+        this.dataServices = Mock(DataServices) {
+            getPersistenceService() >> this.persistenceService
+        }
+        this.activeJobResourcesService = Mock(ActiveJobResourcesService)
+        this.activeLimitProperties = new JobsActiveLimitProperties()
+        this.activeLimitProperties.setEnabled(true)
+        this.activeLimitProperties.setCount(1)
+        this.properties = new JobAdmissionProperties()
+        this.properties.setEnabled(true)
+        this.taskScheduler = Mock(TaskScheduler)
+        this.registry = new SimpleMeterRegistry()
+        this.service = newService()
+    }
+
+    def "Dispatch is scheduled only when enabled"() {
+        when:
+        newService()
+
+        then:
+        1 * this.taskScheduler.scheduleWithFixedDelay(_ as Runnable, Duration.ofSeconds(5))
+
+        when:
+        this.properties.setEnabled(false)
+        def disabled = newService()
+
+        then:
+        0 * this.taskScheduler.scheduleWithFixedDelay(_ as Runnable, _ as Duration)
+        !disabled.isEnabled()
+    }
+
+    def "Queue owners are unique to each instance"() {
+        def other = newService()
+
+        expect:
+        this.service.getQueueOwner().startsWith("host/")
+        this.service.getQueueOwner() != other.getQueueOwner()
+    }
+
+    def "Jobs of users with capacity are launched immediately"() {
+        def submission = submission("alice", null)
+
+        when:
+        def jobId = this.service.admit(submission)
+
+        then:
+        1 * this.activeJobResourcesService.getUserResources("alice") >> ActiveResourcesSummary.NONE
+        1 * this.jobLaunchService.launchJob(submission) >> "job1"
+        0 * this.persistenceService.saveJobSubmission(_)
+        jobId == "job1"
+        this.service.getNumberOfQueuedJobs() == 0
+    }
+
+    def "Jobs of users at their limit are saved, queued and launched once capacity frees up"() {
+        def submission = submission("alice", null)
+        def owner = this.service.getQueueOwner()
+
+        when:
+        def jobId = this.service.admit(submission)
+
+        then:
+        _ * this.activeJobResourcesService.getUserResources("alice") >> new ActiveResourcesSummary(1L, 1_024L, 1L)
+        1 * this.persistenceService.saveJobSubmission(submission) >> "job1"
+        1 * this.persistenceService.queueJob("job1", owner) >> true
+        0 * this.jobLaunchService.launchJob(_)
+        jobId == "job1"
+        this.service.getNumberOfQueuedJobs() == 1
+
+        when: "Nothing finished"
+        this.service.dispatch()
+
+        then:
+        _ * this.activeJobResourcesService.getUserResources("alice") >> new ActiveResourcesSummary(1L, 1_024L, 1L)
+        0 * this.persistenceService.dequeueJob(_, _)
+        0 * this.jobLaunchService.launchSavedJob(_, _, _)
+        this.service.getNumberOfQueuedJobs() == 1
+
+        when: "A job of the user finished"
+        this.service.onApplicationEvent(new JobStateChangeEvent("other", JobStatus.RUNNING, JobStatus.SUCCEEDED, this))
+
+        then:
+        _ * this.activeJobResourcesService.getUserResources("alice") >> ActiveResourcesSummary.NONE
+        1 * this.persistenceService.dequeueJob("job1", owner) >> true
+
+        then:
+        1 * this.jobLaunchService.launchSavedJob(
+            "job1",
+            submission.getJobRequest(),
+            submission.getJobRequestMetadata()
+        )
+        0 * this.jobLaunchService.launchJob(_)
+        this.service.getNumberOfQueuedJobs() == 0
+        this.registry.find("genie.jobs.admission.queueWait.timer").tag("user", "alice").timer().count() == 1
+    }
+
+    def "Queued jobs which were killed or taken over elsewhere are not launched"() {
+        def usage = new ActiveResourcesSummary(1L, 0L, 0L)
+        this.activeJobResourcesService.getUserResources(_ as String) >> { usage }
+        this.persistenceService.saveJobSubmission(_ as JobSubmission) >> "job1"
+        this.persistenceService.queueJob("job1", _ as String) >> true
+        this.service.admit(submission("alice", null))
+
+        when:
+        usage = ActiveResourcesSummary.NONE
+        this.service.dispatch()
+
+        then:
+        1 * this.persistenceService.dequeueJob("job1", this.service.getQueueOwner()) >> false
+        0 * this.jobLaunchService.launchSavedJob(_, _, _)
+        this.service.getNumberOfQueuedJobs() == 0
+    }
+
+    def "Jobs no longer reserved once saved are not queued"() {
+        this.activeJobResourcesService.getUserResources(_ as String) >> new ActiveResourcesSummary(1L, 0L, 0L)
+
+        when:
+        def jobId = this.service.admit(submission("alice", null))
+
+        then:
+        1 * this.persistenceService.saveJobSubmission(_ as JobSubmission) >> "job1"
+        1 * this.persistenceService.queueJob("job1", _ as String) >> false
+        jobId == "job1"
+        this.service.getNumberOfQueuedJobs() == 0
+    }
+
+    def "Weighted users are preferred when capacity is scarce"() {
+        this.activeLimitProperties.setCount(100)
+        this.properties.setUserWeights([bob: 2])
+        def launchedUsers = []
+        def remainingLaunches = 0
+        def saved = [:]
+        this.activeJobResourcesService.getUserResources(_ as String) >> {
+            new ActiveResourcesSummary(remainingLaunches > 0 ? 0L : 100L, 0L, 0L)
+        }
+        this.persistenceService.saveJobSubmission(_ as JobSubmission) >> { JobSubmission js ->
+            def jobId = "job" + saved.size()
+            saved[jobId] = js.getJobRequest().getMetadata().getUser()
+            return jobId
+        }
+        this.persistenceService.queueJob(_ as String, _ as String) >> true
+        this.persistenceService.dequeueJob(_ as String, _ as String) >> true
+        this.jobLaunchService.launchSavedJob(_ as String, _ as JobRequest, _ as JobRequestMetadata) >> {
+            String jobId, JobRequest jobRequest, JobRequestMetadata jobRequestMetadata ->
+                remainingLaunches--
+                launchedUsers << saved[jobId]
+        }
+        3.times {
+            this.service.admit(submission("alice", null))
+            this.service.admit(submission("bob", null))
+        }
+
+        when:
+        remainingLaunches = 3
+        this.service.dispatch()
+
+        then:
+        launchedUsers.size() == 3
+        launchedUsers.count { it == "bob" } == 2
+        launchedUsers.count { it == "alice" } == 1
+    }
+
+    def "Submissions are rejected when the queue is full"() {
+        this.properties.setMaxQueuedJobsPerUser(1)
+        this.activeJobResourcesService.getUserResources(_ as String) >> new ActiveResourcesSummary(1L, 0L, 0L)
+        this.persistenceService.saveJobSubmission(_ as JobSubmission) >> "job1"
+        this.persistenceService.queueJob(_ as String, _ as String) >> true
+
+        when:
+        this.service.admit(submission("alice", null))
+        this.service.admit(submission("alice", null))
+
+        then:
+        def e = thrown(GenieUserLimitExceededException)
+        e.getUser() == "alice"
+        this.service.getNumberOfQueuedJobs() == 1
+        this.registry.find("genie.jobs.admission.rejected.counter").tag("limit", "userQueue").counter().count() == 1
+    }
+
+    def "Submissions are rejected when the user exceeds the submission rate"() {
+        this.properties.setSubmissionRate(0.001)
+        this.properties.setSubmissionBurst(2)
+        this.activeJobResourcesService.getUserResources(_ as String) >> ActiveResourcesSummary.NONE
+
+        when:
+        3.times {
+            this.service.admit(submission("alice", null))
+        }
+
+        then:
+        2 * this.jobLaunchService.launchJob(_ as JobSubmission) >> "job"
+        def e = thrown(GenieUserLimitExceededException)
+        e.getExceededLimitName() == "submissionRate"
+
+        when: "Another user has their own bucket"
+        this.service.admit(submission("bob", null))
+
+        then:
+        1 * this.jobLaunchService.launchJob(_ as JobSubmission) >> "job"
+    }
+
+    def "Failing to save a queued job releases its spot in the queue"() {
+        this.properties.setMaxQueuedJobsPerUser(1)
+        this.activeJobResourcesService.getUserResources(_ as String) >> new ActiveResourcesSummary(1L, 0L, 0L)
+
+        when:
+        this.service.admit(submission("alice", "my-job"))
+
+        then:
+        1 * this.persistenceService.saveJobSubmission(_ as JobSubmission) >> {
+            throw new IdAlreadyExistsException("my-job")
+        }
+        0 * this.persistenceService.queueJob(_, _)
+        thrown(IdAlreadyExistsException)
+        this.service.getNumberOfQueuedJobs() == 0
+
+        when:
+        def jobId = this.service.admit(submission("alice", "my-job"))
+
+        then:
+        1 * this.persistenceService.saveJobSubmission(_ as JobSubmission) >> "my-job"
+        1 * this.persistenceService.queueJob("my-job", _ as String) >> true
+        jobId == "my-job"
+        this.service.getNumberOfQueuedJobs() == 1
+    }
+
+    def "Queued jobs can be cancelled"() {
+        this.activeJobResourcesService.getUserResources(_ as String) >> new ActiveResourcesSummary(1L, 0L, 0L)
+        this.persistenceService.saveJobSubmission(_ as JobSubmission) >> "my-job"
+        this.persistenceService.queueJob("my-job", _ as String) >> true
+        this.service.admit(submission("alice", "my-job"))
+
+        when:
+        def cancelled = this.service.cancel("my-job")
+
+        then:
+        cancelled
+        !this.service.cancel("my-job")
+        this.service.getNumberOfQueuedJobs() == 0
+    }
+
+    def "Leases are renewed and queued jobs whose lease lapsed are taken over"() {
+        this.properties.setMaxQueuedJobs(10)
+        def owner = this.service.getQueueOwner()
+        def jobRequest = submission("bob", null).getJobRequest()
+        def jobMetadata = new com.netflix.genie.common.dto.JobMetadata.Builder()
+            .withClientHost("client")
+            .withUserAgent("agent")
+            .withNumAttachments(2)
+            .withTotalSizeOfAttachments(10L)
+            .build()
+        Instant cutoff = null
+        JobRequestMetadata adoptedMetadata = null
+
+        when:
+        def before = Instant.now()
+        this.service.maintainQueue()
+
+        then:
+        1 * this.persistenceService.renewQueuedJobs(owner) >> 0
+
+        then:
+        1 * this.persistenceService.getQueuedJobsNotRenewedSince(_ as Instant, 10) >> { Instant renewedBefore, int l ->
+            cutoff = renewedBefore
+            return ["lapsed", "broken", "raced"]
+        }
+        1 * this.persistenceService.adoptQueuedJob("lapsed", owner, _ as Instant) >> true
+        1 * this.persistenceService.getJobRequest("lapsed") >> jobRequest
+        1 * this.persistenceService.getJobMetadata("lapsed") >> jobMetadata
+        1 * this.persistenceService.adoptQueuedJob("broken", owner, _ as Instant) >> true
+        1 * this.persistenceService.getJobRequest("broken") >> { throw new IllegalStateException("corrupt") }
+        1 * this.persistenceService.dequeueJob("broken", owner) >> true
+        1 * this.persistenceService.adoptQueuedJob("raced", owner, _ as Instant) >> false
+        0 * this.persistenceService.getJobRequest("raced")
+        !cutoff.isAfter(before.minus(this.properties.getQueueLeaseDuration()))
+        this.service.getNumberOfQueuedJobs() == 1
+        this.registry.find("genie.jobs.admission.adopted.counter").tag("user", "bob").counter().count() == 1
+
+        when:
+        this.service.dispatch()
+
+        then:
+        1 * this.activeJobResourcesService.getUserResources("bob") >> ActiveResourcesSummary.NONE
+        1 * this.persistenceService.dequeueJob("lapsed", owner) >> true
+        1 * this.jobLaunchService.launchSavedJob("lapsed", jobRequest, _ as JobRequestMetadata) >> {
+            String id, JobRequest request, JobRequestMetadata metadata ->
+                adoptedMetadata = metadata
+        }
+        adoptedMetadata.getApiClientMetadata().flatMap { it.getHostname() }.orElse(null) == "client"
+        adoptedMetadata.getApiClientMetadata().flatMap { it.getUserAgent() }.orElse(null) == "agent"
+        adoptedMetadata.getNumAttachments() == 2
+        adoptedMetadata.getTotalSizeOfAttachments() == 10L
+        this.service.getNumberOfQueuedJobs() == 0
+    }
+
+    def "No queued jobs are taken over when the queue is full"() {
+        this.properties.setMaxQueuedJobs(1)
+        this.activeJobResourcesService.getUserResources(_ as String) >> new ActiveResourcesSummary(1L, 0L, 0L)
+        this.persistenceService.saveJobSubmission(_ as JobSubmission) >> "job1"
+        this.persistenceService.queueJob("job1", _ as String) >> true
+        this.service.admit(submission("alice", null))
+
+        when:
+        this.service.maintainQueue()
+
+        then:
+        1 * this.persistenceService.renewQueuedJobs(this.service.getQueueOwner()) >> 1
+        0 * this.persistenceService.getQueuedJobsNotRenewedSince(_, _)
+        0 * this.persistenceService.adoptQueuedJob(_, _, _)
+    }
+
+    private JobAdmissionServiceImpl newService() {
+        return new JobAdmissionServiceImpl(
+            this.jobLaunchService,
+            this.dataServices,
+            this.activeJobResourcesService,
+            this.activeLimitProperties,
+            this.properties,
+            this.taskScheduler,
+            new SyncTaskExecutor(),
+            this.registry,
+            new GenieHostInfo("host")
+        )
+    }
+
+    private JobSubmission submission(final String user, final String requestedId) {
+        def jobRequest = new JobRequest(
+            requestedId,
+            null,
+            null,
+            new JobMetadata.Builder(UUID.randomUUID().toString(), user).build(),
+            new ExecutionResourceCriteria(
+                [new Criterion.Builder().withName("cluster").build()],
+                new Criterion.Builder().withName("command").build(),
+                null
+            ),
+            null,
+            null
+        )
+        return new JobSubmission.Builder(jobRequest, Mock(JobRequestMetadata)).build()
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.services.impl
+
+import com.netflix.genie.common.internal.dtos.DirectoryManifest
+import com.netflix.genie.web.dtos.DirectoryArchiveFormat
+import com.netflix.genie.web.resources.writers.DirectoryArchiveWriter
+import org.springframework.core.io.DefaultResourceLoader
+import org.springframework.core.io.ResourceLoader
+import org.springframework.core.task.SimpleAsyncTaskExecutor
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import java.util.zip.ZipInputStream
+
+/**
+ * Specifications for {@link JobDirectoryArchiveStreamer}.
+ */
+class JobDirectoryArchiveStreamerSpec extends Specification {
+
+    @TempDir
+    Path jobDirectory
+
+    ResourceLoader resourceLoader
+    JobDirectoryArchiveStreamer streamer
+    DirectoryManifest manifest
+
+    void setup() {
+        Files.createDirectories(this.jobDirectory.resolve("sub/empty"))
+        Files.write(this.jobDirectory.resolve("sub/digits"), "0123456789".getBytes(StandardCharsets.UTF_8))
+        Files.write(this.jobDirectory.resolve("sub/a"), "abcd".getBytes(StandardCharsets.UTF_8))
+        Files.createFile(this.jobDirectory.resolve("sub/nothing"))
+        Files.write(this.jobDirectory.resolve("stdout"), "out".getBytes(StandardCharsets.UTF_8))
+        this.manifest = new DirectoryManifest.Factory().getDirectoryManifest(this.jobDirectory, false)
+        this.resourceLoader = Mock(ResourceLoader)
+        this.streamer = new JobDirectoryArchiveStreamer(
+            this.resourceLoader,
+            new SimpleAsyncTaskExecutor(),
+            4,
+            Duration.ofSeconds(10)
+        )
+    }
+
+    def "Can stream a directory in chunks"() {
+        def output = new ByteArrayOutputStream()
+        def delegate = new DefaultResourceLoader()
+        def load = { String location -> delegate.getResource(location) }
+        def root = this.jobDirectory.toUri()
+        def base = root.toString()
+
+        when:
+        this.streamer.stream(
+            this.manifest,
+            this.manifest.getEntry("sub").orElseThrow(),
+            "sub",
+            root,
+            2,
+            DirectoryArchiveWriter.create(DirectoryArchiveFormat.ZIP, output)
+        )
+
+        then:
+        1 * this.resourceLoader.getResource(base + "sub/a#bytes=0-3") >> { load(it[0]) }
+        1 * this.resourceLoader.getResource(base + "sub/digits#bytes=0-3") >> { load(it[0]) }
+        1 * this.resourceLoader.getResource(base + "sub/digits#bytes=4-7") >> { load(it[0]) }
+        1 * this.resourceLoader.getResource(base + "sub/digits#bytes=8-9") >> { load(it[0]) }
+        0 * this.resourceLoader.getResource(_)
+
+        when:
+        def entries = [:]
+        def zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))
+        def entry
+        while ((entry = zip.getNextEntry()) != null) {
+            entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8))
+        }
+
+        then:
+        entries == [
+            "sub/"        : "",
+            "sub/a"       : "abcd",
+            "sub/digits"  : "0123456789",
+            "sub/empty/"  : "",
+            "sub/nothing" : ""
+        ]
+        entries.keySet().toList() == ["sub/", "sub/a", "sub/digits", "sub/empty/", "sub/nothing"]
+    }
+
+    def "A failed fetch fails the archive"() {
+        def output = new ByteArrayOutputStream()
+
+        when:
+        this.streamer.stream(
+            this.manifest,
+            this.manifest.getEntry("").orElseThrow(),
+            "job",
+            this.jobDirectory.toUri(),
+            8,
+            DirectoryArchiveWriter.create(DirectoryArchiveFormat.TAR, output)
+        )
+
+        then:
+        (1.._) * this.resourceLoader.getResource(_ as String) >> { throw new IOException("Storage unavailable") }
+        def e = thrown(IOException)
+        e.getMessage() == "Storage unavailable"
+    }
+}
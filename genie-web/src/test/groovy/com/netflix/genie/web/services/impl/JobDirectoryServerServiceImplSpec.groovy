@@ -29,24 +29,34 @@ import com.netflix.genie.web.agent.services.AgentRoutingService
 import com.netflix.genie.web.data.services.DataServices
 import com.netflix.genie.web.data.services.PersistenceService
 import com.netflix.genie.web.dtos.ArchivedJobMetadata
+import com.netflix.genie.web.dtos.DirectoryArchiveFormat
 import com.netflix.genie.web.exceptions.checked.JobDirectoryManifestNotFoundException
 import com.netflix.genie.web.exceptions.checked.JobNotArchivedException
 import com.netflix.genie.web.exceptions.checked.JobNotFoundException
 import com.netflix.genie.web.exceptions.checked.NotFoundException
+import com.netflix.genie.web.properties.JobDirectoryArchiveDownloadProperties
 import com.netflix.genie.web.services.ArchivedJobService
 import io.micrometer.core.instrument.MeterRegistry
 import io.micrometer.core.instrument.Tag
 import io.micrometer.core.instrument.Timer
+import org.springframework.core.io.DefaultResourceLoader
 import org.springframework.core.io.Resource
 import org.springframework.core.io.ResourceLoader
 import org.springframework.http.HttpHeaders
+import org.springframework.core.task.SimpleAsyncTaskExecutor
 import org.springframework.http.MediaType
+import org.springframework.mock.web.DelegatingServletOutputStream
 import spock.lang.Specification
+import spock.lang.TempDir
 import spock.lang.Unroll
 
 import jakarta.servlet.http.HttpServletRequest
 import jakarta.servlet.http.HttpServletResponse
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
 import java.util.concurrent.TimeUnit
+import java.util.zip.ZipInputStream
 
 //TODO serving of a directory entry is not covered by this test due to the usage of static resources.
 //(Integration tests do cover most of it)
@@ -64,6 +74,10 @@ class JobDirectoryServerServiceImplSpec extends Specification {
     static final String EXPECTED_ARCHIVE_FILE_LOCATION = ARCHIVE_BASE_URI.toString() + REL_PATH
 
     static final String TIMER_NAME = JobDirectoryServerServiceImpl.SERVE_RESOURCE_TIMER
+    static final String ARCHIVE_TIMER_NAME = JobDirectoryServerServiceImpl.SERVE_ARCHIVE_TIMER
+
+    @TempDir
+    Path jobDirectory
 
     ResourceLoader resourceLoader
     PersistenceService persistenceService
@@ -88,7 +102,7 @@ class JobDirectoryServerServiceImplSpec extends Specification {
         this.agentFileStreamService = Mock(AgentFileStreamService)
         this.timer = Mock(Timer)
         this.meterRegistry = Mock(MeterRegistry) {
-            timer(TIMER_NAME, _ as Iterable<Tag>) >> {
+            timer({ it == TIMER_NAME || it == ARCHIVE_TIMER_NAME }, _ as Iterable<Tag>) >> {
                 String timerName, Iterable<Tag> tags ->
                     print("Timer: " + timerName + " tags: ")
                     tags.forEach({ tag -> print(tag.getKey() + "=" + tag.getValue() + ", ") })
@@ -110,9 +124,10 @@ class JobDirectoryServerServiceImplSpec extends Specification {
             this.agentFileStreamService,
             this.archivedJobService,
             this.handlerFactory,
-            this.meterRegistry
-            ,
-            this.agentRoutingService
+            this.meterRegistry,
+            this.agentRoutingService,
+            new JobDirectoryArchiveDownloadProperties(),
+            new SimpleAsyncTaskExecutor()
         )
 
         this.request = Mock(HttpServletRequest)
@@ -282,4 +297,75 @@ class JobDirectoryServerServiceImplSpec extends Specification {
         1 * this.timer.record(_ as Long, TimeUnit.NANOSECONDS)
         thrown(GenieNotFoundException)
     }
+
+    def "ServeArchive -- Stream archived job directory"() {
+        setup:
+        Files.createDirectories(this.jobDirectory.resolve("bar"))
+        Files.write(this.jobDirectory.resolve("bar/foo.txt"), "foo".getBytes(StandardCharsets.UTF_8))
+        Files.write(this.jobDirectory.resolve("stdout"), "out".getBytes(StandardCharsets.UTF_8))
+        def realManifest = new DirectoryManifest.Factory().getDirectoryManifest(this.jobDirectory, false)
+        def archivedJobMetadata = Mock(ArchivedJobMetadata)
+        def output = new ByteArrayOutputStream()
+        def fileResourceLoader = new DefaultResourceLoader()
+
+        when:
+        this.service.serveArchive(JOB_ID, "", DirectoryArchiveFormat.ZIP, this.response)
+
+        then:
+        1 * this.persistenceService.getJobArchiveStatus(JOB_ID) >> ArchiveStatus.ARCHIVED
+        1 * this.archivedJobService.getArchivedJobMetadata(JOB_ID) >> archivedJobMetadata
+        1 * archivedJobMetadata.getManifest() >> realManifest
+        1 * archivedJobMetadata.getArchiveBaseUri() >> this.jobDirectory.toUri()
+        2 * this.resourceLoader.getResource(_ as String) >> {
+            String location -> fileResourceLoader.getResource(location)
+        }
+        1 * this.response.setContentType("application/zip")
+        1 * this.response.setHeader(
+            HttpHeaders.CONTENT_DISPOSITION,
+            { String value -> value.startsWith("attachment") && value.contains(JOB_ID + ".zip") }
+        )
+        1 * this.response.getOutputStream() >> new DelegatingServletOutputStream(output)
+        1 * this.timer.record(_ as Long, TimeUnit.NANOSECONDS)
+
+        when:
+        def entries = [:]
+        def zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))
+        def entry
+        while ((entry = zip.getNextEntry()) != null) {
+            entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8))
+        }
+
+        then:
+        entries.keySet().toList() == [
+            JOB_ID + "/",
+            JOB_ID + "/bar/",
+            JOB_ID + "/bar/foo.txt",
+            JOB_ID + "/stdout"
+        ]
+        entries.get(JOB_ID + "/bar/foo.txt") == "foo"
+        entries.get(JOB_ID + "/stdout") == "out"
+    }
+
+    def "ServeArchive -- errors"() {
+        when: "Entry isn't in the manifest"
+        this.service.serveArchive(JOB_ID, REL_PATH, DirectoryArchiveFormat.TAR, this.response)
+
+        then:
+        1 * this.persistenceService.getJobArchiveStatus(JOB_ID) >> ArchiveStatus.PENDING
+        1 * this.agentRoutingService.isAgentConnectionLocal(JOB_ID) >> true
+        1 * this.agentFileStreamService.getManifest(JOB_ID) >> Optional.of(this.manifest)
+        1 * this.manifest.getEntry(REL_PATH) >> Optional.empty()
+        0 * this.response.getOutputStream()
+        1 * this.timer.record(_ as Long, TimeUnit.NANOSECONDS)
+        thrown(GenieNotFoundException)
+
+        when: "Job has no files"
+        this.service.serveArchive(JOB_ID, REL_PATH, DirectoryArchiveFormat.TAR, this.response)
+
+        then:
+        1 * this.persistenceService.getJobArchiveStatus(JOB_ID) >> ArchiveStatus.NO_FILES
+        0 * this.response.getOutputStream()
+        1 * this.timer.record(_ as Long, TimeUnit.NANOSECONDS)
+        thrown(GenieNotFoundException)
+    }
 }
@@ -133,6 +133,39 @@ class JobLaunchServiceImplSpec extends Specification {
         Mock(JsonNode)       | null
     }
 
+    def "Launching a saved job doesn't save it again"() {
+        def agentLauncher = Mock(AgentLauncher)
+        def jobId = UUID.randomUUID().toString()
+        def resolvedJob = Mock(ResolvedJob)
+        def jobRequest = Mock(JobRequest)
+        def jobRequestMetadata = Mock(JobRequestMetadata)
+        def selectionResult = Mock(ResourceSelectionResult)
+
+        when:
+        this.service.launchSavedJob(jobId, jobRequest, jobRequestMetadata)
+
+        then:
+        1 * this.tracer.currentSpanCustomizer() >> this.span
+        1 * this.span.annotate(JobLaunchServiceImpl.BEGIN_LAUNCH_JOB_ANNOTATION)
+        0 * this.persistenceService.saveJobSubmission(_)
+        0 * this.span.annotate(JobLaunchServiceImpl.SAVED_JOB_SUBMISSION_ANNOTATION)
+        1 * this.jobResolverService.resolveJob(jobId) >> resolvedJob
+        1 * this.persistenceService.updateJobStatus(jobId, JobStatus.RESOLVED, JobStatus.ACCEPTED, _ as String) >> JobStatus.ACCEPTED
+        1 * this.agentLauncherSelector.getAgentLaunchers() >> [agentLauncher]
+        1 * this.persistenceService.getRequestedLauncherExt(jobId) >> null
+        1 * this.agentLauncherSelector.select(
+            { AgentLauncherSelectionContext context ->
+                context.getJobId() == jobId
+                    && context.getJobRequest() == jobRequest
+                    && context.getJobRequestMetadata() == jobRequestMetadata
+            }
+        ) >> selectionResult
+        1 * selectionResult.getSelectedResource() >> Optional.of(agentLauncher)
+        1 * agentLauncher.launchAgent(resolvedJob, null) >> Optional.empty()
+        0 * this.persistenceService.updateLauncherExt(_, _)
+        1 * this.span.annotate(JobLaunchServiceImpl.END_LAUNCH_JOB_ANNOTATION)
+    }
+
     def "error cases throw expected exceptions"() {
         def agentLauncher = Mock(AgentLauncher)
         def jobId = UUID.randomUUID().toString()
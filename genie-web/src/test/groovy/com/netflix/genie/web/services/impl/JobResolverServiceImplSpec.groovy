@@ -43,24 +43,31 @@ import com.netflix.genie.common.internal.exceptions.unchecked.GenieJobResolution
 import com.netflix.genie.common.internal.jobs.JobConstants
 import com.netflix.genie.common.internal.tracing.brave.BraveTagAdapter
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents
+import com.netflix.genie.web.data.services.CatalogCaches
 import com.netflix.genie.web.data.services.DataServices
 import com.netflix.genie.web.data.services.PersistenceService
 import com.netflix.genie.web.dtos.ResolvedJob
 import com.netflix.genie.web.dtos.ResourceSelectionResult
+import com.netflix.genie.web.exceptions.checked.PreconditionFailedException
 import com.netflix.genie.web.exceptions.checked.ResourceSelectionException
+import com.netflix.genie.web.properties.JobResolutionBatchProperties
 import com.netflix.genie.web.properties.JobResolutionProperties
 import com.netflix.genie.web.properties.JobsProperties
 import com.netflix.genie.web.selectors.ClusterSelectionContext
 import com.netflix.genie.web.selectors.ClusterSelector
 import com.netflix.genie.web.selectors.CommandSelectionContext
 import com.netflix.genie.web.selectors.CommandSelector
+import com.netflix.genie.web.services.ClusterLoadService
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry
 import org.apache.commons.lang3.StringUtils
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager
+import org.springframework.core.task.SyncTaskExecutor
 import org.springframework.mock.env.MockEnvironment
 import spock.lang.Specification
 
 import javax.annotation.Nullable
 import java.time.Instant
+import java.util.concurrent.ExecutionException
 import java.util.stream.Collectors
 import java.util.stream.Stream
 
@@ -79,6 +86,7 @@ class JobResolverServiceImplSpec extends Specification {
     private JobResolutionProperties jobResolutionProperties
     private Tracer tracer
     private BraveTagAdapter tagAdapter
+    private ClusterLoadService clusterLoadService
 
     private JobResolverServiceImpl service
 
@@ -87,6 +95,7 @@ class JobResolverServiceImplSpec extends Specification {
         this.clusterSelector = Mock(ClusterSelector)
         this.commandSelector = Mock(CommandSelector)
         this.jobsProperties = JobsProperties.getJobsPropertiesDefaults()
+        this.clusterLoadService = Mock(ClusterLoadService)
         def dataServices = Mock(DataServices) {
             getPersistenceService() >> this.persistenceService
         }
@@ -106,7 +115,11 @@ class JobResolverServiceImplSpec extends Specification {
             new SimpleMeterRegistry(),
             this.jobsProperties,
             this.jobResolutionProperties,
-            tracingComponents
+            tracingComponents,
+            null,
+            new JobResolutionBatchProperties(),
+            new SyncTaskExecutor(),
+            this.clusterLoadService
         )
     }
 
@@ -167,6 +180,7 @@ class JobResolverServiceImplSpec extends Specification {
 
         then: "It is resolved but not saved"
         0 * this.persistenceService.saveResolvedJob(_ as String, _ as ResolvedJob)
+        0 * this.clusterLoadService.recordSelection(_ as String, _ as long)
         1 * this.persistenceService.findCommandsMatchingCriterion(jobRequest0.getCriteria().getCommandCriterion(), true) >> commands
         1 * this.persistenceService.findClustersMatchingAnyCriterion(_ as Set<Criterion>, true) >> jobRequest0Clusters
         1 * this.commandSelector.select(_ as CommandSelectionContext) >> commandSelectionResult
@@ -210,6 +224,7 @@ class JobResolverServiceImplSpec extends Specification {
 
         then: "It is resolved with archive information but not saved"
         0 * this.persistenceService.saveResolvedJob(_ as String, _ as ResolvedJob)
+        0 * this.clusterLoadService.recordSelection(_ as String, _ as long)
         1 * this.persistenceService.findCommandsMatchingCriterion(jobRequest1.getCriteria().getCommandCriterion(), true) >> commands
         1 * this.persistenceService.findClustersMatchingAnyCriterion(_ as Set<Criterion>, true) >> jobRequest1Clusters
         1 * this.commandSelector.select(_ as CommandSelectionContext) >> commandSelectionResult
@@ -273,6 +288,7 @@ class JobResolverServiceImplSpec extends Specification {
         1 * clusterSelectionResult.getSelectedResource() >> Optional.of(jobRequest2SelectedCluster)
         1 * this.persistenceService.getApplicationsForCommand(command1Id) >> new ArrayList<>()
         1 * this.persistenceService.saveResolvedJob(jobId, _ as ResolvedJob)
+        1 * this.clusterLoadService.recordSelection(jobRequest2SelectedCluster.getId(), requestedMemory)
         jobSpec.getExecutableArgs() == expectedCommandArgs
         jobSpec.getJobArgs() == expectedJobArgs
         jobSpec.getJob().getId() == jobId
@@ -295,6 +311,70 @@ class JobResolverServiceImplSpec extends Specification {
         jobEnvironment.getImages().isEmpty()
     }
 
+    def "Can resolve a batch of jobs"() {
+        def command = createCommand(UUID.randomUUID().toString(), [UUID.randomUUID().toString()])
+        def jobRequest = createJobRequest([UUID.randomUUID().toString()], null, null, null)
+        def sameCriteriaJobRequest = new JobRequest(
+            null,
+            null,
+            [UUID.randomUUID().toString()],
+            new JobMetadata.Builder(UUID.randomUUID().toString(), UUID.randomUUID().toString()).build(),
+            jobRequest.getCriteria(),
+            null,
+            null
+        )
+        def unresolvableJobRequest = createJobRequest([UUID.randomUUID().toString()], null, null, null)
+        def clusters = createClustersBasedOnCriteria(2, command, jobRequest)
+        ResourceSelectionResult<Command> commandSelectionResult = Mock(ResourceSelectionResult) {
+            getSelectedResource() >> Optional.of(command)
+            getSelectorClass() >> this.getClass()
+            getSelectionRationale() >> Optional.empty()
+        }
+        ResourceSelectionResult<Cluster> clusterSelectionResult = Mock(ResourceSelectionResult) {
+            getSelectedResource() >> Optional.of(clusters.head())
+            getSelectorClass() >> this.getClass()
+            getSelectionRationale() >> Optional.empty()
+        }
+
+        when: "A batch with a repeated and an unresolvable set of criteria is resolved"
+        def results = this.service.resolveJobs([jobRequest, unresolvableJobRequest, sameCriteriaJobRequest], true)
+
+        then: "The catalog is queried once per distinct criteria but every resolvable request is selected for"
+        1 * this.persistenceService.findCommandsMatchingCriterion(
+            jobRequest.getCriteria().getCommandCriterion(),
+            true
+        ) >> Set.of(command)
+        1 * this.persistenceService.findClustersMatchingAnyCriterion(_ as Set<Criterion>, true) >> clusters
+        1 * this.persistenceService.findCommandsMatchingCriterion(
+            unresolvableJobRequest.getCriteria().getCommandCriterion(),
+            true
+        ) >> Set.of()
+        2 * this.commandSelector.select(_ as CommandSelectionContext) >> commandSelectionResult
+        2 * this.clusterSelector.select(_ as ClusterSelectionContext) >> clusterSelectionResult
+        2 * this.persistenceService.getApplicationsForCommand(command.getId()) >> []
+        0 * this.persistenceService.saveResolvedJob(_ as String, _ as ResolvedJob)
+        0 * this.clusterLoadService.recordSelection(_ as String, _ as long)
+        results.size() == 3
+        results.get(0).get().getJobSpecification().getCluster().getId() == clusters.head().getId()
+        results.get(2).get().getJobSpecification().getCommand().getId() == command.getId()
+        results.get(0).get().getJobSpecification().getJob().getId()
+            != results.get(2).get().getJobSpecification().getJob().getId()
+
+        when: "The result of the unresolvable request is retrieved"
+        results.get(1).get()
+
+        then: "It failed with the resolution error"
+        def e = thrown(ExecutionException)
+        e.getCause() instanceof GenieJobResolutionException
+
+        when: "A batch larger than the maximum is submitted"
+        this.service.resolveJobs((0..1_000).collect { jobRequest }, true)
+
+        then: "It is rejected"
+        thrown(PreconditionFailedException)
+        0 * this.persistenceService.findCommandsMatchingCriterion(_ as Criterion, _ as boolean)
+    }
+
     def "Can handle runtime resolution errors with V3 and V4 algorithms"() {
         def command0Id = UUID.randomUUID().toString()
         def command1Id = UUID.randomUUID().toString()
@@ -746,6 +826,125 @@ class JobResolverServiceImplSpec extends Specification {
         resolvedCommand == command0
     }
 
+    def "can reuse cached candidate commands and clusters for identical criteria"() {
+        def registry = new SimpleMeterRegistry()
+        def cacheManager = new ConcurrentMapCacheManager(CatalogCaches.RESOLUTION_CANDIDATES)
+        def service = new JobResolverServiceImpl(
+            Mock(DataServices) {
+                getPersistenceService() >> this.persistenceService
+            },
+            [this.clusterSelector],
+            this.commandSelector,
+            registry,
+            this.jobsProperties,
+            this.jobResolutionProperties,
+            Mock(BraveTracingComponents) {
+                getTagAdapter() >> this.tagAdapter
+                getTracer() >> this.tracer
+            },
+            cacheManager,
+            new JobResolutionBatchProperties(),
+            new SyncTaskExecutor(),
+            null
+        )
+        def jobRequest = createJobRequest([UUID.randomUUID().toString()], null, null, null)
+        def sameCriteriaJobRequest = new JobRequest(
+            null,
+            null,
+            [UUID.randomUUID().toString()],
+            new JobMetadata.Builder(UUID.randomUUID().toString(), UUID.randomUUID().toString()).build(),
+            new ExecutionResourceCriteria(
+                jobRequest.getCriteria().getClusterCriteria(),
+                jobRequest.getCriteria().getCommandCriterion(),
+                null
+            ),
+            null,
+            null
+        )
+        def command = createCommand(UUID.randomUUID().toString(), [UUID.randomUUID().toString()])
+        def commands = Set.of(command)
+        def clusters = createClustersBasedOnCriteria(2, command, jobRequest)
+        def commandCriterion = jobRequest.getCriteria().getCommandCriterion()
+        ResourceSelectionResult<Command> selectionResult = Mock(ResourceSelectionResult) {
+            getSelectedResource() >> Optional.of(command)
+            getSelectorClass() >> this.getClass()
+            getSelectionRationale() >> Optional.empty()
+        }
+
+        when: "The first job with the criteria is resolved"
+        def context = new JobResolverServiceImpl.JobResolutionContext(
+            UUID.randomUUID().toString(),
+            jobRequest,
+            true,
+            Mock(SpanCustomizer)
+        )
+        service.resolveCommand(context)
+
+        then: "The catalog is queried and the result cached"
+        1 * this.persistenceService.findCommandsMatchingCriterion(commandCriterion, true) >> commands
+        1 * this.persistenceService.findClustersMatchingAnyCriterion(_ as Set<Criterion>, true) >> clusters
+        1 * this.commandSelector.select(_ as CommandSelectionContext) >> selectionResult
+        context.getCommand().orElse(null) == command
+        context.getCommandClusters().orElse(null) == [(command): clusters]
+        registry.counter(JobResolverServiceImpl.RESOLUTION_CACHE_COUNTER, "result", "miss").count() == 1
+
+        when: "Another job with identical criteria is resolved"
+        context = new JobResolverServiceImpl.JobResolutionContext(
+            UUID.randomUUID().toString(),
+            sameCriteriaJobRequest,
+            false,
+            Mock(SpanCustomizer)
+        )
+        service.resolveCommand(context)
+
+        then: "The catalog isn't queried but the selector is still invoked"
+        0 * this.persistenceService.findCommandsMatchingCriterion(_ as Criterion, _ as boolean)
+        0 * this.persistenceService.findClustersMatchingAnyCriterion(_ as Set<Criterion>, _ as boolean)
+        1 * this.commandSelector.select(
+            {
+                verifyAll(it, CommandSelectionContext) {
+                    it.getJobRequest() == sameCriteriaJobRequest
+                    it.getCommandToClusters() == [(command): clusters]
+                }
+            }
+        ) >> selectionResult
+        context.getCommand().orElse(null) == command
+        registry.counter(JobResolverServiceImpl.RESOLUTION_CACHE_COUNTER, "result", "hit").count() == 1
+        registry.timer(JobResolverServiceImpl.RESOLUTION_CACHE_SAVED_TIMER).count() == 1
+
+        when: "The catalog changes and the same criteria are resolved again"
+        CatalogCaches.clear(cacheManager)
+        context = new JobResolverServiceImpl.JobResolutionContext(
+            UUID.randomUUID().toString(),
+            jobRequest,
+            true,
+            Mock(SpanCustomizer)
+        )
+        service.resolveCommand(context)
+
+        then: "The catalog is queried again"
+        1 * this.persistenceService.findCommandsMatchingCriterion(commandCriterion, true) >> commands
+        1 * this.persistenceService.findClustersMatchingAnyCriterion(_ as Set<Criterion>, true) >> clusters
+        1 * this.commandSelector.select(_ as CommandSelectionContext) >> selectionResult
+        registry.counter(JobResolverServiceImpl.RESOLUTION_CACHE_COUNTER, "result", "miss").count() == 2
+
+        when: "No candidates are found"
+        CatalogCaches.clear(cacheManager)
+        service.resolveCommand(
+            new JobResolverServiceImpl.JobResolutionContext(
+                UUID.randomUUID().toString(),
+                jobRequest,
+                true,
+                Mock(SpanCustomizer)
+            )
+        )
+
+        then: "Nothing is cached"
+        1 * this.persistenceService.findCommandsMatchingCriterion(commandCriterion, true) >> Set.of()
+        thrown(GenieJobResolutionException)
+        cacheManager.getCache(CatalogCaches.RESOLUTION_CANDIDATES).getNativeCache().isEmpty()
+    }
+
     def "Can resolve cluster"() {
         def command = Mock(Command)
         def cluster0 = createCluster(UUID.randomUUID().toString())
@@ -1213,7 +1412,11 @@ class JobResolverServiceImplSpec extends Specification {
             Mock(BraveTracingComponents) {
                 getTracer() >> Mock(Tracer)
                 getTagAdapter() >> Mock(BraveTagAdapter)
-            }
+            },
+            null,
+            new JobResolutionBatchProperties(),
+            new SyncTaskExecutor(),
+            null
         )
 
         when:
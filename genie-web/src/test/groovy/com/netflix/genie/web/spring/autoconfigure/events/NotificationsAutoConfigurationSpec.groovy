@@ -43,7 +43,7 @@ class NotificationsAutoConfigurationSpec extends Specification {
         PersistedJobStatusObserver observer
 
         when:
-        observer = this.config.persistedJobStatusObserver(genieEventBus)
+        observer = this.config.persistedJobStatusObserver(genieEventBus, registry)
 
         then:
         observer != null
@@ -91,6 +91,7 @@ class AgentJobCleanupTaskSpec extends Specification {
             "j6" // Accepted status, disconnected (reconnects next iteration)
         )
         1 * persistenceService.getUnclaimedJobs() >> Sets.newHashSet("j2", "j4", "j6")
+        1 * persistenceService.getQueuedJobs() >> Sets.newHashSet()
         1 * agentRoutingService.isAgentConnected("j1") >> true
         1 * agentRoutingService.isAgentConnected("j2") >> true
         1 * agentRoutingService.isAgentConnected("j3") >> false
@@ -116,6 +117,7 @@ class AgentJobCleanupTaskSpec extends Specification {
             "j6" // Accepted status, just reconnected
         )
         1 * persistenceService.getUnclaimedJobs() >> Sets.newHashSet("j2", "j4", "j6")
+        1 * persistenceService.getQueuedJobs() >> Sets.newHashSet()
         1 * agentRoutingService.isAgentConnected("j1") >> true
         1 * agentRoutingService.isAgentConnected("j2") >> true
         1 * agentRoutingService.isAgentConnected("j3") >> false
@@ -137,6 +139,7 @@ class AgentJobCleanupTaskSpec extends Specification {
             "j4", // Accepted status, disconnected
         )
         1 * persistenceService.getUnclaimedJobs() >> Sets.newHashSet("j4", "j6")
+        1 * persistenceService.getQueuedJobs() >> Sets.newHashSet()
         1 * agentRoutingService.isAgentConnected("j3") >> false
         1 * agentRoutingService.isAgentConnected("j4") >> false
         2 * taskProperties.getLaunchTimeLimit() >> inTheFuture
@@ -156,6 +159,7 @@ class AgentJobCleanupTaskSpec extends Specification {
             "j4", // Accepted status, disconnected
         )
         1 * persistenceService.getUnclaimedJobs() >> Sets.newHashSet("j4")
+        1 * persistenceService.getQueuedJobs() >> Sets.newHashSet()
         1 * agentRoutingService.isAgentConnected("j4") >> false
         1 * taskProperties.getLaunchTimeLimit() >> inThePast
         1 * taskProperties.getReconnectTimeLimit() >> inTheFuture
@@ -182,6 +186,7 @@ class AgentJobCleanupTaskSpec extends Specification {
             "j4", // Accepted status, disconnected
         )
         1 * persistenceService.getUnclaimedJobs() >> Sets.newHashSet("j4")
+        1 * persistenceService.getQueuedJobs() >> Sets.newHashSet()
         1 * agentRoutingService.isAgentConnected("j4") >> false
         1 * taskProperties.getLaunchTimeLimit() >> inThePast
         1 * taskProperties.getReconnectTimeLimit() >> inTheFuture
@@ -204,6 +209,7 @@ class AgentJobCleanupTaskSpec extends Specification {
             "j4", // Accepted status, disconnected
         )
         1 * persistenceService.getUnclaimedJobs() >> Sets.newHashSet("j4")
+        1 * persistenceService.getQueuedJobs() >> Sets.newHashSet()
         1 * agentRoutingService.isAgentConnected("j4") >> false
         1 * taskProperties.getLaunchTimeLimit() >> inThePast
         1 * taskProperties.getReconnectTimeLimit() >> inTheFuture
@@ -220,4 +226,18 @@ class AgentJobCleanupTaskSpec extends Specification {
         then:
         noExceptionThrown()
     }
+
+    def "Jobs waiting in an admission queue are never considered AWOL"() {
+        when:
+        task.run()
+
+        then:
+        1 * persistenceService.getActiveJobs() >> Sets.newHashSet("j1")
+        1 * persistenceService.getUnclaimedJobs() >> Sets.newHashSet("j1")
+        1 * persistenceService.getQueuedJobs() >> Sets.newHashSet("j1")
+        0 * agentRoutingService.isAgentConnected(_)
+        0 * taskProperties.getLaunchTimeLimit()
+        0 * persistenceService.getJobStatus(_)
+        0 * persistenceService.updateJobStatus(_, _, _, _)
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.tasks.leader
+
+import com.netflix.genie.common.internal.dtos.JobStatus
+import com.netflix.genie.web.data.services.DataServices
+import com.netflix.genie.web.data.services.PersistenceService
+import com.netflix.genie.web.dtos.ColdStoredJob
+import com.netflix.genie.web.properties.JobColdStorageProperties
+import com.netflix.genie.web.services.JobColdStorageService
+import com.netflix.genie.web.tasks.GenieTaskScheduleType
+import com.netflix.genie.web.tasks.TaskUtils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.mock.env.MockEnvironment
+import org.springframework.scheduling.support.CronTrigger
+import spock.lang.Specification
+
+import java.time.temporal.ChronoUnit
+
+class JobColdStorageTaskSpec extends Specification {
+    JobColdStorageProperties properties
+    MockEnvironment environment
+    PersistenceService persistenceService
+    JobColdStorageService jobColdStorageService
+    SimpleMeterRegistry registry
+    JobColdStorageTask task
+
+    def setup() {
+        this.properties = new JobColdStorageProperties()
+        this.properties.setBatchSize(2)
+        this.environment = new MockEnvironment()
+        this.persistenceService = Mock(PersistenceService)
+        this.jobColdStorageService = Mock(JobColdStorageService)
+        this.registry = new SimpleMeterRegistry()
+        def dataServices = Mock(DataServices) {
+            getPersistenceService() >> this.persistenceService
+        }
+        this.task = new JobColdStorageTask(
+            this.properties,
+            this.environment,
+            dataServices,
+            this.jobColdStorageService,
+            this.registry
+        )
+    }
+
+    def "Schedule"() {
+        expect:
+        this.task.getScheduleType() == GenieTaskScheduleType.TRIGGER
+        (this.task.getTrigger() as CronTrigger).getExpression() == this.properties.getExpression()
+    }
+
+    def "Run moves batches of jobs to cold storage before deleting them"() {
+        this.environment.setProperty(JobColdStorageProperties.AGE_PROPERTY, "10")
+        this.environment.setProperty(JobColdStorageProperties.RETENTION_PROPERTY, "0")
+        def threshold = TaskUtils.getMidnightUTC().minus(10, ChronoUnit.DAYS)
+        def jobs1 = [Mock(ColdStoredJob), Mock(ColdStoredJob)]
+        def jobs2 = [Mock(ColdStoredJob)]
+
+        when:
+        this.task.run()
+
+        then:
+        1 * this.persistenceService.getJobsCreatedBefore(threshold, JobStatus.getActiveStatuses(), 2) >> (["1", "2"] as Set)
+        1 * this.persistenceService.getJobsForColdStorage(["1", "2"] as Set) >> jobs1
+        1 * this.jobColdStorageService.storeJobs(jobs1)
+
+        then:
+        1 * this.persistenceService.deleteJobs(["1", "2"] as Set) >> 2L
+
+        then:
+        1 * this.persistenceService.getJobsCreatedBefore(threshold, JobStatus.getActiveStatuses(), 2) >> (["3", "4"] as Set)
+        1 * this.persistenceService.getJobsForColdStorage(["3", "4"] as Set) >> jobs2
+        1 * this.jobColdStorageService.storeJobs(jobs2)
+
+        then:
+        1 * this.persistenceService.deleteJobs(["3", "4"] as Set) >> 1L
+
+        then:
+        1 * this.persistenceService.getJobsCreatedBefore(threshold, JobStatus.getActiveStatuses(), 2) >> ([] as Set)
+        0 * this.persistenceService.deleteJobs(_)
+        0 * this.jobColdStorageService.deleteJobsCreatedBefore(_)
+        this.registry.get("genie.tasks.jobColdStorage.numMovedJobs.gauge").gauge().value() == 3
+        this.registry.get("genie.tasks.jobColdStorage.numExpiredJobs.gauge").gauge().value() == 0
+    }
+
+    def "Run deletes jobs past retention from cold storage"() {
+        this.environment.setProperty(JobColdStorageProperties.RETENTION_PROPERTY, "100")
+        def retentionLimit = TaskUtils.getMidnightUTC().minus(100, ChronoUnit.DAYS)
+
+        when:
+        this.task.run()
+
+        then:
+        1 * this.persistenceService.getJobsCreatedBefore(_, _, _) >> ([] as Set)
+        1 * this.jobColdStorageService.deleteJobsCreatedBefore(retentionLimit) >> 42L
+        this.registry.get("genie.tasks.jobColdStorage.numExpiredJobs.gauge").gauge().value() == 42
+
+        when:
+        this.task.cleanup()
+
+        then:
+        this.registry.get("genie.tasks.jobColdStorage.numExpiredJobs.gauge").gauge().value() == 0
+    }
+
+    def "Jobs aren't deleted if they can't be written to cold storage"() {
+        when:
+        this.task.run()
+
+        then:
+        1 * this.persistenceService.getJobsCreatedBefore(_, _, _) >> (["1"] as Set)
+        1 * this.persistenceService.getJobsForColdStorage(["1"] as Set) >> [Mock(ColdStoredJob)]
+        1 * this.jobColdStorageService.storeJobs(_) >> { throw new IOException("disk full") }
+        0 * this.persistenceService.deleteJobs(_)
+        0 * this.jobColdStorageService.deleteJobsCreatedBefore(_)
+        thrown(UncheckedIOException)
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.tasks.leader
+
+import com.netflix.genie.common.internal.dtos.JobStatus
+import com.netflix.genie.web.data.services.DataServices
+import com.netflix.genie.web.data.services.PersistenceService
+import com.netflix.genie.web.properties.DatabaseCleanupProperties
+import com.netflix.genie.web.properties.JobsPartitioningProperties
+import com.netflix.genie.web.tasks.GenieTaskScheduleType
+import com.netflix.genie.web.tasks.TaskUtils
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.mock.env.MockEnvironment
+import org.springframework.scheduling.support.CronTrigger
+import spock.lang.Specification
+
+import java.time.Duration
+import java.time.Instant
+import java.time.temporal.ChronoUnit
+
+class JobsPartitionMaintenanceTaskSpec extends Specification {
+    JobsPartitioningProperties partitioningProperties
+    DatabaseCleanupProperties cleanupProperties
+    MockEnvironment environment
+    PersistenceService persistenceService
+    SimpleMeterRegistry registry
+    JobsPartitionMaintenanceTask task
+
+    def setup() {
+        this.partitioningProperties = new JobsPartitioningProperties()
+        this.cleanupProperties = new DatabaseCleanupProperties()
+        this.environment = new MockEnvironment()
+        this.persistenceService = Mock(PersistenceService)
+        this.registry = new SimpleMeterRegistry()
+        def dataServices = Mock(DataServices) {
+            getPersistenceService() >> this.persistenceService
+        }
+        this.task = new JobsPartitionMaintenanceTask(
+            this.partitioningProperties,
+            this.cleanupProperties,
+            this.environment,
+            dataServices,
+            this.registry
+        )
+    }
+
+    def "Schedule is a cron trigger overridable from the environment"() {
+        when:
+        def scheduleType = this.task.getScheduleType()
+        def trigger = this.task.getTrigger()
+
+        then:
+        scheduleType == GenieTaskScheduleType.TRIGGER
+        trigger instanceof CronTrigger
+        (trigger as CronTrigger).getExpression() == this.partitioningProperties.getExpression()
+
+        when:
+        this.environment.setProperty(JobsPartitioningProperties.EXPRESSION_PROPERTY, "0 0 1 * * *")
+        trigger = this.task.getTrigger()
+
+        then:
+        (trigger as CronTrigger).getExpression() == "0 0 1 * * *"
+    }
+
+    def "Run creates partitions ahead and drops partitions past retention"() {
+        def retentionLimit = TaskUtils.getMidnightUTC().minus(30, ChronoUnit.DAYS)
+        this.environment.setProperty(
+            DatabaseCleanupProperties.JobDatabaseCleanupProperties.JOB_RETENTION_PROPERTY,
+            "30"
+        )
+        this.environment.setProperty(DatabaseCleanupProperties.JobDatabaseCleanupProperties.PAGE_SIZE_PROPERTY, "500")
+        this.partitioningProperties.setPartitionWidthDays(1)
+        this.partitioningProperties.setPartitionsAhead(3)
+        def earliestCoverage = Instant.now().plus(3, ChronoUnit.DAYS)
+
+        when:
+        this.task.run()
+
+        then:
+        1 * this.persistenceService.createJobPartitions(_ as Instant, Duration.ofDays(1)) >> {
+            args ->
+                assert !(args[0] as Instant).isBefore(earliestCoverage)
+                return 2
+        }
+        1 * this.persistenceService.dropJobPartitionsBefore(retentionLimit, JobStatus.getActiveStatuses(), 500) >> 5
+        this.registry.get("genie.tasks.jobsPartitioning.numCreatedPartitions.gauge").gauge().value() == 2
+        this.registry.get("genie.tasks.jobsPartitioning.numDroppedPartitions.gauge").gauge().value() == 5
+        this.registry.get("genie.tasks.jobsPartitioning.duration.timer").timer().count() == 1
+
+        when:
+        this.task.cleanup()
+
+        then:
+        this.registry.get("genie.tasks.jobsPartitioning.numCreatedPartitions.gauge").gauge().value() == 0
+        this.registry.get("genie.tasks.jobsPartitioning.numDroppedPartitions.gauge").gauge().value() == 0
+    }
+
+    def "Run doesn't drop partitions when job cleanup is skipped"() {
+        this.environment.setProperty(DatabaseCleanupProperties.JobDatabaseCleanupProperties.SKIP_PROPERTY, "true")
+
+        when:
+        this.task.run()
+
+        then:
+        1 * this.persistenceService.createJobPartitions(_ as Instant, _ as Duration) >> 0
+        0 * this.persistenceService.dropJobPartitionsBefore(_, _, _)
+    }
+
+    def "Run propagates persistence failures"() {
+        when:
+        this.task.run()
+
+        then:
+        1 * this.persistenceService.createJobPartitions(_ as Instant, _ as Duration) >> {
+            throw new IllegalStateException("boom")
+        }
+        0 * this.persistenceService.dropJobPartitionsBefore(_, _, _)
+        thrown(IllegalStateException)
+        this.registry.get("genie.tasks.jobsPartitioning.duration.timer").timer().count() == 1
+    }
+}
@@ -18,10 +18,8 @@
 package com.netflix.genie.web.tasks.leader
 
 import com.netflix.genie.common.dto.UserResourcesSummary
-import com.netflix.genie.common.internal.dtos.JobStatus
-import com.netflix.genie.web.data.services.DataServices
-import com.netflix.genie.web.data.services.PersistenceService
 import com.netflix.genie.web.properties.UserMetricsProperties
+import com.netflix.genie.web.services.ActiveJobResourcesService
 import com.netflix.genie.web.tasks.GenieTaskScheduleType
 import com.netflix.genie.web.util.MetricsConstants
 import io.micrometer.core.instrument.Gauge
@@ -35,20 +33,16 @@ import java.util.function.ToDoubleFunction
 @SuppressWarnings("GroovyAccessibility")
 class UserMetricsTaskSpec extends Specification {
     MeterRegistry registry
-    PersistenceService persistenceService
+    ActiveJobResourcesService activeJobResourcesService
     UserMetricsProperties userMetricProperties
     UserMetricsTask task
     Map<String, Closure<Double>> gaugesFunctions
-    DataServices dataServices
 
     def setup() {
         this.registry = Mock(MeterRegistry)
-        this.persistenceService = Mock(PersistenceService)
+        this.activeJobResourcesService = Mock(ActiveJobResourcesService)
         this.userMetricProperties = Mock(UserMetricsProperties)
         this.gaugesFunctions = Maps.newHashMap()
-        this.dataServices = Mock(DataServices) {
-            getPersistenceService() >> this.persistenceService
-        }
     }
 
     def "Run"() {
@@ -66,7 +60,7 @@ class UserMetricsTaskSpec extends Specification {
         Map<String, UserResourcesSummary> emptySummariesMap = Maps.newHashMap()
 
         when:
-        this.task = new UserMetricsTask(this.registry, this.dataServices, this.userMetricProperties)
+        this.task = new UserMetricsTask(this.registry, this.activeJobResourcesService, this.userMetricProperties)
 
         then:
         1 * registry.gauge(_ as Meter.Id, _, _ as ToDoubleFunction) >> {
@@ -88,7 +82,7 @@ class UserMetricsTaskSpec extends Specification {
         this.task.run()
 
         then:
-        1 * persistenceService.getUserResourcesSummaries(JobStatus.activeStatuses, true) >> fooBarSummariesMap
+        1 * activeJobResourcesService.getUserResourcesSummaries(true) >> fooBarSummariesMap
         4 * registry.gauge(_ as Meter.Id, _, _ as ToDoubleFunction) >> {
             args -> return captureGauge(args[0] as Meter.Id, args[1] as Object, args[2] as ToDoubleFunction<Object>)
         }
@@ -103,7 +97,7 @@ class UserMetricsTaskSpec extends Specification {
         this.task.run()
 
         then:
-        1 * persistenceService.getUserResourcesSummaries(JobStatus.activeStatuses, true) >> fooBooSummariesMap
+        1 * activeJobResourcesService.getUserResourcesSummaries(true) >> fooBooSummariesMap
         2 * registry.gauge(_ as Meter.Id, _, _ as ToDoubleFunction) >> {
             args -> return captureGauge(args[0] as Meter.Id, args[1] as Object, args[2] as ToDoubleFunction<Object>)
         }
@@ -120,7 +114,7 @@ class UserMetricsTaskSpec extends Specification {
         this.task.run()
 
         then:
-        1 * persistenceService.getUserResourcesSummaries(JobStatus.activeStatuses, true) >> emptySummariesMap
+        1 * activeJobResourcesService.getUserResourcesSummaries(true) >> emptySummariesMap
         measureActiveUsers() == 0
         measureJobs("foo") == Double.NaN
         measureMemory("foo") == Double.NaN
@@ -145,7 +139,7 @@ class UserMetricsTaskSpec extends Specification {
         this.task.run()
 
         then:
-        1 * persistenceService.getUserResourcesSummaries(JobStatus.activeStatuses, true) >> fooBarSummariesMap
+        1 * activeJobResourcesService.getUserResourcesSummaries(true) >> fooBarSummariesMap
 
         4 * registry.gauge(_ as Meter.Id, _, _ as ToDoubleFunction) >> {
             args -> return captureGauge(args[0] as Meter.Id, args[1] as Object, args[2] as ToDoubleFunction<Object>)
@@ -184,7 +178,7 @@ class UserMetricsTaskSpec extends Specification {
         ]
 
         when:
-        this.task = new UserMetricsTask(this.registry, this.dataServices, this.userMetricProperties)
+        this.task = new UserMetricsTask(this.registry, this.activeJobResourcesService, this.userMetricProperties)
 
         then:
         1 * registry.gauge(_ as Meter.Id, _, _ as ToDoubleFunction) >> {
@@ -196,8 +190,8 @@ class UserMetricsTaskSpec extends Specification {
 
         then:
         _ * userMetricProperties.isSplitBySubmissionMode() >> true
-        1 * persistenceService.getUserResourcesSummaries(JobStatus.activeStatuses, true) >> apiSummaries
-        1 * persistenceService.getUserResourcesSummaries(JobStatus.activeStatuses, false) >> agentSummaries
+        1 * activeJobResourcesService.getUserResourcesSummaries(true) >> apiSummaries
+        1 * activeJobResourcesService.getUserResourcesSummaries(false) >> agentSummaries
         _ * registry.gauge(_ as Meter.Id, _, _ as ToDoubleFunction) >> {
             args -> return captureGauge(args[0] as Meter.Id, args[1] as Object, args[2] as ToDoubleFunction<Object>)
         }
@@ -223,8 +217,8 @@ class UserMetricsTaskSpec extends Specification {
 
         then:
         _ * userMetricProperties.isSplitBySubmissionMode() >> true
-        1 * persistenceService.getUserResourcesSummaries(JobStatus.activeStatuses, true) >> apiSummaries
-        1 * persistenceService.getUserResourcesSummaries(JobStatus.activeStatuses, false) >>
+        1 * activeJobResourcesService.getUserResourcesSummaries(true) >> apiSummaries
+        1 * activeJobResourcesService.getUserResourcesSummaries(false) >>
             (["foo": new UserResourcesSummary("foo", 3, 256)] as Map<String, UserResourcesSummary>)
         _ * registry.gauge(_ as Meter.Id, _, _ as ToDoubleFunction) >> {
             args -> return captureGauge(args[0] as Meter.Id, args[1] as Object, args[2] as ToDoubleFunction<Object>)
@@ -0,0 +1,123 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.tasks.node
+
+import com.netflix.genie.web.data.services.CatalogCaches
+import com.netflix.genie.web.data.services.DataServices
+import com.netflix.genie.web.data.services.PersistenceService
+import com.netflix.genie.web.properties.CatalogCacheProperties
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager
+import org.springframework.scheduling.TaskScheduler
+import spock.lang.Specification
+
+import java.time.Duration
+
+/**
+ * Specifications for {@link CatalogCacheRefreshTask}.
+ *
+ * @author tgianos
+ */
+class CatalogCacheRefreshTaskSpec extends Specification {
+    CatalogCacheProperties properties
+    TaskScheduler scheduler
+    PersistenceService persistenceService
+    ConcurrentMapCacheManager cacheManager
+    SimpleMeterRegistry registry
+    CatalogCacheRefreshTask task
+
+    def setup() {
+        this.properties = new CatalogCacheProperties()
+        this.properties.setRefreshCheckInterval(Duration.ofSeconds(5L))
+        this.scheduler = Mock(TaskScheduler)
+        this.persistenceService = Mock(PersistenceService)
+        this.cacheManager = new ConcurrentMapCacheManager(CatalogCaches.ALL as String[])
+        this.registry = new SimpleMeterRegistry()
+        def dataServices = Mock(DataServices) {
+            getPersistenceService() >> this.persistenceService
+        }
+        this.task = new CatalogCacheRefreshTask(
+            this.properties,
+            this.scheduler,
+            dataServices,
+            this.cacheManager,
+            this.registry
+        )
+    }
+
+    def "Schedules itself with the configured interval"() {
+        def dataServices = Mock(DataServices)
+
+        when:
+        new CatalogCacheRefreshTask(
+            this.properties,
+            this.scheduler,
+            dataServices,
+            this.cacheManager,
+            this.registry
+        )
+
+        then:
+        1 * this.scheduler.scheduleWithFixedDelay(_ as CatalogCacheRefreshTask, Duration.ofSeconds(5L))
+    }
+
+    def "Caches are only cleared when the catalog version changes"() {
+        when: "The first check has nothing to compare against"
+        this.cacheManager.getCache(CatalogCaches.COMMANDS).put("cmd", "value")
+        this.task.run()
+
+        then:
+        1 * this.persistenceService.getCatalogVersion() >> "1"
+        this.cacheManager.getCache(CatalogCaches.COMMANDS).get("cmd") == null
+
+        when: "Nothing changed"
+        this.cacheManager.getCache(CatalogCaches.COMMANDS).put("cmd", "value")
+        this.task.run()
+
+        then:
+        1 * this.persistenceService.getCatalogVersion() >> "1"
+        this.cacheManager.getCache(CatalogCaches.COMMANDS).get("cmd") != null
+
+        when: "Another node changed the catalog"
+        this.task.run()
+
+        then:
+        1 * this.persistenceService.getCatalogVersion() >> "2"
+        this.cacheManager.getCache(CatalogCaches.COMMANDS).get("cmd") == null
+        this.registry.counter("genie.tasks.catalogCacheRefresh.invalidations.rate").count() == 2.0d
+    }
+
+    def "Caches are cleared when the catalog version can't be checked"() {
+        when:
+        this.cacheManager.getCache(CatalogCaches.CLUSTERS).put("cluster", "value")
+        this.task.run()
+
+        then:
+        1 * this.persistenceService.getCatalogVersion() >> { throw new RuntimeException("db down") }
+        this.cacheManager.getCache(CatalogCaches.CLUSTERS).get("cluster") == null
+        this.registry.counter("genie.tasks.catalogCacheRefresh.checkFailures.rate").count() == 1.0d
+
+        when: "The next successful check is treated as a change"
+        this.cacheManager.getCache(CatalogCaches.CLUSTERS).put("cluster", "value")
+        this.task.run()
+
+        then:
+        1 * this.persistenceService.getCatalogVersion() >> "1"
+        this.cacheManager.getCache(CatalogCaches.CLUSTERS).get("cluster") == null
+    }
+}
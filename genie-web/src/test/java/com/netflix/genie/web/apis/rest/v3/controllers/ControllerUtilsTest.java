@@ -17,6 +17,8 @@
  */
 package com.netflix.genie.web.apis.rest.v3.controllers;
 
+import com.netflix.genie.common.dto.Application;
+import com.netflix.genie.common.dto.ApplicationStatus;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -25,6 +27,7 @@ import org.springframework.web.servlet.HandlerMapping;
 import jakarta.servlet.http.HttpServletRequest;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Instant;
 import java.util.UUID;
 
 /**
@@ -105,4 +108,22 @@ class ControllerUtilsTest {
             .assertThat(ControllerUtils.getRequestRoot(request, "genie/genie.done"))
             .isEqualTo(new URL("https://genie.com/api/v3/jobs/1234/output/"));
     }
+
+    /**
+     * Test {@link ControllerUtils#getEntityTag(com.netflix.genie.common.dto.BaseDTO)}.
+     */
+    @Test
+    void canGetEntityTag() {
+        final Instant updated = Instant.ofEpochMilli(1_700_000_000_123L);
+        final Application application = new Application
+            .Builder(UUID.randomUUID().toString(), UUID.randomUUID().toString(), "1.0", ApplicationStatus.ACTIVE)
+            .withUpdated(updated)
+            .build();
+        Assertions.assertThat(ControllerUtils.getEntityTag(application)).contains("W/\"1700000000123\"");
+
+        final Application notUpdated = new Application
+            .Builder(UUID.randomUUID().toString(), UUID.randomUUID().toString(), "1.0", ApplicationStatus.ACTIVE)
+            .build();
+        Assertions.assertThat(ControllerUtils.getEntityTag(notUpdated)).isEmpty();
+    }
 }
@@ -43,9 +43,11 @@ import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.PersistenceService;
 import com.netflix.genie.web.properties.JobsProperties;
 import com.netflix.genie.web.services.AttachmentService;
+import com.netflix.genie.web.services.JobAdmissionService;
 import com.netflix.genie.web.services.JobDirectoryServerService;
 import com.netflix.genie.web.services.JobKillService;
 import com.netflix.genie.web.services.JobLaunchService;
+import com.netflix.genie.web.services.JobResolverService;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.http.Header;
@@ -154,7 +156,9 @@ class JobRestControllerTest {
             this.agentRoutingService,
             this.environment,
             Mockito.mock(AttachmentService.class),
-            this.jobKillService
+            this.jobKillService,
+            Mockito.mock(JobAdmissionService.class),
+            Mockito.mock(JobResolverService.class)
         );
     }
 
@@ -492,7 +496,9 @@ class JobRestControllerTest {
             this.agentRoutingService,
             this.environment,
             Mockito.mock(AttachmentService.class),
-            this.jobKillService
+            this.jobKillService,
+            Mockito.mock(JobAdmissionService.class),
+            Mockito.mock(JobResolverService.class)
         );
         jobController.getJobOutput(jobId, null, request, response);
 
@@ -25,6 +25,8 @@ import com.netflix.genie.common.internal.dtos.ApplicationRequest;
 import com.netflix.genie.common.internal.dtos.ApplicationStatus;
 import com.netflix.genie.common.internal.dtos.ExecutionEnvironment;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
+import com.netflix.genie.web.data.ids.RandomUuidIdGenerator;
+import com.netflix.genie.web.data.ids.TimeOrderedUuidIdGenerator;
 import com.netflix.genie.web.data.services.impl.jpa.entities.ApplicationEntity;
 import com.netflix.genie.web.data.services.impl.jpa.entities.CommandEntity;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaApplicationRepository;
@@ -66,7 +68,10 @@ class JpaPersistenceServiceImplApplicationsTest {
         this.persistenceService = new JpaPersistenceServiceImpl(
             Mockito.mock(EntityManager.class),
             jpaRepositories,
-            Mockito.mock(BraveTracingComponents.class)
+            Mockito.mock(BraveTracingComponents.class),
+            new TimeOrderedUuidIdGenerator(),
+            new RandomUuidIdGenerator(),
+            null
         );
     }
 
@@ -24,6 +24,8 @@ import com.netflix.genie.common.internal.dtos.ClusterRequest;
 import com.netflix.genie.common.internal.dtos.ClusterStatus;
 import com.netflix.genie.common.internal.dtos.ExecutionEnvironment;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
+import com.netflix.genie.web.data.ids.RandomUuidIdGenerator;
+import com.netflix.genie.web.data.ids.TimeOrderedUuidIdGenerator;
 import com.netflix.genie.web.data.services.impl.jpa.entities.ClusterEntity;
 import com.netflix.genie.web.data.services.impl.jpa.entities.FileEntity;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaClusterRepository;
@@ -71,7 +73,10 @@ class JpaPersistenceServiceImplClustersTest {
         this.service = new JpaPersistenceServiceImpl(
             Mockito.mock(EntityManager.class),
             jpaRepositories,
-            Mockito.mock(BraveTracingComponents.class)
+            Mockito.mock(BraveTracingComponents.class),
+            new TimeOrderedUuidIdGenerator(),
+            new RandomUuidIdGenerator(),
+            null
         );
     }
 
@@ -25,6 +25,8 @@ import com.netflix.genie.common.internal.dtos.CommandRequest;
 import com.netflix.genie.common.internal.dtos.CommandStatus;
 import com.netflix.genie.common.internal.dtos.ExecutionEnvironment;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
+import com.netflix.genie.web.data.ids.RandomUuidIdGenerator;
+import com.netflix.genie.web.data.ids.TimeOrderedUuidIdGenerator;
 import com.netflix.genie.web.data.services.impl.jpa.entities.CommandEntity;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaApplicationRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaCommandRepository;
@@ -76,7 +78,10 @@ class JpaPersistenceServiceImplCommandsTest {
         this.service = new JpaPersistenceServiceImpl(
             Mockito.mock(EntityManager.class),
             jpaRepositories,
-            Mockito.mock(BraveTracingComponents.class)
+            Mockito.mock(BraveTracingComponents.class),
+            new TimeOrderedUuidIdGenerator(),
+            new RandomUuidIdGenerator(),
+            null
         );
     }
 
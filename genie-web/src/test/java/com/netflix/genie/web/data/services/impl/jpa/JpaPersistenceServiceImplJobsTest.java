@@ -17,6 +17,8 @@
  */
 package com.netflix.genie.web.data.services.impl.jpa;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -24,17 +26,30 @@ import com.netflix.genie.common.dto.Job;
 import com.netflix.genie.common.dto.UserResourcesSummary;
 import com.netflix.genie.common.exceptions.GenieException;
 import com.netflix.genie.common.exceptions.GenieNotFoundException;
+import com.netflix.genie.common.external.util.GenieObjectMapper;
 import com.netflix.genie.common.internal.dtos.AgentClientMetadata;
 import com.netflix.genie.common.internal.dtos.ArchiveStatus;
+import com.netflix.genie.common.internal.dtos.ExecutionEnvironment;
+import com.netflix.genie.common.internal.dtos.JobEnvironment;
 import com.netflix.genie.common.internal.dtos.JobSpecification;
 import com.netflix.genie.common.internal.dtos.JobStatus;
+import com.netflix.genie.common.internal.dtos.converters.JobServiceProtoConverter;
 import com.netflix.genie.common.internal.exceptions.checked.GenieCheckedException;
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieInvalidStatusException;
 import com.netflix.genie.common.internal.exceptions.unchecked.GenieJobAlreadyClaimedException;
 import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
+import com.netflix.genie.web.data.ids.RandomUuidIdGenerator;
+import com.netflix.genie.web.data.ids.TimeOrderedUuidIdGenerator;
+import com.netflix.genie.web.data.observers.JobStatusTransition;
+import com.netflix.genie.web.data.observers.PersistedJobStatusObserver;
 import com.netflix.genie.web.data.services.impl.jpa.entities.ClusterEntity;
 import com.netflix.genie.web.data.services.impl.jpa.entities.CommandEntity;
 import com.netflix.genie.web.data.services.impl.jpa.entities.JobEntity;
+import com.netflix.genie.web.data.services.impl.jpa.entities.JobStatusHistoryEntity;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.ClusterJobResourcesAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobResourcesAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.JobStatusTransitionAggregate;
+import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.UserHostJobResourcesAggregate;
 import com.netflix.genie.web.data.services.impl.jpa.queries.aggregates.UserJobResourcesAggregate;
 import com.netflix.genie.web.data.services.impl.jpa.queries.projections.JobApiProjection;
 import com.netflix.genie.web.data.services.impl.jpa.queries.projections.JobApplicationsProjection;
@@ -48,19 +63,27 @@ import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaClusterRepos
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaCommandRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaFileRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaJobRepository;
+import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaJobStatusHistoryRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaRepositories;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaTagRepository;
+import com.netflix.genie.web.dtos.JobResourceUsage;
+import com.netflix.genie.web.dtos.JobResources;
+import com.netflix.genie.web.dtos.JobStageTiming;
 import com.netflix.genie.web.dtos.ResolvedJob;
 import com.netflix.genie.web.exceptions.checked.NotFoundException;
 import org.apache.commons.lang3.StringUtils;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import jakarta.persistence.EntityManager;
+import java.io.File;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -79,6 +102,8 @@ class JpaPersistenceServiceImplJobsTest {
     private JpaApplicationRepository applicationRepository;
     private JpaClusterRepository clusterRepository;
     private JpaCommandRepository commandRepository;
+    private JpaJobStatusHistoryRepository jobStatusHistoryRepository;
+    private PersistedJobStatusObserver persistedJobStatusObserver;
 
     private JpaPersistenceServiceImpl persistenceService;
 
@@ -88,6 +113,8 @@ class JpaPersistenceServiceImplJobsTest {
         this.applicationRepository = Mockito.mock(JpaApplicationRepository.class);
         this.clusterRepository = Mockito.mock(JpaClusterRepository.class);
         this.commandRepository = Mockito.mock(JpaCommandRepository.class);
+        this.jobStatusHistoryRepository = Mockito.mock(JpaJobStatusHistoryRepository.class);
+        this.persistedJobStatusObserver = Mockito.mock(PersistedJobStatusObserver.class);
         final JpaTagRepository tagRepository = Mockito.mock(JpaTagRepository.class);
         final JpaFileRepository fileRepository = Mockito.mock(JpaFileRepository.class);
 
@@ -96,13 +123,17 @@ class JpaPersistenceServiceImplJobsTest {
         Mockito.when(jpaRepositories.getClusterRepository()).thenReturn(this.clusterRepository);
         Mockito.when(jpaRepositories.getCommandRepository()).thenReturn(this.commandRepository);
         Mockito.when(jpaRepositories.getJobRepository()).thenReturn(this.jobRepository);
+        Mockito.when(jpaRepositories.getJobStatusHistoryRepository()).thenReturn(this.jobStatusHistoryRepository);
         Mockito.when(jpaRepositories.getFileRepository()).thenReturn(fileRepository);
         Mockito.when(jpaRepositories.getTagRepository()).thenReturn(tagRepository);
 
         this.persistenceService = new JpaPersistenceServiceImpl(
             Mockito.mock(EntityManager.class),
             jpaRepositories,
-            Mockito.mock(BraveTracingComponents.class)
+            Mockito.mock(BraveTracingComponents.class),
+            new TimeOrderedUuidIdGenerator(),
+            new RandomUuidIdGenerator(),
+            this.persistedJobStatusObserver
         );
     }
 
@@ -220,6 +251,39 @@ class JpaPersistenceServiceImplJobsTest {
             .isThrownBy(() -> this.persistenceService.saveResolvedJob(jobId, resolvedJob));
     }
 
+    @Test
+    void savingResolvedJobSavesJobSpecificationSnapshot() throws GenieCheckedException {
+        final String jobId = UUID.randomUUID().toString();
+        final JobEntity jobEntity = Mockito.mock(JobEntity.class);
+        Mockito.when(jobEntity.isResolved()).thenReturn(false);
+        Mockito.when(jobEntity.getStatus()).thenReturn(JobStatus.RESERVED.name());
+        final JobSpecification jobSpecification = this.createJobSpecification(jobId);
+        final ResolvedJob resolvedJob = Mockito.mock(ResolvedJob.class);
+        Mockito.when(resolvedJob.getJobSpecification()).thenReturn(jobSpecification);
+        Mockito.when(resolvedJob.getJobEnvironment()).thenReturn(new JobEnvironment.Builder().build());
+
+        Mockito.when(this.jobRepository.findByUniqueId(jobId)).thenReturn(Optional.of(jobEntity));
+        Mockito
+            .when(this.clusterRepository.findByUniqueId(jobSpecification.getCluster().getId()))
+            .thenReturn(Optional.of(Mockito.mock(ClusterEntity.class)));
+        Mockito
+            .when(this.commandRepository.findByUniqueId(jobSpecification.getCommand().getId()))
+            .thenReturn(Optional.of(Mockito.mock(CommandEntity.class)));
+
+        this.persistenceService.saveResolvedJob(jobId, resolvedJob);
+
+        final ArgumentCaptor<byte[]> snapshot = ArgumentCaptor.forClass(byte[].class);
+        Mockito.verify(jobEntity, Mockito.times(1)).setJobSpecificationSnapshot(snapshot.capture());
+        Mockito.verify(jobEntity, Mockito.times(1)).setStatus(JobStatus.RESOLVED.name());
+        Assertions
+            .assertThat(
+                new JobServiceProtoConverter().toJobSpecificationDto(
+                    com.netflix.genie.proto.JobSpecification.parseFrom(snapshot.getValue())
+                )
+            )
+            .isEqualTo(jobSpecification);
+    }
+
     @Test
     void noJobUnableToGetJobSpecification() {
         Mockito
@@ -231,6 +295,36 @@ class JpaPersistenceServiceImplJobsTest {
             .isThrownBy(() -> this.persistenceService.getJobSpecification(UUID.randomUUID().toString()));
     }
 
+    @Test
+    void jobSpecificationIsReadFromSnapshot() throws GenieCheckedException {
+        final String id = UUID.randomUUID().toString();
+        final JobSpecification jobSpecification = this.createJobSpecification(id);
+        Mockito
+            .when(this.jobRepository.getJobSpecificationSnapshot(id))
+            .thenReturn(
+                Optional.of(
+                    new JobServiceProtoConverter().toJobSpecificationProto(jobSpecification).toByteArray()
+                )
+            );
+
+        Assertions.assertThat(this.persistenceService.getJobSpecification(id)).contains(jobSpecification);
+        Mockito.verify(this.jobRepository, Mockito.never()).getJobSpecification(Mockito.anyString());
+    }
+
+    @Test
+    void unreadableJobSpecificationSnapshotFallsBackToJobEntity() throws GenieCheckedException {
+        final String id = UUID.randomUUID().toString();
+        Mockito
+            .when(this.jobRepository.getJobSpecificationSnapshot(id))
+            .thenReturn(Optional.of(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF}));
+        final JobEntity jobEntity = Mockito.mock(JobEntity.class);
+        Mockito.when(jobEntity.isResolved()).thenReturn(false);
+        Mockito.when(this.jobRepository.getJobSpecification(id)).thenReturn(Optional.of(jobEntity));
+
+        Assertions.assertThat(this.persistenceService.getJobSpecification(id)).isNotPresent();
+        Mockito.verify(this.jobRepository, Mockito.times(1)).getJobSpecification(id);
+    }
+
     @Test
     void unresolvedJobReturnsEmptyJobSpecificationOptional() throws GenieCheckedException {
         final JobEntity jobEntity = Mockito.mock(JobEntity.class);
@@ -248,7 +342,7 @@ class JpaPersistenceServiceImplJobsTest {
     @Test
     void testClaimJobErrorCases() {
         Mockito
-            .when(this.jobRepository.findByUniqueId(Mockito.anyString()))
+            .when(this.jobRepository.getJobStatusTransition(Mockito.anyString()))
             .thenReturn(Optional.empty());
 
         Assertions
@@ -260,50 +354,110 @@ class JpaPersistenceServiceImplJobsTest {
                 )
             );
 
-        final JobEntity jobEntity = Mockito.mock(JobEntity.class);
+        final JobStatusTransitionAggregate job = Mockito.mock(JobStatusTransitionAggregate.class);
         final String id = UUID.randomUUID().toString();
         Mockito
-            .when(this.jobRepository.findByUniqueId(id))
-            .thenReturn(Optional.of(jobEntity));
+            .when(this.jobRepository.getJobStatusTransition(id))
+            .thenReturn(Optional.of(job));
 
-        Mockito.when(jobEntity.isClaimed()).thenReturn(true);
+        Mockito.when(job.isClaimed()).thenReturn(true);
 
         Assertions
             .assertThatExceptionOfType(GenieJobAlreadyClaimedException.class)
             .isThrownBy(() -> this.persistenceService.claimJob(id, Mockito.mock(AgentClientMetadata.class)));
 
-        Mockito.when(jobEntity.isClaimed()).thenReturn(false);
-        Mockito.when(jobEntity.getStatus()).thenReturn(JobStatus.INVALID.name());
+        Mockito.when(job.isClaimed()).thenReturn(false);
+        Mockito.when(job.getStatus()).thenReturn(JobStatus.INVALID.name());
 
         Assertions
             .assertThatExceptionOfType(GenieInvalidStatusException.class)
             .isThrownBy(() -> this.persistenceService.claimJob(id, Mockito.mock(AgentClientMetadata.class)));
+
+        Mockito.verify(this.jobStatusHistoryRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(this.persistedJobStatusObserver, Mockito.never()).notify(Mockito.any());
+    }
+
+    @Test
+    void testClaimJobLosesRace() {
+        final String id = UUID.randomUUID().toString();
+        final JobStatusTransitionAggregate claimed = Mockito.mock(JobStatusTransitionAggregate.class);
+        Mockito.when(claimed.isClaimed()).thenReturn(true);
+        Mockito
+            .when(this.jobRepository.getJobStatusTransition(id))
+            .thenReturn(Optional.of(claimed));
+
+        Assertions
+            .assertThatExceptionOfType(GenieJobAlreadyClaimedException.class)
+            .isThrownBy(() -> this.persistenceService.claimJob(id, Mockito.mock(AgentClientMetadata.class)));
+        for (final JobStatus claimableStatus : JobStatus.getClaimableStatuses()) {
+            Mockito
+                .verify(this.jobRepository, Mockito.times(1))
+                .compareAndSetClaimed(
+                    Mockito.eq(id),
+                    Mockito.eq(claimableStatus.name()),
+                    Mockito.eq(JobStatus.CLAIMED.name()),
+                    Mockito.any(),
+                    Mockito.any(),
+                    Mockito.any(),
+                    Mockito.any(Instant.class)
+                );
+        }
+        Mockito.verify(this.jobRepository, Mockito.times(1)).getJobStatusTransition(id);
+        Mockito.verify(this.jobStatusHistoryRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(this.persistedJobStatusObserver, Mockito.never()).notify(Mockito.any());
     }
 
     @Test
     void testClaimJobValidBehavior() throws GenieCheckedException {
-        final JobEntity jobEntity = Mockito.mock(JobEntity.class);
+        final JobStatusTransitionAggregate job = Mockito.mock(JobStatusTransitionAggregate.class);
         final AgentClientMetadata agentClientMetadata = Mockito.mock(AgentClientMetadata.class);
         final String id = UUID.randomUUID().toString();
+        final String agentHostname = UUID.randomUUID().toString();
 
-        Mockito.when(this.jobRepository.findByUniqueId(id)).thenReturn(Optional.of(jobEntity));
-        Mockito.when(jobEntity.isClaimed()).thenReturn(false);
-        Mockito.when(jobEntity.getStatus()).thenReturn(JobStatus.RESOLVED.name());
+        Mockito.when(this.jobRepository.getJobStatusTransition(id)).thenReturn(Optional.of(job));
+        Mockito.when(job.getStatus()).thenReturn(JobStatus.CLAIMED.name());
+        Mockito.when(job.getCreated()).thenReturn(Instant.now().minusSeconds(5L));
+        Mockito.when(job.getUser()).thenReturn("user");
+        Mockito.when(job.isApi()).thenReturn(true);
+        Mockito.when(job.getAgentHostname()).thenReturn(agentHostname);
+        Mockito.when(job.getMemoryUsed()).thenReturn(1_024L);
+        Mockito.when(job.getCpuUsed()).thenReturn(2);
 
-        final String agentHostname = UUID.randomUUID().toString();
         Mockito.when(agentClientMetadata.getHostname()).thenReturn(Optional.of(agentHostname));
         final String agentVersion = UUID.randomUUID().toString();
         Mockito.when(agentClientMetadata.getVersion()).thenReturn(Optional.of(agentVersion));
         final int agentPid = 238;
         Mockito.when(agentClientMetadata.getPid()).thenReturn(Optional.of(agentPid));
+        Mockito
+            .when(
+                this.jobRepository.compareAndSetClaimed(
+                    Mockito.eq(id),
+                    Mockito.eq(JobStatus.RESOLVED.name()),
+                    Mockito.eq(JobStatus.CLAIMED.name()),
+                    Mockito.eq(agentHostname),
+                    Mockito.eq(agentVersion),
+                    Mockito.eq(agentPid),
+                    Mockito.any(Instant.class)
+                )
+            )
+            .thenReturn(1);
 
         this.persistenceService.claimJob(id, agentClientMetadata);
 
-        Mockito.verify(jobEntity, Mockito.times(1)).setClaimed(true);
-        Mockito.verify(jobEntity, Mockito.times(1)).setStatus(JobStatus.CLAIMED.name());
-        Mockito.verify(jobEntity, Mockito.times(1)).setAgentHostname(agentHostname);
-        Mockito.verify(jobEntity, Mockito.times(1)).setAgentVersion(agentVersion);
-        Mockito.verify(jobEntity, Mockito.times(1)).setAgentPid(agentPid);
+        Mockito.verify(this.jobRepository, Mockito.never()).findByUniqueId(Mockito.anyString());
+        final ArgumentCaptor<JobStatusHistoryEntity> historyCaptor
+            = ArgumentCaptor.forClass(JobStatusHistoryEntity.class);
+        Mockito.verify(this.jobStatusHistoryRepository, Mockito.times(1)).save(historyCaptor.capture());
+        Assertions.assertThat(historyCaptor.getValue().getPreviousStatus()).contains(JobStatus.RESOLVED.name());
+        Assertions.assertThat(historyCaptor.getValue().getStatus()).isEqualTo(JobStatus.CLAIMED.name());
+        final ArgumentCaptor<JobStatusTransition> captor = ArgumentCaptor.forClass(JobStatusTransition.class);
+        Mockito.verify(this.persistedJobStatusObserver, Mockito.times(1)).notify(captor.capture());
+        Assertions.assertThat(captor.getValue().getJobId()).isEqualTo(id);
+        Assertions.assertThat(captor.getValue().getPreviousStatus()).contains(JobStatus.RESOLVED);
+        Assertions.assertThat(captor.getValue().getCurrentStatus()).isEqualTo(JobStatus.CLAIMED);
+        Assertions
+            .assertThat(captor.getValue().getResources())
+            .contains(new JobResources("user", true, agentHostname, 1_024L, 2L));
     }
 
     @Test
@@ -314,7 +468,7 @@ class JpaPersistenceServiceImplJobsTest {
             .isEqualTo(JobStatus.CLAIMED);
 
         Mockito
-            .when(this.jobRepository.findByUniqueId(id))
+            .when(this.jobRepository.getJobStatus(id))
             .thenReturn(Optional.empty());
 
         Assertions
@@ -327,40 +481,114 @@ class JpaPersistenceServiceImplJobsTest {
                 )
             );
 
-        final JobEntity jobEntity = Mockito.mock(JobEntity.class);
         Mockito
-            .when(this.jobRepository.findByUniqueId(id))
-            .thenReturn(Optional.of(jobEntity));
-
-        Mockito.when(jobEntity.getStatus()).thenReturn(JobStatus.INIT.name());
+            .when(this.jobRepository.getJobStatus(id))
+            .thenReturn(Optional.of(JobStatus.INIT.name()));
         Assertions
             .assertThat(this.persistenceService.updateJobStatus(id, JobStatus.CLAIMED, JobStatus.INIT, null))
             .isEqualTo(JobStatus.INIT);
+
+        Mockito
+            .when(this.jobRepository.getJobStatus(id))
+            .thenReturn(Optional.of(JobStatus.KILLED.name()));
+        Assertions
+            .assertThat(this.persistenceService.updateJobStatus(id, JobStatus.KILLED, JobStatus.FAILED, null))
+            .isEqualTo(JobStatus.KILLED);
+
+        Mockito
+            .verify(this.jobRepository, Mockito.never())
+            .compareAndSetStatus(
+                Mockito.anyString(),
+                Mockito.eq(JobStatus.KILLED.name()),
+                Mockito.anyString(),
+                Mockito.any(),
+                Mockito.anyBoolean(),
+                Mockito.anyBoolean(),
+                Mockito.any(Instant.class)
+            );
+        Mockito.verify(this.jobRepository, Mockito.never()).getJobStatusTransition(Mockito.anyString());
+        Mockito.verify(this.jobStatusHistoryRepository, Mockito.never()).save(Mockito.any());
+    }
+
+    @Test
+    void testUpdateJobStatusLosesRace() throws NotFoundException {
+        final String id = UUID.randomUUID().toString();
+        Mockito
+            .when(
+                this.jobRepository.compareAndSetStatus(
+                    Mockito.eq(id),
+                    Mockito.eq(JobStatus.RUNNING.name()),
+                    Mockito.eq(JobStatus.SUCCEEDED.name()),
+                    Mockito.any(),
+                    Mockito.anyBoolean(),
+                    Mockito.anyBoolean(),
+                    Mockito.any(Instant.class)
+                )
+            )
+            .thenReturn(0);
+        Mockito.when(this.jobRepository.getJobStatus(id)).thenReturn(Optional.of(JobStatus.KILLED.name()));
+
+        Assertions
+            .assertThat(this.persistenceService.updateJobStatus(id, JobStatus.RUNNING, JobStatus.SUCCEEDED, null))
+            .isEqualTo(JobStatus.KILLED);
+        Mockito.verify(this.jobRepository, Mockito.never()).getJobStatusTransition(Mockito.anyString());
+        Mockito.verify(this.jobStatusHistoryRepository, Mockito.never()).save(Mockito.any());
+        Mockito.verify(this.persistedJobStatusObserver, Mockito.never()).notify(Mockito.any());
     }
 
     @Test
     void testUpdateJobValidBehavior() throws GenieCheckedException {
         final String id = UUID.randomUUID().toString();
         final String newStatusMessage = UUID.randomUUID().toString();
-        final JobEntity jobEntity = Mockito.mock(JobEntity.class);
 
-        Mockito.when(this.jobRepository.findByUniqueId(id)).thenReturn(Optional.of(jobEntity));
-        Mockito.when(jobEntity.getStatus()).thenReturn(JobStatus.INIT.name());
+        Mockito
+            .when(
+                this.jobRepository.compareAndSetStatus(
+                    Mockito.anyString(),
+                    Mockito.anyString(),
+                    Mockito.anyString(),
+                    Mockito.any(),
+                    Mockito.anyBoolean(),
+                    Mockito.anyBoolean(),
+                    Mockito.any(Instant.class)
+                )
+            )
+            .thenReturn(1);
 
-        this.persistenceService.updateJobStatus(id, JobStatus.INIT, JobStatus.RUNNING, newStatusMessage);
+        Assertions
+            .assertThat(
+                this.persistenceService.updateJobStatus(id, JobStatus.INIT, JobStatus.RUNNING, newStatusMessage)
+            )
+            .isEqualTo(JobStatus.RUNNING);
 
-        Mockito.verify(jobEntity, Mockito.times(1)).setStatus(JobStatus.RUNNING.name());
-        Mockito.verify(jobEntity, Mockito.times(1)).setStatusMsg(newStatusMessage);
-        Mockito.verify(jobEntity, Mockito.times(1)).setStarted(Mockito.any(Instant.class));
+        Mockito
+            .verify(this.jobRepository, Mockito.times(1))
+            .compareAndSetStatus(
+                Mockito.eq(id),
+                Mockito.eq(JobStatus.INIT.name()),
+                Mockito.eq(JobStatus.RUNNING.name()),
+                Mockito.eq(newStatusMessage),
+                Mockito.eq(true),
+                Mockito.eq(false),
+                Mockito.any(Instant.class)
+            );
 
         final String finalStatusMessage = UUID.randomUUID().toString();
-        Mockito.when(jobEntity.getStatus()).thenReturn(JobStatus.RUNNING.name());
-        Mockito.when(jobEntity.getStarted()).thenReturn(Optional.of(Instant.now()));
         this.persistenceService.updateJobStatus(id, JobStatus.RUNNING, JobStatus.SUCCEEDED, finalStatusMessage);
 
-        Mockito.verify(jobEntity, Mockito.times(1)).setStatus(JobStatus.SUCCEEDED.name());
-        Mockito.verify(jobEntity, Mockito.times(1)).setStatusMsg(finalStatusMessage);
-        Mockito.verify(jobEntity, Mockito.times(1)).setFinished(Mockito.any(Instant.class));
+        Mockito
+            .verify(this.jobRepository, Mockito.times(1))
+            .compareAndSetStatus(
+                Mockito.eq(id),
+                Mockito.eq(JobStatus.RUNNING.name()),
+                Mockito.eq(JobStatus.SUCCEEDED.name()),
+                Mockito.eq(finalStatusMessage),
+                Mockito.eq(false),
+                Mockito.eq(true),
+                Mockito.any(Instant.class)
+            );
+        Mockito.verify(this.jobRepository, Mockito.never()).findByUniqueId(Mockito.anyString());
+        Mockito.verify(this.jobRepository, Mockito.never()).getJobStatus(Mockito.anyString());
     }
 
     @Test
@@ -588,6 +816,57 @@ class JpaPersistenceServiceImplJobsTest {
             .isEqualTo(Sets.newHashSet());
     }
 
+    @Test
+    void canGetActiveUserHostJobResources() {
+        final UserHostJobResourcesAggregate resources1 = Mockito.mock(UserHostJobResourcesAggregate.class);
+        final UserHostJobResourcesAggregate resources2 = Mockito.mock(UserHostJobResourcesAggregate.class);
+
+        Mockito
+            .when(this.jobRepository.getUserHostJobResourcesAggregates(JpaPersistenceServiceImpl.ALLOCATED_STATUS_SET))
+            .thenReturn(Sets.newHashSet(resources1, resources2));
+
+        Assertions
+            .assertThat(this.persistenceService.getActiveUserHostJobResources())
+            .containsExactlyInAnyOrder(resources1, resources2);
+        Assertions
+            .assertThat(JpaPersistenceServiceImpl.ALLOCATED_STATUS_SET)
+            .doesNotContain(JobStatus.RESERVED.name())
+            .contains(JobStatus.RESOLVED.name(), JobStatus.RUNNING.name());
+    }
+
+    @Test
+    void canGetActiveJobResourcesOnHost() {
+        final String hostname = UUID.randomUUID().toString();
+        final JobResourcesAggregate resources = Mockito.mock(JobResourcesAggregate.class);
+
+        Mockito
+            .when(
+                this.jobRepository.getJobResourcesOnHostWithStatusIn(
+                    hostname,
+                    JpaPersistenceServiceImpl.ACTIVE_STATUS_SET
+                )
+            )
+            .thenReturn(Sets.newHashSet(resources));
+
+        Assertions
+            .assertThat(this.persistenceService.getActiveJobResourcesOnHost(hostname))
+            .containsExactly(resources);
+    }
+
+    @Test
+    void canGetActiveClusterJobResources() {
+        final ClusterJobResourcesAggregate resources1 = Mockito.mock(ClusterJobResourcesAggregate.class);
+        final ClusterJobResourcesAggregate resources2 = Mockito.mock(ClusterJobResourcesAggregate.class);
+
+        Mockito
+            .when(this.jobRepository.getClusterJobResourcesAggregates(JpaPersistenceServiceImpl.ACTIVE_STATUS_SET))
+            .thenReturn(Sets.newHashSet(resources1, resources2));
+
+        Assertions
+            .assertThat(this.persistenceService.getActiveClusterJobResources())
+            .containsExactlyInAnyOrder(resources1, resources2);
+    }
+
     @Test
     void canGetUnclaimedAgentJobs() {
         final String jobId1 = UUID.randomUUID().toString();
@@ -616,15 +895,277 @@ class JpaPersistenceServiceImplJobsTest {
     @Test
     void testUpdateJobStatusWithTooLongMessage() throws GenieCheckedException {
         final String id = UUID.randomUUID().toString();
-        final JobEntity jobEntity = new JobEntity();
-        jobEntity.setStatus(JobStatus.INIT.name());
         final String tooLong = StringUtils.leftPad("a", 256, 'b');
+        Mockito
+            .when(
+                this.jobRepository.compareAndSetStatus(
+                    Mockito.anyString(),
+                    Mockito.anyString(),
+                    Mockito.anyString(),
+                    Mockito.any(),
+                    Mockito.anyBoolean(),
+                    Mockito.anyBoolean(),
+                    Mockito.any(Instant.class)
+                )
+            )
+            .thenReturn(1);
 
-        Mockito.when(this.jobRepository.findByUniqueId(id)).thenReturn(Optional.of(jobEntity));
         this.persistenceService.updateJobStatus(id, JobStatus.INIT, JobStatus.RUNNING, tooLong);
 
-        Assertions.assertThat(jobEntity.getStatus()).isEqualTo(JobStatus.RUNNING.name());
-        Assertions.assertThat(jobEntity.getStatusMsg()).isPresent().contains(StringUtils.truncate(tooLong, 255));
+        Mockito
+            .verify(this.jobRepository, Mockito.times(1))
+            .compareAndSetStatus(
+                Mockito.eq(id),
+                Mockito.eq(JobStatus.INIT.name()),
+                Mockito.eq(JobStatus.RUNNING.name()),
+                Mockito.eq(StringUtils.truncate(tooLong, 255)),
+                Mockito.eq(true),
+                Mockito.eq(false),
+                Mockito.any(Instant.class)
+            );
+    }
+
+    @Test
+    void testUpdateJobStatusRecordsHistoryAndNotifies() throws GenieCheckedException {
+        final String id = UUID.randomUUID().toString();
+        final String message = UUID.randomUUID().toString();
+        final Instant initStarted = Instant.now().minusSeconds(10L);
+        final String launcherClass = UUID.randomUUID().toString();
+        final JobStatusTransitionAggregate job = Mockito.mock(JobStatusTransitionAggregate.class);
+        Mockito.when(job.getStatus()).thenReturn(JobStatus.RUNNING.name());
+        Mockito.when(job.getLatestStatusChange()).thenReturn(initStarted);
+        Mockito.when(job.getCreated()).thenReturn(initStarted.minusSeconds(10L));
+        Mockito
+            .when(job.getLauncherExt())
+            .thenReturn(GenieObjectMapper.getMapper().createObjectNode().put("launcherClass", launcherClass));
+
+        Mockito.when(this.jobRepository.getJobStatusTransition(id)).thenReturn(Optional.of(job));
+        Mockito
+            .when(
+                this.jobRepository.compareAndSetStatus(
+                    Mockito.anyString(),
+                    Mockito.anyString(),
+                    Mockito.anyString(),
+                    Mockito.any(),
+                    Mockito.anyBoolean(),
+                    Mockito.anyBoolean(),
+                    Mockito.any(Instant.class)
+                )
+            )
+            .thenReturn(1);
+        this.persistenceService.updateJobStatus(id, JobStatus.INIT, JobStatus.RUNNING, message);
+
+        final ArgumentCaptor<JobStatusHistoryEntity> captor = ArgumentCaptor.forClass(JobStatusHistoryEntity.class);
+        Mockito.verify(this.jobStatusHistoryRepository, Mockito.times(1)).save(captor.capture());
+        final JobStatusHistoryEntity history = captor.getValue();
+        Assertions.assertThat(history.getJobId()).isEqualTo(id);
+        Assertions.assertThat(history.getPreviousStatus()).contains(JobStatus.INIT.name());
+        Assertions.assertThat(history.getStatus()).isEqualTo(JobStatus.RUNNING.name());
+        Assertions.assertThat(history.getStatusMsg()).contains(message);
+
+        final ArgumentCaptor<JobStatusTransition> transitionCaptor = ArgumentCaptor.forClass(JobStatusTransition.class);
+        Mockito.verify(this.persistedJobStatusObserver, Mockito.times(1)).notify(transitionCaptor.capture());
+        final JobStatusTransition transition = transitionCaptor.getValue();
+        Assertions.assertThat(transition.getJobId()).isEqualTo(id);
+        Assertions.assertThat(transition.getPreviousStatus()).contains(JobStatus.INIT);
+        Assertions.assertThat(transition.getCurrentStatus()).isEqualTo(JobStatus.RUNNING);
+        Assertions
+            .assertThat(transition.getTimeInPreviousStatus())
+            .contains(Duration.between(initStarted, history.getCreated()));
+        Assertions.assertThat(transition.getLauncherClass()).contains(launcherClass);
+    }
+
+    @Test
+    void testUpdateJobArchiveStatus() throws NotFoundException {
+        final String id = UUID.randomUUID().toString();
+        Mockito
+            .when(
+                this.jobRepository.setArchiveStatus(
+                    Mockito.eq(id),
+                    Mockito.eq(ArchiveStatus.ARCHIVED.name()),
+                    Mockito.any(Instant.class)
+                )
+            )
+            .thenReturn(0)
+            .thenReturn(1);
+
+        Assertions
+            .assertThatExceptionOfType(NotFoundException.class)
+            .isThrownBy(() -> this.persistenceService.updateJobArchiveStatus(id, ArchiveStatus.ARCHIVED));
+        this.persistenceService.updateJobArchiveStatus(id, ArchiveStatus.ARCHIVED);
+        Mockito.verify(this.jobRepository, Mockito.never()).findByUniqueId(Mockito.anyString());
+    }
+
+    @Test
+    void cantUpdateJobResourceUsageIfJobDoesNotExist() {
+        final String id = UUID.randomUUID().toString();
+        Assertions
+            .assertThatExceptionOfType(NotFoundException.class)
+            .isThrownBy(
+                () -> this.persistenceService.updateJobResourceUsage(
+                    id,
+                    new JobResourceUsage(1L, 1L, 1L, 1L, 1L, 1L, 1)
+                )
+            );
+    }
+
+    @Test
+    void canUpdateJobResourceUsage() throws NotFoundException {
+        final String id = UUID.randomUUID().toString();
+        Mockito
+            .when(
+                this.jobRepository.addResourceUsage(
+                    Mockito.eq(id),
+                    Mockito.anyLong(),
+                    Mockito.anyLong(),
+                    Mockito.anyLong(),
+                    Mockito.anyLong(),
+                    Mockito.anyLong(),
+                    Mockito.anyLong(),
+                    Mockito.anyInt(),
+                    Mockito.any(Instant.class)
+                )
+            )
+            .thenReturn(1);
+
+        this.persistenceService.updateJobResourceUsage(id, new JobResourceUsage(2L, 400L, 300L, 1_000L, 10L, 20L, 8));
+
+        Mockito
+            .verify(this.jobRepository, Mockito.times(1))
+            .addResourceUsage(
+                Mockito.eq(id),
+                Mockito.eq(2L),
+                Mockito.eq(400L),
+                Mockito.eq(300L),
+                Mockito.eq(1_000L),
+                Mockito.eq(10L),
+                Mockito.eq(20L),
+                Mockito.eq(8),
+                Mockito.any(Instant.class)
+            );
+        Mockito.verify(this.jobRepository, Mockito.never()).findByUniqueId(Mockito.anyString());
+    }
+
+    @Test
+    void cantAddJobStageTimingsIfJobDoesNotExist() {
+        final String id = UUID.randomUUID().toString();
+        Mockito.when(this.jobRepository.findByUniqueId(id)).thenReturn(Optional.empty());
+        Assertions
+            .assertThatExceptionOfType(NotFoundException.class)
+            .isThrownBy(
+                () -> this.persistenceService.addJobStageTimings(
+                    id,
+                    Lists.newArrayList(new JobStageTiming("CLAIM_JOB", Duration.ofMillis(5L), 1, Duration.ZERO))
+                )
+            );
+    }
+
+    @Test
+    void canAddJobStageTimings() throws NotFoundException {
+        final String id = UUID.randomUUID().toString();
+        final JobEntity jobEntity = new JobEntity();
+        Mockito.when(this.jobRepository.findByUniqueId(id)).thenReturn(Optional.of(jobEntity));
+
+        this.persistenceService.addJobStageTimings(
+            id,
+            Lists.newArrayList(
+                new JobStageTiming("CLAIM_JOB", Duration.ofMillis(1_500L), 3, Duration.ofSeconds(1L)),
+                new JobStageTiming("LAUNCH_JOB", Duration.ofMillis(250L), 1, Duration.ZERO)
+            )
+        );
+        this.persistenceService.addJobStageTimings(
+            id,
+            Lists.newArrayList(new JobStageTiming("ARCHIVE", Duration.ofSeconds(2L), 1, Duration.ZERO))
+        );
+
+        final JsonNode stageTimings = jobEntity.getStageTimings().orElseThrow(IllegalStateException::new);
+        Assertions.assertThat(stageTimings.isArray()).isTrue();
+        Assertions.assertThat(stageTimings.size()).isEqualTo(3);
+        Assertions.assertThat(stageTimings.get(0).get("stage").asText()).isEqualTo("CLAIM_JOB");
+        Assertions.assertThat(stageTimings.get(0).get("durationMs").asLong()).isEqualTo(1_500L);
+        Assertions.assertThat(stageTimings.get(0).get("attempts").asInt()).isEqualTo(3);
+        Assertions.assertThat(stageTimings.get(0).get("retryDelayMs").asLong()).isEqualTo(1_000L);
+        Assertions.assertThat(stageTimings.get(1).get("stage").asText()).isEqualTo("LAUNCH_JOB");
+        Assertions.assertThat(stageTimings.get(2).get("stage").asText()).isEqualTo("ARCHIVE");
+        Assertions.assertThat(stageTimings.get(2).get("durationMs").asLong()).isEqualTo(2_000L);
+    }
+
+    @Test
+    void canUpdateJobStatusWithStageTimings() throws NotFoundException {
+        final String id = UUID.randomUUID().toString();
+        final JobEntity jobEntity = new JobEntity();
+        Mockito.when(this.jobRepository.findByUniqueId(id)).thenReturn(Optional.of(jobEntity));
+        Mockito
+            .when(
+                this.jobRepository.compareAndSetStatus(
+                    Mockito.eq(id),
+                    Mockito.eq(JobStatus.RUNNING.name()),
+                    Mockito.eq(JobStatus.SUCCEEDED.name()),
+                    Mockito.any(),
+                    Mockito.anyBoolean(),
+                    Mockito.anyBoolean(),
+                    Mockito.any(Instant.class)
+                )
+            )
+            .thenReturn(1)
+            .thenReturn(0);
+        Mockito.when(this.jobRepository.getJobStatus(id)).thenReturn(Optional.of(JobStatus.SUCCEEDED.name()));
+        final List<JobStageTiming> stageTimings = Lists.newArrayList(
+            new JobStageTiming("WAIT_JOB_COMPLETION", Duration.ofMinutes(1L), 1, Duration.ZERO)
+        );
+
+        Assertions
+            .assertThat(
+                this.persistenceService.updateJobStatusWithStageTimings(
+                    id,
+                    JobStatus.RUNNING,
+                    JobStatus.SUCCEEDED,
+                    null,
+                    stageTimings
+                )
+            )
+            .isTrue();
+        // A retry of the same change loses the compare and set so the timings aren't saved twice
+        Assertions
+            .assertThat(
+                this.persistenceService.updateJobStatusWithStageTimings(
+                    id,
+                    JobStatus.RUNNING,
+                    JobStatus.SUCCEEDED,
+                    null,
+                    stageTimings
+                )
+            )
+            .isFalse();
+        Assertions
+            .assertThat(
+                this.persistenceService.updateJobStatusWithStageTimings(
+                    id,
+                    JobStatus.SUCCEEDED,
+                    JobStatus.FAILED,
+                    null,
+                    stageTimings
+                )
+            )
+            .isFalse();
+
+        final JsonNode savedTimings = jobEntity.getStageTimings().orElseThrow(IllegalStateException::new);
+        Assertions.assertThat(savedTimings.size()).isEqualTo(1);
+        Assertions.assertThat(savedTimings.get(0).get("stage").asText()).isEqualTo("WAIT_JOB_COMPLETION");
+        Mockito.verify(this.jobStatusHistoryRepository, Mockito.times(1)).save(Mockito.any());
+
+        Mockito.when(this.jobRepository.getJobStatus(id)).thenReturn(Optional.empty());
+        Assertions
+            .assertThatExceptionOfType(NotFoundException.class)
+            .isThrownBy(
+                () -> this.persistenceService.updateJobStatusWithStageTimings(
+                    id,
+                    JobStatus.RUNNING,
+                    JobStatus.SUCCEEDED,
+                    null,
+                    stageTimings
+                )
+            );
     }
 
     @Test
@@ -643,4 +1184,29 @@ class JpaPersistenceServiceImplJobsTest {
             Instant.now()
         );
     }
+
+    private JobSpecification createJobSpecification(final String jobId) {
+        return new JobSpecification(
+            Lists.newArrayList("java", "-jar"),
+            Lists.newArrayList("app.jar", "--verbose"),
+            new JobSpecification.ExecutionResource(
+                jobId,
+                new ExecutionEnvironment(Sets.newHashSet("s3://job/config"), null, "s3://job/setup.sh")
+            ),
+            new JobSpecification.ExecutionResource(
+                UUID.randomUUID().toString(),
+                new ExecutionEnvironment(null, Sets.newHashSet("s3://cluster/dep.jar"), "s3://cluster/setup.sh")
+            ),
+            new JobSpecification.ExecutionResource(
+                UUID.randomUUID().toString(),
+                new ExecutionEnvironment(null, null, "s3://command/setup.sh")
+            ),
+            null,
+            Maps.newHashMap(ImmutableMap.of("GENIE_JOB_ID", jobId)),
+            false,
+            new File("/tmp/genie/jobs/" + jobId).getAbsoluteFile(),
+            "s3://archive/" + jobId,
+            3_600
+        );
+    }
 }
@@ -152,6 +152,9 @@ class JobPredicatesTest {
             .when(this.cb.lessThan(Mockito.eq(finishedPath), Mockito.eq(MAX_FINISHED)))
             .thenReturn(maxFinishedPredicate);
 
+        final Path<Instant> createdPath = (Path<Instant>) Mockito.mock(Path.class);
+        Mockito.when(this.root.get(JobEntity_.created)).thenReturn(createdPath);
+
         final Path<String> groupingPath = (Path<String>) Mockito.mock(Path.class);
         final Predicate equalGroupingPredicate = Mockito.mock(Predicate.class);
         Mockito.when(this.root.get(JobEntity_.grouping)).thenReturn(groupingPath);
@@ -204,6 +207,8 @@ class JobPredicatesTest {
             .verify(this.cb, Mockito.times(1))
             .greaterThanOrEqualTo(this.root.get(JobEntity_.finished), MIN_FINISHED);
         Mockito.verify(this.cb, Mockito.times(1)).lessThan(this.root.get(JobEntity_.finished), MAX_FINISHED);
+        Mockito.verify(this.cb, Mockito.times(1)).lessThan(this.root.get(JobEntity_.created), MAX_STARTED);
+        Mockito.verify(this.cb, Mockito.times(1)).lessThan(this.root.get(JobEntity_.created), MAX_FINISHED);
         Mockito.verify(this.cb, Mockito.times(1)).equal(this.root.get(JobEntity_.grouping), GROUPING);
         Mockito.verify(this.cb, Mockito.times(1)).equal(this.root.get(JobEntity_.groupingInstance), GROUPING_INSTANCE);
     }
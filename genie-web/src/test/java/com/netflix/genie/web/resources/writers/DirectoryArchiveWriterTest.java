@@ -0,0 +1,178 @@
+/*
+ *
+ *  Copyright 2026 Netflix, Inc.
+ *
+ *     Licensed under the Apache License, Version 2.0 (the "License");
+ *     you may not use this file except in compliance with the License.
+ *     You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *     Unless required by applicable law or agreed to in writing, software
+ *     distributed under the License is distributed on an "AS IS" BASIS,
+ *     WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *     See the License for the specific language governing permissions and
+ *     limitations under the License.
+ *
+ */
+package com.netflix.genie.web.resources.writers;
+
+import com.netflix.genie.web.dtos.DirectoryArchiveFormat;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Unit tests for {@link DirectoryArchiveWriter}.
+ *
+ * @author tgianos
+ * @since 4.4.0
+ */
+class DirectoryArchiveWriterTest {
+
+    private static final Instant LAST_MODIFIED = Instant.ofEpochSecond(1_700_000_000L);
+    private static final byte[] CONTENT = "Hello, Genie!".getBytes(StandardCharsets.UTF_8);
+    private static final String LONG_NAME = "job/" + "a".repeat(120) + "/stdout";
+
+    @Test
+    void canWriteTar() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.writeEntries(DirectoryArchiveWriter.create(DirectoryArchiveFormat.TAR, output));
+        this.verifyTar(output.toByteArray());
+    }
+
+    @Test
+    void canWriteTarGz() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.writeEntries(DirectoryArchiveWriter.create(DirectoryArchiveFormat.TAR_GZ, output));
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            this.verifyTar(gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    void canWriteZip() throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        this.writeEntries(DirectoryArchiveWriter.create(DirectoryArchiveFormat.ZIP, output));
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            ZipEntry entry = zip.getNextEntry();
+            Assertions.assertThat(entry).isNotNull();
+            Assertions.assertThat(entry.getName()).isEqualTo("job/");
+            Assertions.assertThat(entry.isDirectory()).isTrue();
+
+            entry = zip.getNextEntry();
+            Assertions.assertThat(entry).isNotNull();
+            Assertions.assertThat(entry.getName()).isEqualTo("job/stdout");
+            Assertions.assertThat(entry.getLastModifiedTime().toInstant()).isEqualTo(LAST_MODIFIED);
+            Assertions.assertThat(zip.readAllBytes()).isEqualTo(CONTENT);
+
+            entry = zip.getNextEntry();
+            Assertions.assertThat(entry).isNotNull();
+            Assertions.assertThat(entry.getName()).isEqualTo(LONG_NAME);
+            Assertions.assertThat(zip.readAllBytes()).isEqualTo(CONTENT);
+
+            Assertions.assertThat(zip.getNextEntry()).isNull();
+        }
+    }
+
+    @Test
+    void contentMustMatchDeclaredSize() throws IOException {
+        final DirectoryArchiveWriter writer
+            = DirectoryArchiveWriter.create(DirectoryArchiveFormat.TAR, new ByteArrayOutputStream());
+
+        Assertions
+            .assertThatIOException()
+            .isThrownBy(() -> writer.write(CONTENT, 0, CONTENT.length));
+
+        writer.putFile("job/stdout", CONTENT.length, LAST_MODIFIED);
+        Assertions
+            .assertThatIOException()
+            .isThrownBy(() -> writer.putDirectory("job/", LAST_MODIFIED));
+        Assertions
+            .assertThatIOException()
+            .isThrownBy(() -> writer.write(new byte[CONTENT.length + 1], 0, CONTENT.length + 1));
+
+        writer.write(CONTENT, 0, CONTENT.length - 1);
+        Assertions
+            .assertThatIOException()
+            .isThrownBy(writer::closeEntry);
+        Assertions
+            .assertThatIOException()
+            .isThrownBy(writer::finish);
+    }
+
+    private void writeEntries(final DirectoryArchiveWriter writer) throws IOException {
+        writer.putDirectory("job", LAST_MODIFIED);
+        writer.putFile("job/stdout", CONTENT.length, LAST_MODIFIED);
+        writer.write(CONTENT, 0, 5);
+        writer.write(CONTENT, 5, CONTENT.length - 5);
+        writer.closeEntry();
+        writer.putFile(LONG_NAME, CONTENT.length, LAST_MODIFIED);
+        writer.write(CONTENT, 0, CONTENT.length);
+        writer.closeEntry();
+        writer.finish();
+    }
+
+    private void verifyTar(final byte[] tar) {
+        // Directory header, file header and data, pax header and data, file header and data, end of archive
+        Assertions.assertThat(tar).hasSize(512 * 9);
+
+        this.verifyHeader(tar, 0, "job/", '5', 0);
+        this.verifyHeader(tar, 512, "job/stdout", '0', CONTENT.length);
+        Assertions.assertThat(Arrays.copyOfRange(tar, 1024, 1024 + CONTENT.length)).isEqualTo(CONTENT);
+
+        final String paxRecord = (LONG_NAME.length() + 10) + " path=" + LONG_NAME + "\n";
+        Assertions.assertThat(paxRecord.length()).isEqualTo(LONG_NAME.length() + 10);
+        this.verifyHeader(tar, 1536, null, 'x', paxRecord.length());
+        Assertions
+            .assertThat(new String(tar, 2048, paxRecord.length(), StandardCharsets.UTF_8))
+            .isEqualTo(paxRecord);
+        this.verifyHeader(tar, 2560, null, '0', CONTENT.length);
+        Assertions.assertThat(Arrays.copyOfRange(tar, 3072, 3072 + CONTENT.length)).isEqualTo(CONTENT);
+
+        Assertions.assertThat(Arrays.copyOfRange(tar, 3584, tar.length)).containsOnly(0);
+    }
+
+    private void verifyHeader(
+        final byte[] tar,
+        final int offset,
+        final String expectedName,
+        final char expectedType,
+        final long expectedSize
+    ) {
+        if (expectedName != null) {
+            Assertions.assertThat(this.field(tar, offset, 100)).isEqualTo(expectedName);
+        }
+        Assertions.assertThat(this.field(tar, offset + 257, 6)).isEqualTo("ustar");
+        Assertions.assertThat((char) tar[offset + 156]).isEqualTo(expectedType);
+        Assertions.assertThat(Long.parseLong(this.field(tar, offset + 124, 12), 8)).isEqualTo(expectedSize);
+        Assertions
+            .assertThat(Long.parseLong(this.field(tar, offset + 136, 12), 8))
+            .isEqualTo(LAST_MODIFIED.getEpochSecond());
+
+        long checksum = 0;
+        for (int i = 0; i < 512; i++) {
+            checksum += (i >= 148 && i < 156) ? ' ' : tar[offset + i] & 0xFF;
+        }
+        Assertions.assertThat(Long.parseLong(this.field(tar, offset + 148, 8).trim(), 8)).isEqualTo(checksum);
+    }
+
+    private String field(final byte[] tar, final int offset, final int length) {
+        int end = offset;
+        while (end < offset + length && tar[end] != 0) {
+            end++;
+        }
+        return new String(tar, offset, end - offset, StandardCharsets.US_ASCII);
+    }
+}
@@ -17,11 +17,16 @@
  */
 package com.netflix.genie.web.spring.autoconfigure;
 
+import com.netflix.genie.web.data.services.CatalogCaches;
+import com.netflix.genie.web.data.services.impl.jpa.JpaPersistenceServiceImpl;
+import com.netflix.genie.web.properties.CatalogCacheProperties;
+import com.netflix.genie.web.properties.JobSpecificationCacheProperties;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 
@@ -52,7 +57,51 @@ class CachingAutoConfigurationTest {
                 // This should be provided by the Spring Boot starter after @EnableCaching is applied
                 Assertions.assertThat(context).hasSingleBean(CacheManager.class);
                 Assertions.assertThat(context).hasSingleBean(CaffeineCacheManager.class);
+                Assertions.assertThat(context).hasSingleBean(CatalogCacheProperties.class);
+                Assertions.assertThat(context).hasSingleBean(JobSpecificationCacheProperties.class);
+                Assertions
+                    .assertThat(context.getBean(CacheManager.class).getCacheNames())
+                    .containsAll(CatalogCaches.ALL)
+                    .contains(JpaPersistenceServiceImpl.JOB_SPECIFICATIONS_CACHE);
             }
         );
     }
+
+    /**
+     * Disabling the catalog cache keeps the caches but stops them from holding entries.
+     */
+    @Test
+    void catalogCachesCanBeDisabled() {
+        this.contextRunner
+            .withPropertyValues("genie.data.catalog-cache.enabled=false")
+            .run(
+                context -> {
+                    final Cache cache = context.getBean(CacheManager.class).getCache(CatalogCaches.COMMANDS);
+                    Assertions.assertThat(cache).isNotNull();
+                    cache.put("command", "value");
+                    ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).cleanUp();
+                    Assertions.assertThat(cache.get("command")).isNull();
+                }
+            );
+    }
+
+    /**
+     * Disabling the job specification cache keeps the cache but stops it from holding entries.
+     */
+    @Test
+    void jobSpecificationCacheCanBeDisabled() {
+        this.contextRunner
+            .withPropertyValues("genie.data.job-specification-cache.enabled=false")
+            .run(
+                context -> {
+                    final Cache cache = context
+                        .getBean(CacheManager.class)
+                        .getCache(JpaPersistenceServiceImpl.JOB_SPECIFICATIONS_CACHE);
+                    Assertions.assertThat(cache).isNotNull();
+                    cache.put("job", "value");
+                    ((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).cleanUp();
+                    Assertions.assertThat(cache.get("job")).isNull();
+                }
+            );
+    }
 }
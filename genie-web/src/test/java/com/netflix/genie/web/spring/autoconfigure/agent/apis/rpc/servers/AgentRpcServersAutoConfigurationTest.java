@@ -19,8 +19,11 @@ package com.netflix.genie.web.spring.autoconfigure.agent.apis.rpc.servers;
 
 import brave.Tracing;
 import com.netflix.genie.web.agent.apis.rpc.servers.GRpcServerManager;
+import com.netflix.genie.web.agent.apis.rpc.servers.GRpcServiceCallExecutorSupplier;
 import com.netflix.genie.web.properties.GRpcServerProperties;
 import io.grpc.Server;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -54,12 +57,43 @@ class AgentRpcServersAutoConfigurationTest {
             .run(
                 context -> {
                     Assertions.assertThat(context).hasSingleBean(GRpcServerProperties.class);
+                    Assertions.assertThat(context).hasSingleBean(GRpcServiceCallExecutorSupplier.class);
                     Assertions.assertThat(context).hasSingleBean(Server.class);
                     Assertions.assertThat(context).hasSingleBean(GRpcServerManager.class);
                 }
             );
     }
 
+    /**
+     * The server can be tuned and services isolated through properties.
+     */
+    @Test
+    void serverCanBeConfiguredThroughProperties() {
+        this.contextRunner
+            .withPropertyValues(
+                "genie.grpc.server.flow-control-window=4MB",
+                "genie.grpc.server.max-inbound-message-size=16MB",
+                "genie.grpc.server.max-concurrent-calls-per-connection=100",
+                "genie.grpc.server.keep-alive-time=1m",
+                "genie.grpc.server.max-connection-idle=1h",
+                "genie.grpc.server.service-isolation.FileStreamService.threads=4",
+                "genie.grpc.server.service-isolation.FileStreamService.thread-priority=3",
+                "genie.grpc.server.service-isolation.FileStreamService.max-in-flight-calls=50"
+            )
+            .run(
+                context -> {
+                    Assertions.assertThat(context).hasSingleBean(Server.class);
+                    final GRpcServerProperties properties = context.getBean(GRpcServerProperties.class);
+                    Assertions.assertThat(properties.getFlowControlWindow().toMegabytes()).isEqualTo(4L);
+                    final GRpcServerProperties.ServiceIsolation isolation
+                        = properties.getServiceIsolation("FileStreamService");
+                    Assertions.assertThat(isolation.getThreads()).isEqualTo(4);
+                    Assertions.assertThat(isolation.getThreadPriority()).isEqualTo(3);
+                    Assertions.assertThat(isolation.getMaxInFlightCalls()).isEqualTo(50);
+                }
+            );
+    }
+
     /**
      * User beans override default beans.
      */
@@ -86,6 +120,11 @@ class AgentRpcServersAutoConfigurationTest {
         Tracing tracing() {
             return Tracing.newBuilder().build();
         }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
     }
 
     private static class UserConfig {
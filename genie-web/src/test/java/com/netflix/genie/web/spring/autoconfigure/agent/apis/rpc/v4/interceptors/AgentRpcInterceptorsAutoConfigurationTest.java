@@ -17,7 +17,13 @@
  */
 package com.netflix.genie.web.spring.autoconfigure.agent.apis.rpc.v4.interceptors;
 
+import com.netflix.genie.web.agent.apis.rpc.v4.interceptors.InFlightCallLimitingInterceptor;
+import com.netflix.genie.web.agent.apis.rpc.v4.interceptors.PersistenceInstrumentationInterceptor;
 import com.netflix.genie.web.agent.apis.rpc.v4.interceptors.SimpleLoggingInterceptor;
+import com.netflix.genie.web.properties.GRpcServerProperties;
+import com.netflix.genie.web.properties.PersistenceInstrumentationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -40,7 +46,8 @@ class AgentRpcInterceptorsAutoConfigurationTest {
                 AutoConfigurations.of(
                     AgentRpcInterceptorsAutoConfiguration.class
                 )
-            );
+            )
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
 
     /**
      * Default beans created.
@@ -48,7 +55,14 @@ class AgentRpcInterceptorsAutoConfigurationTest {
     @Test
     void expectedBeansExistIfGrpcEnabledAndNoUserBeans() {
         this.contextRunner
-            .run(context -> Assertions.assertThat(context).hasSingleBean(SimpleLoggingInterceptor.class));
+            .run(
+                context -> {
+                    Assertions.assertThat(context).hasSingleBean(SimpleLoggingInterceptor.class);
+                    Assertions.assertThat(context).doesNotHaveBean(PersistenceInstrumentationInterceptor.class);
+                    Assertions.assertThat(context).hasSingleBean(InFlightCallLimitingInterceptor.class);
+                    Assertions.assertThat(context).hasSingleBean(GRpcServerProperties.class);
+                }
+            );
     }
 
     /**
@@ -66,6 +80,22 @@ class AgentRpcInterceptorsAutoConfigurationTest {
             );
     }
 
+    /**
+     * The persistence instrumentation interceptor is created when enabled.
+     */
+    @Test
+    void persistenceInstrumentationCanBeEnabled() {
+        this.contextRunner
+            .withPropertyValues(PersistenceInstrumentationProperties.ENABLED_PROPERTY + "=true")
+            .withBean(PersistenceInstrumentationProperties.class, PersistenceInstrumentationProperties::new)
+            .run(
+                context -> {
+                    Assertions.assertThat(context).hasSingleBean(SimpleLoggingInterceptor.class);
+                    Assertions.assertThat(context).hasSingleBean(PersistenceInstrumentationInterceptor.class);
+                }
+            );
+    }
+
     /**
      * Dummy user configuration.
      */
@@ -21,6 +21,7 @@ import com.netflix.genie.common.internal.util.GenieHostInfo;
 import com.netflix.genie.common.internal.util.PropertiesMapCache;
 import com.netflix.genie.web.agent.inspectors.AgentMetadataInspector;
 import com.netflix.genie.web.agent.services.AgentConfigurationService;
+import com.netflix.genie.web.agent.services.AgentConnectionRebalancingService;
 import com.netflix.genie.web.agent.services.AgentConnectionTrackingService;
 import com.netflix.genie.web.agent.services.AgentFilterService;
 import com.netflix.genie.web.agent.services.AgentJobService;
@@ -29,11 +30,14 @@ import com.netflix.genie.web.agent.services.impl.AgentRoutingServiceCuratorDisco
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.PersistenceService;
 import com.netflix.genie.web.properties.AgentConfigurationProperties;
+import com.netflix.genie.web.properties.AgentConnectionRebalancingProperties;
 import com.netflix.genie.web.properties.AgentConnectionTrackingServiceProperties;
 import com.netflix.genie.web.properties.AgentRoutingServiceProperties;
+import com.netflix.genie.web.properties.ZookeeperProperties;
 import com.netflix.genie.web.services.JobResolverService;
 import com.netflix.genie.web.spring.autoconfigure.agent.apis.rpc.v4.endpoints.AgentRpcEndpointsAutoConfiguration;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.listen.Listenable;
 import org.apache.curator.framework.state.ConnectionStateListener;
 import org.apache.curator.x.discovery.ServiceDiscovery;
@@ -80,6 +84,8 @@ class AgentServicesAutoConfigurationTest {
                     Assertions.assertThat(context).hasSingleBean(AgentConfigurationService.class);
                     Assertions.assertThat(context).hasSingleBean(AgentRoutingServiceProperties.class);
                     Assertions.assertThat(context).hasSingleBean(AgentConnectionTrackingServiceProperties.class);
+                    Assertions.assertThat(context).hasSingleBean(AgentConnectionRebalancingProperties.class);
+                    Assertions.assertThat(context).doesNotHaveBean(AgentConnectionRebalancingService.class);
                 }
             );
     }
@@ -102,10 +108,37 @@ class AgentServicesAutoConfigurationTest {
                     Assertions.assertThat(context).hasSingleBean(AgentConfigurationService.class);
                     Assertions.assertThat(context).hasSingleBean(AgentRoutingServiceProperties.class);
                     Assertions.assertThat(context).hasSingleBean(AgentConnectionTrackingServiceProperties.class);
+                    Assertions.assertThat(context).hasSingleBean(AgentConnectionRebalancingProperties.class);
+                    Assertions.assertThat(context).doesNotHaveBean(AgentConnectionRebalancingService.class);
                 }
             );
     }
 
+    /**
+     * Verify the connection rebalancing service is created when enabled and Zookeeper is enabled.
+     */
+    @Test
+    void expectedBeansExistWithRebalancingEnabled() {
+        this.contextRunner
+            .withUserConfiguration(ZookeeperMockConfig.class)
+            .withPropertyValues(AgentConnectionRebalancingProperties.ENABLED_PROPERTY + "=true")
+            .run(
+                context -> Assertions.assertThat(context).hasSingleBean(AgentConnectionRebalancingService.class)
+            );
+    }
+
+    /**
+     * Verify the connection rebalancing service is not created when enabled but Zookeeper is disabled.
+     */
+    @Test
+    void expectedBeansExistWithRebalancingEnabledAndZookeeperDisabled() {
+        this.contextRunner
+            .withPropertyValues(AgentConnectionRebalancingProperties.ENABLED_PROPERTY + "=true")
+            .run(
+                context -> Assertions.assertThat(context).doesNotHaveBean(AgentConnectionRebalancingService.class)
+            );
+    }
+
     static class RequiredBeans {
         @Bean
         DataServices dataServices() {
@@ -165,5 +198,15 @@ class AgentServicesAutoConfigurationTest {
         Listenable<ConnectionStateListener> listenableCuratorConnectionState() {
             return Mockito.mock(Listenable.class);
         }
+
+        @Bean
+        CuratorFramework curatorFramework() {
+            return Mockito.mock(CuratorFramework.class);
+        }
+
+        @Bean
+        ZookeeperProperties zookeeperProperties() {
+            return new ZookeeperProperties();
+        }
     }
 }
@@ -19,8 +19,10 @@ package com.netflix.genie.web.spring.autoconfigure.aspects;
 
 import com.netflix.genie.web.aspects.DataServiceRetryAspect;
 import com.netflix.genie.web.aspects.HealthCheckMetricsAspect;
+import com.netflix.genie.web.aspects.PersistenceInstrumentationAspect;
 import com.netflix.genie.web.aspects.SystemArchitecture;
 import com.netflix.genie.web.properties.DataServiceRetryProperties;
+import com.netflix.genie.web.properties.PersistenceInstrumentationProperties;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
@@ -59,11 +61,28 @@ class AspectsAutoConfigurationTest {
                 Assertions.assertThat(context).hasSingleBean(AspectJAwareAdvisorAutoProxyCreator.class);
                 Assertions.assertThat(context).hasSingleBean(DataServiceRetryAspect.class);
                 Assertions.assertThat(context).hasSingleBean(HealthCheckMetricsAspect.class);
+                Assertions.assertThat(context).doesNotHaveBean(PersistenceInstrumentationAspect.class);
                 Assertions.assertThat(context).hasSingleBean(SystemArchitecture.class);
             }
         );
     }
 
+    /**
+     * The persistence instrumentation aspect is created when enabled.
+     */
+    @Test
+    void persistenceInstrumentationCanBeEnabled() {
+        this.contextRunner
+            .withPropertyValues(PersistenceInstrumentationProperties.ENABLED_PROPERTY + "=true")
+            .withBean(PersistenceInstrumentationProperties.class, PersistenceInstrumentationProperties::new)
+            .run(
+                context -> {
+                    Assertions.assertThat(context).hasSingleBean(DataServiceRetryAspect.class);
+                    Assertions.assertThat(context).hasSingleBean(PersistenceInstrumentationAspect.class);
+                }
+            );
+    }
+
     /**
      * Dummy user configuration for tests.
      */
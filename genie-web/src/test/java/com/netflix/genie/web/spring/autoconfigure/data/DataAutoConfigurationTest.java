@@ -17,6 +17,8 @@
  */
 package com.netflix.genie.web.spring.autoconfigure.data;
 
+import com.netflix.genie.web.data.ids.RandomUuidIdGenerator;
+import com.netflix.genie.web.data.ids.TimeOrderedUuidIdGenerator;
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.impl.jpa.JpaPersistenceServiceImpl;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaApplicationRepository;
@@ -25,8 +27,10 @@ import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaCommandRepos
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaCriterionRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaFileRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaJobRepository;
+import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaJobStatusHistoryRepository;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaRepositories;
 import com.netflix.genie.web.data.services.impl.jpa.repositories.JpaTagRepository;
+import com.netflix.genie.web.properties.IdGenerationProperties;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -63,11 +67,20 @@ class DataAutoConfigurationTest {
                 Assertions.assertThat(context).hasSingleBean(JpaCriterionRepository.class);
                 Assertions.assertThat(context).hasSingleBean(JpaFileRepository.class);
                 Assertions.assertThat(context).hasSingleBean(JpaJobRepository.class);
+                Assertions.assertThat(context).hasSingleBean(JpaJobStatusHistoryRepository.class);
                 Assertions.assertThat(context).hasSingleBean(JpaTagRepository.class);
 
                 Assertions.assertThat(context).hasSingleBean(JpaRepositories.class);
                 Assertions.assertThat(context).hasSingleBean(DataServices.class);
                 Assertions.assertThat(context).hasSingleBean(JpaPersistenceServiceImpl.class);
+
+                Assertions.assertThat(context).hasSingleBean(IdGenerationProperties.class);
+                Assertions
+                    .assertThat(context.getBean("genieJobIdGenerator"))
+                    .isInstanceOf(TimeOrderedUuidIdGenerator.class);
+                Assertions
+                    .assertThat(context.getBean("genieResourceIdGenerator"))
+                    .isInstanceOf(RandomUuidIdGenerator.class);
             }
         );
     }
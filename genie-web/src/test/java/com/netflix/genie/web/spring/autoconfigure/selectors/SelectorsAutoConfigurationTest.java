@@ -18,18 +18,25 @@
 package com.netflix.genie.web.spring.autoconfigure.selectors;
 
 import com.netflix.genie.web.agent.launchers.AgentLauncher;
+import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.properties.ClusterSelectorScriptProperties;
+import com.netflix.genie.web.properties.LoadAwareAgentLauncherSelectorProperties;
+import com.netflix.genie.web.properties.LoadBalancingClusterSelectorProperties;
 import com.netflix.genie.web.scripts.AgentLauncherSelectorManagedScript;
 import com.netflix.genie.web.scripts.ClusterSelectorManagedScript;
 import com.netflix.genie.web.scripts.CommandSelectorManagedScript;
 import com.netflix.genie.web.selectors.AgentLauncherSelector;
 import com.netflix.genie.web.selectors.ClusterSelector;
 import com.netflix.genie.web.selectors.CommandSelector;
+import com.netflix.genie.web.selectors.impl.LoadAwareAgentLauncherSelectorImpl;
+import com.netflix.genie.web.selectors.impl.LoadBalancingClusterSelectorImpl;
 import com.netflix.genie.web.selectors.impl.RandomAgentLauncherSelectorImpl;
 import com.netflix.genie.web.selectors.impl.RandomClusterSelectorImpl;
 import com.netflix.genie.web.selectors.impl.RandomCommandSelectorImpl;
 import com.netflix.genie.web.selectors.impl.ScriptAgentLauncherSelectorImpl;
 import com.netflix.genie.web.selectors.impl.ScriptClusterSelectorImpl;
 import com.netflix.genie.web.selectors.impl.ScriptCommandSelectorImpl;
+import com.netflix.genie.web.services.ClusterLoadService;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
@@ -39,6 +46,7 @@ import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.Ordered;
+import org.springframework.scheduling.TaskScheduler;
 
 /**
  * Tests for {@link SelectorsAutoConfiguration}.
@@ -62,22 +70,72 @@ class SelectorsAutoConfigurationTest {
         Assertions
             .assertThat(SelectorsAutoConfiguration.SCRIPT_CLUSTER_SELECTOR_PRECEDENCE)
             .isEqualTo(Ordered.LOWEST_PRECEDENCE - 50);
+        Assertions
+            .assertThat(SelectorsAutoConfiguration.LOAD_BALANCING_CLUSTER_SELECTOR_PRECEDENCE)
+            .isEqualTo(Ordered.LOWEST_PRECEDENCE - 25);
 
         this.contextRunner.run(
             context -> {
                 Assertions.assertThat(context).hasSingleBean(ClusterSelector.class);
                 Assertions.assertThat(context).hasSingleBean(RandomClusterSelectorImpl.class);
                 Assertions.assertThat(context).doesNotHaveBean(ScriptClusterSelectorImpl.class);
+                Assertions.assertThat(context).doesNotHaveBean(LoadBalancingClusterSelectorImpl.class);
+                Assertions.assertThat(context).doesNotHaveBean(ClusterLoadService.class);
+                Assertions.assertThat(context).hasSingleBean(LoadBalancingClusterSelectorProperties.class);
                 Assertions.assertThat(context).hasSingleBean(CommandSelector.class);
                 Assertions.assertThat(context).hasSingleBean(RandomCommandSelectorImpl.class);
                 Assertions.assertThat(context).doesNotHaveBean(ScriptCommandSelectorImpl.class);
                 Assertions.assertThat(context).hasSingleBean(AgentLauncherSelector.class);
                 Assertions.assertThat(context).hasSingleBean(RandomAgentLauncherSelectorImpl.class);
                 Assertions.assertThat(context).doesNotHaveBean(ScriptAgentLauncherSelectorImpl.class);
+                Assertions.assertThat(context).doesNotHaveBean(LoadAwareAgentLauncherSelectorImpl.class);
+                Assertions.assertThat(context).hasSingleBean(LoadAwareAgentLauncherSelectorProperties.class);
             }
         );
     }
 
+    @Test
+    void canCreateLoadAwareAgentLauncherSelector() {
+        this.contextRunner
+            .withPropertyValues(LoadAwareAgentLauncherSelectorProperties.ENABLED_PROPERTY + "=true")
+            .run(
+                context -> {
+                    Assertions.assertThat(context).hasSingleBean(AgentLauncherSelector.class);
+                    Assertions.assertThat(context).hasSingleBean(LoadAwareAgentLauncherSelectorImpl.class);
+                    Assertions.assertThat(context).doesNotHaveBean(RandomAgentLauncherSelectorImpl.class);
+                }
+            );
+
+        this.contextRunner
+            .withUserConfiguration(ScriptsConfig.class)
+            .withPropertyValues(LoadAwareAgentLauncherSelectorProperties.ENABLED_PROPERTY + "=true")
+            .run(
+                context -> {
+                    Assertions.assertThat(context).hasSingleBean(AgentLauncherSelector.class);
+                    Assertions.assertThat(context).hasSingleBean(ScriptAgentLauncherSelectorImpl.class);
+                    Assertions.assertThat(context).doesNotHaveBean(LoadAwareAgentLauncherSelectorImpl.class);
+                }
+            );
+    }
+
+    @Test
+    void canCreateLoadBalancingClusterSelector() {
+        this.contextRunner
+            .withUserConfiguration(ClusterLoadConfig.class)
+            .withPropertyValues(LoadBalancingClusterSelectorProperties.ENABLED_PROPERTY + "=true")
+            .run(
+                context -> {
+                    Assertions
+                        .assertThat(context)
+                        .hasSingleBean(ClusterLoadService.class)
+                        .hasSingleBean(LoadBalancingClusterSelectorImpl.class)
+                        .hasSingleBean(RandomClusterSelectorImpl.class)
+                        .getBeans(ClusterSelector.class)
+                        .hasSize(2);
+                }
+            );
+    }
+
     @Test
     void canCreateConditionalBeans() {
         this.contextRunner
@@ -151,6 +209,14 @@ class SelectorsAutoConfigurationTest {
             return Mockito.mock(ClusterSelectorManagedScript.class);
         }
 
+        /**
+         * Dummy script based cluster selector properties.
+         */
+        @Bean
+        public ClusterSelectorScriptProperties clusterSelectorScriptProperties() {
+            return new ClusterSelectorScriptProperties();
+        }
+
         /**
          * Dummy script based command selector.
          */
@@ -185,6 +251,22 @@ class SelectorsAutoConfigurationTest {
 
     }
 
+    /**
+     * Dependencies of the cluster load service.
+     */
+    private static class ClusterLoadConfig {
+
+        @Bean
+        public DataServices dataServices() {
+            return Mockito.mock(DataServices.class);
+        }
+
+        @Bean(name = "genieTaskScheduler")
+        public TaskScheduler genieTaskScheduler() {
+            return Mockito.mock(TaskScheduler.class);
+        }
+    }
+
     /**
      * Agent launchers configuration.
      */
@@ -26,9 +26,15 @@ import com.netflix.genie.common.internal.tracing.brave.BraveTracingComponents;
 import com.netflix.genie.common.internal.util.GenieHostInfo;
 import com.netflix.genie.web.agent.services.AgentFileStreamService;
 import com.netflix.genie.web.agent.services.AgentRoutingService;
+import com.netflix.genie.web.aspects.JobColdStorageAspect;
 import com.netflix.genie.web.data.services.DataServices;
+import com.netflix.genie.web.properties.ActiveJobResourcesProperties;
 import com.netflix.genie.web.properties.AttachmentServiceProperties;
+import com.netflix.genie.web.properties.JobAdmissionProperties;
+import com.netflix.genie.web.properties.JobDirectoryArchiveDownloadProperties;
+import com.netflix.genie.web.properties.JobResolutionBatchProperties;
 import com.netflix.genie.web.properties.JobResolutionProperties;
+import com.netflix.genie.web.properties.JobColdStorageProperties;
 import com.netflix.genie.web.properties.JobsActiveLimitProperties;
 import com.netflix.genie.web.properties.JobsForwardingProperties;
 import com.netflix.genie.web.properties.JobsLocationsProperties;
@@ -38,8 +44,11 @@ import com.netflix.genie.web.properties.JobsUsersProperties;
 import com.netflix.genie.web.selectors.AgentLauncherSelector;
 import com.netflix.genie.web.selectors.ClusterSelector;
 import com.netflix.genie.web.selectors.CommandSelector;
+import com.netflix.genie.web.services.ActiveJobResourcesService;
 import com.netflix.genie.web.services.ArchivedJobService;
 import com.netflix.genie.web.services.AttachmentService;
+import com.netflix.genie.web.services.JobAdmissionService;
+import com.netflix.genie.web.services.JobColdStorageService;
 import com.netflix.genie.web.services.JobDirectoryServerService;
 import com.netflix.genie.web.services.JobLaunchService;
 import com.netflix.genie.web.services.JobResolverService;
@@ -53,6 +62,8 @@ import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.UUID;
@@ -85,14 +96,25 @@ class ServicesAutoConfigurationTest {
                 .hasSingleBean(JobsUsersProperties.class)
                 .hasSingleBean(JobsActiveLimitProperties.class)
                 .hasSingleBean(AttachmentServiceProperties.class)
+                .hasSingleBean(JobColdStorageProperties.class)
+                .hasSingleBean(ActiveJobResourcesProperties.class)
+                .hasSingleBean(JobAdmissionProperties.class)
+                .hasSingleBean(JobResolutionBatchProperties.class)
+                .hasSingleBean(JobDirectoryArchiveDownloadProperties.class)
                 .hasSingleBean(JobsProperties.class)
                 .hasSingleBean(AttachmentService.class)
                 .hasSingleBean(JobResolverService.class)
                 .hasSingleBean(JobDirectoryServerService.class)
                 .hasSingleBean(JobLaunchService.class)
                 .hasSingleBean(ArchivedJobService.class)
+                .hasSingleBean(JobColdStorageService.class)
+                .hasSingleBean(JobColdStorageAspect.class)
+                .hasSingleBean(ActiveJobResourcesService.class)
+                .hasSingleBean(JobAdmissionService.class)
                 .hasSingleBean(RequestForwardingService.class)
                 .hasSingleBean(JobResolutionProperties.class)
+                .hasBean("genieJobResolutionExecutor")
+                .hasBean("genieJobDirectoryArchiveExecutor")
         );
     }
 
@@ -153,6 +175,16 @@ class ServicesAutoConfigurationTest {
             return new GenieHostInfo(UUID.randomUUID().toString());
         }
 
+        @Bean(name = "genieTaskScheduler")
+        TaskScheduler genieTaskScheduler() {
+            return Mockito.mock(TaskScheduler.class);
+        }
+
+        @Bean(name = "genieAsyncTaskExecutor")
+        AsyncTaskExecutor genieAsyncTaskExecutor() {
+            return Mockito.mock(AsyncTaskExecutor.class);
+        }
+
         @Bean(name = "genieRestTemplate")
         RestTemplate genieRestTemplate() {
             return new RestTemplate();
@@ -22,8 +22,12 @@ import com.netflix.genie.web.properties.TasksSchedulerPoolProperties;
 import org.apache.commons.exec.Executor;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Unit tests for {@link TasksAutoConfiguration} class.
@@ -59,4 +63,34 @@ class TasksAutoConfigurationTest {
             }
         );
     }
+
+    /**
+     * The pooled executor is kept when virtual threads are requested on a runtime that doesn't support them.
+     */
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void pooledExecutorWithoutVirtualThreadSupport() {
+        this.contextRunner
+            .withPropertyValues("spring.threads.virtual.enabled=true")
+            .run(
+                context -> Assertions
+                    .assertThat(context.getBean("genieAsyncTaskExecutor"))
+                    .isInstanceOf(ThreadPoolTaskExecutor.class)
+            );
+    }
+
+    /**
+     * Tasks run on virtual threads when they are enabled.
+     */
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadExecutorWhenEnabled() {
+        this.contextRunner
+            .withPropertyValues("spring.threads.virtual.enabled=true")
+            .run(
+                context -> Assertions
+                    .assertThat(context.getBean("genieAsyncTaskExecutor"))
+                    .isInstanceOf(SimpleAsyncTaskExecutor.class)
+            );
+    }
 }
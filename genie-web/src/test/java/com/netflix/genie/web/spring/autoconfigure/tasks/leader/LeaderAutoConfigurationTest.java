@@ -25,15 +25,21 @@ import com.netflix.genie.web.events.GenieEventBus;
 import com.netflix.genie.web.properties.AgentCleanupProperties;
 import com.netflix.genie.web.properties.ArchiveStatusCleanupProperties;
 import com.netflix.genie.web.properties.DatabaseCleanupProperties;
+import com.netflix.genie.web.properties.JobColdStorageProperties;
+import com.netflix.genie.web.properties.JobsPartitioningProperties;
 import com.netflix.genie.web.properties.JobsProperties;
 import com.netflix.genie.web.properties.LeadershipProperties;
 import com.netflix.genie.web.properties.UserMetricsProperties;
+import com.netflix.genie.web.services.ActiveJobResourcesService;
 import com.netflix.genie.web.services.ClusterLeaderService;
+import com.netflix.genie.web.services.JobColdStorageService;
 import com.netflix.genie.web.spring.actuators.LeaderElectionActuator;
 import com.netflix.genie.web.spring.autoconfigure.tasks.TasksAutoConfiguration;
 import com.netflix.genie.web.tasks.leader.AgentJobCleanupTask;
 import com.netflix.genie.web.tasks.leader.ArchiveStatusCleanupTask;
 import com.netflix.genie.web.tasks.leader.DatabaseCleanupTask;
+import com.netflix.genie.web.tasks.leader.JobColdStorageTask;
+import com.netflix.genie.web.tasks.leader.JobsPartitionMaintenanceTask;
 import com.netflix.genie.web.tasks.leader.LeaderTasksCoordinator;
 import com.netflix.genie.web.tasks.leader.LocalLeader;
 import com.netflix.genie.web.tasks.leader.UserMetricsTask;
@@ -77,6 +83,8 @@ class LeaderAutoConfigurationTest {
                 Assertions.assertThat(context).hasSingleBean(AgentCleanupProperties.class);
                 Assertions.assertThat(context).hasSingleBean(ArchiveStatusCleanupProperties.class);
                 Assertions.assertThat(context).hasSingleBean(DatabaseCleanupProperties.class);
+                Assertions.assertThat(context).hasSingleBean(JobColdStorageProperties.class);
+                Assertions.assertThat(context).hasSingleBean(JobsPartitioningProperties.class);
                 Assertions.assertThat(context).hasSingleBean(LeadershipProperties.class);
                 Assertions.assertThat(context).hasSingleBean(UserMetricsProperties.class);
 
@@ -90,6 +98,8 @@ class LeaderAutoConfigurationTest {
                 Assertions.assertThat(context).doesNotHaveBean(UserMetricsTask.class);
                 Assertions.assertThat(context).doesNotHaveBean(AgentJobCleanupTask.class);
                 Assertions.assertThat(context).doesNotHaveBean(ArchiveStatusCleanupTask.class);
+                Assertions.assertThat(context).doesNotHaveBean(JobsPartitionMaintenanceTask.class);
+                Assertions.assertThat(context).doesNotHaveBean(JobColdStorageTask.class);
             }
         );
     }
@@ -104,13 +114,17 @@ class LeaderAutoConfigurationTest {
                 "genie.tasks.database-cleanup.enabled=true",
                 "genie.tasks.user-metrics.enabled=true",
                 "genie.tasks.agent-cleanup.enabled=true",
-                "genie.tasks.archive-status-cleanup.enabled=true"
+                "genie.tasks.archive-status-cleanup.enabled=true",
+                "genie.tasks.jobs-partitioning.enabled=true",
+                "genie.tasks.job-cold-storage.enabled=true"
             )
             .run(
                 context -> {
                     Assertions.assertThat(context).hasSingleBean(AgentCleanupProperties.class);
                     Assertions.assertThat(context).hasSingleBean(ArchiveStatusCleanupProperties.class);
                     Assertions.assertThat(context).hasSingleBean(DatabaseCleanupProperties.class);
+                    Assertions.assertThat(context).hasSingleBean(JobColdStorageProperties.class);
+                    Assertions.assertThat(context).hasSingleBean(JobsPartitioningProperties.class);
                     Assertions.assertThat(context).hasSingleBean(LeadershipProperties.class);
                     Assertions.assertThat(context).hasSingleBean(UserMetricsProperties.class);
 
@@ -125,6 +139,8 @@ class LeaderAutoConfigurationTest {
                     Assertions.assertThat(context).hasSingleBean(UserMetricsTask.class);
                     Assertions.assertThat(context).hasSingleBean(AgentJobCleanupTask.class);
                     Assertions.assertThat(context).hasSingleBean(ArchiveStatusCleanupTask.class);
+                    Assertions.assertThat(context).hasSingleBean(JobsPartitionMaintenanceTask.class);
+                    Assertions.assertThat(context).hasSingleBean(JobColdStorageTask.class);
                 }
             );
     }
@@ -203,6 +219,16 @@ class LeaderAutoConfigurationTest {
         AgentRoutingService agentRoutingService() {
             return Mockito.mock(AgentRoutingService.class);
         }
+
+        @Bean
+        JobColdStorageService jobColdStorageService() {
+            return Mockito.mock(JobColdStorageService.class);
+        }
+
+        @Bean
+        ActiveJobResourcesService activeJobResourcesService() {
+            return Mockito.mock(ActiveJobResourcesService.class);
+        }
     }
 
     /**
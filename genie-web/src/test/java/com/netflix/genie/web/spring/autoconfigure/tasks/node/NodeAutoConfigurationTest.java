@@ -19,9 +19,11 @@ package com.netflix.genie.web.spring.autoconfigure.tasks.node;
 
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.PersistenceService;
+import com.netflix.genie.web.properties.CatalogCacheProperties;
 import com.netflix.genie.web.properties.DiskCleanupProperties;
 import com.netflix.genie.web.properties.JobsProperties;
 import com.netflix.genie.web.spring.autoconfigure.tasks.TasksAutoConfiguration;
+import com.netflix.genie.web.tasks.node.CatalogCacheRefreshTask;
 import com.netflix.genie.web.tasks.node.DiskCleanupTask;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.commons.exec.Executor;
@@ -30,6 +32,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.core.io.Resource;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
@@ -58,9 +62,11 @@ class NodeAutoConfigurationTest {
     void expectedBeansExist() {
         this.contextRunner.run(
             context -> {
+                Assertions.assertThat(context).hasSingleBean(CatalogCacheProperties.class);
                 Assertions.assertThat(context).hasSingleBean(DiskCleanupProperties.class);
 
                 // Optional beans
+                Assertions.assertThat(context).doesNotHaveBean(CatalogCacheRefreshTask.class);
                 Assertions.assertThat(context).doesNotHaveBean(DiskCleanupTask.class);
             }
         );
@@ -85,6 +91,27 @@ class NodeAutoConfigurationTest {
             );
     }
 
+    /**
+     * The catalog cache refresh task is created when there is a cache manager unless disabled.
+     */
+    @Test
+    void catalogCacheRefreshTaskCreatedWithCacheManager() {
+        this.contextRunner
+            .withBean(CacheManager.class, ConcurrentMapCacheManager::new)
+            .run(
+                context -> Assertions.assertThat(context).hasSingleBean(CatalogCacheRefreshTask.class)
+            );
+
+        this.contextRunner
+            .withBean(CacheManager.class, ConcurrentMapCacheManager::new)
+            .withPropertyValues(
+                "genie.data.catalog-cache.enabled=false"
+            )
+            .run(
+                context -> Assertions.assertThat(context).doesNotHaveBean(CatalogCacheRefreshTask.class)
+            );
+    }
+
     /**
      * Configuration for beans that are dependencies of the auto configured beans in {@link TasksAutoConfiguration}.
      *
@@ -24,6 +24,7 @@ import com.netflix.genie.common.internal.jobs.JobConstants;
 import com.netflix.genie.web.data.services.DataServices;
 import com.netflix.genie.web.data.services.PersistenceService;
 import com.netflix.genie.web.properties.DatabaseCleanupProperties;
+import com.netflix.genie.web.properties.JobsPartitioningProperties;
 import com.netflix.genie.web.tasks.GenieTaskScheduleType;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assertj.core.api.Assertions;
@@ -54,6 +55,7 @@ class DatabaseCleanupTaskTest {
     private DatabaseCleanupProperties.CommandDeactivationDatabaseCleanupProperties commandDeactivationProperties;
     private DatabaseCleanupProperties.FileDatabaseCleanupProperties fileCleanupProperties;
     private DatabaseCleanupProperties.JobDatabaseCleanupProperties jobCleanupProperties;
+    private DatabaseCleanupProperties.JobStatusHistoryDatabaseCleanupProperties jobStatusHistoryCleanupProperties;
     private DatabaseCleanupProperties.TagDatabaseCleanupProperties tagCleanupProperties;
     private MockEnvironment environment;
     private PersistenceService persistenceService;
@@ -79,6 +81,11 @@ class DatabaseCleanupTaskTest {
         Mockito.when(this.cleanupProperties.getFileCleanup()).thenReturn(this.fileCleanupProperties);
         this.jobCleanupProperties = Mockito.mock(DatabaseCleanupProperties.JobDatabaseCleanupProperties.class);
         Mockito.when(this.cleanupProperties.getJobCleanup()).thenReturn(this.jobCleanupProperties);
+        this.jobStatusHistoryCleanupProperties
+            = Mockito.mock(DatabaseCleanupProperties.JobStatusHistoryDatabaseCleanupProperties.class);
+        Mockito
+            .when(this.cleanupProperties.getJobStatusHistoryCleanup())
+            .thenReturn(this.jobStatusHistoryCleanupProperties);
         this.tagCleanupProperties = Mockito.mock(DatabaseCleanupProperties.TagDatabaseCleanupProperties.class);
         Mockito.when(this.cleanupProperties.getTagCleanup()).thenReturn(this.tagCleanupProperties);
         this.environment = new MockEnvironment();
@@ -138,6 +145,7 @@ class DatabaseCleanupTaskTest {
         Mockito.when(this.jobCleanupProperties.getRetention()).thenReturn(days).thenReturn(negativeDays);
         Mockito.when(this.jobCleanupProperties.getPageSize()).thenReturn(pageSize);
         Mockito.when(this.commandDeactivationProperties.getCommandCreationThreshold()).thenReturn(60);
+        Mockito.when(this.jobStatusHistoryCleanupProperties.getRetention()).thenReturn(days);
 
         final ArgumentCaptor<Instant> argument = ArgumentCaptor.forClass(Instant.class);
 
@@ -196,6 +204,14 @@ class DatabaseCleanupTaskTest {
                 )
             )
             .thenReturn(11L, 0L, 81L, 0L);
+        Mockito
+            .when(
+                this.persistenceService.deleteJobStatusHistoryCreatedBefore(
+                    Mockito.any(Instant.class),
+                    Mockito.eq(batchSize)
+                )
+            )
+            .thenReturn(7L, 0L, 9L, 0L);
 
         // The multiple calendar instances are to protect against running this test when the day flips
         final Calendar before = Calendar.getInstance(JobConstants.UTC);
@@ -248,6 +264,9 @@ class DatabaseCleanupTaskTest {
                     Mockito.eq(EnumSet.of(CommandStatus.DEPRECATED, CommandStatus.ACTIVE)),
                     Mockito.anyInt()
                 );
+            Mockito
+                .verify(this.persistenceService, Mockito.times(4))
+                .deleteJobStatusHistoryCreatedBefore(Mockito.any(Instant.class), Mockito.eq(batchSize));
         }
     }
 
@@ -296,6 +315,10 @@ class DatabaseCleanupTaskTest {
         this.environment.setProperty(DatabaseCleanupProperties.FileDatabaseCleanupProperties.SKIP_PROPERTY, "true");
         this.environment.setProperty(DatabaseCleanupProperties.JobDatabaseCleanupProperties.SKIP_PROPERTY, "true");
         this.environment.setProperty(DatabaseCleanupProperties.TagDatabaseCleanupProperties.SKIP_PROPERTY, "true");
+        this.environment.setProperty(
+            DatabaseCleanupProperties.JobStatusHistoryDatabaseCleanupProperties.SKIP_PROPERTY,
+            "true"
+        );
         Mockito.when(this.applicationCleanupProperties.isSkip()).thenReturn(false);
         Mockito.when(this.commandCleanupProperties.isSkip()).thenReturn(false);
         Mockito.when(this.commandDeactivationProperties.isSkip()).thenReturn(false);
@@ -303,9 +326,13 @@ class DatabaseCleanupTaskTest {
         Mockito.when(this.fileCleanupProperties.isSkip()).thenReturn(false);
         Mockito.when(this.tagCleanupProperties.isSkip()).thenReturn(false);
         Mockito.when(this.jobCleanupProperties.isSkip()).thenReturn(false);
+        Mockito.when(this.jobStatusHistoryCleanupProperties.isSkip()).thenReturn(false);
 
         this.task.run();
 
+        Mockito
+            .verify(this.persistenceService, Mockito.never())
+            .deleteJobStatusHistoryCreatedBefore(Mockito.any(Instant.class), Mockito.anyInt());
         Mockito
             .verify(this.persistenceService, Mockito.never())
             .deleteUnusedApplications(Mockito.any(Instant.class), Mockito.anyInt());
@@ -337,4 +364,23 @@ class DatabaseCleanupTaskTest {
             .verify(this.persistenceService, Mockito.never())
             .deleteUnusedTags(Mockito.any(Instant.class), Mockito.any(Instant.class), Mockito.anyInt());
     }
+
+    /**
+     * Make sure batched job deletion is skipped when jobs are stored partitioned.
+     */
+    @Test
+    void skipJobsWhenPartitioned() {
+        this.environment.setProperty(JobsPartitioningProperties.ENABLED_PROPERTY, "true");
+        Mockito.when(this.jobCleanupProperties.isSkip()).thenReturn(false);
+
+        this.task.run();
+
+        Mockito
+            .verify(this.persistenceService, Mockito.never())
+            .deleteJobsCreatedBefore(
+                Mockito.any(Instant.class),
+                Mockito.anySet(),
+                Mockito.anyInt()
+            );
+    }
 }